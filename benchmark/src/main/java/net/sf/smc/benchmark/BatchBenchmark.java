@@ -0,0 +1,227 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import net.sf.smc.model.TargetLanguage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares issuing turnstile transitions one method call at a
+ * time against a single {@code -batch}
+ * {@code dispatch(int[], int)} call. Both benchmarks apply the
+ * same {@link #BATCH_SIZE} transitions to the same
+ * {@code -batch} FSM and report the time per transition.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BatchBenchmark
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The number of transitions applied per benchmark call.
+     */
+    public static final int BATCH_SIZE = 256;
+
+    /**
+     * The number of {@link TransitionDriver#cycle()} calls
+     * making up one batch.
+     */
+    private static final int CYCLES =
+        (BATCH_SIZE / TransitionDriver.CYCLE_LENGTH);
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * The Java target language.
+     */
+    @Param({"JAVA", "JAVA7"})
+    public TargetLanguage target;
+
+    private TransitionDriver mDriver;
+
+    /**
+     * The generated {@code dispatch(int[], int)} method bound
+     * to the driver's FSM.
+     */
+    private MethodHandle mDispatch;
+
+    /**
+     * The transition identifiers in {@link TransitionDriver#cycle()}
+     * order, repeated {@link #CYCLES} times.
+     */
+    private int[] mTransitionIds;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Generates, compiles and starts the {@code -batch}
+     * turnstile FSM and builds the transition identifier batch.
+     * @throws ReflectiveOperationException
+     * if the generated FSM does not have the expected
+     * {@code -batch} members.
+     */
+    @Setup
+    public void setUp()
+        throws ReflectiveOperationException
+    {
+        final Object fsm;
+        final Class<?> fc;
+        final int coinId;
+        final int passId;
+        final int[] cycle;
+        int i;
+
+        mDriver =
+            FsmCompiler.newDriver(
+                ReferenceFsm.TURNSTILE, target, GeneratorMode.BATCH);
+        fsm = mDriver.fsm();
+        fc = fsm.getClass();
+        coinId = transitionId(fc, "coin");
+        passId = transitionId(fc, "pass");
+
+        // Same order as Turnstile.cycle().
+        cycle =
+            new int[]
+            {
+                coinId, passId, coinId, coinId,
+                passId, passId, coinId, passId
+            };
+        mTransitionIds = new int[BATCH_SIZE];
+        for (i = 0; i < BATCH_SIZE; ++i)
+        {
+            mTransitionIds[i] = cycle[i % cycle.length];
+        }
+
+        mDispatch =
+            (MethodHandles.publicLookup()).findVirtual(
+                fc,
+                "dispatch",
+                MethodType.methodType(
+                    void.class, int[].class, int.class)).
+                bindTo(fsm);
+
+        return;
+    } // end of setUp()
+
+    /**
+     * Issues {@link #BATCH_SIZE} transitions as individual
+     * method calls.
+     * @return action side effect.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int individual()
+    {
+        int retval = 0;
+        int i;
+
+        for (i = 0; i < CYCLES; ++i)
+        {
+            retval = mDriver.cycle();
+        }
+
+        return (retval);
+    } // end of individual()
+
+    /**
+     * Issues {@link #BATCH_SIZE} transitions with one
+     * {@code dispatch} call.
+     * @throws Throwable
+     * if a transition fails.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void batch()
+        throws Throwable
+    {
+        mDispatch.invokeExact(mTransitionIds, BATCH_SIZE);
+        return;
+    } // end of batch()
+
+    /**
+     * Returns the value of the generated
+     * {@code <transition><id>_TRANSITION_ID} constant for the
+     * named transition.
+     * @param fc the generated FSM context class.
+     * @param transition the transition name.
+     * @return the transition identifier.
+     * @throws ReflectiveOperationException
+     * if there is no such constant.
+     */
+    private static int transitionId(final Class<?> fc,
+                                    final String transition)
+        throws ReflectiveOperationException
+    {
+        final String pattern = transition + "[0-9]+_TRANSITION_ID";
+        Field idField = null;
+
+        for (Field field : fc.getFields())
+        {
+            if ((field.getName()).matches(pattern))
+            {
+                idField = field;
+            }
+        }
+
+        if (idField == null)
+        {
+            throw (new NoSuchFieldException(pattern));
+        }
+
+        return (idField.getInt(null));
+    } // end of transitionId(Class, String)
+} // end of class BatchBenchmark
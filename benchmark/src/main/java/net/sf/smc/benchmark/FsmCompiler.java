@@ -0,0 +1,441 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import net.sf.smc.SmcSyntaxChecker;
+import net.sf.smc.generator.SmcCodeGenerator;
+import net.sf.smc.generator.SmcJava7Generator;
+import net.sf.smc.generator.SmcJavaGenerator;
+import net.sf.smc.generator.SmcJavaTableGenerator;
+import net.sf.smc.generator.SmcOptions;
+import net.sf.smc.model.SmcFSM;
+import net.sf.smc.model.TargetLanguage;
+import net.sf.smc.parser.SmcParser;
+
+/**
+ * Translates a {@link ReferenceFsm} into Java source using
+ * {@link SmcJavaGenerator} or {@link SmcJava7Generator}, compiles
+ * the generated context class together with the FSM owner class
+ * and loads the result into a private class loader. Compiled
+ * classes are cached per FSM, target and mode so that JMH
+ * threads sharing a trial share the generated classes.
+ * <p>
+ * The JDK compiler must be available, i.e. the benchmarks must
+ * be run on a JDK and not a JRE.
+ * </p>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class FsmCompiler
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The reference FSMs are placed in this package.
+     */
+    public static final String FSM_PACKAGE = "smc_bench";
+
+    /**
+     * The reference FSM resources are in this class path
+     * directory.
+     */
+    private static final String RESOURCE_DIR =
+        "/net/sf/smc/benchmark/fsm/";
+
+    //-----------------------------------------------------------
+    // Statics.
+    //
+
+    /**
+     * Compiled owner classes indexed by FSM, target and mode.
+     */
+    private static final Map<String, Class<? extends TransitionDriver>>
+        sDrivers = new HashMap<>();
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FsmCompiler()
+    {}
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns a new driver for the given FSM generated for the
+     * target language and mode. The FSM start state is already
+     * entered.
+     * @param fsm the reference FSM.
+     * @param target {@link TargetLanguage#JAVA},
+     * {@link TargetLanguage#JAVA7} or
+     * {@link TargetLanguage#JAVA_TABLE}.
+     * @param mode code generation mode.
+     * @return a started driver.
+     * @throws IllegalStateException
+     * if the FSM could not be generated, compiled or
+     * instantiated.
+     */
+    public static TransitionDriver newDriver(final ReferenceFsm fsm,
+                                             final TargetLanguage target,
+                                             final GeneratorMode mode)
+    {
+        final Class<? extends TransitionDriver> dc =
+            driverClass(fsm, target, mode);
+        final TransitionDriver retval;
+
+        try
+        {
+            retval = dc.getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException jex)
+        {
+            throw (
+                new IllegalStateException(
+                    "failed to instantiate " + dc.getName(), jex));
+        }
+
+        retval.start();
+
+        return (retval);
+    } // end of newDriver(ReferenceFsm, TargetLanguage, GeneratorMode)
+
+    /**
+     * Returns the compiled owner class for the given FSM, target
+     * language and mode, generating and compiling it on first
+     * use.
+     * @param fsm the reference FSM.
+     * @param target {@link TargetLanguage#JAVA},
+     * {@link TargetLanguage#JAVA7} or
+     * {@link TargetLanguage#JAVA_TABLE}.
+     * @param mode code generation mode.
+     * @return owner class implementing {@link TransitionDriver}.
+     * @throws IllegalStateException
+     * if the FSM could not be generated or compiled.
+     */
+    public static synchronized Class<? extends TransitionDriver>
+        driverClass(final ReferenceFsm fsm,
+                    final TargetLanguage target,
+                    final GeneratorMode mode)
+    {
+        final String key = fsm + "/" + target + "/" + mode;
+        Class<? extends TransitionDriver> retval =
+            sDrivers.get(key);
+
+        if (retval == null)
+        {
+            try
+            {
+                retval = compile(fsm, target, mode);
+            }
+            catch (IOException |
+                   ReflectiveOperationException jex)
+            {
+                throw (
+                    new IllegalStateException(
+                        "failed to build " + key, jex));
+            }
+
+            sDrivers.put(key, retval);
+        }
+
+        return (retval);
+    } // end of driverClass(ReferenceFsm, TargetLanguage, GeneratorMode)
+
+    /**
+     * Returns the Java source generated for the given FSM,
+     * target language and mode.
+     * @param fsm the reference FSM.
+     * @param target {@link TargetLanguage#JAVA},
+     * {@link TargetLanguage#JAVA7} or
+     * {@link TargetLanguage#JAVA_TABLE}.
+     * @param mode code generation mode.
+     * @param targetDirectory passed to the generator options.
+     * @return generated Java source.
+     * @throws IOException
+     * if the FSM resource could not be read.
+     * @throws ReflectiveOperationException
+     * if the parser fails.
+     * @throws IllegalStateException
+     * if the FSM is invalid.
+     */
+    public static String generate(final ReferenceFsm fsm,
+                                  final TargetLanguage target,
+                                  final GeneratorMode mode,
+                                  final String targetDirectory)
+        throws IOException,
+               ReflectiveOperationException
+    {
+        final SmcFSM model = parse(fsm, target);
+        final SmcOptions options =
+            mode.options(target, model, targetDirectory);
+        final SmcCodeGenerator generator;
+        final ByteArrayOutputStream bytes =
+            new ByteArrayOutputStream();
+
+        switch (target)
+        {
+            case JAVA7:
+                generator = new SmcJava7Generator(options);
+                break;
+
+            case JAVA_TABLE:
+                generator = new SmcJavaTableGenerator(options);
+                break;
+
+            default:
+                generator = new SmcJavaGenerator(options);
+                break;
+        }
+
+        try (PrintStream ps =
+                 new PrintStream(
+                     bytes, true, StandardCharsets.UTF_8.name()))
+        {
+            generator.setTarget(ps);
+            model.accept(generator);
+        }
+
+        return (new String(bytes.toByteArray(),
+                           StandardCharsets.UTF_8));
+    } // end of generate(...)
+
+    /**
+     * Returns the reference FSM's {@code .sm} file contents.
+     * @param fsm the reference FSM.
+     * @return {@code .sm} file contents.
+     * @throws IOException
+     * if the FSM resource could not be read.
+     */
+    public static byte[] source(final ReferenceFsm fsm)
+        throws IOException
+    {
+        final ByteArrayOutputStream bytes =
+            new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4096];
+        int size;
+
+        try (InputStream is = openResource(fsm.fsmName() + ".sm"))
+        {
+            while ((size = is.read(buffer)) >= 0)
+            {
+                bytes.write(buffer, 0, size);
+            }
+        }
+
+        return (bytes.toByteArray());
+    } // end of source(ReferenceFsm)
+
+    /**
+     * Parses and checks the reference FSM.
+     */
+    private static SmcFSM parse(final ReferenceFsm fsm,
+                                final TargetLanguage target)
+        throws IOException,
+               ReflectiveOperationException
+    {
+        final String smFile = fsm.fsmName() + ".sm";
+        final SmcParser parser;
+        final SmcSyntaxChecker checker;
+        final SmcFSM retval;
+
+        try (InputStream is = openResource(smFile))
+        {
+            parser =
+                new SmcParser(fsm.fsmName(), is, target, false);
+            retval = parser.parse();
+        }
+
+        if (retval == null)
+        {
+            throw (
+                new IllegalStateException(
+                    smFile + ": " + parser.getMessages()));
+        }
+
+        checker = new SmcSyntaxChecker(smFile, target);
+        retval.accept(checker);
+        if (!checker.isValid())
+        {
+            throw (
+                new IllegalStateException(
+                    smFile + ": " + checker.getMessages()));
+        }
+
+        return (retval);
+    } // end of parse(ReferenceFsm, TargetLanguage)
+
+    /**
+     * Generates, compiles and loads the owner class.
+     */
+    private static Class<? extends TransitionDriver>
+        compile(final ReferenceFsm fsm,
+                final TargetLanguage target,
+                final GeneratorMode mode)
+        throws IOException,
+               ReflectiveOperationException
+    {
+        final JavaCompiler javac =
+            ToolProvider.getSystemJavaCompiler();
+        final Path workDir =
+            Files.createTempDirectory(
+                "smc-bench-" + fsm.fsmName() + "-");
+        final Path srcDir =
+            Files.createDirectories(workDir.resolve(FSM_PACKAGE));
+        final Path classDir =
+            Files.createDirectories(workDir.resolve("classes"));
+        final String ownerName = fsm.fsmName();
+        final String contextName =
+            target.targetFileName(ownerName);
+        final Path ownerFile = srcDir.resolve(ownerName + ".java");
+        final Path contextFile =
+            srcDir.resolve(contextName + ".java");
+        final DiagnosticCollector<JavaFileObject> diagnostics =
+            new DiagnosticCollector<>();
+        final List<String> options = new ArrayList<>();
+        final URLClassLoader loader;
+        final boolean success;
+
+        if (javac == null)
+        {
+            throw (
+                new IllegalStateException(
+                    "no system Java compiler, run on a JDK"));
+        }
+
+        try (InputStream is = openResource(ownerName + ".java"))
+        {
+            Files.copy(is, ownerFile);
+        }
+
+        Files.write(
+            contextFile,
+            generate(fsm, target, mode, srcDir.toString())
+                .getBytes(StandardCharsets.UTF_8));
+
+        options.add("-d");
+        options.add(classDir.toString());
+        options.add("-classpath");
+        options.add(System.getProperty("java.class.path"));
+        options.add("-proc:none");
+        options.add("-nowarn");
+
+        try (StandardJavaFileManager fileManager =
+                 javac.getStandardFileManager(
+                     diagnostics, null, StandardCharsets.UTF_8))
+        {
+            success =
+                javac.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    options,
+                    null,
+                    fileManager.getJavaFileObjectsFromFiles(
+                        Arrays.asList(ownerFile.toFile(),
+                                      contextFile.toFile())))
+                .call();
+        }
+
+        if (!success)
+        {
+            final StringBuilder message = new StringBuilder();
+
+            message.append("failed to compile ")
+                   .append(contextFile);
+            for (Diagnostic<? extends JavaFileObject> d :
+                     diagnostics.getDiagnostics())
+            {
+                message.append('\n').append(d);
+            }
+
+            throw (new IllegalStateException(message.toString()));
+        }
+
+        // The class loader is never closed: the loaded classes
+        // are used for the remainder of the JVM's life.
+        loader =
+            new URLClassLoader(
+                new URL[] { classDir.toUri().toURL() },
+                FsmCompiler.class.getClassLoader());
+
+        return (
+            Class.forName(FSM_PACKAGE + "." + ownerName,
+                          true,
+                          loader)
+                 .asSubclass(TransitionDriver.class));
+    } // end of compile(ReferenceFsm, TargetLanguage, GeneratorMode)
+
+    /**
+     * Returns the named reference FSM resource stream.
+     */
+    private static InputStream openResource(final String name)
+        throws IOException
+    {
+        final InputStream retval =
+            FsmCompiler.class.getResourceAsStream(
+                RESOURCE_DIR + name);
+
+        if (retval == null)
+        {
+            throw (new IOException("no such resource: " + name));
+        }
+
+        return (retval);
+    } // end of openResource(String)
+} // end of class FsmCompiler
@@ -0,0 +1,260 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import net.sf.smc.Smc;
+import net.sf.smc.generator.SmcCodeGenerator;
+import net.sf.smc.generator.SmcOptions;
+import net.sf.smc.model.SmcFSM;
+import net.sf.smc.model.TargetLanguage;
+
+/**
+ * Enumerates the Java code generation modes measured by the
+ * benchmarks. Each mode corresponds to an {@code smc} command
+ * line option set and is applied to both the {@code -java} and
+ * {@code -java7} targets.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public enum GeneratorMode
+{
+    /**
+     * No options.
+     */
+    PLAIN (""),
+
+    /**
+     * {@code -sync}: transition methods are synchronized.
+     */
+    SYNC ("-sync"),
+
+    /**
+     * {@code -reflect -generic7}: reflection using Java 7
+     * generic collections.
+     */
+    GENERIC7 ("-reflect -generic7"),
+
+    /**
+     * {@code -reflect}: states report their transitions.
+     */
+    REFLECT ("-reflect"),
+
+    /**
+     * {@code -serial}: the FSM may be serialized.
+     */
+    SERIAL ("-serial"),
+
+    /**
+     * {@code -g}: debug output is generated but not enabled at
+     * run time, measuring the cost of the debug checks.
+     */
+    DEBUG ("-g"),
+
+    /**
+     * {@code -direct}: {@code -java7} transitions are dispatched
+     * by a switch on the current state identifier. Ignored by
+     * {@code -java}.
+     */
+    DIRECT ("-direct"),
+
+    /**
+     * {@code -actor}: transitions are queued in a lock-free
+     * mailbox and applied one at a time.
+     */
+    ACTOR ("-actor"),
+
+    /**
+     * {@code -batch}: {@code dispatch} methods apply an array of
+     * transition identifiers in one call.
+     */
+    BATCH ("-batch"),
+
+    /**
+     * {@code -g -trace}: {@code -java7} debug output is passed
+     * to the trace sink and compiled out since tracing is not
+     * enabled at class load. Same as {@link #DEBUG} for
+     * {@code -java}.
+     */
+    TRACE ("-g -trace"),
+
+    /**
+     * {@code -jfr}: {@code -java7} transitions and state
+     * actions are timed by Java Flight Recorder events, measuring
+     * the cost of disabled events. Same as {@link #PLAIN} for
+     * {@code -java}.
+     */
+    JFR ("-jfr"),
+
+    /**
+     * {@code -metrics}: {@code -java7} transitions are timed
+     * when the FSM has a {@code TransitionMetrics}, measuring the
+     * cost of the check when it does not. Same as
+     * {@link #PLAIN} for {@code -java}.
+     */
+    METRICS ("-metrics"),
+
+    /**
+     * {@code -journal}: completed {@code -java7} transitions are
+     * appended when the FSM has a {@code TransitionJournal},
+     * measuring the cost of the check when it does not. Same as
+     * {@link #PLAIN} for {@code -java}.
+     */
+    JOURNAL ("-journal"),
+
+    /**
+     * {@code -watchdog}: {@code -java7} transitions publish
+     * their start tick and thread for a transition watchdog.
+     * Same as {@link #PLAIN} for {@code -java}.
+     */
+    WATCHDOG ("-watchdog"),
+
+    /**
+     * {@code -hierarchical}: {@code -java7} transitions not
+     * defined by a pushed map's state are passed to the pushing
+     * states, measuring the cost of the look up when the
+     * current state defines the transition. Same as
+     * {@link #PLAIN} for {@code -java}.
+     */
+    HIERARCHICAL ("-hierarchical");
+
+//---------------------------------------------------------------
+// Member data.
+//
+
+    private final String mCommandLine;
+
+    /**
+     * The individual {@link #mCommandLine} options.
+     */
+    private final Set<String> mFlags;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    private GeneratorMode(final String commandLine)
+    {
+        mCommandLine = commandLine;
+        mFlags =
+            new HashSet<>(
+                Arrays.asList((commandLine.trim()).split(" +")));
+    } // end of GeneratorMode(String)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the equivalent {@code smc} command line options.
+     * @return {@code smc} command line options.
+     */
+    public String commandLine()
+    {
+        return (mCommandLine);
+    } // end of commandLine()
+
+    /**
+     * Returns the generator options for this mode, the given
+     * target language and FSM.
+     * @param target generate code for this Java target.
+     * @param fsm generate code for this FSM.
+     * @param targetDirectory generated source directory.
+     * @return generator options.
+     */
+    public SmcOptions options(final TargetLanguage target,
+                              final SmcFSM fsm,
+                              final String targetDirectory)
+    {
+        final int debugLevel =
+            (hasFlag(Smc.DEBUG_FLAG) ?
+             SmcCodeGenerator.DEBUG_LEVEL_0 :
+             SmcCodeGenerator.NO_DEBUG_OUTPUT);
+
+        final boolean java7Flag = (target == TargetLanguage.JAVA7);
+
+        // The -java7 target always sets the Java 7 flag. See
+        // Smc.generateCode(). The -java7 only options are ignored
+        // for -java.
+        return (
+            new SmcOptions("smc",
+                           "benchmark",
+                           fsm.getSourceFileName(),
+                           fsm.getTargetFileName(),
+                           targetDirectory,
+                           targetDirectory,
+                           SmcCodeGenerator.DEFAULT_HEADER_SUFFIX,
+                           "dynamic_cast",
+                           SmcCodeGenerator.GRAPH_LEVEL_0,
+                           hasFlag(Smc.SERIAL_FLAG),
+                           debugLevel,
+                           false,
+                           false,
+                           false,
+                           false,
+                           0,
+                           hasFlag(Smc.REFLECT_FLAG),
+                           hasFlag(Smc.SYNC_FLAG),
+                           (hasFlag(Smc.GENERIC_FLAG) ||
+                            hasFlag(Smc.GENERIC7_FLAG)),
+                           (java7Flag || hasFlag(Smc.GENERIC7_FLAG)),
+                           "public",
+                           false,
+                           (java7Flag && hasFlag(Smc.DIRECT_FLAG)),
+                           hasFlag(Smc.ACTOR_FLAG),
+                           hasFlag(Smc.BATCH_FLAG),
+                           (java7Flag && hasFlag(Smc.TRACE_FLAG)),
+                           (java7Flag && hasFlag(Smc.JFR_FLAG)),
+                           (java7Flag && hasFlag(Smc.METRICS_FLAG)),
+                           false,
+                           (java7Flag && hasFlag(Smc.JOURNAL_FLAG)),
+                           (java7Flag && hasFlag(Smc.WATCHDOG_FLAG)),
+                           false,
+                           (java7Flag &&
+                            hasFlag(Smc.HIERARCHICAL_FLAG))));
+    } // end of options(TargetLanguage, SmcFSM, String)
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns {@code true} if {@link #commandLine()} contains
+     * the given option.
+     */
+    private boolean hasFlag(final String flag)
+    {
+        return (mFlags.contains(flag));
+    } // end of hasFlag(String)
+} // end of enum GeneratorMode
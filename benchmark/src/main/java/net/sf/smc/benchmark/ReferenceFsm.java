@@ -0,0 +1,105 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+/**
+ * Enumerates the reference state machines used by the
+ * benchmarks. Each FSM is stored as a resource pair: the
+ * {@code .sm} definition and the owner class source
+ * implementing {@link TransitionDriver}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public enum ReferenceFsm
+{
+    /**
+     * Two states, no transition parameters and no guards.
+     * Measures the bare dispatch cost.
+     */
+    TURNSTILE ("Turnstile"),
+
+    /**
+     * Transition parameters, guards, entry and exit actions,
+     * push/pop and default transitions.
+     */
+    SESSION ("Session"),
+
+    /**
+     * 48 states and 33 transitions, most handled by the Default
+     * state. Sized like a protocol FSM and used to measure class
+     * initialization.
+     */
+    PROTOCOL ("Protocol"),
+
+    /**
+     * Two states, each defining one transition, and no Default
+     * state. Issues transitions undefined in the current state
+     * to measure the undefined transition policy.
+     */
+    STRAY ("Stray");
+
+//---------------------------------------------------------------
+// Member data.
+//
+
+    /**
+     * The {@code .sm} file base name which is also the owner
+     * class name.
+     */
+    private final String mName;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    private ReferenceFsm(final String name)
+    {
+        mName = name;
+    } // end of ReferenceFsm(String)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the {@code .sm} file base name.
+     * @return {@code .sm} file base name.
+     */
+    public String fsmName()
+    {
+        return (mName);
+    } // end of fsmName()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+} // end of enum ReferenceFsm
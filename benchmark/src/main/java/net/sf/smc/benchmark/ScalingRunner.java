@@ -0,0 +1,166 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link ThroughputBenchmark} with 1, 2, ..., N threads and
+ * the GC profiler, then prints one summary line per benchmark,
+ * parameter set and thread count: transitions per second and
+ * bytes allocated per transition.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar
+ * net.sf.smc.benchmark.ScalingRunner [max threads] [JMH regexp]}
+ * where max threads defaults to the available processor count.
+ * </p>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class ScalingRunner
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    /**
+     * The GC profiler's normalized allocation rate result.
+     */
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ScalingRunner()
+    {}
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    /**
+     * Sweeps the thread count from one to the given maximum.
+     * @param args optional maximum thread count and benchmark
+     * include pattern.
+     * @throws RunnerException
+     * if JMH fails to run the benchmarks.
+     */
+    public static void main(final String[] args)
+        throws RunnerException
+    {
+        final int maxThreads =
+            (args.length > 0 ?
+             Integer.parseInt(args[0]) :
+             Runtime.getRuntime().availableProcessors());
+        final String include =
+            (args.length > 1 ?
+             args[1] :
+             ThroughputBenchmark.class.getSimpleName());
+        final List<String> lines = new ArrayList<>();
+        int threads;
+        Options options;
+        Collection<RunResult> results;
+
+        for (threads = 1; threads <= maxThreads; ++threads)
+        {
+            options =
+                new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build();
+            results = new Runner(options).run();
+
+            for (RunResult result : results)
+            {
+                lines.add(summarize(threads, result));
+            }
+        }
+
+        System.out.println();
+        System.out.format("%-7s  %-60s  %16s  %10s%n",
+                          "threads",
+                          "benchmark",
+                          "transitions/s",
+                          "B/trans");
+        for (String line : lines)
+        {
+            System.out.println(line);
+        }
+
+        return;
+    } // end of main(String[])
+
+    /**
+     * Returns a single summary line for the given result.
+     */
+    private static String summarize(final int threads,
+                                    final RunResult result)
+    {
+        final BenchmarkParams params = result.getParams();
+        final String benchmark = params.getBenchmark();
+        final Result<?> alloc =
+            result.getSecondaryResults().get(ALLOC_NORM);
+        final StringBuilder label = new StringBuilder();
+
+        // Drop the package name and append the parameters.
+        label.append(
+            benchmark.substring(
+                benchmark.lastIndexOf(
+                    '.', benchmark.lastIndexOf('.') - 1) + 1));
+        for (String key : params.getParamsKeys())
+        {
+            label.append(' ')
+                 .append(key)
+                 .append('=')
+                 .append(params.getParam(key));
+        }
+
+        return (
+            String.format(
+                "%7d  %-60s  %16.0f  %10.1f",
+                threads,
+                label,
+                result.getPrimaryResult().getScore(),
+                (alloc == null ? Double.NaN : alloc.getScore())));
+    } // end of summarize(int, RunResult)
+} // end of class ScalingRunner
@@ -0,0 +1,135 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+import net.sf.smc.model.TargetLanguage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading and initializing a generated FSM context
+ * class. Each invocation loads the class into a new class loader
+ * so the class initialization, which creates the state
+ * instances and resolves their transition methods, runs every
+ * time. Run with {@code -bm ss} to measure a cold JVM instead.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class StartupBenchmark
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    /**
+     * The reference FSM.
+     */
+    @Param({"TURNSTILE", "SESSION", "PROTOCOL"})
+    public ReferenceFsm fsm;
+
+    /**
+     * The Java target language.
+     */
+    @Param({"JAVA", "JAVA7", "JAVA_TABLE"})
+    public TargetLanguage target;
+
+    /**
+     * The compiled FSM class directory.
+     */
+    private URL[] mClassPath;
+
+    /**
+     * The parent of each new class loader.
+     */
+    private ClassLoader mParent;
+
+    /**
+     * The generated FSM context class name.
+     */
+    private String mContextName;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Generates and compiles the FSM under test.
+     */
+    @Setup
+    public void setUp()
+    {
+        final Class<? extends TransitionDriver> dc =
+            FsmCompiler.driverClass(fsm, target, GeneratorMode.PLAIN);
+        final ClassLoader loader = dc.getClassLoader();
+
+        mClassPath = ((URLClassLoader) loader).getURLs();
+        mParent = loader.getParent();
+        mContextName =
+            FsmCompiler.FSM_PACKAGE +
+            "." +
+            target.targetFileName(fsm.fsmName());
+
+        return;
+    } // end of setUp()
+
+    /**
+     * Loads and initializes the FSM context class in a new class
+     * loader.
+     * @return the initialized class.
+     * @throws ClassNotFoundException
+     * if the context class is not found.
+     * @throws IOException
+     * if the class loader fails to close.
+     */
+    @Benchmark
+    public Class<?> initialize()
+        throws ClassNotFoundException,
+               IOException
+    {
+        try (URLClassLoader loader =
+                 new URLClassLoader(mClassPath, mParent))
+        {
+            return (Class.forName(mContextName, true, loader));
+        }
+    } // end of initialize()
+} // end of class StartupBenchmark
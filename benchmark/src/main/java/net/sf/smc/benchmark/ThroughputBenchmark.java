@@ -0,0 +1,160 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.sf.smc.model.TargetLanguage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures transitions per second as the thread count grows.
+ * {@link #independent(PerThread)} gives each thread its own FSM
+ * and so exposes any state shared between FSM instances.
+ * {@link #shared(Shared)} has all threads drive a single
+ * {@code -sync} FSM and so measures lock contention. Set the
+ * thread count with JMH's {@code -t} option or use
+ * {@link ScalingRunner} to sweep 1 .. N threads.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThroughputBenchmark
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Each thread drives its own FSM instance.
+     * @param state per-thread FSM.
+     * @return action side effect.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TransitionDriver.CYCLE_LENGTH)
+    public int independent(final PerThread state)
+    {
+        return (state.mDriver.cycle());
+    } // end of independent(PerThread)
+
+    /**
+     * All threads drive the same synchronized FSM instance.
+     * @param state the shared FSM.
+     * @return action side effect.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TransitionDriver.CYCLE_LENGTH)
+    public int shared(final Shared state)
+    {
+        return (state.mDriver.cycle());
+    } // end of shared(Shared)
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * One FSM per benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class PerThread
+    {
+        /**
+         * The reference FSM.
+         */
+        @Param({"TURNSTILE", "SESSION"})
+        public ReferenceFsm fsm;
+
+        /**
+         * The Java target language.
+         */
+        @Param({"JAVA", "JAVA7"})
+        public TargetLanguage target;
+
+        /**
+         * The code generation mode.
+         */
+        @Param({"PLAIN", "SYNC", "DIRECT", "ACTOR"})
+        public GeneratorMode mode;
+
+        private TransitionDriver mDriver;
+
+        /**
+         * Generates, compiles and starts this thread's FSM.
+         */
+        @Setup
+        public void setUp()
+        {
+            mDriver = FsmCompiler.newDriver(fsm, target, mode);
+            return;
+        } // end of setUp()
+    } // end of class PerThread
+
+    /**
+     * One {@code -sync} FSM shared by all benchmark threads.
+     * Only the turnstile is used since its transitions are
+     * defined in every state and so tolerate interleaving.
+     * {@code -actor} is not measured here: a post returns before
+     * the transition is applied, so producers outrun the single
+     * consumer and the post rate is not comparable.
+     */
+    @State(Scope.Benchmark)
+    public static class Shared
+    {
+        /**
+         * The Java target language.
+         */
+        @Param({"JAVA", "JAVA7"})
+        public TargetLanguage target;
+
+        private TransitionDriver mDriver;
+
+        /**
+         * Generates, compiles and starts the shared FSM.
+         */
+        @Setup
+        public void setUp()
+        {
+            mDriver =
+                FsmCompiler.newDriver(ReferenceFsm.TURNSTILE,
+                                      target,
+                                      GeneratorMode.SYNC);
+            return;
+        } // end of setUp()
+    } // end of class Shared
+} // end of class ThroughputBenchmark
@@ -0,0 +1,107 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.sf.smc.model.TargetLanguage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the average time per transition for every reference
+ * FSM, Java target and generation mode. Each thread drives its
+ * own FSM instance. Run with {@code -prof gc} to report the
+ * bytes allocated per transition
+ * ({@code gc.alloc.rate.norm}).
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class TransitionBenchmark
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    /**
+     * The reference FSM.
+     */
+    @Param({"TURNSTILE", "SESSION"})
+    public ReferenceFsm fsm;
+
+    /**
+     * The Java target language.
+     */
+    @Param({"JAVA", "JAVA7", "JAVA_TABLE"})
+    public TargetLanguage target;
+
+    /**
+     * The code generation mode.
+     */
+    @Param({"PLAIN", "SYNC", "GENERIC7", "REFLECT", "SERIAL", "DEBUG", "TRACE", "JFR", "METRICS", "JOURNAL", "WATCHDOG", "HIERARCHICAL", "DIRECT", "ACTOR"})
+    public GeneratorMode mode;
+
+    private TransitionDriver mDriver;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Generates, compiles and starts the FSM under test.
+     */
+    @Setup
+    public void setUp()
+    {
+        mDriver = FsmCompiler.newDriver(fsm, target, mode);
+        return;
+    } // end of setUp()
+
+    /**
+     * Issues one transition cycle. The reported score is per
+     * transition.
+     * @return action side effect.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TransitionDriver.CYCLE_LENGTH)
+    public int transition()
+    {
+        return (mDriver.cycle());
+    } // end of transition()
+} // end of class TransitionBenchmark
@@ -0,0 +1,72 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+/**
+ * Implemented by the reference FSM owner classes so the
+ * benchmarks can drive a generated state machine without knowing
+ * the generated context class. Each owner is compiled together
+ * with its generated context class by {@link FsmCompiler}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public interface TransitionDriver
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    /**
+     * {@link #cycle()} issues exactly this many transitions.
+     */
+    int CYCLE_LENGTH = 8;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Enters the FSM start state. Must be called once before
+     * the first {@link #cycle()}.
+     */
+    void start();
+
+    /**
+     * Issues {@link #CYCLE_LENGTH} transitions, leaving the FSM
+     * in the state where the cycle started. Returns a value
+     * derived from the actions so the call cannot be optimized
+     * away.
+     * @return action side effect.
+     */
+    int cycle();
+
+    /**
+     * Returns the generated FSM context driven by this owner.
+     * Used by benchmarks which call generated methods outside
+     * of {@link #cycle()}, such as the {@code -batch}
+     * {@code dispatch} methods.
+     * @return the generated FSM context.
+     */
+    Object fsm();
+} // end of interface TransitionDriver
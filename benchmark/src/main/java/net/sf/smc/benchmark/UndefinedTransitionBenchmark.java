@@ -0,0 +1,115 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.sf.smc.model.TargetLanguage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import statemap.UndefinedTransitionPolicy;
+
+/**
+ * Measures the average time per undefined transition for each
+ * Java target and undefined transition policy. Each transition
+ * issued by the {@link ReferenceFsm#STRAY} FSM is undefined in
+ * the current state. The {@link UndefinedTransitionPolicy#THROW}
+ * exception is caught by the FSM owner.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class UndefinedTransitionBenchmark
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    /**
+     * The Java target language.
+     */
+    @Param({"JAVA", "JAVA7", "JAVA_TABLE"})
+    public TargetLanguage target;
+
+    /**
+     * The undefined transition policy.
+     */
+    @Param({"THROW", "COUNT"})
+    public UndefinedTransitionPolicy policy;
+
+    private TransitionDriver mDriver;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Generates, compiles and starts the FSM under test and sets
+     * its undefined transition policy.
+     * @throws ReflectiveOperationException
+     * if the generated FSM has no undefined transition policy.
+     */
+    @Setup
+    public void setUp()
+        throws ReflectiveOperationException
+    {
+        final Object fsm;
+
+        mDriver =
+            FsmCompiler.newDriver(
+                ReferenceFsm.STRAY, target, GeneratorMode.PLAIN);
+        fsm = mDriver.fsm();
+        (fsm.getClass()).getMethod(
+            "setUndefinedTransitionPolicy",
+            UndefinedTransitionPolicy.class).invoke(fsm, policy);
+
+        return;
+    } // end of setUp()
+
+    /**
+     * Issues one cycle of undefined transitions. The reported
+     * score is per transition.
+     * @return action side effect.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TransitionDriver.CYCLE_LENGTH)
+    public int undefined()
+    {
+        return (mDriver.cycle());
+    } // end of undefined()
+} // end of class UndefinedTransitionBenchmark
@@ -0,0 +1,208 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+import net.sf.smc.benchmark.FsmCompiler;
+import net.sf.smc.benchmark.ReferenceFsm;
+import net.sf.smc.model.SmcFSM;
+import net.sf.smc.model.TargetLanguage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code SmcLexer} over a reference FSM's {@code .sm}
+ * file, with and without the character class table scanner.
+ * {@link #lex()} scans the entire file as cooked tokens and
+ * {@link #parse()} runs the parser, which also puts the lexer
+ * into its raw modes. The reference FSMs used here have no
+ * guards or transition parameters so every character may be
+ * scanned as a cooked token. When reading from a file the token
+ * values refer to the lexer's read buffer; when reading from a
+ * stream they are copied. This class is in the parser package
+ * because the lexer is package-private.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LexerBenchmark
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    /**
+     * The reference FSM.
+     */
+    @Param({"TURNSTILE", "PROTOCOL"})
+    public ReferenceFsm fsm;
+
+    /**
+     * If {@code true}, then scan using the character class
+     * tables. Otherwise pass each character to the lexer FSM.
+     */
+    @Param({"true", "false"})
+    public boolean table;
+
+    /**
+     * If {@code true}, then the lexer reads the {@code .sm}
+     * file. Otherwise it reads an input stream.
+     */
+    @Param({"true", "false"})
+    public boolean file;
+
+    /**
+     * The {@code .sm} file contents.
+     */
+    private byte[] mSource;
+
+    /**
+     * The {@code .sm} contents written to a temporary file.
+     */
+    private File mFile;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Reads in the reference FSM.
+     * @throws IOException
+     * if the FSM resource could not be read.
+     */
+    @Setup
+    public void setUp()
+        throws IOException
+    {
+        mSource = FsmCompiler.source(fsm);
+        mFile = File.createTempFile(fsm.fsmName(), ".sm");
+
+        try (FileOutputStream fos = new FileOutputStream(mFile))
+        {
+            fos.write(mSource);
+        }
+
+        return;
+    } // end of setUp()
+
+    /**
+     * Deletes the temporary {@code .sm} file.
+     */
+    @TearDown
+    public void tearDown()
+    {
+        mFile.delete();
+        return;
+    } // end of tearDown()
+
+    /**
+     * Scans the {@code .sm} file as cooked tokens.
+     * @return the number of tokens found.
+     * @throws IOException
+     * if reading the source fails.
+     * @throws IllegalAccessException
+     * if the lexer FSM fails.
+     * @throws InvocationTargetException
+     * if the lexer FSM fails.
+     */
+    @Benchmark
+    public int lex()
+        throws IOException,
+               IllegalAccessException,
+               InvocationTargetException
+    {
+        final SmcLexer lexer = newLexer();
+        int retval = 0;
+
+        lexer.setCookedMode();
+        while ((lexer.nextToken()).getType() !=
+                   SmcLexer.DONE_SUCCESS)
+        {
+            ++retval;
+        }
+
+        return (retval);
+    } // end of lex()
+
+    /**
+     * Parses the {@code .sm} file.
+     * @return the parsed FSM.
+     * @throws IOException
+     * if reading the source fails.
+     * @throws IllegalAccessException
+     * if the parser FSM fails.
+     * @throws InvocationTargetException
+     * if the parser FSM fails.
+     */
+    @Benchmark
+    public SmcFSM parse()
+        throws IOException,
+               IllegalAccessException,
+               InvocationTargetException
+    {
+        final SmcLexer lexer = newLexer();
+
+        return (
+            (new SmcParser(fsm.fsmName(),
+                           lexer,
+                           TargetLanguage.JAVA7,
+                           false)).parse());
+    } // end of parse()
+
+    /**
+     * Returns a new lexer for the {@code .sm} file.
+     */
+    private SmcLexer newLexer()
+        throws IOException
+    {
+        final SmcLexer retval =
+            (file ?
+             new SmcLexer(mFile, false) :
+             new SmcLexer(new ByteArrayInputStream(mSource), false));
+
+        retval.setTableScan(table);
+
+        return (retval);
+    } // end of newLexer()
+} // end of class LexerBenchmark
@@ -0,0 +1,124 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// Name
+//  Protocol.java
+//
+// Description
+//  Owner class for the Protocol benchmark FSM. Compiled at
+//  benchmark set-up together with the generated
+//  ProtocolContext class.
+//
+
+package smc_bench;
+
+import net.sf.smc.benchmark.TransitionDriver;
+
+public final class Protocol
+    implements TransitionDriver
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    private final ProtocolContext mFsm;
+    private int mActions;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    public Protocol()
+    {
+        mFsm = new ProtocolContext(this);
+        mActions = 0;
+    } // end of Protocol()
+
+    //-----------------------------------------------------------
+    // TransitionDriver Interface Implementation.
+    //
+
+    @Override
+    public void start()
+    {
+        mFsm.enterStartState();
+        return;
+    } // end of start()
+
+    @Override
+    public int cycle()
+    {
+        // Seven steps from S00 to S07 and a reset back to S00
+        // make exactly CYCLE_LENGTH transitions.
+        mFsm.ev00();
+        mFsm.ev01();
+        mFsm.ev02();
+        mFsm.ev03();
+        mFsm.ev04();
+        mFsm.ev05();
+        mFsm.ev06();
+        mFsm.reset();
+
+        return (mActions);
+    } // end of cycle()
+
+    @Override
+    public Object fsm()
+    {
+        return (mFsm);
+    } // end of fsm()
+
+    //
+    // end of TransitionDriver Interface Implementation.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // FSM Actions.
+    //
+
+    public void step()
+    {
+        ++mActions;
+        return;
+    } // end of step()
+
+    public void count()
+    {
+        ++mActions;
+        return;
+    } // end of count()
+
+    public void restart()
+    {
+        ++mActions;
+        return;
+    } // end of restart()
+
+    public void ignore()
+    {
+        ++mActions;
+        return;
+    } // end of ignore()
+
+    //
+    // end of FSM Actions.
+    //-----------------------------------------------------------
+} // end of class Protocol
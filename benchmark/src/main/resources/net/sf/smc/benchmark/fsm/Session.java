@@ -0,0 +1,158 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// Name
+//  Session.java
+//
+// Description
+//  Owner class for the Session benchmark FSM. Compiled at
+//  benchmark set-up together with the generated SessionContext
+//  class.
+//
+
+package smc_bench;
+
+import net.sf.smc.benchmark.TransitionDriver;
+
+public final class Session
+    implements TransitionDriver
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    // data() transitions larger than this are rejected.
+    private static final int WINDOW_SIZE = 1024;
+
+    private final SessionContext mFsm;
+    private int mSessionId;
+    private int mConsumed;
+    private int mRejected;
+    private boolean mTimerRunning;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    public Session()
+    {
+        mFsm = new SessionContext(this);
+        mSessionId = 0;
+        mConsumed = 0;
+        mRejected = 0;
+        mTimerRunning = false;
+    } // end of Session()
+
+    //-----------------------------------------------------------
+    // TransitionDriver Interface Implementation.
+    //
+
+    @Override
+    public void start()
+    {
+        mFsm.enterStartState();
+        return;
+    } // end of start()
+
+    @Override
+    public int cycle()
+    {
+        // Seven calls plus the "ok" transition issued by the
+        // AuthMap pop make exactly CYCLE_LENGTH transitions. The
+        // cycle ends in the Idle state where it started.
+        mFsm.open(mSessionId + 1);
+        mFsm.accepted();
+        mFsm.response(true);
+        mFsm.data(64);
+        mFsm.data(512);
+        mFsm.data(4096);
+        mFsm.close();
+
+        return (mConsumed + mRejected);
+    } // end of cycle()
+
+    @Override
+    public Object fsm()
+    {
+        return (mFsm);
+    } // end of fsm()
+
+    //
+    // end of TransitionDriver Interface Implementation.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // FSM Guards.
+    //
+
+    public boolean isWithinWindow(final int length)
+    {
+        return (length <= WINDOW_SIZE);
+    } // end of isWithinWindow(int)
+
+    //
+    // end of FSM Guards.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // FSM Actions.
+    //
+
+    public void setSessionId(final int id)
+    {
+        mSessionId = id;
+        return;
+    } // end of setSessionId(int)
+
+    public void startTimer()
+    {
+        mTimerRunning = true;
+        return;
+    } // end of startTimer()
+
+    public void stopTimer()
+    {
+        mTimerRunning = false;
+        return;
+    } // end of stopTimer()
+
+    public void consume(final int length)
+    {
+        mConsumed += length;
+        return;
+    } // end of consume(int)
+
+    public void reject(final int length)
+    {
+        ++mRejected;
+        return;
+    } // end of reject(int)
+
+    public void reset()
+    {
+        mTimerRunning = false;
+        return;
+    } // end of reset()
+
+    //
+    // end of FSM Actions.
+    //-----------------------------------------------------------
+} // end of class Session
@@ -0,0 +1,130 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+//
+// Name
+//  Stray.java
+//
+// Description
+//  Owner class for the Stray benchmark FSM. Compiled at
+//  benchmark set-up together with the generated StrayContext
+//  class.
+//
+
+package smc_bench;
+
+import net.sf.smc.benchmark.TransitionDriver;
+import statemap.TransitionUndefinedException;
+
+public final class Stray
+    implements TransitionDriver
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    private final StrayContext mFsm;
+    private int mActions;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    public Stray()
+    {
+        mFsm = new StrayContext(this);
+        mActions = 0;
+    } // end of Stray()
+
+    //-----------------------------------------------------------
+    // TransitionDriver Interface Implementation.
+    //
+
+    @Override
+    public void start()
+    {
+        mFsm.enterStartState();
+        return;
+    } // end of start()
+
+    @Override
+    public int cycle()
+    {
+        // stop is undefined in the start state, so each of the
+        // CYCLE_LENGTH transitions leaves the FSM in Idle.
+        stray();
+        stray();
+        stray();
+        stray();
+        stray();
+        stray();
+        stray();
+        stray();
+
+        return (mActions);
+    } // end of cycle()
+
+    @Override
+    public Object fsm()
+    {
+        return (mFsm);
+    } // end of fsm()
+
+    //
+    // end of TransitionDriver Interface Implementation.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // FSM Actions.
+    //
+
+    public void begin()
+    {
+        ++mActions;
+        return;
+    } // end of begin()
+
+    public void end()
+    {
+        ++mActions;
+        return;
+    } // end of end()
+
+    //
+    // end of FSM Actions.
+    //-----------------------------------------------------------
+
+    // Issues the undefined transition. The THROW policy's
+    // exception is counted as an action.
+    private void stray()
+    {
+        try
+        {
+            mFsm.stop();
+        }
+        catch (TransitionUndefinedException undefex)
+        {
+            ++mActions;
+        }
+
+        return;
+    } // end of stray()
+} // end of class Stray
@@ -0,0 +1,124 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// Name
+//  Turnstile.java
+//
+// Description
+//  Owner class for the Turnstile benchmark FSM. Compiled at
+//  benchmark set-up together with the generated
+//  TurnstileContext class.
+//
+
+package smc_bench;
+
+import net.sf.smc.benchmark.TransitionDriver;
+
+public final class Turnstile
+    implements TransitionDriver
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    private final TurnstileContext mFsm;
+    private int mActions;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    public Turnstile()
+    {
+        mFsm = new TurnstileContext(this);
+        mActions = 0;
+    } // end of Turnstile()
+
+    //-----------------------------------------------------------
+    // TransitionDriver Interface Implementation.
+    //
+
+    @Override
+    public void start()
+    {
+        mFsm.enterStartState();
+        return;
+    } // end of start()
+
+    @Override
+    public int cycle()
+    {
+        // Issue exactly CYCLE_LENGTH transitions, ending in the
+        // state where the cycle started.
+        mFsm.coin();
+        mFsm.pass();
+        mFsm.coin();
+        mFsm.coin();
+        mFsm.pass();
+        mFsm.pass();
+        mFsm.coin();
+        mFsm.pass();
+
+        return (mActions);
+    } // end of cycle()
+
+    @Override
+    public Object fsm()
+    {
+        return (mFsm);
+    } // end of fsm()
+
+    //
+    // end of TransitionDriver Interface Implementation.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // FSM Actions.
+    //
+
+    public void unlock()
+    {
+        ++mActions;
+        return;
+    } // end of unlock()
+
+    public void lock()
+    {
+        ++mActions;
+        return;
+    } // end of lock()
+
+    public void alarm()
+    {
+        ++mActions;
+        return;
+    } // end of alarm()
+
+    public void thankYou()
+    {
+        ++mActions;
+        return;
+    } // end of thankYou()
+
+    //
+    // end of FSM Actions.
+    //-----------------------------------------------------------
+} // end of class Turnstile
@@ -571,7 +571,7 @@ public final class SmcCGenerator
             mTarget.print(stateName);
             mTarget.println("_Default,");
             mTarget.print("    ");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             if (mDebugLevel >= DEBUG_LEVEL_0)
             {
                 mTarget.print(", \"");
@@ -1066,7 +1066,7 @@ public final class SmcCSharpGenerator
             mTarget.print(".");
             mTarget.print(state.getClassName());
             mTarget.print("\", ");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             mTarget.println(");");
         }
 
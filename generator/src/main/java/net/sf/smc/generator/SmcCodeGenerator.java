@@ -43,7 +43,10 @@ import java.util.List;
 import java.util.regex.Pattern;
 import net.sf.smc.model.SmcElement;
 import net.sf.smc.model.SmcElement.TransType;
+import net.sf.smc.model.SmcFSM;
 import net.sf.smc.model.SmcGuard;
+import net.sf.smc.model.SmcMap;
+import net.sf.smc.model.SmcState;
 import net.sf.smc.model.SmcVisitor;
 
 /**
@@ -129,6 +132,17 @@ public abstract class SmcCodeGenerator
      */
     private static final String BACKDIR = "..";
 
+    /**
+     * The 64-bit FNV-1a hash offset basis.
+     */
+    private static final long FNV_OFFSET_BASIS =
+        0xcbf29ce484222325L;
+
+    /**
+     * The 64-bit FNV-1a hash prime.
+     */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     //-----------------------------------------------------------
     // Statics.
     //
@@ -283,6 +297,92 @@ public abstract class SmcCodeGenerator
      */
     protected final boolean mUseProtocolFlag;
 
+    /**
+     * This flag is {@code true} when transitions are dispatched
+     * by a switch on the current state identifier rather than
+     * by a method handle table. Used with -java7 only.
+     */
+    protected final boolean mDirectFlag;
+
+    /**
+     * This flag is {@code true} when transitions are queued in a
+     * lock-free mailbox and applied one at a time by a single
+     * drain loop. Used with -java and -java7 only.
+     */
+    protected final boolean mActorFlag;
+
+    /**
+     * This flag is {@code true} when the {@code dispatch(int[],
+     * ...)} batch transition methods and public transition
+     * identifiers are generated. Used with -java and -java7 only.
+     */
+    protected final boolean mBatchFlag;
+
+    /**
+     * This flag is {@code true} when {@code -g} debug output is
+     * generated as calls passing state and transition identifiers
+     * to {@code FSMContext7.trace}, guarded by a {@code static
+     * final} flag set at class load. Used with -java7 only.
+     */
+    protected final boolean mTraceFlag;
+
+    /**
+     * This flag is {@code true} when transitions, state entry and
+     * exit actions and state residency are recorded as {@code
+     * statemap} Java Flight Recorder events. Used with -java7
+     * only.
+     */
+    protected final boolean mJfrFlag;
+
+    /**
+     * This flag is {@code true} when each transition is timed and
+     * its state identifier, transition identifier and latency are
+     * passed to the FSM's {@code statemap.TransitionMetrics}, if
+     * set. Used with -java7 only.
+     */
+    protected final boolean mMetricsFlag;
+
+    /**
+     * This flag is {@code true} when the generated FSM context
+     * extends {@code statemap.FlyweightFSMContext} and keeps each
+     * session's state in a {@code statemap.StateSlotStore} slot.
+     * Used with -javatable only.
+     */
+    protected final boolean mFlyweightFlag;
+
+    /**
+     * This flag is {@code true} when each completed transition's
+     * identifier, arguments and resulting state are appended to
+     * the FSM's {@code statemap.TransitionJournal}, if set. Used
+     * with -java7 only.
+     */
+    protected final boolean mJournalFlag;
+
+    /**
+     * This flag is {@code true} when each transition writes the
+     * current {@code statemap.TransitionWatchdog} tick and thread
+     * to the FSM so that a watchdog can report slow transitions.
+     * Used with -java7 only.
+     */
+    protected final boolean mWatchdogFlag;
+
+    /**
+     * This flag is {@code true} when transition actions return
+     * an {@code int} error code. A non-zero code skips the
+     * remaining actions and is passed to the FSM's
+     * {@code statemap.TransitionErrorHandler}. Used with -java7
+     * only.
+     */
+    protected final boolean mErrorCodeFlag;
+
+    /**
+     * This flag is {@code true} when a transition not defined in
+     * a pushed map's current state is passed to the nearest
+     * pushing state which defines it, as if the pushed map were a
+     * nested state. Used with -java7 only.
+     */
+    protected final boolean mHierarchicalFlag;
+
 //---------------------------------------------------------------
 // Member methods
 //
@@ -324,6 +424,17 @@ public abstract class SmcCodeGenerator
         mJava7Flag = options.java7Flag();
         mAccessLevel = options.accessLevel();
         mUseProtocolFlag = options.useProtocolFlag();
+        mDirectFlag = options.directFlag();
+        mActorFlag = options.actorFlag();
+        mBatchFlag = options.batchFlag();
+        mTraceFlag = options.traceFlag();
+        mJfrFlag = options.jfrFlag();
+        mMetricsFlag = options.metricsFlag();
+        mFlyweightFlag = options.flyweightFlag();
+        mJournalFlag = options.journalFlag();
+        mWatchdogFlag = options.watchdogFlag();
+        mErrorCodeFlag = options.errorCodeFlag();
+        mHierarchicalFlag = options.hierarchicalFlag();
         sSuffix = suffix;
         mTarget = null;
         mIndent = "";
@@ -572,6 +683,58 @@ public abstract class SmcCodeGenerator
         return (mName + ifs + sName);
     } // end of scopeStateName(String, String, String)
 
+    /**
+     * Returns the FSM schema hash written to binary state
+     * snapshots. This is the 64-bit FNV-1a hash of the
+     * "map::state" names in state identifier order, that is, in
+     * map order and then state order within a map. Adding,
+     * removing, renaming or reordering states changes the hash.
+     * @param fsm the FSM model.
+     * @return the FSM schema hash.
+     */
+    protected static long schemaHash(final SmcFSM fsm)
+    {
+        long retval = FNV_OFFSET_BASIS;
+
+        for (SmcMap map : fsm.getMaps())
+        {
+            for (SmcState state : map.getStates())
+            {
+                retval =
+                    fnvHash(
+                        retval,
+                        map.getName() +
+                        "::" +
+                        state.getClassName() +
+                        "\n");
+            }
+        }
+
+        return (retval);
+    } // end of schemaHash(SmcFSM)
+
+    /**
+     * Returns {@code hash} updated with the characters in
+     * {@code s}.
+     * @param hash the hash so far.
+     * @param s add these characters to the hash.
+     * @return the updated hash.
+     */
+    private static long fnvHash(final long hash, final String s)
+    {
+        final int length = s.length();
+        int index;
+        long retval = hash;
+
+        for (index = 0; index < length; ++index)
+        {
+            retval ^= s.charAt(index);
+            retval *= FNV_PRIME;
+        }
+
+        return (retval);
+    } // end of fnvHash(long, String)
+
     /**
      * Returns a relative path from directory {@code srdDir} to
      * directory {@code headerDir}. This method assumes that the
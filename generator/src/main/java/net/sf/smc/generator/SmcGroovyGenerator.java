@@ -524,7 +524,7 @@ public final class SmcGroovyGenerator
             mTarget.print('.');
             mTarget.print(state.getClassName());
             mTarget.print("', id:");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             mTarget.println(")");
         }
 
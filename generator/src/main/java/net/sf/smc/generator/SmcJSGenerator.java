@@ -419,7 +419,7 @@ public final class SmcJSGenerator
         mTarget.print("('");
         mTarget.print(mapName);
         mTarget.print("::DefaultState', ");
-        mTarget.print(SmcMap.getNextStateId());
+        mTarget.print(map.getFSM().getNextStateId());
         mTarget.println(");");
 
 
@@ -527,7 +527,7 @@ public final class SmcJSGenerator
         mTarget.print("::");
         mTarget.print(stateName);
         mTarget.print("', ");
-        mTarget.print(SmcMap.getNextStateId());
+        mTarget.print(map.getFSM().getNextStateId());
         mTarget.println(");");
 
         // Add the entry() and exit() member functions if this
@@ -33,7 +33,9 @@ package net.sf.smc.generator;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import net.sf.smc.model.SmcAction;
 import net.sf.smc.model.SmcElement;
 import net.sf.smc.model.SmcElement.TransType;
@@ -121,6 +123,31 @@ public final class SmcJava7Generator
     private static final String EXIT_NAME =
         "%s_%s__Exit_";
 
+    /**
+     * When -actor is set, the queued transition is applied by
+     * the private method "&lt;transition&gt;__Apply_".
+     */
+    private static final String APPLY_NAME = "%s__Apply_";
+
+    /**
+     * A transition table character holds the method index times
+     * two plus one, so at most {@value} distinct transition
+     * methods fit.
+     */
+    private static final int MAX_TRANSITION_METHODS =
+        (Character.MAX_VALUE / 2) + 1;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * Set to {@code true} while writing {@code -errorcode}
+     * transition actions. The action's error code is then
+     * stored in {@code errorCode}.
+     */
+    private boolean mErrorCodeAction;
+
 //---------------------------------------------------------------
 // Member methods
 //
@@ -136,6 +163,8 @@ public final class SmcJava7Generator
     public SmcJava7Generator(final SmcOptions options)
     {
         super (options, TargetLanguage.JAVA7.suffix());
+
+        mErrorCodeAction = false;
     } // end of SmcJava7Generator(SmcOptions)
 
     //
@@ -437,6 +466,15 @@ public final class SmcJava7Generator
             outputStateExit(mapName, stateName);
         }
 
+        // -errorcode: the actions' error code is checked once
+        //    the next state is set.
+        if (mErrorCodeFlag && hasActions)
+        {
+            mTarget.print(mIndent);
+            mTarget.println("int errorCode = 0;");
+            mTarget.println();
+        }
+
         // 4. Output the guard body inside a try/finally block.
         mTarget.print(mIndent);
         mTarget.println("try");
@@ -501,6 +539,14 @@ public final class SmcJava7Generator
         mTarget.println('}');
         mTarget.println();
 
+        // 6.1. -errorcode: a failed action ends the transition
+        //      in the end state without entering it, as if the
+        //      action had thrown an exception.
+        if (mErrorCodeFlag && hasActions)
+        {
+            outputActionFailed();
+        }
+
         // 7. Output state entry - if this is *not* a pop
         //    transition or an internal loopback.
         if (transType == TransType.TRANS_SET &&
@@ -565,10 +611,20 @@ public final class SmcJava7Generator
         }
         else
         {
-        	if (action.isStatic( ) == false)
-        	{
-	            mTarget.print("    ctxt.");
-        	}
+            // -errorcode: store the transition action's error
+            // code.
+            if (mErrorCodeAction)
+            {
+                mTarget.print("    errorCode = ");
+                if (action.isStatic() == false)
+                {
+                    mTarget.print("ctxt.");
+                }
+            }
+            else if (action.isStatic() == false)
+            {
+                mTarget.print("    ctxt.");
+            }
 	        mTarget.print(name);
 	        mTarget.print("(");
 
@@ -674,12 +730,21 @@ public final class SmcJava7Generator
         mTarget.println("import java.lang.invoke.MethodHandles.Lookup;");
         mTarget.println("import java.lang.invoke.MethodType;");
 
-        // The following two imports are only used for
-        // serializing/deserializing.
+        // -serial also writes binary state snapshots.
         if (mSerialFlag)
         {
-            mTarget.println("import java.util.ArrayDeque;");
-            mTarget.println("import java.util.Iterator;");
+            mTarget.println(
+                "import java.nio.BufferOverflowException;");
+            mTarget.println(
+                "import java.nio.BufferUnderflowException;");
+            mTarget.println("import java.nio.ByteBuffer;");
+        }
+
+        // -actor transitions are applied on an executor.
+        if (mActorFlag)
+        {
+            mTarget.println(
+                "import java.util.concurrent.Executor;");
         }
 
         // Import the required FSMContext7 and State7 classes.
@@ -687,6 +752,47 @@ public final class SmcJava7Generator
         mTarget.println("import statemap.State7;");
         mTarget.println("import statemap.TransitionHandle;");
 
+        // newStateIdStack() allocates the state identifier
+        // stack.
+        mTarget.println("import statemap.StateIdStack;");
+
+        if (mSerialFlag)
+        {
+            mTarget.println("import statemap.StateSnapshot;");
+        }
+
+        // -actor contexts extend AsyncFSMContext7.
+        if (mActorFlag)
+        {
+            mTarget.println("import statemap.AsyncFSMContext7;");
+        }
+
+        // -g -trace passes the trace phase to FSMContext7.
+        if (isTraceOutput())
+        {
+            mTarget.println("import statemap.TraceSink;");
+        }
+
+        // -watchdog reads the watchdog tick.
+        if (mWatchdogFlag)
+        {
+            mTarget.println("import statemap.TransitionWatchdog;");
+        }
+
+        // -jfr records Java Flight Recorder events.
+        if (mJfrFlag)
+        {
+            mTarget.println("import statemap.jfr.StateActionEvent;");
+            mTarget.println("import statemap.jfr.StateResidencyEvent;");
+            mTarget.println("import statemap.jfr.TransitionEvent;");
+        }
+
+        // -metrics reports transition latency.
+        if (mMetricsFlag)
+        {
+            mTarget.println("import statemap.TransitionMetrics;");
+        }
+
         mTarget.println();
 
         return;
@@ -707,12 +813,16 @@ public final class SmcJava7Generator
         mTarget.print(" class ");
         mTarget.print(fsmClassName);
         mTarget.println("");
-        mTarget.println("    extends FSMContext7");
+        mTarget.print("    extends ");
+        mTarget.println(
+            mActorFlag ? "AsyncFSMContext7" : "FSMContext7");
 
         if (mSerialFlag)
         {
             mTarget.println(
-                "    implements Serializable");
+                "    implements Serializable,");
+            mTarget.println(
+                "               StateSnapshot");
         }
 
         mTarget.println("{");
@@ -746,6 +856,16 @@ public final class SmcJava7Generator
         //      method override.
         outputExecuteAction();
 
+        // 4.3.1. If -direct is set, then override enterState()
+        //        and exitState() so that the state entry and
+        //        exit actions are called directly. -jfr also
+        //        overrides them to record the action and state
+        //        residency events.
+        if (mDirectFlag || mJfrFlag)
+        {
+            outputStateActionDispatch(fsm);
+        }
+
         // Note: the enterStartState() method is now defined in FSMContext7
         // since State7 is now final.
 
@@ -756,10 +876,12 @@ public final class SmcJava7Generator
         outputTransitionApi(fsm);
 
         // 4.5. Output the Java serialization writeObject and
-        //      readObject methods, if serialization is on.
+        //      readObject methods and the StateSnapshot
+        //      methods, if serialization is on.
         if (mSerialFlag)
         {
             outputSerializeMethods(fsm);
+            outputSnapshotMethods();
         }
 
         // 4.6. Output the transition implementation methods
@@ -839,7 +961,7 @@ public final class SmcJava7Generator
         mTarget.print(context);
         mTarget.println(" owner, final int initStateId)");
         mTarget.println("    {");
-        mTarget.print("        this (owner, sStates[initStateId]);");
+        mTarget.println("        this (owner, sStates[initStateId]);");
         mTarget.println("    }");
         mTarget.println();
 
@@ -855,13 +977,34 @@ public final class SmcJava7Generator
         mTarget.print(context);
         mTarget.println(" owner, final State7 initState)");
         mTarget.println("    {");
-        mTarget.println("        super (initState);");
-        mTarget.println();
-        mTarget.println("        ctxt = owner;");
+
+        // -actor: the executor constructors do the work.
+        // Transitions are applied by the issuing thread.
+        if (mActorFlag)
+        {
+            mTarget.println(
+                "        this (owner, initState, null);");
+        }
+        else
+        {
+            mTarget.println("        super (initState);");
+            mTarget.println();
+            mTarget.println("        ctxt = owner;");
+            outputStackAllocation();
+        }
 
         mTarget.println("    }");
         mTarget.println();
 
+        // -actor: generate the same three constructors with
+        // the executor applying the transitions.
+        if (mActorFlag)
+        {
+            outputExecutorConstructors(fsmClassName,
+                                       context,
+                                       javaState);
+        }
+
         mTarget.println("    //");
         mTarget.println("    // end of Constructors.");
         mTarget.println(
@@ -871,6 +1014,86 @@ public final class SmcJava7Generator
         return;
     } // end of outputConstructors(SmcFSM)
 
+    /**
+     * Writes the -actor constructors which take the executor
+     * applying the FSM transitions.
+     * @param fsmClassName the FSM class name.
+     * @param context the FSM owner class name.
+     * @param javaState the start state identifier.
+     */
+    private void outputExecutorConstructors(final String fsmClassName,
+                                            final String context,
+                                            final String javaState)
+    {
+        mTarget.print("    ");
+        mTarget.print(mAccessLevel);
+        mTarget.print(" ");
+        mTarget.print(fsmClassName);
+        mTarget.print("(final ");
+        mTarget.print(context);
+        mTarget.println(" owner, final Executor executor)");
+        mTarget.println("    {");
+        mTarget.print("        this (owner, sStates[");
+        mTarget.print(javaState);
+        mTarget.println("], executor);");
+        mTarget.println("    }");
+        mTarget.println();
+
+        mTarget.print("    ");
+        mTarget.print(mAccessLevel);
+        mTarget.print(" ");
+        mTarget.print(fsmClassName);
+        mTarget.print("(final ");
+        mTarget.print(context);
+        mTarget.println(" owner,");
+        mTarget.println("        final int initStateId,");
+        mTarget.println("        final Executor executor)");
+        mTarget.println("    {");
+        mTarget.println(
+            "        this (owner, sStates[initStateId], executor);");
+        mTarget.println("    }");
+        mTarget.println();
+
+        mTarget.print("    ");
+        mTarget.print(mAccessLevel);
+        mTarget.print(" ");
+        mTarget.print(fsmClassName);
+        mTarget.print("(final ");
+        mTarget.print(context);
+        mTarget.println(" owner,");
+        mTarget.println("        final State7 initState,");
+        mTarget.println("        final Executor executor)");
+        mTarget.println("    {");
+        mTarget.println("        super (initState, executor);");
+        mTarget.println();
+        mTarget.println("        ctxt = owner;");
+        outputStackAllocation();
+        mTarget.println("    }");
+        mTarget.println();
+
+        return;
+    } // end of outputExecutorConstructors(String, String, String)
+
+    /**
+     * Writes the {@code -stack} state identifier stack
+     * allocation, sized so that push transitions do not allocate
+     * until that depth is exceeded. Without {@code -stack},
+     * nothing is allocated until {@code newStateIdStack()} is
+     * called on the first push.
+     */
+    private void outputStackAllocation()
+    {
+        if (mStateStackSize > 0)
+        {
+            mTarget.print(
+                "        mStateIdStack = new StateIdStack(");
+            mTarget.print(mStateStackSize);
+            mTarget.println(");");
+        }
+
+        return;
+    } // end of outputStackAllocation()
+
     /**
      * Writes the get emthods requested by the -serial and/or
      * -reflect flags.
@@ -979,8 +1202,10 @@ public final class SmcJava7Generator
     } // end of outputSet(SmcFSM)
 
     /**
-     * Writes the required abstract method override
-     * {@code executeAction}.
+     * Writes the required abstract method overrides
+     * {@code executeAction} and {@code valueOf}, the
+     * {@code newStateIdStack} override and the overrides reading
+     * the -watchdog and -hierarchical fields.
      */
     private void outputExecuteAction()
     {
@@ -999,16 +1224,63 @@ public final class SmcJava7Generator
         mTarget.println("        }");
         mTarget.println("        catch (Throwable tex)");
         mTarget.println("        {");
-        mTarget.println("            if (mDebugFlag)");
-        mTarget.println("            {");
-        mTarget.println("                tex.printStackTrace(mDebugStream);");
-        mTarget.println("            }");
+        mTarget.println("            transitionFailed(tex);");
         mTarget.println("        }");
         mTarget.println();
         mTarget.println("        return;");
         mTarget.println("    }");
         mTarget.println();
 
+        mTarget.println("    @Override");
+        mTarget.println(
+            "    protected State7 valueOf(final int stateId)");
+        mTarget.println("    {");
+        mTarget.println("        return (sStates[stateId]);");
+        mTarget.println("    }");
+        mTarget.println();
+
+        mTarget.println("    @Override");
+        mTarget.println(
+            "    protected StateIdStack newStateIdStack()");
+        mTarget.println("    {");
+        mTarget.println("        return (new StateIdStack());");
+        mTarget.println("    }");
+        mTarget.println();
+
+        if (mWatchdogFlag)
+        {
+            mTarget.println("    @Override");
+            mTarget.println("    protected long transitionStart()");
+            mTarget.println("    {");
+            mTarget.println("        return (mTransitionStart);");
+            mTarget.println("    }");
+            mTarget.println();
+            mTarget.println("    @Override");
+            mTarget.println("    protected long transitionThreadId()");
+            mTarget.println("    {");
+            mTarget.println("        return (mTransitionThreadId);");
+            mTarget.println("    }");
+            mTarget.println();
+        }
+
+        if (mHierarchicalFlag)
+        {
+            mTarget.println("    @Override");
+            mTarget.println("    protected int bubbleDepth()");
+            mTarget.println("    {");
+            mTarget.println("        return (mBubbleDepth);");
+            mTarget.println("    }");
+            mTarget.println();
+            mTarget.println("    @Override");
+            mTarget.println(
+                "    protected void setBubbleDepth(final int depth)");
+            mTarget.println("    {");
+            mTarget.println("        mBubbleDepth = depth;");
+            mTarget.println("        return;");
+            mTarget.println("    }");
+            mTarget.println();
+        }
+
         mTarget.println("    //");
         mTarget.println("    // end of FSMContext7 Abstract Method Override.");
         mTarget.println(
@@ -1058,6 +1330,18 @@ public final class SmcJava7Generator
                 mTarget.print("(");
 
                 params = trans.getParameters();
+
+                // -actor: the public method posts the transition
+                // to the mailbox. A private method applies it.
+                if (mActorFlag)
+                {
+                    outputActorPost(transName, params);
+
+                    mTarget.print("    private void ");
+                    mTarget.format(APPLY_NAME, transName);
+                    mTarget.print("(");
+                }
+
                 for (pit = params.iterator(), separator = "";
                      pit.hasNext();
                      separator = ", ")
@@ -1069,76 +1353,41 @@ public final class SmcJava7Generator
                 mTarget.println("    {");
 
                 // Save away the transition name in case it is
-                // need in an UndefinedTransitionException.
+                // need in an UndefinedTransitionException. The
+                // identifier is reported to state change
+                // listeners.
                 mTarget.print("        mTransition = \"");
                 mTarget.print(transName);
                 mTarget.println("\";");
-
-                mTarget.println("        try");
-                mTarget.println("        {");
-                mTarget.println(
-                    "            final TransitionHandle th =");
-                mTarget.print(
-                    "                getState().transition(");
+                mTarget.print("        mTransitionId = ");
                 mTarget.print(transName);
                 mTarget.print(trans.getIdentifier());
                 mTarget.print(TRANSITION_ID_SUFFIX);
-                mTarget.println(");");
-                mTarget.println();
+                mTarget.println(";");
 
-                // If the transition takes no parameters, then it
-                // has the same signature as a default
-                // transition.
-                if (params.isEmpty())
+                // -watchdog: publish the transition start.
+                if (mWatchdogFlag)
                 {
-                    mTarget.println(
-                        "            (th.handle()).invokeExact(this);");
+                    outputWatchdogSlot("        ");
                 }
-                // Otherwise, there is a need to distinguish
-                // between actual and default transitions.
-                else
-                {
-                    mTarget.println(
-                        "            if (th.isDefault())");
-                    mTarget.println(
-                        "            {");
-                    mTarget.println(
-                        "                (th.handle()).invokeExact(this);");
-                    mTarget.println(
-                        "            }");
-                    mTarget.println(
-                        "            else");
-                    mTarget.println(
-                        "            {");
-                    mTarget.print(
-                        "                (th.handle()).invokeExact(this");
 
-                    for (pit = params.iterator();
-                         pit.hasNext();
-                        )
-                    {
-                        mTarget.print(", ");
-                        mTarget.print((pit.next()).getName());
-                    }
-                    mTarget.println(");");
-                    mTarget.println(
-                        "            }");
-                }
+                mTarget.println("        try");
+                mTarget.println("        {");
+
+                outputTransitionInvoke(
+                    fsm, trans, "            ", parameterNames(params));
 
                 mTarget.println("        }");
                 mTarget.println("        catch (Throwable tex)");
                 mTarget.println("        {");
-                mTarget.println(
-                    "            if (mDebugFlag)");
-                mTarget.println("            {");
-                mTarget.println(
-                    "                tex.printStackTrace(mDebugStream);");
-                mTarget.println("            }");
+                mTarget.println("            transitionFailed(tex);");
                 mTarget.println("        }");
 
-                // Clear the in-progress transition name before
-                // returning.
+                // Clear the in-progress transition name and
+                // identifier before returning.
                 mTarget.println("        mTransition = \"\";");
+                mTarget.println(
+                    "        mTransitionId = NO_TRANSITION_ID;");
 
                 mTarget.println("        return;");
                 mTarget.println("    }");
@@ -1146,6 +1395,13 @@ public final class SmcJava7Generator
             }
         }
 
+        // -batch: output the batch transition dispatch methods.
+        if (mBatchFlag)
+        {
+            outputBatchDispatch(fsm, false);
+            outputBatchDispatch(fsm, true);
+        }
+
         mTarget.println("    //");
         mTarget.println("    // end of Transitions.");
         mTarget.println(
@@ -1156,78 +1412,1122 @@ public final class SmcJava7Generator
     } // end of outputTransitionApi(SmcFSM)
 
     /**
-     * Writes the writeObject() and readObject() methods.
-     * @param fsm the FSM model.
+     * Writes the remainder of the -actor public transition
+     * method, starting with the parameter list. The method posts
+     * a {@code Runnable} to the FSM's mailbox which calls the
+     * private apply method with the transition arguments.
+     * @param transName the transition name.
+     * @param params the transition parameters.
      */
-    private void outputSerializeMethods(final SmcFSM fsm)
+    private void outputActorPost(final String transName,
+                                 final List<SmcParameter> params)
     {
-        mTarget.println(
-            "    //-----------------------------------------------------------");
-        mTarget.println("    // Serialization Methods.");
-        mTarget.println("    //");
-        mTarget.println();
+        String separator = "";
 
-        mTarget.println(
-            "    private void writeObject(final ObjectOutputStream ostream)");
-        mTarget.println("        throws IOException");
+        // The parameters are captured by the Runnable and so
+        // must be final.
+        for (SmcParameter param : params)
+        {
+            mTarget.print(separator);
+            mTarget.print("final ");
+            param.accept(this);
+
+            separator = ", ";
+        }
+        mTarget.println(")");
         mTarget.println("    {");
-        mTarget.println(
-            "        final int size =");
-        mTarget.println(
-            "            (mStateStack == null ? 0 : mStateStack.size());");
-        mTarget.println("        int i;");
-        mTarget.println();
-        mTarget.println(
-            "        ostream.writeInt(size);");
-        mTarget.println();
-        mTarget.println("        if (size > 0)");
-        mTarget.println("        {");
-        mTarget.println(
-            "            final Iterator<State7> sit =");
-        mTarget.println(
-            "                mStateStack.iterator();");
-        mTarget.println();
-        mTarget.println(
-            "            while (sit.hasNext())");
+        mTarget.println("        mMailbox.post(");
+        mTarget.println("            new Runnable()");
         mTarget.println("            {");
-        mTarget.println(
-            "                ostream.writeInt((sit.next()).getId());");
-        mTarget.println("            }");
-        mTarget.println("        }");
-        mTarget.println();
-        mTarget.println(
-            "        ostream.writeInt(mState.getId());");
+        mTarget.println("                @Override");
+        mTarget.println("                public void run()");
+        mTarget.println("                {");
+        mTarget.print("                    ");
+        mTarget.format(APPLY_NAME, transName);
+        mTarget.print("(");
+
+        separator = "";
+        for (SmcParameter param : params)
+        {
+            mTarget.print(separator);
+            mTarget.print(param.getName());
+
+            separator = ", ";
+        }
+        mTarget.println(");");
+        mTarget.println("                }");
+        mTarget.println("            });");
         mTarget.println();
         mTarget.println("        return;");
         mTarget.println("    }");
         mTarget.println();
-        mTarget.println("    private void readObject(final ObjectInputStream istream)");
-        mTarget.println(
-            "        throws IOException");
-        mTarget.println("    {");
-        mTarget.println(
-            "        final int size = istream.readInt();");
-        mTarget.println();
-        mTarget.println("        if (size == 0)");
-        mTarget.println("        {");
-        mTarget.println("            mStateStack = null;");
-        mTarget.println("        }");
-        mTarget.println("        else");
-        mTarget.println("        {");
-        mTarget.println("            int i;");
-        mTarget.println();
-        mTarget.println("            mStateStack = new ArrayDeque<>();");
-        mTarget.println();
-        mTarget.println(
-            "            for (i = 0; i < size; ++i)");
-        mTarget.println("            {");
-        mTarget.println(
-            "                mStateStack.addLast(sStates[istream.readInt()]);");
-        mTarget.println("            }");
-        mTarget.println("        }");
-        mTarget.println();
+
+        return;
+    } // end of outputActorPost(String, List<>)
+
+    /**
+     * Writes a -batch {@code dispatch} method which applies
+     * {@code count} transitions in one call. The transition name
+     * is set per transition but the {@code try} block is entered
+     * once per batch. If a transition fails, the failure is
+     * handled as the transition API method does and the
+     * remaining transitions are applied.
+     * <p>
+     * If {@code argsFlag} is {@code false}, then the method
+     * signature is {@code dispatch(int[] transitionIds, int count)}
+     * and only parameterless transitions may be dispatched.
+     * Otherwise the signature is
+     * {@code dispatch(int[] transitionIds, Object[][] args, int count)}
+     * where {@code args[i]} holds transition {@code i}'s
+     * arguments.
+     * </p>
+     * <p>
+     * Invalid batch input is not treated as a failed transition.
+     * A {@code count} outside the argument arrays is rejected
+     * before any transition is applied and an unknown transition
+     * identifier ends the batch with an
+     * {@code IllegalArgumentException} thrown outside the
+     * {@code try} block.
+     * </p>
+     * @param fsm the FSM model.
+     * @param argsFlag if {@code true} generate the variant
+     * taking transition arguments.
+     */
+    private void outputBatchDispatch(final SmcFSM fsm,
+                                     final boolean argsFlag)
+    {
+        final String indent = "                            ";
+        List<SmcParameter> params;
+        List<String> args;
+        int index;
+
+        mTarget.print("    public ");
+        if (mSyncFlag)
+        {
+            mTarget.print("synchronized ");
+        }
+        mTarget.println("void dispatch(final int[] transitionIds,");
+        if (argsFlag)
+        {
+            mTarget.println(
+                "                         final Object[][] args,");
+        }
+        mTarget.println("                         final int count)");
+        mTarget.println("    {");
+        outputBatchCountCheck(argsFlag);
+
+        // -actor: post a copy of the batch to the mailbox.
+        if (mActorFlag)
+        {
+            mTarget.println(
+                "        final int[] ids =");
+            mTarget.println(
+                "            java.util.Arrays.copyOf(transitionIds, count);");
+
+            if (argsFlag)
+            {
+                mTarget.println(
+                    "        final Object[][] a = new Object[count][];");
+                mTarget.println();
+                mTarget.println(
+                    "        for (int i = 0; i < count; ++i)");
+                mTarget.println("        {");
+                mTarget.println(
+                    "            a[i] = (args[i] == null ? null : args[i].clone());");
+                mTarget.println("        }");
+            }
+
+            mTarget.println();
+            mTarget.println("        mMailbox.post(");
+            mTarget.println("            new Runnable()");
+            mTarget.println("            {");
+            mTarget.println("                @Override");
+            mTarget.println("                public void run()");
+            mTarget.println("                {");
+            mTarget.print("                    ");
+            mTarget.format(APPLY_NAME, "dispatch");
+            mTarget.print("(ids, ");
+            mTarget.print(argsFlag ? "a, " : "");
+            mTarget.println("count);");
+            mTarget.println("                }");
+            mTarget.println("            });");
+            mTarget.println();
+            mTarget.println("        return;");
+            mTarget.println("    }");
+            mTarget.println();
+
+            mTarget.print("    private void ");
+            mTarget.format(APPLY_NAME, "dispatch");
+            mTarget.println("(final int[] transitionIds,");
+            if (argsFlag)
+            {
+                mTarget.println(
+                    "                                 final Object[][] args,");
+            }
+            mTarget.println(
+                "                                 final int count)");
+            mTarget.println("    {");
+        }
+
+        mTarget.println("        int i = 0;");
+        mTarget.println();
+        mTarget.println("        batch:");
+        mTarget.println("        while (i < count)");
+        mTarget.println("        {");
+        mTarget.println("            try");
+        mTarget.println("            {");
+        mTarget.println("                for (; i < count; ++i)");
+        mTarget.println("                {");
+        mTarget.println(
+            "                    mTransitionId = transitionIds[i];");
+
+        // -watchdog: publish each transition's start.
+        if (mWatchdogFlag)
+        {
+            outputWatchdogSlot("                    ");
+        }
+        mTarget.println();
+        mTarget.println("                    switch (mTransitionId)");
+        mTarget.println("                    {");
+
+        for (SmcTransition trans : fsm.getTransitions())
+        {
+            params = trans.getParameters();
+
+            // The Default transition cannot be issued and the
+            // argument-less dispatch only issues parameterless
+            // transitions.
+            if (trans.getName().equals(DEFAULT_NAME) ||
+                (argsFlag == false && params.isEmpty() == false))
+            {
+                continue;
+            }
+
+            // Cast each argument to its parameter type.
+            args = new ArrayList<>();
+            index = 0;
+            for (SmcParameter param : params)
+            {
+                args.add(
+                    String.format("(%s) args[i][%d]",
+                                  param.getType(),
+                                  index));
+                ++index;
+            }
+
+            mTarget.print("                        case ");
+            mTarget.print(trans.getName());
+            mTarget.print(trans.getIdentifier());
+            mTarget.print(TRANSITION_ID_SUFFIX);
+            mTarget.println(":");
+            mTarget.println("                        {");
+            mTarget.print(indent);
+            mTarget.print("mTransition = \"");
+            mTarget.print(trans.getName());
+            mTarget.println("\";");
+
+            outputTransitionInvoke(fsm, trans, indent, args);
+
+            mTarget.print(indent);
+            mTarget.println("break;");
+            mTarget.println("                        }");
+            mTarget.println();
+        }
+
+        // An unknown identifier leaves the try block so that it
+        // is not reported as a failed transition.
+        mTarget.println("                        default:");
+        mTarget.println("                            break batch;");
+        mTarget.println("                    }");
+        mTarget.println("                }");
+        mTarget.println("            }");
+        mTarget.println("            catch (Throwable tex)");
+        mTarget.println("            {");
+        mTarget.println(
+            "                // Skip the failed transition.");
+        mTarget.println("                ++i;");
+        mTarget.println();
+        mTarget.println("                transitionFailed(tex);");
+        mTarget.println("            }");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        mTransition = \"\";");
+        mTarget.println("        mTransitionId = NO_TRANSITION_ID;");
+        mTarget.println();
+        mTarget.println("        // Only an unknown identifier ends the batch early.");
+        mTarget.println("        if (i < count)");
+        mTarget.println("        {");
+        mTarget.println("            throw (");
+        mTarget.println("                new IllegalArgumentException(");
+        mTarget.println(
+            "                    \"invalid transition identifier \" +");
+        mTarget.println("                    transitionIds[i]));");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+
+        return;
+    } // end of outputBatchDispatch(SmcFSM, boolean)
+
+    /**
+     * Writes the -batch {@code dispatch} check rejecting a
+     * {@code count} which is negative or exceeds the transition
+     * identifier or argument array length.
+     * @param argsFlag if {@code true} also check the
+     * {@code args} array length.
+     */
+    private void outputBatchCountCheck(final boolean argsFlag)
+    {
+        mTarget.println("        if (count < 0 ||");
+        if (argsFlag)
+        {
+            mTarget.println(
+                "            count > transitionIds.length ||");
+            mTarget.println("            count > args.length)");
+        }
+        else
+        {
+            mTarget.println(
+                "            count > transitionIds.length)");
+        }
+        mTarget.println("        {");
+        mTarget.println("            throw (");
+        mTarget.println("                new IllegalArgumentException(");
+        mTarget.println("                    \"invalid batch count \" + count));");
+        mTarget.println("        }");
+        mTarget.println();
+
+        return;
+    } // end of outputBatchCountCheck(boolean)
+
+    /**
+     * Writes the statements which apply {@code trans} to the
+     * current state. Used by both the transition API methods and
+     * the -batch dispatch methods.
+     * @param fsm the FSM model.
+     * @param trans apply this transition.
+     * @param indent statement indentation.
+     * @param args the transition argument expressions.
+     */
+    private void outputTransitionInvoke(final SmcFSM fsm,
+                                        final SmcTransition trans,
+                                        final String indent,
+                                        final List<String> args)
+    {
+        // -journal: append the transition when it completes or
+        // when it fails after changing the state or state stack.
+        if (mJournalFlag)
+        {
+            mTarget.print(indent);
+            mTarget.println("final State7 journalState = mState;");
+            mTarget.print(indent);
+            mTarget.println("final int journalDepth = journalDepth();");
+            mTarget.print(indent);
+            mTarget.println("boolean journalDone = false;");
+            mTarget.println();
+            mTarget.print(indent);
+            mTarget.println("try");
+            mTarget.print(indent);
+            mTarget.println("{");
+
+            outputTransitionTimed(fsm, trans, indent + "    ", args);
+
+            mTarget.print(indent);
+            mTarget.println("    journalDone = true;");
+            mTarget.print(indent);
+            mTarget.println("}");
+            mTarget.print(indent);
+            mTarget.println("finally");
+            mTarget.print(indent);
+            mTarget.println("{");
+
+            outputJournalEntry(trans, indent + "    ", args);
+
+            mTarget.print(indent);
+            mTarget.println("}");
+        }
+        else
+        {
+            outputTransitionTimed(fsm, trans, indent, args);
+        }
+
+        return;
+    } // end of outputTransitionInvoke(...)
+
+    /**
+     * Writes the statements which apply {@code trans}, timed by
+     * a {@code TransitionMetrics} if -metrics is set.
+     * @param fsm the FSM model.
+     * @param trans apply this transition.
+     * @param indent statement indentation.
+     * @param args the transition argument expressions.
+     */
+    private void outputTransitionTimed(final SmcFSM fsm,
+                                       final SmcTransition trans,
+                                       final String indent,
+                                       final List<String> args)
+    {
+        // -metrics: time the transition if the FSM has a
+        // TransitionMetrics and report the latency even if the
+        // transition fails.
+        if (mMetricsFlag)
+        {
+            mTarget.print(indent);
+            mTarget.println(
+                "final TransitionMetrics metrics = getMetrics();");
+            mTarget.print(indent);
+            mTarget.println("final int metricsStateId =");
+            mTarget.print(indent);
+            mTarget.println(
+                "    (metrics == null ? NO_STATE_ID : (getState()).getId());");
+            mTarget.print(indent);
+            mTarget.println("final long metricsStart =");
+            mTarget.print(indent);
+            mTarget.println(
+                "    (metrics == null ? 0L : System.nanoTime());");
+            mTarget.println();
+            mTarget.print(indent);
+            mTarget.println("try");
+            mTarget.print(indent);
+            mTarget.println("{");
+
+            outputTransitionEvent(fsm, trans, indent + "    ", args);
+
+            mTarget.print(indent);
+            mTarget.println("}");
+            mTarget.print(indent);
+            mTarget.println("finally");
+            mTarget.print(indent);
+            mTarget.println("{");
+            mTarget.print(indent);
+            mTarget.println("    if (metrics != null)");
+            mTarget.print(indent);
+            mTarget.println("    {");
+            mTarget.print(indent);
+            mTarget.println("        metrics.transition(");
+            mTarget.print(indent);
+            mTarget.println("            metricsStateId,");
+            mTarget.print(indent);
+            mTarget.print("            ");
+            mTarget.print(trans.getName());
+            mTarget.print(trans.getIdentifier());
+            mTarget.print(TRANSITION_ID_SUFFIX);
+            mTarget.println(",");
+            mTarget.print(indent);
+            mTarget.println(
+                "            (System.nanoTime() - metricsStart));");
+            mTarget.print(indent);
+            mTarget.println("    }");
+            mTarget.print(indent);
+            mTarget.println("}");
+        }
+        else
+        {
+            outputTransitionEvent(fsm, trans, indent, args);
+        }
+
+        return;
+    } // end of outputTransitionTimed(...)
+
+    /**
+     * Writes the two statements which publish the transition's
+     * start tick and thread for a
+     * {@code statemap.TransitionWatchdog}.
+     * @param indent statement indentation.
+     */
+    private void outputWatchdogSlot(final String indent)
+    {
+        // The thread is written per transition since an FSM may
+        // be driven by different threads, as -actor FSMs are.
+        mTarget.print(indent);
+        mTarget.println(
+            "mTransitionThreadId = (Thread.currentThread()).getId();");
+        mTarget.print(indent);
+        mTarget.println(
+            "mTransitionStart = TransitionWatchdog.currentTick();");
+
+        return;
+    } // end of outputWatchdogSlot(String)
+
+    /**
+     * Writes the statements which append the transition and its
+     * arguments to the FSM's transition journal, if set. A failed
+     * transition is appended only if it changed the state or
+     * state stack.
+     * @param trans the applied transition.
+     * @param indent statement indentation.
+     * @param args the transition argument expressions.
+     */
+    private void outputJournalEntry(final SmcTransition trans,
+                                    final String indent,
+                                    final List<String> args)
+    {
+        mTarget.print(indent);
+        mTarget.println("if (getJournal() != null &&");
+        mTarget.print(indent);
+        mTarget.println("    (journalDone ||");
+        mTarget.print(indent);
+        mTarget.println(
+            "     journalChanged(journalState, journalDepth)))");
+        mTarget.print(indent);
+        mTarget.println("{");
+        mTarget.print(indent);
+        mTarget.println("    journalBegin();");
+
+        for (String arg : args)
+        {
+            mTarget.print(indent);
+            mTarget.print("    journalArg(");
+            mTarget.print(arg);
+            mTarget.println(");");
+        }
+
+        mTarget.print(indent);
+        mTarget.print("    journalEnd(");
+        mTarget.print(trans.getName());
+        mTarget.print(trans.getIdentifier());
+        mTarget.print(TRANSITION_ID_SUFFIX);
+        mTarget.println(");");
+        mTarget.print(indent);
+        mTarget.println("}");
+
+        return;
+    } // end of outputJournalEntry(...)
+
+    /**
+     * Writes the statements which apply {@code trans}, timed by
+     * a {@code TransitionEvent} if -jfr is set.
+     * @param fsm the FSM model.
+     * @param trans apply this transition.
+     * @param indent statement indentation.
+     * @param args the transition argument expressions.
+     */
+    private void outputTransitionEvent(final SmcFSM fsm,
+                                       final SmcTransition trans,
+                                       final String indent,
+                                       final List<String> args)
+    {
+        // -jfr: time the transition with a TransitionEvent. The
+        // event is null unless a recording enables it and is
+        // finished even if the transition fails.
+        if (mJfrFlag)
+        {
+            mTarget.print(indent);
+            mTarget.println("final TransitionEvent transEvent =");
+            mTarget.print(indent);
+            mTarget.print("    TransitionEvent.start(this, ");
+            mTarget.print(trans.getName());
+            mTarget.print(trans.getIdentifier());
+            mTarget.print(TRANSITION_ID_SUFFIX);
+            mTarget.println(");");
+            mTarget.println();
+            mTarget.print(indent);
+            mTarget.println("try");
+            mTarget.print(indent);
+            mTarget.println("{");
+
+            outputTransitionCall(fsm, trans, indent + "    ", args);
+
+            mTarget.print(indent);
+            mTarget.println("}");
+            mTarget.print(indent);
+            mTarget.println("finally");
+            mTarget.print(indent);
+            mTarget.println("{");
+            mTarget.print(indent);
+            mTarget.println(
+                "    TransitionEvent.finish(this, transEvent);");
+            mTarget.print(indent);
+            mTarget.println("}");
+        }
+        else
+        {
+            outputTransitionCall(fsm, trans, indent, args);
+        }
+
+        return;
+    } // end of outputTransitionEvent(...)
+
+    /**
+     * Writes the statements which look up and call the
+     * transition method for the current state.
+     * @param fsm the FSM model.
+     * @param trans apply this transition.
+     * @param indent statement indentation.
+     * @param args the transition argument expressions.
+     */
+    private void outputTransitionCall(final SmcFSM fsm,
+                                      final SmcTransition trans,
+                                      final String indent,
+                                      final List<String> args)
+    {
+        // -direct: switch on the current state and call the
+        // transition method directly.
+        if (mDirectFlag)
+        {
+            outputDirectDispatch(fsm, trans, indent, args);
+        }
+        else
+        {
+            mTarget.print(indent);
+            mTarget.println("final TransitionHandle th =");
+            mTarget.print(indent);
+
+            // -hierarchical: a transition not defined by the
+            // current state is passed to the pushing states.
+            if (mHierarchicalFlag)
+            {
+                mTarget.print("    bubbleTransition(");
+            }
+            else
+            {
+                mTarget.print("    getState().transition(");
+            }
+            mTarget.print(trans.getName());
+            mTarget.print(trans.getIdentifier());
+            mTarget.print(TRANSITION_ID_SUFFIX);
+            mTarget.println(");");
+            mTarget.println();
+
+            // If the transition takes no parameters, then it
+            // has the same signature as a default transition.
+            if (args.isEmpty())
+            {
+                mTarget.print(indent);
+                mTarget.println("(th.handle()).invokeExact(this);");
+            }
+            // Otherwise, there is a need to distinguish
+            // between actual and default transitions.
+            else
+            {
+                mTarget.print(indent);
+                mTarget.println("if (th.isDefault())");
+                mTarget.print(indent);
+                mTarget.println("{");
+                mTarget.print(indent);
+                mTarget.println("    (th.handle()).invokeExact(this);");
+                mTarget.print(indent);
+                mTarget.println("}");
+                mTarget.print(indent);
+                mTarget.println("else");
+                mTarget.print(indent);
+                mTarget.println("{");
+                mTarget.print(indent);
+                mTarget.print("    (th.handle()).invokeExact(this");
+
+                for (String arg : args)
+                {
+                    mTarget.print(", ");
+                    mTarget.print(arg);
+                }
+                mTarget.println(");");
+                mTarget.print(indent);
+                mTarget.println("}");
+            }
+        }
+
+        return;
+    } // end of outputTransitionCall(...)
+
+    /**
+     * Writes the -direct transition invocation: a switch on the
+     * current state identifier which calls the transition method
+     * for that state directly. States using the same transition
+     * method share a case. States which fall back to the system
+     * default transition are handled by the {@code default}
+     * case.
+     * @param fsm the FSM model.
+     * @param trans the transition being issued.
+     * @param indent statement indentation.
+     * @param args the transition argument expressions.
+     */
+    private void outputDirectDispatch(final SmcFSM fsm,
+                                      final SmcTransition trans,
+                                      final String indent,
+                                      final List<String> args)
+    {
+        final Map<String, List<String>> cases =
+            new LinkedHashMap<>();
+        String call;
+        List<String> stateIds;
+
+        // Group the state identifiers by transition method call.
+        for (SmcMap map : fsm.getMaps())
+        {
+            for (SmcState state : map.getStates())
+            {
+                call = directCall(state, trans, args);
+
+                // The system default transition is called in the
+                // default case.
+                if (call.startsWith(SYSTEM_DEFAULT) == false)
+                {
+                    stateIds = cases.get(call);
+                    if (stateIds == null)
+                    {
+                        stateIds = new ArrayList<>();
+                        cases.put(call, stateIds);
+                    }
+
+                    stateIds.add(
+                        map.getName() +
+                        "_" +
+                        state.getClassName() +
+                        STATE_ID_SUFFIX);
+                }
+            }
+        }
+
+        mTarget.print(indent);
+        mTarget.println("switch (getState().getId())");
+        mTarget.print(indent);
+        mTarget.println("{");
+
+        for (Map.Entry<String, List<String>> entry :
+                 cases.entrySet())
+        {
+            for (String stateId : entry.getValue())
+            {
+                mTarget.print(indent);
+                mTarget.print("    case ");
+                mTarget.print(stateId);
+                mTarget.println(":");
+            }
+
+            mTarget.print(indent);
+            mTarget.print("        ");
+            mTarget.print(entry.getKey());
+            mTarget.println(";");
+            mTarget.print(indent);
+            mTarget.println("        break;");
+            mTarget.println();
+        }
+
+        mTarget.print(indent);
+        mTarget.println("    default:");
+        mTarget.print(indent);
+        mTarget.print("        ");
+        mTarget.print(SYSTEM_DEFAULT);
+        mTarget.println("();");
+        mTarget.print(indent);
+        mTarget.println("        break;");
+        mTarget.print(indent);
+        mTarget.println("}");
+
+        return;
+    } // end of outputDirectDispatch(...)
+
+    /**
+     * Returns the transition method call made when
+     * {@code trans} is issued in {@code state}.
+     * @param state the current state.
+     * @param trans the issued transition.
+     * @param args the transition argument expressions.
+     * @return the transition method call sans semicolon.
+     *
+     * @see #transitionMethod(SmcState, SmcTransition)
+     */
+    private String directCall(final SmcState state,
+                              final SmcTransition trans,
+                              final List<String> args)
+    {
+        final StringBuilder retval = new StringBuilder();
+        String sep = "";
+
+        retval.append(transitionMethod(state, trans))
+              .append('(');
+
+        // A default transition takes no arguments.
+        if (definesTransition(state, trans))
+        {
+            for (String arg : args)
+            {
+                retval.append(sep).append(arg);
+
+                sep = ", ";
+            }
+        }
+        retval.append(')');
+
+        return (retval.toString());
+    } // end of directCall(SmcState, SmcTransition, List<>)
+
+    /**
+     * Returns the name of the method called when {@code trans}
+     * is issued in {@code state}. The method is resolved in the
+     * same order as {@code FSMContext7.lookupTransition}:
+     * <ol>
+     *   <li>
+     *     &lt;map&gt;_&lt;state&gt;_&lt;transition&gt;(parameters)
+     *   </li>
+     *   <li>
+     *     &lt;map&gt;_Default_&lt;transition&gt;(parameters)
+     *   </li>
+     *   <li>
+     *     &lt;map&gt;_&lt;state&gt;_Default()
+     *   </li>
+     *   <li>
+     *     &lt;map&gt;_Default_Default()
+     *   </li>
+     *   <li>
+     *     defaultTransition()
+     *   </li>
+     * </ol>
+     * @param state the current state.
+     * @param trans the issued transition.
+     * @return the transition method name.
+     */
+    private static String transitionMethod(final SmcState state,
+                                           final SmcTransition trans)
+    {
+        final SmcMap map = state.getMap();
+        final SmcState defaultState = map.getDefaultState();
+        final String transName = trans.getName();
+        final List<SmcParameter> params = trans.getParameters();
+        String retval;
+
+        if (state.findTransition(transName, params) != null)
+        {
+            retval =
+                map.getName() + "_" + state.getClassName() + "_" +
+                transName;
+        }
+        else if (defaultState != null &&
+                 defaultState.findTransition(
+                     transName, params) != null)
+        {
+            retval =
+                map.getName() + "_" + DEFAULT_NAME + "_" +
+                transName;
+        }
+        else if (state.findTransition(
+                     DEFAULT_NAME, DEFAULT_PARAMETERS) != null)
+        {
+            retval =
+                map.getName() + "_" + state.getClassName() + "_" +
+                DEFAULT_NAME;
+        }
+        else if (defaultState != null &&
+                 defaultState.findTransition(
+                     DEFAULT_NAME, DEFAULT_PARAMETERS) != null)
+        {
+            retval =
+                map.getName() + "_" + DEFAULT_NAME + "_" +
+                DEFAULT_NAME;
+        }
+        else
+        {
+            retval = SYSTEM_DEFAULT;
+        }
+
+        return (retval);
+    } // end of transitionMethod(SmcState, SmcTransition)
+
+    /**
+     * Returns {@code true} if {@code state} or its map's Default
+     * state defines {@code trans}. Otherwise a default
+     * transition is called when {@code trans} is issued in
+     * {@code state}.
+     * @param state the current state.
+     * @param trans the issued transition.
+     * @return {@code true} if {@code trans} is defined for
+     * {@code state}.
+     */
+    private static boolean definesTransition(final SmcState state,
+                                             final SmcTransition trans)
+    {
+        final SmcState defaultState = (state.getMap()).getDefaultState();
+        final String transName = trans.getName();
+        final List<SmcParameter> params = trans.getParameters();
+
+        return (state.findTransition(transName, params) != null ||
+                (defaultState != null &&
+                 defaultState.findTransition(
+                     transName, params) != null));
+    } // end of definesTransition(SmcState, SmcTransition)
+
+    /**
+     * Returns the parameter names as transition argument
+     * expressions.
+     * @param params the transition parameters.
+     * @return the parameter names.
+     */
+    private static List<String> parameterNames(final List<SmcParameter> params)
+    {
+        final List<String> retval = new ArrayList<>();
+
+        for (SmcParameter param : params)
+        {
+            retval.add(param.getName());
+        }
+
+        return (retval);
+    } // end of parameterNames(List<>)
+
+    /**
+     * Writes the -direct and -jfr {@code enterState()} and
+     * {@code exitState()} overrides. For -direct each is a switch
+     * on the current state identifier which calls the state's
+     * entry or exit method directly rather than through
+     * {@link #outputExecuteAction() executeAction}. Exceptions
+     * are handled as {@code executeAction} does. For -jfr the
+     * actions are timed by a {@code StateActionEvent} and the
+     * state residency is tracked by a
+     * {@code StateResidencyEvent}.
+     * @param fsm the FSM model.
+     */
+    private void outputStateActionDispatch(final SmcFSM fsm)
+    {
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // FSMContext7 Method Overrides.");
+        mTarget.println("    //");
+        mTarget.println();
+
+        outputStateActionSwitch(fsm, "enterState", ENTRY_NAME);
+        outputStateActionSwitch(fsm, "exitState", EXIT_NAME);
+
+        mTarget.println("    //");
+        mTarget.println("    // end of FSMContext7 Method Overrides.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        return;
+    } // end of outputStateActionDispatch(SmcFSM)
+
+    /**
+     * Writes either the {@code enterState()} or
+     * {@code exitState()} override.
+     * @param fsm the FSM model.
+     * @param methodName the overridden method name.
+     * @param nameFormat the state action method name format.
+     */
+    private void outputStateActionSwitch(final SmcFSM fsm,
+                                         final String methodName,
+                                         final String nameFormat)
+    {
+        final boolean isEntry = ENTRY_NAME.equals(nameFormat);
+
+        mTarget.println("    @Override");
+        mTarget.print("    protected void ");
+        mTarget.print(methodName);
+        mTarget.println("()");
+        mTarget.println("    {");
+
+        // -jfr: the state residency starts before the entry
+        // actions and ends after the exit actions.
+        if (mJfrFlag)
+        {
+            if (isEntry)
+            {
+                mTarget.println("        mResidencyEvent =");
+                mTarget.println(
+                    "            StateResidencyEvent.enter(this, mResidencyEvent);");
+                mTarget.println();
+            }
+
+            mTarget.println(
+                "        final StateActionEvent actionEvent =");
+            mTarget.print("            StateActionEvent.start(this, ");
+            mTarget.print(
+                isEntry ?
+                "StateActionEvent.ENTRY" :
+                "StateActionEvent.EXIT");
+            mTarget.println(");");
+            mTarget.println();
+        }
+
+        // Without -direct the base class executes the action.
+        if (mDirectFlag == false)
+        {
+            mTarget.print("        super.");
+            mTarget.print(methodName);
+            mTarget.println("();");
+            mTarget.println();
+        }
+        else
+        {
+            outputStateActionCases(fsm, nameFormat);
+        }
+
+        if (mJfrFlag)
+        {
+            mTarget.println(
+                "        StateActionEvent.finish(this, actionEvent);");
+
+            if (isEntry == false)
+            {
+                mTarget.println("        mResidencyEvent =");
+                mTarget.println(
+                    "            StateResidencyEvent.exit(this, mResidencyEvent);");
+            }
+
+            mTarget.println();
+        }
+
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+
+        return;
+    } // end of outputStateActionSwitch(SmcFSM, String, String)
+
+    /**
+     * Writes the -direct switch on the current state which calls
+     * the state's entry or exit method.
+     * @param fsm the FSM model.
+     * @param nameFormat the state action method name format.
+     */
+    private void outputStateActionCases(final SmcFSM fsm,
+                                        final String nameFormat)
+    {
+        final boolean isEntry = ENTRY_NAME.equals(nameFormat);
+        List<SmcAction> actions;
+        boolean hasActions = false;
+
+        for (SmcMap map : fsm.getMaps())
+        {
+            for (SmcState state : map.getStates())
+            {
+                actions =
+                    (isEntry ?
+                     state.getEntryActions() :
+                     state.getExitActions());
+
+                if (actions == null || actions.isEmpty())
+                {
+                    continue;
+                }
+
+                // Output the try and switch before the first
+                // case.
+                if (hasActions == false)
+                {
+                    mTarget.println("        try");
+                    mTarget.println("        {");
+                    mTarget.println(
+                        "            switch (mState.getId())");
+                    mTarget.println("            {");
+
+                    hasActions = true;
+                }
+
+                mTarget.format("                case %s_%s%s:%n",
+                               map.getName(),
+                               state.getClassName(),
+                               STATE_ID_SUFFIX);
+                mTarget.print("                    ");
+                mTarget.format(nameFormat,
+                               map.getName(),
+                               state.getClassName());
+                mTarget.println("();");
+                mTarget.println("                    break;");
+                mTarget.println();
+            }
+        }
+
+        if (hasActions)
+        {
+            mTarget.println("                default:");
+            mTarget.println("                    break;");
+            mTarget.println("            }");
+            mTarget.println("        }");
+            mTarget.println("        catch (Throwable tex)");
+            mTarget.println("        {");
+            mTarget.println("            transitionFailed(tex);");
+            mTarget.println("        }");
+            mTarget.println();
+        }
+
+        return;
+    } // end of outputStateActionCases(SmcFSM, String)
+
+    /**
+     * Writes the writeObject() and readObject() methods.
+     * @param fsm the FSM model.
+     */
+    private void outputSerializeMethods(final SmcFSM fsm)
+    {
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // Serialization Methods.");
+        mTarget.println("    //");
+        mTarget.println();
+
+        mTarget.println(
+            "    private void writeObject(final ObjectOutputStream ostream)");
+        mTarget.println("        throws IOException");
+        mTarget.println("    {");
+        mTarget.println(
+            "        final int size =");
+        mTarget.println(
+            "            (mStateIdStack == null ? 0 : mStateIdStack.size());");
+        mTarget.println("        int i;");
+        mTarget.println();
+        mTarget.println(
+            "        ostream.writeInt(size);");
+        mTarget.println();
+        mTarget.println(
+            "        // Write the state stack from top to bottom.");
+        mTarget.println(
+            "        for (i = (size - 1); i >= 0; --i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            ostream.writeInt(mStateIdStack.get(i));");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println(
+            "        ostream.writeInt(mState.getId());");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    private void readObject(final ObjectInputStream istream)");
+        mTarget.println(
+            "        throws IOException");
+        mTarget.println("    {");
+        mTarget.println(
+            "        final int size = istream.readInt();");
+        mTarget.println(
+            "        final int[] stateIds = new int[size];");
+        mTarget.println("        int i;");
+        mTarget.println();
+        mTarget.println(
+            "        for (i = 0; i < size; ++i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            stateIds[i] = istream.readInt();");
+        mTarget.println("        }");
+        mTarget.println();
+
+        // The constructor is not called when deserializing.
+        if (mStateStackSize > 0)
+        {
+            outputStackAllocation();
+        }
+        else
+        {
+            mTarget.println("        mStateIdStack =");
+            mTarget.println(
+                "            (size == 0 ? null : new StateIdStack(size));");
+        }
+
+        mTarget.println();
+        mTarget.println(
+            "        // The stack was written from top to bottom.");
+        mTarget.println(
+            "        for (i = (size - 1); i >= 0; --i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            mStateIdStack.push(stateIds[i]);");
+        mTarget.println("        }");
+        mTarget.println();
         mTarget.println(
             "        mState = sStates[istream.readInt()];");
+
         mTarget.println();
         mTarget.println("        return;");
         mTarget.println("    }");
@@ -1242,6 +2542,152 @@ public final class SmcJava7Generator
         return;
     } // end of outputSerializeMethods(SmcFSM)
 
+    /**
+     * Writes the {@code statemap.StateSnapshot} methods which
+     * write and read the state identifiers and state stack
+     * to and from a {@code ByteBuffer}.
+     */
+    private void outputSnapshotMethods()
+    {
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println(
+            "    // StateSnapshot Interface Implementation.");
+        mTarget.println("    //");
+        mTarget.println();
+        mTarget.println("    @Override");
+        mTarget.println("    public long getSchemaHash()");
+        mTarget.println("    {");
+        mTarget.println("        return (SCHEMA_HASH);");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    @Override");
+        mTarget.println("    public int snapshotSize()");
+        mTarget.println("    {");
+        mTarget.println("        return (HEADER_SIZE +");
+        mTarget.println(
+            "                (4 * (mStateIdStack == null ? 0 : mStateIdStack.size())));");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    @Override");
+        mTarget.println(
+            "    public void writeTo(final ByteBuffer buffer)");
+        mTarget.println("    {");
+        mTarget.println("        final int size =");
+        mTarget.println(
+            "            (mStateIdStack == null ? 0 : mStateIdStack.size());");
+        mTarget.println("        int i;");
+        mTarget.println();
+        mTarget.println(
+            "        // Check for room first so that a partial snapshot is");
+        mTarget.println("        // never written.");
+        mTarget.println(
+            "        if (buffer.remaining() < (HEADER_SIZE + (4 * size)))");
+        mTarget.println("        {");
+        mTarget.println(
+            "            throw (new BufferOverflowException());");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        buffer.putLong(SCHEMA_HASH);");
+        mTarget.println(
+            "        buffer.putInt(mState == null ? NO_STATE_ID : mState.getId());");
+        mTarget.println("        buffer.putInt(");
+        mTarget.println("            mPreviousState == null ?");
+        mTarget.println("            NO_STATE_ID :");
+        mTarget.println("            mPreviousState.getId());");
+        mTarget.println("        buffer.putInt(size);");
+        mTarget.println();
+        mTarget.println(
+            "        // Write the state stack from bottom to top.");
+        mTarget.println("        for (i = 0; i < size; ++i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            buffer.putInt(mStateIdStack.get(i));");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    @Override");
+        mTarget.println(
+            "    public void readFrom(final ByteBuffer buffer)");
+        mTarget.println("    {");
+        mTarget.println(
+            "        final int position = buffer.position();");
+        mTarget.println("        final int stateId;");
+        mTarget.println("        final int previousStateId;");
+        mTarget.println("        final int size;");
+        mTarget.println("        int i;");
+        mTarget.println();
+        mTarget.println(
+            "        if (buffer.remaining() < HEADER_SIZE)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            throw (new BufferUnderflowException());");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        if (buffer.getLong() != SCHEMA_HASH)");
+        mTarget.println("        {");
+        mTarget.println("            buffer.position(position);");
+        mTarget.println("            throw (");
+        mTarget.println(
+            "                new IllegalArgumentException(");
+        mTarget.println(
+            "                    \"FSM schema hash mismatch\"));");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        stateId = buffer.getInt();");
+        mTarget.println("        previousStateId = buffer.getInt();");
+        mTarget.println("        size = buffer.getInt();");
+        mTarget.println();
+        mTarget.println(
+            "        // Check the whole stack is there before changing state.");
+        mTarget.println(
+            "        if (size < 0 || buffer.remaining() < (4 * size))");
+        mTarget.println("        {");
+        mTarget.println("            buffer.position(position);");
+        mTarget.println(
+            "            throw (new BufferUnderflowException());");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        mState =");
+        mTarget.println(
+            "            (stateId == NO_STATE_ID ? null : sStates[stateId]);");
+        mTarget.println("        mPreviousState =");
+        mTarget.println(
+            "            (previousStateId == NO_STATE_ID ?");
+        mTarget.println("             null :");
+        mTarget.println("             sStates[previousStateId]);");
+        mTarget.println();
+        mTarget.println("        if (mStateIdStack != null)");
+        mTarget.println("        {");
+        mTarget.println("            mStateIdStack.clear();");
+        mTarget.println("        }");
+        mTarget.println("        else if (size > 0)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            mStateIdStack = new StateIdStack(size);");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        for (i = 0; i < size; ++i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            mStateIdStack.push(buffer.getInt());");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    //");
+        mTarget.println(
+            "    // end of StateSnapshot Interface Implementation.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        return;
+    } // end of outputSnapshotMethods()
+
     /**
      * Outputs the instance and class data members.
      * @param fsm the FSM model.
@@ -1260,6 +2706,35 @@ public final class SmcJava7Generator
         mTarget.print(context);
         mTarget.println(" ctxt;");
 
+        // -jfr: times the current state's residency. Set only
+        // when a recording has the event enabled.
+        if (mJfrFlag)
+        {
+            mTarget.println();
+            mTarget.println(
+                "    transient private StateResidencyEvent mResidencyEvent;");
+        }
+
+        // -watchdog: the current transition's start tick and
+        // thread, read by TransitionWatchdog. Declared only
+        // here so that other FSMs do not carry them.
+        if (mWatchdogFlag)
+        {
+            mTarget.println();
+            mTarget.println(
+                "    transient private long mTransitionStart;");
+            mTarget.println(
+                "    transient private long mTransitionThreadId;");
+        }
+
+        // -hierarchical: the pushed states above the state
+        // handling the current transition.
+        if (mHierarchicalFlag)
+        {
+            mTarget.println();
+            mTarget.println("    transient private int mBubbleDepth;");
+        }
+
         // 5.2. Declare the class constants.
         mTarget.println();
         mTarget.println(
@@ -1271,6 +2746,30 @@ public final class SmcJava7Generator
             "    private static final long serialVersionUID = 1L;");
         mTarget.println();
 
+        // -serial: snapshots are restored only into FSMs with
+        // the same states.
+        if (mSerialFlag)
+        {
+            mTarget.println(
+                "    private static final long SCHEMA_HASH =");
+            mTarget.print("        ");
+            mTarget.print(String.format("0x%016xL", schemaHash(fsm)));
+            mTarget.println(";");
+            mTarget.println();
+        }
+
+        // -g -trace: trace code is removed by the JIT compiler
+        // unless tracing is enabled when this class is loaded.
+        if (isTraceOutput())
+        {
+            mTarget.println(
+                "    private static final boolean TRACE_ENABLED =");
+            mTarget.print("        FSMContext7.isTraceEnabled(");
+            mTarget.print(fsm.getFsmClassName());
+            mTarget.println(".class);");
+            mTarget.println();
+        }
+
         // 5.2.1. Output the state identifiers.
         outputStateIds(fsm);
 
@@ -1280,19 +2779,23 @@ public final class SmcJava7Generator
         // 5.2.3. Output the transition method signatures.
         outputTransitionSignatures(fsm);
 
-        // 5.2.4. Output the map, state and transition name arrays.
+        // 5.2.4. Output the state and transition name arrays.
         outputNames(fsm);
 
-        // 5.2.5. Output the states array.
+        // 5.2.5. Output the precomputed transition resolution
+        //        tables.
+        outputTransitionTable(fsm);
+
+        // 5.2.6. Output the states array.
         //        Note: the array is filled in the class init.
         mTarget.println(
             "    private static final State7[] sStates = new State7[STATE_COUNT];");
         mTarget.println();
 
-        // 5.2.6. Output the class static initialization block.
+        // 5.2.7. Output the class static initialization block.
         outputClassInit(fsm);
 
-        // 5.2.7 If -reflection is set, then output the map
+        // 5.2.8 If -reflection is set, then output the map
         //       classes containing the state instances.
         if (mReflectFlag)
         {
@@ -1375,7 +2878,11 @@ public final class SmcJava7Generator
                         trans.getIdentifier(),
                         TRANSITION_ID_SUFFIX);
 
-                mTarget.print("    private static final int ");
+                // -batch: the application passes these
+                // identifiers to dispatch().
+                mTarget.print("    ");
+                mTarget.print(mBatchFlag ? mAccessLevel : "private");
+                mTarget.print(" static final int ");
                 mTarget.print(transIdName);
                 mTarget.print(" = ");
                 mTarget.print(transId);
@@ -1461,90 +2968,50 @@ public final class SmcJava7Generator
     } // end of outputTransitionSignatures(SmcFSM)
 
     /**
-     * Output the map, state, and transition name arrays.
+     * Output the state and transition name arrays.
      * @param fsm the FSM model.
      */
     private void outputNames(final SmcFSM fsm)
     {
-        // 5.2.4.1. Output the map names.
-        outputMapNames(fsm);
-
-        // 5.2.4.2. Output the state names.
+        // 5.2.4.1. Output the state names.
         outputStateNames(fsm);
 
-        // 5.24.3. Output the state transition names.
+        // 5.2.4.2. Output the state transition names.
         outputStateTransitions(fsm);
 
-        // 5.2.4.4. Output the transition names.
+        // 5.2.4.3. Output the transition names.
         outputTransitionNames(fsm);
 
         return;
     } // end of outputNames(SmcFSM)
 
     /**
-     * Writes the {@code MAP_NAMES} string array.
-     * @param fsm the FSM model.
-     */
-    private void outputMapNames(final SmcFSM fsm)
-    {
-        String sep = "";
-
-        mTarget.println(
-            "    private static final String[] MAP_NAMES =");
-        mTarget.print("    {");
-
-        for (SmcMap map : fsm.getMaps())
-        {
-            mTarget.println(sep);
-            mTarget.print("        \"");
-            mTarget.print(map.getName());
-            mTarget.print("\"");
-
-            sep = ",";
-        }
-
-        mTarget.println();
-        mTarget.println("    };");
-        mTarget.println();
-
-        return;
-    } // end of outputMapNames(SmcFSM)
-
-    /**
-     * Writes a two-dimensional array containing the state names
-     * for each map.
+     * Writes the {@code STATE_NAMES} string array containing
+     * each state's "&lt;map&gt;_&lt;state&gt;" name, indexed by
+     * state identifier.
      * @param fsm the FSM model.
      */
     private void outputStateNames(final SmcFSM fsm)
     {
-        String sep0 = "";
-        String sep1 = "";
+        String sep = "";
 
         mTarget.println(
-            "    private static final String[][] STATE_NAMES =");
+            "    private static final String[] STATE_NAMES =");
         mTarget.print("    {");
 
         for (SmcMap map : fsm.getMaps())
         {
-            mTarget.println(sep0);
-            mTarget.println("        new String[]");
-            mTarget.print("        {");
-
             for (SmcState state : map.getStates())
             {
-                mTarget.println(sep1);
-                mTarget.print("            \"");
+                mTarget.println(sep);
+                mTarget.print("        \"");
+                mTarget.print(map.getName());
+                mTarget.print("_");
                 mTarget.print(state.getInstanceName());
                 mTarget.print("\"");
 
-                sep1 = ",";
+                sep = ",";
             }
-
-            mTarget.println();
-            mTarget.print("        }");
-
-            sep0 = ",\n";
-            sep1 = "";
         }
 
         mTarget.println();
@@ -1642,6 +3109,258 @@ public final class SmcJava7Generator
         return;
     } // end of outputTransitionNames(SmcFSM)
 
+    /**
+     * Writes the transition resolution tables. Each
+     * (state, transition) pair is resolved here, in the same
+     * order as {@code FSMContext7.lookupTransition}, so that the
+     * class initialization looks up each transition method
+     * exactly once and never formats a method name or fails a
+     * lookup.
+     * <ul>
+     *   <li>
+     *     {@code TRANSITION_METHODS}: the distinct transition
+     *     methods. Index 0 is {@code defaultTransition}.
+     *   </li>
+     *   <li>
+     *     {@code TRANSITION_METHOD_TYPES}: each method's
+     *     signature.
+     *   </li>
+     *   <li>
+     *     {@code TRANSITION_TABLE}: one string per state with
+     *     one character per transition identifier. The
+     *     character is the method index times two plus one if
+     *     the method is a default transition. This is the index
+     *     into the {@code FSMContext7.transitionHandles} array.
+     *     Generation fails with an
+     *     {@code IllegalStateException} if the methods do not
+     *     fit in a character.
+     *     Strings are used rather than arrays since string
+     *     constants do not count against the class
+     *     initialization method's 64 KiB code limit.
+     *   </li>
+     *   <li>
+     *     {@code ENTRY_METHODS}, {@code EXIT_METHODS}: each
+     *     state's entry and exit action methods, {@code null}
+     *     if there are no actions.
+     *   </li>
+     * </ul>
+     * @param fsm the FSM model.
+     */
+    private void outputTransitionTable(final SmcFSM fsm)
+    {
+        final List<SmcTransition> transitions =
+            fsm.getTransitions();
+        final Map<String, Integer> methodIndex =
+            new LinkedHashMap<>();
+        final List<String> methodTypes = new ArrayList<>();
+        final List<String> tables = new ArrayList<>();
+        final List<String> entryMethods = new ArrayList<>();
+        final List<String> exitMethods = new ArrayList<>();
+        final List<String> methodNames = new ArrayList<>();
+        StringBuilder table;
+        String methodName;
+        String methodKey;
+        String sep = "";
+        Integer index;
+        boolean isDefault;
+        int transId;
+        int hash;
+
+        // Index 0 is the system default transition.
+        methodIndex.put(SYSTEM_DEFAULT, 0);
+        methodTypes.add("NO_ARGS_TYPE");
+
+        for (SmcMap map : fsm.getMaps())
+        {
+            for (SmcState state : map.getStates())
+            {
+                // The Default transition slot is never used.
+                table = new StringBuilder();
+                appendTableChar(table, 0);
+
+                transId = 1;
+                for (SmcTransition trans : transitions)
+                {
+                    if (trans.getName().equals(DEFAULT_NAME))
+                    {
+                        continue;
+                    }
+
+                    methodName = transitionMethod(state, trans);
+                    isDefault =
+                        (definesTransition(state, trans) == false);
+
+                    // Transition methods may be overloaded, so
+                    // the key includes the signature.
+                    methodKey =
+                        (isDefault ?
+                         methodName :
+                         methodName + "#" + transId);
+                    index = methodIndex.get(methodKey);
+                    if (index == null)
+                    {
+                        index = methodIndex.size();
+                        if (index >= MAX_TRANSITION_METHODS)
+                        {
+                            throw (
+                                new IllegalStateException(
+                                    "more than " +
+                                    MAX_TRANSITION_METHODS +
+                                    " transition methods do not fit the transition table"));
+                        }
+
+                        methodIndex.put(methodKey, index);
+                        methodTypes.add(
+                            (isDefault ?
+                             "NO_ARGS_TYPE" :
+                             "TRANSITION_TYPES[" + transId + "]"));
+                    }
+
+                    appendTableChar(
+                        table, (2 * index) + (isDefault ? 1 : 0));
+
+                    ++transId;
+                }
+
+                tables.add(table.toString());
+                entryMethods.add(
+                    actionMethod(map,
+                                 state,
+                                 ENTRY_NAME,
+                                 state.getEntryActions()));
+                exitMethods.add(
+                    actionMethod(map,
+                                 state,
+                                 EXIT_NAME,
+                                 state.getExitActions()));
+            }
+        }
+
+        // Strip the signature from the method keys.
+        for (String key : methodIndex.keySet())
+        {
+            hash = key.indexOf('#');
+            methodNames.add(hash < 0 ? key : key.substring(0, hash));
+        }
+
+        outputStringArray("TRANSITION_METHODS", methodNames);
+
+        mTarget.println(
+            "    private static final MethodType[] TRANSITION_METHOD_TYPES =");
+        mTarget.print("    {");
+        for (String type : methodTypes)
+        {
+            mTarget.println(sep);
+            mTarget.print("        ");
+            mTarget.print(type);
+
+            sep = ",";
+        }
+        mTarget.println();
+        mTarget.println("    };");
+        mTarget.println();
+
+        outputStringArray("TRANSITION_TABLE", tables);
+        outputStringArray("ENTRY_METHODS", entryMethods);
+        outputStringArray("EXIT_METHODS", exitMethods);
+
+        return;
+    } // end of outputTransitionTable(SmcFSM)
+
+    /**
+     * Returns the state entry or exit action method name or
+     * {@code null} if the state has no such actions.
+     * @param map the state's map.
+     * @param state the state.
+     * @param nameFormat {@link #ENTRY_NAME} or
+     * {@link #EXIT_NAME}.
+     * @param actions the state entry or exit actions.
+     * @return the action method name or {@code null}.
+     */
+    private static String actionMethod(final SmcMap map,
+                                       final SmcState state,
+                                       final String nameFormat,
+                                       final List<SmcAction> actions)
+    {
+        String retval = null;
+
+        if (actions != null && actions.isEmpty() == false)
+        {
+            retval =
+                String.format(nameFormat,
+                              map.getName(),
+                              state.getClassName());
+        }
+
+        return (retval);
+    } // end of actionMethod(SmcMap, SmcState, String, List<>)
+
+    /**
+     * Appends {@code c} to a transition table string literal.
+     * Octal escapes are used below 256 since a Unicode escape
+     * for a line terminator, quote or backslash is not a valid
+     * string literal character.
+     * @param table append to this table.
+     * @param c the table character.
+     */
+    private static void appendTableChar(final StringBuilder table,
+                                        final int c)
+    {
+        if (c < 256)
+        {
+            table.append('\\').append(Integer.toOctalString(c));
+        }
+        else
+        {
+            table.append(String.format("\\u%04x", c));
+        }
+
+        return;
+    } // end of appendTableChar(StringBuilder, int)
+
+    /**
+     * Writes a private static final string array. Values are
+     * written as is between quotes, {@code null} values as
+     * {@code null}.
+     * @param name the array name.
+     * @param values the array values.
+     */
+    private void outputStringArray(final String name,
+                                   final List<String> values)
+    {
+        String sep = "";
+
+        mTarget.print("    private static final String[] ");
+        mTarget.print(name);
+        mTarget.println(" =");
+        mTarget.print("    {");
+
+        for (String value : values)
+        {
+            mTarget.println(sep);
+            mTarget.print("        ");
+
+            if (value == null)
+            {
+                mTarget.print("null");
+            }
+            else
+            {
+                mTarget.print("\"");
+                mTarget.print(value);
+                mTarget.print("\"");
+            }
+
+            sep = ",";
+        }
+
+        mTarget.println();
+        mTarget.println("    };");
+        mTarget.println();
+
+        return;
+    } // end of outputStringArray(String, List<>)
+
     /**
      * Writes the class initialization block which fills in the
      * States array with State instances.
@@ -1652,26 +3371,14 @@ public final class SmcJava7Generator
         mTarget.println("    static");
         mTarget.println("    {");
 
-        // 5.2.6.1. Output the local variables used in generating
+        // 5.2.7.1. Output the local variables used in generating
         //         the State7 instances.
         outputLocalVars(fsm);
 
-        // 5.2.6.2. Output the map for-loop.
-        mTarget.println(
-            "        for (mapIndex = 0; mapIndex < mapSize; ++mapIndex)");
-        mTarget.println("        {");
-        mTarget.println(
-            "            mapName = MAP_NAMES[mapIndex];");
-        mTarget.println(
-            "            stateSize = STATE_NAMES[mapIndex].length;");
-        mTarget.println();
-
-        // 5.2.6.3. Output the state for-loop.
+        // 5.2.7.2. Output the state for-loop.
         outputClassInitStateLoop();
 
-        // 5.2.6.4. Output the map for-loop and class init block
-        //          closing braces.
-        mTarget.println("        }");
+        // 5.2.7.3. Output the class init block closing brace.
         mTarget.println("    }");
 
         return;
@@ -1689,18 +3396,12 @@ public final class SmcJava7Generator
         mTarget.print("        final Class<?> clazz = ");
         mTarget.print(fsm.getFsmClassName());
         mTarget.println(".class;");
+        mTarget.println("        final TransitionHandle[] handles =");
         mTarget.println(
-            "        final int mapSize = MAP_NAMES.length;");
-        mTarget.println("        int stateSize;");
-        mTarget.println("        int mapIndex;");
-        mTarget.println("        int stateIndex;");
+            "            transitionHandles(lookup, clazz, TRANSITION_METHODS, TRANSITION_METHOD_TYPES);");
+        mTarget.println("        int stateId;");
         mTarget.println("        int transIndex;");
-        mTarget.println("        int stateId = 0;");
-        mTarget.println("        String mapName;");
-        mTarget.println("        String stateName;");
-        mTarget.println("        String transName;");
-        mTarget.println("        String methodName;");
-        mTarget.println("        MethodType transType;");
+        mTarget.println("        String table;");
         mTarget.println("        MethodHandle entryHandle;");
         mTarget.println("        MethodHandle exitHandle;");
         mTarget.println("        TransitionHandle[] transitions;");
@@ -1714,40 +3415,43 @@ public final class SmcJava7Generator
      */
     private void outputClassInitStateLoop()
     {
-        // 5.2.6.3.1. Output the state for-loop.
-        mTarget.println(
-            "            for (stateIndex = 0; stateIndex < stateSize; ++stateIndex, ++stateId)");
-        mTarget.println("            {");
-        mTarget.println(
-            "                stateName = STATE_NAMES[mapIndex][stateIndex];");
+        // 5.2.7.2.1. Output the state for-loop.
         mTarget.println(
-            "                transitions = new TransitionHandle[TRANSITION_COUNT];");
-        mTarget.println();
-        mTarget.println(
-            "                methodName = String.format(ENTRY_NAME, mapName, stateName);");
-        mTarget.println(
-            "                entryHandle = lookupMethod(lookup, clazz, methodName, NO_ARGS_TYPE);");
+            "        for (stateId = 0; stateId < STATE_COUNT; ++stateId)");
+        mTarget.println("        {");
         mTarget.println(
-            "                methodName = String.format(EXIT_NAME, mapName, stateName);");
+            "            table = TRANSITION_TABLE[stateId];");
         mTarget.println(
-            "                exitHandle = lookupMethod(lookup, clazz, methodName, NO_ARGS_TYPE);");
+            "            transitions = new TransitionHandle[TRANSITION_COUNT];");
         mTarget.println();
 
-        // 5.2.6.3.2. Output the transition table initialization.
+        // 5.2.7.2.2. Output the transition table initialization.
         outputClassInitTransitions();
 
-        // 5.2.6.3.3. Output the state instantiation.
-        mTarget.println("                sStates[stateId] =");
-        mTarget.println("                    new State7(");
+        // 5.2.7.2.3. Output the entry and exit action lookups.
+        mTarget.println("            entryHandle =");
+        mTarget.println("                (ENTRY_METHODS[stateId] == null ?");
+        mTarget.println("                 null :");
         mTarget.println(
-            "                        String.format(STATE_NAME_FORMAT, mapName, stateName),");
-        mTarget.println("                        stateId,");
-        mTarget.println("                        entryHandle,");
-        mTarget.println("                        exitHandle,");
-        mTarget.println("                        transitions,");
-        mTarget.println("                        STATE_TRANSITIONS[stateId]);");
+            "                 lookupMethod(lookup, clazz, ENTRY_METHODS[stateId], NO_ARGS_TYPE));");
+        mTarget.println("            exitHandle =");
+        mTarget.println("                (EXIT_METHODS[stateId] == null ?");
+        mTarget.println("                 null :");
+        mTarget.println(
+            "                 lookupMethod(lookup, clazz, EXIT_METHODS[stateId], NO_ARGS_TYPE));");
+        mTarget.println();
 
-        mTarget.println("            }");
+        // 5.2.7.2.4. Output the state instantiation.
+        mTarget.println("            sStates[stateId] =");
+        mTarget.println("                new State7(");
+        mTarget.println("                    STATE_NAMES[stateId],");
+        mTarget.println("                    stateId,");
+        mTarget.println("                    entryHandle,");
+        mTarget.println("                    exitHandle,");
+        mTarget.println("                    transitions,");
+        mTarget.println("                    STATE_TRANSITIONS[stateId]);");
+
+        mTarget.println("        }");
 
         return;
     } // end of outputClassInitStateLoop()
@@ -1758,17 +3462,11 @@ public final class SmcJava7Generator
     private void outputClassInitTransitions()
     {
         mTarget.println(
-            "                for (transIndex = 1; transIndex < TRANSITION_COUNT; ++transIndex)");
-        mTarget.println("                {");
-        mTarget.println(
-            "                    transName = TRANSITION_NAMES[transIndex];");
-        mTarget.println(
-            "                    transType = TRANSITION_TYPES[transIndex];");
-        mTarget.println(
-            "                    transitions[transIndex] =");
+            "            for (transIndex = 1; transIndex < TRANSITION_COUNT; ++transIndex)");
+        mTarget.println("            {");
         mTarget.println(
-            "                        lookupTransition(lookup, clazz, mapName, stateName, transName, transType);");
-        mTarget.println("                }");
+            "                transitions[transIndex] = handles[table.charAt(transIndex)];");
+        mTarget.println("            }");
         mTarget.println();
 
         return;
@@ -2037,8 +3735,8 @@ public final class SmcJava7Generator
         }
         // No, the default state does not hava a default
         // transition.
-        // Call the system default transition which throws a
-        // TransitionUndefinedException.
+        // Call the system default transition which applies the
+        // FSM's undefined transition policy.
         else
         {
             methodName = SYSTEM_DEFAULT;
@@ -2132,7 +3830,21 @@ public final class SmcJava7Generator
     private void outputStateExit(final String mapName,
                                  final String stateName)
     {
-        if (mDebugLevel >= DEBUG_LEVEL_0)
+        // -hierarchical: if a pushing state handles this
+        // transition, then first leave the pushed states.
+        if (mHierarchicalFlag)
+        {
+            mTarget.print(mIndent);
+            mTarget.println("unwindState();");
+            mTarget.println();
+        }
+
+        if (isTraceOutput())
+        {
+            outputTrace(mIndent, "LEAVING_STATE", "stateId");
+            mTarget.println();
+        }
+        else if (mDebugLevel >= DEBUG_LEVEL_0)
         {
             mTarget.print(mIndent);
             mTarget.println("if (mDebugFlag)");
@@ -2150,7 +3862,12 @@ public final class SmcJava7Generator
             mTarget.println();
         }
 
-        if (mDebugLevel >= DEBUG_LEVEL_1)
+        if (isTraceOutput() && mDebugLevel >= DEBUG_LEVEL_1)
+        {
+            outputTrace(mIndent, "BEFORE_EXIT", "stateId");
+            mTarget.println();
+        }
+        else if (mDebugLevel >= DEBUG_LEVEL_1)
         {
             String sep;
 
@@ -2172,7 +3889,12 @@ public final class SmcJava7Generator
         mTarget.println("exitState();");
         mTarget.println();
 
-        if (mDebugLevel >= DEBUG_LEVEL_1)
+        if (isTraceOutput() && mDebugLevel >= DEBUG_LEVEL_1)
+        {
+            outputTrace(mIndent, "AFTER_EXIT", "stateId");
+            mTarget.println();
+        }
+        else if (mDebugLevel >= DEBUG_LEVEL_1)
         {
             mTarget.print(mIndent);
             mTarget.println("if (mDebugFlag)");
@@ -2228,7 +3950,13 @@ public final class SmcJava7Generator
                                        final String stateName)
     {
         // Output transition to debug stream.
-        if (mDebugLevel >= DEBUG_LEVEL_0)
+        if (isTraceOutput())
+        {
+            outputTrace(
+                mIndent + "    ", "ENTER_TRANSITION", "stateId");
+            mTarget.println();
+        }
+        else if (mDebugLevel >= DEBUG_LEVEL_0)
         {
             final List<SmcParameter> parameters =
                 trans.getParameters();
@@ -2293,15 +4021,86 @@ public final class SmcJava7Generator
             mTarget.print(mIndent);
             mTarget.println("    clearState();");
 
-            for (SmcAction action: actions)
+            if (mErrorCodeFlag)
             {
-                action.accept(this);
+                outputErrorCodeActions(actions);
+            }
+            else
+            {
+                for (SmcAction action: actions)
+                {
+                    action.accept(this);
+                }
             }
         }
 
         return;
     } // end of outputGuardActions()
 
+    /**
+     * Writes the transition actions for {@code -errorcode}.
+     * Each action's error code is stored in {@code errorCode}
+     * and the following actions are executed only if that code
+     * is zero.
+     * @param actions the transition actions.
+     */
+    private void outputErrorCodeActions(final List<SmcAction> actions)
+    {
+        final String indent = mIndent;
+        boolean firstFlag = true;
+
+        mErrorCodeAction = true;
+
+        for (SmcAction action: actions)
+        {
+            if (firstFlag)
+            {
+                action.accept(this);
+                firstFlag = false;
+            }
+            else
+            {
+                mTarget.print(indent);
+                mTarget.println("    if (errorCode == 0)");
+                mTarget.print(indent);
+                mTarget.println("    {");
+
+                mIndent = indent + "    ";
+                action.accept(this);
+                mIndent = indent;
+
+                mTarget.print(indent);
+                mTarget.println("    }");
+            }
+        }
+
+        mErrorCodeAction = false;
+
+        return;
+    } // end of outputErrorCodeActions(List<>)
+
+    /**
+     * Writes the {@code -errorcode} check following the guard's
+     * finally block. A non-zero error code is reported and the
+     * transition method returns.
+     */
+    private void outputActionFailed()
+    {
+        mTarget.print(mIndent);
+        mTarget.println("if (errorCode != 0)");
+        mTarget.print(mIndent);
+        mTarget.println("{");
+        mTarget.print(mIndent);
+        mTarget.println("    actionFailed(errorCode);");
+        mTarget.print(mIndent);
+        mTarget.println("    return;");
+        mTarget.print(mIndent);
+        mTarget.println("}");
+        mTarget.println();
+
+        return;
+    } // end of outputActionFailed()
+
     /**
      * Writes the transition enter logging, if debug logging is
      * enabled.
@@ -2314,7 +4113,13 @@ public final class SmcJava7Generator
                                       final String stateName)
     {
         // Output transition to debug stream.
-        if (mDebugLevel >= DEBUG_LEVEL_0)
+        if (isTraceOutput())
+        {
+            mTarget.println();
+            outputTrace(
+                mIndent + "    ", "EXIT_TRANSITION", "stateId");
+        }
+        else if (mDebugLevel >= DEBUG_LEVEL_0)
         {
             final List<SmcParameter> parameters =
                 trans.getParameters();
@@ -2364,7 +4169,13 @@ public final class SmcJava7Generator
     private void outputStateEnter(final String mapName,
                                   final String stateName)
     {
-        if (mDebugLevel >= DEBUG_LEVEL_1)
+        if (isTraceOutput() && mDebugLevel >= DEBUG_LEVEL_1)
+        {
+            mTarget.println();
+            outputTrace(mIndent, "BEFORE_ENTRY", "mState.getId()");
+            mTarget.println();
+        }
+        else if (mDebugLevel >= DEBUG_LEVEL_1)
         {
             mTarget.println();
             mTarget.print(mIndent);
@@ -2383,7 +4194,12 @@ public final class SmcJava7Generator
         mTarget.print(mIndent);
         mTarget.println("enterState();");
 
-        if (mDebugLevel >= DEBUG_LEVEL_1)
+        if (isTraceOutput() && mDebugLevel >= DEBUG_LEVEL_1)
+        {
+            mTarget.println();
+            outputTrace(mIndent, "AFTER_ENTRY", "mState.getId()");
+        }
+        else if (mDebugLevel >= DEBUG_LEVEL_1)
         {
             mTarget.println();
             mTarget.print(mIndent);
@@ -2403,6 +4219,47 @@ public final class SmcJava7Generator
         return;
     } // end of outputStateEnter()
 
+    /**
+     * Returns {@code true} if {@code -g} debug output is passed
+     * to {@code FSMContext7.trace} rather than written to the
+     * debug stream.
+     * @return {@code true} if generating {@code -g -trace}
+     * output.
+     */
+    private boolean isTraceOutput()
+    {
+        return (mTraceFlag && mDebugLevel >= DEBUG_LEVEL_0);
+    } // end of isTraceOutput()
+
+    /**
+     * Writes the {@code -g -trace} debug output. The trace call
+     * is guarded by the {@code static final} TRACE_ENABLED flag
+     * so that the JIT compiler removes it when tracing is not
+     * enabled.
+     * @param indent the if statement indent.
+     * @param phase the {@code statemap.TraceSink} phase.
+     * @param stateId the traced state identifier expression.
+     */
+    private void outputTrace(final String indent,
+                             final String phase,
+                             final String stateId)
+    {
+        mTarget.print(indent);
+        mTarget.println("if (TRACE_ENABLED && mDebugFlag)");
+        mTarget.print(indent);
+        mTarget.println("{");
+        mTarget.print(indent);
+        mTarget.print("    trace(TraceSink.");
+        mTarget.print(phase);
+        mTarget.print(", ");
+        mTarget.print(stateId);
+        mTarget.println(");");
+        mTarget.print(indent);
+        mTarget.println("}");
+
+        return;
+    } // end of outputTrace(String, String, String)
+
     /**
      * Returns the actual Java type name in the given string.
      * {@code s} may contain addition attributes besides the
@@ -233,6 +233,18 @@ public final class SmcJavaGenerator
         mTarget.println();
         mTarget.println("        _owner = owner;");
 
+        // -stack: preallocate the state identifier stack.
+        // Otherwise newStateIdStack() allocates it on the first
+        // push.
+        outputStackAllocation("        ");
+
+        // -actor: transitions are queued in a mailbox.
+        if (mActorFlag)
+        {
+            mTarget.println(
+                "        _mailbox = new statemap.TransitionMailbox();");
+        }
+
         // If reflection code is added, then instantiate the
         // state and transition sets and fill them in.
         if (mReflectFlag)
@@ -277,6 +289,18 @@ public final class SmcJavaGenerator
                 mTarget.print("(");
 
                 params = trans.getParameters();
+
+                // -actor: the public method posts the transition
+                // to the mailbox. A private method applies it.
+                if (mActorFlag)
+                {
+                    outputActorPost(trans.getName(), params);
+
+                    mTarget.print("    private void ");
+                    mTarget.print(trans.getName());
+                    mTarget.print("__Apply_(");
+                }
+
                 for (pit = params.iterator(), separator = "";
                      pit.hasNext();
                      separator = ", ")
@@ -313,25 +337,39 @@ public final class SmcJavaGenerator
             }
         }
 
-        // If serialization is turned on, then generate a
-        // setOwner method which allows the application class
-        // to restore its ownership of the FSM.
-        if (mSerialFlag)
+        // -batch: generate the batch transition dispatch
+        // methods.
+        if (mBatchFlag)
         {
-            // Also output the valueOf method in case developers
-            // want to serialize manually.
-            mTarget.print("    public ");
-            mTarget.print(context);
-            mTarget.println("State valueOf(int stateId)");
-            mTarget.println(
-                "        throws ArrayIndexOutOfBoundsException");
-            mTarget.println("    {");
-            mTarget.println(
-                "        return (_States[stateId]);");
-            mTarget.println("    }");
-            mTarget.println();
+            outputBatchDispatch(transitions, false);
+            outputBatchDispatch(transitions, true);
         }
 
+        // Output the valueOf method. Used by popState to map the
+        // stacked state identifier back to its state and by
+        // developers who want to serialize manually.
+        mTarget.print("    public ");
+        mTarget.print(context);
+        mTarget.println("State valueOf(int stateId)");
+        mTarget.println(
+            "        throws ArrayIndexOutOfBoundsException");
+        mTarget.println("    {");
+        mTarget.println(
+            "        return (_States[stateId]);");
+        mTarget.println("    }");
+        mTarget.println();
+
+        // Output the newStateIdStack method. Used by pushState
+        // to allocate the state identifier stack on the first
+        // push.
+        mTarget.println(
+            "    protected statemap.StateIdStack newStateIdStack()");
+        mTarget.println("    {");
+        mTarget.println(
+            "        return (new statemap.StateIdStack());");
+        mTarget.println("    }");
+        mTarget.println();
+
         // getState() method.
         mTarget.print("    public ");
         mTarget.print(context);
@@ -421,7 +459,7 @@ public final class SmcJavaGenerator
                 "        int size =");
             mTarget.print("            ");
             mTarget.println(
-                "(_stateStack == null ? 0 : _stateStack.size());");
+                "(_stateIdStack == null ? 0 : _stateIdStack.size());");
             mTarget.println("        int i;");
             mTarget.println();
             mTarget.println(
@@ -430,11 +468,8 @@ public final class SmcJavaGenerator
             mTarget.println(
                 "        for (i = 0; i < size; ++i)");
             mTarget.println("        {");
-            mTarget.println("            ostream.writeInt(");
-            mTarget.print("                ((");
-            mTarget.print(context);
             mTarget.println(
-                "State) _stateStack.get(i)).getId());");
+                "            ostream.writeInt(_stateIdStack.get(i));");
             mTarget.println("        }");
             mTarget.println();
             mTarget.println(
@@ -453,38 +488,40 @@ public final class SmcJavaGenerator
             mTarget.println();
             mTarget.println("        size = istream.readInt();");
             mTarget.println();
-            mTarget.println("        if (size == 0)");
-            mTarget.println("        {");
-            mTarget.println("            _stateStack = null;");
-            mTarget.println("        }");
-            mTarget.println("        else");
-            mTarget.println("        {");
-            mTarget.println("            int i;");
+
+            mTarget.println("        int i;");
             mTarget.println();
-            mTarget.println("            _stateStack =");
-            mTarget.print(
-                "                new java.util.Stack");
-            if (mJava7Flag)
+
+            // -stack: the stack is always preallocated.
+            if (mStateStackSize > 0)
             {
-                mTarget.print("<>");
+                outputStackAllocation("        ");
             }
             else
             {
-                mTarget.print("<statemap.State>");
+                mTarget.println("        _stateIdStack =");
+                mTarget.print("            (size == 0 ? null : ");
+                mTarget.println("new statemap.StateIdStack(size));");
             }
-            mTarget.println("();");
+
             mTarget.println();
+            mTarget.println("        for (i = 0; i < size; ++i)");
+            mTarget.println("        {");
             mTarget.println(
-                "            for (i = 0; i < size; ++i)");
-            mTarget.println("            {");
-            mTarget.print(
-                "                _stateStack.add(i, _States[");
-            mTarget.println("istream.readInt()]);");
-            mTarget.println("            }");
+                "            _stateIdStack.push(istream.readInt());");
             mTarget.println("        }");
             mTarget.println();
             mTarget.println(
                 "        _state = _States[istream.readInt()];");
+
+            // The mailbox is transient and so must be
+            // re-created.
+            if (mActorFlag)
+            {
+                mTarget.println(
+                    "        _mailbox = new statemap.TransitionMailbox();");
+            }
+
             mTarget.println();
             mTarget.println("        return;");
             mTarget.println("    }");
@@ -501,6 +538,14 @@ public final class SmcJavaGenerator
         mTarget.print(context);
         mTarget.println(" _owner;");
 
+        // -actor: transitions are queued in this mailbox.
+        if (mActorFlag)
+        {
+            mTarget.println();
+            mTarget.println(
+                "    transient private statemap.TransitionMailbox _mailbox;");
+        }
+
         // If reflection is turned on then declare the transition set.
         if (mReflectFlag)
         {
@@ -518,38 +563,32 @@ public final class SmcJavaGenerator
             mTarget.println(" _transitions;");
         }
 
-        // If serialization support is on, then create the state
-        // array.
-        if (mSerialFlag || mReflectFlag)
-        {
-            String mapName;
+        // Create the state array. valueOf(int) uses it to map
+        // state identifiers to states.
+        mTarget.print("    transient private static ");
+        mTarget.print(context);
+        mTarget.println("State[] _States =");
+        mTarget.println("    {");
 
-            mTarget.print("    transient private static ");
-            mTarget.print(context);
-            mTarget.println("State[] _States =");
-            mTarget.println("    {");
+        separator = "";
+        for (SmcMap map: maps)
+        {
+            final String mapName = map.getName();
 
-            separator = "";
-            for (SmcMap map: maps)
+            for (SmcState state: map.getStates())
             {
-                mapName = map.getName();
+                mTarget.print(separator);
+                mTarget.print("        ");
+                mTarget.print(mapName);
+                mTarget.print(".");
+                mTarget.print(state.getClassName());
 
-                for (SmcState state: map.getStates())
-                {
-                    mTarget.print(separator);
-                    mTarget.print("        ");
-                    mTarget.print(mapName);
-                    mTarget.print(".");
-                    mTarget.print(state.getClassName());
-
-                    separator = ",\n";
-                }
+                separator = ",\n";
             }
-
-            mTarget.println();
-            mTarget.println("    };");
         }
 
+        mTarget.println();
+        mTarget.println("    };");
         mTarget.println();
         mTarget.println(
             "    //-----------------------------------------------------------");
@@ -559,6 +598,13 @@ public final class SmcJavaGenerator
         mTarget.println(
             "    private static final long serialVersionUID = 1L;");
 
+        // -batch: declare the transition identifiers passed to
+        // dispatch().
+        if (mBatchFlag)
+        {
+            outputTransitionIds(transitions);
+        }
+
         // Declare the abstract state class.
         mTarget.println();
         mTarget.println(
@@ -666,17 +712,9 @@ public final class SmcJavaGenerator
             mTarget.println();
         }
 
-        mTarget.println("            throw (");
-        mTarget.println(
-            "                new statemap.TransitionUndefinedException(");
-        mTarget.println(
-            "                    \"State: \" +");
-        mTarget.println(
-            "                    context.getState().getName() +");
-        mTarget.println(
-            "                    \", Transition: \" +");
-        mTarget.println(
-            "                    context.getTransition()));");
+        // The context applies its undefined transition policy.
+        mTarget.println("            context.defaultTransition();");
+        mTarget.println("            return;");
         mTarget.println("        }");
 
         // End of state class.
@@ -787,7 +825,7 @@ public final class SmcJavaGenerator
             mTarget.print('.');
             mTarget.print(state.getClassName());
             mTarget.print("\", ");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             mTarget.println(");");
         }
 
@@ -1933,6 +1971,265 @@ public final class SmcJavaGenerator
     // end of SmcVisitor Abstract Method Impelementation.
     //-----------------------------------------------------------
 
+    // Generates the remainder of the -actor public transition
+    // method, starting with the parameter list. The method posts
+    // a Runnable to the FSM's mailbox which calls the private
+    // "<transition>__Apply_" method with the transition
+    // arguments.
+    private void outputActorPost(final String transName,
+                                 final List<SmcParameter> params)
+    {
+        String separator = "";
+
+        // The parameters are captured by the Runnable and so
+        // must be final.
+        for (SmcParameter param : params)
+        {
+            mTarget.print(separator);
+            mTarget.print("final ");
+            param.accept(this);
+
+            separator = ", ";
+        }
+        mTarget.println(")");
+        mTarget.println("    {");
+        mTarget.println("        _mailbox.post(");
+        mTarget.println("            new Runnable()");
+        mTarget.println("            {");
+        mTarget.println("                @Override");
+        mTarget.println("                public void run()");
+        mTarget.println("                {");
+        mTarget.print("                    ");
+        mTarget.print(transName);
+        mTarget.print("__Apply_(");
+
+        separator = "";
+        for (SmcParameter param : params)
+        {
+            mTarget.print(separator);
+            mTarget.print(param.getName());
+
+            separator = ", ";
+        }
+        mTarget.println(");");
+        mTarget.println("                }");
+        mTarget.println("            });");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+
+        return;
+    } // end of outputActorPost(String, List<>)
+
+    // Generates the -stack _stateIdStack allocation. The -stack
+    // size is the initial capacity so that push transitions do
+    // not allocate until that depth is exceeded. Nothing is
+    // generated without -stack.
+    private void outputStackAllocation(final String indent)
+    {
+        if (mStateStackSize > 0)
+        {
+            mTarget.print(indent);
+            mTarget.print(
+                "_stateIdStack = new statemap.StateIdStack(");
+            mTarget.print(mStateStackSize);
+            mTarget.println(");");
+        }
+
+        return;
+    } // end of outputStackAllocation(String)
+
+    // Generates the -batch transition identifier constants. The
+    // identifiers start at 1.
+    private void outputTransitionIds(
+        final List<SmcTransition> transitions)
+    {
+        int transId = 1;
+
+        for (SmcTransition trans : transitions)
+        {
+            if (trans.getName().equals("Default") == false)
+            {
+                mTarget.print("    ");
+                mTarget.print(mAccessLevel);
+                mTarget.print(" static final int ");
+                mTarget.print(trans.getName());
+                mTarget.print(trans.getIdentifier());
+                mTarget.print("_TRANSITION_ID = ");
+                mTarget.print(transId);
+                mTarget.println(";");
+
+                ++transId;
+            }
+        }
+
+        return;
+    } // end of outputTransitionIds(List<>)
+
+    // Generates a -batch dispatch method which applies "count"
+    // transitions in one call. If argsFlag is false, then the
+    // method is "dispatch(int[] transitionIds, int count)" and
+    // only parameterless transitions may be dispatched.
+    // Otherwise the method is
+    // "dispatch(int[] transitionIds, Object[][] args, int count)"
+    // where args[i] holds transition i's arguments. An exception
+    // thrown by a transition ends the batch. A count outside the
+    // argument arrays is rejected before any transition is
+    // applied.
+    private void outputBatchDispatch(
+        final List<SmcTransition> transitions,
+        final boolean argsFlag)
+    {
+        List<SmcParameter> params;
+        int index;
+
+        mTarget.print("    public ");
+        if (mSyncFlag)
+        {
+            mTarget.print("synchronized ");
+        }
+        mTarget.println("void dispatch(final int[] transitionIds,");
+        if (argsFlag)
+        {
+            mTarget.println(
+                "                         final Object[][] args,");
+        }
+        mTarget.println("                         final int count)");
+        mTarget.println("    {");
+        mTarget.println("        if (count < 0 ||");
+        if (argsFlag)
+        {
+            mTarget.println(
+                "            count > transitionIds.length ||");
+            mTarget.println("            count > args.length)");
+        }
+        else
+        {
+            mTarget.println(
+                "            count > transitionIds.length)");
+        }
+        mTarget.println("        {");
+        mTarget.println("            throw (");
+        mTarget.println("                new IllegalArgumentException(");
+        mTarget.println("                    \"invalid batch count \" + count));");
+        mTarget.println("        }");
+        mTarget.println();
+
+        // -actor: post a copy of the batch to the mailbox.
+        if (mActorFlag)
+        {
+            mTarget.println(
+                "        final int[] ids =");
+            mTarget.println(
+                "            java.util.Arrays.copyOf(transitionIds, count);");
+
+            if (argsFlag)
+            {
+                mTarget.println(
+                    "        final Object[][] a = new Object[count][];");
+                mTarget.println();
+                mTarget.println(
+                    "        for (int i = 0; i < count; ++i)");
+                mTarget.println("        {");
+                mTarget.println(
+                    "            a[i] = (args[i] == null ? null : args[i].clone());");
+                mTarget.println("        }");
+            }
+
+            mTarget.println();
+            mTarget.println("        _mailbox.post(");
+            mTarget.println("            new Runnable()");
+            mTarget.println("            {");
+            mTarget.println("                @Override");
+            mTarget.println("                public void run()");
+            mTarget.println("                {");
+            mTarget.print("                    dispatch__Apply_(ids, ");
+            mTarget.print(argsFlag ? "a, " : "");
+            mTarget.println("count);");
+            mTarget.println("                }");
+            mTarget.println("            });");
+            mTarget.println();
+            mTarget.println("        return;");
+            mTarget.println("    }");
+            mTarget.println();
+
+            mTarget.println(
+                "    private void dispatch__Apply_(final int[] transitionIds,");
+            if (argsFlag)
+            {
+                mTarget.println(
+                    "                                  final Object[][] args,");
+            }
+            mTarget.println(
+                "                                  final int count)");
+            mTarget.println("    {");
+        }
+
+        mTarget.println("        for (int i = 0; i < count; ++i)");
+        mTarget.println("        {");
+        mTarget.println("            switch (transitionIds[i])");
+        mTarget.println("            {");
+
+        for (SmcTransition trans : transitions)
+        {
+            params = trans.getParameters();
+
+            // The Default transition cannot be issued and the
+            // argument-less dispatch only issues parameterless
+            // transitions.
+            if (trans.getName().equals("Default") ||
+                (argsFlag == false && params.isEmpty() == false))
+            {
+                continue;
+            }
+
+            mTarget.print("                case ");
+            mTarget.print(trans.getName());
+            mTarget.print(trans.getIdentifier());
+            mTarget.println("_TRANSITION_ID:");
+            mTarget.print("                    _transition = \"");
+            mTarget.print(trans.getName());
+            mTarget.println("\";");
+            mTarget.print("                    getState().");
+            mTarget.print(trans.getName());
+            mTarget.print("(this");
+
+            // Cast each argument to its parameter type.
+            index = 0;
+            for (SmcParameter param : params)
+            {
+                mTarget.print(", (");
+                mTarget.print(param.getType());
+                mTarget.print(") args[i][");
+                mTarget.print(index);
+                mTarget.print("]");
+                ++index;
+            }
+            mTarget.println(");");
+            mTarget.println("                    break;");
+            mTarget.println();
+        }
+
+        mTarget.println("                default:");
+        mTarget.println("                    throw (");
+        mTarget.println(
+            "                        new IllegalArgumentException(");
+        mTarget.println(
+            "                            \"invalid transition identifier \" +");
+        mTarget.println(
+            "                            transitionIds[i]));");
+        mTarget.println("            }");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        _transition = \"\";");
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+
+        return;
+    } // end of outputBatchDispatch(List<>, boolean)
+
     // Generates the code for instantiating and initializing the
     // reflection state and transition sets.
     private void reflectionSets(final List<SmcTransition> transitions)
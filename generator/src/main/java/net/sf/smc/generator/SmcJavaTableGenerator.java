@@ -0,0 +1,2355 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import net.sf.smc.model.SmcAction;
+import net.sf.smc.model.SmcElement;
+import net.sf.smc.model.SmcElement.TransType;
+import net.sf.smc.model.SmcFSM;
+import net.sf.smc.model.SmcGuard;
+import net.sf.smc.model.SmcMap;
+import net.sf.smc.model.SmcParameter;
+import net.sf.smc.model.SmcState;
+import net.sf.smc.model.SmcTransition;
+import net.sf.smc.model.SmcVisitor;
+import net.sf.smc.model.TargetLanguage;
+
+/**
+ * Visits the abstract syntax tree, emitting the FSM as a Java
+ * transition matrix interpreted by
+ * {@code statemap.TableFSMContext}. Where {@link SmcTableGenerator}
+ * writes the FSM as an HTML table for people to read, this
+ * generator writes it as a table for the run-time to execute.
+ * <p>
+ * The generated class contains:
+ * </p>
+ * <ul>
+ *   <li>
+ *     the state and transition identifier constants,
+ *   </li>
+ *   <li>
+ *     the next state, action, guard and push state for each
+ *     (state, transition) pair encoded as string constants and
+ *     decoded once into {@code statemap.TransitionTable} arrays,
+ *   </li>
+ *   <li>
+ *     a {@code guard(int)} and an {@code action(int)} method
+ *     which switch on the guard or action identifier. Identical
+ *     guards and actions share an identifier, and
+ *   </li>
+ *   <li>
+ *     one public method per transition which stores the
+ *     transition arguments for the guards and actions and then
+ *     has the base class interpret the table.
+ *   </li>
+ * </ul>
+ * <p>
+ * There are no state classes and no per-state transition
+ * methods. An FSM with thousands of states and transitions
+ * compiles to a single class whose class initialization decodes
+ * a handful of strings.
+ * </p>
+ * <p>
+ * The {@code -access}, {@code -serial}, {@code -stack} and
+ * {@code -sync} options are supported. Guard, action and state
+ * identifiers are limited to 65,534.
+ * </p>
+ *
+ * @see SmcJavaGenerator
+ * @see SmcJava7Generator
+ * @see SmcElement
+ * @see SmcCodeGenerator
+ * @see SmcVisitor
+ * @see SmcOptions
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class SmcJavaTableGenerator
+    extends SmcCodeGenerator
+{
+//---------------------------------------------------------------
+// Member data
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The default state and transition name is "Default".
+     */
+    private static final String DEFAULT_NAME = "Default";
+
+    /**
+     * The default transition has no parameters.
+     */
+    private static final List<SmcParameter> DEFAULT_PARAMETERS =
+        new ArrayList<>();
+
+    /**
+     * The constant integer state identifier suffix is {@value}.
+     */
+    private static final String STATE_ID_SUFFIX = "_STATE_ID";
+
+    /**
+     * The constant integer transition identifier suffix is
+     * "_TRANSITION_ID".
+     */
+    private static final String TRANSITION_ID_SUFFIX =
+        "_TRANSITION_ID";
+
+    /**
+     * A transition method saves the previous argument value in a
+     * local variable named "&lt;field&gt;__Saved_".
+     */
+    private static final String SAVED_SUFFIX = "__Saved_";
+
+    /**
+     * Transition table encoding: the transition type values
+     * match {@code statemap.TransitionTable}.
+     */
+    private static final int SET_ROW = 0;
+    private static final int PUSH_ROW = 1;
+    private static final int POP_ROW = 2;
+
+    /**
+     * Transition table encoding: set for the last row in a
+     * (state, transition) cell's run.
+     */
+    private static final int LAST_ROW = 0x04;
+
+    /**
+     * Transition table encoding: no guard, action or state.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * State and transition names are separated by a space.
+     */
+    private static final char NAME_SEPARATOR = ' ';
+
+    /**
+     * Packed string constants are split into chunks of at most
+     * {@value} characters. At three bytes per character, a
+     * chunk is well within the class file's 65,535 byte string
+     * constant limit.
+     */
+    private static final int CHUNK_LENGTH = 1024;
+
+    /**
+     * The guard and action switches have at most
+     * 2<sup>{@value}</sup> cases per method. This keeps each
+     * method small enough to be compiled by the JIT no matter
+     * how large the FSM.
+     */
+    private static final int CASE_SHIFT = 6;
+
+    /**
+     * The guard and action case bodies are indented by this
+     * much.
+     */
+    private static final String CASE_INDENT =
+        "                ";
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * Maps each distinct guard case body to its guard
+     * identifier.
+     */
+    private final Map<String, Integer> mGuardIds;
+
+    /**
+     * The guard case bodies indexed by guard identifier.
+     */
+    private final List<String> mGuards;
+
+    /**
+     * Maps each distinct action case body to its action
+     * identifier.
+     */
+    private final Map<String, Integer> mActionIds;
+
+    /**
+     * The action case bodies indexed by action identifier.
+     */
+    private final List<String> mActions;
+
+//---------------------------------------------------------------
+// Member methods
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates a Java transition table code generator for the
+     * given options.
+     * @param options The target code generator options.
+     */
+    public SmcJavaTableGenerator(final SmcOptions options)
+    {
+        super (options, TargetLanguage.JAVA_TABLE.suffix());
+
+        mGuardIds = new HashMap<>();
+        mGuards = new ArrayList<>();
+        mActionIds = new HashMap<>();
+        mActions = new ArrayList<>();
+    } // end of SmcJavaTableGenerator(SmcOptions)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // SmcVisitor Abstract Method Impelementation.
+    //
+
+    /**
+     * Emits Java code for the finite state machine context
+     * class.
+     * @param fsm emit Java code for this finite state machine.
+     */
+    @Override
+    public void visit(final SmcFSM fsm)
+    {
+        final Map<String, Integer> stateIds = stateIds(fsm);
+        final Map<Integer, Integer> transitionIds =
+            transitionIds(fsm);
+        final List<SmcState> states = new ArrayList<>();
+        final StringBuilder rows = new StringBuilder();
+        final StringBuilder cells = new StringBuilder();
+        final StringBuilder stateActions = new StringBuilder();
+
+        for (SmcMap map : fsm.getMaps())
+        {
+            states.addAll(map.getStates());
+        }
+
+        // 1. Reduce the FSM to the transition table, collecting
+        //    the distinct guards and actions on the way.
+        mGuardIds.clear();
+        mGuards.clear();
+        mActionIds.clear();
+        mActions.clear();
+        buildTable(fsm,
+                   states,
+                   stateIds,
+                   transitionIds,
+                   cells,
+                   rows,
+                   stateActions);
+
+        // 2. Output the read-only opening comments and user raw
+        //    target code.
+        outputHeader(fsm);
+
+        // 3. Output the class import statements.
+        outputImports(fsm);
+
+        // 4. Output the class declaration and opening brace.
+        outputClassDeclaration(fsm);
+
+        // 5. Output the class constructors, owner get and set
+        //    methods, the guard and action switches and the
+        //    transition methods.
+        outputMethods(fsm);
+
+        // 6. Output the class data members and the transition
+        //    table.
+        outputData(fsm,
+                   states,
+                   cells.toString(),
+                   rows.toString(),
+                   stateActions.toString());
+
+        // 7. Output the class closing brace and the read-only
+        //    ending comments.
+        outputFooter();
+
+        return;
+    } // end of visit(SmcFSM)
+
+    /**
+     * Emits Java code for this FSM action.
+     * @param action emits Java code for this action.
+     */
+    @Override
+    public void visit(final SmcAction action)
+    {
+        final String name = action.getName();
+        Iterator<String> it;
+        String sep;
+
+        // Need to distinguish between FSMContext actions and
+        // application class actions. If the action is
+        // "emptyStateStack", then pass it to the context.
+        // Otherwise, let the application class handle it.
+        mTarget.print(mIndent);
+        if (action.isEmptyStateStack())
+        {
+            mTarget.println("emptyStateStack();");
+        }
+        else
+        {
+            if (action.isStatic() == false)
+            {
+                mTarget.print("ctxt.");
+            }
+            mTarget.print(name);
+            mTarget.print("(");
+
+            for (it = action.getArguments().iterator(), sep = "";
+                 it.hasNext();
+                 sep = ", ")
+            {
+                mTarget.print(sep);
+                mTarget.print(it.next());
+            }
+
+            mTarget.println(");");
+        }
+
+        return;
+    } // end of visit(SmcAction)
+
+    /**
+     * Emits Java code for this transition parameter.
+     * @param parameter emits Java code for this transition
+     * parameter.
+     */
+    @Override
+    public void visit(final SmcParameter parameter)
+    {
+        mTarget.print(parameter.getType());
+        mTarget.print(' ');
+        mTarget.print(parameter.getName());
+
+        return;
+    } // end of visit(SmcParameter)
+
+    //
+    // end of SmcVisitor Abstract Method Impelementation.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns the state identifiers keyed by
+     * "&lt;map&gt;_&lt;state&gt;". States are numbered in map
+     * order, as with {@code -java7}.
+     * @param fsm the FSM model.
+     * @return the state identifiers.
+     */
+    private static Map<String, Integer> stateIds(final SmcFSM fsm)
+    {
+        final Map<String, Integer> retval = new HashMap<>();
+
+        for (SmcMap map : fsm.getMaps())
+        {
+            for (SmcState state : map.getStates())
+            {
+                retval.put(
+                    map.getName() + "_" + state.getClassName(),
+                    retval.size());
+            }
+        }
+
+        return (retval);
+    } // end of stateIds(SmcFSM)
+
+    /**
+     * Returns the transition identifiers keyed by the parser's
+     * transition identifier. The Default transition is zero and
+     * the remaining transitions are numbered from one, as with
+     * {@code -java7}.
+     * @param fsm the FSM model.
+     * @return the transition identifiers.
+     */
+    private static Map<Integer, Integer> transitionIds(final SmcFSM fsm)
+    {
+        final Map<Integer, Integer> retval = new HashMap<>();
+        int transId = 1;
+
+        for (SmcTransition trans : fsm.getTransitions())
+        {
+            if (trans.getName().equals(DEFAULT_NAME))
+            {
+                retval.put(trans.getIdentifier(), 0);
+            }
+            else
+            {
+                retval.put(trans.getIdentifier(), transId);
+                ++transId;
+            }
+        }
+
+        return (retval);
+    } // end of transitionIds(SmcFSM)
+
+    /**
+     * Encodes the transition table. Each (state, transition)
+     * cell is resolved here, in the same order as
+     * {@code -java7}:
+     * <ol>
+     *   <li>
+     *     &lt;state&gt;::&lt;transition&gt;(parameters)
+     *   </li>
+     *   <li>
+     *     Default::&lt;transition&gt;(parameters)
+     *   </li>
+     *   <li>
+     *     &lt;state&gt;::Default()
+     *   </li>
+     *   <li>
+     *     Default::Default()
+     *   </li>
+     * </ol>
+     * The guards of each definition are appended to the cell's
+     * rows, guarded rows first, until a definition with an
+     * unguarded row is reached. An empty cell means the system
+     * default transition. Cells with the same rows share them.
+     * @param fsm the FSM model.
+     * @param states the states in identifier order.
+     * @param stateIds the state identifiers.
+     * @param transitionIds the transition identifiers.
+     * @param cells append the first row of each cell here.
+     * @param rows append the encoded rows here.
+     * @param stateActions append each state's entry and exit
+     * action here.
+     */
+    private void buildTable(final SmcFSM fsm,
+                            final List<SmcState> states,
+                            final Map<String, Integer> stateIds,
+                            final Map<Integer, Integer> transitionIds,
+                            final StringBuilder cells,
+                            final StringBuilder rows,
+                            final StringBuilder stateActions)
+    {
+        final List<SmcTransition> transitions =
+            fsm.getTransitions();
+        final Map<String, Integer> runs = new HashMap<>();
+        final List<SmcGuard> guards = new ArrayList<>();
+        final StringBuilder run = new StringBuilder();
+        SmcMap map;
+        SmcState defaultState;
+        Integer firstRow;
+        int index;
+
+        for (SmcState state : states)
+        {
+            map = state.getMap();
+            defaultState = map.getDefaultState();
+
+            // The Default transition cell is never used.
+            appendCell(cells, NONE);
+
+            for (SmcTransition trans : transitions)
+            {
+                if (trans.getName().equals(DEFAULT_NAME))
+                {
+                    continue;
+                }
+
+                guards.clear();
+                if (addGuards(
+                        guards,
+                        state.findTransition(
+                            trans.getName(),
+                            trans.getParameters())) == false &&
+                    addGuards(
+                        guards,
+                        findTransition(defaultState, trans)) == false &&
+                    addGuards(
+                        guards,
+                        state.findTransition(
+                            DEFAULT_NAME,
+                            DEFAULT_PARAMETERS)) == false)
+                {
+                    addGuards(
+                        guards,
+                        (defaultState == null ?
+                         null :
+                         defaultState.findTransition(
+                             DEFAULT_NAME, DEFAULT_PARAMETERS)));
+                }
+
+                run.setLength(0);
+                for (index = 0; index < guards.size(); ++index)
+                {
+                    appendRow(run,
+                              guards.get(index),
+                              map.getName(),
+                              stateIds,
+                              (index == (guards.size() - 1)));
+                }
+
+                if (run.length() == 0)
+                {
+                    appendCell(cells, NONE);
+                }
+                else
+                {
+                    firstRow = runs.get(run.toString());
+                    if (firstRow == null)
+                    {
+                        firstRow = (rows.length() / 5);
+                        runs.put(run.toString(), firstRow);
+                        rows.append(run);
+                    }
+
+                    appendCell(cells, firstRow);
+                }
+            }
+
+            appendValue(
+                stateActions,
+                actionId(state.getEntryActions(), null));
+            appendValue(
+                stateActions,
+                actionId(state.getExitActions(), null));
+        }
+
+        return;
+    } // end of buildTable(...)
+
+    /**
+     * Returns the map's Default state definition of
+     * {@code trans}, {@code null} if there is none.
+     * @param defaultState the map Default state. May be
+     * {@code null}.
+     * @param trans the issued transition.
+     * @return the Default state transition.
+     */
+    private static SmcTransition findTransition(final SmcState defaultState,
+                                                final SmcTransition trans)
+    {
+        return (defaultState == null ?
+                null :
+                defaultState.findTransition(
+                    trans.getName(), trans.getParameters()));
+    } // end of findTransition(SmcState, SmcTransition)
+
+    /**
+     * Adds the transition's guards to {@code guards}, the guards
+     * with a condition first in definition order and then the
+     * unguarded definition. Returns {@code true} if there is an
+     * unguarded definition, meaning that no further definitions
+     * are tried.
+     * @param guards add the guards to this list.
+     * @param trans the transition definition. May be
+     * {@code null}.
+     * @return {@code true} if {@code trans} has an unguarded
+     * definition.
+     */
+    private static boolean addGuards(final List<SmcGuard> guards,
+                                     final SmcTransition trans)
+    {
+        SmcGuard nullGuard = null;
+
+        if (trans != null)
+        {
+            for (SmcGuard guard : trans.getGuards())
+            {
+                if ((guard.getCondition()).isEmpty())
+                {
+                    nullGuard = guard;
+                }
+                else
+                {
+                    guards.add(guard);
+                }
+            }
+
+            if (nullGuard != null)
+            {
+                guards.add(nullGuard);
+            }
+        }
+
+        return (nullGuard != null);
+    } // end of addGuards(List<>, SmcTransition)
+
+    /**
+     * Appends the encoded guard row: flags, guard, action, end
+     * state and pushed state or pop action.
+     * @param run append the row to this run.
+     * @param guard the transition guard.
+     * @param mapName the transition is defined in this map.
+     * @param stateIds the state identifiers.
+     * @param lastFlag {@code true} if this is the run's last
+     * row.
+     */
+    private void appendRow(final StringBuilder run,
+                           final SmcGuard guard,
+                           final String mapName,
+                           final Map<String, Integer> stateIds,
+                           final boolean lastFlag)
+    {
+        final SmcTransition trans = guard.getTransition();
+        final TransType transType = guard.getTransType();
+        final String endStateName = guard.getEndState();
+        final String condition = guard.getCondition();
+        int type = SET_ROW;
+        int endStateId = NONE;
+        int stackId = NONE;
+
+        if (transType == TransType.TRANS_PUSH)
+        {
+            type = PUSH_ROW;
+            stackId =
+                stateIds.get(
+                    scopeStateName(
+                        guard.getPushState(), mapName, "_"));
+
+            // A push transition may move to another state before
+            // doing the push.
+            if (endStateName.endsWith(DEFAULT_NAME) == false &&
+                endStateName.endsWith(SmcElement.NIL_STATE) == false)
+            {
+                endStateId =
+                    stateIds.get(
+                        scopeStateName(endStateName, mapName, "_"));
+            }
+        }
+        else if (transType == TransType.TRANS_POP)
+        {
+            type = POP_ROW;
+
+            // The pop transition is issued as an action.
+            if (endStateName.isEmpty() == false &&
+                endStateName.equals(SmcElement.NIL_STATE) == false)
+            {
+                stackId =
+                    codeId(mActionIds,
+                           mActions,
+                           bindings(trans) +
+                               CASE_INDENT +
+                               endStateName +
+                               "(" +
+                               guard.getPopArgs() +
+                               ");" +
+                               System.lineSeparator());
+            }
+        }
+        else if (isLoopback(transType, endStateName) == false)
+        {
+            endStateId =
+                stateIds.get(
+                    scopeStateName(endStateName, mapName, "_"));
+        }
+
+        appendValue(run, (lastFlag ? (type | LAST_ROW) : type) - 1);
+        appendValue(
+            run,
+            (condition.isEmpty() ?
+             NONE :
+             codeId(mGuardIds,
+                    mGuards,
+                    bindings(trans) +
+                        CASE_INDENT +
+                        "retcode = (" +
+                        condition +
+                        ");" +
+                        System.lineSeparator())));
+        appendValue(run, actionId(guard.getActions(), trans));
+        appendValue(run, endStateId);
+        appendValue(run, stackId);
+
+        return;
+    } // end of appendRow(...)
+
+    /**
+     * Returns the action identifier for the given actions or
+     * {@link #NONE} if there are no actions.
+     * @param actions the transition, entry or exit actions. May
+     * be {@code null}.
+     * @param trans the actions are part of this transition. Will
+     * be {@code null} for entry and exit actions.
+     * @return the action identifier.
+     */
+    private int actionId(final List<SmcAction> actions,
+                         final SmcTransition trans)
+    {
+        int retval = NONE;
+
+        if (actions != null && actions.isEmpty() == false)
+        {
+            final ByteArrayOutputStream bytes =
+                new ByteArrayOutputStream();
+            final PrintStream target = mTarget;
+
+            mTarget = new PrintStream(bytes, true);
+            mIndent = CASE_INDENT;
+            for (SmcAction action : actions)
+            {
+                action.accept(this);
+            }
+            mTarget = target;
+
+            retval =
+                codeId(mActionIds,
+                       mActions,
+                       bindings(trans) + bytes.toString());
+        }
+
+        return (retval);
+    } // end of actionId(List<>, SmcTransition)
+
+    /**
+     * Returns the identifier of the given guard or action case
+     * body, adding the body if this is its first use.
+     * @param ids the existing identifiers.
+     * @param code the existing case bodies.
+     * @param body the case body.
+     * @return the case identifier.
+     */
+    private static int codeId(final Map<String, Integer> ids,
+                              final List<String> code,
+                              final String body)
+    {
+        Integer retval = ids.get(body);
+
+        if (retval == null)
+        {
+            retval = code.size();
+            ids.put(body, retval);
+            code.add(body);
+        }
+
+        return (retval);
+    } // end of codeId(Map<>, List<>, String)
+
+    /**
+     * Returns the local variable declarations binding the
+     * transition parameter names to the stored transition
+     * arguments. Returns an empty string if the transition has
+     * no parameters.
+     * @param trans the guard or action is part of this
+     * transition. May be {@code null}.
+     * @return the parameter bindings.
+     */
+    private static String bindings(final SmcTransition trans)
+    {
+        final StringBuilder retval = new StringBuilder();
+
+        if (trans != null && trans.getParameters().isEmpty() == false)
+        {
+            for (SmcParameter param : trans.getParameters())
+            {
+                retval.append(CASE_INDENT)
+                      .append(fieldType(param.getType()))
+                      .append(' ')
+                      .append(param.getName())
+                      .append(" = ")
+                      .append(argumentField(trans, param))
+                      .append(';')
+                      .append(System.lineSeparator());
+            }
+
+            retval.append(System.lineSeparator());
+        }
+
+        return (retval.toString());
+    } // end of bindings(SmcTransition)
+
+    /**
+     * Returns the name of the field storing the transition
+     * argument: "&lt;transition&gt;&lt;id&gt;_&lt;parameter&gt;".
+     * @param trans the transition.
+     * @param param the transition parameter.
+     * @return the argument field name.
+     */
+    private static String argumentField(final SmcTransition trans,
+                                        final SmcParameter param)
+    {
+        return (trans.getName() +
+                trans.getIdentifier() +
+                "_" +
+                param.getName());
+    } // end of argumentField(SmcTransition, SmcParameter)
+
+    /**
+     * Returns the parameter type without a leading
+     * {@code final} modifier.
+     * @param type the parameter type.
+     * @return the field type.
+     */
+    private static String fieldType(final String type)
+    {
+        final String modifier = "final ";
+
+        return (type.startsWith(modifier) ?
+                (type.substring(modifier.length())).trim() :
+                type);
+    } // end of fieldType(String)
+
+    /**
+     * Returns the reference type to which a boxed argument of
+     * the given type is cast. Primitive types are replaced by
+     * their wrapper class.
+     * @param type the parameter type.
+     * @return the reference type.
+     */
+    private static String boxedType(final String type)
+    {
+        String retval = type;
+
+        switch (type)
+        {
+            case "boolean":
+                retval = "Boolean";
+                break;
+
+            case "char":
+                retval = "Character";
+                break;
+
+            case "int":
+                retval = "Integer";
+                break;
+
+            case "byte":
+            case "short":
+            case "long":
+            case "float":
+            case "double":
+                retval =
+                    Character.toUpperCase(type.charAt(0)) +
+                    type.substring(1);
+                break;
+
+            default:
+                break;
+        }
+
+        return (retval);
+    } // end of boxedType(String)
+
+    /**
+     * Appends a (state, transition) cell's first row as two
+     * characters, high bits first, plus one.
+     * @param cells append to the cells.
+     * @param row the first row or {@link #NONE}.
+     */
+    private static void appendCell(final StringBuilder cells,
+                                   final int row)
+    {
+        cells.append((char) ((row + 1) >>> 16))
+             .append((char) (row + 1));
+
+        return;
+    } // end of appendCell(StringBuilder, int)
+
+    /**
+     * Appends {@code value} plus one as a single character.
+     * @param table append to this table.
+     * @param value the table value.
+     */
+    private static void appendValue(final StringBuilder table,
+                                    final int value)
+    {
+        table.append((char) (value + 1));
+
+        return;
+    } // end of appendValue(StringBuilder, int)
+
+    /**
+     * Writes the unmodifiable comment, optional user raw target,
+     * and the package name.
+     * @param fsm the parsed FSM model.
+     */
+    private void outputHeader(final SmcFSM fsm)
+    {
+        final String rawSource = fsm.getSource();
+        final String packageName = fsm.getPackage();
+
+        mTarget.println("/*");
+        mTarget.println(" * ex: set ro:");
+        mTarget.println(" * DO NOT EDIT.");
+        mTarget.println(" * generated by smc (http://smc.sourceforge.net/)");
+        mTarget.print(" * from file : ");
+        mTarget.print(mSrcfileBase);
+        mTarget.println(".sm");
+        mTarget.println(" */");
+        mTarget.println();
+
+        // Dump out the raw target code, if any.
+        if (rawSource != null && rawSource.length() > 0)
+        {
+            mTarget.println(rawSource);
+            mTarget.println();
+        }
+
+        // If a package has been specified, generate the
+        // package statement now.
+        if (packageName != null && packageName.length() > 0)
+        {
+            mTarget.print("package ");
+            mTarget.print(packageName);
+            mTarget.println(";");
+            mTarget.println();
+        }
+
+        return;
+    } // end of outputHeader(SmcFSM)
+
+    /**
+     * Writes the user-defined and required import statements.
+     * @param fsm FSM model.
+     */
+    private void outputImports(final SmcFSM fsm)
+    {
+        // Do user-specified imports now.
+        for (String imp: fsm.getImports())
+        {
+            mTarget.print("import ");
+            mTarget.print(imp);
+            mTarget.println(";");
+        }
+
+        // If serialization is on, then import the necessary
+        // java.io classes.
+        if (mSerialFlag)
+        {
+            mTarget.println("import java.io.IOException;");
+            mTarget.println("import java.io.ObjectInputStream;");
+            mTarget.println("import java.io.ObjectOutputStream;");
+            mTarget.println(
+                "import java.nio.BufferOverflowException;");
+            mTarget.println(
+                "import java.nio.BufferUnderflowException;");
+            mTarget.println("import java.nio.ByteBuffer;");
+        }
+
+        // The state stack is created when deserializing or, with
+        // -stack, preallocated by the constructor.
+        if (mSerialFlag ||
+            (mStateStackSize > 0 && mFlyweightFlag == false))
+        {
+            mTarget.println("import statemap.StateIdStack;");
+        }
+
+        // -flyweight contexts keep session states in a
+        // StateSlotStore.
+        if (mFlyweightFlag)
+        {
+            mTarget.println("import statemap.FlyweightFSMContext;");
+            mTarget.println("import statemap.StateSlotStore;");
+        }
+
+        if (mSerialFlag)
+        {
+            mTarget.println("import statemap.StateSnapshot;");
+        }
+
+        if (mFlyweightFlag == false)
+        {
+            mTarget.println("import statemap.TableFSMContext;");
+        }
+        mTarget.println("import statemap.TransitionTable;");
+        mTarget.println();
+
+        return;
+    } // end of outputImports(SmcFSM)
+
+    /**
+     * Writes the class declaration and opening brace.
+     * @param fsm FSM model.
+     */
+    private void outputClassDeclaration(final SmcFSM fsm)
+    {
+        mTarget.print(mAccessLevel);
+        mTarget.print(" class ");
+        mTarget.println(fsm.getFsmClassName());
+        mTarget.print("    extends ");
+        mTarget.println(
+            mFlyweightFlag ?
+            "FlyweightFSMContext" :
+            "TableFSMContext");
+
+        if (mSerialFlag)
+        {
+            mTarget.println("    implements StateSnapshot");
+        }
+
+        mTarget.println("{");
+
+        return;
+    } // end of outputClassDeclaration(SmcFSM)
+
+    /**
+     * Writes the constructors and various FSM methods.
+     * @param fsm FSM model.
+     */
+    private void outputMethods(final SmcFSM fsm)
+    {
+        mTarget.println(
+            "//---------------------------------------------------------------");
+        mTarget.println("// Member methods.");
+        mTarget.println("//");
+        mTarget.println();
+
+        // 5.1. Output the class constructors.
+        if (mFlyweightFlag)
+        {
+            outputFlyweightConstructors(fsm);
+        }
+        else
+        {
+            outputConstructors(fsm);
+        }
+
+        // 5.2. Output the owner get/set methods.
+        if (mSerialFlag)
+        {
+            outputGetSet(fsm.getContext());
+        }
+
+        // 5.3. Output the required guard(int) and action(int)
+        //      method overrides.
+        outputGuardsAndActions();
+
+        // 5.4. Output the transition interface methods.
+        outputTransitionApi(fsm);
+
+        // 5.4.1. -flyweight: output the session transition and
+        //        dispatch methods.
+        if (mFlyweightFlag)
+        {
+            outputSessionApi(fsm);
+        }
+
+        // 5.5. Output the Java serialization writeObject and
+        //      readObject methods and the StateSnapshot
+        //      methods, if serialization is on.
+        if (mSerialFlag)
+        {
+            outputSerializeMethods();
+            outputSnapshotMethods();
+        }
+
+        return;
+    } // end of outputMethods(SmcFSM)
+
+    /**
+     * Outputs the two FSM class constructors: the default start
+     * state constructor and the start state by identifier
+     * constructor.
+     * @param fsm the FSM model.
+     */
+    private void outputConstructors(final SmcFSM fsm)
+    {
+        final String context = fsm.getContext();
+        final String fsmClassName = fsm.getFsmClassName();
+        final String startState = fsm.getStartState();
+        final int index = startState.indexOf("::");
+
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // Constructors.");
+        mTarget.println("    //");
+        mTarget.println();
+
+        mTarget.print("    ");
+        mTarget.print(mAccessLevel);
+        mTarget.print(" ");
+        mTarget.print(fsmClassName);
+        mTarget.print("(final ");
+        mTarget.print(context);
+        mTarget.println(" owner)");
+        mTarget.println("    {");
+        mTarget.print("        this (owner, ");
+        mTarget.print(startState.substring(0, index));
+        mTarget.print("_");
+        mTarget.print(startState.substring(index + 2));
+        mTarget.print(STATE_ID_SUFFIX);
+        mTarget.println(");");
+        mTarget.println("    }");
+        mTarget.println();
+
+        mTarget.print("    ");
+        mTarget.print(mAccessLevel);
+        mTarget.print(" ");
+        mTarget.print(fsmClassName);
+        mTarget.print("(final ");
+        mTarget.print(context);
+        mTarget.println(" owner, final int initStateId)");
+        mTarget.println("    {");
+        mTarget.println("        super (sTable, initStateId);");
+        mTarget.println();
+        mTarget.println("        ctxt = owner;");
+
+        // -stack: preallocate the state stack.
+        if (mStateStackSize > 0)
+        {
+            mTarget.print(
+                "        mStateStack = new StateIdStack(");
+            mTarget.print(mStateStackSize);
+            mTarget.println(");");
+        }
+
+        mTarget.println("    }");
+        mTarget.println();
+
+        mTarget.println("    //");
+        mTarget.println("    // end of Constructors.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        return;
+    } // end of outputConstructors(SmcFSM)
+
+    /**
+     * Outputs the -flyweight FSM class constructors: the
+     * default start state constructor and the start state by
+     * identifier constructor, both taking the session slot
+     * store, and the private cursor constructor. Then outputs the
+     * {@code newCursor()} method creating the cursors.
+     * @param fsm the FSM model.
+     */
+    private void outputFlyweightConstructors(final SmcFSM fsm)
+    {
+        final String context = fsm.getContext();
+        final String fsmClassName = fsm.getFsmClassName();
+        final String startState = fsm.getStartState();
+        final int index = startState.indexOf("::");
+
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // Constructors.");
+        mTarget.println("    //");
+        mTarget.println();
+
+        mTarget.print("    ");
+        mTarget.print(mAccessLevel);
+        mTarget.print(" ");
+        mTarget.print(fsmClassName);
+        mTarget.print("(final ");
+        mTarget.print(context);
+        mTarget.println(" owner, final StateSlotStore store)");
+        mTarget.println("    {");
+        mTarget.print("        this (owner, store, ");
+        mTarget.print(startState.substring(0, index));
+        mTarget.print("_");
+        mTarget.print(startState.substring(index + 2));
+        mTarget.print(STATE_ID_SUFFIX);
+        mTarget.println(");");
+        mTarget.println("    }");
+        mTarget.println();
+
+        mTarget.print("    ");
+        mTarget.print(mAccessLevel);
+        mTarget.print(" ");
+        mTarget.print(fsmClassName);
+        mTarget.print("(final ");
+        mTarget.print(context);
+        mTarget.println(" owner,");
+        mTarget.println("        final StateSlotStore store,");
+        mTarget.println("        final int startStateId)");
+        mTarget.println("    {");
+        mTarget.println("        super (sTable, store, startStateId);");
+        mTarget.println();
+        mTarget.println("        ctxt = owner;");
+        mTarget.println("    }");
+        mTarget.println();
+
+        // Transitions are interpreted on a cursor which shares
+        // the owner.
+        mTarget.print("    private ");
+        mTarget.print(fsmClassName);
+        mTarget.print("(final ");
+        mTarget.print(fsmClassName);
+        mTarget.println(" shared)");
+        mTarget.println("    {");
+        mTarget.println("        super (shared);");
+        mTarget.println();
+        mTarget.println("        ctxt = shared.ctxt;");
+        mTarget.println("    }");
+        mTarget.println();
+
+        mTarget.println("    //");
+        mTarget.println("    // end of Constructors.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        mTarget.println("    @Override");
+        mTarget.println("    protected FlyweightFSMContext newCursor()");
+        mTarget.println("    {");
+        mTarget.print("        return (new ");
+        mTarget.print(fsmClassName);
+        mTarget.println("(this));");
+        mTarget.println("    }");
+        mTarget.println();
+
+        return;
+    } // end of outputFlyweightConstructors(SmcFSM)
+
+    /**
+     * Writes the owner get and set methods requested by the
+     * -serial flag.
+     * @param context context class name.
+     */
+    private void outputGetSet(final String context)
+    {
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // Get Methods.");
+        mTarget.println("    //");
+        mTarget.println();
+        mTarget.print("    public ");
+        mTarget.print(context);
+        mTarget.println(" getOwner()");
+        mTarget.println("    {");
+        mTarget.println("        return (ctxt);");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    //");
+        mTarget.println("    // end of Get Methods.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // Set Methods.");
+        mTarget.println("    //");
+        mTarget.println();
+        mTarget.print("    public void setOwner(");
+        mTarget.print(context);
+        mTarget.println(" owner)");
+        mTarget.println("    {");
+        mTarget.println("        if (owner == null)");
+        mTarget.println("        {");
+        mTarget.println("            throw (new NullPointerException(\"null owner\"));");
+        mTarget.println("        }");
+        mTarget.println("        else");
+        mTarget.println("        {");
+        mTarget.println("            ctxt = owner;");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    //");
+        mTarget.println("    // end of Set Methods.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        return;
+    } // end of outputGetSet(String)
+
+    /**
+     * Writes the required abstract method overrides
+     * {@code guard} and {@code action}.
+     */
+    private void outputGuardsAndActions()
+    {
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // TableFSMContext Abstract Method Override.");
+        mTarget.println("    //");
+        mTarget.println();
+
+        outputSwitch("guard", mGuards);
+        outputSwitch("action", mActions);
+
+        mTarget.println("    //");
+        mTarget.println("    // end of TableFSMContext Abstract Method Override.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        return;
+    } // end of outputGuardsAndActions()
+
+    /**
+     * Writes the {@code guard(int)} or {@code action(int)}
+     * method override. If there are more than
+     * 2<sup>{@link #CASE_SHIFT}</sup> cases, then the override
+     * passes the identifier to one of several private methods,
+     * each switching on a range of identifiers.
+     * @param name "guard" or "action".
+     * @param cases the case bodies indexed by identifier.
+     */
+    private void outputSwitch(final String name,
+                              final List<String> cases)
+    {
+        final int methodCount =
+            ((cases.size() - 1) >> CASE_SHIFT) + 1;
+        final boolean guardFlag = name.equals("guard");
+        int method;
+
+        if (cases.size() <= (1 << CASE_SHIFT))
+        {
+            outputSwitchMethod(name, "", guardFlag, cases);
+        }
+        else
+        {
+            outputSwitchMethodStart(name, "", guardFlag);
+            mTarget.print("        switch (");
+            mTarget.print(name);
+            mTarget.print("Id >> ");
+            mTarget.print(CASE_SHIFT);
+            mTarget.println(")");
+            mTarget.println("        {");
+
+            for (method = 0; method < methodCount; ++method)
+            {
+                mTarget.print("            case ");
+                mTarget.print(method);
+                mTarget.println(":");
+                mTarget.print("                ");
+                mTarget.print(guardFlag ? "retcode = " : "");
+                mTarget.print(name);
+                mTarget.print(method);
+                mTarget.print("(");
+                mTarget.print(name);
+                mTarget.println("Id);");
+                mTarget.println("                break;");
+                mTarget.println();
+            }
+
+            outputSwitchMethodEnd(guardFlag);
+
+            for (method = 0; method < methodCount; ++method)
+            {
+                outputSwitchMethod(
+                    name,
+                    Integer.toString(method),
+                    guardFlag,
+                    cases.subList(
+                        method << CASE_SHIFT,
+                        Math.min(
+                            (method + 1) << CASE_SHIFT,
+                            cases.size())));
+            }
+        }
+
+        return;
+    } // end of outputSwitch(String, List<>)
+
+    /**
+     * Writes a method switching on the guard or action
+     * identifier.
+     * @param name "guard" or "action".
+     * @param suffix the private method number or an empty
+     * string for the override.
+     * @param guardFlag {@code true} if this is a guard method.
+     * @param cases the case bodies.
+     */
+    private void outputSwitchMethod(final String name,
+                                    final String suffix,
+                                    final boolean guardFlag,
+                                    final List<String> cases)
+    {
+        final int firstId =
+            (suffix.isEmpty() ?
+             0 :
+             Integer.parseInt(suffix) << CASE_SHIFT);
+        int caseId = firstId;
+
+        outputSwitchMethodStart(name, suffix, guardFlag);
+        mTarget.print("        switch (");
+        mTarget.print(name);
+        mTarget.println("Id)");
+        mTarget.println("        {");
+
+        for (String body : cases)
+        {
+            mTarget.print("            case ");
+            mTarget.print(caseId);
+            mTarget.println(":");
+
+            // Transition arguments are bound to local variables
+            // and so need their own scope.
+            if (isBound(body) == false)
+            {
+                mTarget.print(body);
+                mTarget.println("                break;");
+            }
+            else
+            {
+                mTarget.println("            {");
+                mTarget.print(body);
+                mTarget.println("                break;");
+                mTarget.println("            }");
+            }
+
+            mTarget.println();
+            ++caseId;
+        }
+
+        outputSwitchMethodEnd(guardFlag);
+
+        return;
+    } // end of outputSwitchMethod(String, String, boolean, List<>)
+
+    /**
+     * Returns {@code true} if the case body starts with the
+     * transition parameter bindings.
+     * @param body the case body.
+     * @return {@code true} if the body declares local
+     * variables.
+     */
+    private static boolean isBound(final String body)
+    {
+        final String lineSeparator = System.lineSeparator();
+
+        return (body.contains(lineSeparator + lineSeparator));
+    } // end of isBound(String)
+
+    /**
+     * Writes the switch method declaration and opening brace.
+     * @param name "guard" or "action".
+     * @param suffix the private method number or an empty
+     * string for the override.
+     * @param guardFlag {@code true} if this is a guard method.
+     */
+    private void outputSwitchMethodStart(final String name,
+                                         final String suffix,
+                                         final boolean guardFlag)
+    {
+        if (suffix.isEmpty())
+        {
+            mTarget.println("    @Override");
+            mTarget.print("    protected ");
+        }
+        else
+        {
+            mTarget.print("    private ");
+        }
+
+        mTarget.print(guardFlag ? "boolean " : "void ");
+        mTarget.print(name);
+        mTarget.print(suffix);
+        mTarget.print("(final int ");
+        mTarget.print(name);
+        mTarget.println("Id)");
+        mTarget.println("    {");
+
+        if (guardFlag)
+        {
+            mTarget.println("        boolean retcode = false;");
+            mTarget.println();
+        }
+
+        return;
+    } // end of outputSwitchMethodStart(String, String, boolean)
+
+    /**
+     * Writes the switch default case, closing brace and method
+     * return.
+     * @param guardFlag {@code true} if this is a guard method.
+     */
+    private void outputSwitchMethodEnd(final boolean guardFlag)
+    {
+        mTarget.println("            default:");
+        mTarget.println("                break;");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println(
+            guardFlag ? "        return (retcode);" : "        return;");
+        mTarget.println("    }");
+        mTarget.println();
+
+        return;
+    } // end of outputSwitchMethodEnd(boolean)
+
+    /**
+     * Writes the transition API methods. The owner context
+     * instance calls these methods to issue transitions. Each
+     * method stores its arguments in the transition's argument
+     * fields, restoring the previous values on return so that a
+     * transition issued from an action does not overwrite the
+     * arguments of the transition in progress.
+     * <p>
+     * A -flyweight transition method applies to the session the
+     * calling thread is dispatching. The arguments are stored in
+     * and the transition is interpreted by that session's
+     * cursor.
+     * </p>
+     * @param fsm the FSM model.
+     */
+    private void outputTransitionApi(final SmcFSM fsm)
+    {
+        final String fsmClassName = fsm.getFsmClassName();
+        final String target = (mFlyweightFlag ? "cursor." : "");
+        List<SmcParameter> params;
+        String transName;
+        String field;
+        String sep;
+
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // Transitions.");
+        mTarget.println("    //");
+        mTarget.println();
+
+        for (SmcTransition trans: fsm.getTransitions())
+        {
+            transName = trans.getName();
+
+            // The Default transition cannot be issued.
+            if (transName.equals(DEFAULT_NAME))
+            {
+                continue;
+            }
+
+            params = trans.getParameters();
+
+            mTarget.print("    public ");
+
+            // If the -sync flag was specified, then output
+            // the "synchronized" keyword.
+            if (mSyncFlag)
+            {
+                mTarget.print("synchronized ");
+            }
+
+            mTarget.print("void ");
+            mTarget.print(transName);
+            mTarget.print("(");
+
+            sep = "";
+            for (SmcParameter param : params)
+            {
+                mTarget.print(sep);
+                param.accept(this);
+
+                sep = ", ";
+            }
+            mTarget.println(")");
+            mTarget.println("    {");
+
+            if (mFlyweightFlag)
+            {
+                mTarget.print("        final ");
+                mTarget.print(fsmClassName);
+                mTarget.print(" cursor = (");
+                mTarget.print(fsmClassName);
+                mTarget.println(") cursor();");
+                mTarget.println();
+            }
+
+            if (params.isEmpty())
+            {
+                outputTransitionCall(trans, target, "        ");
+            }
+            else
+            {
+                for (SmcParameter param : params)
+                {
+                    field = argumentField(trans, param);
+
+                    mTarget.print("        final ");
+                    mTarget.print(fieldType(param.getType()));
+                    mTarget.print(" ");
+                    mTarget.print(field);
+                    mTarget.print(SAVED_SUFFIX);
+                    mTarget.print(" = ");
+                    mTarget.print(target);
+                    mTarget.print(field);
+                    mTarget.println(";");
+                }
+                mTarget.println();
+
+                for (SmcParameter param : params)
+                {
+                    mTarget.print("        ");
+                    mTarget.print(target);
+                    mTarget.print(argumentField(trans, param));
+                    mTarget.print(" = ");
+                    mTarget.print(param.getName());
+                    mTarget.println(";");
+                }
+
+                mTarget.println("        try");
+                mTarget.println("        {");
+                outputTransitionCall(trans, target, "            ");
+                mTarget.println("        }");
+                mTarget.println("        finally");
+                mTarget.println("        {");
+
+                for (SmcParameter param : params)
+                {
+                    field = argumentField(trans, param);
+
+                    mTarget.print("            ");
+                    mTarget.print(target);
+                    mTarget.print(field);
+                    mTarget.print(" = ");
+                    mTarget.print(field);
+                    mTarget.print(SAVED_SUFFIX);
+                    mTarget.println(";");
+                }
+
+                mTarget.println("        }");
+            }
+
+            mTarget.println();
+            mTarget.println("        return;");
+            mTarget.println("    }");
+            mTarget.println();
+        }
+
+        mTarget.println("    //");
+        mTarget.println("    // end of Transitions.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        return;
+    } // end of outputTransitionApi(SmcFSM)
+
+    /**
+     * Writes the call interpreting the given transition.
+     * @param trans the issued transition.
+     * @param target the interpreting instance followed by a
+     * period or an empty string for {@code this}.
+     * @param indent the statement indent.
+     */
+    private void outputTransitionCall(final SmcTransition trans,
+                                      final String target,
+                                      final String indent)
+    {
+        mTarget.print(indent);
+        mTarget.print(target);
+        mTarget.print("transition(");
+        mTarget.print(trans.getName());
+        mTarget.print(trans.getIdentifier());
+        mTarget.print(TRANSITION_ID_SUFFIX);
+        mTarget.println(");");
+
+        return;
+    } // end of outputTransitionCall(SmcTransition, String, String)
+
+    /**
+     * Writes the -flyweight session methods. Each transition
+     * has a method taking the session index followed by the
+     * transition arguments, which loads the session into a
+     * cursor, issues the transition on the cursor and stores the
+     * session. The
+     * {@code dispatch(int, int, Object...)} method does the same
+     * for a transition identifier and boxed arguments.
+     * @param fsm the FSM model.
+     */
+    private void outputSessionApi(final SmcFSM fsm)
+    {
+        final String fsmClassName = fsm.getFsmClassName();
+        final List<SmcTransition> transitions = new ArrayList<>();
+        boolean uncheckedFlag = false;
+        List<SmcParameter> params;
+        String sep;
+        int index;
+
+        for (SmcTransition trans : fsm.getTransitions())
+        {
+            if ((trans.getName()).equals(DEFAULT_NAME) == false)
+            {
+                transitions.add(trans);
+
+                for (SmcParameter param : trans.getParameters())
+                {
+                    uncheckedFlag |=
+                        (param.getType()).indexOf('<') >= 0;
+                }
+            }
+        }
+
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // Session Transitions.");
+        mTarget.println("    //");
+        mTarget.println();
+
+        for (SmcTransition trans : transitions)
+        {
+            params = trans.getParameters();
+
+            mTarget.print("    public ");
+            if (mSyncFlag)
+            {
+                mTarget.print("synchronized ");
+            }
+            mTarget.print("void ");
+            mTarget.print(trans.getName());
+            mTarget.print("(final int sessionIndex");
+
+            for (SmcParameter param : params)
+            {
+                mTarget.print(", ");
+                param.accept(this);
+            }
+            mTarget.println(")");
+            mTarget.println("    {");
+            outputCursorLoad(fsmClassName);
+            mTarget.println("        try");
+            mTarget.println("        {");
+            mTarget.print("            cursor.");
+            mTarget.print(trans.getName());
+            mTarget.print("(");
+
+            sep = "";
+            for (SmcParameter param : params)
+            {
+                mTarget.print(sep);
+                mTarget.print(param.getName());
+
+                sep = ", ";
+            }
+            mTarget.println(");");
+            mTarget.println("        }");
+            mTarget.println("        finally");
+            mTarget.println("        {");
+            mTarget.println("            unload(cursor);");
+            mTarget.println("        }");
+            mTarget.println();
+            mTarget.println("        return;");
+            mTarget.println("    }");
+            mTarget.println();
+        }
+
+        // Primitive arguments are passed boxed to dispatch.
+        if (uncheckedFlag)
+        {
+            mTarget.println("    @SuppressWarnings(\"unchecked\")");
+        }
+        mTarget.print("    public ");
+        if (mSyncFlag)
+        {
+            mTarget.print("synchronized ");
+        }
+        mTarget.println("void dispatch(final int sessionIndex,");
+        mTarget.print("                         ");
+        if (mSyncFlag)
+        {
+            mTarget.print("             ");
+        }
+        mTarget.println("final int transitionId,");
+        mTarget.print("                         ");
+        if (mSyncFlag)
+        {
+            mTarget.print("             ");
+        }
+        mTarget.println("final Object... args)");
+        mTarget.println("    {");
+        outputCursorLoad(fsmClassName);
+        mTarget.println("        try");
+        mTarget.println("        {");
+        mTarget.println("            switch (transitionId)");
+        mTarget.println("            {");
+
+        for (SmcTransition trans : transitions)
+        {
+            mTarget.print("                case ");
+            mTarget.print(trans.getName());
+            mTarget.print(trans.getIdentifier());
+            mTarget.print(TRANSITION_ID_SUFFIX);
+            mTarget.println(":");
+            mTarget.print("                    cursor.");
+            mTarget.print(trans.getName());
+            mTarget.print("(");
+
+            index = 0;
+            for (SmcParameter param : trans.getParameters())
+            {
+                if (index > 0)
+                {
+                    mTarget.print(", ");
+                }
+
+                mTarget.print("(");
+                mTarget.print(boxedType(fieldType(param.getType())));
+                mTarget.print(") args[");
+                mTarget.print(index);
+                mTarget.print("]");
+
+                ++index;
+            }
+            mTarget.println(");");
+            mTarget.println("                    break;");
+            mTarget.println();
+        }
+
+        mTarget.println("                default:");
+        mTarget.println("                    throw (");
+        mTarget.println(
+            "                        new IllegalArgumentException(");
+        mTarget.println(
+            "                            \"invalid transition identifier \" +");
+        mTarget.println(
+            "                            transitionId));");
+        mTarget.println("            }");
+        mTarget.println("        }");
+        mTarget.println("        finally");
+        mTarget.println("        {");
+        mTarget.println("            unload(cursor);");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+
+        mTarget.println("    //");
+        mTarget.println("    // end of Session Transitions.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        return;
+    } // end of outputSessionApi(SmcFSM)
+
+    /**
+     * Writes the statement loading the session into a cursor.
+     * @param fsmClassName the FSM class name.
+     */
+    private void outputCursorLoad(final String fsmClassName)
+    {
+        mTarget.print("        final ");
+        mTarget.print(fsmClassName);
+        mTarget.print(" cursor = (");
+        mTarget.print(fsmClassName);
+        mTarget.println(") load(sessionIndex);");
+        mTarget.println();
+
+        return;
+    } // end of outputCursorLoad(String)
+
+    /**
+     * Writes the writeObject() and readObject() methods.
+     */
+    private void outputSerializeMethods()
+    {
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // Serialization Methods.");
+        mTarget.println("    //");
+        mTarget.println();
+
+        mTarget.println(
+            "    private void writeObject(final ObjectOutputStream ostream)");
+        mTarget.println("        throws IOException");
+        mTarget.println("    {");
+        mTarget.println(
+            "        final int size =");
+        mTarget.println(
+            "            (mStateStack == null ? 0 : mStateStack.size());");
+        mTarget.println("        int i;");
+        mTarget.println();
+        mTarget.println(
+            "        ostream.writeInt(size);");
+        mTarget.println();
+        mTarget.println(
+            "        // Write the state stack from top to bottom.");
+        mTarget.println(
+            "        for (i = (size - 1); i >= 0; --i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            ostream.writeInt(mStateStack.get(i));");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println(
+            "        ostream.writeInt(mStateId);");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    private void readObject(final ObjectInputStream istream)");
+        mTarget.println(
+            "        throws IOException");
+        mTarget.println("    {");
+        mTarget.println(
+            "        final int size = istream.readInt();");
+        mTarget.println(
+            "        final int[] stateIds = new int[size];");
+        mTarget.println("        int i;");
+        mTarget.println();
+        mTarget.println(
+            "        for (i = 0; i < size; ++i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            stateIds[i] = istream.readInt();");
+        mTarget.println("        }");
+        mTarget.println();
+
+        // -stack: the stack is always preallocated.
+        if (mStateStackSize > 0)
+        {
+            mTarget.print(
+                "        mStateStack = new StateIdStack(");
+            mTarget.print(mStateStackSize);
+            mTarget.println(");");
+        }
+        else
+        {
+            mTarget.println(
+                "        mStateStack =");
+            mTarget.println(
+                "            (size == 0 ? null : new StateIdStack(size));");
+        }
+
+        mTarget.println();
+        mTarget.println(
+            "        // The stack was written from top to bottom.");
+        mTarget.println(
+            "        for (i = (size - 1); i >= 0; --i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            mStateStack.push(stateIds[i]);");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        mTable = sTable;");
+        mTarget.println(
+            "        mStateId = istream.readInt();");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+
+        mTarget.println("    //");
+        mTarget.println("    // end of Serialization Methods.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        return;
+    } // end of outputSerializeMethods()
+
+    /**
+     * Writes the {@code statemap.StateSnapshot} methods which
+     * write and read the state identifiers and state stack
+     * to and from a {@code ByteBuffer}.
+     */
+    private void outputSnapshotMethods()
+    {
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println(
+            "    // StateSnapshot Interface Implementation.");
+        mTarget.println("    //");
+        mTarget.println();
+        mTarget.println("    @Override");
+        mTarget.println("    public long getSchemaHash()");
+        mTarget.println("    {");
+        mTarget.println("        return (SCHEMA_HASH);");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    @Override");
+        mTarget.println("    public int snapshotSize()");
+        mTarget.println("    {");
+        mTarget.println("        return (HEADER_SIZE +");
+        mTarget.println(
+            "                (4 * (mStateStack == null ? 0 : mStateStack.size())));");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    @Override");
+        mTarget.println(
+            "    public void writeTo(final ByteBuffer buffer)");
+        mTarget.println("    {");
+        mTarget.println("        final int size =");
+        mTarget.println(
+            "            (mStateStack == null ? 0 : mStateStack.size());");
+        mTarget.println("        int i;");
+        mTarget.println();
+        mTarget.println(
+            "        // Check for room first so that a partial snapshot is");
+        mTarget.println("        // never written.");
+        mTarget.println(
+            "        if (buffer.remaining() < (HEADER_SIZE + (4 * size)))");
+        mTarget.println("        {");
+        mTarget.println(
+            "            throw (new BufferOverflowException());");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        buffer.putLong(SCHEMA_HASH);");
+        mTarget.println("        buffer.putInt(mStateId);");
+        mTarget.println("        buffer.putInt(mPreviousStateId);");
+        mTarget.println("        buffer.putInt(size);");
+        mTarget.println();
+        mTarget.println(
+            "        // Write the state stack from bottom to top.");
+        mTarget.println("        for (i = 0; i < size; ++i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            buffer.putInt(mStateStack.get(i));");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    @Override");
+        mTarget.println(
+            "    public void readFrom(final ByteBuffer buffer)");
+        mTarget.println("    {");
+        mTarget.println(
+            "        final int position = buffer.position();");
+        mTarget.println("        final int stateId;");
+        mTarget.println("        final int previousStateId;");
+        mTarget.println("        final int size;");
+        mTarget.println("        int i;");
+        mTarget.println();
+        mTarget.println(
+            "        if (buffer.remaining() < HEADER_SIZE)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            throw (new BufferUnderflowException());");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        if (buffer.getLong() != SCHEMA_HASH)");
+        mTarget.println("        {");
+        mTarget.println("            buffer.position(position);");
+        mTarget.println("            throw (");
+        mTarget.println(
+            "                new IllegalArgumentException(");
+        mTarget.println(
+            "                    \"FSM schema hash mismatch\"));");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        stateId = buffer.getInt();");
+        mTarget.println("        previousStateId = buffer.getInt();");
+        mTarget.println("        size = buffer.getInt();");
+        mTarget.println();
+        mTarget.println(
+            "        // Check the whole stack is there before changing state.");
+        mTarget.println(
+            "        if (size < 0 || buffer.remaining() < (4 * size))");
+        mTarget.println("        {");
+        mTarget.println("            buffer.position(position);");
+        mTarget.println(
+            "            throw (new BufferUnderflowException());");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        mStateId = stateId;");
+        mTarget.println("        mPreviousStateId = previousStateId;");
+        mTarget.println();
+        mTarget.println("        if (mStateStack != null)");
+        mTarget.println("        {");
+        mTarget.println("            mStateStack.clear();");
+        mTarget.println("        }");
+        mTarget.println("        else if (size > 0)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            mStateStack = new StateIdStack(size);");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        for (i = 0; i < size; ++i)");
+        mTarget.println("        {");
+        mTarget.println(
+            "            mStateStack.push(buffer.getInt());");
+        mTarget.println("        }");
+        mTarget.println();
+        mTarget.println("        return;");
+        mTarget.println("    }");
+        mTarget.println();
+        mTarget.println("    //");
+        mTarget.println(
+            "    // end of StateSnapshot Interface Implementation.");
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println();
+
+        return;
+    } // end of outputSnapshotMethods()
+
+    /**
+     * Outputs the instance and class data members.
+     * @param fsm the FSM model.
+     * @param states the states in identifier order.
+     * @param cells the encoded transition cells.
+     * @param rows the encoded transition rows.
+     * @param stateActions the encoded state entry and exit
+     * actions.
+     */
+    private void outputData(final SmcFSM fsm,
+                            final List<SmcState> states,
+                            final String cells,
+                            final String rows,
+                            final String stateActions)
+    {
+        final StringBuilder stateNames = new StringBuilder();
+        final StringBuilder transitionNames = new StringBuilder();
+        String sep = "";
+
+        // 6.1. Declare member data.
+        mTarget.println(
+            "//---------------------------------------------------------------");
+        mTarget.println("// Member data.");
+        mTarget.println("//");
+        mTarget.println();
+        mTarget.print("    transient private ");
+        mTarget.print(fsm.getContext());
+        mTarget.println(" ctxt;");
+
+        // 6.2. Declare the transition argument fields.
+        outputArgumentFields(fsm);
+
+        // 6.3. Declare the class constants.
+        mTarget.println();
+        mTarget.println(
+            "    //-----------------------------------------------------------");
+        mTarget.println("    // Constants.");
+        mTarget.println("    //");
+        mTarget.println();
+        mTarget.println(
+            "    private static final long serialVersionUID = 1L;");
+        mTarget.println();
+
+        // -serial: snapshots are restored only into FSMs with
+        // the same states.
+        if (mSerialFlag)
+        {
+            mTarget.println(
+                "    private static final long SCHEMA_HASH =");
+            mTarget.print("        ");
+            mTarget.print(String.format("0x%016xL", schemaHash(fsm)));
+            mTarget.println(";");
+            mTarget.println();
+        }
+
+        // 6.3.1. Output the state identifiers.
+        for (SmcState state : states)
+        {
+            mTarget.print("    ");
+            mTarget.print(mAccessLevel);
+            mTarget.print(" static final int ");
+            mTarget.print((state.getMap()).getName());
+            mTarget.print("_");
+            mTarget.print(state.getClassName());
+            mTarget.print(STATE_ID_SUFFIX);
+            mTarget.print(" = ");
+            mTarget.print(stateNames.length() == 0 ?
+                          0 :
+                          countNames(stateNames));
+            mTarget.println(";");
+
+            stateNames.append(sep)
+                      .append((state.getMap()).getName())
+                      .append('.')
+                      .append(state.getClassName());
+            sep = String.valueOf(NAME_SEPARATOR);
+        }
+        mTarget.println();
+
+        // 6.3.2. Output the transition identifiers.
+        transitionNames.append(DEFAULT_NAME);
+        for (SmcTransition trans : fsm.getTransitions())
+        {
+            if (trans.getName().equals(DEFAULT_NAME) == false)
+            {
+                // -flyweight: the identifiers are passed to
+                // dispatch.
+                mTarget.print("    ");
+                mTarget.print(
+                    mFlyweightFlag ? mAccessLevel : "private");
+                mTarget.print(" static final int ");
+                mTarget.print(trans.getName());
+                mTarget.print(trans.getIdentifier());
+                mTarget.print(TRANSITION_ID_SUFFIX);
+                mTarget.print(" = ");
+                mTarget.print(countNames(transitionNames));
+                mTarget.println(";");
+
+                transitionNames.append(NAME_SEPARATOR)
+                               .append(trans.getName());
+            }
+        }
+        mTarget.println();
+
+        // 6.3.3. Output the packed transition table.
+        outputPackedArray("STATE_NAMES", stateNames.toString());
+        outputPackedArray(
+            "TRANSITION_NAMES", transitionNames.toString());
+        outputPackedArray("TRANSITIONS", cells);
+        outputPackedArray("ROWS", rows);
+        outputPackedArray("STATE_ACTIONS", stateActions);
+
+        // 6.3.4. Output the decoded transition table. This must
+        //        follow the packed arrays.
+        mTarget.println(
+            "    private static final TransitionTable sTable =");
+        mTarget.println("        new TransitionTable(STATE_NAMES,");
+        mTarget.println("                            TRANSITION_NAMES,");
+        mTarget.println("                            TRANSITIONS,");
+        mTarget.println("                            ROWS,");
+        mTarget.println("                            STATE_ACTIONS,");
+        mTarget.print("                            ");
+        mTarget.print(mDebugLevel);
+        mTarget.println(");");
+
+        return;
+    } // end of outputData(...)
+
+    /**
+     * Returns the number of names in the separated name list.
+     * @param names the separated names.
+     * @return the name count.
+     */
+    private static int countNames(final StringBuilder names)
+    {
+        int index;
+        int retval = 1;
+
+        for (index = 0; index < names.length(); ++index)
+        {
+            if (names.charAt(index) == NAME_SEPARATOR)
+            {
+                ++retval;
+            }
+        }
+
+        return (retval);
+    } // end of countNames(StringBuilder)
+
+    /**
+     * Writes the transition argument fields. Each transition
+     * parameter has a field which the guards and actions read.
+     * @param fsm the FSM model.
+     */
+    private void outputArgumentFields(final SmcFSM fsm)
+    {
+        boolean firstFlag = true;
+
+        for (SmcTransition trans : fsm.getTransitions())
+        {
+            for (SmcParameter param : trans.getParameters())
+            {
+                if (firstFlag)
+                {
+                    mTarget.println();
+                    mTarget.println(
+                        "    //-----------------------------------------------------------");
+                    mTarget.println("    // Transition arguments.");
+                    mTarget.println("    //");
+                    mTarget.println();
+
+                    firstFlag = false;
+                }
+
+                mTarget.print("    transient private ");
+                mTarget.print(fieldType(param.getType()));
+                mTarget.print(" ");
+                mTarget.print(argumentField(trans, param));
+                mTarget.println(";");
+            }
+        }
+
+        return;
+    } // end of outputArgumentFields(SmcFSM)
+
+    /**
+     * Writes a private static final string array containing
+     * {@code value} split into {@link #CHUNK_LENGTH} character
+     * chunks, one chunk per line.
+     * @param name the array name.
+     * @param value the packed value.
+     */
+    private void outputPackedArray(final String name,
+                                   final String value)
+    {
+        String sep = "";
+        int start;
+        int index;
+        char c;
+
+        mTarget.print("    private static final String[] ");
+        mTarget.print(name);
+        mTarget.println(" =");
+        mTarget.print("    {");
+
+        for (start = 0;
+             start < value.length() || start == 0;
+             start += CHUNK_LENGTH)
+        {
+            mTarget.println(sep);
+            mTarget.print("        \"");
+
+            for (index = start;
+                 index < value.length() &&
+                     index < (start + CHUNK_LENGTH);
+                 ++index)
+            {
+                c = value.charAt(index);
+
+                // Octal escapes are used below 256 since a
+                // Unicode escape for a line terminator, quote or
+                // backslash is not a valid string literal
+                // character. Octal escapes are three digits so
+                // that a following digit is not taken as part
+                // of the escape.
+                if (c >= ' ' && c <= '~' && c != '"' && c != '\\')
+                {
+                    mTarget.print(c);
+                }
+                else if (c < 256)
+                {
+                    mTarget.format("\\%03o", (int) c);
+                }
+                else
+                {
+                    mTarget.format("\\u%04x", (int) c);
+                }
+            }
+
+            mTarget.print("\"");
+
+            sep = ",";
+        }
+
+        mTarget.println();
+        mTarget.println("    };");
+        mTarget.println();
+
+        return;
+    } // end of outputPackedArray(String, String)
+
+    /**
+     * Writes the class closing brace and ending read-only
+     * comment block.
+     */
+    private void outputFooter()
+    {
+        mTarget.println("}");
+
+        mTarget.println();
+        mTarget.println("/*");
+        mTarget.println(" * Local variables:");
+        mTarget.println(" *  buffer-read-only: t");
+        mTarget.println(" * End:");
+        mTarget.println(" */");
+
+        return;
+    } // end of outputFooter()
+} // end of class SmcJavaTableGenerator
@@ -492,7 +492,7 @@ public final class SmcLuaGenerator
         mTarget.print('.');
         mTarget.print(stateName);
         mTarget.print("', ");
-        mTarget.print(SmcMap.getNextStateId());
+        mTarget.print(map.getFSM().getNextStateId());
         mTarget.println(")");
 
         // Add the Entry() and Exit() member functions if this
@@ -226,7 +226,7 @@ public final class SmcObjCGenerator
                 mTarget.print("::");
                 mTarget.print(state.getClassName());
                 mTarget.print("\" stateId:");
-                mTarget.print(SmcMap.getNextStateId());
+                mTarget.print(fsm.getNextStateId());
                 mTarget.println("];");
 
                 mTarget.print(mIndent);
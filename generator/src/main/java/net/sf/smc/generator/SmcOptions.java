@@ -127,6 +127,61 @@ public final class SmcOptions
     // Use "@protocol" instead of "@class". Used with -objc only.
     private final boolean mUseProtocolFlag;
 
+    // This flag is true when transitions are dispatched by a
+    // switch on the current state identifier rather than by a
+    // method handle table. Used with -java7 only.
+    private final boolean mDirectFlag;
+
+    // This flag is true when transitions are queued in a
+    // lock-free mailbox and applied by a single drain loop. Used
+    // with -java and -java7 only.
+    private final boolean mActorFlag;
+
+    // This flag is true when the dispatch(int[], ...) batch
+    // transition methods are generated. Used with -java and
+    // -java7 only.
+    private final boolean mBatchFlag;
+
+    // This flag is true when -g debug output is routed through
+    // statemap.TraceSink and compiled out unless tracing is
+    // enabled at class load. Used with -java7 only.
+    private final boolean mTraceFlag;
+
+    // This flag is true when transitions and state entry, exit
+    // and residency are recorded as Java Flight Recorder events.
+    // Used with -java7 only.
+    private final boolean mJfrFlag;
+
+    // This flag is true when each transition's latency is passed
+    // to the FSM's statemap.TransitionMetrics. Used with -java7
+    // only.
+    private final boolean mMetricsFlag;
+
+    // This flag is true when the FSM context is a flyweight
+    // keeping each session's state in a statemap.StateSlotStore
+    // slot. Used with -javatable only.
+    private final boolean mFlyweightFlag;
+
+    // This flag is true when each completed transition, its
+    // arguments and the resulting state are appended to the FSM's
+    // statemap.TransitionJournal. Used with -java7 only.
+    private final boolean mJournalFlag;
+
+    // This flag is true when each transition publishes its start
+    // tick and thread for statemap.TransitionWatchdog. Used with
+    // -java7 only.
+    private final boolean mWatchdogFlag;
+
+    // This flag is true when transition actions return an int
+    // error code rather than throwing an exception to signal
+    // failure. Used with -java7 only.
+    private final boolean mErrorCodeFlag;
+
+    // This flag is true when transitions not defined in a pushed
+    // map are passed to the pushing states. Used with -java7
+    // only.
+    private final boolean mHierarchicalFlag;
+
 //---------------------------------------------------------------
 // Member methods.
 //
@@ -179,6 +234,29 @@ public final class SmcOptions
      * generated classes.
      * @param useProtocolFlag use "@protocol" instead of "@class"
      * in generated Objective-C code.
+     * @param directFlag if {@code true} then dispatch transitions
+     * with a switch statement (Java 7 only).
+     * @param actorFlag if {@code true} then queue transitions in
+     * a lock-free mailbox (Java only).
+     * @param batchFlag if {@code true} then generate the batch
+     * transition dispatch methods (Java only).
+     * @param traceFlag if {@code true} then route debug output
+     * through the trace sink (Java 7 only).
+     * @param jfrFlag if {@code true} then record transitions as
+     * Java Flight Recorder events (Java 7 only).
+     * @param metricsFlag if {@code true} then report transition
+     * latency to the transition metrics SPI (Java 7 only).
+     * @param flyweightFlag if {@code true} then generate a
+     * flyweight FSM context (Java table only).
+     * @param journalFlag if {@code true} then append transitions
+     * to the transition journal (Java 7 only).
+     * @param watchdogFlag if {@code true} then publish transition
+     * starts to the transition watchdog (Java 7 only).
+     * @param errorCodeFlag if {@code true} then transition
+     * actions return an error code (Java 7 only).
+     * @param hierarchicalFlag if {@code true} then pass
+     * transitions undefined in a pushed map to the pushing states
+     * (Java 7 only).
      */
     public SmcOptions(final String appName,
                       final String appVersion,
@@ -201,7 +279,18 @@ public final class SmcOptions
                       final boolean genericFlag,
                       final boolean java7Flag,
                       final String accessLevel,
-                      final boolean useProtocolFlag)
+                      final boolean useProtocolFlag,
+                      final boolean directFlag,
+                      final boolean actorFlag,
+                      final boolean batchFlag,
+                      final boolean traceFlag,
+                      final boolean jfrFlag,
+                      final boolean metricsFlag,
+                      final boolean flyweightFlag,
+                      final boolean journalFlag,
+                      final boolean watchdogFlag,
+                      final boolean errorCodeFlag,
+                      final boolean hierarchicalFlag)
     {
         mAppName = appName;
         mAppVersion = appVersion;
@@ -225,6 +314,17 @@ public final class SmcOptions
         mJava7Flag = java7Flag;
         mAccessLevel = accessLevel;
         mUseProtocolFlag = useProtocolFlag;
+        mDirectFlag = directFlag;
+        mActorFlag = actorFlag;
+        mBatchFlag = batchFlag;
+        mTraceFlag = traceFlag;
+        mJfrFlag = jfrFlag;
+        mMetricsFlag = metricsFlag;
+        mFlyweightFlag = flyweightFlag;
+        mJournalFlag = journalFlag;
+        mWatchdogFlag = watchdogFlag;
+        mErrorCodeFlag = errorCodeFlag;
+        mHierarchicalFlag = hierarchicalFlag;
     } // end f SmcOptions(...)
 
     //
@@ -437,6 +537,117 @@ public final class SmcOptions
         return (mUseProtocolFlag);
     } // end of useProtocolFlag()
 
+    /**
+     * Returns {@code true} if transitions are dispatched by a
+     * switch statement on the current state identifier.
+     * @return {@code true} if generating direct dispatch code.
+     */
+    public boolean directFlag()
+    {
+        return (mDirectFlag);
+    } // end of directFlag()
+
+    /**
+     * Returns {@code true} if transitions are queued in a mailbox
+     * and applied one at a time.
+     * @return {@code true} if generating actor code.
+     */
+    public boolean actorFlag()
+    {
+        return (mActorFlag);
+    } // end of actorFlag()
+
+    /**
+     * Returns {@code true} if the batch transition dispatch
+     * methods are generated.
+     * @return {@code true} if generating batch dispatch methods.
+     */
+    public boolean batchFlag()
+    {
+        return (mBatchFlag);
+    } // end of batchFlag()
+
+    /**
+     * Returns {@code true} if debug output is generated as {@code
+     * statemap.TraceSink} calls guarded by a static final flag.
+     * @return {@code true} if generating trace sink calls.
+     */
+    public boolean traceFlag()
+    {
+        return (mTraceFlag);
+    } // end of traceFlag()
+
+    /**
+     * Returns {@code true} if transitions and state entry, exit
+     * and residency are recorded as Java Flight Recorder events.
+     * @return {@code true} if generating JFR events.
+     */
+    public boolean jfrFlag()
+    {
+        return (mJfrFlag);
+    } // end of jfrFlag()
+
+    /**
+     * Returns {@code true} if each transition's latency is passed
+     * to the FSM's {@code statemap.TransitionMetrics}.
+     * @return {@code true} if generating transition metrics calls.
+     */
+    public boolean metricsFlag()
+    {
+        return (mMetricsFlag);
+    } // end of metricsFlag()
+
+    /**
+     * Returns {@code true} if the FSM context is a flyweight
+     * keeping each session's state in a {@code
+     * statemap.StateSlotStore}.
+     * @return {@code true} if generating a flyweight FSM context.
+     */
+    public boolean flyweightFlag()
+    {
+        return (mFlyweightFlag);
+    } // end of flyweightFlag()
+
+    /**
+     * Returns {@code true} if each completed transition is
+     * appended to the FSM's {@code statemap.TransitionJournal}.
+     * @return {@code true} if generating transition journal calls.
+     */
+    public boolean journalFlag()
+    {
+        return (mJournalFlag);
+    } // end of journalFlag()
+
+    /**
+     * Returns {@code true} if each transition publishes its start
+     * tick and thread for {@code statemap.TransitionWatchdog}.
+     * @return {@code true} if generating watchdog slot writes.
+     */
+    public boolean watchdogFlag()
+    {
+        return (mWatchdogFlag);
+    } // end of watchdogFlag()
+
+    /**
+     * Returns {@code true} if transition actions return an
+     * {@code int} error code.
+     * @return {@code true} if actions return error codes.
+     */
+    public boolean errorCodeFlag()
+    {
+        return (mErrorCodeFlag);
+    } // end of errorCodeFlag()
+
+    /**
+     * Returns {@code true} if transitions not defined in a pushed
+     * map are passed to the pushing states.
+     * @return {@code true} if generating hierarchical transitions.
+     */
+    public boolean hierarchicalFlag()
+    {
+        return (mHierarchicalFlag);
+    } // end of hierarchicalFlag()
+
     //
     // end of Get methods.
     //-----------------------------------------------------------
@@ -463,7 +463,7 @@ public final class SmcPerlGenerator
             mTarget.print('.');
             mTarget.print(state.getClassName());
             mTarget.print("', ");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             mTarget.println(");");
         }
 
@@ -497,7 +497,7 @@ public final class SmcPhpGenerator
             mTarget.print('.');
             mTarget.print(state.getClassName());
             mTarget.print("', ");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             mTarget.println(");");
         }
 
@@ -424,7 +424,7 @@ public final class SmcPythonGenerator
             mTarget.print('.');
             mTarget.print(state.getClassName());
             mTarget.print("', ");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             mTarget.println(")");
         }
 
@@ -485,7 +485,7 @@ public final class SmcRubyGenerator
             mTarget.print('.');
             mTarget.print(state.getClassName());
             mTarget.print("', ");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             mTarget.println(").freeze");
         }
 
@@ -515,7 +515,7 @@ public final class SmcScalaGenerator
             mTarget.print('.');
             mTarget.print(state.getClassName());
             mTarget.print("\", ");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             mTarget.println(")");
         }
 
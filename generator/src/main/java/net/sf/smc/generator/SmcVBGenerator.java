@@ -862,7 +862,7 @@ public final class SmcVBGenerator
             mTarget.print('.');
             mTarget.print(stateName);
             mTarget.print("\", ");
-            mTarget.print(SmcMap.getNextStateId());
+            mTarget.print(map.getFSM().getNextStateId());
             mTarget.println(")");
         }
 
@@ -34,6 +34,7 @@
 
 package net.sf.smc.generator;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.PrintStream;
 import java.util.ArrayList;
@@ -46,6 +47,7 @@ import net.sf.smc.model.SmcMap;
 import net.sf.smc.model.SmcParameter;
 import net.sf.smc.model.SmcState;
 import net.sf.smc.model.SmcTransition;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 /**
@@ -120,6 +122,17 @@ public final class CGeneratorTest
                                   false,
                                   false,
                                   "",
+                                  false,
+                                  false,
+                                  false,
+                                  false,
+                                  false,
+                                  false,
+                                  false,
+                                  false,
+                                  false,
+                                  false,
+                                  false,
                                   false);
         sTargetFile = TARGET_DIR + TARGET_BASE + TARGET_SUFFIX;
         sFsm.setContext("UnitTest");
@@ -160,7 +173,40 @@ public final class CGeneratorTest
         }
     } // end of pushTransitionTest()
 
+    @Test
+    public void stateIdTest()
+    {
+        final SmcFSM fsm = new SmcFSM(FSM_NAME, TARGET_FILE);
+        final SmcMap map = new SmcMap(MAP_NAME, 1, fsm);
+
+        map.addState(new SmcState("Idle", 2, map));
+        map.addState(new SmcState("Busy", 3, map));
+        fsm.addMap(map);
+        fsm.setContext("UnitTest");
+        fsm.setStartState(MAP_NAME + "::Idle");
+
+        // A second generator run on the same FSM must number the
+        // states exactly as the first one did.
+        assertEquals(generate(fsm), generate(fsm));
+    } // end of stateIdTest()
+
     //
     // end of JUnit Tests.
     //-----------------------------------------------------------
+
+    private static String generate(final SmcFSM fsm)
+    {
+        final ByteArrayOutputStream out =
+            new ByteArrayOutputStream();
+        final SmcCGenerator generator =
+            new SmcCGenerator(sOptions);
+
+        try (final PrintStream ps = new PrintStream(out))
+        {
+            generator.setTarget(ps);
+            fsm.accept(generator);
+        }
+
+        return (out.toString());
+    } // end of generate(SmcFSM)
 } // end of CGeneratorTest
\ No newline at end of file
@@ -0,0 +1,197 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// StateActionEvent.java --
+//
+//  Defines the StateActionEvent Java Flight Recorder event
+//  recorded around state entry and exit actions.
+//
+
+package statemap.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import statemap.FSMContext7;
+
+/**
+ * Java Flight Recorder event recording the duration of an
+ * {@link FSMContext7} state's entry or exit actions. Emitted by
+ * FSMs generated with {@code -java7 -jfr}. The default
+ * threshold is 1 ms.
+ *
+ * @see TransitionEvent
+ * @see StateResidencyEvent
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+@Name("statemap.StateAction")
+@Label("FSM State Entry/Exit")
+@Category("State Machine Compiler")
+@Description("A finite state machine state's entry or exit actions")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class StateActionEvent
+    extends Event
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The event records the state entry actions.
+     */
+    public static final boolean ENTRY = true;
+
+    /**
+     * The event records the state exit actions.
+     */
+    public static final boolean EXIT = false;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    // The event field names are the recorded field names and so
+    // do not use the "m" prefix.
+
+    @Label("FSM")
+    String fsm;
+
+    @Label("State Id")
+    int stateId;
+
+    @Label("State")
+    String state;
+
+    @Label("Action")
+    @Description("Entry or Exit")
+    String action;
+
+    @Label("Transition Id")
+    int transitionId;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    // Generated code uses start() and finish() rather than
+    // creating the event directly.
+    private StateActionEvent()
+    {}
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns a new event timing the current state's entry or
+     * exit actions. Returns {@code null} if no recording has
+     * this event enabled.
+     * @param context the finite state machine.
+     * @param entryFlag {@link #ENTRY} or {@link #EXIT}.
+     * @return the action event or {@code null}.
+     */
+    public static StateActionEvent start(final FSMContext7 context,
+                                         final boolean entryFlag)
+    {
+        StateActionEvent retval = null;
+
+        // The probe event does not escape and so the JIT
+        // compiler removes its allocation.
+        if ((new StateActionEvent()).isEnabled())
+        {
+            retval = new StateActionEvent();
+            retval.begin(context, entryFlag);
+        }
+
+        return (retval);
+    } // end of start(FSMContext7, boolean)
+
+    /**
+     * Ends {@code event}, if not {@code null}, after the
+     * actions complete.
+     * @param context the finite state machine.
+     * @param event the event returned by
+     * {@link #start(FSMContext7, boolean)}. May be
+     * {@code null}.
+     */
+    public static void finish(final FSMContext7 context,
+                              final StateActionEvent event)
+    {
+        if (event != null)
+        {
+            event.end(context);
+        }
+
+        return;
+    } // end of finish(FSMContext7, StateActionEvent)
+
+    /**
+     * Starts timing the current state's entry or exit actions.
+     * @param context the finite state machine.
+     * @param entryFlag {@link #ENTRY} or {@link #EXIT}.
+     */
+    private void begin(final FSMContext7 context,
+                       final boolean entryFlag)
+    {
+        begin();
+
+        stateId = context.getStateId();
+        action = (entryFlag ? "Entry" : "Exit");
+
+        return;
+    } // end of begin(FSMContext7, boolean)
+
+    /**
+     * Stops timing the actions and, if the event is to be
+     * recorded, fills in the names and commits the event.
+     * @param context the finite state machine.
+     */
+    private void end(final FSMContext7 context)
+    {
+        end();
+
+        if (shouldCommit())
+        {
+            fsm = context.getName();
+            state = context.getStateName(stateId);
+            transitionId = context.getTransitionId();
+
+            commit();
+        }
+
+        return;
+    } // end of end(FSMContext7)
+} // end of class StateActionEvent
@@ -0,0 +1,184 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// StateResidencyEvent.java --
+//
+//  Defines the StateResidencyEvent Java Flight Recorder event
+//  recording how long an FSM stayed in a state.
+//
+
+package statemap.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import statemap.FSMContext7;
+
+/**
+ * Java Flight Recorder event recording the time an
+ * {@link FSMContext7} spent in a state, from the state's entry
+ * to its exit. A push transition does not exit the pushing
+ * state, so the pushing state's residency ends when the pushed
+ * state is entered; the time after the matching pop is not
+ * recorded. Emitted by FSMs generated with
+ * {@code -java7 -jfr}. The default threshold is 1 ms.
+ *
+ * @see TransitionEvent
+ * @see StateActionEvent
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+@Name("statemap.StateResidency")
+@Label("FSM State Residency")
+@Category("State Machine Compiler")
+@Description("Time a finite state machine spent in a state")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class StateResidencyEvent
+    extends Event
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    // The event field names are the recorded field names and so
+    // do not use the "m" prefix.
+
+    @Label("FSM")
+    String fsm;
+
+    @Label("State Id")
+    int stateId;
+
+    @Label("State")
+    String state;
+
+    @Label("Exit Transition Id")
+    int transitionId;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    // Generated code uses enter() and exit() rather than
+    // creating the event directly.
+    private StateResidencyEvent()
+    {}
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    /**
+     * Ends {@code pending}, if not {@code null}, and returns a
+     * new event timing the FSM's current state. Returns
+     * {@code null} if no recording has this event enabled.
+     * Called after the FSM enters a state.
+     * @param context the finite state machine.
+     * @param pending the previous state's event. May be
+     * {@code null}.
+     * @return the current state's event or {@code null}.
+     */
+    public static StateResidencyEvent
+        enter(final FSMContext7 context,
+              final StateResidencyEvent pending)
+    {
+        StateResidencyEvent retval = null;
+
+        if (pending != null)
+        {
+            pending.end(context);
+        }
+
+        // The probe event does not escape and so the JIT
+        // compiler removes its allocation.
+        if ((new StateResidencyEvent()).isEnabled())
+        {
+            retval = new StateResidencyEvent();
+            retval.begin(context);
+        }
+
+        return (retval);
+    } // end of enter(FSMContext7, StateResidencyEvent)
+
+    /**
+     * Ends {@code pending}, if not {@code null}, and returns
+     * {@code null}. Called after the FSM exits a state.
+     * @param context the finite state machine.
+     * @param pending the current state's event. May be
+     * {@code null}.
+     * @return {@code null}.
+     */
+    public static StateResidencyEvent
+        exit(final FSMContext7 context,
+             final StateResidencyEvent pending)
+    {
+        if (pending != null)
+        {
+            pending.end(context);
+        }
+
+        return (null);
+    } // end of exit(FSMContext7, StateResidencyEvent)
+
+    /**
+     * Starts timing the FSM's current state.
+     * @param context the finite state machine.
+     */
+    private void begin(final FSMContext7 context)
+    {
+        begin();
+
+        stateId = context.getStateId();
+
+        return;
+    } // end of begin(FSMContext7)
+
+    /**
+     * Stops timing the state and, if the event is to be
+     * recorded, fills in the names and commits the event.
+     * @param context the finite state machine.
+     */
+    private void end(final FSMContext7 context)
+    {
+        end();
+
+        if (shouldCommit())
+        {
+            fsm = context.getName();
+            state = context.getStateName(stateId);
+            transitionId = context.getTransitionId();
+
+            commit();
+        }
+
+        return;
+    } // end of end(FSMContext7)
+} // end of class StateResidencyEvent
@@ -0,0 +1,213 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TransitionEvent.java --
+//
+//  Defines the TransitionEvent Java Flight Recorder event
+//  recorded for each -jfr FSM transition.
+//
+
+package statemap.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import statemap.FSMContext7;
+
+/**
+ * Java Flight Recorder event recording an {@link FSMContext7}
+ * transition's duration. Emitted by the transition methods of
+ * FSMs generated with {@code -java7 -jfr}. The event records the
+ * state and transition identifiers and names, and the state the
+ * transition ended in.
+ * <p>
+ * Only transitions taking longer than the threshold are
+ * recorded. The default threshold of 1 ms may be changed in the
+ * recording settings, for example
+ * {@code statemap.Transition#threshold=0 ms}.
+ * </p>
+ * <p>
+ * When no recording has this event enabled,
+ * {@link #start(FSMContext7, int)} returns {@code null} without
+ * creating an event and the generated code does nothing more.
+ * </p>
+ * <p>
+ * The events are packaged in the {@code library-jfr} jar, in
+ * their own {@code statemap.jfr} package, and require Java 11
+ * or later. Only applications using {@code -jfr} generated code
+ * need this jar; the SMC library itself still runs on Java 7.
+ * </p>
+ *
+ * @see StateActionEvent
+ * @see StateResidencyEvent
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+@Name("statemap.Transition")
+@Label("FSM Transition")
+@Category("State Machine Compiler")
+@Description("A finite state machine transition")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class TransitionEvent
+    extends Event
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    // The event field names are the recorded field names and so
+    // do not use the "m" prefix.
+
+    @Label("FSM")
+    String fsm;
+
+    @Label("State Id")
+    int stateId;
+
+    @Label("State")
+    String state;
+
+    @Label("Transition Id")
+    int transitionId;
+
+    @Label("Transition")
+    String transition;
+
+    @Label("End State Id")
+    int endStateId;
+
+    @Label("End State")
+    String endState;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    // Generated code uses start() and finish() rather than
+    // creating the event directly.
+    private TransitionEvent()
+    {}
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns a new event timing the FSM's transition from its
+     * current state. Returns {@code null} if no recording has
+     * this event enabled.
+     * @param context the finite state machine.
+     * @param transId the transition identifier.
+     * @return the transition event or {@code null}.
+     */
+    public static TransitionEvent start(final FSMContext7 context,
+                                        final int transId)
+    {
+        TransitionEvent retval = null;
+
+        // The probe event does not escape and so the JIT
+        // compiler removes its allocation.
+        if ((new TransitionEvent()).isEnabled())
+        {
+            retval = new TransitionEvent();
+            retval.begin(context, transId);
+        }
+
+        return (retval);
+    } // end of start(FSMContext7, int)
+
+    /**
+     * Ends {@code event}, if not {@code null}, after the
+     * transition completes or fails.
+     * @param context the finite state machine.
+     * @param event the event returned by
+     * {@link #start(FSMContext7, int)}. May be {@code null}.
+     */
+    public static void finish(final FSMContext7 context,
+                              final TransitionEvent event)
+    {
+        if (event != null)
+        {
+            event.end(context);
+        }
+
+        return;
+    } // end of finish(FSMContext7, TransitionEvent)
+
+    /**
+     * Starts timing the transition from the FSM's current
+     * state.
+     * @param context the finite state machine.
+     * @param transId the transition identifier.
+     */
+    private void begin(final FSMContext7 context,
+                       final int transId)
+    {
+        begin();
+
+        stateId = context.getStateId();
+        transitionId = transId;
+
+        return;
+    } // end of begin(FSMContext7, int)
+
+    /**
+     * Stops timing the transition and, if the event is to be
+     * recorded, fills in the names and end state and commits
+     * the event.
+     * @param context the finite state machine.
+     */
+    private void end(final FSMContext7 context)
+    {
+        end();
+
+        if (shouldCommit())
+        {
+            fsm = context.getName();
+            state =
+                (stateId == FSMContext7.NO_STATE_ID ?
+                 "" :
+                 context.getStateName(stateId));
+            transition = context.getTransition();
+
+            // The end state is unknown if the transition failed.
+            endStateId = context.getStateId();
+            endState =
+                (endStateId == FSMContext7.NO_STATE_ID ?
+                 "" :
+                 context.getStateName(endStateId));
+
+            commit();
+        }
+
+        return;
+    } // end of end(FSMContext7)
+} // end of class TransitionEvent
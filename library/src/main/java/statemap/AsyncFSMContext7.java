@@ -0,0 +1,270 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// AsyncFSMContext7.java --
+//
+//  Defines the AsyncFSMContext7 class which runs a
+//  -java7 generated state machine's transitions on an
+//  executor, optionally backed by virtual threads.
+//
+
+package statemap;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Base class for {@code -java7 -actor} generated FSM contexts.
+ * Transitions may be issued from any thread. Each is queued in
+ * the FSM's {@link TransitionMailbox} and applied, in order and
+ * one at a time, on the executor given to the constructor. If no
+ * executor is given, then the issuing thread applies the queued
+ * transitions.
+ * <p>
+ * Since an FSM has at most one drain task outstanding, an
+ * executor may be shared by any number of FSMs while each FSM
+ * still sees its transitions in issue order. An idle FSM holds
+ * no thread. {@link #virtualThreadExecutor()} runs each drain
+ * task on a new virtual thread, giving each active FSM its own
+ * virtual thread. This allows hundreds of thousands of mostly
+ * idle FSMs, such as connection state machines, without a
+ * platform thread per FSM or a global lock.
+ * </p>
+ * <p>
+ * The executor is not serialized. A deserialized FSM applies
+ * transitions on the issuing thread.
+ * </p>
+ *
+ * @see TransitionMailbox
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public abstract class AsyncFSMContext7
+    extends FSMContext7
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The SMC version for Java serialization purposes.
+     */
+    private static final long serialVersionUID = 0x070100L;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * Transitions are queued here and applied one at a time.
+     * Replaced when deserialized.
+     */
+    transient protected TransitionMailbox mMailbox;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates an asynchronous finite state machine context for
+     * the given initial state and transition executor.
+     * @param initState the finite state machine's start state.
+     * @param executor apply transitions on this executor. If
+     * {@code null}, transitions are applied by the issuing
+     * thread.
+     */
+    protected AsyncFSMContext7(final State7 initState,
+                               final Executor executor)
+    {
+        super (initState);
+
+        mMailbox = new TransitionMailbox(executor);
+    } // end of AsyncFSMContext7(State7, Executor)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Serializable Interface Implementation.
+    //
+
+    private void readObject(ObjectInputStream istream)
+        throws IOException,
+               ClassNotFoundException
+    {
+        istream.defaultReadObject();
+
+        // The executor is not serializable. Apply transitions on
+        // the issuing thread.
+        mMailbox = new TransitionMailbox();
+
+        return;
+    } // end of readObject(ObjectInputStream)
+
+    //
+    // end of Serializable Interface Implementation.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the executor applying this FSM's transitions.
+     * Returns {@code null} if transitions are applied by the
+     * issuing thread.
+     * @return the transition executor.
+     */
+    public Executor getExecutor()
+    {
+        return (mMailbox.getExecutor());
+    } // end of getExecutor()
+
+    /**
+     * Returns {@code true} if this FSM has no queued or running
+     * transitions.
+     * @return {@code true} if this FSM is idle.
+     */
+    public boolean isIdle()
+    {
+        return (mMailbox.isIdle());
+    } // end of isIdle()
+
+    /**
+     * Returns an executor which runs each task on a new virtual
+     * thread. Given to an asynchronous FSM, this means the FSM
+     * has a virtual thread only while it has transitions to
+     * apply. The same executor may be given to any number of
+     * FSMs.
+     * @return virtual thread executor.
+     * @exception UnsupportedOperationException
+     * if the Java run-time does not support virtual threads.
+     */
+    public static Executor virtualThreadExecutor()
+    {
+        if (VirtualThreads.FACTORY == null)
+        {
+            throw (
+                new UnsupportedOperationException(
+                    "virtual threads require Java 21 or later"));
+        }
+
+        return (VirtualThreads.EXECUTOR);
+    } // end of virtualThreadExecutor()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * Finds the virtual thread factory on first use. SMC is
+     * built for Java 7 and so calls
+     * {@code Thread.ofVirtual().factory()} reflectively.
+     */
+    private static final class VirtualThreads
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        /**
+         * Creates unstarted virtual threads. Will be
+         * {@code null} if the run-time does not support virtual
+         * threads.
+         */
+        private static final ThreadFactory FACTORY = findFactory();
+
+        /**
+         * Starts each task on a new virtual thread.
+         */
+        private static final Executor EXECUTOR =
+            new Executor()
+            {
+                @Override
+                public void execute(final Runnable task)
+                {
+                    (FACTORY.newThread(task)).start();
+                    return;
+                }
+            };
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        private VirtualThreads()
+        {}
+
+        /**
+         * Returns the virtual thread factory or {@code null} if
+         * virtual threads are not supported.
+         * @return virtual thread factory.
+         */
+        private static ThreadFactory findFactory()
+        {
+            ThreadFactory retval = null;
+
+            try
+            {
+                final Method ofVirtual =
+                    Thread.class.getMethod("ofVirtual");
+                final Method factory =
+                    (Class.forName("java.lang.Thread$Builder")).
+                        getMethod("factory");
+
+                retval =
+                    (ThreadFactory)
+                        factory.invoke(ofVirtual.invoke(null));
+            }
+            // Java 19 and 20 have Thread.ofVirtual() but throw
+            // UnsupportedOperationException unless preview
+            // features are enabled. The reflective call reports
+            // that as an InvocationTargetException, but catch it
+            // directly as well so that class initialization never
+            // fails.
+            catch (ReflectiveOperationException |
+                   SecurityException |
+                   UnsupportedOperationException jex)
+            {
+                // Virtual threads are not supported.
+            }
+
+            return (retval);
+        } // end of findFactory()
+    } // end of class VirtualThreads
+} // end of class AsyncFSMContext7
@@ -0,0 +1,137 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+//
+// ContextOptions.java --
+//
+//  Defines the ContextOptions class which holds the rarely set
+//  FSM context options.
+//
+
+package statemap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Holds the options which most FSMs never set: the trace sink,
+ * error handler, metrics, journal and undefined transition
+ * policy. {@link FSMContext7} and {@link FSMContext} allocate
+ * their options when the first one is set or an undefined
+ * transition is counted, so an FSM using none of them pays for
+ * a single {@code null} reference.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+/* package */ final class ContextOptions
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * Debug trace is passed to this sink rather than written to
+     * the debug stream. May be {@code null}.
+     */
+    /* package */ TraceSink mTraceSink;
+
+    /**
+     * Transition exceptions and action error codes are passed
+     * to this handler. May be {@code null}.
+     */
+    /* package */ TransitionErrorHandler mErrorHandler;
+
+    /**
+     * FSMs generated with {@code -metrics} pass each
+     * transition's latency to this SPI. May be {@code null}.
+     */
+    /* package */ TransitionMetrics mMetrics;
+
+    /**
+     * FSMs generated with {@code -journal} append each
+     * transition to this journal. May be {@code null}.
+     */
+    /* package */ TransitionJournal mJournal;
+
+    /**
+     * Identifies the FSM in {@link #mJournal}.
+     */
+    /* package */ long mJournalId;
+
+    /**
+     * The transition arguments are encoded here before being
+     * appended to {@link #mJournal}. Allocated when the journal
+     * is set.
+     */
+    /* package */ ByteBuffer mJournalArgs;
+
+    /**
+     * What the FSM does when a transition is undefined. If
+     * {@code null}, then the FSM class's policy is used.
+     */
+    /* package */ UndefinedTransitionPolicy mUndefinedPolicy;
+
+    /**
+     * Called on an undefined transition if the policy is
+     * {@link UndefinedTransitionPolicy#CALLBACK}. May be
+     * {@code null}.
+     */
+    /* package */ UndefinedTransitionHandler mUndefinedHandler;
+
+    /**
+     * The number of undefined transitions counted by the
+     * {@link UndefinedTransitionPolicy#COUNT} and
+     * {@link UndefinedTransitionPolicy#CALLBACK} policies.
+     */
+    /* package */ long mUndefinedCount;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates options with nothing set.
+     */
+    /* package */ ContextOptions()
+    {
+        mTraceSink = null;
+        mErrorHandler = null;
+        mMetrics = null;
+        mJournal = null;
+        mJournalId = 0L;
+        mJournalArgs = null;
+        mUndefinedPolicy = null;
+        mUndefinedHandler = null;
+        mUndefinedCount = 0L;
+    } // end of ContextOptions()
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+} // end of class ContextOptions
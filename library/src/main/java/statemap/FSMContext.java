@@ -93,10 +93,21 @@ public abstract class FSMContext
 
     /**
      * This stack is used to store the current state when a push
-     * transition is taken.
+     * transition is taken. Only contexts generated by SMC 7.1.0
+     * and earlier use this stack since they do not allocate
+     * {@link #_stateIdStack}.
      */
     transient protected java.util.Stack<State> _stateStack;
 
+    /**
+     * This stack is used to store the current state identifier
+     * when a push transition is taken. Allocated by
+     * {@link #newStateIdStack()} on the first push, or by the
+     * generated constructor if {@code smc -stack} is given, and
+     * retained once empty.
+     */
+    transient protected StateIdStack _stateIdStack;
+
     /**
      * When this flag is set to {@code true}, this class will
      * print out debug messages.
@@ -108,6 +119,11 @@ public abstract class FSMContext
      */
     transient protected PrintStream _debugStream;
 
+    // The undefined transition policy and handler. Allocated
+    // when either is set or an undefined transition is counted
+    // since most FSMs do neither. May be null.
+    transient private ContextOptions _options;
+
     // Stores the property change listeners here.
     transient private PropertyChangeSupport _listeners;
 
@@ -131,8 +147,10 @@ public abstract class FSMContext
         _transition = "";
         _previousState = null;
         _stateStack = null;
+        _stateIdStack = null;
         _debugFlag = false;
         _debugStream = System.err;
+        _options = null;
         _listeners = new PropertyChangeSupport(this);
     } // end of FSMContext(State)
 
@@ -244,6 +262,77 @@ public abstract class FSMContext
         return(_transition);
     } // end of getTransition()
 
+    /**
+     * Returns this FSM's undefined transition policy. If no
+     * policy was set, then returns the FSM class's policy.
+     * @return the undefined transition policy.
+     * @see UndefinedTransitionPolicy#forClass(Class)
+     */
+    public UndefinedTransitionPolicy getUndefinedTransitionPolicy()
+    {
+        final UndefinedTransitionPolicy policy =
+            (_options == null ? null : _options.mUndefinedPolicy);
+
+        return (policy == null ?
+                UndefinedTransitionPolicy.forClass(getClass()) :
+                policy);
+    } // end of getUndefinedTransitionPolicy()
+
+    /**
+     * Returns the undefined transition handler. May return
+     * {@code null}.
+     * @return the undefined transition handler.
+     */
+    public UndefinedTransitionHandler getUndefinedTransitionHandler()
+    {
+        return (_options == null ?
+                null :
+                _options.mUndefinedHandler);
+    } // end of getUndefinedTransitionHandler()
+
+    /**
+     * Returns the number of undefined transitions counted by
+     * the {@link UndefinedTransitionPolicy#COUNT} and
+     * {@link UndefinedTransitionPolicy#CALLBACK} policies.
+     * @return the undefined transition count.
+     */
+    public long getUndefinedTransitionCount()
+    {
+        return (_options == null ? 0L : _options.mUndefinedCount);
+    } // end of getUndefinedTransitionCount()
+
+    /**
+     * Returns the state with the given identifier. Used to
+     * restore the state popped from {@link #_stateIdStack}.
+     * Generated contexts override this method. This default
+     * implementation is kept for contexts generated by SMC 7.1.0
+     * and earlier, which do not stack state identifiers.
+     * @param stateId the state identifier.
+     * @return the identified state.
+     * @exception UnsupportedOperationException
+     * always.
+     */
+    protected State valueOf(int stateId)
+    {
+        throw (
+            new UnsupportedOperationException(
+                getClass().getName() +
+                " does not implement valueOf(int)"));
+    } // end of valueOf(int)
+
+    /**
+     * Returns a new, empty state identifier stack. Called on the
+     * first push transition. Generated contexts override this
+     * method. This default implementation returns {@code null}
+     * for contexts generated by SMC 7.1.0 and earlier, which use
+     * the legacy state stack instead.
+     * @return a new state identifier stack or {@code null}.
+     */
+    protected StateIdStack newStateIdStack()
+    {
+        return (null);
+    } // end of newStateIdStack()
+
     //
     // end of Get methods.
     //-----------------------------------------------------------
@@ -353,13 +442,30 @@ public abstract class FSMContext
                                      state.getName());
         }
 
-        if (_stateStack == null)
+        _previousState = _state;
+
+        // Allocate the state identifier stack on the first
+        // push. Contexts generated by SMC 7.1.0 and earlier do
+        // not provide one.
+        if (_stateIdStack == null && _stateStack == null)
         {
-            _stateStack = new java.util.Stack<State>();
+            _stateIdStack = newStateIdStack();
+        }
+
+        if (_stateIdStack != null)
+        {
+            _stateIdStack.push(_state.getId());
+        }
+        else
+        {
+            if (_stateStack == null)
+            {
+                _stateStack = new java.util.Stack<State>();
+            }
+
+            _stateStack.push(_state);
         }
 
-        _previousState = _state;
-        _stateStack.push(_state);
         _state = state;
 
         // Inform any and all listeners about this state
@@ -380,8 +486,10 @@ public abstract class FSMContext
     public void popState()
         throws EmptyStackException
     {
-        if (_stateStack == null ||
-            _stateStack.isEmpty() == true)
+        if ((_stateIdStack == null ||
+             _stateIdStack.isEmpty() == true) &&
+            (_stateStack == null ||
+             _stateStack.isEmpty() == true))
         {
             if (getDebugFlag() == true)
             {
@@ -404,11 +512,18 @@ public abstract class FSMContext
 
             // The pop method removes the top element
             // from the stack and returns it.
-            _state = _stateStack.pop();
-
-            if (_stateStack.isEmpty() == true)
+            if (_stateIdStack != null)
             {
-                _stateStack = null;
+                _state = valueOf(_stateIdStack.pop());
+            }
+            else
+            {
+                _state = _stateStack.pop();
+
+                if (_stateStack.isEmpty() == true)
+                {
+                    _stateStack = null;
+                }
             }
 
             if (getDebugFlag() == true)
@@ -431,6 +546,11 @@ public abstract class FSMContext
      */
     public void emptyStateStack()
     {
+        if (_stateIdStack != null)
+        {
+            _stateIdStack.clear();
+        }
+
         if (_stateStack != null)
         {
             _stateStack.clear();
@@ -440,10 +560,119 @@ public abstract class FSMContext
         return;
     } // end of emptyStateStack()
 
+    /**
+     * Sets this FSM's undefined transition policy, overriding
+     * the FSM class's policy. If {@code policy} is {@code null},
+     * then the FSM class's policy is used.
+     * @param policy the undefined transition policy. May be
+     * {@code null}.
+     */
+    public void setUndefinedTransitionPolicy(
+        UndefinedTransitionPolicy policy)
+    {
+        if (policy != null || _options != null)
+        {
+            (options()).mUndefinedPolicy = policy;
+        }
+
+        return;
+    } // end of setUndefinedTransitionPolicy(...)
+
+    /**
+     * Calls {@code handler} on each undefined transition if the
+     * policy is {@link UndefinedTransitionPolicy#CALLBACK}.
+     * @param handler the undefined transition handler. May be
+     * {@code null}.
+     */
+    public void setUndefinedTransitionHandler(
+        UndefinedTransitionHandler handler)
+    {
+        if (handler != null || _options != null)
+        {
+            (options()).mUndefinedHandler = handler;
+        }
+
+        return;
+    } // end of setUndefinedTransitionHandler(...)
+
     //
     // end of Set methods.
     //-----------------------------------------------------------
 
+    /**
+     * The generated Default state's Default transition calls
+     * this method. What happens depends on this FSM's
+     * {@link UndefinedTransitionPolicy undefined transition policy}.
+     * The {@link UndefinedTransitionPolicy#THROW} policy throws
+     * a {@link TransitionUndefinedException} which contains the
+     * current state and current transition in the detailed
+     * message. If no policy is set for this FSM, then the FSM
+     * class's policy is used. Contexts generated by SMC 7.1.0
+     * and earlier throw that exception themselves and ignore the
+     * policy.
+     */
+    protected void defaultTransition()
+    {
+        UndefinedTransitionPolicy policy =
+            (_options == null ? null : _options.mUndefinedPolicy);
+
+        if (policy == null)
+        {
+            policy = UndefinedTransitionPolicy.forClass(getClass());
+        }
+
+        switch (policy)
+        {
+            case IGNORE:
+                break;
+
+            case COUNT:
+                ++(options()).mUndefinedCount;
+                break;
+
+            case CALLBACK:
+                ++(options()).mUndefinedCount;
+                if (_options.mUndefinedHandler != null)
+                {
+                    (_options.mUndefinedHandler).undefinedTransition(
+                        this, stateName(), _transition);
+                }
+                break;
+
+            default:
+                throw (
+                    new TransitionUndefinedException(
+                        "State: " +
+                        stateName() +
+                        ", Transition: " +
+                        _transition));
+        }
+
+        return;
+    } // end of defaultTransition()
+
+    // Returns this FSM's options, allocating them if not yet set.
+    private ContextOptions options()
+    {
+        if (_options == null)
+        {
+            _options = new ContextOptions();
+        }
+
+        return (_options);
+    } // end of options()
+
+    // Returns the current state name, the previous state name if
+    // in transition or "(state unknown)" if there is neither.
+    private String stateName()
+    {
+        return (_state != null ?
+                _state.getName() :
+                (_previousState != null ?
+                 _previousState.getName() :
+                 "(state unknown)"));
+    } // end of stateName()
+
     // The following methods allow listeners to watch this
     // finite state machine for state changes.
     // Note: if a transition does not cause a state change,
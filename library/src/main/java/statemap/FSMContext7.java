@@ -30,8 +30,8 @@
 
 package statemap;
 
+import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.PrintStream;
@@ -39,7 +39,9 @@ import java.io.Serializable;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.EmptyStackException;
 
@@ -73,6 +75,33 @@ public abstract class FSMContext7
      */
     protected static final int DEFAULT_TRANSITION_ID = 0;
 
+    /**
+     * Reported as the old state identifier when there is no
+     * previous state.
+     */
+    public static final int NO_STATE_ID = -1;
+
+    /**
+     * Reported as the transition identifier when the state is
+     * changed outside of a transition.
+     */
+    public static final int NO_TRANSITION_ID = -1;
+
+    /**
+     * Returned as the transition start tick by FSMs which do not
+     * publish their transitions to a
+     * {@link TransitionWatchdog}.
+     */
+    public static final long NO_TRANSITION_START = Long.MIN_VALUE;
+
+    /**
+     * FSMs generated with {@code -g -trace} output debug trace
+     * only if this system property is {@code true} when the FSM
+     * class is loaded. Tracing may also be enabled for a single
+     * FSM class by setting "{@value}.&lt;class name&gt;".
+     */
+    public static final String TRACE_PROPERTY = "statemap.trace";
+
     /**
      * Default state and transition name is "Default".
      */
@@ -126,6 +155,36 @@ public abstract class FSMContext7
      */
     private static final long serialVersionUID = 0x070100L;
 
+    /**
+     * The debug stream output prefix for each
+     * {@link TraceSink} phase.
+     */
+    private static final String[] TRACE_PREFIX =
+    {
+        "LEAVING STATE   : ",
+        "BEFORE EXIT     : ",
+        "AFTER EXIT      : ",
+        "ENTER TRANSITION: ",
+        "EXIT TRANSITION : ",
+        "ENTERING STATE  : ",
+        "PUSH TO STATE   : ",
+        "POP TO STATE    : ",
+        "BEFORE ENTRY    : ",
+        "AFTER ENTRY     : "
+    };
+
+    /**
+     * Shared by all FSMs with no state change listeners.
+     */
+    private static final StateChangeListener[] NO_LISTENERS =
+        new StateChangeListener[0];
+
+    /**
+     * The journal argument buffer's initial size. The buffer
+     * grows as needed.
+     */
+    private static final int JOURNAL_ARGS_SIZE = 256;
+
     //-----------------------------------------------------------
     // Locals.
     //
@@ -148,6 +207,13 @@ public abstract class FSMContext7
      */
     transient protected String mTransition;
 
+    /**
+     * The current transition identifier. Reported to state
+     * change listeners. Will be {@link #NO_TRANSITION_ID} when
+     * not in transition.
+     */
+    transient protected int mTransitionId;
+
     /**
      * Stores which state a transition left. May be {@code null}.
      */
@@ -155,10 +221,21 @@ public abstract class FSMContext7
 
     /**
      * This stack is used to store the current state when a push
-     * transition is taken.
+     * transition is taken. Only contexts generated by SMC 7.1.0
+     * and earlier use this stack since they do not allocate
+     * {@link #mStateIdStack}.
      */
     transient protected Deque<State7> mStateStack;
 
+    /**
+     * This stack is used to store the current state identifier
+     * when a push transition is taken. Allocated by
+     * {@link #newStateIdStack()} on the first push, or by the
+     * generated constructor if {@code smc -stack} is given, and
+     * retained once empty.
+     */
+    transient protected StateIdStack mStateIdStack;
+
     /**
      * When this flag is set to {@code true}, this class will
      * print out debug messages.
@@ -171,9 +248,20 @@ public abstract class FSMContext7
     transient protected PrintStream mDebugStream;
 
     /**
-     * Store the property change listeners here.
+     * The trace sink, error handler, metrics, journal and
+     * undefined transition policy. Allocated when the first of
+     * them is set since most FSMs set none. May be {@code null}.
+     */
+    transient private ContextOptions mOptions;
+
+    /**
+     * The registered state change listeners. This array is
+     * replaced, never modified, when a listener is added or
+     * removed so that firing a state change requires neither a
+     * lock nor a copy. Set to {@link #NO_LISTENERS} when there
+     * are no listeners.
      */
-    transient private PropertyChangeSupport mListeners;
+    transient private volatile StateChangeListener[] mListeners;
 
 //---------------------------------------------------------------
 // Member functions
@@ -193,11 +281,14 @@ public abstract class FSMContext7
         mName = "FSMContext";
         mState = initState;
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         mPreviousState = null;
         mStateStack = null;
+        mStateIdStack = null;
         mDebugFlag = false;
         mDebugStream = System.err;
-        mListeners = new PropertyChangeSupport(this);
+        mOptions = null;
+        mListeners = NO_LISTENERS;
     } // end of FSMContext7(State7)
 
     //
@@ -237,7 +328,8 @@ public abstract class FSMContext7
         istream.defaultReadObject();
 
         // Create an empty listeners list.
-        mListeners = new PropertyChangeSupport(this);
+        mTransitionId = NO_TRANSITION_ID;
+        mListeners = NO_LISTENERS;
 
         return;
     } // end of readObject(ObjectInputStream)
@@ -280,6 +372,87 @@ public abstract class FSMContext7
                 mDebugStream);
     } // end of getDebugStream()
 
+    /**
+     * Returns the debug trace sink. Returns {@code null} if
+     * debug trace is written to the debug stream.
+     * @return the debug trace sink.
+     */
+    public TraceSink getTraceSink()
+    {
+        return (mOptions == null ? null : mOptions.mTraceSink);
+    } // end of getTraceSink()
+
+    /**
+     * Returns the transition error handler. May return
+     * {@code null}.
+     * @return the transition error handler.
+     */
+    public TransitionErrorHandler getErrorHandler()
+    {
+        return (mOptions == null ? null : mOptions.mErrorHandler);
+    } // end of getErrorHandler()
+
+    /**
+     * Returns the transition metrics SPI. Returns {@code null}
+     * if transition latency is not measured.
+     * @return the transition metrics SPI.
+     */
+    public TransitionMetrics getMetrics()
+    {
+        return (mOptions == null ? null : mOptions.mMetrics);
+    } // end of getMetrics()
+
+    /**
+     * Returns the transition journal. Returns {@code null} if
+     * transitions are not journaled.
+     * @return the transition journal.
+     */
+    public TransitionJournal getJournal()
+    {
+        return (mOptions == null ? null : mOptions.mJournal);
+    } // end of getJournal()
+
+    /**
+     * Returns the identifier of this FSM's transition journal
+     * entries.
+     * @return the journal identifier.
+     */
+    public long getJournalId()
+    {
+        return (mOptions == null ? 0L : mOptions.mJournalId);
+    } // end of getJournalId()
+
+    /**
+     * Returns {@code true} if debug trace is enabled for the
+     * given FSM class. FSM classes generated with
+     * {@code -g -trace} call this method once, when the class is
+     * loaded, and store the result in a {@code static final}
+     * flag. If {@code false}, then the JIT compiler removes the
+     * trace code.
+     * @param fsmClass the generated FSM class.
+     * @return {@code true} if the {@link #TRACE_PROPERTY} system
+     * property is {@code true} for all FSM classes or for
+     * {@code fsmClass}.
+     */
+    public static boolean isTraceEnabled(final Class<?> fsmClass)
+    {
+        boolean retcode;
+
+        try
+        {
+            retcode =
+                (Boolean.getBoolean(TRACE_PROPERTY) ||
+                 Boolean.getBoolean(
+                     TRACE_PROPERTY + "." + fsmClass.getName()));
+        }
+        catch (SecurityException secex)
+        {
+            retcode = false;
+        }
+
+        return (retcode);
+    } // end of isTraceEnabled(Class)
+
     /**
      * Returns {@code true} if this FSM is in a transition and
      * {@code false} otherwise.
@@ -308,6 +481,31 @@ public abstract class FSMContext7
         return (mState);
     } // end of getState()
 
+    /**
+     * Returns the current state identifier. Unlike
+     * {@link #getState()}, does not throw if the FSM is in
+     * transition.
+     * @return the current state identifier or
+     * {@link #NO_STATE_ID} if the FSM is in transition.
+     */
+    public int getStateId()
+    {
+        return (mState == null ? NO_STATE_ID : mState.getId());
+    } // end of getStateId()
+
+    /**
+     * Returns the name of the state with the given identifier.
+     * @param stateId a generated state identifier.
+     * @return the state name.
+     * @exception UnsupportedOperationException
+     * if this FSM was generated by SMC 7.1.0 or earlier.
+     * @see #getStateId()
+     */
+    public String getStateName(final int stateId)
+    {
+        return ((valueOf(stateId)).getName());
+    } // end of getStateName(int)
+
     /**
      * If this FSM is in transition, then returns the previous
      * state which the last transition left.
@@ -330,6 +528,140 @@ public abstract class FSMContext7
         return (mTransition);
     } // end of getTransition()
 
+    /**
+     * If this FSM is in transition, then returns the transition
+     * identifier. If not in transition, then returns
+     * {@link #NO_TRANSITION_ID}.
+     * @return the current transition identifier.
+     */
+    public int getTransitionId()
+    {
+        return (mTransitionId);
+    } // end of getTransitionId()
+
+    /**
+     * Returns this FSM's undefined transition policy. If no
+     * policy was set, then returns the FSM class's policy.
+     * @return the undefined transition policy.
+     * @see UndefinedTransitionPolicy#forClass(Class)
+     */
+    public UndefinedTransitionPolicy getUndefinedTransitionPolicy()
+    {
+        final UndefinedTransitionPolicy policy =
+            (mOptions == null ? null : mOptions.mUndefinedPolicy);
+
+        return (policy == null ?
+                UndefinedTransitionPolicy.forClass(getClass()) :
+                policy);
+    } // end of getUndefinedTransitionPolicy()
+
+    /**
+     * Returns the undefined transition handler. May return
+     * {@code null}.
+     * @return the undefined transition handler.
+     */
+    public UndefinedTransitionHandler getUndefinedTransitionHandler()
+    {
+        return (mOptions == null ?
+                null :
+                mOptions.mUndefinedHandler);
+    } // end of getUndefinedTransitionHandler()
+
+    /**
+     * Returns the number of undefined transitions counted by
+     * the {@link UndefinedTransitionPolicy#COUNT} and
+     * {@link UndefinedTransitionPolicy#CALLBACK} policies.
+     * @return the undefined transition count.
+     */
+    public long getUndefinedTransitionCount()
+    {
+        return (mOptions == null ? 0L : mOptions.mUndefinedCount);
+    } // end of getUndefinedTransitionCount()
+
+    /**
+     * Returns the state with the given identifier. Used to
+     * restore the state popped from {@link #mStateIdStack}.
+     * Generated contexts override this method. This default
+     * implementation is kept for contexts generated by SMC 7.1.0
+     * and earlier, which do not stack state identifiers.
+     * @param stateId the state identifier.
+     * @return the identified state.
+     * @exception UnsupportedOperationException
+     * always.
+     */
+    protected State7 valueOf(final int stateId)
+    {
+        throw (
+            new UnsupportedOperationException(
+                getClass().getName() +
+                " does not implement valueOf(int)"));
+    } // end of valueOf(int)
+
+    /**
+     * Returns a new, empty state identifier stack. Called on the
+     * first push transition. Generated contexts override this
+     * method. This default implementation returns {@code null}
+     * for contexts generated by SMC 7.1.0 and earlier, which use
+     * the legacy state stack instead.
+     * @return a new state identifier stack or {@code null}.
+     */
+    protected StateIdStack newStateIdStack()
+    {
+        return (null);
+    } // end of newStateIdStack()
+
+    /**
+     * Returns the {@link TransitionWatchdog#currentTick() watchdog
+     * tick} at which the current transition started. FSMs
+     * generated with {@code -watchdog} store the tick in a
+     * generated field and override this method. This default
+     * implementation returns {@link #NO_TRANSITION_START} since
+     * other FSMs do not publish their transitions.
+     * @return the transition start tick.
+     */
+    protected long transitionStart()
+    {
+        return (NO_TRANSITION_START);
+    } // end of transitionStart()
+
+    /**
+     * Returns the identifier of the thread which started the
+     * current transition. FSMs generated with {@code -watchdog}
+     * override this method. This default implementation returns
+     * zero.
+     * @return the transition thread identifier.
+     */
+    protected long transitionThreadId()
+    {
+        return (0L);
+    } // end of transitionThreadId()
+
+    /**
+     * Returns the number of pushed states above the state
+     * handling the current transition. Zero if the current state
+     * handles the transition. FSMs generated with
+     * {@code -hierarchical} store the depth in a generated field
+     * and override this method and
+     * {@link #setBubbleDepth(int)}.
+     * @return the pushed states to unwind.
+     */
+    protected int bubbleDepth()
+    {
+        return (0);
+    } // end of bubbleDepth()
+
+    /**
+     * Sets the number of pushed states above the state handling
+     * the current transition. This default implementation does
+     * nothing.
+     * @param depth the pushed states to unwind.
+     * @see #bubbleDepth()
+     */
+    protected void setBubbleDepth(final int depth)
+    {
+        return;
+    } // end of setBubbleDepth(int)
+
     //
     // end of Get methods.
     //-----------------------------------------------------------
@@ -376,6 +708,94 @@ public abstract class FSMContext7
         return;
     } // end of setDebugStream(PrintStream)
 
+    /**
+     * Passes debug trace to {@code sink} rather than writing it
+     * to the debug stream. If {@code sink} is {@code null}, then
+     * debug trace is written to the debug stream. Debug output
+     * must still be turned on by
+     * {@link #setDebugFlag(boolean)}.
+     * @param sink the debug trace sink. May be {@code null}.
+     */
+    public void setTraceSink(TraceSink sink)
+    {
+        if (sink != null || mOptions != null)
+        {
+            (options()).mTraceSink = sink;
+        }
+
+        return;
+    } // end of setTraceSink(TraceSink)
+
+    /**
+     * Passes transition exceptions and action error codes to
+     * {@code handler}. If {@code handler} is {@code null}, then
+     * transition exceptions are written to the debug stream if
+     * debug output is on.
+     * @param handler the transition error handler. May be
+     * {@code null}.
+     */
+    public void setErrorHandler(TransitionErrorHandler handler)
+    {
+        if (handler != null || mOptions != null)
+        {
+            (options()).mErrorHandler = handler;
+        }
+
+        return;
+    } // end of setErrorHandler(TransitionErrorHandler)
+
+    /**
+     * Passes each transition's state identifier, transition
+     * identifier and latency to {@code metrics}. If
+     * {@code metrics} is {@code null}, then transition latency
+     * is not measured. Only FSMs generated with {@code -metrics}
+     * report transitions. The same metrics instance may be
+     * shared by any number of FSMs.
+     * @param metrics the transition metrics SPI. May be
+     * {@code null}.
+     */
+    public void setMetrics(TransitionMetrics metrics)
+    {
+        if (metrics != null || mOptions != null)
+        {
+            (options()).mMetrics = metrics;
+        }
+
+        return;
+    } // end of setMetrics(TransitionMetrics)
+
+    /**
+     * Appends each completed transition to {@code journal},
+     * identifying this FSM by {@code journalId}. If
+     * {@code journal} is {@code null}, then transitions are not
+     * journaled. Only FSMs generated with {@code -journal}
+     * append transitions. The same journal may be shared by any
+     * number of FSMs, each with a unique journal identifier.
+     * @param journal the transition journal. May be
+     * {@code null}.
+     * @param journalId identifies this FSM in the journal.
+     * @see TransitionJournal#replay
+     */
+    public void setJournal(TransitionJournal journal,
+                           long journalId)
+    {
+        if (journal != null || mOptions != null)
+        {
+            final ContextOptions options = options();
+
+            if (journal != null && options.mJournalArgs == null)
+            {
+                options.mJournalArgs =
+                    ByteBuffer.allocate(JOURNAL_ARGS_SIZE);
+            }
+
+            options.mJournal = journal;
+            options.mJournalId = journalId;
+        }
+
+        return;
+    } // end of setJournal(TransitionJournal, long)
+
     /**
      * Sets the current state to the given value.
      * @param state The current state.
@@ -384,8 +804,7 @@ public abstract class FSMContext7
     {
         if (mDebugFlag == true)
         {
-            mDebugStream.println(
-                "ENTERING STATE  : " + state.getName());
+            trace(TraceSink.ENTERING_STATE, state);
         }
 
         // clearState() is not called when a transition has
@@ -401,7 +820,10 @@ public abstract class FSMContext7
 
         // Inform any and all listeners about this state
         // change.
-        mListeners.firePropertyChange(STATE_PROPERTY, mPreviousState, mState);
+        if (mListeners.length > 0)
+        {
+            fireStateChange();
+        }
 
         return;
     } // end of setState(State7)
@@ -434,22 +856,41 @@ public abstract class FSMContext7
 
         if (mDebugFlag == true)
         {
-            mDebugStream.println(
-                "PUSH TO STATE   : " + state.getName());
+            trace(TraceSink.PUSH_STATE, state);
         }
 
-        if (mStateStack == null)
+        mPreviousState = mState;
+
+        // Allocate the state identifier stack on the first
+        // push. Contexts generated by SMC 7.1.0 and earlier do
+        // not provide one.
+        if (mStateIdStack == null && mStateStack == null)
         {
-            mStateStack = new ArrayDeque<>();
+            mStateIdStack = newStateIdStack();
+        }
+
+        if (mStateIdStack != null)
+        {
+            mStateIdStack.push(mState.getId());
+        }
+        else
+        {
+            if (mStateStack == null)
+            {
+                mStateStack = new ArrayDeque<>();
+            }
+
+            mStateStack.push(mState);
         }
 
-        mPreviousState = mState;
-        mStateStack.push(mState);
         mState = state;
 
         // Inform any and all listeners about this state
         // change.
-        mListeners.firePropertyChange(STATE_PROPERTY, mPreviousState, mState);
+        if (mListeners.length > 0)
+        {
+            fireStateChange();
+        }
 
         return;
     } // end of pushState(State7)
@@ -464,8 +905,10 @@ public abstract class FSMContext7
     public void popState()
         throws EmptyStackException
     {
-        if (mStateStack == null ||
-            mStateStack.isEmpty() == true)
+        if ((mStateIdStack == null ||
+             mStateIdStack.isEmpty() == true) &&
+            (mStateStack == null ||
+             mStateStack.isEmpty() == true))
         {
             if (mDebugFlag == true)
             {
@@ -488,21 +931,31 @@ public abstract class FSMContext7
 
             // The pop method removes the top element
             // from the stack and returns it.
-            mState = mStateStack.pop();
-
-            if (mStateStack.isEmpty() == true)
+            if (mStateIdStack != null)
+            {
+                mState = valueOf(mStateIdStack.pop());
+            }
+            else
             {
-                mStateStack = null;
+                mState = mStateStack.pop();
+
+                if (mStateStack.isEmpty() == true)
+                {
+                    mStateStack = null;
+                }
             }
 
             if (mDebugFlag == true)
             {
-                mDebugStream.println("POP TO STATE    : " + mState.getName());
+                trace(TraceSink.POP_STATE, mState);
             }
 
             // Inform any and all listeners about this state
             // change.
-            mListeners.firePropertyChange(STATE_PROPERTY, mPreviousState, mState);
+            if (mListeners.length > 0)
+            {
+                fireStateChange();
+            }
         }
 
         return;
@@ -513,6 +966,11 @@ public abstract class FSMContext7
      */
     public void emptyStateStack()
     {
+        if (mStateIdStack != null)
+        {
+            mStateIdStack.clear();
+        }
+
         if (mStateStack != null)
         {
             mStateStack.clear();
@@ -534,6 +992,41 @@ public abstract class FSMContext7
         return;
     } // end of enterStartState()
 
+    /**
+     * Sets this FSM's undefined transition policy, overriding
+     * the FSM class's policy. If {@code policy} is {@code null},
+     * then the FSM class's policy is used.
+     * @param policy the undefined transition policy. May be
+     * {@code null}.
+     */
+    public void setUndefinedTransitionPolicy(
+        UndefinedTransitionPolicy policy)
+    {
+        if (policy != null || mOptions != null)
+        {
+            (options()).mUndefinedPolicy = policy;
+        }
+
+        return;
+    } // end of setUndefinedTransitionPolicy(...)
+
+    /**
+     * Calls {@code handler} on each undefined transition if the
+     * policy is {@link UndefinedTransitionPolicy#CALLBACK}.
+     * @param handler the undefined transition handler. May be
+     * {@code null}.
+     */
+    public void setUndefinedTransitionHandler(
+        UndefinedTransitionHandler handler)
+    {
+        if (handler != null || mOptions != null)
+        {
+            (options()).mUndefinedHandler = handler;
+        }
+
+        return;
+    } // end of setUndefinedTransitionHandler(...)
+
     //
     // end of Set methods.
     //-----------------------------------------------------------
@@ -543,6 +1036,68 @@ public abstract class FSMContext7
     // Note: if a transition does not cause a state change,
     // then no state change event is fired.
 
+    /**
+     * Adds a state change listener to the listener list. The
+     * same listener may be added more than once. For each state
+     * change, the listener will be invoked the number of times
+     * it was added. If {@code listener} is {@code null}, no
+     * exception is thrown and no action is taken.
+     * @param listener The state change listener to be added.
+     */
+    public synchronized void
+        addStateChangeListener(StateChangeListener listener)
+    {
+        if (listener != null)
+        {
+            final StateChangeListener[] listeners =
+                Arrays.copyOf(mListeners, mListeners.length + 1);
+
+            listeners[mListeners.length] = listener;
+            mListeners = listeners;
+        }
+
+        return;
+    } // end of addStateChangeListener(StateChangeListener)
+
+    /**
+     * Removes a state change listener. If {@code listener} was
+     * added more than once, it will be notified one less time
+     * after being removed. If {@code listener} is {@code null}
+     * or was never added, no exception is thrown and no action
+     * is taken.
+     * @param listener The state change listener to be removed.
+     */
+    public synchronized void
+        removeStateChangeListener(StateChangeListener listener)
+    {
+        final StateChangeListener[] listeners = mListeners;
+        int index = 0;
+
+        // Remove the first occurrence only.
+        while (index < listeners.length &&
+               listeners[index].equals(listener) == false)
+        {
+            ++index;
+        }
+
+        if (index < listeners.length)
+        {
+            final StateChangeListener[] copy =
+                new StateChangeListener[listeners.length - 1];
+
+            System.arraycopy(listeners, 0, copy, 0, index);
+            System.arraycopy(listeners,
+                             index + 1,
+                             copy,
+                             index,
+                             copy.length - index);
+            mListeners =
+                (copy.length == 0 ? NO_LISTENERS : copy);
+        }
+
+        return;
+    } // end of removeStateChangeListener(StateChangeListener)
+
     /**
      * Adds a PropertyChangeListener to the listener list. The
      * listener is registered for state property changes only.
@@ -550,13 +1105,24 @@ public abstract class FSMContext7
      * state change, the listener will be invoked the number of
      * times it was added. If {@code listener} is {@code null},
      * no exception is thrown and no action is taken.
+     * <p>
+     * The listener is wrapped in a {@link StateChangeListener}
+     * adapter which allocates a {@link PropertyChangeEvent} per
+     * state change. Use
+     * {@link #addStateChangeListener(StateChangeListener)} to
+     * avoid that allocation.
+     * </p>
      * @param listener The PropertyChangeListener to be added.
      */
     public void
         addStateChangeListener(PropertyChangeListener listener)
     {
-        mListeners.addPropertyChangeListener(
-            STATE_PROPERTY, listener);
+        if (listener != null)
+        {
+            addStateChangeListener(
+                new PropertyChangeAdapter(listener));
+        }
+
         return;
     }
 
@@ -573,32 +1139,215 @@ public abstract class FSMContext7
         removeStateChangeListener(
             PropertyChangeListener listener)
     {
-        mListeners.removePropertyChangeListener(
-            STATE_PROPERTY, listener);
+        if (listener != null)
+        {
+            removeStateChangeListener(
+                new PropertyChangeAdapter(listener));
+        }
+
         return;
     } // end of removeStateChangeListener(PropertyChangeListener)
 
     /**
-     * The default Default state/Default transition definition is
-     * to throw a {@link TransitionUndefinedException} which
-     * contains the current state and current transition in the
-     * detailed message.
+     * The default Default state/Default transition definition.
+     * What happens depends on this FSM's
+     * {@link UndefinedTransitionPolicy undefined transition policy}.
+     * The {@link UndefinedTransitionPolicy#THROW} policy throws
+     * a {@link TransitionUndefinedException} which contains the
+     * current state and current transition in the detailed
+     * message. If no policy is set for this FSM, then the FSM
+     * class's policy is used, so setting a {@code null} policy
+     * restores the class policy.
      */
     protected void defaultTransition()
     {
+        UndefinedTransitionPolicy policy =
+            (mOptions == null ? null : mOptions.mUndefinedPolicy);
+
         if (mDebugFlag == true)
         {
             mDebugStream.println("TRANSITION      : Default");
         }
 
-        throw (
-            new TransitionUndefinedException(
-                "State: " +
-                stateName() +
-                ", Transition: " +
-                getTransition()));
+        if (policy == null)
+        {
+            policy = UndefinedTransitionPolicy.forClass(getClass());
+        }
+
+        switch (policy)
+        {
+            case IGNORE:
+                break;
+
+            case COUNT:
+                ++(options()).mUndefinedCount;
+                break;
+
+            case CALLBACK:
+                ++(options()).mUndefinedCount;
+                if (mOptions.mUndefinedHandler != null)
+                {
+                    (mOptions.mUndefinedHandler).undefinedTransition(
+                        this, stateName(), getTransition());
+                }
+                break;
+
+            default:
+                throw (
+                    new TransitionUndefinedException(
+                        "State: " +
+                        stateName() +
+                        ", Transition: " +
+                        getTransition()));
+        }
+
+        return;
     } // end of defaultTransition()
 
+    /**
+     * Generated transition methods call this method when a
+     * transition throws an exception. Passes the exception to
+     * the error handler, if set. Otherwise writes the stack
+     * trace to the debug stream if debug output is on.
+     * @param t the exception thrown by the transition.
+     */
+    protected final void transitionFailed(final Throwable t)
+    {
+        final TransitionErrorHandler handler = getErrorHandler();
+
+        if (handler != null)
+        {
+            try
+            {
+                handler.transitionFailed(this, mTransition, t);
+            }
+            catch (RuntimeException rtex)
+            {
+                // Ignore handler exceptions.
+            }
+        }
+        else if (mDebugFlag == true)
+        {
+            t.printStackTrace(mDebugStream);
+        }
+
+        return;
+    } // end of transitionFailed(Throwable)
+
+    /**
+     * FSMs generated with {@code -errorcode} call this method
+     * when a transition action returns a non-zero error code.
+     * Passes the error code to the error handler, if set.
+     * Otherwise writes the error code to the debug stream if
+     * debug output is on.
+     * @param errorCode the action's error code.
+     */
+    protected final void actionFailed(final int errorCode)
+    {
+        final TransitionErrorHandler handler = getErrorHandler();
+
+        if (handler != null)
+        {
+            try
+            {
+                handler.actionFailed(this, mTransition, errorCode);
+            }
+            catch (RuntimeException rtex)
+            {
+                // Ignore handler exceptions.
+            }
+        }
+        else if (mDebugFlag == true)
+        {
+            mDebugStream.println(
+                "ACTION FAILED   : " +
+                mTransition +
+                ", error code " +
+                errorCode);
+        }
+
+        return;
+    } // end of actionFailed(int)
+
+    /**
+     * FSMs generated with {@code -hierarchical} call this method
+     * to find the transition method for the current state. A
+     * transition is handled by the current state if the state,
+     * its map's default state or one of their Default
+     * transitions defines it. Only if the transition is not
+     * handled at all are the pushing states searched from the
+     * top of the state stack down. The first pushing state
+     * defining the transition handles it. If no pushing state
+     * defines the transition, then the system default transition
+     * is used.
+     * <p>
+     * Whether a state handles a transition is the
+     * {@link TransitionHandle#isSystemDefault() system default flag}
+     * in the state's transition table, so the search is one
+     * table look up per pushed state and only made for
+     * transitions the current state does not handle.
+     * </p>
+     * @param transitionId the transition identifier.
+     * @return the transition method handle.
+     * @exception StateUndefinedException
+     * if the FSM is in transition.
+     */
+    protected final TransitionHandle bubbleTransition(final int transitionId)
+    {
+        TransitionHandle retval =
+            (getState()).transition(transitionId);
+        TransitionHandle th;
+        int index;
+        int depth = 0;
+
+        if (retval.isSystemDefault() == true &&
+            mStateIdStack != null &&
+            mStateIdStack.isEmpty() == false)
+        {
+            for (index = (mStateIdStack.size() - 1);
+                 index >= 0;
+                 --index)
+            {
+                th =
+                    (valueOf(mStateIdStack.get(index))).transition(
+                        transitionId);
+                if (th.isDefault() == false)
+                {
+                    depth = (mStateIdStack.size() - index);
+                    retval = th;
+                    break;
+                }
+            }
+        }
+
+        setBubbleDepth(depth);
+
+        return (retval);
+    } // end of bubbleTransition(int)
+
+    /**
+     * FSMs generated with {@code -hierarchical} call this method
+     * before a transition exits its state. If the transition is
+     * handled by a pushing state, then the pushed states above
+     * it are exited and popped first. The pushing state is then
+     * the current state. Pushed states are not exited by
+     * transitions which stay in the pushing state.
+     */
+    protected final void unwindState()
+    {
+        int depth;
+
+        while ((depth = bubbleDepth()) > 0)
+        {
+            setBubbleDepth(depth - 1);
+
+            exitState();
+            popState();
+        }
+
+        return;
+    } // end of unwindState()
+
     /**
      * Returns the name of the current state or previous state
      * if in transition. If there is no current or previous state
@@ -614,6 +1363,409 @@ public abstract class FSMContext7
                  "(state unknown)"));
     } // end of stateName()
 
+    /**
+     * Passes the debug trace event to the trace sink or, if
+     * there is no sink, writes the event to the debug stream.
+     * FSMs generated with {@code -g -trace} call this method in
+     * place of writing to the debug stream. The caller is
+     * responsible for checking the debug flag.
+     * @param phase one of the {@link TraceSink} phases.
+     * @param stateId the state identifier.
+     */
+    protected final void trace(final int phase,
+                               final int stateId)
+    {
+        final TraceSink sink = getTraceSink();
+
+        if (sink != null)
+        {
+            sink.trace(this, phase, stateId, mTransitionId);
+        }
+        else
+        {
+            trace(phase, valueOf(stateId));
+        }
+
+        return;
+    } // end of trace(int, int)
+
+    /**
+     * Passes the debug trace event to the trace sink or, if
+     * there is no sink, writes the event to the debug stream.
+     * @param phase one of the {@link TraceSink} phases.
+     * @param state the traced state.
+     */
+    private void trace(final int phase,
+                       final State7 state)
+    {
+        final TraceSink sink = getTraceSink();
+
+        if (sink != null)
+        {
+            sink.trace(this, phase, state.getId(), mTransitionId);
+        }
+        else if (mDebugStream != null)
+        {
+            final StringBuilder output = new StringBuilder();
+
+            output.append(TRACE_PREFIX[phase])
+                  .append(state.getName());
+
+            switch (phase)
+            {
+                case TraceSink.BEFORE_EXIT:
+                case TraceSink.AFTER_EXIT:
+                    output.append(".exit()");
+                    break;
+
+                case TraceSink.BEFORE_ENTRY:
+                case TraceSink.AFTER_ENTRY:
+                    output.append(".entry()");
+                    break;
+
+                case TraceSink.ENTER_TRANSITION:
+                case TraceSink.EXIT_TRANSITION:
+                    output.append('.').append(mTransition);
+                    break;
+
+                default:
+                    break;
+            }
+
+            mDebugStream.println(output);
+        }
+
+        return;
+    } // end of trace(int, State7)
+
+    /**
+     * Returns the journaled state stack depth. FSMs generated
+     * with {@code -journal} save this depth and the current state
+     * before each transition.
+     * @return the state identifier stack size.
+     */
+    protected final int journalDepth()
+    {
+        return (mStateIdStack == null ? 0 : mStateIdStack.size());
+    } // end of journalDepth()
+
+    /**
+     * Returns {@code true} if the current state or state stack
+     * depth differ from the given values. A failed transition
+     * is journaled if it changed either one since the FSM's state
+     * is set even when an action throws.
+     * @param state the state before the transition.
+     * @param depth the state stack depth before the transition.
+     * @return {@code true} if the transition changed the state
+     * or state stack.
+     */
+    protected final boolean journalChanged(final State7 state,
+                                           final int depth)
+    {
+        return (mState != state || journalDepth() != depth);
+    } // end of journalChanged(State7, int)
+
+    /**
+     * Starts a transition journal entry. FSMs generated with
+     * {@code -journal} call this method, then
+     * {@code journalArg} for each transition argument and then
+     * {@link #journalEnd(int)}, after each transition when the
+     * journal is set.
+     */
+    protected final void journalBegin()
+    {
+        (mOptions.mJournalArgs).clear();
+        return;
+    } // end of journalBegin()
+
+    /**
+     * Appends a {@code boolean} transition argument to the journal
+     * entry.
+     * @param value the transition argument.
+     */
+    protected final void journalArg(final boolean value)
+    {
+        final ByteBuffer args = journalArgs(2);
+
+        args.put(TransitionJournal.ARG_BOOLEAN);
+        args.put(value ? (byte) 1 : (byte) 0);
+
+        return;
+    } // end of journalArg(boolean)
+
+    /**
+     * Appends a {@code byte} transition argument to the journal
+     * entry.
+     * @param value the transition argument.
+     */
+    protected final void journalArg(final byte value)
+    {
+        final ByteBuffer args = journalArgs(2);
+
+        args.put(TransitionJournal.ARG_BYTE);
+        args.put(value);
+
+        return;
+    } // end of journalArg(byte)
+
+    /**
+     * Appends a {@code char} transition argument to the journal
+     * entry.
+     * @param value the transition argument.
+     */
+    protected final void journalArg(final char value)
+    {
+        final ByteBuffer args = journalArgs(3);
+
+        args.put(TransitionJournal.ARG_CHAR);
+        args.putChar(value);
+
+        return;
+    } // end of journalArg(char)
+
+    /**
+     * Appends a {@code short} transition argument to the journal
+     * entry.
+     * @param value the transition argument.
+     */
+    protected final void journalArg(final short value)
+    {
+        final ByteBuffer args = journalArgs(3);
+
+        args.put(TransitionJournal.ARG_SHORT);
+        args.putShort(value);
+
+        return;
+    } // end of journalArg(short)
+
+    /**
+     * Appends a {@code int} transition argument to the journal
+     * entry.
+     * @param value the transition argument.
+     */
+    protected final void journalArg(final int value)
+    {
+        final ByteBuffer args = journalArgs(5);
+
+        args.put(TransitionJournal.ARG_INT);
+        args.putInt(value);
+
+        return;
+    } // end of journalArg(int)
+
+    /**
+     * Appends a {@code long} transition argument to the journal
+     * entry.
+     * @param value the transition argument.
+     */
+    protected final void journalArg(final long value)
+    {
+        final ByteBuffer args = journalArgs(9);
+
+        args.put(TransitionJournal.ARG_LONG);
+        args.putLong(value);
+
+        return;
+    } // end of journalArg(long)
+
+    /**
+     * Appends a {@code float} transition argument to the journal
+     * entry.
+     * @param value the transition argument.
+     */
+    protected final void journalArg(final float value)
+    {
+        final ByteBuffer args = journalArgs(5);
+
+        args.put(TransitionJournal.ARG_FLOAT);
+        args.putFloat(value);
+
+        return;
+    } // end of journalArg(float)
+
+    /**
+     * Appends a {@code double} transition argument to the journal
+     * entry.
+     * @param value the transition argument.
+     */
+    protected final void journalArg(final double value)
+    {
+        final ByteBuffer args = journalArgs(9);
+
+        args.put(TransitionJournal.ARG_DOUBLE);
+        args.putDouble(value);
+
+        return;
+    } // end of journalArg(double)
+
+    /**
+     * Appends an object transition argument to the journal
+     * entry. Boxed primitives, strings and {@code byte[]} are
+     * written by value and any other object as its string value.
+     * @param value the transition argument. May be
+     * {@code null}.
+     */
+    protected final void journalArg(final Object value)
+    {
+        if (value == null)
+        {
+            final ByteBuffer args = journalArgs(1);
+
+            args.put(TransitionJournal.ARG_NULL);
+        }
+        else if (value instanceof Boolean)
+        {
+            journalArg(((Boolean) value).booleanValue());
+        }
+        else if (value instanceof Byte)
+        {
+            journalArg(((Byte) value).byteValue());
+        }
+        else if (value instanceof Character)
+        {
+            journalArg(((Character) value).charValue());
+        }
+        else if (value instanceof Short)
+        {
+            journalArg(((Short) value).shortValue());
+        }
+        else if (value instanceof Integer)
+        {
+            journalArg(((Integer) value).intValue());
+        }
+        else if (value instanceof Long)
+        {
+            journalArg(((Long) value).longValue());
+        }
+        else if (value instanceof Float)
+        {
+            journalArg(((Float) value).floatValue());
+        }
+        else if (value instanceof Double)
+        {
+            journalArg(((Double) value).doubleValue());
+        }
+        else if (value instanceof byte[])
+        {
+            final byte[] bytes = (byte[]) value;
+
+            final ByteBuffer args = journalArgs(5 + bytes.length);
+
+            args.put(TransitionJournal.ARG_BYTES);
+            args.putInt(bytes.length);
+            args.put(bytes);
+        }
+        else
+        {
+            final String text =
+                (value instanceof String ?
+                 (String) value :
+                 String.valueOf(value));
+            final int length = text.length();
+            int i;
+
+            final ByteBuffer args = journalArgs(5 + (2 * length));
+
+            args.put(
+                value instanceof String ?
+                TransitionJournal.ARG_STRING :
+                TransitionJournal.ARG_OBJECT);
+            args.putInt(length);
+
+            for (i = 0; i < length; ++i)
+            {
+                args.putChar(text.charAt(i));
+            }
+        }
+
+        return;
+    } // end of journalArg(Object)
+
+    /**
+     * Appends the journal entry for the transition with the
+     * current state and state stack.
+     * @param transitionId the completed transition.
+     */
+    protected final void journalEnd(final int transitionId)
+    {
+        (mOptions.mJournal).append(mOptions.mJournalId,
+                                   transitionId,
+                                   mState,
+                                   mStateIdStack,
+                                   mOptions.mJournalArgs);
+        return;
+    } // end of journalEnd(int)
+
+    /**
+     * Returns the journal argument buffer, grown if it has fewer
+     * than {@code size} bytes remaining.
+     * @param size the number of bytes about to be written.
+     * @return the journal argument buffer.
+     */
+    private ByteBuffer journalArgs(final int size)
+    {
+        ByteBuffer retval = mOptions.mJournalArgs;
+
+        if (retval.remaining() < size)
+        {
+            final ByteBuffer args =
+                ByteBuffer.allocate(
+                    Math.max(
+                        2 * retval.capacity(),
+                        retval.position() + size));
+
+            retval.flip();
+            args.put(retval);
+            retval = args;
+            mOptions.mJournalArgs = args;
+        }
+
+        return (retval);
+    } // end of journalArgs(int)
+
+    /**
+     * Returns this FSM's options, allocating them if not yet
+     * set.
+     * @return the FSM options.
+     */
+    private ContextOptions options()
+    {
+        if (mOptions == null)
+        {
+            mOptions = new ContextOptions();
+        }
+
+        return (mOptions);
+    } // end of options()
+
+    /**
+     * Informs the state change listeners that this FSM moved
+     * from the previous state to the current state. As with
+     * {@link java.beans.PropertyChangeSupport}, nothing is
+     * reported if the state did not change.
+     */
+    private void fireStateChange()
+    {
+        final StateChangeListener[] listeners = mListeners;
+
+        if (mPreviousState != mState)
+        {
+            final int oldStateId =
+                (mPreviousState == null ?
+                 NO_STATE_ID :
+                 mPreviousState.getId());
+            final int newStateId = mState.getId();
+
+            for (StateChangeListener listener : listeners)
+            {
+                listener.stateChanged(
+                    this, oldStateId, newStateId, mTransitionId);
+            }
+        }
+
+        return;
+    } // end of fireStateChange()
+
     /**
      * Executes the current state entry action, if defined.
      */
@@ -701,6 +1853,12 @@ public abstract class FSMContext7
      *     {@link FSMContext7#defaultTransition}
      *   </li>
      * </ol>
+     * <p>
+     * Classes generated by this SMC version resolve their
+     * transitions at compile time and use
+     * {@link #transitionHandles} instead. This method is
+     * retained for classes generated by earlier versions.
+     * </p>
      * @param lookup used to retrieve the virtual method handle.
      * @param clazz the method is implemented in this class.
      * @param mapName the map name.
@@ -723,6 +1881,7 @@ public abstract class FSMContext7
                                   stateName,
                                   transName);
         boolean isDefault = false;
+        boolean isSystemDefault = false;
         MethodHandle mh = lookupMethod(lookup, clazz, mn, mt);
 
         // Is this method in the current state?
@@ -763,6 +1922,7 @@ public abstract class FSMContext7
                     {
                         // No, four strikes and you are out.
                         // Use the system default transition.
+                        isSystemDefault = true;
                         mh = lookupMethod(lookup,
                                           clazz,
                                           SYSTEM_DEFAULT,
@@ -772,6 +1932,113 @@ public abstract class FSMContext7
             }
         }
 
-        return (new TransitionHandle(isDefault, mh));
+        return (new TransitionHandle(isDefault, isSystemDefault, mh));
     } // end of lookupTransition(...)
+
+    /**
+     * Returns the transition handles for transition methods
+     * resolved by the SMC generator. For method {@code i},
+     * index {@code 2i} holds the handle used when the method
+     * implements the transition and index {@code 2i + 1} the
+     * handle used when the method is a default transition.
+     * Generated classes index this array from a precomputed
+     * per-state table rather than calling
+     * {@link #lookupTransition} for each state and transition.
+     * A method which cannot be found has a {@code null} method
+     * handle.
+     * @param lookup used to retrieve the virtual method handles.
+     * @param clazz the methods are implemented in this class.
+     * @param methodNames the transition method names.
+     * @param methodTypes the transition method signatures.
+     * @return the transition handles.
+     */
+    protected static TransitionHandle[]
+        transitionHandles(final Lookup lookup,
+                          final Class<?> clazz,
+                          final String[] methodNames,
+                          final MethodType[] methodTypes)
+    {
+        final int size = methodNames.length;
+        final TransitionHandle[] retval =
+            new TransitionHandle[2 * size];
+        MethodHandle mh;
+        int index;
+
+        for (index = 0; index < size; ++index)
+        {
+            mh =
+                lookupMethod(lookup,
+                             clazz,
+                             methodNames[index],
+                             methodTypes[index]);
+            retval[2 * index] = new TransitionHandle(false, mh);
+            retval[(2 * index) + 1] =
+                new TransitionHandle(
+                    true,
+                    SYSTEM_DEFAULT.equals(methodNames[index]),
+                    mh);
+        }
+
+        return (retval);
+    } // end of transitionHandles(...)
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * Forwards state changes to a
+     * {@link PropertyChangeListener} as {@link #STATE_PROPERTY}
+     * property change events. Adapters are equal if they wrap
+     * the same listener, which allows
+     * {@link #removeStateChangeListener(PropertyChangeListener)}
+     * to find the adapter.
+     */
+    private static final class PropertyChangeAdapter
+        implements StateChangeListener
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        private final PropertyChangeListener mListener;
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        private PropertyChangeAdapter(
+            final PropertyChangeListener listener)
+        {
+            mListener = listener;
+        } // end of PropertyChangeAdapter(PropertyChangeListener)
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            return (o instanceof PropertyChangeAdapter &&
+                    mListener.equals(
+                        ((PropertyChangeAdapter) o).mListener));
+        } // end of equals(Object)
+
+        @Override
+        public int hashCode()
+        {
+            return (mListener.hashCode());
+        } // end of hashCode()
+
+        @Override
+        public void stateChanged(final FSMContext7 fsm,
+                                 final int oldStateId,
+                                 final int newStateId,
+                                 final int transitionId)
+        {
+            mListener.propertyChange(
+                new PropertyChangeEvent(fsm,
+                                        STATE_PROPERTY,
+                                        fsm.mPreviousState,
+                                        fsm.mState));
+            return;
+        } // end of stateChanged(...)
+    } // end of class PropertyChangeAdapter
 } // end of class FSMContext7
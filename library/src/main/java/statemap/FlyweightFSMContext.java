@@ -0,0 +1,906 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// FlyweightFSMContext.java --
+//
+//  Defines the FlyweightFSMContext class: one shared
+//  -javatable -flyweight context drives many sessions whose
+//  states are kept in a StateSlotStore. Each dispatch runs on a
+//  per-thread cursor so the shared context is never modified.
+//
+
+package statemap;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base class for {@code smc -javatable -flyweight} generated FSM
+ * contexts. A flyweight context holds no session state. Each
+ * session's current state and state stack are kept in a
+ * {@link StateSlotStore} slot.
+ * <p>
+ * A transition is interpreted on a <em>cursor</em>: an instance
+ * of the generated class created by {@link #newCursor()} and
+ * owned by the dispatching thread. The cursor is loaded from
+ * the session's slot, the transition is interpreted as for
+ * {@link TableFSMContext} and the resulting state is stored back
+ * into the slot. The shared context's fields are never changed
+ * by a dispatch, so any number of threads may dispatch through
+ * one shared context at once, provided that each session is
+ * driven by only one thread at a time. A thread's cursors are
+ * reused, so dispatch does not allocate once a thread has
+ * dispatched as many nested sessions.
+ * </p>
+ * <p>
+ * One flyweight context, with its owner, drives any number of
+ * sessions:
+ * </p>
+ * <ul>
+ *   <li>
+ *     the generated {@code dispatch(sessionIndex, transitionId,
+ *     args...)} method issues a transition by identifier and
+ *   </li>
+ *   <li>
+ *     each generated {@code <transition>(sessionIndex, args...)}
+ *     method issues that transition with typed arguments.
+ *   </li>
+ * </ul>
+ * <p>
+ * A transition may dispatch other sessions, or its own session,
+ * from its actions. The generated {@code <transition>(args...)}
+ * methods without a session index apply to the session being
+ * dispatched by the calling thread. The owner finds which
+ * session that is using {@link #getSessionIndex()}. In the same
+ * way the current state and transition getters apply to the
+ * calling thread's session.
+ * </p>
+ * <p>
+ * The name, debug and undefined transition settings are set on
+ * the shared context and copied to the cursor at the start of
+ * each session dispatch.
+ * </p>
+ *
+ * @see StateSlotStore
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public abstract class FlyweightFSMContext
+    extends TableFSMContext
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The session index when no session is being dispatched.
+     */
+    public static final int NO_SESSION = -1;
+
+    /**
+     * The SMC version for Java serialization purposes.
+     */
+    private static final long serialVersionUID = 0x070100L;
+
+    /**
+     * A thread's initial dispatch stack size.
+     */
+    private static final int INITIAL_DEPTH = 4;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * The session slots.
+     */
+    transient protected final StateSlotStore mStore;
+
+    /**
+     * Sessions are started in this state.
+     */
+    transient protected final int mStartStateId;
+
+    /**
+     * The shared context which created this cursor. Will be
+     * {@code null} in the shared context itself.
+     */
+    transient private final FlyweightFSMContext mShared;
+
+    /**
+     * Each thread's cursors. Set in the shared context only.
+     */
+    transient private final ThreadLocal<Dispatches> mDispatches;
+
+    /**
+     * The undefined transitions counted by all cursors. Set in
+     * the shared context only.
+     */
+    transient private final AtomicLong mUndefinedTotal;
+
+    /**
+     * The session loaded into this cursor. Will be
+     * {@link #NO_SESSION} if the cursor is free and always in the
+     * shared context.
+     */
+    transient private int mSessionIndex;
+
+    /**
+     * The number of dispatches in progress for this cursor's
+     * session on the owning thread.
+     */
+    transient private int mLoadCount;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates a shared flyweight context for the given transition
+     * table, session store and session start state.
+     * @param table the FSM transition table.
+     * @param store the session slots.
+     * @param startStateId sessions start in this state.
+     * @exception NullPointerException
+     * if {@code store} is {@code null}.
+     * @exception IllegalArgumentException
+     * if {@code startStateId} is not a valid state identifier
+     * or the FSM has more than
+     * {@link StateSlotStore#MAX_STATE_COUNT} states.
+     */
+    protected FlyweightFSMContext(final TransitionTable table,
+                                  final StateSlotStore store,
+                                  final int startStateId)
+    {
+        super (table, startStateId);
+
+        if (store == null)
+        {
+            throw (new NullPointerException("null store"));
+        }
+        else if (table.stateCount() > StateSlotStore.MAX_STATE_COUNT)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "state count " + table.stateCount() +
+                    " exceeds " + StateSlotStore.MAX_STATE_COUNT));
+        }
+
+        mStore = store;
+        mStartStateId = startStateId;
+        mShared = null;
+        mDispatches = new ThreadLocal<>();
+        mUndefinedTotal = new AtomicLong();
+        mSessionIndex = NO_SESSION;
+        mLoadCount = 0;
+        mStateId = NO_STATE_ID;
+    } // end of FlyweightFSMContext(...)
+
+    /**
+     * Creates a cursor for the given shared context. Called by
+     * the generated {@link #newCursor()}.
+     * @param shared the shared flyweight context.
+     */
+    protected FlyweightFSMContext(final FlyweightFSMContext shared)
+    {
+        super (shared.mTable, shared.mStartStateId);
+
+        mStore = shared.mStore;
+        mStartStateId = shared.mStartStateId;
+        mShared = shared;
+        mDispatches = null;
+        mUndefinedTotal = null;
+        mSessionIndex = NO_SESSION;
+        mLoadCount = 0;
+        mStateId = NO_STATE_ID;
+        mStateStack =
+            new StateIdStack(StateSlotStore.SLOT_STACK_DEPTH);
+    } // end of FlyweightFSMContext(FlyweightFSMContext)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Abstract Method Declarations.
+    //
+
+    /**
+     * Returns a new cursor for this shared context. The
+     * generated class returns a new instance of itself created
+     * with {@link #FlyweightFSMContext(FlyweightFSMContext)}.
+     * @return a new cursor.
+     */
+    protected abstract FlyweightFSMContext newCursor();
+
+    //
+    // end of Abstract Method Declarations.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the session slot store.
+     * @return the session slot store.
+     */
+    public StateSlotStore getStore()
+    {
+        return (mStore);
+    } // end of getStore()
+
+    /**
+     * Returns the session being dispatched by the calling
+     * thread. Returns {@link #NO_SESSION} if no session is being
+     * dispatched.
+     * @return the current session index.
+     */
+    public int getSessionIndex()
+    {
+        final FlyweightFSMContext cursor = activeCursor();
+
+        return (cursor == null ? NO_SESSION : cursor.mSessionIndex);
+    } // end of getSessionIndex()
+
+    /**
+     * Returns {@code true} if the calling thread's session is in
+     * a transition and {@code false} otherwise.
+     * @return {@code true} if in a transition.
+     */
+    @Override
+    public boolean isInTransition()
+    {
+        final FlyweightFSMContext cursor = activeCursor();
+
+        return (cursor != null && cursor.mStateId == NO_STATE_ID);
+    } // end of isInTransition()
+
+    /**
+     * Returns the calling thread's session's current state
+     * identifier.
+     * @return current state identifier.
+     * @exception StateUndefinedException
+     * if no session is being dispatched or the session is in
+     * transition.
+     */
+    @Override
+    public int getStateId()
+        throws StateUndefinedException
+    {
+        final FlyweightFSMContext cursor = cursor();
+
+        if (cursor.mStateId == NO_STATE_ID)
+        {
+            throw (new StateUndefinedException());
+        }
+
+        return (cursor.mStateId);
+    } // end of getStateId()
+
+    /**
+     * Returns the state the calling thread's session's
+     * transition left. Returns {@link #NO_STATE_ID} if there is
+     * none.
+     * @return the previous state identifier.
+     */
+    @Override
+    public int getPreviousStateId()
+    {
+        final FlyweightFSMContext cursor = activeCursor();
+
+        return (cursor == null ?
+                NO_STATE_ID :
+                cursor.mPreviousStateId);
+    } // end of getPreviousStateId()
+
+    /**
+     * Returns the calling thread's session's transition
+     * identifier. Returns {@link #NO_TRANSITION_ID} if not in
+     * transition.
+     * @return the current transition identifier.
+     */
+    @Override
+    public int getTransitionId()
+    {
+        final FlyweightFSMContext cursor = activeCursor();
+
+        return (cursor == null ?
+                NO_TRANSITION_ID :
+                cursor.mTransitionId);
+    } // end of getTransitionId()
+
+    /**
+     * Returns the calling thread's session's transition name.
+     * Returns an empty string if not in transition.
+     * @return the current transition name.
+     */
+    @Override
+    public String getTransition()
+    {
+        final int transitionId = getTransitionId();
+
+        return (transitionId == NO_TRANSITION_ID ?
+                "" :
+                mTable.transitionName(transitionId));
+    } // end of getTransition()
+
+    /**
+     * Returns the number of undefined transitions counted by the
+     * {@link UndefinedTransitionPolicy#COUNT} and
+     * {@link UndefinedTransitionPolicy#CALLBACK} policies over
+     * all sessions.
+     * @return the undefined transition count.
+     */
+    @Override
+    public long getUndefinedTransitionCount()
+    {
+        return (mShared == null ?
+                mUndefinedTotal.get() :
+                mShared.getUndefinedTransitionCount() +
+                mUndefinedCount);
+    } // end of getUndefinedTransitionCount()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Set methods.
+    //
+
+    /**
+     * Starts the session: sets the session to the start state,
+     * empties its state stack and executes the start state's
+     * entry actions.
+     * @param sessionIndex the session index.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     * @exception IllegalStateException
+     * if the calling thread is dispatching this session.
+     */
+    public void enterStartState(final int sessionIndex)
+    {
+        final FlyweightFSMContext cursor;
+
+        if (findCursor(sessionIndex) != null)
+        {
+            throw (
+                new IllegalStateException(
+                    "session " + sessionIndex + " in transition"));
+        }
+
+        mStore.setStateId(sessionIndex, mStartStateId);
+        cursor = load(sessionIndex);
+        try
+        {
+            cursor.enterState();
+        }
+        finally
+        {
+            unload(cursor);
+        }
+
+        return;
+    } // end of enterStartState(int)
+
+    /**
+     * Executes the current state's entry actions for the
+     * calling thread's session.
+     * @exception StateUndefinedException
+     * if no session is being dispatched.
+     */
+    @Override
+    public void enterStartState()
+    {
+        (cursor()).enterState();
+        return;
+    } // end of enterStartState()
+
+    /**
+     * Sets the calling thread's session's current state.
+     * @param stateId The current state identifier.
+     * @exception StateUndefinedException
+     * if no session is being dispatched.
+     */
+    @Override
+    public void setState(final int stateId)
+    {
+        if (mShared == null)
+        {
+            (cursor()).setState(stateId);
+        }
+        else
+        {
+            super.setState(stateId);
+        }
+
+        return;
+    } // end of setState(int)
+
+    /**
+     * Clears the calling thread's session's current state.
+     * @exception StateUndefinedException
+     * if no session is being dispatched.
+     */
+    @Override
+    public void clearState()
+    {
+        if (mShared == null)
+        {
+            (cursor()).clearState();
+        }
+        else
+        {
+            super.clearState();
+        }
+
+        return;
+    } // end of clearState()
+
+    /**
+     * Pushes the calling thread's session's current state and
+     * sets its current state to {@code stateId}.
+     * @param stateId The new current state identifier.
+     * @exception StateUndefinedException
+     * if no session is being dispatched or the session is in
+     * transition.
+     */
+    @Override
+    public void pushState(final int stateId)
+    {
+        if (mShared == null)
+        {
+            (cursor()).pushState(stateId);
+        }
+        else
+        {
+            super.pushState(stateId);
+        }
+
+        return;
+    } // end of pushState(int)
+
+    /**
+     * Pops the calling thread's session's state stack into its
+     * current state.
+     * @exception EmptyStackException
+     * if the state stack is empty.
+     * @exception StateUndefinedException
+     * if no session is being dispatched.
+     */
+    @Override
+    public void popState()
+        throws EmptyStackException
+    {
+        if (mShared == null)
+        {
+            (cursor()).popState();
+        }
+        else
+        {
+            super.popState();
+        }
+
+        return;
+    } // end of popState()
+
+    /**
+     * Empties the calling thread's session's state stack.
+     * @exception StateUndefinedException
+     * if no session is being dispatched.
+     */
+    @Override
+    public void emptyStateStack()
+    {
+        if (mShared == null)
+        {
+            (cursor()).emptyStateStack();
+        }
+        else
+        {
+            super.emptyStateStack();
+        }
+
+        return;
+    } // end of emptyStateStack()
+
+    //
+    // end of Set methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns the calling thread's cursor for the session. If
+     * the thread is already dispatching the session, then this
+     * is a transition issued from within a transition and that
+     * cursor is returned. Otherwise a free cursor is loaded from
+     * the session's slot. Pass the returned cursor to
+     * {@link #unload(FlyweightFSMContext)} when the transition
+     * completes.
+     * @param sessionIndex the session index.
+     * @return the session's cursor.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     * @exception StateUndefinedException
+     * if the session has not been started.
+     */
+    protected final FlyweightFSMContext load(final int sessionIndex)
+    {
+        final FlyweightFSMContext shared =
+            (mShared == null ? this : mShared);
+        final Dispatches dispatches = shared.dispatches();
+        FlyweightFSMContext retval = findCursor(sessionIndex);
+
+        if (retval == null)
+        {
+            retval = dispatches.freeCursor(shared);
+            retval.open(sessionIndex);
+        }
+
+        dispatches.push(retval);
+        ++retval.mLoadCount;
+
+        return (retval);
+    } // end of load(int)
+
+    /**
+     * Ends the dispatch started by {@link #load(int)}. When the
+     * session's outermost dispatch ends, the cursor's state is
+     * stored back into the session's slot and the cursor is
+     * freed.
+     * @param cursor the cursor returned by {@link #load(int)}.
+     */
+    protected final void unload(final FlyweightFSMContext cursor)
+    {
+        final FlyweightFSMContext shared =
+            (mShared == null ? this : mShared);
+
+        (shared.dispatches()).pop();
+
+        --cursor.mLoadCount;
+        if (cursor.mLoadCount == 0)
+        {
+            try
+            {
+                mStore.store(cursor.mSessionIndex,
+                             cursor.mStateId,
+                             cursor.mStateStack);
+            }
+            finally
+            {
+                cursor.close();
+            }
+        }
+
+        return;
+    } // end of unload(FlyweightFSMContext)
+
+    /**
+     * Returns the cursor whose transition methods apply to the
+     * calling thread's session: this context if it is a cursor
+     * or else the cursor of the session the thread is
+     * dispatching.
+     * @return the calling thread's cursor.
+     * @exception StateUndefinedException
+     * if no session is being dispatched.
+     */
+    protected final FlyweightFSMContext cursor()
+    {
+        final FlyweightFSMContext retval = activeCursor();
+
+        if (retval == null)
+        {
+            throw (
+                new StateUndefinedException(
+                    "no session being dispatched"));
+        }
+
+        return (retval);
+    } // end of cursor()
+
+    /**
+     * Loads the session's slot into this free cursor and copies
+     * the shared context's settings.
+     * @param sessionIndex the session index.
+     * @exception StateUndefinedException
+     * if the session has not been started.
+     */
+    private void open(final int sessionIndex)
+    {
+        final int stateId = mStore.load(sessionIndex, mStateStack);
+
+        if (stateId == NO_STATE_ID)
+        {
+            throw (
+                new StateUndefinedException(
+                    "session " + sessionIndex + " not started"));
+        }
+
+        mSessionIndex = sessionIndex;
+        mStateId = stateId;
+        mPreviousStateId = NO_STATE_ID;
+        mTransitionId = NO_TRANSITION_ID;
+        mName = mShared.mName;
+        mDebugFlag = mShared.mDebugFlag;
+        mDebugStream = mShared.mDebugStream;
+        mUndefinedPolicy = mShared.mUndefinedPolicy;
+        mUndefinedHandler = mShared.mUndefinedHandler;
+
+        return;
+    } // end of open(int)
+
+    /**
+     * Frees this cursor, adding its undefined transition count
+     * to the shared context's.
+     */
+    private void close()
+    {
+        if (mUndefinedCount != 0L)
+        {
+            mShared.mUndefinedTotal.addAndGet(mUndefinedCount);
+            mUndefinedCount = 0L;
+        }
+
+        mSessionIndex = NO_SESSION;
+        mStateId = NO_STATE_ID;
+        mPreviousStateId = NO_STATE_ID;
+        mStateStack.clear();
+
+        return;
+    } // end of close()
+
+    /**
+     * Returns this context if it is a cursor, else the cursor of
+     * the session the calling thread is dispatching. Returns
+     * {@code null} if there is no such session.
+     * @return the calling thread's cursor or {@code null}.
+     */
+    private FlyweightFSMContext activeCursor()
+    {
+        final Dispatches dispatches;
+        FlyweightFSMContext retval = this;
+
+        if (mShared == null)
+        {
+            dispatches = mDispatches.get();
+            retval = (dispatches == null ? null : dispatches.top());
+        }
+
+        return (retval);
+    } // end of activeCursor()
+
+    /**
+     * Returns the calling thread's cursor dispatching the
+     * session. Returns {@code null} if the thread is not
+     * dispatching the session.
+     * @param sessionIndex the session index.
+     * @return the session's cursor or {@code null}.
+     */
+    private FlyweightFSMContext findCursor(final int sessionIndex)
+    {
+        final FlyweightFSMContext shared =
+            (mShared == null ? this : mShared);
+        final Dispatches dispatches = shared.mDispatches.get();
+
+        return (dispatches == null ?
+                null :
+                dispatches.find(sessionIndex));
+    } // end of findCursor(int)
+
+    /**
+     * Returns the calling thread's dispatches, creating them on
+     * the thread's first dispatch. Called on the shared context.
+     * @return the calling thread's dispatches.
+     */
+    private Dispatches dispatches()
+    {
+        Dispatches retval = mDispatches.get();
+
+        if (retval == null)
+        {
+            retval = new Dispatches();
+            mDispatches.set(retval);
+        }
+
+        return (retval);
+    } // end of dispatches()
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * A thread's cursors and the stack of the session dispatches
+     * it has in progress. A cursor is in use while its session
+     * is on the stack and is reused once free.
+     */
+    private static final class Dispatches
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        /**
+         * The cursors created for this thread.
+         */
+        private FlyweightFSMContext[] mCursors;
+
+        /**
+         * The number of cursors created.
+         */
+        private int mCursorCount;
+
+        /**
+         * The dispatches in progress, innermost last.
+         */
+        private FlyweightFSMContext[] mStack;
+
+        /**
+         * The number of dispatches in progress.
+         */
+        private int mDepth;
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        //-------------------------------------------------------
+        // Constructors.
+        //
+
+        private Dispatches()
+        {
+            mCursors = new FlyweightFSMContext[INITIAL_DEPTH];
+            mCursorCount = 0;
+            mStack = new FlyweightFSMContext[INITIAL_DEPTH];
+            mDepth = 0;
+        } // end of Dispatches()
+
+        //
+        // end of Constructors.
+        //-------------------------------------------------------
+
+        /**
+         * Returns the innermost dispatch's cursor or
+         * {@code null} if there is none.
+         * @return the current cursor or {@code null}.
+         */
+        private FlyweightFSMContext top()
+        {
+            return (mDepth == 0 ? null : mStack[mDepth - 1]);
+        } // end of top()
+
+        /**
+         * Returns the cursor dispatching the session or
+         * {@code null} if there is none.
+         * @param sessionIndex the session index.
+         * @return the session's cursor or {@code null}.
+         */
+        private FlyweightFSMContext find(final int sessionIndex)
+        {
+            FlyweightFSMContext retval = null;
+            int index;
+
+            for (index = 0;
+                 index < mCursorCount && retval == null;
+                 ++index)
+            {
+                if ((mCursors[index]).mSessionIndex == sessionIndex)
+                {
+                    retval = mCursors[index];
+                }
+            }
+
+            return (retval);
+        } // end of find(int)
+
+        /**
+         * Returns a free cursor, creating one if all are in use.
+         * @param shared creates the new cursor.
+         * @return a free cursor.
+         */
+        private FlyweightFSMContext freeCursor(
+            final FlyweightFSMContext shared)
+        {
+            FlyweightFSMContext retval = null;
+            int index;
+
+            for (index = 0;
+                 index < mCursorCount && retval == null;
+                 ++index)
+            {
+                if ((mCursors[index]).mSessionIndex == NO_SESSION)
+                {
+                    retval = mCursors[index];
+                }
+            }
+
+            if (retval == null)
+            {
+                retval = shared.newCursor();
+
+                if (mCursorCount == mCursors.length)
+                {
+                    mCursors = grow(mCursors);
+                }
+
+                mCursors[mCursorCount] = retval;
+                ++mCursorCount;
+            }
+
+            return (retval);
+        } // end of freeCursor(FlyweightFSMContext)
+
+        /**
+         * Pushes the cursor on to the dispatch stack.
+         * @param cursor the dispatching cursor.
+         */
+        private void push(final FlyweightFSMContext cursor)
+        {
+            if (mDepth == mStack.length)
+            {
+                mStack = grow(mStack);
+            }
+
+            mStack[mDepth] = cursor;
+            ++mDepth;
+
+            return;
+        } // end of push(FlyweightFSMContext)
+
+        /**
+         * Pops the innermost dispatch.
+         */
+        private void pop()
+        {
+            --mDepth;
+            mStack[mDepth] = null;
+
+            return;
+        } // end of pop()
+
+        /**
+         * Returns a copy of {@code cursors} twice the length.
+         * @param cursors the full array.
+         * @return the grown array.
+         */
+        private static FlyweightFSMContext[] grow(
+            final FlyweightFSMContext[] cursors)
+        {
+            final FlyweightFSMContext[] retval =
+                new FlyweightFSMContext[2 * cursors.length];
+
+            System.arraycopy(
+                cursors, 0, retval, 0, cursors.length);
+
+            return (retval);
+        } // end of grow(FlyweightFSMContext[])
+    } // end of class Dispatches
+} // end of class FlyweightFSMContext
@@ -0,0 +1,653 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// MappedSnapshotStore.java --
+//
+//  Defines the MappedSnapshotStore class which checkpoints and
+//  restores many FSM state snapshots in a memory-mapped file.
+//
+
+package statemap;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Stores {@link StateSnapshot} records for a large population of
+ * FSMs in a memory-mapped file, one fixed-size record per FSM.
+ * Each FSM is identified by its record index. Storing an FSM
+ * writes its snapshot directly into the mapped file and
+ * restoring an FSM reads it back, so no Java serialization or
+ * per-record I/O call is made. After a restart, the store is
+ * re-opened and each FSM restored from its record.
+ * <p>
+ * A record is {@link StateSnapshot#HEADER_SIZE} bytes plus four
+ * bytes per state stack entry, up to the maximum stack depth
+ * given when the store is created. A record whose schema hash
+ * is zero is empty.
+ * </p>
+ * <p>
+ * The file is mapped in segments of about
+ * {@link #DEFAULT_SEGMENT_SIZE} bytes, each holding a whole
+ * number of records. {@link #put(int, StateSnapshot)} and
+ * {@link #remove(int)} mark the record's segment as dirty and
+ * {@link #flush()} forces only the dirty segments to storage.
+ * Records written but not yet flushed are still in the operating
+ * system page cache and survive a process restart, but not a
+ * system crash.
+ * </p>
+ * <p>
+ * A store is not thread-safe since records are written and read
+ * through the segment buffer's position. It must be accessed by
+ * one thread at a time and not used after it is closed.
+ * </p>
+ *
+ * @see StateSnapshot
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class MappedSnapshotStore
+    implements Closeable
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * Segments are no larger than {@value} bytes unless a
+     * single record is larger.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 65536;
+
+    /**
+     * The file starts with this magic number, "SMCS".
+     */
+    private static final int MAGIC = 0x534d4353;
+
+    /**
+     * The file format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The file header contains the magic number, version, record
+     * size and record count, in that order.
+     */
+    private static final int FILE_HEADER_SIZE = 16;
+
+    /**
+     * The number of segments tracked by each dirty bit word.
+     */
+    private static final int DIRTY_WORD_BITS = 64;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * The snapshot file.
+     */
+    private final RandomAccessFile mFile;
+
+    /**
+     * The number of bytes in each record.
+     */
+    private final int mRecordSize;
+
+    /**
+     * The number of records in the file.
+     */
+    private final int mRecordCount;
+
+    /**
+     * The number of records in each segment. The last segment
+     * may have fewer.
+     */
+    private final int mSegmentRecords;
+
+    /**
+     * The mapped segments.
+     */
+    private final MappedByteBuffer[] mSegments;
+
+    /**
+     * One bit per segment, set when the segment has unflushed
+     * changes.
+     */
+    private final long[] mDirty;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    private MappedSnapshotStore(final RandomAccessFile file,
+                                final int recordSize,
+                                final int recordCount,
+                                final int segmentRecords,
+                                final MappedByteBuffer[] segments)
+    {
+        mFile = file;
+        mRecordSize = recordSize;
+        mRecordCount = recordCount;
+        mSegmentRecords = segmentRecords;
+        mSegments = segments;
+        mDirty =
+            new long[
+                (segments.length + DIRTY_WORD_BITS - 1) /
+                DIRTY_WORD_BITS];
+    } // end of MappedSnapshotStore(...)
+
+    /**
+     * Opens the snapshot store in {@code file} using the default
+     * segment size. See
+     * {@link #open(File, int, int, int)} for details.
+     * @param file the snapshot file.
+     * @param recordCount the number of records.
+     * @param maxStackDepth the maximum state stack depth stored.
+     * @return the opened snapshot store.
+     * @throws IOException
+     * if {@code file} cannot be opened or mapped or is not a
+     * matching snapshot file.
+     */
+    public static MappedSnapshotStore open(final File file,
+                                           final int recordCount,
+                                           final int maxStackDepth)
+        throws IOException
+    {
+        return (
+            open(file,
+                 recordCount,
+                 maxStackDepth,
+                 DEFAULT_SEGMENT_SIZE));
+    } // end of open(File, int, int)
+
+    /**
+     * Opens the snapshot store in {@code file}. If the file does
+     * not exist or is empty, then it is created with
+     * {@code recordCount} empty records. Otherwise the existing
+     * file's record count and record size must match
+     * {@code recordCount} and {@code maxStackDepth} and the
+     * stored records are retained.
+     * @param file the snapshot file.
+     * @param recordCount the number of records.
+     * @param maxStackDepth the maximum state stack depth stored.
+     * @param segmentSize map the file in segments of about this
+     * many bytes.
+     * @return the opened snapshot store.
+     * @throws IOException
+     * if {@code file} cannot be opened or mapped or is not a
+     * matching snapshot file.
+     * @exception IllegalArgumentException
+     * if {@code recordCount}, {@code maxStackDepth} or
+     * {@code segmentSize} is &lt; zero.
+     */
+    public static MappedSnapshotStore open(final File file,
+                                           final int recordCount,
+                                           final int maxStackDepth,
+                                           final int segmentSize)
+        throws IOException
+    {
+        final int recordSize;
+        final int segmentRecords;
+        final MappedByteBuffer[] segments;
+        final RandomAccessFile raf;
+        final FileChannel channel;
+        int index;
+        long offset;
+        boolean success = false;
+
+        if (recordCount < 0)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid record count " + recordCount));
+        }
+
+        if (maxStackDepth < 0 ||
+            maxStackDepth >
+                (Integer.MAX_VALUE - StateSnapshot.HEADER_SIZE) / 4)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid stack depth " + maxStackDepth));
+        }
+
+        if (segmentSize < 0)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid segment size " + segmentSize));
+        }
+
+        recordSize = StateSnapshot.HEADER_SIZE + (4 * maxStackDepth);
+        segmentRecords = Math.max(1, segmentSize / recordSize);
+        segments =
+            new MappedByteBuffer[
+                (int) (((long) recordCount + segmentRecords - 1) /
+                       segmentRecords)];
+        raf = new RandomAccessFile(file, "rw");
+        channel = raf.getChannel();
+
+        try
+        {
+            if (channel.size() == 0L)
+            {
+                create(channel, recordSize, recordCount);
+            }
+            else
+            {
+                verify(channel, recordSize, recordCount);
+            }
+
+            for (index = 0, offset = FILE_HEADER_SIZE;
+                 index < segments.length;
+                 ++index, offset += ((long) segmentRecords * recordSize))
+            {
+                segments[index] =
+                    channel.map(
+                        FileChannel.MapMode.READ_WRITE,
+                        offset,
+                        (long) recordSize *
+                        Math.min(
+                            segmentRecords,
+                            recordCount - (index * segmentRecords)));
+            }
+
+            success = true;
+        }
+        finally
+        {
+            if (success == false)
+            {
+                raf.close();
+            }
+        }
+
+        return (
+            new MappedSnapshotStore(
+                raf,
+                recordSize,
+                recordCount,
+                segmentRecords,
+                segments));
+    } // end of open(File, int, int, int)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Closeable Interface Implementation.
+    //
+
+    /**
+     * Flushes the dirty segments and closes the snapshot file.
+     * @throws IOException
+     * if closing the file fails.
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        flush();
+        mFile.close();
+
+        return;
+    } // end of close()
+
+    //
+    // end of Closeable Interface Implementation.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the number of records.
+     * @return the record count.
+     */
+    public int recordCount()
+    {
+        return (mRecordCount);
+    } // end of recordCount()
+
+    /**
+     * Returns the number of bytes in each record.
+     * @return the record size.
+     */
+    public int recordSize()
+    {
+        return (mRecordSize);
+    } // end of recordSize()
+
+    /**
+     * Returns the deepest state stack a record can hold.
+     * @return the maximum state stack depth.
+     */
+    public int maxStackDepth()
+    {
+        return ((mRecordSize - StateSnapshot.HEADER_SIZE) / 4);
+    } // end of maxStackDepth()
+
+    /**
+     * Returns {@code true} if the given record is empty.
+     * @param index the record index.
+     * @return {@code true} if no snapshot is stored at
+     * {@code index}.
+     * @exception IndexOutOfBoundsException
+     * if {@code index} is &lt; zero or &ge;
+     * {@link #recordCount()}.
+     */
+    public boolean isEmpty(final int index)
+    {
+        // The segment's limit is left at the last record
+        // accessed, so set the bounds to this record first.
+        final ByteBuffer segment = record(index);
+
+        return (segment.getLong(segment.position()) == 0L);
+    } // end of isEmpty(int)
+
+    /**
+     * Restores {@code fsm} from the given record. Returns
+     * {@code false} and leaves {@code fsm} unchanged if the
+     * record is empty.
+     * @param index the record index.
+     * @param fsm restore this FSM.
+     * @return {@code true} if {@code fsm} was restored.
+     * @exception IndexOutOfBoundsException
+     * if {@code index} is &lt; zero or &ge;
+     * {@link #recordCount()}.
+     * @exception IllegalArgumentException
+     * if the record's schema hash does not match {@code fsm}'s.
+     */
+    public boolean get(final int index, final StateSnapshot fsm)
+    {
+        final ByteBuffer segment = record(index);
+        boolean retcode = false;
+
+        if (segment.getLong(segment.position()) != 0L)
+        {
+            fsm.readFrom(segment);
+            retcode = true;
+        }
+
+        return (retcode);
+    } // end of get(int, StateSnapshot)
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Set methods.
+    //
+
+    /**
+     * Stores {@code fsm}'s snapshot in the given record,
+     * replacing the record's previous contents.
+     * @param index the record index.
+     * @param fsm store this FSM.
+     * @exception IndexOutOfBoundsException
+     * if {@code index} is &lt; zero or &ge;
+     * {@link #recordCount()}.
+     * @exception IllegalArgumentException
+     * if {@code fsm}'s state stack is deeper than
+     * {@link #maxStackDepth()}.
+     */
+    public void put(final int index, final StateSnapshot fsm)
+    {
+        final ByteBuffer segment = record(index);
+
+        if (fsm.snapshotSize() > mRecordSize)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "state stack deeper than " + maxStackDepth()));
+        }
+
+        fsm.writeTo(segment);
+        markDirty(index / mSegmentRecords);
+
+        return;
+    } // end of put(int, StateSnapshot)
+
+    /**
+     * Empties the given record.
+     * @param index the record index.
+     * @exception IndexOutOfBoundsException
+     * if {@code index} is &lt; zero or &ge;
+     * {@link #recordCount()}.
+     */
+    public void remove(final int index)
+    {
+        final ByteBuffer segment = record(index);
+
+        segment.putLong(segment.position(), 0L);
+        markDirty(index / mSegmentRecords);
+
+        return;
+    } // end of remove(int)
+
+    //
+    // end of Set methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Forces each segment changed since the last flush to
+     * storage and returns the number of segments flushed.
+     * @return the number of flushed segments.
+     */
+    public int flush()
+    {
+        int word;
+        int bit;
+        long bits;
+        int retval = 0;
+
+        for (word = 0; word < mDirty.length; ++word)
+        {
+            bits = mDirty[word];
+            mDirty[word] = 0L;
+
+            while (bits != 0L)
+            {
+                bit = Long.numberOfTrailingZeros(bits);
+                bits &= (bits - 1L);
+
+                (mSegments[(word * DIRTY_WORD_BITS) + bit]).force();
+                ++retval;
+            }
+        }
+
+        return (retval);
+    } // end of flush()
+
+    /**
+     * Returns the segment holding the given record with its
+     * position and limit set to the record's bounds.
+     * @param index the record index.
+     * @return the record's segment.
+     */
+    private ByteBuffer record(final int index)
+    {
+        final ByteBuffer retval;
+        final int offset;
+
+        checkIndex(index);
+
+        retval = mSegments[index / mSegmentRecords];
+        offset = (index % mSegmentRecords) * mRecordSize;
+        retval.limit(offset + mRecordSize);
+        retval.position(offset);
+
+        return (retval);
+    } // end of record(int)
+
+    /**
+     * Marks the given segment as having unflushed changes.
+     * @param segment the segment index.
+     */
+    private void markDirty(final int segment)
+    {
+        mDirty[segment / DIRTY_WORD_BITS] |=
+            (1L << (segment % DIRTY_WORD_BITS));
+        return;
+    } // end of markDirty(int)
+
+    /**
+     * Throws {@code IndexOutOfBoundsException} if {@code index}
+     * is not a record index.
+     * @param index the record index.
+     */
+    private void checkIndex(final int index)
+    {
+        if (index < 0 || index >= mRecordCount)
+        {
+            throw (
+                new IndexOutOfBoundsException(
+                    "index " + index + ", count " + mRecordCount));
+        }
+
+        return;
+    } // end of checkIndex(int)
+
+    /**
+     * Writes the file header and sizes a new snapshot file.
+     * @param channel the snapshot file channel.
+     * @param recordSize the record size.
+     * @param recordCount the record count.
+     * @throws IOException
+     * if writing the file fails.
+     */
+    private static void create(final FileChannel channel,
+                               final int recordSize,
+                               final int recordCount)
+        throws IOException
+    {
+        final ByteBuffer header =
+            ByteBuffer.allocate(FILE_HEADER_SIZE);
+
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(recordSize);
+        header.putInt(recordCount);
+        header.flip();
+
+        while (header.hasRemaining())
+        {
+            channel.write(header, header.position());
+        }
+
+        // Writing the last byte extends the file. The records in
+        // between read as zero, that is, empty.
+        if (recordCount > 0)
+        {
+            channel.write(
+                ByteBuffer.allocate(1),
+                FILE_HEADER_SIZE +
+                ((long) recordSize * recordCount) -
+                1L);
+        }
+
+        return;
+    } // end of create(FileChannel, int, int)
+
+    /**
+     * Verifies that an existing file is a snapshot file with the
+     * given record size and count.
+     * @param channel the snapshot file channel.
+     * @param recordSize the expected record size.
+     * @param recordCount the expected record count.
+     * @throws IOException
+     * if reading the file fails or the file header does not
+     * match.
+     */
+    private static void verify(final FileChannel channel,
+                               final int recordSize,
+                               final int recordCount)
+        throws IOException
+    {
+        final ByteBuffer header =
+            ByteBuffer.allocate(FILE_HEADER_SIZE);
+        final int magic;
+        final int version;
+        final int size;
+        final int count;
+
+        while (header.hasRemaining())
+        {
+            if (channel.read(header, header.position()) < 0)
+            {
+                throw (
+                    new IOException("truncated snapshot file"));
+            }
+        }
+
+        header.flip();
+        magic = header.getInt();
+        version = header.getInt();
+        size = header.getInt();
+        count = header.getInt();
+
+        if (magic != MAGIC || version != VERSION)
+        {
+            throw (new IOException("not a snapshot file"));
+        }
+
+        if (size != recordSize || count != recordCount)
+        {
+            throw (
+                new IOException(
+                    "snapshot file has " +
+                    count +
+                    " " +
+                    size +
+                    "-byte records, expected " +
+                    recordCount +
+                    " " +
+                    recordSize +
+                    "-byte records"));
+        }
+
+        if (channel.size() <
+                FILE_HEADER_SIZE + ((long) size * count))
+        {
+            throw (new IOException("truncated snapshot file"));
+        }
+
+        return;
+    } // end of verify(FileChannel, int, int)
+} // end of class MappedSnapshotStore
@@ -0,0 +1,67 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// StateChangeListener.java --
+//
+//  Defines the StateChangeListener interface notified by
+//  FSMContext7 when the current state changes.
+//
+
+package statemap;
+
+/**
+ * Receives {@link FSMContext7} state changes as primitive state
+ * and transition identifiers. Unlike
+ * {@link java.beans.PropertyChangeListener}, no event object is
+ * allocated per state change. Listeners are called on the
+ * thread issuing the transition, while the FSM is still in that
+ * transition, and so must not block.
+ *
+ * @see FSMContext7#addStateChangeListener(StateChangeListener)
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public interface StateChangeListener
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * The FSM moved from {@code oldStateId} to
+     * {@code newStateId} while processing
+     * {@code transitionId}. State identifiers are the generated
+     * {@code <map>_<state>_STATE_ID} constants.
+     * @param fsm the finite state machine changing state.
+     * @param oldStateId the state left. Will be
+     * {@link FSMContext7#NO_STATE_ID} if there is no previous
+     * state.
+     * @param newStateId the state entered.
+     * @param transitionId the transition in progress. Will be
+     * {@link FSMContext7#NO_TRANSITION_ID} if the state was set
+     * outside of a transition.
+     */
+    void stateChanged(FSMContext7 fsm,
+                      int oldStateId,
+                      int newStateId,
+                      int transitionId);
+} // end of interface StateChangeListener
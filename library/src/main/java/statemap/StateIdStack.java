@@ -0,0 +1,260 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// StateIdStack.java --
+//
+//  Defines the StateIdStack class, the int[] backed push/pop
+//  state stack used by the generated FSM contexts.
+//
+
+
+package statemap;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * The push/pop transition state stack. Stores state identifiers
+ * in an {@code int} array which grows when full but never
+ * shrinks, so push and pop do not allocate once the stack
+ * reaches its working depth. Unlike {@link java.util.Stack}, no
+ * lock is taken and no state is boxed.
+ * <p>
+ * The initial capacity is set by {@code smc -stack}. Without
+ * {@code -stack} the stack starts with
+ * {@link #DEFAULT_CAPACITY} slots.
+ * </p>
+ *
+ * @see FSMContext#valueOf(int)
+ * @see FSMContext7#valueOf(int)
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class StateIdStack
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The default initial stack capacity is {@value}.
+     */
+    public static final int DEFAULT_CAPACITY = 8;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * The stacked state identifiers. The stack top is at
+     * {@code mSize - 1}.
+     */
+    private int[] mStack;
+
+    /**
+     * The number of stacked states.
+     */
+    private int mSize;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates an empty state stack with the default capacity.
+     */
+    public StateIdStack()
+    {
+        this (DEFAULT_CAPACITY);
+    } // end of StateIdStack()
+
+    /**
+     * Creates an empty state stack with the given initial
+     * capacity.
+     * @param capacity the initial stack capacity.
+     * @exception IllegalArgumentException
+     * if {@code capacity} is &le; zero.
+     */
+    public StateIdStack(final int capacity)
+    {
+        if (capacity <= 0)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "capacity <= zero"));
+        }
+
+        mStack = new int[capacity];
+        mSize = 0;
+    } // end of StateIdStack(int)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Object Method Overrides.
+    //
+
+    /**
+     * Returns the stacked state identifiers from bottom to top.
+     * @return textual representation of this stack.
+     */
+    @Override
+    public String toString()
+    {
+        return (Arrays.toString(Arrays.copyOf(mStack, mSize)));
+    } // end of toString()
+
+    //
+    // end of Object Method Overrides.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns {@code true} if the stack is empty.
+     * @return {@code true} if the stack is empty.
+     */
+    public boolean isEmpty()
+    {
+        return (mSize == 0);
+    } // end of isEmpty()
+
+    /**
+     * Returns the number of stacked states.
+     * @return the stack depth.
+     */
+    public int size()
+    {
+        return (mSize);
+    } // end of size()
+
+    /**
+     * Returns the current capacity. The stack grows past this
+     * depth without losing states.
+     * @return the stack capacity.
+     */
+    public int capacity()
+    {
+        return (mStack.length);
+    } // end of capacity()
+
+    /**
+     * Returns the state identifier at the given stack index.
+     * Index zero is the bottom of the stack, {@code size() - 1}
+     * the top.
+     * @param index the stack index.
+     * @return the state identifier.
+     * @exception IndexOutOfBoundsException
+     * if {@code index} is &lt; zero or &ge; {@link #size()}.
+     */
+    public int get(final int index)
+    {
+        if (index < 0 || index >= mSize)
+        {
+            throw (
+                new IndexOutOfBoundsException(
+                    "index " + index + ", size " + mSize));
+        }
+
+        return (mStack[index]);
+    } // end of get(int)
+
+    /**
+     * Returns the state identifier on top of the stack without
+     * removing it.
+     * @return the top state identifier.
+     * @exception EmptyStackException
+     * if the stack is empty.
+     */
+    public int peek()
+    {
+        if (mSize == 0)
+        {
+            throw (new EmptyStackException());
+        }
+
+        return (mStack[mSize - 1]);
+    } // end of peek()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Pushes {@code stateId} on top of the stack, doubling the
+     * stack capacity if the stack is full.
+     * @param stateId the pushed state identifier.
+     */
+    public void push(final int stateId)
+    {
+        if (mSize == mStack.length)
+        {
+            mStack = Arrays.copyOf(mStack, 2 * mStack.length);
+        }
+
+        mStack[mSize] = stateId;
+        ++mSize;
+
+        return;
+    } // end of push(int)
+
+    /**
+     * Removes and returns the state identifier on top of the
+     * stack.
+     * @return the top state identifier.
+     * @exception EmptyStackException
+     * if the stack is empty.
+     */
+    public int pop()
+    {
+        if (mSize == 0)
+        {
+            throw (new EmptyStackException());
+        }
+
+        --mSize;
+
+        return (mStack[mSize]);
+    } // end of pop()
+
+    /**
+     * Removes all states from the stack. The capacity is
+     * retained.
+     */
+    public void clear()
+    {
+        mSize = 0;
+        return;
+    } // end of clear()
+} // end of class StateIdStack
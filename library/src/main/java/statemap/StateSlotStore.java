@@ -0,0 +1,552 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// StateSlotStore.java --
+//
+//  Defines the StateSlotStore class which keeps the current
+//  state and state stack of many flyweight FSM sessions in
+//  flat arrays.
+//
+
+package statemap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stores the state of many {@code smc -javatable -flyweight}
+ * FSM instances as one {@code long} slot per instance, called a
+ * session. A slot holds the session's current state identifier
+ * and up to {@link #SLOT_STACK_DEPTH} pushed state identifiers,
+ * each in 16 bits. A million sessions therefore take 8 MB in a
+ * single primitive array, or outside of the heap entirely,
+ * rather than a million FSM context objects.
+ * <p>
+ * A session whose state stack is deeper than
+ * {@link #SLOT_STACK_DEPTH} is marked as spilled in its slot and
+ * its whole stack is kept in a heap side table until the stack
+ * is short enough to fit in the slot again. The side table is
+ * not part of the slot buffer and so is not kept in a
+ * memory-mapped file.
+ * </p>
+ * <p>
+ * The slots are a {@link LongBuffer}:
+ * </p>
+ * <ul>
+ *   <li>
+ *     {@link #allocate(int)} creates a heap store backed by a
+ *     {@code long[]}.
+ *   </li>
+ *   <li>
+ *     {@link #allocateDirect(int)} creates an off-heap store
+ *     backed by a direct byte buffer.
+ *   </li>
+ *   <li>
+ *     {@link #wrap(LongBuffer)} uses the given buffer, such as
+ *     a memory-mapped file's.
+ *   </li>
+ * </ul>
+ * <p>
+ * A new slot is {@link #EMPTY_SLOT}, meaning the session has
+ * not been started. See
+ * {@link FlyweightFSMContext#enterStartState(int)}.
+ * </p>
+ * <p>
+ * Slots are read and written with absolute buffer operations
+ * and no lock is taken. Different sessions may be driven on
+ * different threads at the same time, but a session must be
+ * driven by one thread at a time.
+ * </p>
+ *
+ * @see FlyweightFSMContext
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class StateSlotStore
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * A slot holds at most {@value} pushed states. Deeper state
+     * stacks are kept in the side table.
+     */
+    public static final int SLOT_STACK_DEPTH = 3;
+
+    /**
+     * A flyweight FSM may have at most {@value} states.
+     */
+    public static final int MAX_STATE_COUNT = 0xfffe;
+
+    /**
+     * A slot with no state and an empty stack. The session has
+     * not been started.
+     */
+    public static final long EMPTY_SLOT = 0L;
+
+    /**
+     * Each state identifier is stored plus one in this many
+     * bits, so that zero means no state.
+     */
+    private static final int ENTRY_BITS = 16;
+
+    /**
+     * Masks a single slot entry.
+     */
+    private static final long ENTRY_MASK = 0xffffL;
+
+    /**
+     * The top slot stack entry is set to this value when the
+     * session's state stack is in the side table. No state
+     * identifier is stored as this value.
+     */
+    private static final long SPILLED = 0xffffL;
+
+    /**
+     * The spilled marker's bit offset in the slot.
+     */
+    private static final int SPILLED_SHIFT =
+        SLOT_STACK_DEPTH * ENTRY_BITS;
+
+    /**
+     * The number of bytes in a slot.
+     */
+    private static final int SLOT_SIZE = 8;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * One slot per session.
+     */
+    private final LongBuffer mSlots;
+
+    /**
+     * The state stacks of spilled sessions, from bottom to top,
+     * by session index.
+     */
+    private final ConcurrentMap<Integer, int[]> mSpilled;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    private StateSlotStore(final LongBuffer slots)
+    {
+        mSlots = slots;
+        mSpilled = new ConcurrentHashMap<>();
+    } // end of StateSlotStore(LongBuffer)
+
+    /**
+     * Returns a heap store with {@code capacity} empty slots.
+     * @param capacity the number of sessions.
+     * @return a heap slot store.
+     * @exception IllegalArgumentException
+     * if {@code capacity} &lt; zero.
+     */
+    public static StateSlotStore allocate(final int capacity)
+    {
+        if (capacity < 0)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid capacity " + capacity));
+        }
+
+        return (new StateSlotStore(LongBuffer.allocate(capacity)));
+    } // end of allocate(int)
+
+    /**
+     * Returns an off-heap store with {@code capacity} empty
+     * slots.
+     * @param capacity the number of sessions.
+     * @return a direct slot store.
+     * @exception IllegalArgumentException
+     * if {@code capacity} &lt; zero or the slots exceed the
+     * maximum direct buffer size.
+     */
+    public static StateSlotStore allocateDirect(final int capacity)
+    {
+        if (capacity < 0 ||
+            capacity > (Integer.MAX_VALUE / SLOT_SIZE))
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid capacity " + capacity));
+        }
+
+        return (
+            new StateSlotStore(
+                (ByteBuffer.allocateDirect(capacity * SLOT_SIZE)
+                           .order(ByteOrder.nativeOrder()))
+                    .asLongBuffer()));
+    } // end of allocateDirect(int)
+
+    /**
+     * Returns a store using the given buffer's slots, from index
+     * zero to the buffer's limit. The buffer's position is not
+     * used.
+     * @param slots the slot buffer.
+     * @return a slot store on {@code slots}.
+     * @exception NullPointerException
+     * if {@code slots} is {@code null}.
+     * @exception IllegalArgumentException
+     * if {@code slots} is read-only.
+     */
+    public static StateSlotStore wrap(final LongBuffer slots)
+    {
+        if (slots == null)
+        {
+            throw (new NullPointerException("null slots"));
+        }
+        else if (slots.isReadOnly())
+        {
+            throw (
+                new IllegalArgumentException("read-only slots"));
+        }
+
+        return (new StateSlotStore(slots));
+    } // end of wrap(LongBuffer)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the number of sessions.
+     * @return the number of sessions.
+     */
+    public int capacity()
+    {
+        return (mSlots.limit());
+    } // end of capacity()
+
+    /**
+     * Returns the session's slot. A spilled session's slot holds
+     * the spilled marker in place of its top stack entry.
+     * @param sessionIndex the session index.
+     * @return the session slot.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     */
+    public long getSlot(final int sessionIndex)
+    {
+        return (mSlots.get(sessionIndex));
+    } // end of getSlot(int)
+
+    /**
+     * Returns the session's current state identifier. Returns
+     * {@link TableFSMContext#NO_STATE_ID} if the session has not
+     * been started.
+     * @param sessionIndex the session index.
+     * @return the current state identifier.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     */
+    public int getStateId(final int sessionIndex)
+    {
+        return (stateId(mSlots.get(sessionIndex)));
+    } // end of getStateId(int)
+
+    /**
+     * Returns the number of states on the session's state
+     * stack.
+     * @param sessionIndex the session index.
+     * @return the state stack depth.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     */
+    public int getStackDepth(final int sessionIndex)
+    {
+        final long slot = mSlots.get(sessionIndex);
+
+        return (isSpilled(slot) ?
+                (spilledStack(sessionIndex)).length :
+                slotStackDepth(slot));
+    } // end of getStackDepth(int)
+
+    /**
+     * Returns {@code true} if the session's state stack is too
+     * deep for its slot and is kept in the side table.
+     * @param sessionIndex the session index.
+     * @return {@code true} if the state stack is spilled.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     */
+    public boolean isSpilled(final int sessionIndex)
+    {
+        return (isSpilled(mSlots.get(sessionIndex)));
+    } // end of isSpilled(int)
+
+    /**
+     * Returns the current state identifier stored in
+     * {@code slot}. Returns {@link TableFSMContext#NO_STATE_ID} if
+     * the slot is empty.
+     * @param slot a session slot.
+     * @return the current state identifier.
+     */
+    public static int stateId(final long slot)
+    {
+        return (((int) (slot & ENTRY_MASK)) - 1);
+    } // end of stateId(long)
+
+    /**
+     * Reads the session's current state and state stack.
+     * {@code stack} is emptied and then filled from bottom to
+     * top with the session's stacked states.
+     * @param sessionIndex the session index.
+     * @param stack fill this state stack.
+     * @return the current state identifier or
+     * {@link TableFSMContext#NO_STATE_ID} if the session has not
+     * been started.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     */
+    public int load(final int sessionIndex,
+                    final StateIdStack stack)
+    {
+        final long slot = mSlots.get(sessionIndex);
+        final int depth;
+        int index;
+
+        stack.clear();
+
+        if (isSpilled(slot))
+        {
+            for (int stateId : spilledStack(sessionIndex))
+            {
+                stack.push(stateId);
+            }
+        }
+        else
+        {
+            depth = slotStackDepth(slot);
+            for (index = 0; index < depth; ++index)
+            {
+                stack.push(
+                    ((int) ((slot >>> ((index + 1) * ENTRY_BITS)) &
+                            ENTRY_MASK)) - 1);
+            }
+        }
+
+        return (stateId(slot));
+    } // end of load(int, StateIdStack)
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Set methods.
+    //
+
+    /**
+     * Writes the session's current state and state stack. A
+     * stack deeper than {@link #SLOT_STACK_DEPTH} is copied into
+     * the side table.
+     * @param sessionIndex the session index.
+     * @param stateId the current state identifier.
+     * @param stack the state stack. May be {@code null}.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     * @exception IllegalArgumentException
+     * if a state identifier is not between zero and
+     * {@link #MAX_STATE_COUNT}.
+     */
+    public void store(final int sessionIndex,
+                      final int stateId,
+                      final StateIdStack stack)
+    {
+        final int depth = (stack == null ? 0 : stack.size());
+        final boolean spilledFlag =
+            isSpilled(mSlots.get(sessionIndex));
+        final int[] spilled;
+        int index;
+        long slot = entry(stateId);
+
+        if (depth > SLOT_STACK_DEPTH)
+        {
+            spilled = new int[depth];
+            for (index = 0; index < depth; ++index)
+            {
+                // Check the identifier now rather than when the
+                // stack is read back.
+                entry(stack.get(index));
+                spilled[index] = stack.get(index);
+            }
+
+            mSpilled.put(sessionIndex, spilled);
+            slot |= (SPILLED << SPILLED_SHIFT);
+        }
+        else
+        {
+            for (index = 0; index < depth; ++index)
+            {
+                slot |=
+                    (entry(stack.get(index)) <<
+                     ((index + 1) * ENTRY_BITS));
+            }
+
+            if (spilledFlag)
+            {
+                mSpilled.remove(sessionIndex);
+            }
+        }
+
+        mSlots.put(sessionIndex, slot);
+
+        return;
+    } // end of store(int, int, StateIdStack)
+
+    /**
+     * Sets the session's current state and empties its state
+     * stack. No state entry actions are executed.
+     * @param sessionIndex the session index.
+     * @param stateId the current state identifier.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     * @exception IllegalArgumentException
+     * if {@code stateId} is not between zero and
+     * {@link #MAX_STATE_COUNT}.
+     */
+    public void setStateId(final int sessionIndex,
+                           final int stateId)
+    {
+        store(sessionIndex, stateId, null);
+        return;
+    } // end of setStateId(int, int)
+
+    /**
+     * Empties the session's slot. The session must be started
+     * again before it is used.
+     * @param sessionIndex the session index.
+     * @exception IndexOutOfBoundsException
+     * if {@code sessionIndex} is not a valid session index.
+     */
+    public void clear(final int sessionIndex)
+    {
+        if (isSpilled(mSlots.get(sessionIndex)))
+        {
+            mSpilled.remove(sessionIndex);
+        }
+
+        mSlots.put(sessionIndex, EMPTY_SLOT);
+
+        return;
+    } // end of clear(int)
+
+    //
+    // end of Set methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns {@code true} if {@code slot} has the spilled
+     * marker.
+     * @param slot a session slot.
+     * @return {@code true} if the state stack is spilled.
+     */
+    private static boolean isSpilled(final long slot)
+    {
+        return (((slot >>> SPILLED_SHIFT) & ENTRY_MASK) == SPILLED);
+    } // end of isSpilled(long)
+
+    /**
+     * Returns the number of states on the state stack stored
+     * in a slot which is not spilled.
+     * @param slot a session slot.
+     * @return the state stack depth.
+     */
+    private static int slotStackDepth(final long slot)
+    {
+        int retval = 0;
+
+        while (retval < SLOT_STACK_DEPTH &&
+               ((slot >>> ((retval + 1) * ENTRY_BITS)) &
+                ENTRY_MASK) != 0L)
+        {
+            ++retval;
+        }
+
+        return (retval);
+    } // end of slotStackDepth(long)
+
+    /**
+     * Returns the spilled session's state stack.
+     * @param sessionIndex the spilled session index.
+     * @return the state stack from bottom to top.
+     * @exception IllegalStateException
+     * if the side table does not have the session's stack.
+     */
+    private int[] spilledStack(final int sessionIndex)
+    {
+        final int[] retval = mSpilled.get(sessionIndex);
+
+        // This happens if the slots were written by another
+        // store, for example one on the same mapped file.
+        if (retval == null)
+        {
+            throw (
+                new IllegalStateException(
+                    "session " + sessionIndex +
+                    " state stack not in side table"));
+        }
+
+        return (retval);
+    } // end of spilledStack(int)
+
+    /**
+     * Returns the state identifier as a slot entry.
+     * @param stateId the state identifier.
+     * @return the slot entry.
+     * @exception IllegalArgumentException
+     * if {@code stateId} is not between zero and
+     * {@link #MAX_STATE_COUNT}.
+     */
+    private static long entry(final int stateId)
+    {
+        if (stateId < 0 || stateId >= MAX_STATE_COUNT)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid state identifier " + stateId));
+        }
+
+        return ((long) (stateId + 1));
+    } // end of entry(int)
+} // end of class StateSlotStore
@@ -0,0 +1,133 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// StateSnapshot.java --
+//
+//  Defines the StateSnapshot interface implemented by -serial
+//  FSM contexts which save and restore their state to a
+//  ByteBuffer.
+//
+
+package statemap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary checkpoint and restore of an FSM's state. FSMs
+ * generated with {@code -java7 -serial} or
+ * {@code -javatable -serial} implement this interface as well as
+ * {@link java.io.Serializable}. Unlike Java serialization, the
+ * snapshot holds only state identifiers and is written to and
+ * read from a caller-supplied {@link ByteBuffer} without
+ * allocating.
+ * <p>
+ * A snapshot is laid out in the buffer's byte order as:
+ * </p>
+ * <ol>
+ *   <li>
+ *     the {@code long} FSM schema hash,
+ *   </li>
+ *   <li>
+ *     the {@code int} current state identifier,
+ *   </li>
+ *   <li>
+ *     the {@code int} previous state identifier,
+ *   </li>
+ *   <li>
+ *     the {@code int} state stack depth and
+ *   </li>
+ *   <li>
+ *     the {@code int} stacked state identifiers from bottom to
+ *     top.
+ *   </li>
+ * </ol>
+ * <p>
+ * A state identifier is {@code NO_STATE_ID} if there is no
+ * current or previous state. The schema hash is computed by
+ * {@code smc} from the FSM's map and state names in identifier
+ * order. A snapshot may only be restored into an FSM with the
+ * same schema hash since otherwise the state identifiers may
+ * refer to different states.
+ * </p>
+ * <p>
+ * The FSM owner, debug settings and transition arguments are not
+ * part of the snapshot. A snapshot should not be taken or
+ * restored while a transition is in progress.
+ * </p>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public interface StateSnapshot
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    /**
+     * A snapshot with an empty state stack is {@value} bytes
+     * long. Each stacked state adds four bytes.
+     */
+    int HEADER_SIZE = 20;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Returns the FSM schema hash written to and expected in
+     * each snapshot.
+     * @return the FSM schema hash.
+     */
+    long getSchemaHash();
+
+    /**
+     * Returns the number of bytes {@link #writeTo(ByteBuffer)}
+     * currently writes.
+     * @return the snapshot size in bytes.
+     */
+    int snapshotSize();
+
+    /**
+     * Writes the FSM's snapshot at the buffer's position and
+     * advances the position by {@link #snapshotSize()} bytes.
+     * @param buffer write the snapshot to this buffer.
+     * @exception java.nio.BufferOverflowException
+     * if {@code buffer} has less than {@link #snapshotSize()}
+     * bytes remaining.
+     */
+    void writeTo(ByteBuffer buffer);
+
+    /**
+     * Restores the FSM's current state, previous state and state
+     * stack from the snapshot at the buffer's position and
+     * advances the position past the snapshot. No state entry or
+     * exit actions are executed.
+     * @param buffer read the snapshot from this buffer.
+     * @exception IllegalArgumentException
+     * if the snapshot's schema hash does not match
+     * {@link #getSchemaHash()}. The buffer position is not
+     * changed.
+     * @exception java.nio.BufferUnderflowException
+     * if {@code buffer} does not contain a complete snapshot.
+     */
+    void readFrom(ByteBuffer buffer);
+} // end of interface StateSnapshot
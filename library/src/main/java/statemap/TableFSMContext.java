@@ -0,0 +1,1040 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TableFSMContext.java --
+//
+//  This package defines the TableFSMContext class which must be
+//  inherited by any Java class wanting to use an smc -javatable
+//  generated state machine.
+//
+
+
+package statemap;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.util.EmptyStackException;
+
+/**
+ * Base class for {@code smc -javatable} generated FSM contexts.
+ * The generated class supplies a {@link TransitionTable} and the
+ * FSM's guard conditions and actions, each identified by an
+ * integer. This class interprets the table: a transition is a
+ * table look up of the current state and transition
+ * identifiers, followed by a walk of the defining rows until a
+ * guard passes.
+ * <p>
+ * The current state is a state identifier rather than a state
+ * object. The generated class has no state classes and no
+ * per-state transition methods, however large the FSM. This
+ * reduces the number of classes loaded, the metaspace used and
+ * the time taken to initialize a large FSM.
+ * </p>
+ * <p>
+ * As with {@link FSMContext}, exceptions thrown by guards and
+ * actions are passed on to the caller. The state is still set
+ * when an action throws.
+ * </p>
+ *
+ * @see TransitionTable
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public abstract class TableFSMContext
+    implements Serializable
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The current state identifier while in transition, and the
+     * previous state identifier when there is no previous state.
+     */
+    public static final int NO_STATE_ID = -1;
+
+    /**
+     * The transition identifier when not in transition.
+     */
+    public static final int NO_TRANSITION_ID = -1;
+
+    /**
+     * The default transition identifier is zero.
+     */
+    protected static final int DEFAULT_TRANSITION_ID = 0;
+
+    /**
+     * The SMC version for Java serialization purposes.
+     */
+    private static final long serialVersionUID = 0x070100L;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * The FSM's transition table. Shared by all instances of the
+     * generated class.
+     */
+    transient protected TransitionTable mTable;
+
+    /**
+     * The FSM name.
+     */
+    transient protected String mName;
+
+    /**
+     * The current state identifier. Will be
+     * {@link #NO_STATE_ID} while in transition.
+     */
+    transient protected int mStateId;
+
+    /**
+     * The state the last transition left. Will be
+     * {@link #NO_STATE_ID} if there is no previous state.
+     */
+    transient protected int mPreviousStateId;
+
+    /**
+     * The current transition identifier. Will be
+     * {@link #NO_TRANSITION_ID} when not in transition.
+     */
+    transient protected int mTransitionId;
+
+    /**
+     * This stack is used to store the current state identifier
+     * when a push transition is taken. Created on the first push
+     * unless preallocated by the generated constructor
+     * ({@code smc -stack}) and retained once empty.
+     */
+    transient protected StateIdStack mStateStack;
+
+    /**
+     * When this flag is set to {@code true}, this class will
+     * print out debug messages.
+     */
+    transient protected boolean mDebugFlag;
+
+    /**
+     * Write debug output to this stream.
+     */
+    transient protected PrintStream mDebugStream;
+
+    /**
+     * What this FSM does when a transition is undefined. If
+     * {@code null}, then the FSM class's policy is used.
+     */
+    transient protected UndefinedTransitionPolicy mUndefinedPolicy;
+
+    /**
+     * The FSM class's undefined transition policy, looked up on
+     * the first undefined transition taken without a
+     * {@link #mUndefinedPolicy policy set} for this FSM.
+     */
+    transient private UndefinedTransitionPolicy mClassUndefinedPolicy;
+
+    /**
+     * Called on an undefined transition if the policy is
+     * {@link UndefinedTransitionPolicy#CALLBACK}. May be
+     * {@code null}.
+     */
+    transient protected UndefinedTransitionHandler
+        mUndefinedHandler;
+
+    /**
+     * The number of undefined transitions counted by the
+     * {@link UndefinedTransitionPolicy#COUNT} and
+     * {@link UndefinedTransitionPolicy#CALLBACK} policies.
+     */
+    transient protected long mUndefinedCount;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates a finite state machine context for the given
+     * transition table and initial state.
+     * @param table the FSM transition table.
+     * @param initStateId the FSM start state identifier.
+     * @exception IllegalArgumentException
+     * if {@code initStateId} is not a valid state identifier.
+     */
+    protected TableFSMContext(final TransitionTable table,
+                              final int initStateId)
+    {
+        if (initStateId < 0 || initStateId >= table.stateCount())
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid state identifier " + initStateId));
+        }
+
+        mTable = table;
+        mName = "FSMContext";
+        mStateId = initStateId;
+        mPreviousStateId = NO_STATE_ID;
+        mTransitionId = NO_TRANSITION_ID;
+        mStateStack = null;
+        mDebugFlag = false;
+        mDebugStream = System.err;
+        mUndefinedPolicy = null;
+        mClassUndefinedPolicy = null;
+        mUndefinedHandler = null;
+        mUndefinedCount = 0L;
+    } // end of TableFSMContext(TransitionTable, int)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Abstract Method Declarations.
+    //
+
+    /**
+     * Returns the identified guard condition's value.
+     * @param guardId the guard identifier.
+     * @return {@code true} if the guard condition is met.
+     */
+    protected abstract boolean guard(int guardId);
+
+    /**
+     * Executes the identified actions. These are a transition's
+     * actions, a state's entry or exit actions or a pop
+     * transition's transition.
+     * @param actionId the action identifier.
+     */
+    protected abstract void action(int actionId);
+
+    //
+    // end of Abstract Method Declarations.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Serializable Interface Implementation.
+    //
+
+    private void readObject(ObjectInputStream istream)
+        throws IOException,
+               ClassNotFoundException
+    {
+        istream.defaultReadObject();
+
+        // The generated class restores the table, the current
+        // state and the state stack.
+        mName = "FSMContext";
+        mPreviousStateId = NO_STATE_ID;
+        mTransitionId = NO_TRANSITION_ID;
+        mDebugStream = System.err;
+
+        return;
+    } // end of readObject(ObjectInputStream)
+
+    //
+    // end of Serializable Interface Implementation.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the FSM name.
+     * @return the FSM name.
+     */
+    public String getName()
+    {
+        return (mName);
+    } // end of getName()
+
+    /**
+     * When debug is set to {@code true}, the state machine
+     * will print messages to the console.
+     * @return {@code true} if debug output is generated.
+     */
+    public boolean getDebugFlag()
+    {
+        return (mDebugFlag && mDebugStream != null);
+    } // end of getDebugFlag()
+
+    /**
+     * Writes the debug output to this stream.
+     * @return the debug output stream.
+     */
+    public PrintStream getDebugStream()
+    {
+        return (mDebugStream == null ?
+                System.err :
+                mDebugStream);
+    } // end of getDebugStream()
+
+    /**
+     * Returns {@code true} if this FSM is in a transition and
+     * {@code false} otherwise.
+     * @return {@code true} if this FSM is in a transition and
+     * {@code false} otherwise.
+     */
+    public boolean isInTransition()
+    {
+        return (mStateId == NO_STATE_ID);
+    } // end of isInTransition()
+
+    /**
+     * Returns the current state identifier.
+     * @return current state identifier.
+     * @exception StateUndefinedException
+     * if the FSM is in transition.
+     */
+    public int getStateId()
+        throws StateUndefinedException
+    {
+        if (mStateId == NO_STATE_ID)
+        {
+            throw (new StateUndefinedException());
+        }
+
+        return (mStateId);
+    } // end of getStateId()
+
+    /**
+     * Returns the current state's
+     * "&lt;map&gt;.&lt;state&gt;" name.
+     * @return current state name.
+     * @exception StateUndefinedException
+     * if the FSM is in transition.
+     */
+    public String getStateName()
+        throws StateUndefinedException
+    {
+        return (mTable.stateName(getStateId()));
+    } // end of getStateName()
+
+    /**
+     * If this FSM is in transition, then returns the state which
+     * the transition left. Returns {@link #NO_STATE_ID} if there
+     * is no previous state.
+     * @return the previous state identifier.
+     */
+    public int getPreviousStateId()
+    {
+        return (mPreviousStateId);
+    } // end of getPreviousStateId()
+
+    /**
+     * If this FSM is in transition, then returns the transition
+     * name. If not in transition, then returns an empty string.
+     * @return the current transition name.
+     */
+    public String getTransition()
+    {
+        return (mTransitionId == NO_TRANSITION_ID ?
+                "" :
+                mTable.transitionName(mTransitionId));
+    } // end of getTransition()
+
+    /**
+     * If this FSM is in transition, then returns the transition
+     * identifier. If not in transition, then returns
+     * {@link #NO_TRANSITION_ID}.
+     * @return the current transition identifier.
+     */
+    public int getTransitionId()
+    {
+        return (mTransitionId);
+    } // end of getTransitionId()
+
+    /**
+     * Returns this FSM's undefined transition policy. If no
+     * policy was set, then returns the FSM class's policy.
+     * @return the undefined transition policy.
+     * @see UndefinedTransitionPolicy#forClass(Class)
+     */
+    public UndefinedTransitionPolicy getUndefinedTransitionPolicy()
+    {
+        return (mUndefinedPolicy == null ?
+                UndefinedTransitionPolicy.forClass(getClass()) :
+                mUndefinedPolicy);
+    } // end of getUndefinedTransitionPolicy()
+
+    /**
+     * Returns the undefined transition handler. May return
+     * {@code null}.
+     * @return the undefined transition handler.
+     */
+    public UndefinedTransitionHandler getUndefinedTransitionHandler()
+    {
+        return (mUndefinedHandler);
+    } // end of getUndefinedTransitionHandler()
+
+    /**
+     * Returns the number of undefined transitions counted by
+     * the {@link UndefinedTransitionPolicy#COUNT} and
+     * {@link UndefinedTransitionPolicy#CALLBACK} policies.
+     * @return the undefined transition count.
+     */
+    public long getUndefinedTransitionCount()
+    {
+        return (mUndefinedCount);
+    } // end of getUndefinedTransitionCount()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Set methods.
+    //
+
+    /**
+     * Sets the FSM name.
+     * @param name The finite state machine name.
+     */
+    public void setName(String name)
+    {
+        if (name != null &&
+            name.length() > 0 &&
+            name.equals(mName) == false)
+        {
+            mName = name;
+        }
+
+        return;
+    } // end of setName(String)
+
+    /**
+     * Turns debug output on if {@code flag} is {@code true} and
+     * off if {@code flag} is {@code false}.
+     * @param flag {@code true} to turn debuggin on and
+     * {@code false} to turn debugging off.
+     */
+    public void setDebugFlag(boolean flag)
+    {
+        mDebugFlag = flag;
+        return;
+    } // end of setDebugFlag(boolean)
+
+    /**
+     * Sets the debug output stream to the given value.
+     * @param stream The debug output stream.
+     */
+    public void setDebugStream(PrintStream stream)
+    {
+        mDebugStream = stream;
+        return;
+    } // end of setDebugStream(PrintStream)
+
+    /**
+     * Sets the current state to the given value.
+     * @param stateId The current state identifier.
+     */
+    public void setState(final int stateId)
+    {
+        if (mDebugFlag == true)
+        {
+            mDebugStream.println(
+                "ENTERING STATE  : " + mTable.stateName(stateId));
+        }
+
+        // clearState() is not called when a transition has
+        // no actions, so set the previous state to the current
+        // state in that situation. We know clearState() was not
+        // called when the current state is set.
+        if (mStateId != NO_STATE_ID)
+        {
+            mPreviousStateId = mStateId;
+        }
+
+        mStateId = stateId;
+
+        return;
+    } // end of setState(int)
+
+    /**
+     * Places the current state into the previous state sets
+     * the current state to {@link #NO_STATE_ID}.
+     */
+    public void clearState()
+    {
+        mPreviousStateId = mStateId;
+        mStateId = NO_STATE_ID;
+
+        return;
+    } // end of clearState()
+
+    /**
+     * Pushes the current state on top of the state stack and
+     * sets the current state to {@code stateId}.
+     * @param stateId The new current state identifier.
+     * @exception StateUndefinedException
+     * if the FSM is in transition.
+     */
+    public void pushState(final int stateId)
+    {
+        if (mStateId == NO_STATE_ID)
+        {
+            throw (new StateUndefinedException());
+        }
+
+        if (mDebugFlag == true)
+        {
+            mDebugStream.println(
+                "PUSH TO STATE   : " + mTable.stateName(stateId));
+        }
+
+        if (mStateStack == null)
+        {
+            mStateStack = new StateIdStack();
+        }
+
+        mPreviousStateId = mStateId;
+        mStateStack.push(mStateId);
+        mStateId = stateId;
+
+        return;
+    } // end of pushState(int)
+
+    /**
+     * Sets the previous state to the current state and pops
+     * the top state off the stack and places it into the
+     * current state.
+     * @exception EmptyStackException
+     * if the state stack is empty.
+     */
+    public void popState()
+        throws EmptyStackException
+    {
+        if (mStateStack == null ||
+            mStateStack.isEmpty() == true)
+        {
+            if (mDebugFlag == true)
+            {
+                mDebugStream.println(
+                    "POPPING ON EMPTY STATE STACK.");
+            }
+
+            throw (new EmptyStackException());
+        }
+
+        // clearState() is not called when a transition has no
+        // actions, so set the previous state to the current
+        // state in that situation.
+        if (mStateId != NO_STATE_ID)
+        {
+            mPreviousStateId = mStateId;
+        }
+
+        mStateId = mStateStack.pop();
+
+        if (mDebugFlag == true)
+        {
+            mDebugStream.println(
+                "POP TO STATE    : " + mTable.stateName(mStateId));
+        }
+
+        return;
+    } // end of popState()
+
+    /**
+     * Empties the state stack.
+     */
+    public void emptyStateStack()
+    {
+        if (mStateStack != null)
+        {
+            mStateStack.clear();
+        }
+
+        return;
+    } // end of emptyStateStack()
+
+    /**
+     * Executes the current state entry action. This method is
+     * redundant with {@link #enterState} and is provided for
+     * backward compatibility.
+     * @see #enterState
+     */
+    public void enterStartState()
+    {
+        enterState();
+        return;
+    } // end of enterStartState()
+
+    /**
+     * Sets this FSM's undefined transition policy, overriding
+     * the FSM class's policy. If {@code policy} is {@code null},
+     * then the FSM class's policy is used.
+     * @param policy the undefined transition policy. May be
+     * {@code null}.
+     */
+    public void setUndefinedTransitionPolicy(
+        UndefinedTransitionPolicy policy)
+    {
+        mUndefinedPolicy = policy;
+        return;
+    } // end of setUndefinedTransitionPolicy(...)
+
+    /**
+     * Calls {@code handler} on each undefined transition if the
+     * policy is {@link UndefinedTransitionPolicy#CALLBACK}.
+     * @param handler the undefined transition handler. May be
+     * {@code null}.
+     */
+    public void setUndefinedTransitionHandler(
+        UndefinedTransitionHandler handler)
+    {
+        mUndefinedHandler = handler;
+        return;
+    } // end of setUndefinedTransitionHandler(...)
+
+    //
+    // end of Set methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Executes the current state entry action, if defined.
+     */
+    protected void enterState()
+    {
+        final int actionId = mTable.entryAction(mStateId);
+
+        if (actionId != TransitionTable.NONE)
+        {
+            action(actionId);
+        }
+
+        return;
+    } // end of enterState()
+
+    /**
+     * Executes the current state exit action, if defined.
+     */
+    protected void exitState()
+    {
+        final int actionId = mTable.exitAction(mStateId);
+
+        if (actionId != TransitionTable.NONE)
+        {
+            action(actionId);
+        }
+
+        return;
+    } // end of exitState()
+
+    /**
+     * The default Default state/Default transition definition.
+     * What happens depends on this FSM's
+     * {@link UndefinedTransitionPolicy undefined transition policy}.
+     * The {@link UndefinedTransitionPolicy#THROW} policy throws
+     * a {@link TransitionUndefinedException} which contains the
+     * current state and current transition in the detailed
+     * message. If no policy is set for this FSM, then the FSM
+     * class's policy is used. That policy is looked up once and
+     * kept apart from the policy set for this FSM, so setting
+     * a {@code null} policy restores the class policy.
+     */
+    protected void defaultTransition()
+    {
+        UndefinedTransitionPolicy policy = mUndefinedPolicy;
+
+        if (mDebugFlag == true)
+        {
+            mDebugStream.println("TRANSITION      : Default");
+        }
+
+        if (policy == null)
+        {
+            if (mClassUndefinedPolicy == null)
+            {
+                mClassUndefinedPolicy =
+                    UndefinedTransitionPolicy.forClass(getClass());
+            }
+
+            policy = mClassUndefinedPolicy;
+        }
+
+        switch (policy)
+        {
+            case IGNORE:
+                break;
+
+            case COUNT:
+                ++mUndefinedCount;
+                break;
+
+            case CALLBACK:
+                ++mUndefinedCount;
+                if (mUndefinedHandler != null)
+                {
+                    mUndefinedHandler.undefinedTransition(
+                        this, stateName(), getTransition());
+                }
+                break;
+
+            default:
+                throw (
+                    new TransitionUndefinedException(
+                        "State: " +
+                        stateName() +
+                        ", Transition: " +
+                        getTransition()));
+        }
+
+        return;
+    } // end of defaultTransition()
+
+    /**
+     * Returns the name of the current state or previous state
+     * if in transition. If there is no current or previous state
+     * set, then returns "(state unknown)".
+     * @return the current or previous state name.
+     */
+    protected String stateName()
+    {
+        return (mStateId != NO_STATE_ID ?
+                mTable.stateName(mStateId) :
+                (mPreviousStateId != NO_STATE_ID ?
+                 mTable.stateName(mPreviousStateId) :
+                 "(state unknown)"));
+    } // end of stateName()
+
+    /**
+     * Issues the identified transition in the current state.
+     * The transition rows are tried in order until a row's
+     * guard passes. That row is then taken. If no row passes,
+     * then {@link #defaultTransition()} is called.
+     * <p>
+     * The generated transition methods store the transition
+     * arguments where the guards and actions can find them
+     * before calling this method.
+     * </p>
+     * @param transitionId the transition identifier.
+     * @exception StateUndefinedException
+     * if the FSM is in transition.
+     * @exception TransitionUndefinedException
+     * if the transition is not defined for the current state.
+     */
+    protected final void transition(final int transitionId)
+    {
+        final int stateId = getStateId();
+        final int previousTransitionId = mTransitionId;
+        int row = mTable.transitionRow(stateId, transitionId);
+
+        mTransitionId = transitionId;
+
+        try
+        {
+            // Find the first row whose guard passes.
+            while (row != TransitionTable.NONE &&
+                   guardPasses(row) == false)
+            {
+                row = (mTable.isLastRow(row) ?
+                       TransitionTable.NONE :
+                       row + 1);
+            }
+
+            if (row == TransitionTable.NONE)
+            {
+                defaultTransition();
+            }
+            else
+            {
+                switch (mTable.rowType(row))
+                {
+                    case TransitionTable.PUSH:
+                        push(row, stateId);
+                        break;
+
+                    case TransitionTable.POP:
+                        pop(row, stateId);
+                        break;
+
+                    default:
+                        set(row, stateId);
+                        break;
+                }
+            }
+        }
+        finally
+        {
+            // Restore the transition interrupted by this one, if
+            // any.
+            mTransitionId = previousTransitionId;
+        }
+
+        return;
+    } // end of transition(int)
+
+    /**
+     * Returns {@code true} if the row is unguarded or its guard
+     * condition is met.
+     * @param row the transition row.
+     * @return {@code true} if the row is taken.
+     */
+    private boolean guardPasses(final int row)
+    {
+        final int guardId = mTable.rowGuard(row);
+
+        return (guardId == TransitionTable.NONE || guard(guardId));
+    } // end of guardPasses(int)
+
+    /**
+     * Takes a plain transition row. A loopback transition does
+     * not exit and re-enter the current state.
+     * @param row the transition row.
+     * @param stateId the current state identifier.
+     */
+    private void set(final int row, final int stateId)
+    {
+        final int endStateId = mTable.rowState(row);
+        final int actionId = mTable.rowAction(row);
+        final boolean loopback =
+            (endStateId == TransitionTable.NONE);
+
+        if (loopback == false)
+        {
+            leaveState(stateId);
+        }
+
+        traceTransition("ENTER TRANSITION: ", stateId);
+        if (actionId == TransitionTable.NONE)
+        {
+            traceTransition("EXIT TRANSITION : ", stateId);
+
+            if (loopback == false)
+            {
+                setState(endStateId);
+            }
+        }
+        else
+        {
+            clearState();
+
+            try
+            {
+                action(actionId);
+                traceTransition("EXIT TRANSITION : ", stateId);
+            }
+            finally
+            {
+                setState(loopback ? stateId : endStateId);
+            }
+        }
+
+        if (loopback == false)
+        {
+            arriveState();
+        }
+
+        return;
+    } // end of set(int, int)
+
+    /**
+     * Takes a push transition row. The FSM moves to the end
+     * state, if any, pushes that state and enters the pushed
+     * state.
+     * @param row the transition row.
+     * @param stateId the current state identifier.
+     */
+    private void push(final int row, final int stateId)
+    {
+        final int endStateId = mTable.rowState(row);
+        final int actionId = mTable.rowAction(row);
+        final boolean loopback =
+            (endStateId == TransitionTable.NONE);
+
+        traceTransition("ENTER TRANSITION: ", stateId);
+        if (actionId != TransitionTable.NONE)
+        {
+            clearState();
+        }
+
+        try
+        {
+            if (actionId != TransitionTable.NONE)
+            {
+                action(actionId);
+            }
+
+            traceTransition("EXIT TRANSITION : ", stateId);
+        }
+        finally
+        {
+            if (loopback == false ||
+                actionId != TransitionTable.NONE)
+            {
+                setState(loopback ? stateId : endStateId);
+            }
+
+            if (loopback == false)
+            {
+                arriveState();
+            }
+
+            pushState(mTable.rowStack(row));
+        }
+
+        arriveState();
+
+        return;
+    } // end of push(int, int)
+
+    /**
+     * Takes a pop transition row. The FSM exits the current
+     * state and returns to the state on top of the state stack
+     * without re-entering it. The pop transition, if any, is
+     * then issued.
+     * @param row the transition row.
+     * @param stateId the current state identifier.
+     */
+    private void pop(final int row, final int stateId)
+    {
+        final int actionId = mTable.rowAction(row);
+        final int popActionId = mTable.rowStack(row);
+
+        leaveState(stateId);
+
+        traceTransition("ENTER TRANSITION: ", stateId);
+        if (actionId != TransitionTable.NONE)
+        {
+            clearState();
+        }
+
+        try
+        {
+            if (actionId != TransitionTable.NONE)
+            {
+                action(actionId);
+            }
+
+            traceTransition("EXIT TRANSITION : ", stateId);
+        }
+        finally
+        {
+            popState();
+        }
+
+        if (popActionId != TransitionTable.NONE)
+        {
+            action(popActionId);
+        }
+
+        return;
+    } // end of pop(int, int)
+
+    /**
+     * Exits the current state, writing the {@code smc -g} debug
+     * output.
+     * @param stateId the current state identifier.
+     */
+    private void leaveState(final int stateId)
+    {
+        final int debugLevel =
+            (mDebugFlag ? mTable.debugLevel() : -1);
+
+        if (debugLevel >= 0)
+        {
+            mDebugStream.println(
+                "LEAVING STATE   : " + mTable.stateName(stateId));
+        }
+
+        if (debugLevel >= 1)
+        {
+            mDebugStream.println(
+                "BEFORE EXIT     : " +
+                mTable.stateName(stateId) +
+                ".exit()");
+        }
+
+        exitState();
+
+        if (debugLevel >= 1)
+        {
+            mDebugStream.println(
+                "AFTER EXIT      : " +
+                mTable.stateName(stateId) +
+                ".exit()");
+        }
+
+        return;
+    } // end of leaveState(int)
+
+    /**
+     * Enters the current state, writing the {@code smc -g1}
+     * debug output.
+     */
+    private void arriveState()
+    {
+        final boolean debugFlag =
+            (mDebugFlag && mTable.debugLevel() >= 1);
+
+        if (debugFlag)
+        {
+            mDebugStream.println(
+                "BEFORE ENTRY    : " +
+                mTable.stateName(mStateId) +
+                ".entry()");
+        }
+
+        enterState();
+
+        if (debugFlag)
+        {
+            mDebugStream.println(
+                "AFTER ENTRY     : " +
+                mTable.stateName(mStateId) +
+                ".entry()");
+        }
+
+        return;
+    } // end of arriveState()
+
+    /**
+     * Writes the {@code smc -g} transition debug output.
+     * @param prefix the debug message prefix.
+     * @param stateId the state issuing the transition.
+     */
+    private void traceTransition(final String prefix,
+                                 final int stateId)
+    {
+        if (mDebugFlag && mTable.debugLevel() >= 0)
+        {
+            mDebugStream.println(
+                prefix +
+                mTable.stateName(stateId) +
+                "." +
+                mTable.transitionName(mTransitionId));
+        }
+
+        return;
+    } // end of traceTransition(String, int)
+} // end of class TableFSMContext
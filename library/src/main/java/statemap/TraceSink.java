@@ -0,0 +1,136 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TraceSink.java --
+//
+//  Defines the TraceSink interface which receives -trace
+//  debug output as state and transition identifiers.
+//
+
+package statemap;
+
+/**
+ * Receives {@link FSMContext7} debug trace events as primitive
+ * phase, state and transition identifiers. Used by FSMs
+ * generated with {@code -g -trace} in place of the
+ * {@link FSMContext7#getDebugStream() debug stream}, so a
+ * traced transition neither concatenates nor prints strings.
+ * The sink decides whether and how the event is recorded.
+ * <p>
+ * Trace calls are guarded by a {@code static final} flag in the
+ * generated class, set when the class is loaded if the
+ * {@code statemap.trace} system property is {@code true}. When
+ * tracing is not enabled, the JIT compiler removes the trace
+ * code entirely. See {@link FSMContext7#isTraceEnabled(Class)}.
+ * </p>
+ * <p>
+ * Sinks are called on the thread issuing the transition, while
+ * the FSM is in that transition, and so must not block.
+ * </p>
+ *
+ * @see FSMContext7#setTraceSink(TraceSink)
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public interface TraceSink
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The FSM is leaving the state.
+     */
+    int LEAVING_STATE = 0;
+
+    /**
+     * The state's exit actions are about to be executed.
+     */
+    int BEFORE_EXIT = 1;
+
+    /**
+     * The state's exit actions were executed.
+     */
+    int AFTER_EXIT = 2;
+
+    /**
+     * The transition actions are about to be executed.
+     */
+    int ENTER_TRANSITION = 3;
+
+    /**
+     * The transition actions were executed.
+     */
+    int EXIT_TRANSITION = 4;
+
+    /**
+     * The FSM entered the state.
+     */
+    int ENTERING_STATE = 5;
+
+    /**
+     * The FSM pushed to the state.
+     */
+    int PUSH_STATE = 6;
+
+    /**
+     * The FSM popped back to the state.
+     */
+    int POP_STATE = 7;
+
+    /**
+     * The state's entry actions are about to be executed.
+     */
+    int BEFORE_ENTRY = 8;
+
+    /**
+     * The state's entry actions were executed.
+     */
+    int AFTER_ENTRY = 9;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Records a trace event. State identifiers are the generated
+     * {@code <map>_<state>_STATE_ID} constants which are unique
+     * across maps, so the state identifier also identifies the
+     * map.
+     * @param fsm the traced finite state machine.
+     * @param phase one of the phase constants, such as
+     * {@link #ENTER_TRANSITION}.
+     * @param stateId the current state or, for the transition
+     * and exit phases, the state the transition is leaving.
+     * @param transitionId the transition in progress. Will be
+     * {@link FSMContext7#NO_TRANSITION_ID} if the event is
+     * outside of a transition.
+     */
+    void trace(FSMContext7 fsm,
+               int phase,
+               int stateId,
+               int transitionId);
+} // end of interface TraceSink
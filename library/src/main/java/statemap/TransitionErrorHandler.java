@@ -0,0 +1,84 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TransitionErrorHandler.java --
+//
+//  Defines the TransitionErrorHandler interface notified
+//  when a transition action fails.
+//
+
+
+package statemap;
+
+/**
+ * Receives the errors raised by an {@link FSMContext7}
+ * transition. Without a handler, an exception thrown by a
+ * generated transition is caught and written to the debug
+ * stream if debug output is on and is otherwise dropped.
+ * <p>
+ * FSMs generated with {@code -java7 -errorcode} expect
+ * transition actions to return an {@code int} error code
+ * rather than throw an exception. Zero means success. A
+ * non-zero code skips the transition's remaining actions, sets
+ * the end state and is passed to
+ * {@link #actionFailed(FSMContext7, String, int)}. The end
+ * state's entry actions are not executed. This is the same
+ * outcome as an action throwing an exception but without the
+ * cost of creating, throwing and catching the exception.
+ * </p>
+ * <p>
+ * The handler is called on the thread issuing the transition.
+ * Exceptions thrown by the handler are ignored.
+ * </p>
+ *
+ * @see FSMContext7#setErrorHandler(TransitionErrorHandler)
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public interface TransitionErrorHandler
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * An exception was thrown by {@code transition}'s guards,
+     * actions or by the state entry and exit actions.
+     * @param fsm the finite state machine.
+     * @param transition the failed transition name.
+     * @param t the thrown exception.
+     */
+    void transitionFailed(FSMContext7 fsm,
+                          String transition,
+                          Throwable t);
+
+    /**
+     * A {@code transition} action returned a non-zero error
+     * code. The FSM is in the transition's end state.
+     * @param fsm the finite state machine.
+     * @param transition the failed transition name.
+     * @param errorCode the action's error code.
+     */
+    void actionFailed(FSMContext7 fsm,
+                      String transition,
+                      int errorCode);
+} // end of interface TransitionErrorHandler
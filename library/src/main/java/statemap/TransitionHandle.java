@@ -60,10 +60,27 @@ public final class TransitionHandle
      */
     /* package */ TransitionHandle(final boolean isDefault,
                                    final MethodHandle mh)
+    {
+        this (isDefault, false, mh);
+    } // end of TransitionHandle(boolean, MethodHandle)
+
+    /**
+     * Creates a transition method handle for the given arguments.
+     * @param isDefault {@code true} if this is a default
+     * transition method.
+     * @param isSystemDefault {@code true} if this is the
+     * {@link FSMContext7#defaultTransition() system default}
+     * transition method.
+     * @param mh the actual transition method handle.
+     */
+    /* package */ TransitionHandle(final boolean isDefault,
+                                   final boolean isSystemDefault,
+                                   final MethodHandle mh)
     {
         _isDefault = isDefault;
+        _isSystemDefault = isSystemDefault;
         _method = mh;
-    } // end of TransitionHandle(boolean, MethodHandle)
+    } // end of TransitionHandle(boolean, boolean, MethodHandle)
 
     //
     // end of Constructors.
@@ -83,6 +100,18 @@ public final class TransitionHandle
         return (_isDefault);
     } // end of isDefault()
 
+    /**
+     * Returns {@code true} if this is the system default
+     * transition method, meaning that neither the state nor its
+     * map handle the transition, and {@code false} otherwise.
+     * @return {@code true} if this is the system default
+     * transition.
+     */
+    public boolean isSystemDefault()
+    {
+        return (_isSystemDefault);
+    } // end of isSystemDefault()
+
     /**
      * Returns the transition method handle.
      * @return transition method handle.
@@ -106,6 +135,12 @@ public final class TransitionHandle
      */
     private final boolean _isDefault;
 
+    /**
+     * Set to {@code true} if the encapsulated method is the
+     * system default transition.
+     */
+    private final boolean _isSystemDefault;
+
     /**
      * The actual transition method handle.
      */
@@ -0,0 +1,681 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TransitionJournal.java --
+//
+//  Defines the TransitionJournal class which appends -journal
+//  transitions to a file and replays them.
+//
+
+package statemap;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * An append-only log of completed FSM transitions. FSMs
+ * generated with {@code -java7 -journal} append an entry to the
+ * journal set by
+ * {@link FSMContext7#setJournal(TransitionJournal, long)} after
+ * each transition. The entry holds the FSM's journal identifier,
+ * the transition identifier, the transition arguments and the
+ * resulting state and state stack.
+ * {@link #replay(File, ContextLookup)} restores each journaled
+ * FSM to its last state by reading the journal. Because the
+ * resulting state is recorded, replay does not re-run guards,
+ * transition actions or state entry and exit actions.
+ * <p>
+ * Entries are appended to an in-memory direct buffer and written
+ * to the file channel when the buffer fills or when
+ * {@link #commit()} is called. {@code commit()} writes the
+ * buffer and forces the file to storage, so all entries appended
+ * since the previous commit share a single {@code fsync}. The
+ * application decides how often to commit, which bounds both the
+ * {@code fsync} cost and the number of entries lost in a system
+ * crash. Appending does not throw: a failed write is reported by
+ * the next {@code commit()} and later entries are dropped.
+ * </p>
+ * <p>
+ * Each entry is laid out in big-endian order as:
+ * </p>
+ * <ol>
+ *   <li>
+ *     the {@code int} entry length in bytes, including this
+ *     field,
+ *   </li>
+ *   <li>
+ *     the {@code long} FSM journal identifier,
+ *   </li>
+ *   <li>
+ *     the {@code int} transition identifier,
+ *   </li>
+ *   <li>
+ *     the {@code int} resulting state identifier or
+ *     {@link FSMContext7#NO_STATE_ID},
+ *   </li>
+ *   <li>
+ *     the {@code int} state stack depth followed by the
+ *     {@code int} stacked state identifiers from bottom to top
+ *     and
+ *   </li>
+ *   <li>
+ *     the {@code int} argument length in bytes followed by the
+ *     arguments. Each argument is a one byte type tag, such as
+ *     {@link #ARG_INT}, followed by the value. Strings and
+ *     objects other than boxed primitives and {@code byte[]} are
+ *     written as an {@code int} character count followed by the
+ *     UTF-16 characters of {@link String#valueOf(Object)}.
+ *   </li>
+ * </ol>
+ * <p>
+ * A partly written last entry, left by a crash, is ignored by
+ * replay and removed when the journal is re-opened.
+ * </p>
+ * <p>
+ * A journal may be shared by any number of FSMs on any number
+ * of threads.
+ * </p>
+ *
+ * @see FSMContext7#setJournal(TransitionJournal, long)
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class TransitionJournal
+    implements Closeable
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The default append buffer size is {@value} bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    /**
+     * A {@code null} argument has no value.
+     */
+    public static final byte ARG_NULL = 0;
+
+    /**
+     * A {@code boolean} argument is one byte, zero or one.
+     */
+    public static final byte ARG_BOOLEAN = 1;
+
+    /**
+     * A {@code byte} argument.
+     */
+    public static final byte ARG_BYTE = 2;
+
+    /**
+     * A {@code char} argument.
+     */
+    public static final byte ARG_CHAR = 3;
+
+    /**
+     * A {@code short} argument.
+     */
+    public static final byte ARG_SHORT = 4;
+
+    /**
+     * An {@code int} argument.
+     */
+    public static final byte ARG_INT = 5;
+
+    /**
+     * A {@code long} argument.
+     */
+    public static final byte ARG_LONG = 6;
+
+    /**
+     * A {@code float} argument.
+     */
+    public static final byte ARG_FLOAT = 7;
+
+    /**
+     * A {@code double} argument.
+     */
+    public static final byte ARG_DOUBLE = 8;
+
+    /**
+     * A {@code String} argument is an {@code int} character
+     * count followed by the characters.
+     */
+    public static final byte ARG_STRING = 9;
+
+    /**
+     * A {@code byte[]} argument is an {@code int} length
+     * followed by the bytes.
+     */
+    public static final byte ARG_BYTES = 10;
+
+    /**
+     * Any other object is written as its
+     * {@link String#valueOf(Object) string value}.
+     */
+    public static final byte ARG_OBJECT = 11;
+
+    /**
+     * The length, journal identifier, transition identifier,
+     * state identifier, stack depth and argument length fields
+     * take {@value} bytes.
+     */
+    private static final int ENTRY_HEADER_SIZE = 28;
+
+    /**
+     * The transition argument buffer's initial size.
+     */
+    private static final int ARGS_SIZE = 256;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * The journal file.
+     */
+    private final RandomAccessFile mFile;
+
+    /**
+     * Entries are written to the file through this channel.
+     */
+    private final FileChannel mChannel;
+
+    /**
+     * Entries are appended here until written.
+     */
+    private final ByteBuffer mBuffer;
+
+    /**
+     * The first write failure. Reported by {@link #commit()}.
+     */
+    private IOException mFailure;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    private TransitionJournal(final RandomAccessFile file,
+                              final int bufferSize)
+    {
+        mFile = file;
+        mChannel = file.getChannel();
+        mBuffer = ByteBuffer.allocateDirect(bufferSize);
+        mFailure = null;
+    } // end of TransitionJournal(RandomAccessFile, int)
+
+    /**
+     * Opens the journal in {@code file} using the default
+     * buffer size.
+     * @param file the journal file.
+     * @return the opened journal.
+     * @throws IOException
+     * if {@code file} cannot be opened.
+     * @see #open(File, int)
+     */
+    public static TransitionJournal open(final File file)
+        throws IOException
+    {
+        return (open(file, DEFAULT_BUFFER_SIZE));
+    } // end of open(File)
+
+    /**
+     * Opens the journal in {@code file}, creating it if needed.
+     * New entries are appended after the existing entries. A
+     * partly written last entry is removed.
+     * @param file the journal file.
+     * @param bufferSize the append buffer size in bytes.
+     * @return the opened journal.
+     * @throws IOException
+     * if {@code file} cannot be opened.
+     * @exception IllegalArgumentException
+     * if {@code bufferSize} &le; zero.
+     */
+    public static TransitionJournal open(final File file,
+                                         final int bufferSize)
+        throws IOException
+    {
+        final RandomAccessFile raf;
+        final FileChannel channel;
+        boolean success = false;
+
+        if (bufferSize <= 0)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid buffer size " + bufferSize));
+        }
+
+        raf = new RandomAccessFile(file, "rw");
+        channel = raf.getChannel();
+
+        try
+        {
+            final long end = scan(channel, null);
+
+            if (end < channel.size())
+            {
+                channel.truncate(end);
+            }
+
+            channel.position(end);
+            success = true;
+        }
+        finally
+        {
+            if (success == false)
+            {
+                raf.close();
+            }
+        }
+
+        return (new TransitionJournal(raf, bufferSize));
+    } // end of open(File, int)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Closeable Interface Implementation.
+    //
+
+    /**
+     * Commits the appended entries and closes the journal file.
+     * @throws IOException
+     * if committing or closing fails.
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        try
+        {
+            commit();
+        }
+        finally
+        {
+            mFile.close();
+        }
+
+        return;
+    } // end of close()
+
+    //
+    // end of Closeable Interface Implementation.
+    //-----------------------------------------------------------
+
+    /**
+     * Writes the entries appended since the last write and forces
+     * the journal file to storage. Entries appended before this
+     * call are then durable.
+     * @throws IOException
+     * if this or an earlier write failed or forcing the file
+     * failed.
+     */
+    public void commit()
+        throws IOException
+    {
+        synchronized (this)
+        {
+            write();
+
+            if (mFailure != null)
+            {
+                throw (mFailure);
+            }
+        }
+
+        // Appending continues while the file is forced.
+        mChannel.force(false);
+
+        return;
+    } // end of commit()
+
+    /**
+     * Restores journaled FSMs to their last journaled state.
+     * Each entry's state and state stack are set on the FSM
+     * returned by {@code contexts} for the entry's journal
+     * identifier, skipping entries for which {@code contexts}
+     * returns {@code null}. No FSM actions are executed and no
+     * state change listeners are informed. A partly written last
+     * entry is ignored.
+     * @param file the journal file.
+     * @param contexts finds the FSM for a journal identifier.
+     * @return the number of replayed entries.
+     * @throws IOException
+     * if reading {@code file} fails.
+     */
+    public static long replay(final File file,
+                              final ContextLookup contexts)
+        throws IOException
+    {
+        final Replayer replayer = new Replayer(contexts);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
+        {
+            scan(raf.getChannel(), replayer);
+        }
+
+        return (replayer.mCount);
+    } // end of replay(File, ContextLookup)
+
+    /**
+     * Appends an entry for the completed transition. Called by
+     * {@link FSMContext7#journalEnd(int)}.
+     * @param journalId the FSM journal identifier.
+     * @param transitionId the transition identifier.
+     * @param state the resulting state. May be {@code null}.
+     * @param stack the state stack. May be {@code null}.
+     * @param args the encoded transition arguments from index
+     * zero to the buffer position.
+     */
+    /* package */ synchronized void append(final long journalId,
+                                           final int transitionId,
+                                           final State7 state,
+                                           final StateIdStack stack,
+                                           final ByteBuffer args)
+    {
+        final int depth = (stack == null ? 0 : stack.size());
+        final int argsSize = args.position();
+        final int size =
+            ENTRY_HEADER_SIZE + (4 * depth) + argsSize;
+        final ByteBuffer buffer;
+        int i;
+
+        if (mFailure != null)
+        {
+            return;
+        }
+
+        if (size > mBuffer.remaining())
+        {
+            write();
+        }
+
+        // An entry larger than the append buffer is written on
+        // its own.
+        buffer =
+            (size > mBuffer.remaining() ?
+             ByteBuffer.allocate(size) :
+             mBuffer);
+
+        buffer.putInt(size);
+        buffer.putLong(journalId);
+        buffer.putInt(transitionId);
+        buffer.putInt(
+            state == null ? FSMContext7.NO_STATE_ID : state.getId());
+        buffer.putInt(depth);
+
+        for (i = 0; i < depth; ++i)
+        {
+            buffer.putInt(stack.get(i));
+        }
+
+        buffer.putInt(argsSize);
+        args.flip();
+        buffer.put(args);
+
+        if (buffer != mBuffer)
+        {
+            buffer.flip();
+            write(buffer);
+        }
+
+        return;
+    } // end of append(...)
+
+    /**
+     * Writes the append buffer to the file channel.
+     */
+    private void write()
+    {
+        mBuffer.flip();
+        write(mBuffer);
+        mBuffer.clear();
+
+        return;
+    } // end of write()
+
+    /**
+     * Writes {@code buffer} to the file channel, recording the
+     * first failure.
+     * @param buffer write this buffer's remaining bytes.
+     */
+    private void write(final ByteBuffer buffer)
+    {
+        try
+        {
+            while (mFailure == null && buffer.hasRemaining())
+            {
+                mChannel.write(buffer);
+            }
+        }
+        catch (IOException ioex)
+        {
+            mFailure = ioex;
+        }
+
+        return;
+    } // end of write(ByteBuffer)
+
+    /**
+     * Reads the journal entries from the channel's start,
+     * passing each complete entry to {@code replayer} if not
+     * {@code null}, and returns the offset following the last
+     * complete entry. Reading stops at the first partly written
+     * or malformed entry.
+     * @param channel the journal file channel.
+     * @param replayer restores each entry's FSM. May be
+     * {@code null}.
+     * @return the end of the last complete entry.
+     * @throws IOException
+     * if reading the channel fails.
+     */
+    private static long scan(final FileChannel channel,
+                             final Replayer replayer)
+        throws IOException
+    {
+        final long fileSize = channel.size();
+        ByteBuffer buffer =
+            ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE);
+        long offset = 0L;
+        int size;
+        boolean eof = false;
+
+        while (eof == false)
+        {
+            eof =
+                (channel.read(buffer, offset + buffer.position()) < 0);
+            buffer.flip();
+
+            // Consume the complete entries in the buffer.
+            while (buffer.remaining() >= 4 &&
+                   (size = buffer.getInt(buffer.position())) <=
+                       buffer.remaining() &&
+                   isValid(buffer, size))
+            {
+                if (replayer != null)
+                {
+                    replayer.restore(buffer);
+                }
+
+                buffer.position(buffer.position() + size);
+                offset += size;
+            }
+
+            // The next entry is either malformed, which ends the
+            // scan, or not yet read. A buffer too small for the
+            // next entry is grown.
+            if (buffer.remaining() >= 4)
+            {
+                size = buffer.getInt(buffer.position());
+
+                if (size < ENTRY_HEADER_SIZE ||
+                    size <= buffer.remaining() ||
+                    size > fileSize - offset)
+                {
+                    eof = true;
+                }
+                else if (size > buffer.capacity())
+                {
+                    buffer =
+                        (ByteBuffer.allocateDirect(size))
+                            .put(buffer);
+                    buffer.flip();
+                }
+            }
+
+            buffer.compact();
+        }
+
+        return (offset);
+    } // end of scan(FileChannel, Replayer)
+
+    /**
+     * Returns {@code true} if the entry at the buffer's position
+     * is well-formed.
+     * @param buffer the buffer positioned at an entry.
+     * @param size the entry size.
+     * @return {@code true} if the entry's field lengths sum to
+     * {@code size}.
+     */
+    private static boolean isValid(final ByteBuffer buffer,
+                                   final int size)
+    {
+        final int start = buffer.position();
+        boolean retcode = (size >= ENTRY_HEADER_SIZE);
+
+        if (retcode == true)
+        {
+            final int depth = buffer.getInt(start + 20);
+
+            retcode =
+                (depth >= 0 &&
+                 depth <= (size - ENTRY_HEADER_SIZE) / 4 &&
+                 (ENTRY_HEADER_SIZE +
+                  (4 * depth) +
+                  buffer.getInt(start + 24 + (4 * depth))) == size);
+        }
+
+        return (retcode);
+    } // end of isValid(ByteBuffer, int)
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * Finds the FSM with a given journal identifier during
+     * {@link TransitionJournal#replay(File, ContextLookup)}.
+     */
+    public interface ContextLookup
+    {
+        /**
+         * Returns the FSM with the given journal identifier or
+         * {@code null} if the FSM is not replayed.
+         * @param journalId the FSM journal identifier.
+         * @return the FSM to restore.
+         */
+        FSMContext7 context(long journalId);
+    } // end of interface ContextLookup
+
+    /**
+     * Restores an entry's state on its FSM and counts the
+     * replayed entries.
+     */
+    private static final class Replayer
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        private final ContextLookup mContexts;
+        private long mCount;
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        private Replayer(final ContextLookup contexts)
+        {
+            mContexts = contexts;
+            mCount = 0L;
+        } // end of Replayer(ContextLookup)
+
+        /**
+         * Restores the FSM state from the entry at the buffer's
+         * position. The buffer position is not changed.
+         * @param buffer the buffer positioned at an entry.
+         */
+        private void restore(final ByteBuffer buffer)
+        {
+            final int start = buffer.position();
+            final FSMContext7 context =
+                mContexts.context(buffer.getLong(start + 4));
+
+            if (context != null)
+            {
+                final int stateId = buffer.getInt(start + 16);
+                final int depth = buffer.getInt(start + 20);
+                int i;
+
+                context.mPreviousState = context.mState;
+                context.mState =
+                    (stateId == FSMContext7.NO_STATE_ID ?
+                     null :
+                     context.valueOf(stateId));
+
+                if (context.mStateIdStack != null)
+                {
+                    context.mStateIdStack.clear();
+                }
+                else if (depth > 0)
+                {
+                    context.mStateIdStack = new StateIdStack(depth);
+                }
+
+                for (i = 0; i < depth; ++i)
+                {
+                    context.mStateIdStack.push(
+                        buffer.getInt(start + 24 + (4 * i)));
+                }
+
+                ++mCount;
+            }
+
+            return;
+        } // end of restore(ByteBuffer)
+    } // end of class Replayer
+} // end of class TransitionJournal
@@ -0,0 +1,360 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TransitionMailbox.java --
+//
+//  Defines the TransitionMailbox class, the lock-free
+//  multiple producer, single consumer transition queue used
+//  by -actor FSMs.
+//
+
+package statemap;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A multiple producer, single consumer transition queue used by
+ * FSMs generated with {@code -actor}. Any thread may
+ * {@link #post(Runnable) post} a transition without taking a
+ * lock. The posting thread which finds the mailbox idle becomes
+ * the mailbox's single consumer and applies queued transitions
+ * in order until the mailbox is empty. Threads posting while
+ * transitions are being applied return immediately, their
+ * transition applied by the consumer thread.
+ * <p>
+ * If the mailbox is given an {@link Executor}, then the posting
+ * thread which finds the mailbox idle submits a single drain
+ * task to that executor instead of applying the transitions
+ * itself. Since at most one drain task is outstanding at a time,
+ * transitions are applied in order, one at a time, no matter how
+ * many threads the executor has.
+ * </p>
+ * <p>
+ * A transition issued from inside a transition action is queued
+ * behind the current transition rather than applied on the
+ * same stack. This means the FSM always completes the current
+ * transition before starting the next.
+ * </p>
+ * <p>
+ * The queue is Dmitry Vyukov's intrusive MPSC linked list:
+ * producers atomically swap the tail, the consumer follows
+ * {@code next} links from the head. A work-in-progress counter
+ * decides which thread consumes.
+ * </p>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class TransitionMailbox
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Statics.
+    //
+
+    private static final AtomicReferenceFieldUpdater<TransitionMailbox, Node> TAIL =
+        AtomicReferenceFieldUpdater.newUpdater(
+            TransitionMailbox.class, Node.class, "mTail");
+
+    private static final AtomicIntegerFieldUpdater<TransitionMailbox> WIP =
+        AtomicIntegerFieldUpdater.newUpdater(
+            TransitionMailbox.class, "mWip");
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * The drain task is submitted to this executor. If
+     * {@code null}, then the posting thread drains the mailbox.
+     */
+    private final Executor mExecutor;
+
+    /**
+     * Submitted to {@link #mExecutor}. Re-used so that posting
+     * to an idle mailbox allocates only the queue node.
+     */
+    private final Runnable mDrainTask;
+
+    /**
+     * The consumer removes transitions from the head. Only
+     * accessed by the consumer thread.
+     */
+    private Node mHead;
+
+    /**
+     * Producers append transitions to the tail.
+     */
+    private volatile Node mTail;
+
+    /**
+     * The number of posts not yet accounted for by the
+     * consumer. The thread which increments this value from
+     * zero becomes the consumer.
+     */
+    private volatile int mWip;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates an empty transition mailbox drained by the posting
+     * thread.
+     */
+    public TransitionMailbox()
+    {
+        this (null);
+    } // end of TransitionMailbox()
+
+    /**
+     * Creates an empty transition mailbox drained by
+     * {@code executor}. If {@code executor} is {@code null}, then
+     * the mailbox is drained by the posting thread.
+     * @param executor apply transitions on this executor. May be
+     * {@code null}.
+     */
+    public TransitionMailbox(final Executor executor)
+    {
+        mExecutor = executor;
+        mDrainTask =
+            (executor == null ?
+             null :
+             new Runnable()
+             {
+                 @Override
+                 public void run()
+                 {
+                     drain();
+                 }
+             });
+        mHead = new Node(null);
+        mTail = mHead;
+        mWip = 0;
+    } // end of TransitionMailbox(Executor)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns {@code true} if there are no queued or running
+     * transitions.
+     * @return {@code true} if the mailbox is idle.
+     */
+    public boolean isIdle()
+    {
+        return (mWip == 0);
+    } // end of isIdle()
+
+    /**
+     * Returns the executor applying transitions. Returns
+     * {@code null} if transitions are applied by the posting
+     * thread.
+     * @return the transition executor.
+     */
+    public Executor getExecutor()
+    {
+        return (mExecutor);
+    } // end of getExecutor()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Queues {@code transition} and, if no other thread is
+     * currently applying transitions, applies all queued
+     * transitions on the calling thread or, if set, submits a
+     * drain task to the executor. If the executor rejects the
+     * task, then the calling thread drains the mailbox.
+     * <p>
+     * If a transition throws an exception, the remaining
+     * transitions are still applied. The first exception is then
+     * thrown to the consuming thread, which may not be the thread
+     * which posted the failed transition. When draining on an
+     * executor, the exception is passed to that executor.
+     * </p>
+     * @param transition apply this transition.
+     * @exception NullPointerException
+     * if {@code transition} is {@code null}.
+     */
+    public void post(final Runnable transition)
+    {
+        if (transition == null)
+        {
+            throw (new NullPointerException("null transition"));
+        }
+
+        offer(transition);
+
+        // The thread which finds the mailbox idle starts the
+        // drain.
+        if (WIP.getAndIncrement(this) == 0)
+        {
+            if (mExecutor == null)
+            {
+                drain();
+            }
+            else
+            {
+                try
+                {
+                    mExecutor.execute(mDrainTask);
+                }
+                catch (RejectedExecutionException jex)
+                {
+                    // The executor is shut down or saturated. Do
+                    // not leave the transitions stranded.
+                    drain();
+                }
+            }
+        }
+
+        return;
+    } // end of post(Runnable)
+
+    /**
+     * Appends {@code transition} to the queue tail. Safe to call
+     * from any thread.
+     * @param transition the queued transition.
+     */
+    private void offer(final Runnable transition)
+    {
+        final Node node = new Node(transition);
+        final Node previous = TAIL.getAndSet(this, node);
+
+        // Link the previous tail to the new node. The consumer
+        // sees the node once this write is visible.
+        previous.mNext = node;
+
+        return;
+    } // end of offer(Runnable)
+
+    /**
+     * Removes and returns the transition at the queue head.
+     * Returns {@code null} if the queue is empty. Called by the
+     * consumer thread only.
+     * @return the next transition or {@code null}.
+     */
+    private Runnable poll()
+    {
+        final Node next = mHead.mNext;
+        Runnable retval = null;
+
+        if (next != null)
+        {
+            retval = next.mTransition;
+
+            // next becomes the new stub node.
+            next.mTransition = null;
+            mHead = next;
+        }
+
+        return (retval);
+    } // end of poll()
+
+    /**
+     * Applies queued transitions until every post has been
+     * accounted for. Since a producer increments the
+     * work-in-progress count only after linking its node, a
+     * non-zero count means the node is available to
+     * {@link #poll()}.
+     */
+    private void drain()
+    {
+        Throwable failure = null;
+        int missed = 1;
+        Runnable transition;
+
+        do
+        {
+            while ((transition = poll()) != null)
+            {
+                try
+                {
+                    transition.run();
+                }
+                catch (RuntimeException | Error jex)
+                {
+                    if (failure == null)
+                    {
+                        failure = jex;
+                    }
+                }
+            }
+
+            missed = WIP.addAndGet(this, -missed);
+        } while (missed != 0);
+
+        if (failure instanceof Error)
+        {
+            throw ((Error) failure);
+        }
+        else if (failure != null)
+        {
+            throw ((RuntimeException) failure);
+        }
+
+        return;
+    } // end of drain()
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * A queued transition.
+     */
+    private static final class Node
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        private Runnable mTransition;
+        private volatile Node mNext;
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        private Node(final Runnable transition)
+        {
+            mTransition = transition;
+            mNext = null;
+        } // end of Node(Runnable)
+    } // end of class Node
+} // end of class TransitionMailbox
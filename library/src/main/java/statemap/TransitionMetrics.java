@@ -0,0 +1,70 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TransitionMetrics.java --
+//
+//  Defines the TransitionMetrics interface receiving -metrics
+//  transition latencies.
+//
+
+package statemap;
+
+/**
+ * Receives the latency of each {@link FSMContext7} transition.
+ * FSMs generated with {@code -java7 -metrics} measure each
+ * transition with {@link System#nanoTime()} and report it, with
+ * the state and transition identifiers, to the metrics instance
+ * set by {@link FSMContext7#setMetrics(TransitionMetrics)}. If no
+ * metrics instance is set, then the transition is not measured.
+ * <p>
+ * Metrics are called on the thread issuing the transition,
+ * after the transition completes or fails, and may be shared by
+ * many FSMs. Implementations must therefore be thread-safe and
+ * should not block. {@link TransitionMetricsRecorder} is a
+ * lock-free implementation recording latency histograms.
+ * </p>
+ *
+ * @see FSMContext7#setMetrics(TransitionMetrics)
+ * @see TransitionMetricsRecorder
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public interface TransitionMetrics
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Records a transition's latency. State identifiers are the
+     * generated {@code <map>_<state>_STATE_ID} constants which
+     * are unique across maps, so the state identifier also
+     * identifies the map. Transition identifiers are the
+     * generated {@code <transition>_TRANSITION_ID} constants.
+     * @param stateId the state in which the transition was
+     * issued.
+     * @param transitionId the transition identifier.
+     * @param nanos the transition latency in nanoseconds,
+     * including the exit, transition and entry actions.
+     */
+    void transition(int stateId, int transitionId, long nanos);
+} // end of interface TransitionMetrics
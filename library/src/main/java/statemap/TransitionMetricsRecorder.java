@@ -0,0 +1,715 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TransitionMetricsRecorder.java --
+//
+//  Defines the TransitionMetricsRecorder class, a
+//  TransitionMetrics implementation keeping per transition
+//  latency histograms.
+//
+
+package statemap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free {@link TransitionMetrics} recording a latency
+ * histogram for each state and transition pair. FSMs on many
+ * threads may share this recorder without locking.
+ * <p>
+ * Like {@code LongAdder}, which is not available on Java 7, each
+ * histogram's counters are striped: a histogram starts with one
+ * cell of counters and, when threads contend on a cell, adds
+ * cells up to the next power of two above the processor count.
+ * Each thread updates the cell selected by its thread
+ * identifier. {@link #snapshot()} sums the cells.
+ * </p>
+ * <p>
+ * The histograms are log-bucketed in the manner of
+ * HdrHistogram: each power of two is divided into
+ * {@link #SUB_BUCKET_COUNT} linear sub-buckets, so a recorded
+ * latency is reported to within 12.5% of its value. Latencies
+ * greater than {@link #MAX_NANOS} are recorded as
+ * {@code MAX_NANOS}.
+ * </p>
+ * <p>
+ * {@link #snapshot()} returns the recorded metrics as
+ * {@link Snapshot} instances. A snapshot's count is the sum of
+ * its histogram. Recording continues while the snapshot is
+ * taken, so the total and maximum latency may include
+ * transitions recorded in the meantime.
+ * </p>
+ *
+ * @see FSMContext7#setMetrics(TransitionMetrics)
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class TransitionMetricsRecorder
+    implements TransitionMetrics
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * Each power of two is divided into
+     * 2<sup>{@value}</sup> sub-buckets.
+     */
+    public static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * The number of linear sub-buckets per power of two.
+     */
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Latencies are recorded up to
+     * 2<sup>{@value}</sup> - 1 nanoseconds, about 18 minutes.
+     */
+    public static final int MAX_BITS = 40;
+
+    /**
+     * The largest recorded latency in nanoseconds.
+     */
+    public static final long MAX_NANOS = (1L << MAX_BITS) - 1L;
+
+    /**
+     * The number of buckets in each histogram.
+     */
+    public static final int BUCKET_COUNT =
+        (MAX_BITS - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS;
+
+    private static final Histogram[][] NO_HISTOGRAMS =
+        new Histogram[0][];
+
+    private static final Histogram[] NO_TRANSITIONS =
+        new Histogram[0];
+
+    /**
+     * A histogram has at most this many cells, the next power
+     * of two at or above the processor count.
+     */
+    private static final int MAX_CELLS = maxCells();
+
+    /**
+     * Each cell is padded on both sides by this many unused
+     * counters, keeping cells on different cache lines.
+     */
+    private static final int CELL_PADDING = 8;
+
+    // Cell counter indices.
+    private static final int TOTAL_INDEX = CELL_PADDING;
+    private static final int MAX_INDEX = TOTAL_INDEX + 1;
+    private static final int BUCKET_OFFSET = MAX_INDEX + 1;
+    private static final int CELL_SIZE =
+        BUCKET_OFFSET + BUCKET_COUNT + CELL_PADDING;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    // Histograms indexed by state identifier and then by
+    // transition identifier. Rows and the table are replaced
+    // rather than modified, so the hot path reads the table
+    // without locking.
+    private volatile Histogram[][] mHistograms;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates an empty transition metrics recorder.
+     */
+    public TransitionMetricsRecorder()
+    {
+        mHistograms = NO_HISTOGRAMS;
+    } // end of TransitionMetricsRecorder()
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // TransitionMetrics Interface Implementation.
+    //
+
+    /**
+     * Records the transition latency in the state and
+     * transition's histogram. Transitions with a negative state
+     * or transition identifier are ignored.
+     * @param stateId the state in which the transition was
+     * issued.
+     * @param transitionId the transition identifier.
+     * @param nanos the transition latency in nanoseconds.
+     */
+    @Override
+    public void transition(final int stateId,
+                           final int transitionId,
+                           final long nanos)
+    {
+        final Histogram[][] table = mHistograms;
+        Histogram histogram = null;
+
+        if (stateId >= 0 && transitionId >= 0)
+        {
+            if (stateId < table.length &&
+                table[stateId] != null &&
+                transitionId < table[stateId].length)
+            {
+                histogram = table[stateId][transitionId];
+            }
+
+            // Only the first transition for this state and
+            // transition pair takes the slow path.
+            if (histogram == null)
+            {
+                histogram = addHistogram(stateId, transitionId);
+            }
+
+            histogram.record(nanos);
+        }
+
+        return;
+    } // end of transition(int, int, long)
+
+    //
+    // end of TransitionMetrics Interface Implementation.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the current metrics for every state and
+     * transition pair recorded so far, ordered by state
+     * identifier and then by transition identifier.
+     * @return the transition metrics snapshots.
+     */
+    public List<Snapshot> snapshot()
+    {
+        final Histogram[][] table = mHistograms;
+        final List<Snapshot> retval = new ArrayList<>();
+        int stateId;
+        int transitionId;
+
+        for (stateId = 0; stateId < table.length; ++stateId)
+        {
+            if (table[stateId] == null)
+            {
+                continue;
+            }
+
+            for (transitionId = 0;
+                 transitionId < table[stateId].length;
+                 ++transitionId)
+            {
+                if (table[stateId][transitionId] != null)
+                {
+                    retval.add(
+                        (table[stateId][transitionId]).snapshot(
+                            stateId, transitionId));
+                }
+            }
+        }
+
+        return (Collections.unmodifiableList(retval));
+    } // end of snapshot()
+
+    /**
+     * Returns the histogram bucket for the given latency.
+     * Latencies below {@link #SUB_BUCKET_COUNT} have their own
+     * bucket. Larger latencies share a bucket with the
+     * latencies having the same {@link #SUB_BUCKET_BITS} most
+     * significant bits.
+     * @param nanos a latency in nanoseconds.
+     * @return the histogram bucket index.
+     */
+    public static int bucketIndex(final long nanos)
+    {
+        final long value =
+            (nanos < 0L ? 0L :
+             nanos > MAX_NANOS ? MAX_NANOS :
+             nanos);
+        int retval = (int) value;
+
+        if (value >= SUB_BUCKET_COUNT)
+        {
+            final int exponent =
+                63 - Long.numberOfLeadingZeros(value);
+
+            retval =
+                ((exponent - SUB_BUCKET_BITS + 1) <<
+                 SUB_BUCKET_BITS) +
+                (int) ((value >>> (exponent - SUB_BUCKET_BITS)) &
+                       (SUB_BUCKET_COUNT - 1));
+        }
+
+        return (retval);
+    } // end of bucketIndex(long)
+
+    /**
+     * Returns the largest latency recorded in the given bucket.
+     * @param index a histogram bucket index.
+     * @return the bucket's highest latency in nanoseconds.
+     */
+    public static long bucketLimit(final int index)
+    {
+        long retval = index;
+
+        if (index >= SUB_BUCKET_COUNT)
+        {
+            final int shift =
+                (index >>> SUB_BUCKET_BITS) - 1;
+            final long base =
+                SUB_BUCKET_COUNT + (index & (SUB_BUCKET_COUNT - 1));
+
+            retval = ((base + 1L) << shift) - 1L;
+        }
+
+        return (retval);
+    } // end of bucketLimit(int)
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Set methods.
+    //
+
+    /**
+     * Discards all recorded metrics. Transitions recorded while
+     * the metrics are reset may be lost.
+     */
+    public synchronized void reset()
+    {
+        mHistograms = NO_HISTOGRAMS;
+        return;
+    } // end of reset()
+
+    //
+    // end of Set methods.
+    //-----------------------------------------------------------
+
+    // Returns the next power of two at or above the processor
+    // count.
+    private static int maxCells()
+    {
+        final int processors =
+            (Runtime.getRuntime()).availableProcessors();
+        int retval = 1;
+
+        while (retval < processors)
+        {
+            retval <<= 1;
+        }
+
+        return (retval);
+    } // end of maxCells()
+
+    // Returns the histogram for the given state and transition
+    // pair, adding it if necessary.
+    private synchronized Histogram addHistogram(final int stateId,
+                                                final int transitionId)
+    {
+        Histogram[][] table = mHistograms;
+        Histogram[] row;
+        Histogram retval;
+
+        if (stateId >= table.length)
+        {
+            table = Arrays.copyOf(table, stateId + 1);
+        }
+        else
+        {
+            table = table.clone();
+        }
+
+        row = (table[stateId] == null ?
+               NO_TRANSITIONS :
+               table[stateId]);
+        if (transitionId >= row.length)
+        {
+            row = Arrays.copyOf(row, transitionId + 1);
+        }
+
+        // Another thread may have added the histogram first.
+        retval = row[transitionId];
+        if (retval == null)
+        {
+            row = row.clone();
+            retval = new Histogram();
+            row[transitionId] = retval;
+            table[stateId] = row;
+            mHistograms = table;
+        }
+
+        return (retval);
+    } // end of addHistogram(int, int)
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * The metrics recorded for a state and transition pair at
+     * the time {@link TransitionMetricsRecorder#snapshot()} was
+     * called. Latency percentiles are reported as the highest
+     * latency in the percentile's histogram bucket.
+     */
+    public static final class Snapshot
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        private final int mStateId;
+        private final int mTransitionId;
+        private final long mCount;
+        private final long mTotalNanos;
+        private final long mMaxNanos;
+        private final long[] mBuckets;
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        //-------------------------------------------------------
+        // Constructors.
+        //
+
+        private Snapshot(final int stateId,
+                         final int transitionId,
+                         final long count,
+                         final long totalNanos,
+                         final long maxNanos,
+                         final long[] buckets)
+        {
+            mStateId = stateId;
+            mTransitionId = transitionId;
+            mCount = count;
+            mTotalNanos = totalNanos;
+            mMaxNanos = maxNanos;
+            mBuckets = buckets;
+        } // end of Snapshot(...)
+
+        //
+        // end of Constructors.
+        //-------------------------------------------------------
+
+        //-------------------------------------------------------
+        // Object Method Overrides.
+        //
+
+        @Override
+        public String toString()
+        {
+            return (
+                String.format(
+                    "state=%d, transition=%d, count=%d, mean=%dns, p50=%dns, p99=%dns, max=%dns",
+                    mStateId,
+                    mTransitionId,
+                    mCount,
+                    getMeanNanos(),
+                    getPercentileNanos(50d),
+                    getPercentileNanos(99d),
+                    mMaxNanos));
+        } // end of toString()
+
+        //
+        // end of Object Method Overrides.
+        //-------------------------------------------------------
+
+        //-------------------------------------------------------
+        // Get methods.
+        //
+
+        /**
+         * Returns the state in which the transitions were
+         * issued.
+         * @return the state identifier.
+         */
+        public int getStateId()
+        {
+            return (mStateId);
+        } // end of getStateId()
+
+        /**
+         * Returns the transition identifier.
+         * @return the transition identifier.
+         */
+        public int getTransitionId()
+        {
+            return (mTransitionId);
+        } // end of getTransitionId()
+
+        /**
+         * Returns the number of recorded transitions.
+         * @return the transition count.
+         */
+        public long getCount()
+        {
+            return (mCount);
+        } // end of getCount()
+
+        /**
+         * Returns the total latency of the recorded
+         * transitions.
+         * @return the total latency in nanoseconds.
+         */
+        public long getTotalNanos()
+        {
+            return (mTotalNanos);
+        } // end of getTotalNanos()
+
+        /**
+         * Returns the mean transition latency. Returns zero if
+         * no transitions were recorded.
+         * @return the mean latency in nanoseconds.
+         */
+        public long getMeanNanos()
+        {
+            return (mCount == 0L ? 0L : mTotalNanos / mCount);
+        } // end of getMeanNanos()
+
+        /**
+         * Returns the maximum transition latency.
+         * @return the maximum latency in nanoseconds.
+         */
+        public long getMaxNanos()
+        {
+            return (mMaxNanos);
+        } // end of getMaxNanos()
+
+        /**
+         * Returns the latency at or below which the given
+         * percentage of the recorded transitions completed.
+         * Returns zero if no transitions were recorded.
+         * @param percentile a percentage between 0 and 100.
+         * @return the percentile latency in nanoseconds.
+         * @throws IllegalArgumentException
+         * if {@code percentile} is not between 0 and 100.
+         */
+        public long getPercentileNanos(final double percentile)
+        {
+            long total = 0L;
+            long threshold;
+            long count = 0L;
+            int index;
+            long retval = 0L;
+
+            if (percentile < 0d || percentile > 100d)
+            {
+                throw (
+                    new IllegalArgumentException(
+                        "invalid percentile " + percentile));
+            }
+
+            for (index = 0; index < mBuckets.length; ++index)
+            {
+                total += mBuckets[index];
+            }
+
+            threshold =
+                Math.max(
+                    1L, (long) Math.ceil((percentile / 100d) * total));
+
+            for (index = 0;
+                 index < mBuckets.length && count < threshold;
+                 ++index)
+            {
+                count += mBuckets[index];
+                if (count >= threshold)
+                {
+                    retval =
+                        Math.min(bucketLimit(index), mMaxNanos);
+                }
+            }
+
+            return (retval);
+        } // end of getPercentileNanos(double)
+
+        /**
+         * Returns a copy of the histogram bucket counts. Use
+         * {@link TransitionMetricsRecorder#bucketLimit(int)} to
+         * find each bucket's latency.
+         * @return the histogram bucket counts.
+         */
+        public long[] getBuckets()
+        {
+            return (mBuckets.clone());
+        } // end of getBuckets()
+
+        //
+        // end of Get methods.
+        //-------------------------------------------------------
+    } // end of class Snapshot
+
+    // A single state and transition pair's latency counters.
+    // Each cell holds the total latency, the maximum latency and
+    // the bucket counts recorded by the threads mapped to it.
+    // The transition count is the sum of the bucket counts.
+    private static final class Histogram
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        // Replaced, never modified, when cells are added.
+        private volatile AtomicLongArray[] mCells;
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        //-------------------------------------------------------
+        // Constructors.
+        //
+
+        private Histogram()
+        {
+            mCells =
+                new AtomicLongArray[] { new AtomicLongArray(CELL_SIZE) };
+        } // end of Histogram()
+
+        //
+        // end of Constructors.
+        //-------------------------------------------------------
+
+        private void record(final long nanos)
+        {
+            final AtomicLongArray[] cells = mCells;
+            final AtomicLongArray cell = cells[cellIndex(cells.length)];
+            final int index = BUCKET_OFFSET + bucketIndex(nanos);
+            final long count = cell.get(index);
+            long max;
+
+            // A failed update means another thread shares this
+            // cell. Count anyway and spread the threads over more
+            // cells.
+            if (cell.compareAndSet(index, count, count + 1L) == false)
+            {
+                cell.incrementAndGet(index);
+
+                if (cells.length < MAX_CELLS)
+                {
+                    addCells(cells);
+                }
+            }
+
+            cell.addAndGet(TOTAL_INDEX, nanos);
+
+            // Only a new maximum updates the cell's value.
+            max = cell.get(MAX_INDEX);
+            while (nanos > max &&
+                   cell.compareAndSet(MAX_INDEX, max, nanos) == false)
+            {
+                max = cell.get(MAX_INDEX);
+            }
+
+            return;
+        } // end of record(long)
+
+        private Snapshot snapshot(final int stateId,
+                                  final int transitionId)
+        {
+            final long[] buckets = new long[BUCKET_COUNT];
+            long count = 0L;
+            long total = 0L;
+            long max = 0L;
+            long value;
+            int index;
+
+            for (AtomicLongArray cell : mCells)
+            {
+                for (index = 0; index < BUCKET_COUNT; ++index)
+                {
+                    value = cell.get(BUCKET_OFFSET + index);
+                    buckets[index] += value;
+                    count += value;
+                }
+
+                total += cell.get(TOTAL_INDEX);
+                max = Math.max(max, cell.get(MAX_INDEX));
+            }
+
+            return (
+                new Snapshot(stateId,
+                             transitionId,
+                             count,
+                             total,
+                             max,
+                             buckets));
+        } // end of snapshot(int, int)
+
+        // Doubles the cells unless another thread already
+        // replaced cells.
+        private synchronized void addCells(
+            final AtomicLongArray[] cells)
+        {
+            if (mCells == cells)
+            {
+                final AtomicLongArray[] added =
+                    Arrays.copyOf(cells, (cells.length << 1));
+                int index;
+
+                for (index = cells.length;
+                     index < added.length;
+                     ++index)
+                {
+                    added[index] = new AtomicLongArray(CELL_SIZE);
+                }
+
+                mCells = added;
+            }
+
+            return;
+        } // end of addCells(AtomicLongArray[])
+
+        // Returns the calling thread's cell. The thread
+        // identifier is mixed so that consecutive identifiers
+        // do not share cells when the cells are doubled.
+        private static int cellIndex(final int length)
+        {
+            final long id = (Thread.currentThread()).getId();
+            int hash = (int) (id ^ (id >>> 32)) * 0x9e3779b9;
+
+            hash ^= (hash >>> 16);
+
+            return (hash & (length - 1));
+        } // end of cellIndex(int)
+    } // end of class Histogram
+} // end of class TransitionMetricsRecorder
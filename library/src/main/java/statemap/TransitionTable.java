@@ -0,0 +1,524 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TransitionTable.java --
+//
+//  This package defines the TransitionTable class used by
+//  smc -javatable generated state machines.
+//
+
+
+package statemap;
+
+/**
+ * The transition matrix interpreted by {@link TableFSMContext}.
+ * An {@code smc -javatable} generated FSM is reduced to this
+ * table, the FSM's guard conditions and its actions. There is
+ * no class per state and no method per transition.
+ * <p>
+ * A (state, transition) cell refers to a run of consecutive
+ * rows. Each row is one guarded transition definition: the
+ * guard condition, the transition type, the action, the end
+ * state and either the pushed state or the pop transition
+ * action. The rows are tried in order until a guard passes.
+ * The run includes the rows inherited from the map's
+ * {@code Default} state and from the {@code Default}
+ * transitions, so that the interpreter never searches for a
+ * transition definition. Cells sharing the same rows refer to
+ * the same run.
+ * </p>
+ * <p>
+ * The generated class passes the table in as string constants
+ * which are decoded here, once, into primitive arrays. String
+ * constants are used rather than array initializers since
+ * array initializers count against the class initialization
+ * method's 64 KiB code limit while string constants do not.
+ * Each value is stored plus one so that zero means none.
+ * Guard, action and state identifiers are stored as unsigned
+ * 16-bit values and so are limited to 65,534.
+ * </p>
+ *
+ * @see TableFSMContext
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class TransitionTable
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * A plain transition from the current state to the end
+     * state.
+     */
+    public static final int SET = 0;
+
+    /**
+     * A push transition. The end state is pushed on to the state
+     * stack and the FSM enters the pushed state.
+     */
+    public static final int PUSH = 1;
+
+    /**
+     * A pop transition. The FSM returns to the state on top of
+     * the state stack.
+     */
+    public static final int POP = 2;
+
+    /**
+     * Returned when there is no row, guard, action or state.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Row flags: the low two bits are the transition type.
+     */
+    private static final int TYPE_MASK = 0x03;
+
+    /**
+     * Row flags: set for the last row in a cell's run.
+     */
+    private static final int LAST_ROW = 0x04;
+
+    /**
+     * Each row is encoded as this many characters: flags, guard,
+     * action, end state, pushed state or pop action.
+     */
+    private static final int ROW_WIDTH = 5;
+
+    /**
+     * State and transition names are separated by {@value}.
+     */
+    private static final char NAME_SEPARATOR = ' ';
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * The state names indexed by state identifier.
+     */
+    private final String[] mStateNames;
+
+    /**
+     * The transition names indexed by transition identifier.
+     * Index 0 is the Default transition.
+     */
+    private final String[] mTransitionNames;
+
+    /**
+     * The number of transitions including Default. This is the
+     * width of {@link #mTransitions}.
+     */
+    private final int mTransitionCount;
+
+    /**
+     * The first row for each (state, transition) cell, indexed
+     * by {@code (stateId * transitionCount) + transitionId}.
+     * Set to {@link #NONE} if the transition is not defined for
+     * the state.
+     */
+    private final int[] mTransitions;
+
+    /**
+     * Row transition type and {@link #LAST_ROW} flag.
+     */
+    private final byte[] mFlags;
+
+    /**
+     * Row guard identifier plus one.
+     */
+    private final char[] mGuards;
+
+    /**
+     * Row action identifier plus one.
+     */
+    private final char[] mActions;
+
+    /**
+     * Row end state identifier plus one. Zero for a loopback
+     * transition which remains in the current state.
+     */
+    private final char[] mStates;
+
+    /**
+     * Row pushed state identifier plus one for push transitions
+     * and the pop transition action identifier plus one for pop
+     * transitions.
+     */
+    private final char[] mStacks;
+
+    /**
+     * Each state's entry action identifier plus one.
+     */
+    private final char[] mEntryActions;
+
+    /**
+     * Each state's exit action identifier plus one.
+     */
+    private final char[] mExitActions;
+
+    /**
+     * The {@code smc -g} debug level, -1 if the FSM was not
+     * generated with debug output.
+     */
+    private final int mDebugLevel;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates a transition table from the encoded string
+     * constants generated by {@code smc -javatable}. Each
+     * argument is an array of string chunks which are
+     * concatenated before decoding.
+     * @param stateNames the state names.
+     * @param transitionNames the transition names.
+     * @param transitions the first row for each
+     * (state, transition) cell as two characters, high bits
+     * first.
+     * @param rows the transition rows.
+     * @param stateActions the entry and exit action for each
+     * state.
+     * @param debugLevel the {@code smc -g} debug level.
+     * @exception IllegalArgumentException
+     * if the encoded tables are inconsistent.
+     */
+    public TransitionTable(final String[] stateNames,
+                           final String[] transitionNames,
+                           final String[] transitions,
+                           final String[] rows,
+                           final String[] stateActions,
+                           final int debugLevel)
+    {
+        final char[] cells = unpack(transitions);
+        final char[] columns = unpack(rows);
+        final char[] actions = unpack(stateActions);
+        final int stateCount;
+        final int rowCount;
+        int index;
+        int offset;
+
+        mStateNames = split(stateNames);
+        mTransitionNames = split(transitionNames);
+        stateCount = mStateNames.length;
+        mTransitionCount = mTransitionNames.length;
+        rowCount = (columns.length / ROW_WIDTH);
+
+        if (cells.length != (2 * stateCount * mTransitionCount) ||
+            columns.length != (rowCount * ROW_WIDTH) ||
+            actions.length != (2 * stateCount))
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid transition table"));
+        }
+
+        mTransitions = new int[stateCount * mTransitionCount];
+        for (index = 0, offset = 0;
+             index < mTransitions.length;
+             ++index, offset += 2)
+        {
+            mTransitions[index] =
+                ((cells[offset] << 16) | cells[offset + 1]) - 1;
+        }
+
+        mFlags = new byte[rowCount];
+        mGuards = new char[rowCount];
+        mActions = new char[rowCount];
+        mStates = new char[rowCount];
+        mStacks = new char[rowCount];
+        for (index = 0, offset = 0;
+             index < rowCount;
+             ++index, offset += ROW_WIDTH)
+        {
+            mFlags[index] = (byte) columns[offset];
+            mGuards[index] = columns[offset + 1];
+            mActions[index] = columns[offset + 2];
+            mStates[index] = columns[offset + 3];
+            mStacks[index] = columns[offset + 4];
+        }
+
+        mEntryActions = new char[stateCount];
+        mExitActions = new char[stateCount];
+        for (index = 0, offset = 0;
+             index < stateCount;
+             ++index, offset += 2)
+        {
+            mEntryActions[index] = actions[offset];
+            mExitActions[index] = actions[offset + 1];
+        }
+
+        mDebugLevel = debugLevel;
+    } // end of TransitionTable(...)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the number of states.
+     * @return the state count.
+     */
+    public int stateCount()
+    {
+        return (mStateNames.length);
+    } // end of stateCount()
+
+    /**
+     * Returns the number of transitions including the Default
+     * transition.
+     * @return the transition count.
+     */
+    public int transitionCount()
+    {
+        return (mTransitionCount);
+    } // end of transitionCount()
+
+    /**
+     * Returns the "&lt;map&gt;.&lt;state&gt;" name of the
+     * given state.
+     * @param stateId the state identifier.
+     * @return the state name.
+     * @exception ArrayIndexOutOfBoundsException
+     * if {@code stateId} is not a valid state identifier.
+     */
+    public String stateName(final int stateId)
+    {
+        return (mStateNames[stateId]);
+    } // end of stateName(int)
+
+    /**
+     * Returns the name of the given transition.
+     * @param transitionId the transition identifier.
+     * @return the transition name.
+     * @exception ArrayIndexOutOfBoundsException
+     * if {@code transitionId} is not a valid transition
+     * identifier.
+     */
+    public String transitionName(final int transitionId)
+    {
+        return (mTransitionNames[transitionId]);
+    } // end of transitionName(int)
+
+    /**
+     * Returns the first row defining {@code transitionId} in
+     * {@code stateId} or {@link #NONE} if the transition is
+     * undefined in that state.
+     * @param stateId the current state identifier.
+     * @param transitionId the issued transition identifier.
+     * @return the first row index or {@link #NONE}.
+     */
+    public int transitionRow(final int stateId,
+                             final int transitionId)
+    {
+        return (
+            mTransitions[(stateId * mTransitionCount) +
+                         transitionId]);
+    } // end of transitionRow(int, int)
+
+    /**
+     * Returns the row's transition type: {@link #SET},
+     * {@link #PUSH} or {@link #POP}.
+     * @param row the row index.
+     * @return the transition type.
+     */
+    public int rowType(final int row)
+    {
+        return (mFlags[row] & TYPE_MASK);
+    } // end of rowType(int)
+
+    /**
+     * Returns {@code true} if {@code row} is the last row tried
+     * for its (state, transition) cell.
+     * @param row the row index.
+     * @return {@code true} if this is the last row.
+     */
+    public boolean isLastRow(final int row)
+    {
+        return ((mFlags[row] & LAST_ROW) != 0);
+    } // end of isLastRow(int)
+
+    /**
+     * Returns the row's guard identifier or {@link #NONE} if the
+     * row is unguarded.
+     * @param row the row index.
+     * @return the guard identifier.
+     */
+    public int rowGuard(final int row)
+    {
+        return (mGuards[row] - 1);
+    } // end of rowGuard(int)
+
+    /**
+     * Returns the row's action identifier or {@link #NONE} if
+     * the transition has no actions.
+     * @param row the row index.
+     * @return the action identifier.
+     */
+    public int rowAction(final int row)
+    {
+        return (mActions[row] - 1);
+    } // end of rowAction(int)
+
+    /**
+     * Returns the row's end state identifier or {@link #NONE}
+     * if the transition remains in the current state.
+     * @param row the row index.
+     * @return the end state identifier.
+     */
+    public int rowState(final int row)
+    {
+        return (mStates[row] - 1);
+    } // end of rowState(int)
+
+    /**
+     * Returns the pushed state identifier for a {@link #PUSH}
+     * row and the pop transition action identifier for a
+     * {@link #POP} row. Returns {@link #NONE} if a pop
+     * transition issues no transition.
+     * @param row the row index.
+     * @return the pushed state or pop action identifier.
+     */
+    public int rowStack(final int row)
+    {
+        return (mStacks[row] - 1);
+    } // end of rowStack(int)
+
+    /**
+     * Returns the state's entry action identifier or
+     * {@link #NONE} if the state has no entry actions.
+     * @param stateId the state identifier.
+     * @return the entry action identifier.
+     */
+    public int entryAction(final int stateId)
+    {
+        return (mEntryActions[stateId] - 1);
+    } // end of entryAction(int)
+
+    /**
+     * Returns the state's exit action identifier or
+     * {@link #NONE} if the state has no exit actions.
+     * @param stateId the state identifier.
+     * @return the exit action identifier.
+     */
+    public int exitAction(final int stateId)
+    {
+        return (mExitActions[stateId] - 1);
+    } // end of exitAction(int)
+
+    /**
+     * Returns the {@code smc -g} debug level or -1 if the FSM
+     * was generated without debug output.
+     * @return the generated debug level.
+     */
+    public int debugLevel()
+    {
+        return (mDebugLevel);
+    } // end of debugLevel()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns the concatenated string chunks as a character
+     * array.
+     * @param chunks the string chunks.
+     * @return the concatenated characters.
+     */
+    private static char[] unpack(final String[] chunks)
+    {
+        final StringBuilder buffer = new StringBuilder();
+
+        for (String chunk : chunks)
+        {
+            buffer.append(chunk);
+        }
+
+        return (buffer.toString().toCharArray());
+    } // end of unpack(String[])
+
+    /**
+     * Returns the names in the concatenated string chunks.
+     * @param chunks the separated names.
+     * @return the names.
+     */
+    private static String[] split(final String[] chunks)
+    {
+        final String names = new String(unpack(chunks));
+        final String[] retval;
+        int index;
+        int start;
+        int end;
+
+        retval = new String[names.isEmpty() ? 0 : count(names) + 1];
+        for (index = 0, start = 0;
+             index < retval.length;
+             ++index, start = end + 1)
+        {
+            end = names.indexOf(NAME_SEPARATOR, start);
+            if (end < 0)
+            {
+                end = names.length();
+            }
+
+            retval[index] = names.substring(start, end);
+        }
+
+        return (retval);
+    } // end of split(String[])
+
+    /**
+     * Returns the number of name separators in {@code names}.
+     * @param names the separated names.
+     * @return the separator count.
+     */
+    private static int count(final String names)
+    {
+        int index;
+        int retval = 0;
+
+        for (index = names.indexOf(NAME_SEPARATOR);
+             index >= 0;
+             index = names.indexOf(NAME_SEPARATOR, index + 1))
+        {
+            ++retval;
+        }
+
+        return (retval);
+    } // end of count(String)
+} // end of class TransitionTable
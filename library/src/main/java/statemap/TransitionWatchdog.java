@@ -0,0 +1,432 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// TransitionWatchdog.java --
+//
+//  Defines the TransitionWatchdog class which reports
+//  -watchdog transitions running longer than a threshold.
+//
+
+package statemap;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reports FSM transitions which run longer than a threshold,
+ * typically because an owner action blocks. FSMs generated with
+ * {@code -java7 -watchdog} write the current watchdog tick and
+ * thread identifier into the FSM when a transition starts. Together with
+ * the transition identifier, which every transition sets, this
+ * is the FSM's watchdog slot. No timer is set per transition.
+ * <p>
+ * A single background thread scans the slots of the watched
+ * FSMs every period. A transition in progress for at least the
+ * threshold is passed to the {@link Listener} once, with the
+ * current state, the transition name, the elapsed time and the
+ * stack of the thread running the transition.
+ * </p>
+ * <p>
+ * The tick is a millisecond clock advanced by the scanning
+ * thread, so starting a transition does not read the system
+ * clock. As a result, elapsed times are accurate to one scan
+ * period and the threshold must be at least two periods long,
+ * since a transition started just before a scan is seen with a
+ * start tick up to one period old. Slots
+ * are read without synchronization, so a report may be missed
+ * or name a state just entered, but a transition blocked for
+ * longer than the threshold is reported. A transition issued
+ * from within another transition's action ends the outer
+ * transition's slot.
+ * </p>
+ *
+ * @see FSMContext7
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class TransitionWatchdog
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * Watchdog threads are named {@value}.
+     */
+    public static final String THREAD_NAME = "statemap-watchdog";
+
+    /**
+     * Slots are read as the tick in milliseconds.
+     */
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    //-----------------------------------------------------------
+    // Statics.
+    //
+
+    /**
+     * The current watchdog tick in milliseconds. Advanced by each
+     * running watchdog's scan.
+     */
+    private static volatile long sTick =
+        System.nanoTime() / NANOS_PER_MILLI;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * Transitions running at least this many milliseconds are
+     * reported.
+     */
+    private final long mThreshold;
+
+    /**
+     * The slots are scanned every this many milliseconds.
+     */
+    private final long mPeriod;
+
+    /**
+     * Slow transitions are reported to this listener.
+     */
+    private final Listener mListener;
+
+    /**
+     * Maps each watched FSM to the start tick of its last
+     * reported transition.
+     */
+    private final ConcurrentMap<FSMContext7, long[]> mContexts;
+
+    /**
+     * The scanning thread. {@code null} when stopped.
+     */
+    private Thread mThread;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /**
+     * Creates a stopped watchdog with no watched FSMs.
+     * @param threshold report transitions running at least this
+     * many milliseconds.
+     * @param period scan the watched FSMs every this many
+     * milliseconds.
+     * @param listener report slow transitions to this listener.
+     * @exception IllegalArgumentException
+     * if {@code threshold} or {@code period} is &le; zero or if
+     * {@code threshold} is less than twice {@code period}.
+     * @exception NullPointerException
+     * if {@code listener} is {@code null}.
+     */
+    public TransitionWatchdog(final long threshold,
+                              final long period,
+                              final Listener listener)
+    {
+        if (threshold <= 0L)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid threshold " + threshold));
+        }
+
+        if (period <= 0L)
+        {
+            throw (
+                new IllegalArgumentException(
+                    "invalid period " + period));
+        }
+
+        // The tick lags the clock by up to one period, so a
+        // shorter threshold reports transitions which just
+        // started.
+        if (threshold < (2L * period))
+        {
+            throw (
+                new IllegalArgumentException(
+                    "threshold " +
+                    threshold +
+                    " < twice period " +
+                    period));
+        }
+
+        if (listener == null)
+        {
+            throw (new NullPointerException("null listener"));
+        }
+
+        mThreshold = threshold;
+        mPeriod = period;
+        mListener = listener;
+        mContexts = new ConcurrentHashMap<>();
+        mThread = null;
+    } // end of TransitionWatchdog(long, long, Listener)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the current watchdog tick in milliseconds. FSMs
+     * generated with {@code -watchdog} store this tick when a
+     * transition starts.
+     * @return the watchdog tick.
+     */
+    public static long currentTick()
+    {
+        return (sTick);
+    } // end of currentTick()
+
+    /**
+     * Returns {@code true} if the watchdog thread is running.
+     * @return {@code true} if running.
+     */
+    public synchronized boolean isRunning()
+    {
+        return (mThread != null);
+    } // end of isRunning()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Starts watching {@code context}'s transitions. Only FSMs
+     * generated with {@code -watchdog} publish their transitions.
+     * @param context watch this FSM.
+     */
+    public void watch(final FSMContext7 context)
+    {
+        mContexts.putIfAbsent(context, new long[] {Long.MIN_VALUE});
+        return;
+    } // end of watch(FSMContext7)
+
+    /**
+     * Stops watching {@code context}'s transitions.
+     * @param context no longer watch this FSM.
+     */
+    public void unwatch(final FSMContext7 context)
+    {
+        mContexts.remove(context);
+        return;
+    } // end of unwatch(FSMContext7)
+
+    /**
+     * Starts the daemon scanning thread if not already running.
+     */
+    public synchronized void start()
+    {
+        if (mThread == null)
+        {
+            mThread = new Thread(new Scanner(), THREAD_NAME);
+            mThread.setDaemon(true);
+            mThread.start();
+        }
+
+        return;
+    } // end of start()
+
+    /**
+     * Stops the scanning thread if running. The watched FSMs are
+     * retained.
+     */
+    public synchronized void stop()
+    {
+        if (mThread != null)
+        {
+            mThread.interrupt();
+            mThread = null;
+        }
+
+        return;
+    } // end of stop()
+
+    /**
+     * Advances the tick and reports each watched FSM whose
+     * transition has run for at least the threshold and has not
+     * yet been reported.
+     */
+    private void scan()
+    {
+        final long now = System.nanoTime() / NANOS_PER_MILLI;
+        FSMContext7 context;
+        long[] reported;
+        long start;
+        State7 state;
+        Map<Thread, StackTraceElement[]> stacks = null;
+
+        sTick = now;
+
+        for (Map.Entry<FSMContext7, long[]> entry :
+                 mContexts.entrySet())
+        {
+            context = entry.getKey();
+            reported = entry.getValue();
+            start = context.transitionStart();
+
+            if (start != FSMContext7.NO_TRANSITION_START &&
+                context.mTransitionId != FSMContext7.NO_TRANSITION_ID &&
+                (now - start) >= mThreshold &&
+                reported[0] != start)
+            {
+                reported[0] = start;
+
+                // The state is cleared while the transition
+                // actions run.
+                state = context.mState;
+                if (state == null)
+                {
+                    state = context.mPreviousState;
+                }
+
+                // The stacks are taken once per scan and only if
+                // there is a slow transition.
+                if (stacks == null)
+                {
+                    stacks = Thread.getAllStackTraces();
+                }
+
+                report(context,
+                       state,
+                       (now - start),
+                       context.transitionThreadId(),
+                       stacks);
+            }
+        }
+
+        return;
+    } // end of scan()
+
+    /**
+     * Passes the slow transition to the listener if the thread
+     * running the transition is still alive.
+     * @param context the FSM.
+     * @param state the FSM's current state.
+     * @param elapsed the transition's running time.
+     * @param threadId the identifier of the thread running the
+     * transition.
+     * @param stacks the live threads' stacks.
+     */
+    private void report(final FSMContext7 context,
+                        final State7 state,
+                        final long elapsed,
+                        final long threadId,
+                        final Map<Thread, StackTraceElement[]> stacks)
+    {
+        for (Map.Entry<Thread, StackTraceElement[]> entry :
+                 stacks.entrySet())
+        {
+            if ((entry.getKey()).getId() == threadId)
+            {
+                try
+                {
+                    mListener.slowTransition(
+                        context,
+                        state,
+                        context.mTransition,
+                        elapsed,
+                        entry.getKey(),
+                        entry.getValue());
+                }
+                catch (RuntimeException rtex)
+                {
+                    // A failed report does not stop the scan.
+                }
+            }
+        }
+
+        return;
+    } // end of report(...)
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * Receives the slow transitions found by a
+     * {@link TransitionWatchdog}. Called on the watchdog thread.
+     */
+    public interface Listener
+    {
+        /**
+         * Reports a transition which has run for at least the
+         * watchdog threshold. Called once per transition.
+         * @param context the FSM.
+         * @param state the state in which the transition was
+         * issued or, if the transition already set it, the next
+         * state. May be {@code null}.
+         * @param transition the transition name.
+         * @param elapsed the transition's running time so far in
+         * milliseconds.
+         * @param thread the thread running the transition.
+         * @param stack {@code thread}'s current stack.
+         */
+        void slowTransition(FSMContext7 context,
+                            State7 state,
+                            String transition,
+                            long elapsed,
+                            Thread thread,
+                            StackTraceElement[] stack);
+    } // end of interface Listener
+
+    /**
+     * Scans the watched FSMs every period until interrupted.
+     */
+    private final class Scanner
+        implements Runnable
+    {
+        @Override
+        public void run()
+        {
+            boolean interrupted = false;
+
+            while (interrupted == false)
+            {
+                scan();
+
+                try
+                {
+                    Thread.sleep(mPeriod);
+                }
+                catch (InterruptedException interrupt)
+                {
+                    interrupted = true;
+                }
+            }
+
+            return;
+        } // end of run()
+    } // end of class Scanner
+} // end of class TransitionWatchdog
@@ -0,0 +1,63 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// UndefinedTransitionHandler.java --
+//
+//  Defines the UndefinedTransitionHandler interface called
+//  for transitions undefined in the current state.
+//
+
+
+package statemap;
+
+/**
+ * Called when an FSM whose policy is
+ * {@link UndefinedTransitionPolicy#CALLBACK} takes an undefined
+ * transition. The handler is called on the thread issuing the
+ * transition, while the FSM is still in its current state. The
+ * FSM's state is unchanged when the handler returns. An
+ * exception thrown by the handler is passed on as if thrown by
+ * the transition.
+ *
+ * @see FSMContext#setUndefinedTransitionHandler(UndefinedTransitionHandler)
+ * @see FSMContext7#setUndefinedTransitionHandler(UndefinedTransitionHandler)
+ * @see TableFSMContext#setUndefinedTransitionHandler(UndefinedTransitionHandler)
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public interface UndefinedTransitionHandler
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Transition {@code transition} is not defined in state
+     * {@code state}.
+     * @param fsm the finite state machine.
+     * @param state the current state name.
+     * @param transition the undefined transition name.
+     */
+    void undefinedTransition(Object fsm,
+                             String state,
+                             String transition);
+} // end of interface UndefinedTransitionHandler
@@ -0,0 +1,173 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is  State Machine Compiler(SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// UndefinedTransitionPolicy.java --
+//
+//  Defines the UndefinedTransitionPolicy enum selecting what
+//  a state machine does with an undefined transition.
+//
+
+
+package statemap;
+
+/**
+ * Specifies what an FSM does when a transition is not defined
+ * in the current state, the default state or by a Default
+ * transition. Prior to this policy, the undefined transition
+ * always threw a {@link TransitionUndefinedException}. FSMs
+ * generated with {@code -java7} catch and discard that
+ * exception, so an unexpected transition cost an exception
+ * construction, a stack capture and a catch only for the
+ * exception to be dropped.
+ * <p>
+ * The policy is set for an FSM class by the
+ * {@value #POLICY_PROPERTY} system property or, for a single
+ * class, by "{@value #POLICY_PROPERTY}.&lt;class name&gt;".
+ * The property value is a policy name, ignoring case. The
+ * policy is resolved once per class, the first time one of its
+ * FSMs takes an undefined transition. {@link #THROW} is the
+ * default. An FSM's policy may also be set directly.
+ * </p>
+ *
+ * @see FSMContext#setUndefinedTransitionPolicy(UndefinedTransitionPolicy)
+ * @see FSMContext7#setUndefinedTransitionPolicy(UndefinedTransitionPolicy)
+ * @see TableFSMContext#setUndefinedTransitionPolicy(UndefinedTransitionPolicy)
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public enum UndefinedTransitionPolicy
+{
+    /**
+     * The undefined transition is ignored.
+     */
+    IGNORE,
+
+    /**
+     * The FSM's undefined transition count is incremented.
+     */
+    COUNT,
+
+    /**
+     * The FSM's undefined transition count is incremented and
+     * the FSM's {@link UndefinedTransitionHandler} is called.
+     * If the FSM has no handler, then this policy is the same as
+     * {@link #COUNT}.
+     */
+    CALLBACK,
+
+    /**
+     * A {@link TransitionUndefinedException} is thrown.
+     */
+    THROW;
+
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The undefined transition policy system property name.
+     */
+    public static final String POLICY_PROPERTY =
+        "statemap.undefined";
+
+    //-----------------------------------------------------------
+    // Statics.
+    //
+
+    /**
+     * Each FSM class's policy, resolved once.
+     */
+    private static final ClassValue<UndefinedTransitionPolicy>
+        sPolicies =
+            new ClassValue<UndefinedTransitionPolicy>()
+            {
+                @Override
+                protected UndefinedTransitionPolicy
+                    computeValue(final Class<?> fsmClass)
+                {
+                    return (resolve(fsmClass));
+                }
+            };
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    /**
+     * Returns the undefined transition policy for the given FSM
+     * class. The class property takes precedence over the global
+     * property. Returns {@link #THROW} if neither property is
+     * set or is a policy name.
+     * @param fsmClass the FSM class.
+     * @return the FSM class's undefined transition policy.
+     */
+    public static UndefinedTransitionPolicy
+        forClass(final Class<?> fsmClass)
+    {
+        return (sPolicies.get(fsmClass));
+    } // end of forClass(Class)
+
+    /**
+     * Returns the policy named by the class or global system
+     * property.
+     * @param fsmClass the FSM class.
+     * @return the named policy or {@link #THROW}.
+     */
+    private static UndefinedTransitionPolicy
+        resolve(final Class<?> fsmClass)
+    {
+        String name;
+        UndefinedTransitionPolicy retval = THROW;
+
+        try
+        {
+            name =
+                System.getProperty(
+                    POLICY_PROPERTY + "." + fsmClass.getName());
+            if (name == null)
+            {
+                name = System.getProperty(POLICY_PROPERTY);
+            }
+        }
+        catch (SecurityException secex)
+        {
+            name = null;
+        }
+
+        if (name != null)
+        {
+            for (UndefinedTransitionPolicy policy : values())
+            {
+                if (name.equalsIgnoreCase(policy.name()))
+                {
+                    retval = policy;
+                }
+            }
+        }
+
+        return (retval);
+    } // end of resolve(Class)
+} // end of enum UndefinedTransitionPolicy
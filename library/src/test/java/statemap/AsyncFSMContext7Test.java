@@ -0,0 +1,315 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNoException;
+import org.junit.Test;
+
+/**
+ * Drives {@link AsyncFSMContext7} FSMs from the issuing thread,
+ * from a shared executor and from virtual threads, and verifies
+ * that each FSM applies its transitions in issue order.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class AsyncFSMContext7Test
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final int FSM_COUNT = 64;
+    private static final int THREAD_COUNT = 4;
+    private static final int CYCLE_COUNT = 500;
+    private static final long TIMEOUT = 60000L;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void issuingThreadTest()
+    {
+        final DoorContext fsm = new DoorContext(null);
+
+        assertNull(fsm.getExecutor());
+
+        fsm.open();
+        assertEquals(DoorContext.OPENED_STATE_ID,
+                     (fsm.getState()).getId());
+        assertEquals((Thread.currentThread()).getName(),
+                     (fsm.threads()).get(0));
+        assertTrue(fsm.isIdle());
+    } // end of issuingThreadTest()
+
+    @Test
+    public void sharedExecutorTest()
+        throws InterruptedException
+    {
+        final ExecutorService executor =
+            Executors.newFixedThreadPool(THREAD_COUNT);
+
+        try
+        {
+            cycle(executor);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    } // end of sharedExecutorTest()
+
+    @Test
+    public void virtualThreadTest()
+        throws InterruptedException
+    {
+        Executor executor = null;
+
+        try
+        {
+            executor = AsyncFSMContext7.virtualThreadExecutor();
+        }
+        catch (UnsupportedOperationException jex)
+        {
+            assumeNoException(jex);
+        }
+
+        cycle(executor);
+    } // end of virtualThreadTest()
+
+    @Test
+    public void failedTransitionTest()
+    {
+        final DoorContext fsm = new DoorContext(null);
+        final List<Throwable> failures = new ArrayList<>();
+
+        fsm.setErrorHandler(
+            new TransitionErrorHandler()
+            {
+                @Override
+                public void transitionFailed(final FSMContext7 context,
+                                             final String transition,
+                                             final Throwable t)
+                {
+                    failures.add(t);
+                }
+
+                @Override
+                public void actionFailed(final FSMContext7 context,
+                                         final String transition,
+                                         final int errorCode)
+                {}
+            });
+
+        fsm.jam();
+        fsm.open();
+
+        assertEquals(1, failures.size());
+        assertEquals("jammed", (failures.get(0)).getMessage());
+        assertEquals("[open]", (fsm.applied()).toString());
+        assertEquals(DoorContext.OPENED_STATE_ID,
+                     (fsm.getState()).getId());
+    } // end of failedTransitionTest()
+
+    @Test
+    public void serializeTest()
+        throws Exception
+    {
+        final ExecutorService executor =
+            Executors.newSingleThreadExecutor();
+        final ByteArrayOutputStream bytes =
+            new ByteArrayOutputStream();
+        final DoorContext fsm = new DoorContext(executor);
+        final DoorContext copy;
+
+        try
+        {
+            assertSame(executor, fsm.getExecutor());
+
+            fsm.open();
+            awaitIdle(fsm);
+
+            try (ObjectOutputStream ostream =
+                     new ObjectOutputStream(bytes))
+            {
+                ostream.writeObject(fsm);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        try (ObjectInputStream istream =
+                 new ObjectInputStream(
+                     new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            copy = (DoorContext) istream.readObject();
+        }
+
+        // The executor is not serialized so the deserialized FSM
+        // applies transitions on the issuing thread.
+        assertNull(copy.getExecutor());
+        assertTrue(copy.isIdle());
+
+        copy.close();
+        assertEquals(DoorContext.CLOSED_STATE_ID,
+                     (copy.getState()).getId());
+        assertEquals("[open, close]", (copy.applied()).toString());
+        assertEquals((Thread.currentThread()).getName(),
+                     (copy.threads()).get(1));
+    } // end of serializeTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Issues CYCLE_COUNT open, close cycles to FSM_COUNT FSMs
+    // sharing the executor. Each thread issues to its own FSMs.
+    private static void cycle(final Executor executor)
+        throws InterruptedException
+    {
+        final DoorContext[] fsms = new DoorContext[FSM_COUNT];
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final Thread[] issuers = new Thread[THREAD_COUNT];
+        final String caller = (Thread.currentThread()).getName();
+        int i;
+
+        for (i = 0; i < FSM_COUNT; ++i)
+        {
+            fsms[i] = new DoorContext(executor);
+        }
+
+        for (i = 0; i < THREAD_COUNT; ++i)
+        {
+            final int issuer = i;
+
+            issuers[i] =
+                new Thread(
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            try
+                            {
+                                startGate.await();
+                            }
+                            catch (InterruptedException interrupt)
+                            {
+                                return;
+                            }
+
+                            issue(fsms, issuer);
+                        }
+                    });
+            issuers[i].start();
+        }
+
+        startGate.countDown();
+        for (i = 0; i < THREAD_COUNT; ++i)
+        {
+            issuers[i].join();
+        }
+
+        for (DoorContext fsm : fsms)
+        {
+            awaitIdle(fsm);
+
+            assertEquals(2 * CYCLE_COUNT, (fsm.applied()).size());
+            for (i = 0; i < (2 * CYCLE_COUNT); ++i)
+            {
+                assertEquals((i % 2 == 0 ? "open" : "close"),
+                             (fsm.applied()).get(i));
+            }
+
+            assertEquals(DoorContext.CLOSED_STATE_ID,
+                         (fsm.getState()).getId());
+            assertFalse((fsm.threads()).contains(caller));
+        }
+
+        return;
+    } // end of cycle(Executor)
+
+    // Issues open, close cycles to every THREAD_COUNTth FSM
+    // starting with fsms[issuer].
+    private static void issue(final DoorContext[] fsms,
+                              final int issuer)
+    {
+        int cycle;
+        int i;
+
+        for (cycle = 0; cycle < CYCLE_COUNT; ++cycle)
+        {
+            for (i = issuer; i < fsms.length; i += THREAD_COUNT)
+            {
+                fsms[i].open();
+                fsms[i].close();
+            }
+        }
+
+        return;
+    } // end of issue(DoorContext[], int)
+
+    // Waits for the FSM to apply its queued transitions.
+    private static void awaitIdle(final DoorContext fsm)
+        throws InterruptedException
+    {
+        final long deadline = System.currentTimeMillis() + TIMEOUT;
+
+        while (fsm.isIdle() == false &&
+               System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(1L);
+        }
+
+        assertTrue("FSM not idle", fsm.isIdle());
+
+        return;
+    } // end of awaitIdle(DoorContext)
+} // end of AsyncFSMContext7Test
@@ -0,0 +1,366 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A two state door FSM written the way {@code -java7 -actor}
+ * generates it, so the library tests do not depend on the code
+ * generator. {@code open} and {@code close} move between the
+ * {@code Closed} and {@code Opened} states. {@code knock} is not
+ * defined in either state and so is always passed to
+ * {@link FSMContext7#defaultTransition()}.
+ * <p>
+ * Each transition action records the transition and the name of
+ * the thread applying it. {@code jam} throws from its action.
+ * Like {@code -serial} FSMs, the current state is serialized by
+ * its identifier and, like {@code -journal} FSMs, each completed
+ * transition is appended to the journal, if set.
+ * </p>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+/* package */ final class DoorContext
+    extends AsyncFSMContext7
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /* package */ static final int CLOSED_STATE_ID = 0;
+    /* package */ static final int OPENED_STATE_ID = 1;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String MAP_NAME = "DoorMap";
+
+    private static final String[] STATE_NAMES =
+    {
+        "Closed",
+        "Opened"
+    };
+
+    private static final String[] TRANSITION_NAMES =
+    {
+        "Default",
+        "open",
+        "close",
+        "knock",
+        "jam"
+    };
+
+    /* package */ static final int OPEN_TRANSITION_ID = 1;
+    private static final int CLOSE_TRANSITION_ID = 2;
+    /* package */ static final int KNOCK_TRANSITION_ID = 3;
+    private static final int JAM_TRANSITION_ID = 4;
+
+    private static final State7[] sStates =
+        new State7[STATE_NAMES.length];
+
+    static
+    {
+        final Lookup lookup = MethodHandles.lookup();
+        final int transitionCount = TRANSITION_NAMES.length;
+        TransitionHandle[] transitions;
+        int stateId;
+        int transitionId;
+
+        for (stateId = 0; stateId < sStates.length; ++stateId)
+        {
+            transitions = new TransitionHandle[transitionCount];
+            for (transitionId = 1;
+                 transitionId < transitionCount;
+                 ++transitionId)
+            {
+                transitions[transitionId] =
+                    lookupTransition(lookup,
+                                     DoorContext.class,
+                                     MAP_NAME,
+                                     STATE_NAMES[stateId],
+                                     TRANSITION_NAMES[transitionId],
+                                     NO_ARGS_TYPE);
+            }
+
+            sStates[stateId] =
+                new State7(MAP_NAME + "_" + STATE_NAMES[stateId],
+                           stateId,
+                           null,
+                           null,
+                           transitions,
+                           TRANSITION_NAMES);
+        }
+    }
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    // The applied transitions and applying threads. Only the
+    // thread draining the mailbox adds to these lists.
+    private final List<String> mApplied;
+    private final List<String> mThreads;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /* package */ DoorContext(final Executor executor)
+    {
+        super (sStates[CLOSED_STATE_ID], executor);
+
+        mApplied = new ArrayList<>();
+        mThreads = new ArrayList<>();
+    } // end of DoorContext(Executor)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Serializable Interface Implementation.
+    //
+
+    private void writeObject(final ObjectOutputStream ostream)
+        throws IOException
+    {
+        ostream.defaultWriteObject();
+        ostream.writeInt(mState.getId());
+
+        return;
+    } // end of writeObject(ObjectOutputStream)
+
+    private void readObject(final ObjectInputStream istream)
+        throws IOException,
+               ClassNotFoundException
+    {
+        istream.defaultReadObject();
+        mState = sStates[istream.readInt()];
+
+        return;
+    } // end of readObject(ObjectInputStream)
+
+    //
+    // end of Serializable Interface Implementation.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // FSMContext7 Abstract Method Override.
+    //
+
+    @Override
+    protected void executeAction(final MethodHandle mh)
+    {
+        try
+        {
+            mh.invokeExact(this);
+        }
+        catch (Throwable tex)
+        {
+            transitionFailed(tex);
+        }
+
+        return;
+    } // end of executeAction(MethodHandle)
+
+    @Override
+    protected State7 valueOf(final int stateId)
+    {
+        return (sStates[stateId]);
+    } // end of valueOf(int)
+
+    @Override
+    protected StateIdStack newStateIdStack()
+    {
+        return (new StateIdStack());
+    } // end of newStateIdStack()
+
+    //
+    // end of FSMContext7 Abstract Method Override.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /* package */ static State7 state(final int stateId)
+    {
+        return (sStates[stateId]);
+    } // end of state(int)
+
+    /* package */ List<String> applied()
+    {
+        return (mApplied);
+    } // end of applied()
+
+    /* package */ List<String> threads()
+    {
+        return (mThreads);
+    } // end of threads()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Transitions.
+    //
+
+    /* package */ void open()
+    {
+        post(OPEN_TRANSITION_ID);
+        return;
+    } // end of open()
+
+    /* package */ void close()
+    {
+        post(CLOSE_TRANSITION_ID);
+        return;
+    } // end of close()
+
+    /* package */ void knock()
+    {
+        post(KNOCK_TRANSITION_ID);
+        return;
+    } // end of knock()
+
+    /* package */ void jam()
+    {
+        post(JAM_TRANSITION_ID);
+        return;
+    } // end of jam()
+
+    private void post(final int transitionId)
+    {
+        mMailbox.post(
+            new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    apply(transitionId);
+                }
+            });
+
+        return;
+    } // end of post(int)
+
+    private void apply(final int transitionId)
+    {
+        mTransition = TRANSITION_NAMES[transitionId];
+        mTransitionId = transitionId;
+        try
+        {
+            final TransitionHandle th =
+                (getState()).transition(transitionId);
+
+            (th.handle()).invokeExact(this);
+
+            if (getJournal() != null)
+            {
+                journalBegin();
+                journalEnd(transitionId);
+            }
+        }
+        catch (Throwable tex)
+        {
+            transitionFailed(tex);
+        }
+        mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
+
+        return;
+    } // end of apply(int)
+
+    //
+    // end of Transitions.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // State Transitions.
+    //
+
+    private void DoorMap_Closed_open()
+    {
+        move(OPENED_STATE_ID);
+        return;
+    } // end of DoorMap_Closed_open()
+
+    private void DoorMap_Opened_close()
+    {
+        move(CLOSED_STATE_ID);
+        return;
+    } // end of DoorMap_Opened_close()
+
+    private void DoorMap_Default_jam()
+    {
+        clearState();
+        try
+        {
+            throw (new IllegalStateException("jammed"));
+        }
+        finally
+        {
+            setState(mPreviousState);
+        }
+    } // end of DoorMap_Default_jam()
+
+    private void move(final int stateId)
+    {
+        exitState();
+        clearState();
+        try
+        {
+            mApplied.add(mTransition);
+            mThreads.add((Thread.currentThread()).getName());
+        }
+        finally
+        {
+            setState(sStates[stateId]);
+        }
+        enterState();
+
+        return;
+    } // end of move(int)
+
+    //
+    // end of State Transitions.
+    //-----------------------------------------------------------
+} // end of class DoorContext
@@ -0,0 +1,288 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Drives {@link NestContext} flyweight sessions through deep
+ * state stacks, nested dispatch and concurrent dispatch and
+ * checks each session's slot.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class FlyweightFSMContextTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final int DEPTH = 6;
+    private static final int THREAD_COUNT = 4;
+    private static final int SESSION_COUNT = 1000;
+    private static final int CYCLE_COUNT = 50;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void startTest()
+    {
+        final StateSlotStore store = StateSlotStore.allocate(2);
+        final NestContext fsm = new NestContext(store);
+
+        fsm.enterStartState(0);
+        assertEquals(NestContext.IDLE_STATE_ID, store.getStateId(0));
+        assertEquals(TableFSMContext.NO_STATE_ID,
+                     store.getStateId(1));
+        assertEquals(FlyweightFSMContext.NO_SESSION,
+                     fsm.getSessionIndex());
+        assertFalse(fsm.isInTransition());
+    } // end of startTest()
+
+    @Test
+    public void deepStackTest()
+    {
+        final StateSlotStore store = StateSlotStore.allocate(1);
+        final NestContext fsm = new NestContext(store);
+        int depth;
+
+        fsm.enterStartState(0);
+
+        for (depth = 1; depth <= DEPTH; ++depth)
+        {
+            fsm.dive(0);
+            assertEquals(NestContext.DEEP_STATE_ID,
+                         store.getStateId(0));
+            assertEquals(depth, store.getStackDepth(0));
+            assertEquals(depth > StateSlotStore.SLOT_STACK_DEPTH,
+                         store.isSpilled(0));
+        }
+
+        for (depth = (DEPTH - 1); depth >= 0; --depth)
+        {
+            fsm.rise(0);
+            assertEquals(depth, store.getStackDepth(0));
+            assertEquals(depth > StateSlotStore.SLOT_STACK_DEPTH,
+                         store.isSpilled(0));
+        }
+
+        assertEquals(NestContext.IDLE_STATE_ID, store.getStateId(0));
+        assertEquals(DEPTH,
+                     fsm.actionCount(0, NestContext.DIVE_ACTION));
+        assertEquals(DEPTH,
+                     fsm.actionCount(0, NestContext.RISE_ACTION));
+    } // end of deepStackTest()
+
+    @Test
+    public void nestedDispatchTest()
+    {
+        final StateSlotStore store = StateSlotStore.allocate(2);
+        final NestContext fsm = new NestContext(store);
+
+        fsm.enterStartState(0);
+        fsm.enterStartState(1);
+
+        // Knocking on session 0 dives session 1 from within
+        // session 0's transition.
+        fsm.knock(0);
+
+        assertEquals(NestContext.IDLE_STATE_ID, store.getStateId(0));
+        assertEquals(NestContext.DEEP_STATE_ID, store.getStateId(1));
+        assertEquals(1,
+                     fsm.actionCount(0, NestContext.KNOCK_ACTION));
+        assertEquals(1,
+                     fsm.actionCount(1, NestContext.DIVE_ACTION));
+        assertEquals(FlyweightFSMContext.NO_SESSION,
+                     fsm.getSessionIndex());
+    } // end of nestedDispatchTest()
+
+    @Test
+    public void notStartedTest()
+    {
+        final StateSlotStore store = StateSlotStore.allocate(1);
+        final NestContext fsm = new NestContext(store);
+
+        try
+        {
+            fsm.dive(0);
+            fail("dispatch to unstarted session succeeded");
+        }
+        catch (StateUndefinedException jex)
+        {
+            assertEquals("session 0 not started", jex.getMessage());
+        }
+
+        // The failed dispatch leaves no session loaded.
+        assertEquals(FlyweightFSMContext.NO_SESSION,
+                     fsm.getSessionIndex());
+    } // end of notStartedTest()
+
+    @Test(expected = StateUndefinedException.class)
+    public void noSessionTest()
+    {
+        (new NestContext(StateSlotStore.allocate(1))).dive();
+    } // end of noSessionTest()
+
+    @Test
+    public void undefinedTransitionTest()
+    {
+        final StateSlotStore store = StateSlotStore.allocate(2);
+        final NestContext fsm = new NestContext(store);
+
+        fsm.setUndefinedTransitionPolicy(
+            UndefinedTransitionPolicy.COUNT);
+        fsm.enterStartState(0);
+        fsm.enterStartState(1);
+        fsm.dive(0);
+        fsm.dive(1);
+
+        // knock is not defined in Inner::Deep.
+        fsm.knock(0);
+        fsm.knock(1);
+        fsm.knock(1);
+
+        assertEquals(3L, fsm.getUndefinedTransitionCount());
+        assertEquals(NestContext.DEEP_STATE_ID, store.getStateId(0));
+        assertEquals(1, store.getStackDepth(1));
+    } // end of undefinedTransitionTest()
+
+    @Test
+    public void concurrentDispatchTest()
+        throws InterruptedException
+    {
+        final StateSlotStore store =
+            StateSlotStore.allocateDirect(SESSION_COUNT);
+        final NestContext fsm = new NestContext(store);
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure =
+            new AtomicReference<>();
+        final Thread[] threads = new Thread[THREAD_COUNT];
+        int i;
+
+        for (i = 0; i < SESSION_COUNT; ++i)
+        {
+            fsm.enterStartState(i);
+        }
+
+        for (i = 0; i < THREAD_COUNT; ++i)
+        {
+            final int first = i;
+
+            threads[i] =
+                new Thread(
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            try
+                            {
+                                startGate.await();
+                                drive(fsm, first);
+                            }
+                            catch (Throwable t)
+                            {
+                                failure.compareAndSet(null, t);
+                            }
+                        }
+                    });
+            threads[i].start();
+        }
+
+        startGate.countDown();
+        for (i = 0; i < THREAD_COUNT; ++i)
+        {
+            threads[i].join();
+        }
+
+        assertNull(failure.get());
+
+        // Each session is left DEPTH - 1 deep.
+        for (i = 0; i < SESSION_COUNT; ++i)
+        {
+            assertEquals(NestContext.DEEP_STATE_ID,
+                         store.getStateId(i));
+            assertEquals(DEPTH - 1, store.getStackDepth(i));
+            assertEquals(CYCLE_COUNT * DEPTH,
+                         fsm.actionCount(i, NestContext.DIVE_ACTION));
+            assertTrue(store.isSpilled(i));
+        }
+    } // end of concurrentDispatchTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Dives every THREAD_COUNTth session DEPTH deep and back up,
+    // CYCLE_COUNT times over, interleaving the sessions.
+    private static void drive(final NestContext fsm, final int first)
+    {
+        int cycle;
+        int depth;
+        int i;
+
+        for (cycle = 0; cycle < CYCLE_COUNT; ++cycle)
+        {
+            for (depth = 0; depth < DEPTH; ++depth)
+            {
+                for (i = first; i < SESSION_COUNT; i += THREAD_COUNT)
+                {
+                    fsm.dive(i);
+                }
+            }
+
+            for (depth = 0; depth < DEPTH; ++depth)
+            {
+                for (i = first; i < SESSION_COUNT; i += THREAD_COUNT)
+                {
+                    // The last cycle rises once, leaving the
+                    // stacks spilled.
+                    if (cycle < (CYCLE_COUNT - 1) || depth == 0)
+                    {
+                        fsm.rise(i);
+                    }
+                }
+            }
+        }
+
+        return;
+    } // end of drive(NestContext, int)
+} // end of FlyweightFSMContextTest
@@ -0,0 +1,361 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Stores snapshots in a {@link MappedSnapshotStore} spread over
+ * several segments, re-opens the file and restores them.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class MappedSnapshotStoreTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final long SCHEMA_HASH = 0x5eed5eed5eedL;
+    private static final int RECORD_COUNT = 100;
+    private static final int MAX_DEPTH = 4;
+
+    // Three records per segment.
+    private static final int SEGMENT_SIZE =
+        3 * (StateSnapshot.HEADER_SIZE + (4 * MAX_DEPTH));
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    @Rule
+    public final TemporaryFolder mFolder = new TemporaryFolder();
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void reopenTest()
+        throws IOException
+    {
+        final File file = mFolder.newFile();
+        final Snapshot fsm = new Snapshot(SCHEMA_HASH);
+        int index;
+
+        try (MappedSnapshotStore store = open(file))
+        {
+            assertEquals(RECORD_COUNT, store.recordCount());
+            assertEquals(MAX_DEPTH, store.maxStackDepth());
+            assertEquals(StateSnapshot.HEADER_SIZE + (4 * MAX_DEPTH),
+                         store.recordSize());
+
+            for (index = 0; index < RECORD_COUNT; ++index)
+            {
+                assertTrue(store.isEmpty(index));
+                if (index % 2 == 0)
+                {
+                    set(fsm, index);
+                    store.put(index, fsm);
+                }
+            }
+        }
+
+        try (MappedSnapshotStore store = open(file))
+        {
+            for (index = 0; index < RECORD_COUNT; ++index)
+            {
+                final Snapshot restored = new Snapshot(SCHEMA_HASH);
+
+                assertEquals(index % 2 == 0, store.get(index, restored));
+                if (index % 2 == 0)
+                {
+                    set(fsm, index);
+                    assertEquals(fsm.toString(), restored.toString());
+                }
+                else
+                {
+                    // An empty record leaves the FSM unchanged.
+                    assertEquals(
+                        (new Snapshot(SCHEMA_HASH)).toString(),
+                        restored.toString());
+                }
+            }
+
+            store.remove(0);
+            assertTrue(store.isEmpty(0));
+        }
+
+        try (MappedSnapshotStore store = open(file))
+        {
+            assertTrue(store.isEmpty(0));
+            assertFalse(store.isEmpty(2));
+        }
+    } // end of reopenTest()
+
+    @Test
+    public void flushTest()
+        throws IOException
+    {
+        final Snapshot fsm = new Snapshot(SCHEMA_HASH);
+
+        try (MappedSnapshotStore store = open(mFolder.newFile()))
+        {
+            assertEquals(0, store.flush());
+
+            // Records 0 and 2 share the first segment.
+            store.put(0, fsm);
+            store.put(2, fsm);
+            store.remove(3);
+            store.put(RECORD_COUNT - 1, fsm);
+            assertEquals(3, store.flush());
+            assertEquals(0, store.flush());
+        }
+    } // end of flushTest()
+
+    @Test
+    public void mismatchedFileTest()
+        throws IOException
+    {
+        final File file = mFolder.newFile();
+
+        (open(file)).close();
+
+        try
+        {
+            MappedSnapshotStore.open(file,
+                                     RECORD_COUNT + 1,
+                                     MAX_DEPTH,
+                                     SEGMENT_SIZE);
+            fail("record count mismatch opened");
+        }
+        catch (IOException ioex)
+        {
+            // Expected.
+        }
+
+        try
+        {
+            MappedSnapshotStore.open(file,
+                                     RECORD_COUNT,
+                                     MAX_DEPTH + 1,
+                                     SEGMENT_SIZE);
+            fail("stack depth mismatch opened");
+        }
+        catch (IOException ioex)
+        {
+            // Expected.
+        }
+    } // end of mismatchedFileTest()
+
+    @Test
+    public void schemaMismatchTest()
+        throws IOException
+    {
+        try (MappedSnapshotStore store = open(mFolder.newFile()))
+        {
+            store.put(1, new Snapshot(SCHEMA_HASH));
+
+            try
+            {
+                store.get(1, new Snapshot(SCHEMA_HASH + 1L));
+                fail("schema mismatch restored");
+            }
+            catch (IllegalArgumentException jex)
+            {
+                // Expected.
+            }
+        }
+    } // end of schemaMismatchTest()
+
+    @Test
+    public void invalidPutTest()
+        throws IOException
+    {
+        final Snapshot fsm = new Snapshot(SCHEMA_HASH);
+        int i;
+
+        for (i = 0; i <= MAX_DEPTH; ++i)
+        {
+            fsm.mStack.push(i);
+        }
+
+        try (MappedSnapshotStore store = open(mFolder.newFile()))
+        {
+            try
+            {
+                store.put(0, fsm);
+                fail("too deep state stack stored");
+            }
+            catch (IllegalArgumentException jex)
+            {
+                // Expected.
+            }
+
+            try
+            {
+                store.get(RECORD_COUNT, fsm);
+                fail("record past the end read");
+            }
+            catch (IndexOutOfBoundsException jex)
+            {
+                // Expected.
+            }
+
+            assertTrue(store.isEmpty(0));
+        }
+    } // end of invalidPutTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    private static MappedSnapshotStore open(final File file)
+        throws IOException
+    {
+        return (
+            MappedSnapshotStore.open(file,
+                                     RECORD_COUNT,
+                                     MAX_DEPTH,
+                                     SEGMENT_SIZE));
+    } // end of open(File)
+
+    // Sets the snapshot's states from the record index so that
+    // each record differs.
+    private static void set(final Snapshot fsm, final int index)
+    {
+        int i;
+
+        fsm.mStateId = index;
+        fsm.mPreviousStateId = index + 1;
+        fsm.mStack.clear();
+        for (i = 0; i < (index % (MAX_DEPTH + 1)); ++i)
+        {
+            fsm.mStack.push(index + i);
+        }
+
+        return;
+    } // end of set(Snapshot, int)
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    // Implements the snapshot layout for a bare set of state
+    // identifiers.
+    private static final class Snapshot
+        implements StateSnapshot
+    {
+        private final long mSchemaHash;
+        private int mStateId;
+        private int mPreviousStateId;
+        private final StateIdStack mStack;
+
+        private Snapshot(final long schemaHash)
+        {
+            mSchemaHash = schemaHash;
+            mStateId = FSMContext7.NO_STATE_ID;
+            mPreviousStateId = FSMContext7.NO_STATE_ID;
+            mStack = new StateIdStack();
+        } // end of Snapshot(long)
+
+        @Override
+        public String toString()
+        {
+            return (mStateId + " " + mPreviousStateId + " " + mStack);
+        } // end of toString()
+
+        @Override
+        public long getSchemaHash()
+        {
+            return (mSchemaHash);
+        } // end of getSchemaHash()
+
+        @Override
+        public int snapshotSize()
+        {
+            return (HEADER_SIZE + (4 * mStack.size()));
+        } // end of snapshotSize()
+
+        @Override
+        public void writeTo(final ByteBuffer buffer)
+        {
+            int i;
+
+            buffer.putLong(mSchemaHash)
+                  .putInt(mStateId)
+                  .putInt(mPreviousStateId)
+                  .putInt(mStack.size());
+            for (i = 0; i < mStack.size(); ++i)
+            {
+                buffer.putInt(mStack.get(i));
+            }
+
+            return;
+        } // end of writeTo(ByteBuffer)
+
+        @Override
+        public void readFrom(final ByteBuffer buffer)
+        {
+            final int depth;
+            int i;
+
+            if (buffer.getLong(buffer.position()) != mSchemaHash)
+            {
+                throw (
+                    new IllegalArgumentException(
+                        "schema hash mismatch"));
+            }
+
+            buffer.getLong();
+            mStateId = buffer.getInt();
+            mPreviousStateId = buffer.getInt();
+            depth = buffer.getInt();
+            mStack.clear();
+            for (i = 0; i < depth; ++i)
+            {
+                mStack.push(buffer.getInt());
+            }
+
+            return;
+        } // end of readFrom(ByteBuffer)
+    } // end of class Snapshot
+} // end of MappedSnapshotStoreTest
@@ -0,0 +1,247 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A flyweight FSM as {@code -javatable -flyweight} generates it
+ * from:
+ * <pre>
+ * %start Outer::Idle
+ * %map Outer
+ * %%
+ * Idle
+ * {
+ *     dive   push(Inner::Deep)   { record("dive"); }
+ *     knock  nil                 { record("knock"); }
+ * }
+ * %%
+ * %map Inner
+ * %%
+ * Deep
+ * {
+ *     dive   push(Inner::Deep)   { record("dive"); }
+ *     rise   pop()               { record("rise"); }
+ * }
+ * %%
+ * </pre>
+ * The actions are counted per session. {@code knock} also
+ * dives the next session, if there is one, to test nested
+ * dispatch. {@code knock} is not defined in {@code Inner::Deep}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+/* package */ final class NestContext
+    extends FlyweightFSMContext
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /* package */ static final int IDLE_STATE_ID = 0;
+    /* package */ static final int DEEP_STATE_ID = 1;
+
+    /* package */ static final int DIVE_TRANSITION_ID = 1;
+    /* package */ static final int KNOCK_TRANSITION_ID = 2;
+    /* package */ static final int RISE_TRANSITION_ID = 3;
+
+    /* package */ static final int DIVE_ACTION = 0;
+    /* package */ static final int KNOCK_ACTION = 1;
+    /* package */ static final int RISE_ACTION = 2;
+    private static final int ACTION_COUNT = 3;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] STATE_NAMES =
+    {
+        "Outer.Idle Inner.Deep"
+    };
+
+    private static final String[] TRANSITION_NAMES =
+    {
+        "Default dive knock rise"
+    };
+
+    private static final String[] TRANSITIONS =
+    {
+        "\000\000\000\001\000\002\000\000\000\000\000\001\000\000\000\003"
+    };
+
+    private static final String[] ROWS =
+    {
+        "\005\000\001\000\002\004\000\002\000\000\006\000\003\000\000"
+    };
+
+    private static final String[] STATE_ACTIONS =
+    {
+        "\000\000\000\000"
+    };
+
+    private static final TransitionTable sTable =
+        new TransitionTable(STATE_NAMES,
+                            TRANSITION_NAMES,
+                            TRANSITIONS,
+                            ROWS,
+                            STATE_ACTIONS,
+                            -1);
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    // The action counts by session, shared by the cursors.
+    transient private final AtomicIntegerArray mActions;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /* package */ NestContext(final StateSlotStore store)
+    {
+        super (sTable, store, IDLE_STATE_ID);
+
+        mActions =
+            new AtomicIntegerArray(ACTION_COUNT * store.capacity());
+    } // end of NestContext(StateSlotStore)
+
+    private NestContext(final NestContext shared)
+    {
+        super (shared);
+
+        mActions = shared.mActions;
+    } // end of NestContext(NestContext)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    @Override
+    protected FlyweightFSMContext newCursor()
+    {
+        return (new NestContext(this));
+    } // end of newCursor()
+
+    //-----------------------------------------------------------
+    // TableFSMContext Abstract Method Override.
+    //
+
+    @Override
+    protected boolean guard(final int guardId)
+    {
+        return (false);
+    } // end of guard(int)
+
+    @Override
+    protected void action(final int actionId)
+    {
+        final int sessionIndex = getSessionIndex();
+
+        mActions.incrementAndGet(
+            (ACTION_COUNT * sessionIndex) + actionId);
+
+        if (actionId == KNOCK_ACTION &&
+            sessionIndex + 1 < mStore.capacity())
+        {
+            dive(sessionIndex + 1);
+        }
+
+        return;
+    } // end of action(int)
+
+    //
+    // end of TableFSMContext Abstract Method Override.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /* package */ int actionCount(final int sessionIndex,
+                                  final int actionId)
+    {
+        return (mActions.get((ACTION_COUNT * sessionIndex) + actionId));
+    } // end of actionCount(int, int)
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Transitions.
+    //
+
+    /* package */ void dive()
+    {
+        ((NestContext) cursor()).transition(DIVE_TRANSITION_ID);
+        return;
+    } // end of dive()
+
+    /* package */ void dive(final int sessionIndex)
+    {
+        dispatch(sessionIndex, DIVE_TRANSITION_ID);
+        return;
+    } // end of dive(int)
+
+    /* package */ void knock(final int sessionIndex)
+    {
+        dispatch(sessionIndex, KNOCK_TRANSITION_ID);
+        return;
+    } // end of knock(int)
+
+    /* package */ void rise(final int sessionIndex)
+    {
+        dispatch(sessionIndex, RISE_TRANSITION_ID);
+        return;
+    } // end of rise(int)
+
+    private void dispatch(final int sessionIndex,
+                          final int transitionId)
+    {
+        final NestContext cursor = (NestContext) load(sessionIndex);
+
+        try
+        {
+            cursor.transition(transitionId);
+        }
+        finally
+        {
+            unload(cursor);
+        }
+
+        return;
+    } // end of dispatch(int, int)
+
+    //
+    // end of Transitions.
+    //-----------------------------------------------------------
+} // end of class NestContext
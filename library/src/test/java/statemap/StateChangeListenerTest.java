@@ -0,0 +1,243 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link FSMContext7} reports state changes with
+ * the old and new state and the transition identifiers, both to
+ * {@link StateChangeListener}s and to
+ * {@link PropertyChangeListener}s.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class StateChangeListenerTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    private DoorContext mFsm;
+
+    /**
+     * Each reported state change as
+     * "old state id:new state id:transition id".
+     */
+    private List<String> mChanges;
+
+    private StateChangeListener mListener;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Before
+    public void setUp()
+    {
+        mFsm = new DoorContext(null);
+        mChanges = new ArrayList<>();
+        mListener = new Recorder(mChanges);
+
+        mFsm.addStateChangeListener(mListener);
+
+        return;
+    } // end of setUp()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void unchangedStateTest()
+    {
+        mFsm.setState(DoorContext.state(DoorContext.CLOSED_STATE_ID));
+        mFsm.clearState();
+        mFsm.setState(DoorContext.state(DoorContext.CLOSED_STATE_ID));
+
+        assertEquals("[]", mChanges.toString());
+    } // end of unchangedStateTest()
+
+    @Test
+    public void setStateTest()
+    {
+        mFsm.open();
+        mFsm.setState(DoorContext.state(DoorContext.CLOSED_STATE_ID));
+
+        assertEquals("[" +
+                     change(DoorContext.CLOSED_STATE_ID,
+                            DoorContext.OPENED_STATE_ID,
+                            DoorContext.OPEN_TRANSITION_ID) +
+                     ", " +
+                     change(DoorContext.OPENED_STATE_ID,
+                            DoorContext.CLOSED_STATE_ID,
+                            FSMContext7.NO_TRANSITION_ID) +
+                     "]",
+                     mChanges.toString());
+    } // end of setStateTest()
+
+    @Test
+    public void pushPopTest()
+    {
+        mFsm.mTransitionId = DoorContext.KNOCK_TRANSITION_ID;
+        mFsm.pushState(DoorContext.state(DoorContext.OPENED_STATE_ID));
+        mFsm.popState();
+        mFsm.mTransitionId = FSMContext7.NO_TRANSITION_ID;
+
+        assertEquals("[" +
+                     change(DoorContext.CLOSED_STATE_ID,
+                            DoorContext.OPENED_STATE_ID,
+                            DoorContext.KNOCK_TRANSITION_ID) +
+                     ", " +
+                     change(DoorContext.OPENED_STATE_ID,
+                            DoorContext.CLOSED_STATE_ID,
+                            DoorContext.KNOCK_TRANSITION_ID) +
+                     "]",
+                     mChanges.toString());
+    } // end of pushPopTest()
+
+    @Test
+    public void propertyChangeListenerTest()
+    {
+        final List<PropertyChangeEvent> events = new ArrayList<>();
+        final PropertyChangeListener listener =
+            new PropertyChangeListener()
+            {
+                @Override
+                public void propertyChange(
+                    final PropertyChangeEvent e)
+                {
+                    events.add(e);
+                }
+            };
+
+        mFsm.addStateChangeListener(listener);
+        mFsm.open();
+
+        assertEquals(1, events.size());
+        assertSame(mFsm, (events.get(0)).getSource());
+        assertEquals(FSMContext7.STATE_PROPERTY,
+                     (events.get(0)).getPropertyName());
+        assertSame(DoorContext.state(DoorContext.CLOSED_STATE_ID),
+                   (events.get(0)).getOldValue());
+        assertSame(DoorContext.state(DoorContext.OPENED_STATE_ID),
+                   (events.get(0)).getNewValue());
+
+        // A new adapter wrapping the same listener finds and
+        // removes the registered adapter.
+        mFsm.removeStateChangeListener(listener);
+        mFsm.setState(DoorContext.state(DoorContext.CLOSED_STATE_ID));
+
+        assertEquals(1, events.size());
+        assertEquals(2, mChanges.size());
+    } // end of propertyChangeListenerTest()
+
+    @Test
+    public void selfRemovalTest()
+    {
+        final List<String> removed = new ArrayList<>();
+        final List<String> last = new ArrayList<>();
+
+        // Registered ahead of the last recorder. Removing itself
+        // must not keep the listener after it from being called.
+        mFsm.removeStateChangeListener(mListener);
+        mFsm.addStateChangeListener(
+            new StateChangeListener()
+            {
+                @Override
+                public void stateChanged(final FSMContext7 fsm,
+                                         final int oldStateId,
+                                         final int newStateId,
+                                         final int transitionId)
+                {
+                    removed.add(change(oldStateId,
+                                       newStateId,
+                                       transitionId));
+                    fsm.removeStateChangeListener(this);
+                }
+            });
+        mFsm.addStateChangeListener(new Recorder(last));
+
+        mFsm.open();
+        mFsm.setState(DoorContext.state(DoorContext.CLOSED_STATE_ID));
+
+        assertEquals(1, removed.size());
+        assertEquals(2, last.size());
+        assertEquals(removed.get(0), last.get(0));
+    } // end of selfRemovalTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    private static String change(final int oldStateId,
+                                 final int newStateId,
+                                 final int transitionId)
+    {
+        return (oldStateId + ":" + newStateId + ":" + transitionId);
+    } // end of change(int, int, int)
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * Records each state change in a list.
+     */
+    private static final class Recorder
+        implements StateChangeListener
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        private final List<String> mChanges;
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        private Recorder(final List<String> changes)
+        {
+            mChanges = changes;
+        } // end of Recorder(List)
+
+        @Override
+        public void stateChanged(final FSMContext7 fsm,
+                                 final int oldStateId,
+                                 final int newStateId,
+                                 final int transitionId)
+        {
+            mChanges.add(change(oldStateId, newStateId, transitionId));
+            return;
+        } // end of stateChanged(...)
+    } // end of class Recorder
+} // end of StateChangeListenerTest
@@ -0,0 +1,224 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.util.EmptyStackException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link StateIdStack} is a last in, first out
+ * stack which grows past its initial capacity, and that
+ * {@link FSMContext7} pushes and pops state identifiers through
+ * it.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class StateIdStackTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final int DEPTH = 100;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void pushPopTest()
+    {
+        final StateIdStack stack = new StateIdStack(2);
+        int i;
+
+        assertTrue(stack.isEmpty());
+        assertEquals(2, stack.capacity());
+
+        for (i = 0; i < DEPTH; ++i)
+        {
+            stack.push(i);
+            assertEquals(i, stack.peek());
+        }
+
+        assertEquals(DEPTH, stack.size());
+        assertTrue(stack.capacity() >= DEPTH);
+
+        // Growing keeps the states from bottom to top.
+        for (i = 0; i < DEPTH; ++i)
+        {
+            assertEquals(i, stack.get(i));
+        }
+
+        for (i = (DEPTH - 1); i >= 0; --i)
+        {
+            assertEquals(i, stack.pop());
+        }
+
+        assertTrue(stack.isEmpty());
+    } // end of pushPopTest()
+
+    @Test
+    public void defaultCapacityTest()
+    {
+        assertEquals(StateIdStack.DEFAULT_CAPACITY,
+                     (new StateIdStack()).capacity());
+    } // end of defaultCapacityTest()
+
+    @Test
+    public void clearTest()
+    {
+        final StateIdStack stack = new StateIdStack(1);
+
+        stack.push(3);
+        stack.push(1);
+        stack.push(4);
+        assertEquals("[3, 1, 4]", stack.toString());
+
+        stack.clear();
+        assertTrue(stack.isEmpty());
+        assertEquals("[]", stack.toString());
+        assertTrue(stack.capacity() >= 3);
+    } // end of clearTest()
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroCapacityTest()
+    {
+        new StateIdStack(0);
+    } // end of zeroCapacityTest()
+
+    @Test(expected = EmptyStackException.class)
+    public void emptyPopTest()
+    {
+        (new StateIdStack()).pop();
+    } // end of emptyPopTest()
+
+    @Test(expected = EmptyStackException.class)
+    public void emptyPeekTest()
+    {
+        (new StateIdStack()).peek();
+    } // end of emptyPeekTest()
+
+    @Test
+    public void getOutOfBoundsTest()
+    {
+        final StateIdStack stack = new StateIdStack();
+
+        stack.push(7);
+
+        try
+        {
+            stack.get(1);
+            fail("get past the top succeeded");
+        }
+        catch (IndexOutOfBoundsException jex)
+        {
+            assertEquals("index 1, size 1", jex.getMessage());
+        }
+
+        try
+        {
+            stack.get(-1);
+            fail("get below the bottom succeeded");
+        }
+        catch (IndexOutOfBoundsException jex)
+        {
+            // Expected.
+        }
+    } // end of getOutOfBoundsTest()
+
+    @Test
+    public void contextPushPopTest()
+    {
+        final DoorContext fsm = new DoorContext(null);
+        final State7 closed =
+            DoorContext.state(DoorContext.CLOSED_STATE_ID);
+        final State7 opened =
+            DoorContext.state(DoorContext.OPENED_STATE_ID);
+        int i;
+
+        fsm.mStateIdStack = new StateIdStack(1);
+
+        // Alternate the pushed states so that each pop can be
+        // checked.
+        for (i = 0; i < DEPTH; ++i)
+        {
+            fsm.pushState(i % 2 == 0 ? opened : closed);
+        }
+
+        assertEquals(DEPTH, fsm.mStateIdStack.size());
+        assertNull(fsm.mStateStack);
+
+        for (i = (DEPTH - 1); i >= 0; --i)
+        {
+            assertEquals((i % 2 == 0 ? opened : closed),
+                         fsm.getState());
+            fsm.popState();
+        }
+
+        assertEquals(closed, fsm.getState());
+        assertTrue(fsm.mStateIdStack.isEmpty());
+
+        try
+        {
+            fsm.popState();
+            fail("pop on empty stack succeeded");
+        }
+        catch (EmptyStackException jex)
+        {
+            // Expected.
+        }
+    } // end of contextPushPopTest()
+
+    @Test
+    public void contextAllocationTest()
+    {
+        final DoorContext fsm = new DoorContext(null);
+
+        // Nothing is allocated until the first push.
+        assertNull(fsm.mStateIdStack);
+
+        fsm.pushState(DoorContext.state(DoorContext.OPENED_STATE_ID));
+        assertEquals(1, fsm.mStateIdStack.size());
+        assertNull(fsm.mStateStack);
+
+        fsm.popState();
+        assertTrue(fsm.mStateIdStack.isEmpty());
+    } // end of contextAllocationTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+} // end of StateIdStackTest
@@ -0,0 +1,258 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.nio.LongBuffer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Stores state stacks of every depth in heap, direct and
+ * wrapped {@link StateSlotStore}s and reads them back, checking
+ * that stacks deeper than {@link StateSlotStore#SLOT_STACK_DEPTH}
+ * spill to the side table and return to the slot.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class StateSlotStoreTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final int CAPACITY = 16;
+    private static final int MAX_DEPTH = 8;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void heapStoreTest()
+    {
+        roundTrip(StateSlotStore.allocate(CAPACITY));
+    } // end of heapStoreTest()
+
+    @Test
+    public void directStoreTest()
+    {
+        roundTrip(StateSlotStore.allocateDirect(CAPACITY));
+    } // end of directStoreTest()
+
+    @Test
+    public void wrappedStoreTest()
+    {
+        final LongBuffer slots = LongBuffer.allocate(CAPACITY);
+
+        roundTrip(StateSlotStore.wrap(slots));
+
+        // The wrapped buffer holds the slots.
+        assertEquals(MAX_DEPTH + 1,
+                     StateSlotStore.stateId(slots.get(1)));
+    } // end of wrappedStoreTest()
+
+    @Test
+    public void emptySlotTest()
+    {
+        final StateSlotStore store = StateSlotStore.allocate(1);
+        final StateIdStack stack = new StateIdStack();
+
+        stack.push(5);
+
+        assertEquals(StateSlotStore.EMPTY_SLOT, store.getSlot(0));
+        assertEquals(TableFSMContext.NO_STATE_ID,
+                     store.getStateId(0));
+        assertEquals(TableFSMContext.NO_STATE_ID,
+                     store.load(0, stack));
+        assertTrue(stack.isEmpty());
+    } // end of emptySlotTest()
+
+    @Test
+    public void clearTest()
+    {
+        final StateSlotStore store = StateSlotStore.allocate(1);
+
+        store.store(0, 1, stack(MAX_DEPTH));
+        assertTrue(store.isSpilled(0));
+
+        store.clear(0);
+        assertEquals(StateSlotStore.EMPTY_SLOT, store.getSlot(0));
+        assertFalse(store.isSpilled(0));
+        assertEquals(0, store.getStackDepth(0));
+
+        // setStateId empties the stack.
+        store.store(0, 1, stack(2));
+        store.setStateId(0, 3);
+        assertEquals(3, store.getStateId(0));
+        assertEquals(0, store.getStackDepth(0));
+    } // end of clearTest()
+
+    @Test
+    public void invalidStateIdTest()
+    {
+        final StateSlotStore store = StateSlotStore.allocate(1);
+        final StateIdStack stack = new StateIdStack();
+
+        store.setStateId(0, StateSlotStore.MAX_STATE_COUNT - 1);
+        assertEquals(StateSlotStore.MAX_STATE_COUNT - 1,
+                     store.getStateId(0));
+
+        invalidStateId(store, -1, null);
+        invalidStateId(store, StateSlotStore.MAX_STATE_COUNT, null);
+
+        // Stacked states are checked whether or not they spill.
+        stack.push(StateSlotStore.MAX_STATE_COUNT);
+        invalidStateId(store, 0, stack);
+        while (stack.size() <= StateSlotStore.SLOT_STACK_DEPTH)
+        {
+            stack.push(0);
+        }
+        invalidStateId(store, 0, stack);
+
+        // A failed store leaves the slot unchanged.
+        assertEquals(StateSlotStore.MAX_STATE_COUNT - 1,
+                     store.getStateId(0));
+    } // end of invalidStateIdTest()
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCapacityTest()
+    {
+        StateSlotStore.allocate(-1);
+    } // end of negativeCapacityTest()
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readOnlyWrapTest()
+    {
+        StateSlotStore.wrap(
+            (LongBuffer.allocate(1)).asReadOnlyBuffer());
+    } // end of readOnlyWrapTest()
+
+    @Test(expected = NullPointerException.class)
+    public void nullWrapTest()
+    {
+        StateSlotStore.wrap(null);
+    } // end of nullWrapTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Stores and loads every stack depth up to MAX_DEPTH, then
+    // shrinks each session's stack back into its slot.
+    private static void roundTrip(final StateSlotStore store)
+    {
+        final StateIdStack loaded = new StateIdStack(1);
+        final boolean[] spilled =
+        {
+            false, false, false, false, true, true, true, true, true
+        };
+        int depth;
+
+        assertEquals(CAPACITY, store.capacity());
+
+        for (depth = 0; depth <= MAX_DEPTH; ++depth)
+        {
+            store.store(depth, depth + 1, stack(depth));
+        }
+
+        for (depth = 0; depth <= MAX_DEPTH; ++depth)
+        {
+            assertEquals(depth + 1, store.getStateId(depth));
+            assertEquals(depth, store.getStackDepth(depth));
+            assertEquals("depth " + depth + " spilled",
+                         spilled[depth],
+                         store.isSpilled(depth));
+            assertEquals(depth + 1, store.load(depth, loaded));
+            assertEquals((stack(depth)).toString(),
+                         loaded.toString());
+        }
+
+        // Popping a spilled stack back to the slot depth
+        // removes it from the side table.
+        for (depth = 0; depth <= MAX_DEPTH; ++depth)
+        {
+            store.load(depth, loaded);
+            while (loaded.size() > StateSlotStore.SLOT_STACK_DEPTH)
+            {
+                loaded.pop();
+            }
+
+            store.store(depth, 0, loaded);
+            assertFalse(store.isSpilled(depth));
+            assertEquals(
+                Math.min(depth, StateSlotStore.SLOT_STACK_DEPTH),
+                store.getStackDepth(depth));
+        }
+
+        // Leave a state in session 1 for the wrapped buffer
+        // check.
+        store.setStateId(1, MAX_DEPTH + 1);
+
+        return;
+    } // end of roundTrip(StateSlotStore)
+
+    // Returns a stack of depth states. The stacked states are
+    // different from each other and from the current state.
+    private static StateIdStack stack(final int depth)
+    {
+        final StateIdStack retval = new StateIdStack();
+        int i;
+
+        for (i = 0; i < depth; ++i)
+        {
+            retval.push(100 + (7 * i));
+        }
+
+        return (retval);
+    } // end of stack(int)
+
+    // Checks that storing the state or stack fails.
+    private static void invalidStateId(final StateSlotStore store,
+                                       final int stateId,
+                                       final StateIdStack stack)
+    {
+        try
+        {
+            store.store(0, stateId, stack);
+            fail("invalid state " + stateId + ", " + stack + " stored");
+        }
+        catch (IllegalArgumentException jex)
+        {
+            // Expected.
+        }
+
+        return;
+    } // end of invalidStateId(StateSlotStore, int, StateIdStack)
+} // end of StateSlotStoreTest
@@ -0,0 +1,349 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Journals {@link DoorContext} transitions to a
+ * {@link TransitionJournal}, replays the journal into new FSMs
+ * and verifies that a partly written or malformed last entry is
+ * ignored by replay and removed when the journal is re-opened.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class TransitionJournalTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    // The size of an entry with no state stack and no arguments.
+    private static final int ENTRY_SIZE = 28;
+
+    // Larger than both the append buffer and the replay buffer.
+    private static final int BYTES_SIZE = 100000;
+
+    private static final int SMALL_BUFFER_SIZE = 64;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    @Rule
+    public final TemporaryFolder mFolder = new TemporaryFolder();
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void replayTest()
+        throws IOException
+    {
+        final File file = mFolder.newFile();
+        final DoorContext[] doors = journal(file);
+        final DoorContext[] restored = doors(doors.length);
+
+        assertEquals(3 * ENTRY_SIZE, file.length());
+        assertEquals(3L, TransitionJournal.replay(file, lookup(restored)));
+
+        for (int i = 0; i < doors.length; ++i)
+        {
+            assertEquals((doors[i].getState()).getId(),
+                         (restored[i].getState()).getId());
+            assertNull(restored[i].mStateIdStack);
+        }
+
+        // Replay does not run the transition actions.
+        assertEquals("[]", (restored[0].applied()).toString());
+    } // end of replayTest()
+
+    @Test
+    public void nullContextTest()
+        throws IOException
+    {
+        final File file = mFolder.newFile();
+        final DoorContext[] restored = doors(1);
+
+        journal(file);
+
+        // Only the first door's single entry is replayed.
+        assertEquals(1L, TransitionJournal.replay(file, lookup(restored)));
+        assertEquals(DoorContext.OPENED_STATE_ID,
+                     (restored[0].getState()).getId());
+    } // end of nullContextTest()
+
+    @Test
+    public void commitTest()
+        throws IOException
+    {
+        final File file = mFolder.newFile();
+        final DoorContext fsm = new DoorContext(null);
+
+        try (TransitionJournal journal = TransitionJournal.open(file))
+        {
+            fsm.setJournal(journal, 0L);
+            fsm.open();
+
+            // Entries are buffered until committed.
+            assertEquals(0L, file.length());
+
+            journal.commit();
+            assertEquals(ENTRY_SIZE, file.length());
+
+            fsm.close();
+        }
+
+        assertEquals(2 * ENTRY_SIZE, file.length());
+    } // end of commitTest()
+
+    @Test
+    public void stateStackTest()
+        throws IOException
+    {
+        final File file = mFolder.newFile();
+        final DoorContext fsm = new DoorContext(null);
+        final DoorContext[] restored = doors(1);
+
+        fsm.mStateIdStack = new StateIdStack(1);
+        try (TransitionJournal journal = TransitionJournal.open(file))
+        {
+            fsm.setJournal(journal, 0L);
+            fsm.pushState(DoorContext.state(DoorContext.OPENED_STATE_ID));
+            fsm.close();
+        }
+
+        assertEquals(ENTRY_SIZE + 4, file.length());
+
+        // Replay replaces the existing stack.
+        restored[0].mStateIdStack = new StateIdStack(1);
+        restored[0].mStateIdStack.push(DoorContext.OPENED_STATE_ID);
+        restored[0].mStateIdStack.push(DoorContext.OPENED_STATE_ID);
+
+        assertEquals(1L, TransitionJournal.replay(file, lookup(restored)));
+        assertEquals(DoorContext.CLOSED_STATE_ID,
+                     (restored[0].getState()).getId());
+        assertEquals("[" + DoorContext.CLOSED_STATE_ID + "]",
+                     (restored[0].mStateIdStack).toString());
+
+        // A missing stack is allocated.
+        restored[0].mStateIdStack = null;
+        assertEquals(1L, TransitionJournal.replay(file, lookup(restored)));
+        assertEquals(1, (restored[0].mStateIdStack).size());
+        assertEquals(DoorContext.CLOSED_STATE_ID,
+                     (restored[0].mStateIdStack).peek());
+    } // end of stateStackTest()
+
+    @Test
+    public void largeEntryTest()
+        throws IOException
+    {
+        final File file = mFolder.newFile();
+        final DoorContext fsm = new DoorContext(null);
+        final DoorContext[] restored = doors(1);
+        final int argsSize =
+            (1 + 4) +
+            (1 + 4 + (2 * "knock".length())) +
+            1 +
+            (1 + 4 + BYTES_SIZE);
+
+        try (TransitionJournal journal =
+                 TransitionJournal.open(file, SMALL_BUFFER_SIZE))
+        {
+            fsm.setJournal(journal, 0L);
+            fsm.open();
+
+            // An entry larger than the append buffer first writes
+            // the buffered entries and is then written on its own.
+            fsm.journalBegin();
+            fsm.journalArg(1);
+            fsm.journalArg((Object) "knock");
+            fsm.journalArg((Object) null);
+            fsm.journalArg((Object) new byte[BYTES_SIZE]);
+            fsm.journalEnd(DoorContext.KNOCK_TRANSITION_ID);
+
+            assertEquals(2 * ENTRY_SIZE + argsSize, file.length());
+
+            fsm.close();
+        }
+
+        assertEquals(3 * ENTRY_SIZE + argsSize, file.length());
+        assertEquals(3L, TransitionJournal.replay(file, lookup(restored)));
+        assertEquals(DoorContext.CLOSED_STATE_ID,
+                     (restored[0].getState()).getId());
+    } // end of largeEntryTest()
+
+    @Test
+    public void partialEntryTest()
+        throws IOException
+    {
+        final File file = mFolder.newFile();
+
+        journal(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+        {
+            // The entry header without the rest of the entry.
+            raf.seek(raf.length());
+            raf.writeInt(ENTRY_SIZE);
+            raf.writeLong(0L);
+        }
+
+        truncate(file);
+    } // end of partialEntryTest()
+
+    @Test
+    public void malformedEntryTest()
+        throws IOException
+    {
+        final File file = mFolder.newFile();
+
+        journal(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+        {
+            // A complete entry whose stack depth and argument
+            // length do not add up to the entry size.
+            raf.seek(raf.length());
+            raf.writeInt(ENTRY_SIZE);
+            raf.writeLong(0L);
+            raf.writeInt(1);
+            raf.writeInt(DoorContext.CLOSED_STATE_ID);
+            raf.writeInt(1);
+            raf.writeInt(0);
+        }
+
+        truncate(file);
+    } // end of malformedEntryTest()
+
+    @Test
+    public void invalidBufferSizeTest()
+        throws IOException
+    {
+        try
+        {
+            TransitionJournal.open(mFolder.newFile(), 0);
+            fail("open(File, 0) did not throw");
+        }
+        catch (IllegalArgumentException argex)
+        {}
+    } // end of invalidBufferSizeTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Journals three transitions for two doors, identified by
+    // their array index, and one failed transition which is not
+    // journaled.
+    private static DoorContext[] journal(final File file)
+        throws IOException
+    {
+        final DoorContext[] retval = doors(2);
+
+        try (TransitionJournal journal = TransitionJournal.open(file))
+        {
+            retval[0].setJournal(journal, 0L);
+            retval[1].setJournal(journal, 1L);
+
+            retval[0].open();
+            retval[1].open();
+            retval[1].jam();
+            retval[1].close();
+        }
+
+        return (retval);
+    } // end of journal(File)
+
+    // Verifies that replay ignores the bad last entry and that
+    // re-opening the journal removes it so new entries follow the
+    // last complete entry.
+    private static void truncate(final File file)
+        throws IOException
+    {
+        final DoorContext[] restored = doors(2);
+
+        assertEquals(3L, TransitionJournal.replay(file, lookup(restored)));
+
+        try (TransitionJournal journal = TransitionJournal.open(file))
+        {
+            assertEquals(3 * ENTRY_SIZE, file.length());
+
+            restored[0].setJournal(journal, 0L);
+            restored[0].close();
+        }
+
+        assertEquals(4 * ENTRY_SIZE, file.length());
+        assertEquals(4L, TransitionJournal.replay(file, lookup(restored)));
+        assertEquals(DoorContext.CLOSED_STATE_ID,
+                     (restored[0].getState()).getId());
+        assertEquals(DoorContext.CLOSED_STATE_ID,
+                     (restored[1].getState()).getId());
+    } // end of truncate(File)
+
+    private static DoorContext[] doors(final int count)
+    {
+        final DoorContext[] retval = new DoorContext[count];
+
+        for (int i = 0; i < count; ++i)
+        {
+            retval[i] = new DoorContext(null);
+        }
+
+        return (retval);
+    } // end of doors(int)
+
+    // Finds the door with the journal identifier's index. Returns
+    // null for identifiers past the array end.
+    private static TransitionJournal.ContextLookup lookup(
+        final DoorContext[] doors)
+    {
+        return (
+            new TransitionJournal.ContextLookup()
+            {
+                @Override
+                public FSMContext7 context(final long journalId)
+                {
+                    return (journalId < doors.length ?
+                            doors[(int) journalId] :
+                            null);
+                }
+            });
+    } // end of lookup(DoorContext[])
+} // end of TransitionJournalTest
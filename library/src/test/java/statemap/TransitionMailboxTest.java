@@ -0,0 +1,327 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Posts transitions to a {@link TransitionMailbox} from one and
+ * from many threads and verifies that every transition is
+ * applied once, one at a time and in each producer's order.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class TransitionMailboxTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final int THREAD_COUNT = 8;
+    private static final int POST_COUNT = 20000;
+    private static final long TIMEOUT = 1L;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void postingThreadDrainsTest()
+    {
+        final TransitionMailbox mailbox = new TransitionMailbox();
+        final Thread caller = Thread.currentThread();
+        final List<Thread> threads = new ArrayList<>();
+
+        mailbox.post(
+            new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    threads.add(Thread.currentThread());
+                }
+            });
+
+        assertEquals(1, threads.size());
+        assertEquals(caller, threads.get(0));
+        assertTrue(mailbox.isIdle());
+    } // end of postingThreadDrainsTest()
+
+    @Test
+    public void nestedPostQueuedTest()
+    {
+        final TransitionMailbox mailbox = new TransitionMailbox();
+        final List<String> applied = new ArrayList<>();
+
+        mailbox.post(
+            new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    applied.add("outer start");
+                    mailbox.post(
+                        new Runnable()
+                        {
+                            @Override
+                            public void run()
+                            {
+                                applied.add("inner");
+                            }
+                        });
+                    applied.add("outer end");
+                }
+            });
+
+        assertEquals("[outer start, outer end, inner]",
+                     applied.toString());
+        assertTrue(mailbox.isIdle());
+    } // end of nestedPostQueuedTest()
+
+    @Test
+    public void failedTransitionTest()
+    {
+        final TransitionMailbox mailbox = new TransitionMailbox();
+        final AtomicInteger applied = new AtomicInteger();
+
+        try
+        {
+            mailbox.post(
+                new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        mailbox.post(
+                            new Runnable()
+                            {
+                                @Override
+                                public void run()
+                                {
+                                    applied.incrementAndGet();
+                                }
+                            });
+
+                        throw (
+                            new IllegalStateException("failed"));
+                    }
+                });
+            fail("failed transition not thrown");
+        }
+        catch (IllegalStateException jex)
+        {
+            assertEquals("failed", jex.getMessage());
+        }
+
+        // The transition queued behind the failed one is still
+        // applied.
+        assertEquals(1, applied.get());
+        assertTrue(mailbox.isIdle());
+    } // end of failedTransitionTest()
+
+    @Test(expected = NullPointerException.class)
+    public void nullTransitionTest()
+    {
+        (new TransitionMailbox()).post(null);
+    } // end of nullTransitionTest()
+
+    @Test
+    public void concurrentPostTest()
+        throws InterruptedException
+    {
+        concurrentPost(new TransitionMailbox());
+    } // end of concurrentPostTest()
+
+    @Test
+    public void executorDrainTest()
+        throws InterruptedException
+    {
+        final ExecutorService executor =
+            Executors.newFixedThreadPool(THREAD_COUNT);
+
+        try
+        {
+            concurrentPost(new TransitionMailbox(executor));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    } // end of executorDrainTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Posts POST_COUNT transitions from each of THREAD_COUNT
+    // threads at once and checks that they were applied one at
+    // a time and in each thread's order.
+    private static void concurrentPost(final TransitionMailbox mailbox)
+        throws InterruptedException
+    {
+        final Recorder recorder = new Recorder();
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final Thread[] producers = new Thread[THREAD_COUNT];
+        int i;
+
+        for (i = 0; i < THREAD_COUNT; ++i)
+        {
+            final int producer = i;
+
+            producers[i] =
+                new Thread(
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            try
+                            {
+                                startGate.await();
+                                post(mailbox, recorder, producer);
+                            }
+                            catch (InterruptedException interrupt)
+                            {
+                                // Stop posting.
+                            }
+                        }
+                    });
+            producers[i].start();
+        }
+
+        startGate.countDown();
+        for (i = 0; i < THREAD_COUNT; ++i)
+        {
+            producers[i].join();
+        }
+
+        assertTrue("transitions not applied",
+                   recorder.mApplied.await(TIMEOUT, TimeUnit.MINUTES));
+        assertEquals("overlapping transitions",
+                     0,
+                     recorder.mOverlaps.get());
+        assertEquals("out of order transitions",
+                     0,
+                     recorder.mOutOfOrder.get());
+
+        for (i = 0; i < THREAD_COUNT; ++i)
+        {
+            assertEquals(POST_COUNT - 1, recorder.mLastSequence[i]);
+        }
+
+        // The consumer may still be leaving the drain loop.
+        while (mailbox.isIdle() == false)
+        {
+            Thread.yield();
+        }
+
+        return;
+    } // end of concurrentPost(TransitionMailbox)
+
+    // Posts POST_COUNT numbered transitions for producer.
+    private static void post(final TransitionMailbox mailbox,
+                             final Recorder recorder,
+                             final int producer)
+    {
+        for (int i = 0; i < POST_COUNT; ++i)
+        {
+            final int sequence = i;
+
+            mailbox.post(
+                new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        recorder.apply(producer, sequence);
+                    }
+                });
+        }
+
+        return;
+    } // end of post(TransitionMailbox, Recorder, int)
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    // Records the transitions as the consumer applies them.
+    private static final class Recorder
+    {
+        private final AtomicInteger mRunning = new AtomicInteger();
+        private final AtomicInteger mOverlaps = new AtomicInteger();
+        private final AtomicInteger mOutOfOrder =
+            new AtomicInteger();
+        private final CountDownLatch mApplied =
+            new CountDownLatch(THREAD_COUNT * POST_COUNT);
+
+        // Only the consumer thread touches the sequences.
+        private final int[] mLastSequence = new int[THREAD_COUNT];
+
+        private Recorder()
+        {
+            for (int i = 0; i < THREAD_COUNT; ++i)
+            {
+                mLastSequence[i] = -1;
+            }
+        } // end of Recorder()
+
+        private void apply(final int producer, final int sequence)
+        {
+            if (mRunning.incrementAndGet() != 1)
+            {
+                mOverlaps.incrementAndGet();
+            }
+
+            if (mLastSequence[producer] != sequence - 1)
+            {
+                mOutOfOrder.incrementAndGet();
+            }
+            mLastSequence[producer] = sequence;
+
+            mRunning.decrementAndGet();
+            mApplied.countDown();
+
+            return;
+        } // end of apply(int, int)
+    } // end of class Recorder
+} // end of TransitionMailboxTest
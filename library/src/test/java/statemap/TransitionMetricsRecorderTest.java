@@ -0,0 +1,258 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import statemap.TransitionMetricsRecorder.Snapshot;
+
+/**
+ * Verifies the {@link TransitionMetricsRecorder} histogram
+ * buckets, the reported percentiles and that concurrent
+ * recording loses no transitions.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class TransitionMetricsRecorderTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final int STATE_ID = 1;
+    private static final int TRANSITION_ID = 2;
+    private static final int THREAD_COUNT = 8;
+    private static final int RECORD_COUNT = 100000;
+    private static final long TIMEOUT = 60L;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void bucketIndexTest()
+    {
+        long nanos;
+        int index;
+        int previous = 0;
+
+        // Small latencies have their own buckets.
+        for (nanos = 0L;
+             nanos < TransitionMetricsRecorder.SUB_BUCKET_COUNT;
+             ++nanos)
+        {
+            assertEquals(
+                nanos, TransitionMetricsRecorder.bucketIndex(nanos));
+        }
+
+        assertEquals(0, TransitionMetricsRecorder.bucketIndex(-1L));
+        assertEquals(
+            (TransitionMetricsRecorder.BUCKET_COUNT - 1),
+            TransitionMetricsRecorder.bucketIndex(Long.MAX_VALUE));
+        assertEquals(
+            TransitionMetricsRecorder.MAX_NANOS,
+            TransitionMetricsRecorder.bucketLimit(
+                TransitionMetricsRecorder.BUCKET_COUNT - 1));
+
+        // Buckets increase with the latency and each bucket's
+        // limit is within 12.5% of its latencies.
+        for (nanos = 1L;
+             nanos <= TransitionMetricsRecorder.MAX_NANOS;
+             nanos = (nanos * 3L) / 2L + 1L)
+        {
+            index = TransitionMetricsRecorder.bucketIndex(nanos);
+
+            assertTrue(index >= previous);
+            assertTrue(
+                TransitionMetricsRecorder.bucketLimit(index) >= nanos);
+            assertTrue(
+                TransitionMetricsRecorder.bucketLimit(index) <=
+                nanos + (nanos / 8L));
+            assertEquals(
+                index,
+                TransitionMetricsRecorder.bucketIndex(
+                    TransitionMetricsRecorder.bucketLimit(index)));
+            previous = index;
+        }
+    } // end of bucketIndexTest()
+
+    @Test
+    public void percentileTest()
+    {
+        final TransitionMetricsRecorder recorder =
+            new TransitionMetricsRecorder();
+        final Snapshot snapshot;
+        long nanos;
+
+        for (nanos = 1L; nanos <= 100L; ++nanos)
+        {
+            recorder.transition(STATE_ID, TRANSITION_ID, nanos);
+        }
+
+        snapshot = (recorder.snapshot()).get(0);
+
+        assertEquals(STATE_ID, snapshot.getStateId());
+        assertEquals(TRANSITION_ID, snapshot.getTransitionId());
+        assertEquals(100L, snapshot.getCount());
+        assertEquals(5050L, snapshot.getTotalNanos());
+        assertEquals(50L, snapshot.getMeanNanos());
+        assertEquals(100L, snapshot.getMaxNanos());
+        assertEquals(1L, snapshot.getPercentileNanos(0d));
+        assertEquals(
+            TransitionMetricsRecorder.bucketLimit(
+                TransitionMetricsRecorder.bucketIndex(50L)),
+            snapshot.getPercentileNanos(50d));
+
+        // The highest percentile is capped at the maximum.
+        assertEquals(100L, snapshot.getPercentileNanos(100d));
+    } // end of percentileTest()
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPercentileTest()
+    {
+        final TransitionMetricsRecorder recorder =
+            new TransitionMetricsRecorder();
+
+        recorder.transition(STATE_ID, TRANSITION_ID, 1L);
+        ((recorder.snapshot()).get(0)).getPercentileNanos(100.5d);
+    } // end of invalidPercentileTest()
+
+    @Test
+    public void snapshotOrderTest()
+    {
+        final TransitionMetricsRecorder recorder =
+            new TransitionMetricsRecorder();
+        final List<String> pairs = new ArrayList<>();
+
+        recorder.transition(3, 1, 10L);
+        recorder.transition(0, 4, 10L);
+        recorder.transition(3, 0, 10L);
+        recorder.transition(-1, 0, 10L);
+        recorder.transition(0, -1, 10L);
+
+        for (Snapshot snapshot : recorder.snapshot())
+        {
+            pairs.add(snapshot.getStateId() +
+                      ":" +
+                      snapshot.getTransitionId());
+        }
+
+        assertEquals("[0:4, 3:0, 3:1]", pairs.toString());
+
+        recorder.reset();
+        assertTrue((recorder.snapshot()).isEmpty());
+    } // end of snapshotOrderTest()
+
+    @Test
+    public void concurrentRecordTest()
+        throws Exception
+    {
+        final TransitionMetricsRecorder recorder =
+            new TransitionMetricsRecorder();
+        final ExecutorService executor =
+            Executors.newFixedThreadPool(THREAD_COUNT);
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final List<Future<?>> results = new ArrayList<>();
+        final Snapshot snapshot;
+        final long count = (long) THREAD_COUNT * RECORD_COUNT;
+        long total = 0L;
+        int i;
+
+        for (i = 0; i < THREAD_COUNT; ++i)
+        {
+            final long nanos = (i + 1) * 100L;
+
+            total += nanos * RECORD_COUNT;
+            results.add(
+                executor.submit(
+                    new Runnable()
+                    {
+                        @Override
+                        public void run()
+                        {
+                            int j;
+
+                            try
+                            {
+                                startGate.await();
+                            }
+                            catch (InterruptedException interrupt)
+                            {
+                                return;
+                            }
+
+                            for (j = 0; j < RECORD_COUNT; ++j)
+                            {
+                                recorder.transition(
+                                    STATE_ID, TRANSITION_ID, nanos);
+                            }
+                        }
+                    }));
+        }
+
+        startGate.countDown();
+
+        try
+        {
+            for (Future<?> result : results)
+            {
+                result.get(TIMEOUT, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        snapshot = (recorder.snapshot()).get(0);
+
+        assertEquals(count, snapshot.getCount());
+        assertEquals(total, snapshot.getTotalNanos());
+        assertEquals(THREAD_COUNT * 100L, snapshot.getMaxNanos());
+        assertEquals(
+            RECORD_COUNT,
+            (snapshot.getBuckets())[
+                TransitionMetricsRecorder.bucketIndex(100L)]);
+    } // end of concurrentRecordTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+} // end of TransitionMetricsRecorderTest
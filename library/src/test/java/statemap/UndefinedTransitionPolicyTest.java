@@ -0,0 +1,340 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package statemap;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Sends the undefined {@code knock} transition to a
+ * {@link DoorContext} under each
+ * {@link UndefinedTransitionPolicy} and verifies how the policy
+ * is resolved from the {@code statemap.undefined} system
+ * properties.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class UndefinedTransitionPolicyTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final String CLOSED_STATE = "DoorMap_Closed";
+    private static final String KNOCK = "knock";
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void throwTest()
+    {
+        final DoorContext fsm = new DoorContext(null);
+        final List<Throwable> failures = failures(fsm);
+
+        // With no policy set, the class policy is used.
+        assertEquals(UndefinedTransitionPolicy.THROW,
+                     fsm.getUndefinedTransitionPolicy());
+
+        fsm.knock();
+        fsm.setUndefinedTransitionPolicy(
+            UndefinedTransitionPolicy.THROW);
+        fsm.knock();
+
+        assertEquals(2, failures.size());
+        for (Throwable t : failures)
+        {
+            assertTrue(t instanceof TransitionUndefinedException);
+            assertEquals("State: " + CLOSED_STATE +
+                         ", Transition: " + KNOCK,
+                         t.getMessage());
+        }
+        assertEquals(0L, fsm.getUndefinedTransitionCount());
+        assertEquals(DoorContext.CLOSED_STATE_ID,
+                     (fsm.getState()).getId());
+    } // end of throwTest()
+
+    @Test
+    public void ignoreTest()
+    {
+        final DoorContext fsm = new DoorContext(null);
+        final List<Throwable> failures = failures(fsm);
+
+        fsm.setUndefinedTransitionPolicy(
+            UndefinedTransitionPolicy.IGNORE);
+        fsm.knock();
+        fsm.open();
+        fsm.knock();
+
+        assertEquals(0, failures.size());
+        assertEquals(0L, fsm.getUndefinedTransitionCount());
+        assertEquals("[open]", (fsm.applied()).toString());
+        assertEquals(DoorContext.OPENED_STATE_ID,
+                     (fsm.getState()).getId());
+    } // end of ignoreTest()
+
+    @Test
+    public void countTest()
+    {
+        final DoorContext fsm = new DoorContext(null);
+        final List<Throwable> failures = failures(fsm);
+
+        fsm.setUndefinedTransitionPolicy(
+            UndefinedTransitionPolicy.COUNT);
+        fsm.knock();
+        fsm.open();
+        fsm.knock();
+        fsm.knock();
+
+        assertEquals(0, failures.size());
+        assertEquals(3L, fsm.getUndefinedTransitionCount());
+        assertEquals(DoorContext.OPENED_STATE_ID,
+                     (fsm.getState()).getId());
+    } // end of countTest()
+
+    @Test
+    public void callbackTest()
+    {
+        final DoorContext fsm = new DoorContext(null);
+        final List<Throwable> failures = failures(fsm);
+        final List<String> calls = new ArrayList<>();
+        final UndefinedTransitionHandler handler =
+            new UndefinedTransitionHandler()
+            {
+                @Override
+                public void undefinedTransition(
+                    final Object context,
+                    final String state,
+                    final String transition)
+                {
+                    assertSame(fsm, context);
+                    calls.add(state + "." + transition);
+                }
+            };
+
+        fsm.setUndefinedTransitionPolicy(
+            UndefinedTransitionPolicy.CALLBACK);
+
+        // Without a handler the transition is only counted.
+        fsm.knock();
+
+        fsm.setUndefinedTransitionHandler(handler);
+        assertSame(handler, fsm.getUndefinedTransitionHandler());
+        fsm.knock();
+        fsm.open();
+        fsm.knock();
+
+        assertEquals(0, failures.size());
+        assertEquals(3L, fsm.getUndefinedTransitionCount());
+        assertEquals("[" + CLOSED_STATE + "." + KNOCK +
+                     ", DoorMap_Opened." + KNOCK + "]",
+                     calls.toString());
+    } // end of callbackTest()
+
+    @Test
+    public void restoreClassPolicyTest()
+    {
+        final DoorContext fsm = new DoorContext(null);
+        final List<Throwable> failures = failures(fsm);
+
+        fsm.setUndefinedTransitionPolicy(
+            UndefinedTransitionPolicy.COUNT);
+        fsm.knock();
+        fsm.setUndefinedTransitionPolicy(null);
+        fsm.knock();
+
+        assertEquals(UndefinedTransitionPolicy.THROW,
+                     fsm.getUndefinedTransitionPolicy());
+        assertEquals(1L, fsm.getUndefinedTransitionCount());
+        assertEquals(1, failures.size());
+        assertTrue(
+            failures.get(0) instanceof TransitionUndefinedException);
+    } // end of restoreClassPolicyTest()
+
+    @Test
+    public void fsmContextTest()
+    {
+        final Stray fsm = new Stray();
+
+        try
+        {
+            fsm.knock();
+            fail("knock did not throw");
+        }
+        catch (TransitionUndefinedException undefex)
+        {
+            assertEquals("State: Stray.Idle, Transition: " + KNOCK,
+                         undefex.getMessage());
+        }
+
+        fsm.setUndefinedTransitionPolicy(
+            UndefinedTransitionPolicy.COUNT);
+        fsm.knock();
+        fsm.knock();
+        assertEquals(2L, fsm.getUndefinedTransitionCount());
+
+        fsm.setUndefinedTransitionPolicy(
+            UndefinedTransitionPolicy.IGNORE);
+        fsm.knock();
+        assertEquals(2L, fsm.getUndefinedTransitionCount());
+    } // end of fsmContextTest()
+
+    @Test
+    public void forClassTest()
+    {
+        final String property =
+            UndefinedTransitionPolicy.POLICY_PROPERTY;
+
+        // Each class's policy is resolved once, so each case uses
+        // a class not resolved before.
+        assertEquals(UndefinedTransitionPolicy.THROW,
+                     UndefinedTransitionPolicy.forClass(
+                         Unset.class));
+
+        System.setProperty(property, "count");
+        System.setProperty(
+            property + "." + ClassSet.class.getName(), "Callback");
+        System.setProperty(
+            property + "." + Invalid.class.getName(), "discard");
+        try
+        {
+            assertEquals(UndefinedTransitionPolicy.COUNT,
+                         UndefinedTransitionPolicy.forClass(
+                             GlobalSet.class));
+            assertEquals(UndefinedTransitionPolicy.CALLBACK,
+                         UndefinedTransitionPolicy.forClass(
+                             ClassSet.class));
+            assertEquals(UndefinedTransitionPolicy.THROW,
+                         UndefinedTransitionPolicy.forClass(
+                             Invalid.class));
+        }
+        finally
+        {
+            System.clearProperty(property);
+            System.clearProperty(
+                property + "." + ClassSet.class.getName());
+            System.clearProperty(
+                property + "." + Invalid.class.getName());
+        }
+
+        // The resolved policies are kept.
+        assertEquals(UndefinedTransitionPolicy.THROW,
+                     UndefinedTransitionPolicy.forClass(
+                         Unset.class));
+        assertEquals(UndefinedTransitionPolicy.COUNT,
+                     UndefinedTransitionPolicy.forClass(
+                         GlobalSet.class));
+    } // end of forClassTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Returns the list to which fsm's error handler adds each
+    // failed transition's exception.
+    private static List<Throwable> failures(final DoorContext fsm)
+    {
+        final List<Throwable> retval = new ArrayList<>();
+
+        fsm.setErrorHandler(
+            new TransitionErrorHandler()
+            {
+                @Override
+                public void transitionFailed(final FSMContext7 context,
+                                             final String transition,
+                                             final Throwable t)
+                {
+                    retval.add(t);
+                }
+
+                @Override
+                public void actionFailed(final FSMContext7 context,
+                                         final String transition,
+                                         final int errorCode)
+                {}
+            });
+
+        return (retval);
+    } // end of failures(DoorContext)
+
+//---------------------------------------------------------------
+// Inner classes.
+//
+
+    /**
+     * A one state {@code -java} FSM in which every transition is
+     * undefined.
+     */
+    private static final class Stray
+        extends FSMContext
+    {
+        private static final long serialVersionUID = 1L;
+
+        private Stray()
+        {
+            super (new State("Stray.Idle", 0) {});
+        } // end of Stray()
+
+        @Override
+        public void enterStartState()
+        {
+            return;
+        } // end of enterStartState()
+
+        private void knock()
+        {
+            _transition = KNOCK;
+            try
+            {
+                defaultTransition();
+            }
+            finally
+            {
+                _transition = "";
+            }
+
+            return;
+        } // end of knock()
+    } // end of class Stray
+
+    // FSM classes used only to resolve their policy.
+    private static final class Unset {}
+    private static final class GlobalSet {}
+    private static final class ClassSet {}
+    private static final class Invalid {}
+} // end of UndefinedTransitionPolicyTest
@@ -47,8 +47,8 @@
 
 package net.sf.smc;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -62,6 +62,9 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Matcher;
 import net.sf.smc.generator.SmcCGenerator;
 import net.sf.smc.generator.SmcCSharpGenerator;
@@ -74,6 +77,7 @@ import net.sf.smc.generator.SmcHeaderGenerator;
 import net.sf.smc.generator.SmcHeaderObjCGenerator;
 import net.sf.smc.generator.SmcJSGenerator;
 import net.sf.smc.generator.SmcJava7Generator;
+import net.sf.smc.generator.SmcJavaTableGenerator;
 import net.sf.smc.generator.SmcJavaGenerator;
 import net.sf.smc.generator.SmcLuaGenerator;
 import net.sf.smc.generator.SmcObjCGenerator;
@@ -126,8 +130,13 @@ public final class Smc
 
     // Command line option flags.
     public static final String ACCESS_FLAG = "-access";
+    public static final String ACTOR_FLAG = "-actor";
+    public static final String BATCH_FLAG = "-batch";
     public static final String CAST_FLAG = "-cast";
     public static final String DIRECTORY_FLAG = "-d";
+    public static final String DIRECT_FLAG = "-direct";
+    public static final String ERROR_CODE_FLAG = "-errorcode";
+    public static final String FLYWEIGHT_FLAG = "-flyweight";
     public static final String DEBUG_FLAG = "-g";
     public static final String DEBUG_LEVEL0_FLAG = "-g0";
     public static final String DEBUG_LEVEL1_FLAG = "-g1";
@@ -137,6 +146,11 @@ public final class Smc
     public static final String HEADER_FLAG = "-headerd";
     public static final String HEADER_SUFFIX_FLAG = "-hsuffix";
     public static final String HELP_FLAG = "-help";
+    public static final String HIERARCHICAL_FLAG = "-hierarchical";
+    public static final String JOBS_FLAG = "-j";
+    public static final String JFR_FLAG = "-jfr";
+    public static final String JOURNAL_FLAG = "-journal";
+    public static final String METRICS_FLAG = "-metrics";
     public static final String NO_CATCH_FLAG = "-nocatch";
     public static final String NO_EXCEPTIONS_FLAG = "-noex";
     public static final String NO_STREAMS_FLAG = "-nostreams";
@@ -148,9 +162,11 @@ public final class Smc
     public static final String SILENT_FLAG = "-silent";
     public static final String SUFFIX_FLAG = "-suffix";
     public static final String SYNC_FLAG = "-sync";
+    public static final String TRACE_FLAG = "-trace";
     public static final String VERBOSE_FLAG = "-verbose";
     public static final String VERSION_FLAG = "-version";
     public static final String VVERBOSE_FLAG = "-vverbose";
+    public static final String WATCHDOG_FLAG = "-watchdog";
     public static final String USE_PROTOCOL_FLAG = "-protocol";
 
     /**
@@ -171,12 +187,12 @@ public final class Smc
     // Specifies target programming language.
     /* package */ static Language sTargetLanguage;
 
-    // The target file currently being compiled.
-    private static String sSourceFileName;
-
     // The state map target code to be compiled.
     private static List<String> sSourceFileList;
 
+    // Compile this many source files concurrently.
+    private static int sJobs;
+
     // Append this suffix to the end of the output file.
     private static String sSuffix;
 
@@ -247,6 +263,43 @@ public final class Smc
     // Use this access identifier for the generated classes.
     private static String sAccessLevel;
 
+    // If true, then dispatch Java 7 transitions by a switch on
+    // the current state identifier.
+    private static boolean sDirect;
+
+    // If true, then queue Java transitions in a lock-free mailbox
+    // rather than synchronizing the transition methods.
+    private static boolean sActor;
+
+    // If true, then generate Java batch transition dispatch
+    // methods.
+    private static boolean sBatch;
+
+    // If true, then generate Java debug output as trace sink
+    // calls.
+    private static boolean sTrace;
+
+    // If true, then generate Java Flight Recorder events.
+    private static boolean sJfr;
+
+    // If true, then generate transition metrics calls.
+    private static boolean sMetrics;
+
+    // If true, then generate a flyweight FSM context.
+    private static boolean sFlyweight;
+
+    // If true, then generate transition journal calls.
+    private static boolean sJournal;
+
+    // If true, then generate transition watchdog slot writes.
+    private static boolean sWatchdog;
+
+    // If true, then transition actions return error codes.
+    private static boolean sErrorCode;
+
+    // If true, then generate hierarchical transitions.
+    private static boolean sHierarchical;
+
     // Use-defined FSM context class extends a @protocol.
     // Generated code references the context class via the
     // protocol.
@@ -314,6 +367,13 @@ public final class Smc
                 "Java7",
                 SmcJava7Generator.class,
                 null);
+        sLanguages[TargetLanguage.JAVA_TABLE.ordinal()] =
+            new Language(
+                TargetLanguage.JAVA_TABLE,
+                "-javatable",
+                "Java table",
+                SmcJavaTableGenerator.class,
+                null);
         sLanguages[TargetLanguage.GRAPH.ordinal()] =
             new Language(
                 TargetLanguage.GRAPH,
@@ -412,8 +472,13 @@ public final class Smc
 
         // Languages supporting each option:
         // +    -access:  Java
+        // +     -actor:  Java, Java 7
+        // +     -batch:  Java, Java 7
         // +      -cast:  C++
         // +         -d:  all
+        // +    -direct:  Java 7
+        // + -errorcode:  Java 7
+        // + -flyweight:  Java table
         // +         -g:  all
         // +        -g0:  all
         // +        -g1:  all
@@ -421,6 +486,11 @@ public final class Smc
         // +    -header:  C, C++, Objective-C
         // +    -hsuffix: C, C++, Objective-C
         // +      -help:  all
+        // + -hierarchical:  Java 7
+        // +         -j:  all
+        // +       -jfr:  Java 7
+        // +   -journal:  Java 7
+        // +   -metrics:  Java 7
         // +   -nocatch:  all
         // +      -noex:  C++
         // + -nostreams:  C++
@@ -429,12 +499,14 @@ public final class Smc
         //                PHP, Python, Ruby, Groovy, Scala
         // +    -return:  all
         // +    -serial:  C#, C++, Java, Tcl, VB, Groovy, Scala
-        // +    -static:  C++
+        // +    -static:  C++, Java, Java 7
         // +    -suffix:  all
         // +      -sync:  C#, Java, VB, Groovy, Scala
+        // +     -trace:  Java 7
         // +   -verbose:  all
         // +   -version:  all
         // +  -vverbose:  all
+        // +  -watchdog:  Java 7
 
         // Set the options supporting all languages first.
         for (TargetLanguage target :
@@ -448,6 +520,7 @@ public final class Smc
         sOptionMap.put(DEBUG_LEVEL0_FLAG, languages);
         sOptionMap.put(DEBUG_LEVEL1_FLAG, languages);
         sOptionMap.put(HELP_FLAG, languages);
+        sOptionMap.put(JOBS_FLAG, languages);
         sOptionMap.put(NO_CATCH_FLAG, languages);
         sOptionMap.put(RETURN_FLAG, languages);
         sOptionMap.put(SUFFIX_FLAG, languages);
@@ -462,12 +535,20 @@ public final class Smc
         sOptionMap.put(NO_EXCEPTIONS_FLAG, languages);
         sOptionMap.put(NO_STREAMS_FLAG, languages);
         sOptionMap.put(CRTP_FLAG, languages);
+
+        // The -stack option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.C_PLUS_PLUS.ordinal()]);
+        languages.add(sLanguages[TargetLanguage.JAVA.ordinal()]);
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        languages.add(sLanguages[TargetLanguage.JAVA_TABLE.ordinal()]);
         sOptionMap.put(STACK_FLAG, languages);
 
         // The -access option.
         languages = new ArrayList<>();
         languages.add(sLanguages[TargetLanguage.JAVA.ordinal()]);
         languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        languages.add(sLanguages[TargetLanguage.JAVA_TABLE.ordinal()]);
         sOptionMap.put(ACCESS_FLAG, languages);
 
         // Languages using a header file.
@@ -483,6 +564,7 @@ public final class Smc
         languages.add(sLanguages[TargetLanguage.C_SHARP.ordinal()]);
         languages.add(sLanguages[TargetLanguage.JAVA.ordinal()]);
         languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        languages.add(sLanguages[TargetLanguage.JAVA_TABLE.ordinal()]);
         languages.add(sLanguages[TargetLanguage.VB.ordinal()]);
         languages.add(sLanguages[TargetLanguage.GROOVY.ordinal()]);
         languages.add(sLanguages[TargetLanguage.SCALA.ordinal()]);
@@ -510,6 +592,7 @@ public final class Smc
         languages.add(sLanguages[TargetLanguage.C_SHARP.ordinal()]);
         languages.add(sLanguages[TargetLanguage.JAVA.ordinal()]);
         languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        languages.add(sLanguages[TargetLanguage.JAVA_TABLE.ordinal()]);
         languages.add(sLanguages[TargetLanguage.VB.ordinal()]);
         languages.add(sLanguages[TargetLanguage.TCL.ordinal()]);
         languages.add(sLanguages[TargetLanguage.C_PLUS_PLUS.ordinal()]);
@@ -536,6 +619,63 @@ public final class Smc
         languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
         sOptionMap.put(GENERIC7_FLAG, languages);
 
+        // The -direct option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(DIRECT_FLAG, languages);
+
+        // The -actor option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA.ordinal()]);
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(ACTOR_FLAG, languages);
+
+        // The -batch option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA.ordinal()]);
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(BATCH_FLAG, languages);
+
+        // The -trace option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(TRACE_FLAG, languages);
+
+        // The -jfr option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(JFR_FLAG, languages);
+
+        // The -metrics option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(METRICS_FLAG, languages);
+
+        // The -flyweight option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA_TABLE.ordinal()]);
+        sOptionMap.put(FLYWEIGHT_FLAG, languages);
+
+        // The -journal option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(JOURNAL_FLAG, languages);
+
+        // The -watchdog option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(WATCHDOG_FLAG, languages);
+
+        // The -errorcode option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(ERROR_CODE_FLAG, languages);
+
+        // The -hierarchical option.
+        languages = new ArrayList<>();
+        languages.add(sLanguages[TargetLanguage.JAVA7.ordinal()]);
+        sOptionMap.put(HIERARCHICAL_FLAG, languages);
+
         // The -protocol option.
         languages = new ArrayList<>();
         languages.add(sLanguages[TargetLanguage.OBJECTIVE_C.ordinal()]);
@@ -555,6 +695,8 @@ public final class Smc
             sLanguages[TargetLanguage.JAVA.ordinal()], accessLevels);
         sAccessMap.put(
             sLanguages[TargetLanguage.JAVA7.ordinal()], accessLevels);
+        sAccessMap.put(
+            sLanguages[TargetLanguage.JAVA_TABLE.ordinal()], accessLevels);
     } // end of static
 
 //---------------------------------------------------------------
@@ -582,6 +724,17 @@ public final class Smc
         sNostreams = false;
         sCRTP = false;
         sSync = false;
+        sDirect = false;
+        sActor = false;
+        sBatch = false;
+        sTrace = false;
+        sJfr = false;
+        sMetrics = false;
+        sFlyweight = false;
+        sJournal = false;
+        sWatchdog = false;
+        sErrorCode = false;
+        sHierarchical = false;
         sNoex = false;
         sNocatch = false;
         sStateStackSize = 0;
@@ -589,6 +742,7 @@ public final class Smc
         sCastType = "dynamic_cast";
         sGraphLevel = SmcCodeGenerator.GRAPH_LEVEL_0;
         sSourceFileList = new ArrayList<>();
+        sJobs = 1;
         sVerbose = false;
         sFSMVerbose = false;
         sReturn = false;
@@ -611,11 +765,6 @@ public final class Smc
         // Arguments check out - start compiling..
         else
         {
-            SmcParser parser;
-            SmcFSM fsm;
-            Iterator<String> sit;
-            long startTime = 0;
-            long finishTime;
             long totalStartTime = 0;
             long totalFinishTime;
 
@@ -624,139 +773,7 @@ public final class Smc
                 totalStartTime = System.currentTimeMillis();
             }
 
-            try
-            {
-                for (sit = sSourceFileList.iterator();
-                     sit.hasNext() == true;
-                    )
-                {
-                    sSourceFileName = sit.next();
-
-                    if (sVerbose)
-                    {
-                        System.out.print("[parsing started ");
-                        System.out.print(sSourceFileName);
-                        System.out.println("]");
-
-                        startTime = System.currentTimeMillis();
-                    }
-
-                    parser =
-                        new SmcParser(
-                            getFileName(sSourceFileName),
-                            new FileInputStream(sSourceFileName),
-                            sTargetLanguage.language(),
-                            sFSMVerbose);
-
-                    // First - do the parsing
-                    fsm = parser.parse();
-
-                    if (sVerbose == true)
-                    {
-                        finishTime = System.currentTimeMillis();
-
-                        System.out.print("[parsing completed ");
-                        System.out.print(finishTime - startTime);
-                        System.out.println("ms]");
-                    }
-
-                    if ( parser.getMessages().size() > 0 )
-                    {
-                        // Output the parser's messages.
-                        outputMessages(sSourceFileName,
-                                       System.err,
-                                       parser.getMessages());
-                    }
-
-                    if (fsm == null)
-                    {
-                        retcode = 1;
-                    }
-                    else
-                    {
-                        SmcSyntaxChecker checker =
-                            new SmcSyntaxChecker(
-                                sSourceFileName,
-                                sTargetLanguage.language());
-
-                        if (sVerbose == true)
-                        {
-                            System.out.print("[checking ");
-                            System.out.print(sSourceFileName);
-                            System.out.println("]");
-                        }
-
-                        // Second - do the semantic check.
-                        fsm.accept(checker);
-                        if (checker.getMessages().size() > 0)
-                        {
-                            outputMessages(
-                               sSourceFileName,
-                               System.err,
-                               checker.getMessages());
-                        }
-                        if (!checker.isValid())
-                        {
-                            retcode = 1;
-                        }
-                        else
-                        {
-                            // Third - do the code generation.
-                            generateCode(fsm);
-                        }
-                    }
-                }
-            }
-            // Report an unknown file exception.
-            catch (FileNotFoundException filex)
-            {
-                System.err.print(sSourceFileName);
-                System.err.print(": error - ");
-                System.err.println(filex.getMessage());
-            }
-            // A parse exception may be thrown by generateCode().
-            // This is not a problem.
-            catch (ParseException parsex)
-            {
-                System.err.print(sSourceFileName);
-                System.err.print(":");
-                System.err.print(parsex.getErrorOffset());
-                System.err.print(": error - ");
-                System.err.println(parsex.getMessage());
-            }
-            catch (IOException |
-                   IllegalAccessException |
-                   InvocationTargetException e)
-            {
-                retcode = 1;
-
-                System.err.println(
-                    "SMC has experienced a fatal error. Please e-mail the following error output to rapp@acm.org. Thank you.\n");
-                System.err.println(
-                    "--------------------------------------------------------------------------------");
-                System.err.println("SMC version: " + sVersion);
-                System.err.println(
-                    "JRE version: v. " +
-                    System.getProperty("java.version"));
-                System.err.println(
-                    "JRE vender: " +
-                    System.getProperty("java.vendor") +
-                    " (" +
-                    System.getProperty("java.vendor.url") +
-                    ")");
-                System.err.println(
-                    "JVM: " +
-                    System.getProperty("java.vm.name") +
-                    ", v. " +
-                    System.getProperty("java.vm.version"));
-                System.err.println(
-                    "JVM vender: " +
-                    System.getProperty("java.vm.vendor"));
-                System.err.println("Exception:\n");
-                e.printStackTrace(System.err);
-                System.err.println(
-                    "--------------------------------------------------------------------------------");
-            }
+            retcode = compileFiles();
 
             if (sVerbose == true)
             {
@@ -1021,6 +1038,23 @@ public final class Smc
             {
                 argsConsumed = 1;
             }
+            else if (args[i].startsWith("-act") == true)
+            {
+                if (supportsOption(ACTOR_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        ACTOR_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sActor = true;
+                    argsConsumed = 1;
+                }
+            }
             else if (args[i].startsWith("-ac") == true)
             {
                 // -access should be followed by a string.
@@ -1073,6 +1107,214 @@ public final class Smc
                     argsConsumed = 1;
                 }
             }
+            else if (args[i].startsWith("-di") == true)
+            {
+                if (supportsOption(DIRECT_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        DIRECT_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sDirect = true;
+                    argsConsumed = 1;
+                }
+            }
+            else if (args[i].startsWith("-b") == true)
+            {
+                if (supportsOption(BATCH_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        BATCH_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sBatch = true;
+                    argsConsumed = 1;
+                }
+            }
+            else if (args[i].startsWith("-tr") == true)
+            {
+                if (supportsOption(TRACE_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        TRACE_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sTrace = true;
+                    argsConsumed = 1;
+                }
+            }
+            else if (args[i].equals("-j") == true)
+            {
+                // -j should be followed by an integer.
+                if ((i + 1) == args.length ||
+                    args[i+1].startsWith("-") == true)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        JOBS_FLAG +
+                        " not followed by an integer value.";
+                }
+                else
+                {
+                    try
+                    {
+                        sJobs = Integer.parseInt(args[i+1]);
+
+                        if (sJobs <= 0)
+                        {
+                            retcode = false;
+                            sErrorMsg =
+                                JOBS_FLAG +
+                                " not followed by an integer value > 0.";
+                        }
+                        else
+                        {
+                            argsConsumed = 2;
+                        }
+                    }
+                    catch (NumberFormatException numberex)
+                    {
+                        retcode = false;
+                        sErrorMsg =
+                            JOBS_FLAG +
+                            " not followed by a valid integer.";
+                    }
+                }
+            }
+            else if (args[i].startsWith("-jf") == true)
+            {
+                if (supportsOption(JFR_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        JFR_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sJfr = true;
+                    argsConsumed = 1;
+                }
+            }
+            else if (args[i].startsWith("-me") == true)
+            {
+                if (supportsOption(METRICS_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        METRICS_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sMetrics = true;
+                    argsConsumed = 1;
+                }
+            }
+            else if (args[i].startsWith("-fl") == true)
+            {
+                if (supportsOption(FLYWEIGHT_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        FLYWEIGHT_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sFlyweight = true;
+                    argsConsumed = 1;
+                }
+            }
+            else if (args[i].startsWith("-jo") == true)
+            {
+                if (supportsOption(JOURNAL_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        JOURNAL_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sJournal = true;
+                    argsConsumed = 1;
+                }
+            }
+            else if (args[i].startsWith("-w") == true)
+            {
+                if (supportsOption(WATCHDOG_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        WATCHDOG_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sWatchdog = true;
+                    argsConsumed = 1;
+                }
+            }
+            else if (args[i].startsWith("-er") == true)
+            {
+                if (supportsOption(ERROR_CODE_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        ERROR_CODE_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sErrorCode = true;
+                    argsConsumed = 1;
+                }
+            }
+            else if (args[i].startsWith("-hi") == true)
+            {
+                if (supportsOption(HIERARCHICAL_FLAG) == false)
+                {
+                    retcode = false;
+                    sErrorMsg =
+                        sTargetLanguage.name() +
+                        " does not support " +
+                        HIERARCHICAL_FLAG +
+                        ".";
+                }
+                else
+                {
+                    sHierarchical = true;
+                    argsConsumed = 1;
+                }
+            }
             else if (args[i].startsWith("-su") == true)
             {
                 // -suffix should be followed by a suffix.
@@ -1586,6 +1828,31 @@ public final class Smc
             }
         }
 
+        // A flyweight context has no session state to serialize.
+        if (retcode == true && sFlyweight == true && sSerial == true)
+        {
+            retcode = false;
+            sErrorMsg =
+                FLYWEIGHT_FLAG +
+                " may not be used with " +
+                SERIAL_FLAG +
+                ".";
+        }
+
+        // -direct calls the current state's transition method
+        // without looking at the pushing states.
+        if (retcode == true &&
+            sHierarchical == true &&
+            sDirect == true)
+        {
+            retcode = false;
+            sErrorMsg =
+                HIERARCHICAL_FLAG +
+                " may not be used with " +
+                DIRECT_FLAG +
+                ".";
+        }
+
         // Was a state map target file given? It must be the
         // last argument in the list.
         if (helpFlag == false && retcode == true)
@@ -1786,6 +2053,17 @@ public final class Smc
         stream.print(" [-vverbose]");
         stream.print(" [-help]");
         stream.print(" [-sync]");
+        stream.print(" [-direct]");
+        stream.print(" [-actor]");
+        stream.print(" [-batch]");
+        stream.print(" [-trace]");
+        stream.print(" [-jfr]");
+        stream.print(" [-metrics]");
+        stream.print(" [-flyweight]");
+        stream.print(" [-journal]");
+        stream.print(" [-watchdog]");
+        stream.print(" [-errorcode]");
+        stream.print(" [-hierarchical]");
         stream.print(" [-noex]");
         stream.print(" [-nocatch]");
         stream.print(" [-stack max-stack-depth]");
@@ -1800,16 +2078,17 @@ public final class Smc
         stream.print(" [-headerd directory]");
         stream.print(" [-hsuffix suffix]");
         stream.print(" [-glevel int]");
+        stream.print(" [-j jobs]");
         stream.print(
             " {-c | -c++ | -csharp | -graph | -groovy | -java | ");
         stream.print(
-            "-java7 | -js -lua | -objc | -perl | -php | -python | ");
+            "-java7 | -javatable | -js -lua | -objc | -perl | -php | -python | ");
         stream.print("-ruby | -scala | -table |-tcl | -vb}");
         stream.println(" statemap_file");
         stream.println("    where:");
         stream.println(
             "\t-access   Use this access keyword for the generated classes");
-        stream.println("\t          (use with -java, -java7 only)");
+        stream.println("\t          (use with -java, -java7, -javatable only)");
         stream.println(
             "\t-suffix   Add this suffix to output file");
         stream.println(
@@ -1837,7 +2116,56 @@ public final class Smc
         stream.println(
             "\t-sync     Synchronize access to transition methods");
         stream.print("\t          ");
-        stream.println("(use with -csharp, -java, -java7, -groovy, -scala and -vb only)");
+        stream.println("(use with -csharp, -java, -java7, -javatable, -groovy,");
+        stream.print("\t          ");
+        stream.println(" -scala and -vb only)");
+        stream.println(
+            "\t-direct   Dispatch transitions with a switch statement");
+        stream.print("\t          ");
+        stream.println("(use with -java7 only)");
+        stream.println(
+            "\t-actor    Queue transitions and apply them one at a time");
+        stream.print("\t          ");
+        stream.println("(use with -java, -java7 only)");
+        stream.println(
+            "\t-batch    Generate batch transition dispatch methods");
+        stream.print("\t          ");
+        stream.println("(use with -java, -java7 only)");
+        stream.println(
+            "\t-trace    Pass -g output to a trace sink as identifiers");
+        stream.print("\t          ");
+        stream.println("(use with -java7 and -g only)");
+        stream.println(
+            "\t-jfr      Record transitions as Flight Recorder events");
+        stream.print("\t          ");
+        stream.println("(use with -java7 only, needs library-jfr and Java 11)");
+        stream.println(
+            "\t-metrics  Report transition latency to TransitionMetrics");
+        stream.print("\t          ");
+        stream.println("(use with -java7 only)");
+        stream.println("\t-flyweight");
+        stream.print("\t          ");
+        stream.println("Keep session states in a StateSlotStore");
+        stream.print("\t          ");
+        stream.println("(use with -javatable only, not with -serial)");
+        stream.println(
+            "\t-journal  Append transitions to a TransitionJournal");
+        stream.print("\t          ");
+        stream.println("(use with -java7 only)");
+        stream.println(
+            "\t-watchdog Let a TransitionWatchdog report slow transitions");
+        stream.print("\t          ");
+        stream.println("(use with -java7 only)");
+        stream.println("\t-errorcode");
+        stream.print("\t          ");
+        stream.println("Transition actions return an int error code");
+        stream.print("\t          ");
+        stream.println("(use with -java7 only)");
+        stream.println("\t-hierarchical");
+        stream.print("\t          ");
+        stream.println("Pass unhandled transitions to the pushing states");
+        stream.print("\t          ");
+        stream.println("(use with -java7 only, not with -direct)");
         stream.println(
             "\t-noex     Do not generate C++ exception throws ");
         stream.print("\t          ");
@@ -1849,7 +2177,9 @@ public final class Smc
         stream.print("\t          ");
         stream.println("using no dynamic memory allocation.");
         stream.print("\t          ");
-        stream.println("(use with -c++ only)");
+        stream.println("Java: initial state stack capacity.");
+        stream.print("\t          ");
+        stream.println("(use with -c++, -java, -java7, -javatable only)");
         stream.println(
             "\t-protocol FSM context extends a @protocol and referenced via protocol");
         stream.print("\t          ");
@@ -1890,6 +2220,10 @@ public final class Smc
         stream.println("(greatest)");
         stream.print("\t          ");
         stream.println("(use with -graph only)");
+        stream.println(
+            "\t-j        Compile this many statemap files at once");
+        stream.print("\t          ");
+        stream.println("(messages are still output in file order)");
         stream.println("\t-c        Generate C code");
         stream.println("\t-c++      Generate C++ code");
         stream.println("\t-csharp   Generate C# code");
@@ -1897,6 +2231,7 @@ public final class Smc
         stream.println("\t-groovy   Generate Groovy code");
         stream.println("\t-java     Generate Java code");
         stream.println("\t-java7    Generate Java code as a transition table");
+        stream.println("\t-javatable Generate Java code as interpreted arrays");
         stream.println("\t-js       Generate JavaScript code");
         stream.println("\t-lua      Generate Lua code");
         stream.println("\t-objc     Generate Objective-C code");
@@ -1913,21 +2248,96 @@ public final class Smc
             "    Note: statemap_file must end in \".sm\"");
         stream.print(
             "    Note: must select one of -c, -c++, -csharp, ");
-        stream.print("-graph, -groovy, -java, -java7, -lua, -objc, -perl, ");
+        stream.print("-graph, -groovy, -java, -java7, -javatable, -lua, ");
+        stream.print("-objc, -perl, ");
         stream.println(
             "-php, -python, -ruby, -scala, -table, -tcl or -vb.");
 
         return;
     } // end of usage(PrintStream)
 
+    // Compiles the source files in command line order and
+    // returns the exit code. If -j is greater than one, the
+    // files are compiled on a fork/join pool but each file's
+    // messages are output only after the messages of the files
+    // before it, so the console output is the same as a serial
+    // run.
+    private static int compileFiles()
+    {
+        final int fileCount = sSourceFileList.size();
+        final List<ForkJoinTask<SourceCompiler>> tasks =
+            new ArrayList<>(fileCount);
+        ForkJoinPool pool = null;
+        SourceCompiler compiler;
+        boolean stopFlag;
+        int i;
+        int retcode = 0;
+
+        if (sJobs > 1 && fileCount > 1)
+        {
+            pool = new ForkJoinPool(Math.min(sJobs, fileCount));
+
+            for (String fileName : sSourceFileList)
+            {
+                tasks.add(
+                    pool.submit(new SourceCompiler(fileName, true)));
+            }
+        }
+
+        for (i = 0, stopFlag = false;
+             i < fileCount && stopFlag == false;
+             ++i)
+        {
+            if (pool == null)
+            {
+                compiler =
+                    new SourceCompiler(
+                        sSourceFileList.get(i), false);
+                compiler.call();
+            }
+            else
+            {
+                compiler = (tasks.get(i)).join();
+                compiler.flush();
+            }
+
+            if (compiler.retcode() != 0)
+            {
+                retcode = compiler.retcode();
+            }
+
+            stopFlag = compiler.isStopped();
+        }
+
+        if (pool != null)
+        {
+            // A serial run does not compile the files following
+            // a stopped file. Cancel those which have not
+            // started yet.
+            for (; i < fileCount; ++i)
+            {
+                (tasks.get(i)).cancel(false);
+            }
+
+            pool.shutdown();
+        }
+
+        return (retcode);
+    } // end of compileFiles()
+
     // Generates the State pattern in the target language.
-    private static void generateCode(final SmcFSM fsm)
+    // Verbose messages are written to out.
+    private static void generateCode(final SmcFSM fsm,
+                                     final String sourceFileName,
+                                     final PrintStream out)
         throws FileNotFoundException,
                IOException,
                ParseException
     {
         final int endIndex =
-            sSourceFileName.lastIndexOf(File.separatorChar);
+            sourceFileName.lastIndexOf(File.separatorChar);
+        final boolean java7Flag;
+        String accessLevel = sAccessLevel;
         String targetFilePath;
         String targetFileBase = fsm.getTargetFileName();
         String headerPath;
@@ -1961,7 +2371,7 @@ public final class Smc
             // at the end because endIndex points to that
             // character.
             targetFilePath =
-                sSourceFileName.substring(
+                sourceFileName.substring(
                     0, (endIndex + 1));
         }
         // If there are no preceeding directories, then put the
@@ -1982,18 +2392,21 @@ public final class Smc
             headerPath = targetFilePath;
         }
 
-        if (sAccessLevel == null)
+        // Work with local copies of the access level and java7
+        // flag since other files may be compiled at the same
+        // time.
+        if (accessLevel == null)
         {
-            sAccessLevel = "public";
+            accessLevel = "public";
         }
-        else if (sAccessLevel.equals(PACKAGE_LEVEL))
+        else if (accessLevel.equals(PACKAGE_LEVEL))
         {
-            sAccessLevel = "/* package */";
+            accessLevel = "/* package */";
         }
 
         // If the target language is Java7, then turn on
         // the java7 flag.
-        sJava7Flag =
+        java7Flag =
             (sTargetLanguage.language() == TargetLanguage.JAVA7);
 
         options = new SmcOptions(APP_NAME,
@@ -2015,9 +2428,20 @@ public final class Smc
                                  sReflection,
                                  sSync,
                                  sGeneric,
-                                 sJava7Flag,
-                                 sAccessLevel,
-                                 sProtocol);
+                                 java7Flag,
+                                 accessLevel,
+                                 sProtocol,
+                                 sDirect,
+                                 sActor,
+                                 sBatch,
+                                 sTrace,
+                                 sJfr,
+                                 sMetrics,
+                                 sFlyweight,
+                                 sJournal,
+                                 sWatchdog,
+                                 sErrorCode,
+                                 sHierarchical);
 
         // Create the header file name and generator -
         // if the language uses a header file.
@@ -2055,9 +2479,9 @@ public final class Smc
 
             if (sVerbose == true)
             {
-                System.out.print("[wrote ");
-                System.out.print(headerFileName);
-                System.out.println("]");
+                out.print("[wrote ");
+                out.print(headerFileName);
+                out.println("]");
             }
         }
 
@@ -2068,13 +2492,13 @@ public final class Smc
 
         if (sVerbose == true)
         {
-            System.out.print("[wrote ");
-            System.out.print(srcFileName);
-            System.out.println("]");
+            out.print("[wrote ");
+            out.print(srcFileName);
+            out.println("]");
         }
 
         return;
-    } // end of generateCode(SmcFSM)
+    } // end of generateCode(SmcFSM, String, PrintStream)
 
 //---------------------------------------------------------------
 // Inner classes
@@ -2341,6 +2765,297 @@ public final class Smc
         // end of Get Methods.
         //-------------------------------------------------------
     } // end of class Language
+
+    /**
+     * Runs the parse, check and generate steps for a single
+     * source file. When buffered, the compiler's standard output
+     * and error messages are kept in memory until
+     * {@link #flush()} is called. This allows source files to be
+     * compiled concurrently while their messages are output in
+     * command line order.
+     */
+    private static final class SourceCompiler
+        implements Callable<SourceCompiler>
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        //-------------------------------------------------------
+        // Locals.
+        //
+
+        private final String mFileName;
+        private final ByteArrayOutputStream mOutBuffer;
+        private final ByteArrayOutputStream mErrBuffer;
+        private final PrintStream mOut;
+        private final PrintStream mErr;
+
+        // The file's exit code: 0 if compiled successfully.
+        private int mRetcode;
+
+        // Set to true if compiling this file stops compiling the
+        // files after it.
+        private boolean mStopFlag;
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        //-------------------------------------------------------
+        // Constructors.
+        //
+
+        /**
+         * Creates a compiler for the given source file.
+         * @param fileName compile this .sm file.
+         * @param bufferFlag if {@code true} keep messages in
+         * memory until flushed.
+         */
+        private SourceCompiler(final String fileName,
+                               final boolean bufferFlag)
+        {
+            mFileName = fileName;
+
+            if (bufferFlag == true)
+            {
+                mOutBuffer = new ByteArrayOutputStream();
+                mErrBuffer = new ByteArrayOutputStream();
+                mOut = new PrintStream(mOutBuffer);
+                mErr = new PrintStream(mErrBuffer);
+            }
+            else
+            {
+                mOutBuffer = null;
+                mErrBuffer = null;
+                mOut = System.out;
+                mErr = System.err;
+            }
+
+            mRetcode = 0;
+            mStopFlag = false;
+        } // end of SourceCompiler(String, boolean)
+
+        //
+        // end of Constructors.
+        //-------------------------------------------------------
+
+        //-------------------------------------------------------
+        // Callable Interface Implementation.
+        //
+
+        /**
+         * Parses, checks and generates code for the source file.
+         * @return {@code this} compiler.
+         */
+        @Override
+        public SourceCompiler call()
+        {
+            SmcParser parser;
+            SmcFSM fsm;
+            long startTime = 0;
+            long finishTime;
+
+            try
+            {
+                if (sVerbose)
+                {
+                    mOut.print("[parsing started ");
+                    mOut.print(mFileName);
+                    mOut.println("]");
+
+                    startTime = System.currentTimeMillis();
+                }
+
+                parser =
+                    new SmcParser(
+                        getFileName(mFileName),
+                        new File(mFileName),
+                        sTargetLanguage.language(),
+                        sFSMVerbose);
+
+                // First - do the parsing
+                fsm = parser.parse();
+
+                if (sVerbose == true)
+                {
+                    finishTime = System.currentTimeMillis();
+
+                    mOut.print("[parsing completed ");
+                    mOut.print(finishTime - startTime);
+                    mOut.println("ms]");
+                }
+
+                if ( parser.getMessages().size() > 0 )
+                {
+                    // Output the parser's messages.
+                    outputMessages(mFileName,
+                                   mErr,
+                                   parser.getMessages());
+                }
+
+                if (fsm == null)
+                {
+                    mRetcode = 1;
+                }
+                else
+                {
+                    SmcSyntaxChecker checker =
+                        new SmcSyntaxChecker(
+                            mFileName,
+                            sTargetLanguage.language());
+
+                    if (sVerbose == true)
+                    {
+                        mOut.print("[checking ");
+                        mOut.print(mFileName);
+                        mOut.println("]");
+                    }
+
+                    // Second - do the semantic check.
+                    fsm.accept(checker);
+                    if (checker.getMessages().size() > 0)
+                    {
+                        outputMessages(
+                           mFileName,
+                           mErr,
+                           checker.getMessages());
+                    }
+                    if (!checker.isValid())
+                    {
+                        mRetcode = 1;
+                    }
+                    else
+                    {
+                        // Third - do the code generation.
+                        generateCode(fsm, mFileName, mOut);
+                    }
+                }
+            }
+            // Report an unknown file exception.
+            catch (FileNotFoundException filex)
+            {
+                mStopFlag = true;
+
+                mErr.print(mFileName);
+                mErr.print(": error - ");
+                mErr.println(filex.getMessage());
+            }
+            // A parse exception may be thrown by generateCode().
+            // This is not a problem.
+            catch (ParseException parsex)
+            {
+                mStopFlag = true;
+
+                mErr.print(mFileName);
+                mErr.print(":");
+                mErr.print(parsex.getErrorOffset());
+                mErr.print(": error - ");
+                mErr.println(parsex.getMessage());
+            }
+            // A generator rejects an FSM it cannot represent in
+            // the target language.
+            catch (IllegalStateException statex)
+            {
+                mRetcode = 1;
+                mStopFlag = true;
+
+                mErr.print(mFileName);
+                mErr.print(": error - ");
+                mErr.println(statex.getMessage());
+            }
+            catch (IOException |
+                   IllegalAccessException |
+                   InvocationTargetException e)
+            {
+                mRetcode = 1;
+                mStopFlag = true;
+
+                mErr.println(
+                    "SMC has experienced a fatal error. Please e-mail the following error output to rapp@acm.org. Thank you.\n");
+                mErr.println(
+                    "--------------------------------------------------------------------------------");
+                mErr.println("SMC version: " + sVersion);
+                mErr.println(
+                    "JRE version: v. " +
+                    System.getProperty("java.version"));
+                mErr.println(
+                    "JRE vender: " +
+                    System.getProperty("java.vendor") +
+                    " (" +
+                    System.getProperty("java.vendor.url") +
+                    ")");
+                mErr.println(
+                    "JVM: " +
+                    System.getProperty("java.vm.name") +
+                    ", v. " +
+                    System.getProperty("java.vm.version"));
+                mErr.println(
+                    "JVM vender: " +
+                    System.getProperty("java.vm.vendor"));
+                mErr.println("Exception:\n");
+                e.printStackTrace(mErr);
+                mErr.println(
+                    "--------------------------------------------------------------------------------");
+            }
+
+            return (this);
+        } // end of call()
+
+        //
+        // end of Callable Interface Implementation.
+        //-------------------------------------------------------
+
+        //-------------------------------------------------------
+        // Get Methods.
+        //
+
+        /**
+         * Returns the file's exit code.
+         * @return 0 if the file compiled successfully.
+         */
+        public int retcode()
+        {
+            return (mRetcode);
+        } // end of retcode()
+
+        /**
+         * Returns {@code true} if the remaining source files
+         * should not be compiled.
+         * @return {@code true} if compilation is stopped.
+         */
+        public boolean isStopped()
+        {
+            return (mStopFlag);
+        } // end of isStopped()
+
+        //
+        // end of Get Methods.
+        //-------------------------------------------------------
+
+        /**
+         * Writes the buffered standard output and error
+         * messages to {@code System.out} and {@code System.err},
+         * respectively.
+         */
+        public void flush()
+        {
+            if (mOutBuffer != null)
+            {
+                mOut.flush();
+                mErr.flush();
+
+                System.out.write(
+                    mOutBuffer.toByteArray(), 0, mOutBuffer.size());
+                System.out.flush();
+                System.err.write(
+                    mErrBuffer.toByteArray(), 0, mErrBuffer.size());
+                System.err.flush();
+            }
+
+            return;
+        } // end of flush()
+    } // end of class SourceCompiler
 } // end of class Smc
 
 //
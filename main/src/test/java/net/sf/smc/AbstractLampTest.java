@@ -0,0 +1,312 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static net.sf.smc.LampCompiler.INSPECT_STATE_ID;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import statemap.FSMContext7;
+import statemap.TransitionErrorHandler;
+
+/**
+ * Generates the {@code Lamp} test FSM with the subclass's
+ * {@code smc} options, compiles it once per test class and
+ * verifies guards, Default transitions and push and pop
+ * transitions. Subclasses add the tests for their options.
+ * <p>
+ * Each test starts with a new FSM in the entered start state.
+ * Failed transitions of an {@link FSMContext7} FSM are recorded
+ * by its error handler and fail the test unless the test
+ * expects them and clears {@link #mFailures}.
+ * </p>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public abstract class AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Statics.
+    //
+
+    @ClassRule
+    public static final TemporaryFolder sFolder =
+        new TemporaryFolder();
+
+    // The FSM compiled for the running test class.
+    private static LampCompiler sCompiler = null;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    /**
+     * The FSM owner.
+     */
+    protected Object mLamp;
+
+    /**
+     * The owner's FSM.
+     */
+    protected Object mFsm;
+
+    /**
+     * The exceptions passed to the error handler.
+     */
+    protected final List<Throwable> mFailures = new ArrayList<>();
+
+    /**
+     * The failed actions' transitions and error codes passed to
+     * the error handler, as "transition code".
+     */
+    protected final List<String> mActionFailures =
+        new ArrayList<>();
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Abstract method declarations.
+    //
+
+    /**
+     * Returns the {@code smc} options, starting with the target
+     * language.
+     * @return {@code smc} options.
+     */
+    protected abstract String[] options();
+
+    //
+    // end of Abstract method declarations.
+    //-----------------------------------------------------------
+
+    @Before
+    public void setUp()
+        throws Exception
+    {
+        if (sCompiler == null)
+        {
+            sCompiler =
+                LampCompiler.compile(sFolder.newFolder(), options());
+        }
+
+        mLamp = sCompiler.newLamp();
+        mFsm = LampCompiler.fsm(mLamp);
+
+        if (mFsm instanceof FSMContext7)
+        {
+            ((FSMContext7) mFsm).setErrorHandler(
+                new TransitionErrorHandler()
+                {
+                    @Override
+                    public void transitionFailed(
+                        final FSMContext7 context,
+                        final String transition,
+                        final Throwable t)
+                    {
+                        mFailures.add(t);
+                    }
+
+                    @Override
+                    public void actionFailed(
+                        final FSMContext7 context,
+                        final String transition,
+                        final int errorCode)
+                    {
+                        mActionFailures.add(
+                            transition + " " + errorCode);
+                    }
+                });
+        }
+
+        send("enterStartState");
+    } // end of setUp()
+
+    @After
+    public void tearDown()
+    {
+        assertEquals("failed transitions",
+                     "[]",
+                     mFailures.toString());
+    } // end of tearDown()
+
+    @AfterClass
+    public static void clearCompiler()
+    {
+        sCompiler = null;
+    } // end of clearCompiler()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void guardTest()
+        throws Exception
+    {
+        send("toggle");
+        assertState(ON_STATE_ID);
+        send("toggle");
+        assertState(OFF_STATE_ID);
+
+        // The unguarded toggle applies when the guard fails.
+        LampCompiler.setBroken(mLamp, true);
+        send("toggle");
+        assertState(OFF_STATE_ID);
+        LampCompiler.setBroken(mLamp, false);
+
+        // Off's only dim is guarded, so a failed guard falls back
+        // to the Default state's dim.
+        send("dim", 0);
+        assertState(OFF_STATE_ID);
+        send("dim", 3);
+        assertState(ON_STATE_ID);
+
+        assertLog("enter Off",
+                  "on",
+                  "off",
+                  "enter Off",
+                  "broken",
+                  "no dim",
+                  "dim 3");
+    } // end of guardTest()
+
+    @Test
+    public void defaultTest()
+        throws Exception
+    {
+        send("toggle");
+
+        // On defines neither service nor dim, so service goes to
+        // On's Default transition but dim to the Default state.
+        send("service");
+        assertState(ON_STATE_ID);
+        send("dim", 1);
+        assertState(ON_STATE_ID);
+
+        // reset is defined only in the Default state.
+        send("reset");
+        assertState(OFF_STATE_ID);
+
+        assertLog("enter Off",
+                  "on",
+                  "on default",
+                  "no dim",
+                  "reset",
+                  "enter Off");
+    } // end of defaultTest()
+
+    @Test
+    public void pushPopTest()
+        throws Exception
+    {
+        send("service");
+        assertState(INSPECT_STATE_ID);
+        send("dive");
+        assertState(INSPECT_STATE_ID);
+
+        // Each pop issues repaired to the popped state.
+        send("fix");
+        assertState(INSPECT_STATE_ID);
+        send("fix");
+        assertState(OFF_STATE_ID);
+
+        assertLog("enter Off",
+                  "service",
+                  "dive",
+                  "fix",
+                  "still inspecting",
+                  "fix",
+                  "repaired");
+    } // end of pushPopTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns the compiled FSM.
+     * @return the compiled FSM.
+     */
+    protected static LampCompiler compiler()
+    {
+        return (sCompiler);
+    } // end of compiler()
+
+    /**
+     * Issues the named transition to {@link #mFsm}.
+     * @param transition the transition name.
+     * @param args the transition arguments.
+     * @throws ReflectiveOperationException
+     * if the transition method cannot be called.
+     */
+    protected final void send(final String transition,
+                              final Object... args)
+        throws ReflectiveOperationException
+    {
+        LampCompiler.send(mFsm, transition, args);
+        return;
+    } // end of send(String, Object...)
+
+    /**
+     * Asserts that {@link #mFsm} is in the given state.
+     * @param stateId the expected state identifier.
+     * @throws ReflectiveOperationException
+     * if the current state cannot be retrieved.
+     */
+    protected final void assertState(final int stateId)
+        throws ReflectiveOperationException
+    {
+        assertEquals("state", stateId, LampCompiler.stateId(mFsm));
+        return;
+    } // end of assertState(int)
+
+    /**
+     * Asserts that the executed actions logged the given text.
+     * @param expected the expected action log.
+     * @throws ReflectiveOperationException
+     * if the log cannot be retrieved.
+     */
+    protected final void assertLog(final String... expected)
+        throws ReflectiveOperationException
+    {
+        assertEquals((Arrays.asList(expected)).toString(),
+                     (LampCompiler.log(mLamp)).toString());
+        return;
+    } // end of assertLog(String...)
+} // end of AbstractLampTest
@@ -0,0 +1,129 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import statemap.AsyncFSMContext7;
+
+/**
+ * Runs the {@code Lamp} FSM generated with
+ * {@code -java7 -actor}, whose transition methods post the
+ * transition to the context's mailbox instead of applying it on
+ * the calling thread while another transition is in progress.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class ActorTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.ACTOR_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void mailboxSourceTest()
+    {
+        final String source = (compiler()).source();
+
+        assertTrue(source.contains("extends AsyncFSMContext7"));
+        assertTrue(source.contains("mMailbox.post("));
+        assertTrue(source.contains("private void toggle__Apply_()"));
+    } // end of mailboxSourceTest()
+
+    @Test
+    public void reentrantTest()
+        throws Exception
+    {
+        send("toggle");
+        send("flicker");
+
+        // The toggle issued by the flicker action is applied
+        // once flicker completes, including the entry action.
+        assertState(ON_STATE_ID);
+        assertLog("enter Off",
+                  "on",
+                  "flicker",
+                  "enter Off",
+                  "on");
+        assertTrue(((AsyncFSMContext7) mFsm).isIdle());
+    } // end of reentrantTest()
+
+    @Test
+    public void executorTest()
+        throws Exception
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final Executor executor =
+            new Executor()
+            {
+                @Override
+                public void execute(final Runnable task)
+                {
+                    tasks.add(task);
+                }
+            };
+        final AsyncFSMContext7 fsm =
+            (AsyncFSMContext7)
+                ((compiler()).contextClass())
+                    .getConstructor(mLamp.getClass(), Executor.class)
+                    .newInstance(mLamp, executor);
+
+        LampCompiler.send(fsm, "toggle");
+        LampCompiler.send(fsm, "toggle");
+
+        // Both transitions wait for the one drain task.
+        assertEquals(1, tasks.size());
+        assertFalse(fsm.isIdle());
+        assertEquals(OFF_STATE_ID, LampCompiler.stateId(fsm));
+        assertLog("enter Off");
+
+        (tasks.get(0)).run();
+
+        assertTrue(fsm.isIdle());
+        assertEquals(OFF_STATE_ID, LampCompiler.stateId(fsm));
+        assertLog("enter Off", "on", "off", "enter Off");
+    } // end of executorTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+} // end of ActorTest
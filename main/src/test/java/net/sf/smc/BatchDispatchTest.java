@@ -0,0 +1,231 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import static net.sf.smc.LampCompiler.INSPECT_STATE_ID;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+import statemap.TransitionUndefinedException;
+
+/**
+ * Applies batches of transitions to the {@code Lamp} FSM
+ * generated with {@code -java7 -batch} through the generated
+ * {@code dispatch} methods.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public class BatchDispatchTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.BATCH_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void batchTest()
+        throws Exception
+    {
+        dispatch(ids("toggle", "toggle", "service", "dive", "fix"),
+                 5);
+
+        assertState(INSPECT_STATE_ID);
+        assertLog("enter Off",
+                  "on",
+                  "off",
+                  "enter Off",
+                  "service",
+                  "dive",
+                  "fix",
+                  "still inspecting");
+    } // end of batchTest()
+
+    @Test
+    public void countTest()
+        throws Exception
+    {
+        final int[] ids = ids("toggle", "toggle", "toggle");
+
+        // Only the first count transitions are applied.
+        dispatch(ids, 2);
+        assertState(OFF_STATE_ID);
+        dispatch(ids, 0);
+        assertState(OFF_STATE_ID);
+        dispatch(ids, 1);
+        assertState(ON_STATE_ID);
+    } // end of countTest()
+
+    @Test
+    public void argsTest()
+        throws Exception
+    {
+        final Object[][] args =
+        {
+            new Object[] { 0 },
+            new Object[] { 3 },
+            null,
+            null
+        };
+
+        LampCompiler.send(mFsm,
+                          "dispatch",
+                          ids("dim", "dim", "service", "reset"),
+                          args,
+                          4);
+
+        assertState(OFF_STATE_ID);
+        assertLog("enter Off",
+                  "no dim",
+                  "dim 3",
+                  "on default",
+                  "reset",
+                  "enter Off");
+    } // end of argsTest()
+
+    @Test
+    public void failedTransitionTest()
+        throws Exception
+    {
+        // toggle is undefined in Inspect. The failed transition
+        // is passed to the error handler and the rest of the
+        // batch is applied.
+        dispatch(ids("service", "toggle", "fix"), 3);
+
+        assertState(OFF_STATE_ID);
+        assertLog("enter Off", "service", "fix", "repaired");
+        assertEquals(1, mFailures.size());
+        assertTrue(
+            mFailures.get(0) instanceof TransitionUndefinedException);
+        mFailures.clear();
+    } // end of failedTransitionTest()
+
+    @Test
+    public void invalidCountTest()
+        throws Exception
+    {
+        final int[] ids = ids("toggle", "toggle");
+
+        invalidDispatch(ids, -1, "invalid batch count -1");
+        invalidDispatch(ids, 3, "invalid batch count 3");
+
+        assertState(OFF_STATE_ID);
+        assertLog("enter Off");
+    } // end of invalidCountTest()
+
+    @Test
+    public void unknownTransitionTest()
+        throws Exception
+    {
+        final int[] ids = ids("toggle", "toggle", "toggle");
+
+        // The batch ends at the unknown identifier and the
+        // parameterless dispatch does not apply dim.
+        ids[1] = Integer.MAX_VALUE;
+        invalidDispatch(ids,
+                        3,
+                        "invalid transition identifier " +
+                        Integer.MAX_VALUE);
+        assertState(ON_STATE_ID);
+
+        ids[1] = (compiler()).transitionId("dim");
+        invalidDispatch(ids,
+                        3,
+                        "invalid transition identifier " + ids[1]);
+        assertState(OFF_STATE_ID);
+
+        assertLog("enter Off", "on", "off", "enter Off");
+    } // end of unknownTransitionTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    /**
+     * Returns the identifiers of the named transitions.
+     * @param transitions the transition names.
+     * @return the transition identifiers.
+     * @throws ReflectiveOperationException
+     * if a transition identifier is not defined.
+     */
+    protected static int[] ids(final String... transitions)
+        throws ReflectiveOperationException
+    {
+        final int[] retval = new int[transitions.length];
+        int i;
+
+        for (i = 0; i < transitions.length; ++i)
+        {
+            retval[i] = (compiler()).transitionId(transitions[i]);
+        }
+
+        return (retval);
+    } // end of ids(String...)
+
+    /**
+     * Applies the first {@code count} parameterless transitions.
+     * @param ids the transition identifiers.
+     * @param count the number of transitions to apply.
+     * @throws ReflectiveOperationException
+     * if the {@code dispatch} method cannot be called.
+     */
+    protected final void dispatch(final int[] ids, final int count)
+        throws ReflectiveOperationException
+    {
+        LampCompiler.send(mFsm, "dispatch", ids, count);
+        return;
+    } // end of dispatch(int[], int)
+
+    // Verifies that dispatching the batch is rejected with the
+    // given message.
+    private void invalidDispatch(final int[] ids,
+                                 final int count,
+                                 final String message)
+        throws ReflectiveOperationException
+    {
+        try
+        {
+            dispatch(ids, count);
+            fail("dispatch(" + count + ") did not throw");
+        }
+        catch (IllegalArgumentException argex)
+        {
+            assertEquals(message, argex.getMessage());
+        }
+
+        return;
+    } // end of invalidDispatch(int[], int, String)
+} // end of BatchDispatchTest
@@ -0,0 +1,87 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import static net.sf.smc.LampCompiler.INSPECT_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import statemap.TransitionUndefinedException;
+
+/**
+ * Runs the {@code Lamp} FSM generated with
+ * {@code -java7 -direct}, whose transition methods switch on the
+ * current state instead of invoking the state's method handles.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class DirectDispatchTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.DIRECT_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void switchDispatchTest()
+    {
+        final String source = (compiler()).source();
+
+        // Only executeAction() still invokes a method handle.
+        assertEquals(source.indexOf("invokeExact"),
+                     source.lastIndexOf("invokeExact"));
+        assertTrue(source.contains("switch (getState().getId())"));
+        assertTrue(source.contains("void enterState()"));
+    } // end of switchDispatchTest()
+
+    @Test
+    public void undefinedTest()
+        throws Exception
+    {
+        send("service");
+        send("toggle");
+
+        assertState(INSPECT_STATE_ID);
+        assertEquals(1, mFailures.size());
+        assertTrue(
+            mFailures.get(0) instanceof TransitionUndefinedException);
+        assertEquals("State: Repair_Inspect, Transition: toggle",
+                     (mFailures.get(0)).getMessage());
+        mFailures.clear();
+    } // end of undefinedTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+} // end of DirectDispatchTest
@@ -0,0 +1,106 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import static net.sf.smc.LampCompiler.FAIL_CODE;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import statemap.FSMContext7;
+
+/**
+ * Runs the {@code Lamp} FSM generated with
+ * {@code -java7 -errorcode}, whose transition actions return an
+ * error code, and verifies that a non-zero code stops the
+ * remaining actions and is passed to the error handler without
+ * an exception.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class ErrorCodeTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.ERROR_CODE_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void actionFailedTest()
+        throws Exception
+    {
+        send("toggle");
+        send("jam");
+
+        // The end state is set, but neither the action after the
+        // failed one nor the end state's entry action runs.
+        assertState(OFF_STATE_ID);
+        assertLog("enter Off", "on", "fail");
+        assertEquals("[jam " + FAIL_CODE + "]",
+                     mActionFailures.toString());
+
+        // The FSM carries on as usual.
+        send("toggle");
+        assertState(ON_STATE_ID);
+        assertEquals(1, mActionFailures.size());
+        assertLog("enter Off", "on", "fail", "on");
+    } // end of actionFailedTest()
+
+    @Test
+    public void noHandlerTest()
+        throws Exception
+    {
+        ((FSMContext7) mFsm).setErrorHandler(null);
+        send("toggle");
+        send("jam");
+
+        assertState(OFF_STATE_ID);
+        assertTrue(mActionFailures.isEmpty());
+        assertLog("enter Off", "on", "fail");
+    } // end of noHandlerTest()
+
+    @Test
+    public void errorCodeSourceTest()
+    {
+        final String source = (compiler()).source();
+
+        assertTrue(source.contains("errorCode = ctxt.log(\"fail\");"));
+        assertTrue(source.contains("actionFailed(errorCode);"));
+    } // end of errorCodeSourceTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+} // end of ErrorCodeTest
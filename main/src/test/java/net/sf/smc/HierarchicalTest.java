@@ -0,0 +1,146 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.util.EmptyStackException;
+import static net.sf.smc.LampCompiler.INSPECT_STATE_ID;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+import statemap.FSMContext7;
+import statemap.TransitionUndefinedException;
+
+/**
+ * Runs the {@code Lamp} FSM generated with
+ * {@code -java7 -hierarchical}, where a transition the pushed
+ * state does not define is passed to the state which pushed it.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class HierarchicalTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.HIERARCHICAL_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void bubbleTest()
+        throws Exception
+    {
+        send("service");
+        send("toggle");
+
+        // Off's toggle moves to On and unwinds the pushed state.
+        assertState(ON_STATE_ID);
+        assertLog("enter Off", "service", "on");
+
+        try
+        {
+            ((FSMContext7) mFsm).popState();
+            fail("state stack not empty");
+        }
+        catch (EmptyStackException stackex)
+        {}
+    } // end of bubbleTest()
+
+    @Test
+    public void nestedTest()
+        throws Exception
+    {
+        send("service");
+        send("dive");
+
+        // Inspect's own transitions are not passed to Off.
+        send("repaired");
+        assertState(INSPECT_STATE_ID);
+
+        send("fix");
+        assertState(INSPECT_STATE_ID);
+        send("fix");
+        assertState(OFF_STATE_ID);
+        assertLog("enter Off",
+                  "service",
+                  "dive",
+                  "still inspecting",
+                  "fix",
+                  "still inspecting",
+                  "fix",
+                  "repaired");
+    } // end of nestedTest()
+
+    @Test
+    public void parentDefaultTest()
+        throws Exception
+    {
+        send("service");
+        send("dim", 0);
+
+        // Off's guard fails and its Default state's internal
+        // transition leaves the pushed state in place.
+        assertState(INSPECT_STATE_ID);
+        assertLog("enter Off", "service", "no dim");
+    } // end of parentDefaultTest()
+
+    @Test
+    public void undefinedTest()
+        throws Exception
+    {
+        send("service");
+        send("jam");
+
+        assertState(INSPECT_STATE_ID);
+        assertEquals(1, mFailures.size());
+        assertTrue(
+            mFailures.get(0) instanceof TransitionUndefinedException);
+        mFailures.clear();
+    } // end of undefinedTest()
+
+    @Test(expected = IllegalStateException.class)
+    public void directRejectedTest()
+        throws Exception
+    {
+        LampCompiler.compile(sFolder.newFolder(),
+                             "-java7",
+                             Smc.DIRECT_FLAG,
+                             Smc.HIERARCHICAL_FLAG);
+    } // end of directRejectedTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+} // end of HierarchicalTest
@@ -0,0 +1,75 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import static net.sf.smc.LampCompiler.INSPECT_STATE_ID;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+import statemap.TransitionUndefinedException;
+
+/**
+ * Applies batches of transitions to the {@code Lamp} FSM
+ * generated with {@code -java -batch}. Unlike {@code -java7},
+ * an exception thrown by a transition ends the batch.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class JavaBatchDispatchTest
+    extends BatchDispatchTest
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java", Smc.BATCH_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    @Override
+    public void failedTransitionTest()
+        throws Exception
+    {
+        try
+        {
+            dispatch(ids("service", "toggle", "fix"), 3);
+            fail("undefined toggle did not throw");
+        }
+        catch (TransitionUndefinedException undefex)
+        {}
+
+        assertState(INSPECT_STATE_ID);
+        assertLog("enter Off", "service");
+    } // end of failedTransitionTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+} // end of JavaBatchDispatchTest
@@ -0,0 +1,45 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+/**
+ * Repeats the {@link SnapshotTest} binary state snapshot tests
+ * on the {@code Lamp} FSM generated with
+ * {@code -javatable -serial}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class JavaTableSnapshotTest
+    extends SnapshotTest
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-javatable", Smc.SERIAL_FLAG });
+    } // end of options()
+} // end of JavaTableSnapshotTest
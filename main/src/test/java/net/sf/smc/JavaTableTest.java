@@ -0,0 +1,121 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import static net.sf.smc.LampCompiler.INSPECT_STATE_ID;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+import statemap.TableFSMContext;
+import statemap.TransitionUndefinedException;
+import statemap.UndefinedTransitionPolicy;
+
+/**
+ * Runs the {@code Lamp} FSM generated with {@code -javatable},
+ * which {@link TableFSMContext} interprets from the generated
+ * transition table.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class JavaTableTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-javatable" });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void tableTest()
+        throws Exception
+    {
+        final String source = (compiler()).source();
+
+        assertTrue(
+            TableFSMContext.class.isAssignableFrom(
+                (compiler()).contextClass()));
+        assertTrue(source.contains("TransitionTable"));
+        assertFalse(source.contains("MethodHandle"));
+    } // end of tableTest()
+
+    @Test
+    public void stateNameTest()
+        throws Exception
+    {
+        final TableFSMContext fsm = (TableFSMContext) mFsm;
+
+        assertEquals("Switch.Off", fsm.getStateName());
+        send("service");
+        assertEquals("Repair.Inspect", fsm.getStateName());
+        assertEquals(OFF_STATE_ID, fsm.getPreviousStateId());
+    } // end of stateNameTest()
+
+    @Test
+    public void undefinedTest()
+        throws Exception
+    {
+        final TableFSMContext fsm = (TableFSMContext) mFsm;
+
+        send("service");
+
+        // Transition exceptions are not caught.
+        try
+        {
+            send("toggle");
+            fail("undefined toggle did not throw");
+        }
+        catch (TransitionUndefinedException undefex)
+        {
+            assertEquals("State: Repair.Inspect, Transition: toggle",
+                         undefex.getMessage());
+        }
+
+        assertState(INSPECT_STATE_ID);
+        assertFalse(fsm.isInTransition());
+
+        fsm.setUndefinedTransitionPolicy(
+            UndefinedTransitionPolicy.COUNT);
+        send("toggle");
+        send("reset");
+        assertEquals(2L, fsm.getUndefinedTransitionCount());
+        assertState(INSPECT_STATE_ID);
+        assertLog("enter Off", "service");
+    } // end of undefinedTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+} // end of JavaTableTest
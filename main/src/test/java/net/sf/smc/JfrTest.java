@@ -0,0 +1,169 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Runs the {@code Lamp} FSM generated with {@code -java7 -jfr}
+ * while a flight recording is running and verifies the recorded
+ * transition, state action and state residency events.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class JfrTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final String TRANSITION_EVENT =
+        "statemap.Transition";
+    private static final String ACTION_EVENT =
+        "statemap.StateAction";
+    private static final String RESIDENCY_EVENT =
+        "statemap.StateResidency";
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.JFR_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void eventPackageTest()
+    {
+        final String source = (compiler()).source();
+
+        assertTrue(
+            source.contains("import statemap.jfr.TransitionEvent;"));
+    } // end of eventPackageTest()
+
+    @Test
+    public void recordingTest()
+        throws Exception
+    {
+        final List<RecordedEvent> events;
+
+        try (Recording recording = new Recording())
+        {
+            final Path path =
+                (new File(sFolder.newFolder(), "lamp.jfr")).toPath();
+
+            recording.enable(TRANSITION_EVENT)
+                     .withThreshold(Duration.ZERO);
+            recording.enable(ACTION_EVENT)
+                     .withThreshold(Duration.ZERO);
+            recording.enable(RESIDENCY_EVENT)
+                     .withThreshold(Duration.ZERO);
+            recording.start();
+
+            send("toggle");
+            send("toggle");
+
+            recording.stop();
+            recording.dump(path);
+            events = RecordingFile.readAllEvents(path);
+        }
+
+        assertEquals("[Switch_Off toggle Switch_On, " +
+                     "Switch_On toggle Switch_Off]",
+                     (describe(events,
+                               TRANSITION_EVENT,
+                               "state",
+                               "transition",
+                               "endState")).toString());
+        assertEquals("[Switch_Off Exit, Switch_On Entry, " +
+                     "Switch_On Exit, Switch_Off Entry]",
+                     (describe(events,
+                               ACTION_EVENT,
+                               "state",
+                               "action")).toString());
+
+        // Switch_Off was entered before the recording started.
+        assertEquals("[Switch_On]",
+                     (describe(events,
+                               RESIDENCY_EVENT,
+                               "state")).toString());
+    } // end of recordingTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Returns the named events' string fields in recording
+    // order, each event's fields separated by a space.
+    private static List<String> describe(
+        final List<RecordedEvent> events,
+        final String name,
+        final String... fields)
+    {
+        final List<String> retval = new ArrayList<>();
+        StringBuilder text;
+
+        for (RecordedEvent event : events)
+        {
+            if (name.equals((event.getEventType()).getName()))
+            {
+                text = new StringBuilder();
+                for (String field : fields)
+                {
+                    if (text.length() > 0)
+                    {
+                        text.append(' ');
+                    }
+
+                    text.append(event.getString(field));
+                }
+
+                retval.add(text.toString());
+            }
+        }
+
+        return (retval);
+    } // end of describe(List, String, String...)
+} // end of JfrTest
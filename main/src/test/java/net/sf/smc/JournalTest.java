@@ -0,0 +1,164 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.io.File;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import statemap.FSMContext7;
+import statemap.TransitionJournal;
+import statemap.TransitionJournal.ContextLookup;
+
+/**
+ * Runs the {@code Lamp} FSM generated with
+ * {@code -java7 -journal} and verifies that replaying the
+ * transition journal restores the FSM state, including after a
+ * transition whose action throws.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class JournalTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.JOURNAL_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void replayTest()
+        throws Exception
+    {
+        final File file = sFolder.newFile();
+
+        journal(file, "toggle", "service");
+
+        assertEquals(2L, replay(file));
+    } // end of replayTest()
+
+    @Test
+    public void failedActionTest()
+        throws Exception
+    {
+        final File file = sFolder.newFile();
+        final Object restored;
+
+        // overload sets the Off state and then its action throws.
+        journal(file, "toggle", "overload");
+
+        assertState(OFF_STATE_ID);
+        assertEquals(1, mFailures.size());
+        assertTrue(mFailures.get(0) instanceof IllegalStateException);
+        mFailures.clear();
+
+        restored = (compiler()).newLamp();
+        assertEquals(
+            2L,
+            TransitionJournal.replay(
+                file, lookup((FSMContext7) LampCompiler.fsm(restored))));
+        assertEquals(OFF_STATE_ID,
+                     LampCompiler.stateId(LampCompiler.fsm(restored)));
+    } // end of failedActionTest()
+
+    @Test
+    public void undefinedTransitionTest()
+        throws Exception
+    {
+        final File file = sFolder.newFile();
+
+        // jam is not defined in the Off state and does not change
+        // the state, so it is not journaled.
+        journal(file, "toggle", "toggle", "jam");
+
+        assertEquals(1, mFailures.size());
+        mFailures.clear();
+
+        assertEquals(2L, replay(file));
+    } // end of undefinedTransitionTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Sends the transitions with the FSM journaled to the file.
+    private void journal(final File file, final String... transitions)
+        throws Exception
+    {
+        try (TransitionJournal journal = TransitionJournal.open(file))
+        {
+            ((FSMContext7) mFsm).setJournal(journal, 0L);
+
+            for (String transition : transitions)
+            {
+                send(transition);
+            }
+
+            ((FSMContext7) mFsm).setJournal(null, 0L);
+        }
+
+        return;
+    } // end of journal(File, String...)
+
+    // Replays the file into a new Lamp FSM and verifies that it
+    // has the journaled FSM's state. Returns the replayed entry
+    // count.
+    private long replay(final File file)
+        throws Exception
+    {
+        final Object fsm = LampCompiler.fsm((compiler()).newLamp());
+        final long retval =
+            TransitionJournal.replay(file, lookup((FSMContext7) fsm));
+
+        assertEquals(LampCompiler.stateId(mFsm),
+                     LampCompiler.stateId(fsm));
+
+        return (retval);
+    } // end of replay(File)
+
+    // Returns the FSM for journal identifier zero.
+    private static ContextLookup lookup(final FSMContext7 fsm)
+    {
+        return (
+            new ContextLookup()
+            {
+                @Override
+                public FSMContext7 context(final long journalId)
+                {
+                    return (journalId == 0L ? fsm : null);
+                }
+            });
+    } // end of lookup(FSMContext7)
+} // end of JournalTest
@@ -0,0 +1,464 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import statemap.FSMContext7;
+import statemap.State;
+import statemap.TableFSMContext;
+
+/**
+ * Runs {@link Smc#main(String[])} on the {@code Lamp} test FSM
+ * with the given command line options, compiles the generated
+ * context class together with the {@code Lamp} owner class and
+ * loads both into a private class loader. The generator tests
+ * then drive the generated FSM through the static helper
+ * methods.
+ * <p>
+ * The JDK compiler must be available, i.e. the tests must be run
+ * on a JDK and not a JRE. Because {@code Smc} keeps its options
+ * in static fields, FSMs must not be generated concurrently.
+ * </p>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+/* package */ final class LampCompiler
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /* package */ static final int OFF_STATE_ID = 0;
+    /* package */ static final int ON_STATE_ID = 1;
+    /* package */ static final int INSPECT_STATE_ID = 2;
+
+    /**
+     * The {@code Lamp} action returns this error code for the
+     * text "fail".
+     */
+    /* package */ static final int FAIL_CODE = 7;
+
+    private static final String FSM_PACKAGE = "smc_test";
+    private static final String OWNER_NAME = "Lamp";
+    private static final String CONTEXT_NAME = "LampContext";
+    private static final String RESOURCE_DIR = "/net/sf/smc/fsm/";
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    private final String mSource;
+    private final ClassLoader mLoader;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    private LampCompiler(final String source,
+                         final ClassLoader loader)
+    {
+        mSource = source;
+        mLoader = loader;
+    } // end of LampCompiler(String, ClassLoader)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    /**
+     * Generates the {@code Lamp} FSM into {@code dir} with the
+     * given {@code smc} options, compiles and loads it.
+     * @param dir the generated source and class directory.
+     * @param options {@code smc} command line options, starting
+     * with the target language.
+     * @return the compiled FSM.
+     * @throws IOException
+     * if writing the test FSM or generated classes fails.
+     * @throws IllegalStateException
+     * if {@code smc} or the compiler fails.
+     */
+    /* package */ static LampCompiler compile(final File dir,
+                                              final String... options)
+        throws IOException
+    {
+        final JavaCompiler javac =
+            ToolProvider.getSystemJavaCompiler();
+        final File smFile = copyResource(OWNER_NAME + ".sm", dir);
+        final File ownerFile =
+            copyResource(OWNER_NAME + ".java", dir);
+        final File contextFile = new File(dir, CONTEXT_NAME + ".java");
+        final File classDir = new File(dir, "classes");
+        final List<String> args = new ArrayList<>();
+        final DiagnosticCollector<JavaFileObject> diagnostics =
+            new DiagnosticCollector<>();
+        final boolean success;
+
+        if (javac == null)
+        {
+            throw (
+                new IllegalStateException(
+                    "no system Java compiler, run on a JDK"));
+        }
+
+        args.addAll(Arrays.asList(options));
+        args.add(Smc.RETURN_FLAG);
+        args.add(Smc.DIRECTORY_FLAG);
+        args.add(dir.getPath());
+        args.add(smFile.getPath());
+        Smc.main(args.toArray(new String[args.size()]));
+
+        if (contextFile.exists() == false)
+        {
+            throw (
+                new IllegalStateException(
+                    "smc " + args + " did not generate " +
+                    contextFile));
+        }
+
+        Files.createDirectories(classDir.toPath());
+        args.clear();
+        args.add("-d");
+        args.add(classDir.getPath());
+        args.add("-classpath");
+        args.add(System.getProperty("java.class.path"));
+        args.add("-proc:none");
+        args.add("-nowarn");
+
+        try (StandardJavaFileManager fileManager =
+                 javac.getStandardFileManager(
+                     diagnostics, null, StandardCharsets.UTF_8))
+        {
+            success =
+                javac.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    args,
+                    null,
+                    fileManager.getJavaFileObjectsFromFiles(
+                        Arrays.asList(ownerFile, contextFile)))
+                .call();
+        }
+
+        if (success == false)
+        {
+            final StringBuilder message = new StringBuilder();
+
+            message.append("failed to compile ")
+                   .append(contextFile);
+            for (Diagnostic<? extends JavaFileObject> d :
+                     diagnostics.getDiagnostics())
+            {
+                message.append('\n').append(d);
+            }
+
+            throw (new IllegalStateException(message.toString()));
+        }
+
+        return (
+            new LampCompiler(
+                new String(Files.readAllBytes(contextFile.toPath()),
+                           StandardCharsets.UTF_8),
+                new URLClassLoader(
+                    new URL[] { (classDir.toURI()).toURL() },
+                    LampCompiler.class.getClassLoader())));
+    } // end of compile(File, String...)
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    /**
+     * Returns the generated context class source.
+     * @return the generated source.
+     */
+    /* package */ String source()
+    {
+        return (mSource);
+    } // end of source()
+
+    /**
+     * Returns the generated context class.
+     * @return the generated context class.
+     * @throws ClassNotFoundException
+     * if the class was not compiled.
+     */
+    /* package */ Class<?> contextClass()
+        throws ClassNotFoundException
+    {
+        return (
+            Class.forName(
+                FSM_PACKAGE + "." + CONTEXT_NAME, true, mLoader));
+    } // end of contextClass()
+
+    /**
+     * Returns the generated identifier of the named transition.
+     * @param transition the transition name.
+     * @return the transition identifier.
+     * @throws ReflectiveOperationException
+     * if the context class has no such transition constant.
+     */
+    /* package */ int transitionId(final String transition)
+        throws ReflectiveOperationException
+    {
+        final String pattern =
+            transition + "[0-9]+_TRANSITION_ID";
+
+        // The constants are private unless generated with -batch.
+        for (Field field : (contextClass()).getDeclaredFields())
+        {
+            if ((field.getName()).matches(pattern))
+            {
+                field.setAccessible(true);
+                return (field.getInt(null));
+            }
+        }
+
+        throw (new NoSuchFieldException(pattern));
+    } // end of transitionId(String)
+
+    /**
+     * Returns a new {@code Lamp} owner whose FSM is in the
+     * start state. The start state's entry action has not run.
+     * @return a new FSM owner.
+     * @throws ReflectiveOperationException
+     * if the owner class cannot be instantiated.
+     */
+    /* package */ Object newLamp()
+        throws ReflectiveOperationException
+    {
+        return (
+            (Class.forName(FSM_PACKAGE + "." + OWNER_NAME,
+                           true,
+                           mLoader)
+                  .getConstructor()).newInstance());
+    } // end of newLamp()
+
+    /**
+     * Returns the owner's FSM.
+     * @param lamp the FSM owner.
+     * @return the generated context.
+     * @throws ReflectiveOperationException
+     * if the owner method cannot be called.
+     */
+    /* package */ static Object fsm(final Object lamp)
+        throws ReflectiveOperationException
+    {
+        return (invoke(lamp, "getFsm"));
+    } // end of fsm(Object)
+
+    /**
+     * Returns the text passed to each action executed so far.
+     * @param lamp the FSM owner.
+     * @return the action log.
+     * @throws ReflectiveOperationException
+     * if the owner method cannot be called.
+     */
+    @SuppressWarnings("unchecked")
+    /* package */ static List<String> log(final Object lamp)
+        throws ReflectiveOperationException
+    {
+        return ((List<String>) invoke(lamp, "getLog"));
+    } // end of log(Object)
+
+    /**
+     * Returns the FSM's current state identifier.
+     * @param fsm a generated context.
+     * @return the current state identifier.
+     * @throws ReflectiveOperationException
+     * if the {@code -java} context's {@code getState} method
+     * cannot be called.
+     */
+    /* package */ static int stateId(final Object fsm)
+        throws ReflectiveOperationException
+    {
+        final int retval;
+
+        if (fsm instanceof TableFSMContext)
+        {
+            retval = ((TableFSMContext) fsm).getStateId();
+        }
+        else if (fsm instanceof FSMContext7)
+        {
+            retval = (((FSMContext7) fsm).getState()).getId();
+        }
+        // -java contexts define getState() themselves.
+        else
+        {
+            retval = ((State) invoke(fsm, "getState")).getId();
+        }
+
+        return (retval);
+    } // end of stateId(Object)
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    /**
+     * Sets the {@code ctxt.isBroken()} guard condition.
+     * @param lamp the FSM owner.
+     * @param flag the broken flag.
+     * @throws ReflectiveOperationException
+     * if the owner method cannot be called.
+     */
+    /* package */ static void setBroken(final Object lamp,
+                                        final boolean flag)
+        throws ReflectiveOperationException
+    {
+        invoke(lamp, "setBroken", flag);
+        return;
+    } // end of setBroken(Object, boolean)
+
+    /**
+     * Makes each action sleep for the given time.
+     * @param lamp the FSM owner.
+     * @param delay the action delay in milliseconds.
+     * @throws ReflectiveOperationException
+     * if the owner method cannot be called.
+     */
+    /* package */ static void setDelay(final Object lamp,
+                                       final long delay)
+        throws ReflectiveOperationException
+    {
+        invoke(lamp, "setDelay", delay);
+        return;
+    } // end of setDelay(Object, long)
+
+    /**
+     * Issues the named transition. Runtime exceptions thrown by
+     * the transition are re-thrown as is.
+     * @param fsm a generated context.
+     * @param transition the transition name.
+     * @param args the transition arguments.
+     * @throws ReflectiveOperationException
+     * if the transition method cannot be called.
+     */
+    /* package */ static void send(final Object fsm,
+                                   final String transition,
+                                   final Object... args)
+        throws ReflectiveOperationException
+    {
+        invoke(fsm, transition, args);
+        return;
+    } // end of send(Object, String, Object...)
+
+    /**
+     * Calls the public method with the given name and number of
+     * parameters on {@code target} and returns the result.
+     */
+    private static Object invoke(final Object target,
+                                 final String name,
+                                 final Object... args)
+        throws ReflectiveOperationException
+    {
+        Method method = null;
+
+        for (Method m : (target.getClass()).getMethods())
+        {
+            if (name.equals(m.getName()) &&
+                m.getParameterTypes().length == args.length)
+            {
+                method = m;
+            }
+        }
+
+        if (method == null)
+        {
+            throw (
+                new NoSuchMethodException(
+                    (target.getClass()).getName() + "." + name));
+        }
+
+        try
+        {
+            return (method.invoke(target, args));
+        }
+        catch (InvocationTargetException invokex)
+        {
+            final Throwable cause = invokex.getCause();
+
+            if (cause instanceof RuntimeException)
+            {
+                throw ((RuntimeException) cause);
+            }
+            else if (cause instanceof Error)
+            {
+                throw ((Error) cause);
+            }
+
+            throw (invokex);
+        }
+    } // end of invoke(Object, String, Object...)
+
+    /**
+     * Copies the named test FSM resource into {@code dir}.
+     */
+    /* package */ static File copyResource(final String name,
+                                           final File dir)
+        throws IOException
+    {
+        final File retval = new File(dir, name);
+
+        try (InputStream is =
+                 LampCompiler.class.getResourceAsStream(
+                     RESOURCE_DIR + name))
+        {
+            if (is == null)
+            {
+                throw (new IOException("no such resource: " + name));
+            }
+
+            Files.copy(is, retval.toPath());
+        }
+
+        return (retval);
+    } // end of copyResource(String, File)
+} // end of class LampCompiler
@@ -0,0 +1,159 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import statemap.FSMContext7;
+import statemap.TransitionMetricsRecorder;
+import statemap.TransitionMetricsRecorder.Snapshot;
+import statemap.TransitionUndefinedException;
+
+/**
+ * Runs the {@code Lamp} FSM generated with
+ * {@code -java7 -metrics} and verifies the transition latencies
+ * reported to a {@link TransitionMetricsRecorder}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class MetricsTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    /**
+     * The slow transition's action delay in milliseconds.
+     */
+    private static final long DELAY = 5L;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.METRICS_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void latencyTest()
+        throws Exception
+    {
+        final TransitionMetricsRecorder recorder =
+            new TransitionMetricsRecorder();
+        final int toggleId = (compiler()).transitionId("toggle");
+        final List<Snapshot> snapshots;
+
+        ((FSMContext7) mFsm).setMetrics(recorder);
+
+        send("toggle");
+        send("toggle");
+        LampCompiler.setDelay(mLamp, DELAY);
+        send("toggle");
+
+        snapshots = recorder.snapshot();
+        assertEquals("[" +
+                     OFF_STATE_ID + ":" + toggleId + " 2, " +
+                     ON_STATE_ID + ":" + toggleId + " 1]",
+                     describe(snapshots));
+
+        // The delayed toggle left the Off state.
+        assertTrue((snapshots.get(0)).getMaxNanos() >=
+                   TimeUnit.MILLISECONDS.toNanos(DELAY));
+    } // end of latencyTest()
+
+    @Test
+    public void failedTransitionTest()
+        throws Exception
+    {
+        final TransitionMetricsRecorder recorder =
+            new TransitionMetricsRecorder();
+        final int jamId = (compiler()).transitionId("jam");
+
+        ((FSMContext7) mFsm).setMetrics(recorder);
+
+        // jam is not defined in the Off state.
+        send("jam");
+
+        assertEquals("[" + OFF_STATE_ID + ":" + jamId + " 1]",
+                     describe(recorder.snapshot()));
+        assertEquals(1, mFailures.size());
+        assertTrue(
+            mFailures.get(0) instanceof TransitionUndefinedException);
+        mFailures.clear();
+    } // end of failedTransitionTest()
+
+    @Test
+    public void noMetricsTest()
+        throws Exception
+    {
+        final TransitionMetricsRecorder recorder =
+            new TransitionMetricsRecorder();
+
+        ((FSMContext7) mFsm).setMetrics(recorder);
+        ((FSMContext7) mFsm).setMetrics(null);
+        send("toggle");
+
+        assertState(ON_STATE_ID);
+        assertTrue((recorder.snapshot()).isEmpty());
+    } // end of noMetricsTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Returns each snapshot as "state:transition count".
+    private static String describe(final List<Snapshot> snapshots)
+    {
+        final List<String> retval = new ArrayList<>();
+
+        for (Snapshot snapshot : snapshots)
+        {
+            retval.add(snapshot.getStateId() +
+                       ":" +
+                       snapshot.getTransitionId() +
+                       " " +
+                       snapshot.getCount());
+        }
+
+        return (retval.toString());
+    } // end of describe(List)
+} // end of MetricsTest
@@ -0,0 +1,253 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Compiles several copies of the {@code Lamp} FSM and a broken
+ * FSM serially and with {@code -j 4} and verifies that both
+ * runs generate the same files and write the same console
+ * messages in the same order.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class ParallelCompileTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    // Compile this many Lamp copies.
+    private static final int LAMP_COUNT = 6;
+
+    // The broken FSM is compiled after this many Lamp copies.
+    private static final int BROKEN_INDEX = 2;
+
+    private static final String JOBS = "4";
+
+    // An FSM missing its state's closing brace.
+    private static final String BROKEN_SOURCE =
+        "%class Broken\n" +
+        "%start Main::Idle\n" +
+        "%map Main\n" +
+        "%%\n" +
+        "Idle\n" +
+        "{\n" +
+        "    go Idle {}\n" +
+        "%%\n";
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    @Rule
+    public final TemporaryFolder mFolder = new TemporaryFolder();
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void parallelOutputTest()
+        throws Exception
+    {
+        final File dir = mFolder.newFolder();
+        final File outputDir = new File(dir, "out");
+        final List<String> files = sourceFiles(dir);
+        final Map<String, String> serialFiles;
+        final String[] serialConsole;
+        final String[] parallelConsole;
+
+        serialConsole = compile(files, outputDir);
+        serialFiles = readFiles(outputDir);
+
+        serialConsole[0] = withoutTimes(serialConsole[0]);
+        serialConsole[1] = withoutTimes(serialConsole[1]);
+
+        // Each Lamp copy is generated and the broken FSM is
+        // reported.
+        assertEquals(LAMP_COUNT, serialFiles.size());
+        assertTrue(serialConsole[1].contains("Broken"));
+
+        parallelConsole = compile(files, outputDir, Smc.JOBS_FLAG, JOBS);
+
+        assertEquals(serialFiles, readFiles(outputDir));
+        assertEquals("stdout",
+                     serialConsole[0],
+                     withoutTimes(parallelConsole[0]));
+        assertEquals("stderr",
+                     serialConsole[1],
+                     withoutTimes(parallelConsole[1]));
+    } // end of parallelOutputTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Writes the Lamp copies and the broken FSM into dir and
+    // returns their paths in compile order.
+    private static List<String> sourceFiles(final File dir)
+        throws IOException
+    {
+        final File lamp = LampCompiler.copyResource("Lamp.sm", dir);
+        final List<String> retval = new ArrayList<>();
+        File file;
+        int i;
+
+        for (i = 0; i < LAMP_COUNT; ++i)
+        {
+            if (i == BROKEN_INDEX)
+            {
+                file = new File(dir, "Broken.sm");
+                Files.write(
+                    file.toPath(),
+                    BROKEN_SOURCE.getBytes(StandardCharsets.UTF_8));
+                retval.add(file.getPath());
+            }
+
+            file = new File(dir, "Lamp" + i + ".sm");
+            Files.copy(lamp.toPath(), file.toPath());
+            retval.add(file.getPath());
+        }
+
+        return (retval);
+    } // end of sourceFiles(File)
+
+    // Compiles the files into an empty output directory with
+    // -verbose and the given options. Returns the captured
+    // standard output and standard error.
+    private static String[] compile(final List<String> files,
+                                    final File outputDir,
+                                    final String... options)
+        throws IOException
+    {
+        final PrintStream out = System.out;
+        final PrintStream err = System.err;
+        final ByteArrayOutputStream outBuffer =
+            new ByteArrayOutputStream();
+        final ByteArrayOutputStream errBuffer =
+            new ByteArrayOutputStream();
+        final List<String> args = new ArrayList<>();
+
+        clear(outputDir);
+
+        args.add("-java7");
+        args.add(Smc.VERBOSE_FLAG);
+        args.add(Smc.RETURN_FLAG);
+        for (String option : options)
+        {
+            args.add(option);
+        }
+        args.add(Smc.DIRECTORY_FLAG);
+        args.add(outputDir.getPath());
+        args.addAll(files);
+
+        System.setOut(new PrintStream(outBuffer, true, "UTF-8"));
+        System.setErr(new PrintStream(errBuffer, true, "UTF-8"));
+        try
+        {
+            Smc.main(args.toArray(new String[args.size()]));
+        }
+        finally
+        {
+            System.setOut(out);
+            System.setErr(err);
+        }
+
+        return (
+            new String[]
+            {
+                outBuffer.toString("UTF-8"),
+                errBuffer.toString("UTF-8")
+            });
+    } // end of compile(List, File, String...)
+
+    // Deletes the directory's files, creating the directory if
+    // it does not exist.
+    private static void clear(final File dir)
+        throws IOException
+    {
+        final File[] files = dir.listFiles();
+
+        if (files == null)
+        {
+            Files.createDirectories(dir.toPath());
+        }
+        else
+        {
+            for (File file : files)
+            {
+                Files.delete(file.toPath());
+            }
+        }
+
+        return;
+    } // end of clear(File)
+
+    // Returns the directory's file contents by file name.
+    private static Map<String, String> readFiles(final File dir)
+        throws IOException
+    {
+        final Map<String, String> retval = new TreeMap<>();
+
+        for (File file : dir.listFiles())
+        {
+            retval.put(
+                file.getName(),
+                new String(Files.readAllBytes(file.toPath()),
+                           StandardCharsets.UTF_8));
+        }
+
+        return (retval);
+    } // end of readFiles(File)
+
+    // Replaces the elapsed times in -verbose messages.
+    private static String withoutTimes(final String messages)
+    {
+        return (messages.replaceAll("[0-9]+ms", "Nms"));
+    } // end of withoutTimes(String)
+} // end of ParallelCompileTest
@@ -0,0 +1,238 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import static net.sf.smc.LampCompiler.INSPECT_STATE_ID;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+import statemap.FSMContext7;
+import statemap.StateSnapshot;
+import statemap.TableFSMContext;
+
+/**
+ * Writes binary state snapshots of the {@code Lamp} FSM
+ * generated with {@code -java7 -serial}, restores them into a new
+ * FSM and verifies the schema hash and the rejection of
+ * mismatched, truncated and oversized snapshots.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public class SnapshotTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    // The Lamp states in state identifier order.
+    private static final String SCHEMA =
+        "Switch::Off\nSwitch::On\nRepair::Inspect\n";
+
+    private static final long FNV_OFFSET_BASIS =
+        0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.SERIAL_FLAG });
+    } // end of options()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void schemaHashTest()
+    {
+        long hash = FNV_OFFSET_BASIS;
+        int i;
+
+        // The 64-bit FNV-1a hash of the map and state names.
+        for (i = 0; i < SCHEMA.length(); ++i)
+        {
+            hash ^= SCHEMA.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        assertEquals(hash, ((StateSnapshot) mFsm).getSchemaHash());
+    } // end of schemaHashTest()
+
+    @Test
+    public void roundTripTest()
+        throws Exception
+    {
+        final StateSnapshot fsm = (StateSnapshot) mFsm;
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        final Object lamp = (compiler()).newLamp();
+        final Object restored = LampCompiler.fsm(lamp);
+
+        send("service");
+        send("dive");
+        assertEquals(StateSnapshot.HEADER_SIZE + 8, fsm.snapshotSize());
+
+        fsm.writeTo(buffer);
+        assertEquals(fsm.snapshotSize(), buffer.position());
+        buffer.flip();
+        ((StateSnapshot) restored).readFrom(buffer);
+        assertEquals(0, buffer.remaining());
+
+        assertEquals(INSPECT_STATE_ID, LampCompiler.stateId(restored));
+        assertEquals(INSPECT_STATE_ID, previousStateId(restored));
+
+        // The restored stack pops back to Inspect and then Off.
+        LampCompiler.send(restored, "fix");
+        assertEquals(INSPECT_STATE_ID, LampCompiler.stateId(restored));
+        LampCompiler.send(restored, "fix");
+        assertEquals(OFF_STATE_ID, LampCompiler.stateId(restored));
+        assertEquals("[fix, still inspecting, fix, repaired]",
+                     (LampCompiler.log(lamp)).toString());
+
+        // An empty stack restores over a non-empty one.
+        buffer.clear();
+        ((StateSnapshot) restored).writeTo(buffer);
+        buffer.flip();
+        fsm.readFrom(buffer);
+        assertEquals(StateSnapshot.HEADER_SIZE, fsm.snapshotSize());
+        assertState(OFF_STATE_ID);
+    } // end of roundTripTest()
+
+    @Test
+    public void schemaMismatchTest()
+        throws Exception
+    {
+        final ByteBuffer buffer = snapshot();
+
+        buffer.putLong(0, ~(buffer.getLong(0)));
+        try
+        {
+            ((StateSnapshot) mFsm).readFrom(buffer);
+            fail("mismatched schema hash was accepted");
+        }
+        catch (IllegalArgumentException argex)
+        {}
+
+        assertEquals(0, buffer.position());
+        assertState(OFF_STATE_ID);
+    } // end of schemaMismatchTest()
+
+    @Test
+    public void truncatedTest()
+        throws Exception
+    {
+        final ByteBuffer buffer = snapshot();
+        final int size = buffer.limit();
+
+        // Truncated header and truncated stack.
+        truncated(buffer, StateSnapshot.HEADER_SIZE - 1);
+        truncated(buffer, size - 1);
+
+        // Nothing was read, so the whole snapshot still restores.
+        buffer.limit(size);
+        ((StateSnapshot) mFsm).readFrom(buffer);
+        assertState(INSPECT_STATE_ID);
+    } // end of truncatedTest()
+
+    @Test
+    public void overflowTest()
+        throws Exception
+    {
+        final StateSnapshot fsm = (StateSnapshot) mFsm;
+        final ByteBuffer buffer =
+            ByteBuffer.allocate(StateSnapshot.HEADER_SIZE);
+
+        send("service");
+        try
+        {
+            fsm.writeTo(buffer);
+            fail("writeTo did not overflow");
+        }
+        catch (BufferOverflowException overex)
+        {}
+
+        // Nothing was written.
+        assertEquals(0, buffer.position());
+    } // end of overflowTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Returns the snapshot of a new FSM pushed to Inspect, ready
+    // for reading.
+    private static ByteBuffer snapshot()
+        throws ReflectiveOperationException
+    {
+        final Object fsm = LampCompiler.fsm((compiler()).newLamp());
+        final ByteBuffer retval = ByteBuffer.allocate(64);
+
+        LampCompiler.send(fsm, "service");
+        ((StateSnapshot) fsm).writeTo(retval);
+        retval.flip();
+
+        return (retval);
+    } // end of snapshot()
+
+    // Verifies that reading the first size bytes of the snapshot
+    // underflows without reading or changing the FSM.
+    private void truncated(final ByteBuffer buffer, final int size)
+        throws ReflectiveOperationException
+    {
+        buffer.limit(size);
+        try
+        {
+            ((StateSnapshot) mFsm).readFrom(buffer);
+            fail(size + " byte snapshot was accepted");
+        }
+        catch (BufferUnderflowException underex)
+        {}
+
+        assertEquals(0, buffer.position());
+        assertState(OFF_STATE_ID);
+
+        return;
+    } // end of truncated(ByteBuffer, int)
+
+    // Returns the FSM's previous state identifier.
+    private static int previousStateId(final Object fsm)
+    {
+        return (fsm instanceof TableFSMContext ?
+                ((TableFSMContext) fsm).getPreviousStateId() :
+                (((FSMContext7) fsm).getPreviousState()).getId());
+    } // end of previousStateId(Object)
+} // end of SnapshotTest
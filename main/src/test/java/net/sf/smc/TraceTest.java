@@ -0,0 +1,238 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import static java.util.Arrays.asList;
+import java.util.List;
+import static net.sf.smc.LampCompiler.INSPECT_STATE_ID;
+import static net.sf.smc.LampCompiler.OFF_STATE_ID;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import statemap.FSMContext7;
+import statemap.TraceSink;
+
+/**
+ * Runs the {@code Lamp} FSM generated with {@code -java7 -g
+ * -trace} and verifies that debug output is passed to the
+ * {@link TraceSink} only when tracing is enabled for the class
+ * and debug output is on.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class TraceTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    // Enables tracing for the generated context class only.
+    private static final String TRACE_PROPERTY =
+        FSMContext7.TRACE_PROPERTY + ".smc_test.LampContext";
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (
+            new String[]
+            {
+                "-java7", Smc.DEBUG_FLAG, Smc.TRACE_FLAG
+            });
+    } // end of options()
+
+    @BeforeClass
+    public static void enableTrace()
+    {
+        System.setProperty(TRACE_PROPERTY, "true");
+        return;
+    } // end of enableTrace()
+
+    @AfterClass
+    public static void disableTrace()
+    {
+        System.clearProperty(TRACE_PROPERTY);
+        return;
+    } // end of disableTrace()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void sinkTest()
+        throws Exception
+    {
+        final List<String> events = trace(mFsm);
+        final int service = (compiler()).transitionId("service");
+        final int fix = (compiler()).transitionId("fix");
+        final int repaired = (compiler()).transitionId("repaired");
+        final int toggle = (compiler()).transitionId("toggle");
+
+        send("service");
+        send("fix");
+        send("toggle");
+
+        assertEquals(
+            asList(
+                event(TraceSink.ENTER_TRANSITION, OFF_STATE_ID, service),
+                event(TraceSink.EXIT_TRANSITION, OFF_STATE_ID, service),
+                event(TraceSink.ENTERING_STATE, OFF_STATE_ID, service),
+                event(TraceSink.PUSH_STATE, INSPECT_STATE_ID, service),
+                event(TraceSink.LEAVING_STATE, INSPECT_STATE_ID, fix),
+                event(TraceSink.ENTER_TRANSITION, INSPECT_STATE_ID, fix),
+                event(TraceSink.EXIT_TRANSITION, INSPECT_STATE_ID, fix),
+                event(TraceSink.POP_STATE, OFF_STATE_ID, fix),
+                event(TraceSink.ENTER_TRANSITION, OFF_STATE_ID, repaired),
+                event(TraceSink.EXIT_TRANSITION, OFF_STATE_ID, repaired),
+                event(TraceSink.ENTERING_STATE, OFF_STATE_ID, repaired),
+                event(TraceSink.LEAVING_STATE, OFF_STATE_ID, toggle),
+                event(TraceSink.ENTER_TRANSITION, OFF_STATE_ID, toggle),
+                event(TraceSink.EXIT_TRANSITION, OFF_STATE_ID, toggle),
+                event(TraceSink.ENTERING_STATE, ON_STATE_ID, toggle)),
+            events);
+    } // end of sinkTest()
+
+    @Test
+    public void debugFlagTest()
+        throws Exception
+    {
+        final List<String> events = trace(mFsm);
+
+        ((FSMContext7) mFsm).setDebugFlag(false);
+        send("toggle");
+
+        assertTrue(events.isEmpty());
+        assertState(ON_STATE_ID);
+    } // end of debugFlagTest()
+
+    @Test
+    public void debugStreamTest()
+        throws Exception
+    {
+        final FSMContext7 fsm = (FSMContext7) mFsm;
+        final ByteArrayOutputStream bytes =
+            new ByteArrayOutputStream();
+
+        // Without a trace sink, the events are written to the
+        // debug stream.
+        fsm.setDebugFlag(true);
+        fsm.setDebugStream(
+            new PrintStream(
+                bytes, true, (StandardCharsets.UTF_8).name()));
+        send("toggle");
+
+        assertEquals(
+            String.format("LEAVING STATE   : Switch_Off%n" +
+                          "ENTER TRANSITION: Switch_Off.toggle%n" +
+                          "EXIT TRANSITION : Switch_Off.toggle%n" +
+                          "ENTERING STATE  : Switch_On%n"),
+            new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    } // end of debugStreamTest()
+
+    @Test
+    public void disabledTest()
+        throws Exception
+    {
+        final Object lamp;
+        final Object fsm;
+        final List<String> events;
+
+        // TRACE_ENABLED is set when the generated class is
+        // loaded, so a class with tracing off is compiled apart.
+        System.clearProperty(TRACE_PROPERTY);
+        try
+        {
+            lamp =
+                (LampCompiler.compile(sFolder.newFolder(), options()))
+                    .newLamp();
+            fsm = LampCompiler.fsm(lamp);
+        }
+        finally
+        {
+            System.setProperty(TRACE_PROPERTY, "true");
+        }
+
+        events = trace(fsm);
+        LampCompiler.send(fsm, "toggle");
+
+        // Only the library's own state change is traced.
+        assertEquals(
+            asList(
+                event(TraceSink.ENTERING_STATE,
+                      ON_STATE_ID,
+                      (compiler()).transitionId("toggle"))),
+            events);
+    } // end of disabledTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Turns on debug output and returns the list to which the
+    // FSM's trace sink adds each event.
+    private static List<String> trace(final Object fsm)
+    {
+        final FSMContext7 context = (FSMContext7) fsm;
+        final List<String> retval = new ArrayList<>();
+
+        context.setDebugFlag(true);
+        context.setTraceSink(
+            new TraceSink()
+            {
+                @Override
+                public void trace(final FSMContext7 source,
+                                  final int phase,
+                                  final int stateId,
+                                  final int transitionId)
+                {
+                    retval.add(event(phase, stateId, transitionId));
+                }
+            });
+
+        return (retval);
+    } // end of trace(Object)
+
+    private static String event(final int phase,
+                                final int stateId,
+                                final int transitionId)
+    {
+        return (phase + ":" + stateId + ":" + transitionId);
+    } // end of event(int, int, int)
+} // end of TraceTest
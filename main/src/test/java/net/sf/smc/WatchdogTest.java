@@ -0,0 +1,258 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import static net.sf.smc.LampCompiler.ON_STATE_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import statemap.FSMContext7;
+import statemap.State7;
+import statemap.TransitionWatchdog;
+
+/**
+ * Runs slow and fast transitions of the {@code Lamp} FSM
+ * generated with {@code -java7 -watchdog} under a
+ * {@link TransitionWatchdog} and verifies that each slow
+ * transition is reported once and fast transitions are not
+ * reported.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class WatchdogTest
+    extends AbstractLampTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    // Report transitions running this many milliseconds.
+    private static final long THRESHOLD = 20L;
+
+    // Scan this often, so a slow transition is seen many times.
+    private static final long PERIOD = 2L;
+
+    // Slow actions take this many milliseconds.
+    private static final long DELAY = 10 * THRESHOLD;
+
+    private static final long TIMEOUT = 5L;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    // The reported transitions as "state.transition" and the
+    // FSM, elapsed time, thread and stack of each report. The
+    // listener only records the reports since it runs on the
+    // watchdog thread.
+    private final List<String> mReports = new ArrayList<>();
+    private final List<FSMContext7> mContexts = new ArrayList<>();
+    private final List<Long> mElapsed = new ArrayList<>();
+    private final List<Thread> mThreads = new ArrayList<>();
+    private final List<StackTraceElement[]> mStacks =
+        new ArrayList<>();
+
+    // Released for each report.
+    private final Semaphore mReported = new Semaphore(0);
+
+    private TransitionWatchdog mWatchdog;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    @Override
+    protected String[] options()
+    {
+        return (new String[] { "-java7", Smc.WATCHDOG_FLAG });
+    } // end of options()
+
+    @Before
+    @Override
+    public void setUp()
+        throws Exception
+    {
+        super.setUp();
+
+        mWatchdog =
+            new TransitionWatchdog(
+                THRESHOLD,
+                PERIOD,
+                new TransitionWatchdog.Listener()
+                {
+                    @Override
+                    public void slowTransition(
+                        final FSMContext7 context,
+                        final State7 state,
+                        final String transition,
+                        final long elapsed,
+                        final Thread thread,
+                        final StackTraceElement[] stack)
+                    {
+                        synchronized (mReports)
+                        {
+                            mReports.add(
+                                state.getName() + "." + transition);
+                            mContexts.add(context);
+                            mElapsed.add(elapsed);
+                            mThreads.add(thread);
+                            mStacks.add(stack);
+                        }
+
+                        mReported.release();
+                    }
+                });
+        mWatchdog.watch((FSMContext7) mFsm);
+        mWatchdog.start();
+    } // end of setUp()
+
+    @After
+    public void stopWatchdog()
+    {
+        mWatchdog.stop();
+        return;
+    } // end of stopWatchdog()
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void slowTransitionTest()
+        throws Exception
+    {
+        assertTrue(mWatchdog.isRunning());
+
+        LampCompiler.setDelay(mLamp, DELAY);
+        send("toggle");
+        send("service");
+
+        assertTrue(mReported.tryAcquire(2, TIMEOUT, TimeUnit.SECONDS));
+        assertState(ON_STATE_ID);
+
+        synchronized (mReports)
+        {
+            // Each transition is reported once, in the state in
+            // which it was issued and with the sleeping action on
+            // the issuing thread's stack.
+            assertEquals("[Switch_Off.toggle, Switch_On.service]",
+                         mReports.toString());
+            for (int i = 0; i < mThreads.size(); ++i)
+            {
+                assertSame(mFsm, mContexts.get(i));
+                assertTrue(mElapsed.get(i) >= THRESHOLD);
+                assertSame(Thread.currentThread(), mThreads.get(i));
+                assertTrue(onStack("smc_test.Lamp", mStacks.get(i)));
+            }
+        }
+    } // end of slowTransitionTest()
+
+    @Test
+    public void fastTransitionTest()
+        throws Exception
+    {
+        int i;
+
+        for (i = 0; i < 100; ++i)
+        {
+            send("toggle");
+        }
+
+        // Give the watchdog several scans.
+        Thread.sleep(DELAY);
+        mWatchdog.stop();
+        assertEquals(0, mReported.availablePermits());
+    } // end of fastTransitionTest()
+
+    @Test
+    public void unwatchTest()
+        throws Exception
+    {
+        mWatchdog.unwatch((FSMContext7) mFsm);
+        LampCompiler.setDelay(mLamp, DELAY);
+        send("toggle");
+
+        mWatchdog.stop();
+        assertEquals(0, mReported.availablePermits());
+    } // end of unwatchTest()
+
+    @Test
+    public void shortThresholdTest()
+    {
+        try
+        {
+            new TransitionWatchdog(
+                (2L * PERIOD) - 1L,
+                PERIOD,
+                new TransitionWatchdog.Listener()
+                {
+                    @Override
+                    public void slowTransition(
+                        final FSMContext7 context,
+                        final State7 state,
+                        final String transition,
+                        final long elapsed,
+                        final Thread thread,
+                        final StackTraceElement[] stack)
+                    {}
+                });
+            fail("threshold < 2 * period did not throw");
+        }
+        catch (IllegalArgumentException argex)
+        {
+            // Expected.
+        }
+    } // end of shortThresholdTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Returns true if a method of the named class is on the
+    // stack.
+    private static boolean onStack(final String className,
+                                   final StackTraceElement[] stack)
+    {
+        boolean retcode = false;
+
+        for (StackTraceElement frame : stack)
+        {
+            retcode |= className.equals(frame.getClassName());
+        }
+
+        return (retcode);
+    } // end of onStack(String, StackTraceElement[])
+} // end of WatchdogTest
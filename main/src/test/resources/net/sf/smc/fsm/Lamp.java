@@ -0,0 +1,148 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+// Name
+//  Lamp.java
+//
+// Description
+//  Owner class for the Lamp generator test FSM. Compiled by
+//  the generator tests together with the generated LampContext
+//  class.
+//
+
+package smc_test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Lamp
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    /**
+     * The {@code log} action returns this error code for the
+     * text "fail" and zero otherwise.
+     */
+    public static final int FAIL_CODE = 7;
+
+    private final LampContext mFsm;
+    private final List<String> mLog;
+    private boolean mBroken;
+    private long mDelay;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    public Lamp()
+    {
+        mFsm = new LampContext(this);
+        mLog = new ArrayList<>();
+        mBroken = false;
+        mDelay = 0L;
+    } // end of Lamp()
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    public LampContext getFsm()
+    {
+        return (mFsm);
+    } // end of getFsm()
+
+    public List<String> getLog()
+    {
+        return (mLog);
+    } // end of getLog()
+
+    public boolean isBroken()
+    {
+        return (mBroken);
+    } // end of isBroken()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Set methods.
+    //
+
+    public void setBroken(final boolean flag)
+    {
+        mBroken = flag;
+        return;
+    } // end of setBroken(boolean)
+
+    public void setDelay(final long delay)
+    {
+        mDelay = delay;
+        return;
+    } // end of setDelay(long)
+
+    //
+    // end of Set methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // FSM Actions.
+    //
+
+    public int log(final String text)
+    {
+        mLog.add(text);
+
+        // Simulates a slow action.
+        if (mDelay > 0L)
+        {
+            try
+            {
+                Thread.sleep(mDelay);
+            }
+            catch (InterruptedException interrupt)
+            {
+                (Thread.currentThread()).interrupt();
+            }
+        }
+
+        return ("fail".equals(text) ? FAIL_CODE : 0);
+    } // end of log(String)
+
+    // Issues toggle from within the current transition.
+    public int issueToggle()
+    {
+        mFsm.toggle();
+        return (0);
+    } // end of issueToggle()
+
+    // Fails the current transition.
+    public int blowFuse()
+    {
+        throw (new IllegalStateException("fuse blown"));
+    } // end of blowFuse()
+
+    //
+    // end of FSM Actions.
+    //-----------------------------------------------------------
+} // end of class Lamp
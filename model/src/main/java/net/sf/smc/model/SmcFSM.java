@@ -136,6 +136,12 @@ public final class SmcFSM
     // The state maps.
     private final List<SmcMap> mMaps;
 
+    // Use this to generate unique state IDs across all of this
+    // FSM's maps. Each FSM has its own counter so that machines
+    // parsed and generated at the same time do not take IDs
+    // from each other.
+    private int mNextStateId;
+
 //---------------------------------------------------------------
 // Member methods
 //
@@ -169,6 +175,7 @@ public final class SmcFSM
         mAccessLevel = "";
         mHeaderLine = -1;
         mMaps = new ArrayList<>();
+        mNextStateId = 0;
     } // end of SmcFSM(String)
 
     //
@@ -181,13 +188,16 @@ public final class SmcFSM
 
     /**
      * Calls the visitor's visit method for this finite state
-     * machine element.
+     * machine element. The state identifiers restart at zero, so
+     * each code generator run on this FSM numbers the states the
+     * same way.
      * @param visitor The visitor instance.
      * @see SmcVisitor
      */
     @Override
     public void accept(SmcVisitor visitor)
     {
+        mNextStateId = 0;
         visitor.visit(this);
     } // end of accept(SmcVisitor)
 
@@ -397,6 +407,22 @@ public final class SmcFSM
         return (retval);
     } // end of getTransitions()
 
+    /**
+     * Returns the next unique state identifier. Identifiers
+     * start at zero and are unique across all of this FSM's
+     * maps. They restart at zero when a visitor is
+     * {@link #accept(SmcVisitor) accepted}.
+     * @return the next unique state identifier.
+     */
+    public int getNextStateId()
+    {
+        final int retval = mNextStateId;
+
+        ++mNextStateId;
+
+        return (retval);
+    } // end of getNextStateId()
+
     public boolean hasEntryActions()
     {
         for (SmcMap map : mMaps)
@@ -61,8 +61,8 @@ public final class SmcMap
     // Statics.
     //
 
-    // Use this to generate unique state IDs. Must use a static
-    // integer to guarantee uniqueness across multiple maps.
+    // Backs the deprecated getNextStateId(). SMC itself numbers
+    // states per SmcFSM.
     private static int sStateId = 0;
 
     //-----------------------------------------------------------
@@ -420,9 +420,13 @@ public final class SmcMap
     } // end of hasExitActions()
 
     /**
-     * Returns the next unique state identifier.
+     * Returns the next unique state identifier from a counter
+     * shared by all maps.
      * @return the next unique state identifier.
+     * @deprecated State identifiers are unique per FSM only.
+     * Use {@link SmcFSM#getNextStateId()} instead.
      */
+    @Deprecated
     public static int getNextStateId()
     {
         final int retval = sStateId;
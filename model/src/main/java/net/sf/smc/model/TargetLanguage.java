@@ -137,7 +137,17 @@ public enum TargetLanguage
      * State pattern.
      * </p>
      */
-    JAVA7 ("java", "{0}Context");
+    JAVA7 ("java", "{0}Context"),
+
+    /**
+     * <a href="http://java.oracle.com">Java</a>
+     * <p>
+     * This version generates the FSM as arrays interpreted by
+     * {@code statemap.TableFSMContext}. There are no state
+     * classes or per-state transition methods.
+     * </p>
+     */
+    JAVA_TABLE ("java", "{0}Context");
 
 
 //---------------------------------------------------------------
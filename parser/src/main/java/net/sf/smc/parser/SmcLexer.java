@@ -35,11 +35,17 @@
 package net.sf.smc.parser;
 
 import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -66,6 +72,21 @@ import java.util.Map;
     private static final int READ_BUFFER_LEN =
         MAX_BUFFER_LEN + BUFFER_OFFSET;
 
+    // A UTF-8 byte order mark decodes to this character. It is
+    // skipped if it is the file's first character.
+    private static final char BYTE_ORDER_MARK = '\ufeff';
+
+    // Input which is not valid UTF-8 is read as ISO-8859-1 and
+    // the parser warns with this message.
+    /* package */ static final String MALFORMED_INPUT =
+        "Malformed UTF-8 input, read as ISO-8859-1";
+
+    // The lexer reaches the end of every source file, so the
+    // end-of-file exception is created once rather than filling
+    // in a new stack trace per file. It never leaves the lexer.
+    private static final EOFException END_OF_FILE =
+        new EOFException("end-of-file reached");
+
     // When in cooked mode, run the characters through the
     // lexer FSM.
     /* package */ static final int COOKED = 1;
@@ -128,6 +149,10 @@ import java.util.Map;
     // There are four SMC keywords: entry, exit, push and pop.
     private static final int KEYWORD_COUNT = 4;
 
+    // The longest keyword length. Longer words are not looked
+    // up in the keyword map.
+    private static final int MAX_KEYWORD_LEN = 5;
+
     // There are eight percent keywords.
     private static final int PERCENT_KEYWORD_COUNT = 9;
 
@@ -143,19 +168,49 @@ import java.util.Map;
     // The escape character.
     private static final char ESCAPE = '\\';
 
+    // The transition methods take no arguments.
+    private static final Object[] NO_ARGS = new Object[0];
+
+    // Character classes used by the table-driven scanner. A
+    // character may belong to more than one class.
+    private static final byte SPACE_CLASS = 0x01;
+    private static final byte EOL_CLASS = 0x02;
+    private static final byte WORD_START_CLASS = 0x04;
+    private static final byte WORD_CLASS = 0x08;
+    private static final byte DELIMITER_CLASS = 0x10;
+    private static final byte PERCENT_KEYWORD_CLASS = 0x20;
+
     //-----------------------------------------------------------
     // Statics.
     //
 
-    private static String[] sTypeName;
-    private static Map<String, Integer> sKeywordMap;
+    // These tables are filled in once when the class is loaded
+    // and only read after that, so they are shared by all lexer
+    // instances.
+
+    private static final String[] sTypeName;
+    private static final Map<String, Integer> sKeywordMap;
+
+    // The keywords and their token types, which the table
+    // scanner compares against the read buffer without making a
+    // string.
+    private static final char[][] sKeywords;
+    private static final int[] sKeywordTypes;
 
     // Maps % keywords to an integer value.
-    private static Map<String, Integer> sPercentKeywordMap;
+    private static final Map<String, Integer> sPercentKeywordMap;
 
     // Create an array which maps ASCII characters to
     // transitions.
-    private static Method[] sTransMethod;
+    private static final Method[] sTransMethod;
+
+    // Maps ASCII characters to their scanner character classes.
+    private static final byte[] sCharClass;
+
+    // Maps ASCII characters to the single character token they
+    // form. Set to TOKEN_NOT_SET if the character is not a
+    // token by itself.
+    private static final int[] sCharToken;
 
     static
     {
@@ -206,6 +261,16 @@ import java.util.Map;
         sKeywordMap.put("pop", SmcLexer.POP);
         sKeywordMap.put("push", SmcLexer.PUSH);
 
+        sKeywords = new char[sKeywordMap.size()][];
+        sKeywordTypes = new int[sKeywordMap.size()];
+        int keywordIndex = 0;
+        for (Map.Entry<String, Integer> entry : sKeywordMap.entrySet())
+        {
+            sKeywords[keywordIndex] = (entry.getKey()).toCharArray();
+            sKeywordTypes[keywordIndex] = entry.getValue();
+            ++keywordIndex;
+        }
+
         // Set up the percent keyword |-> token value map.
         sPercentKeywordMap = new HashMap<>(PERCENT_KEYWORD_COUNT);
         sPercentKeywordMap.put("%start", SmcLexer.START_STATE);
@@ -224,6 +289,57 @@ import java.util.Map;
         sPercentKeywordMap.put("%declare", SmcLexer.DECLARE);
         sPercentKeywordMap.put("%access", SmcLexer.ACCESS);
 
+        // Set up the scanner character classes. These mirror the
+        // transitions below.
+        sCharClass = new byte[SmcLexer.MAX_ASCII_CHAR];
+        sCharToken = new int[SmcLexer.MAX_ASCII_CHAR];
+
+        sCharClass[ 9] = SPACE_CLASS;
+        sCharClass[11] = SPACE_CLASS;
+        sCharClass[12] = SPACE_CLASS;
+        for (int i = 28; i <= 32; ++i)
+        {
+            sCharClass[i] = SPACE_CLASS;
+        }
+        sCharClass[10] = EOL_CLASS;
+        sCharClass[13] = EOL_CLASS;
+
+        for (int i = 'a'; i <= 'z'; ++i)
+        {
+            sCharClass[i] =
+                WORD_START_CLASS | WORD_CLASS | PERCENT_KEYWORD_CLASS;
+            sCharClass[i - 'a' + 'A'] = sCharClass[i];
+        }
+        for (int i = '0'; i <= '9'; ++i)
+        {
+            sCharClass[i] = WORD_CLASS;
+        }
+        sCharClass['_'] = WORD_START_CLASS | WORD_CLASS;
+        sCharClass['.'] = WORD_CLASS;
+        sCharClass['<'] = WORD_CLASS;
+        sCharClass['>'] = WORD_CLASS;
+
+        sCharToken['{'] = SmcLexer.LEFT_BRACE;
+        sCharToken['}'] = SmcLexer.RIGHT_BRACE;
+        sCharToken['['] = SmcLexer.LEFT_BRACKET;
+        sCharToken['('] = SmcLexer.LEFT_PAREN;
+        sCharToken[')'] = SmcLexer.RIGHT_PAREN;
+        sCharToken[','] = SmcLexer.COMMA;
+        sCharToken[';'] = SmcLexer.SEMICOLON;
+        sCharToken['='] = SmcLexer.EQUAL;
+        sCharToken['$'] = SmcLexer.DOLLAR;
+
+        // These characters end a word without being part of it.
+        for (int i = MIN_ASCII_CHAR; i < MAX_ASCII_CHAR; ++i)
+        {
+            if (sCharToken[i] != SmcLexer.TOKEN_NOT_SET)
+            {
+                sCharClass[i] = DELIMITER_CLASS;
+            }
+        }
+        sCharClass['/'] = DELIMITER_CLASS;
+        sCharClass['*'] = DELIMITER_CLASS;
+
         // Set up the transition map.
         sTransMethod = new Method[SmcLexer.MAX_ASCII_CHAR];
 
@@ -400,8 +516,23 @@ import java.util.Map;
     // The lexer's state map.
     private final SmcLexerContext mLexerFSM;
 
-    // The file being parsed.
-    private final InputStream mStream;
+    // Set to true when cooked tokens are scanned using the
+    // character class tables, passing characters to the lexer
+    // FSM only for rare or malformed tokens.
+    private boolean mTableFlag;
+
+    // The file being parsed, decoded as UTF-8. Will be null if
+    // the entire file was decoded into the read buffer.
+    private final Utf8Reader mReader;
+
+    // The line containing the first malformed UTF-8 input, after
+    // which the input is read as ISO-8859-1. Will be zero if the
+    // input is valid UTF-8.
+    private int mFallbackLine;
+
+    // Set until the reader fills the read buffer for the first
+    // time so that a leading byte order mark is skipped.
+    private boolean mStartFlag;
 
     // Specifies whether this lexer is in raw or cooked mode.
     private int mMode;
@@ -426,7 +557,8 @@ import java.util.Map;
     private int mLineNumber;
 
     // Read in a buffer-full of data rather than one character
-    // at a time.
+    // at a time. Contains the entire file if there is no
+    // reader.
     private final char[] mReadBuffer;
 
     // The actual number of read characters in the buffer.
@@ -466,20 +598,49 @@ import java.util.Map;
     // Constructors.
     //
 
+    // Reads the input stream a buffer-full at a time, decoding
+    // it as UTF-8.
     /* package */ SmcLexer(final InputStream stream,
                            final boolean debugFlag)
     {
-        mStream = stream;
+        this (new Input(
+                  new Utf8Reader(stream),
+                  CharBuffer.wrap(new char[READ_BUFFER_LEN], 0, 0),
+                  0),
+              debugFlag);
+    } // end of SmcLexer(InputStream, boolean)
+
+    // Reads and decodes the entire file up front. The lexer
+    // then scans a single char array and never refills it.
+    /* package */ SmcLexer(final File file,
+                           final boolean debugFlag)
+        throws IOException
+    {
+        this (readFile(file), debugFlag);
+    } // end of SmcLexer(File, boolean)
+
+    private SmcLexer(final Input input,
+                     final boolean debugFlag)
+    {
+        final CharBuffer chars = input.mChars;
+
+        mReader = input.mReader;
+        mFallbackLine = input.mFallbackLine;
+        mStartFlag = true;
         mToken = new Token();
         mTokenBuffer = new StringBuilder();
         mLineNumber = 1;
-        mReadBuffer = new char[READ_BUFFER_LEN];
-        mBufferSize = 0;
-        mReadIndex = 0;
+        mReadBuffer = chars.array();
+        mBufferSize = chars.limit();
+        mReadIndex = chars.position();
 
         mLexerFSM = new SmcLexerContext(this);
         mLexerFSM.setDebugFlag(debugFlag);
-    } // end of SmcLexer(InputStream, boolean)
+
+        // Lexer FSM debug output requires that every character
+        // pass through the FSM.
+        mTableFlag = (debugFlag == false);
+    } // end of SmcLexer(Input, boolean)
 
     //
     // end of Constructors.
@@ -495,6 +656,13 @@ import java.util.Map;
         return(mLineNumber);
     } // end of getLineNumber()
 
+    // Returns the line containing the first malformed UTF-8
+    // input or zero if the input read so far is valid UTF-8.
+    /* package */ int getFallbackLine()
+    {
+        return (mFallbackLine);
+    } // end of getFallbackLine()
+
     // Return the next token and its token name.
     /* package */ Token nextToken()
         throws IOException,
@@ -546,7 +714,8 @@ import java.util.Map;
     } // end of setRawMode(char, char)
 
     // Put the lexer in raw mode 2. This is used to collect
-    // parameter type declarations.
+    // parameter type declarations. The lists are not copied and
+    // must not be modified while in raw mode 2.
     /* package */ void setRawMode(final List<Character> openList,
                                   final List<Character> closeList,
                                   final List<Character> quoteList,
@@ -554,9 +723,9 @@ import java.util.Map;
                                   char separator)
     {
         mMode = RAW2;
-        mOpenList = new ArrayList<>(openList);
-        mCloseList = new ArrayList<>(closeList);
-        mQuoteList = new ArrayList<>(quoteList);
+        mOpenList = openList;
+        mCloseList = closeList;
+        mQuoteList = quoteList;
         mEndChar = endChar;
         mSeparator = separator;
 
@@ -580,6 +749,14 @@ import java.util.Map;
         return;
     } // end of setCookedMode()
 
+    // If true, then scan cooked tokens using the character class
+    // tables. Otherwise pass each character to the lexer FSM.
+    /* package */ void setTableScan(final boolean flag)
+    {
+        mTableFlag = flag;
+        return;
+    } // end of setTableScan(boolean)
+
     //
     // end of Set methods.
     //-----------------------------------------------------------
@@ -629,6 +806,60 @@ import java.util.Map;
         return;
     } // end of endTokne(int)
 
+    // Ends the token with the read buffer characters from start
+    // up to but not including end as its value. The token refers
+    // to the read buffer if it contains the entire file. Otherwise
+    // the buffer will be refilled and the characters are copied.
+    private void endToken(final int type,
+                          final int start,
+                          final int end)
+    {
+        mToken.setType(type);
+        if (mReader == null)
+        {
+            mToken.setValue(mReadBuffer, start, end - start);
+        }
+        else
+        {
+            mToken.setValue(
+                new String(mReadBuffer, start, end - start));
+        }
+        mStopFlag = true;
+
+        return;
+    } // end of endToken(int, int, int)
+
+    // Raw token characters are collected in the token buffer
+    // only when the read buffer may be refilled before the token
+    // ends.
+    private void appendToToken()
+    {
+        if (mReader != null)
+        {
+            mTokenBuffer.append(mCurrentChar);
+        }
+
+        return;
+    } // end of appendToToken()
+
+    // Sets the raw token value to the read buffer characters
+    // from start up to but not including end. If the file is
+    // read a buffer at a time, then the value is the collected
+    // token buffer instead.
+    private void setTokenValue(final int start, final int end)
+    {
+        if (mReader == null)
+        {
+            mToken.setValue(mReadBuffer, start, end - start);
+        }
+        else
+        {
+            mToken.setValue(mTokenBuffer.toString());
+        }
+
+        return;
+    } // end of setTokenValue(int, int)
+
     // A malformed token has been detected.
     /* package */ void badToken(final String error_msg)
     {
@@ -646,13 +877,17 @@ import java.util.Map;
     /* package */ void checkKeyword()
     {
         String tokenStr = mTokenBuffer.toString();
+        Integer keyword =
+            (tokenStr.length() <= MAX_KEYWORD_LEN ?
+             sKeywordMap.get(tokenStr) :
+             null);
 
         mToken.setValue(tokenStr);
         mStopFlag = true;
 
-        if (sKeywordMap.containsKey(tokenStr))
+        if (keyword != null)
         {
-            mToken.setType(sKeywordMap.get(tokenStr));
+            mToken.setType(keyword);
         }
         else if (tokenStr.length() > 0)
         {
@@ -709,11 +944,26 @@ import java.util.Map;
         // end-of-file is reached.
         try
         {
-            Object[] args = new Object[0];
-
             mStopFlag = false;
             while (!mStopFlag)
             {
+                // The table scanner takes over whenever the FSM
+                // is between tokens. If it cannot finish the
+                // token, then the FSM is given the next
+                // character.
+                if (mTableFlag &&
+                    mLexerFSM.isInTransition() == false &&
+                    (mLexerFSM.getState()).getId() ==
+                        SmcLexerContext.TokenMap_Start_STATE_ID)
+                {
+                    scanToken();
+
+                    if (mStopFlag)
+                    {
+                        break;
+                    }
+                }
+
                 mCurrentChar = readChar();
 
                 // If the character's integer value is greater
@@ -736,7 +986,7 @@ import java.util.Map;
 
                     // Translate character into a transition.
                     sTransMethod[mCurrentChar].invoke(mLexerFSM,
-                                                      args);
+                                                      NO_ARGS);
                 }
             }
         }
@@ -764,12 +1014,451 @@ import java.util.Map;
         return(mToken);
     } // end of nextCookedToken()
 
+    // Scans the next cooked token using the character class
+    // tables. Whitespace, comments, words, % directives, source
+    // blocks and single character tokens are consumed in tight
+    // loops over the read buffer. Sets mStopFlag if a token is
+    // found. Otherwise the next character is left unread for
+    // the lexer FSM, which is still in its start state.
+    private void scanToken()
+        throws IOException
+    {
+        boolean scanFlag = true;
+
+        while (scanFlag && skipSpace())
+        {
+            final char c = mReadBuffer[mReadIndex];
+            final int next = mReadIndex + 1;
+
+            scanFlag = false;
+
+            if (c < MAX_ASCII_CHAR &&
+                sCharToken[c] != TOKEN_NOT_SET)
+            {
+                mReadIndex = next;
+                startToken();
+                endToken(sCharToken[c], next - 1, next);
+            }
+            else if (c < MAX_ASCII_CHAR &&
+                     (sCharClass[c] & WORD_START_CLASS) != 0)
+            {
+                scanWord();
+            }
+            else if (c == '/' &&
+                     next < mBufferSize &&
+                     (mReadBuffer[next] == '*' ||
+                      mReadBuffer[next] == '/'))
+            {
+                mReadIndex = next + 1;
+                if (mReadBuffer[next] == '*')
+                {
+                    skipBlockComment();
+                }
+                else
+                {
+                    skipLineComment();
+                }
+
+                scanFlag = true;
+            }
+            else if (c == '%' && next < mBufferSize)
+            {
+                scanPercent();
+            }
+
+            // Colons, asterisks, plain slashes, unicode and
+            // malformed tokens are left to the lexer FSM.
+        }
+
+        return;
+    } // end of scanToken()
+
+    // Skips whitespace and end-of-line characters in the read
+    // buffer. Returns true if there is an unread character left
+    // in the buffer. The index and line count are kept in locals
+    // so the loop does not write to fields.
+    private boolean skipSpace()
+    {
+        final char[] buffer = mReadBuffer;
+        final int size = mBufferSize;
+        int index = mReadIndex;
+        int lineCount = 0;
+        char c;
+
+        while (index < size &&
+               (c = buffer[index]) <= ' ' &&
+               (sCharClass[c] & (SPACE_CLASS | EOL_CLASS)) != 0)
+        {
+            if (c == NEW_LINE)
+            {
+                ++lineCount;
+            }
+
+            // Indentation is the longest run of whitespace, so
+            // spaces are skipped without the class lookup.
+            for (++index;
+                 index < size && buffer[index] == ' ';
+                 ++index)
+            {
+                // Skip the space.
+            }
+        }
+
+        mReadIndex = index;
+        mLineNumber += lineCount;
+
+        return (index < size);
+    } // end of skipSpace()
+
+    // Collects a word, which may contain "::" scope operators,
+    // and checks if it is a keyword. The word must end within
+    // the read buffer on whitespace, end-of-line or a delimiter.
+    // Otherwise the read index is not moved and the FSM scans
+    // the word.
+    private void scanWord()
+    {
+        final int start = mReadIndex;
+        int end = start + 1;
+        boolean scanFlag = true;
+        char c;
+        int charClass;
+
+        while (scanFlag)
+        {
+            while (end < mBufferSize &&
+                   (c = mReadBuffer[end]) < MAX_ASCII_CHAR &&
+                   (sCharClass[c] & WORD_CLASS) != 0)
+            {
+                ++end;
+            }
+
+            scanFlag = (end + 2 < mBufferSize &&
+                        mReadBuffer[end] == ':' &&
+                        mReadBuffer[end + 1] == ':');
+            if (scanFlag)
+            {
+                end += 2;
+            }
+        }
+
+        if (end < mBufferSize)
+        {
+            c = mReadBuffer[end];
+            charClass = (c < MAX_ASCII_CHAR ? sCharClass[c] : 0);
+
+            if ((charClass &
+                 (SPACE_CLASS | EOL_CLASS | DELIMITER_CLASS)) != 0)
+            {
+                startToken();
+                endToken(WORD, start, end);
+
+                // Only words as short as a keyword are compared
+                // with the keywords.
+                if (end - start <= MAX_KEYWORD_LEN)
+                {
+                    mToken.setType(keywordType(start, end));
+                }
+
+                // Whitespace and end-of-line are consumed with
+                // the word but delimiters are tokens themselves.
+                mReadIndex = end;
+                if ((charClass & DELIMITER_CLASS) == 0)
+                {
+                    ++mReadIndex;
+                }
+
+                if (c == NEW_LINE)
+                {
+                    ++mLineNumber;
+                }
+            }
+        }
+
+        return;
+    } // end of scanWord()
+
+    // Returns the keyword token type of the read buffer word
+    // from start up to but not including end. Returns WORD if
+    // the word is not a keyword.
+    private int keywordType(final int start, final int end)
+    {
+        final int length = end - start;
+        int retval = WORD;
+        int index;
+        int offset;
+        char[] keyword;
+
+        for (index = 0;
+             index < sKeywords.length && retval == WORD;
+             ++index)
+        {
+            keyword = sKeywords[index];
+            if (keyword.length == length)
+            {
+                for (offset = 0;
+                     offset < length &&
+                         keyword[offset] ==
+                             mReadBuffer[start + offset];
+                     ++offset)
+                {
+                    // Compare until a character differs.
+                }
+
+                if (offset == length)
+                {
+                    retval = sKeywordTypes[index];
+                }
+            }
+        }
+
+        return (retval);
+    } // end of keywordType(int, int)
+
+    // Scans a %% map delimiter, a %{ %} source block or a
+    // % directive. Other uses of % are left to the FSM.
+    private void scanPercent()
+        throws IOException
+    {
+        final int start = mReadIndex;
+        final char c = mReadBuffer[start + 1];
+
+        if (c == '%')
+        {
+            mReadIndex = start + 2;
+            startToken();
+            endToken(EOD, start, start + 2);
+        }
+        else if (c == '{')
+        {
+            mReadIndex = start + 2;
+            startToken();
+            scanSource();
+        }
+        else if (c < MAX_ASCII_CHAR &&
+                 (sCharClass[c] & PERCENT_KEYWORD_CLASS) != 0)
+        {
+            int end = start + 2;
+            char e;
+
+            while (end < mBufferSize &&
+                   (e = mReadBuffer[end]) < MAX_ASCII_CHAR &&
+                   (sCharClass[e] & PERCENT_KEYWORD_CLASS) != 0)
+            {
+                ++end;
+            }
+
+            // The directive must end with whitespace or
+            // end-of-line, which is consumed. Unknown
+            // directives are left to the FSM to report.
+            if (end < mBufferSize &&
+                (e = mReadBuffer[end]) < MAX_ASCII_CHAR &&
+                (sCharClass[e] & (SPACE_CLASS | EOL_CLASS)) != 0)
+            {
+                final Integer keyword =
+                    sPercentKeywordMap.get(
+                        new String(mReadBuffer, start, end - start));
+
+                if (keyword != null)
+                {
+                    startToken();
+                    endToken(keyword, start, end);
+                    mReadIndex = end + 1;
+
+                    if (e == NEW_LINE)
+                    {
+                        ++mLineNumber;
+                    }
+                }
+            }
+        }
+
+        return;
+    } // end of scanPercent()
+
+    // Collects the source code up to the closing %}. If the
+    // entire file is in the read buffer, then the token value
+    // refers to the source code in place. Otherwise runs of
+    // characters not containing a percent are appended to the
+    // token as a block.
+    private void scanSource()
+        throws IOException
+    {
+        boolean percentFlag = false;
+        char c;
+
+        if (mReader == null)
+        {
+            final int start = mReadIndex;
+            final int last = mBufferSize - 1;
+            int index = start;
+            int lineCount = 0;
+
+            while (index < last &&
+                   ((c = mReadBuffer[index]) != '%' ||
+                    mReadBuffer[index + 1] != '}'))
+            {
+                if (c == NEW_LINE)
+                {
+                    ++lineCount;
+                }
+
+                ++index;
+            }
+
+            // The source code is not closed.
+            if (index >= last)
+            {
+                mReadIndex = mBufferSize;
+                throw (END_OF_FILE);
+            }
+
+            mReadIndex = index + 2;
+            mLineNumber += lineCount;
+            endToken(SOURCE, start, index);
+        }
+
+        while (mStopFlag == false)
+        {
+            if (percentFlag == false)
+            {
+                final int start = mReadIndex;
+                int index = start;
+                int lineCount = 0;
+
+                while (index < mBufferSize &&
+                       (c = mReadBuffer[index]) != '%')
+                {
+                    if (c == NEW_LINE)
+                    {
+                        ++lineCount;
+                    }
+
+                    ++index;
+                }
+
+                mTokenBuffer.append(mReadBuffer, start, index - start);
+                mReadIndex = index;
+                mLineNumber += lineCount;
+            }
+
+            c = readChar();
+            if (c == NEW_LINE)
+            {
+                ++mLineNumber;
+            }
+
+            if (percentFlag == false)
+            {
+                percentFlag = (c == '%');
+                if (percentFlag == false)
+                {
+                    mTokenBuffer.append(c);
+                }
+            }
+            else if (c == '}')
+            {
+                endToken(SOURCE);
+            }
+            // A %% does not end the source. Keep the first
+            // percent and look at the next character.
+            else if (c == '%')
+            {
+                mTokenBuffer.append('%');
+            }
+            else
+            {
+                mTokenBuffer.append('%');
+                mTokenBuffer.append(c);
+                percentFlag = false;
+            }
+        }
+
+        return;
+    } // end of scanSource()
+
+    // Skips a /* */ comment following the opening /* just read.
+    // Like the lexer FSM, nested /* */ comments are skipped
+    // and a // inside the comment skips to the end-of-line.
+    private void skipBlockComment()
+        throws IOException
+    {
+        int depth = 1;
+        boolean slashFlag = false;
+        boolean asteriskFlag = false;
+        char c;
+
+        while (depth > 0)
+        {
+            c = readChar();
+            if (c == NEW_LINE)
+            {
+                ++mLineNumber;
+            }
+
+            if (slashFlag)
+            {
+                slashFlag = false;
+
+                if (c == '*')
+                {
+                    ++depth;
+                }
+                else if (c == '/')
+                {
+                    skipLineComment();
+                }
+            }
+            else if (asteriskFlag)
+            {
+                if (c == '/')
+                {
+                    asteriskFlag = false;
+                    --depth;
+                }
+                else if (c != '*')
+                {
+                    asteriskFlag = false;
+                }
+            }
+            else if (c == '/')
+            {
+                slashFlag = true;
+            }
+            else if (c == '*')
+            {
+                asteriskFlag = true;
+            }
+        }
+
+        return;
+    } // end of skipBlockComment()
+
+    // Skips a // comment up to and including the end-of-line.
+    private void skipLineComment()
+        throws IOException
+    {
+        char c;
+
+        do
+        {
+            c = readChar();
+            if (c == NEW_LINE)
+            {
+                ++mLineNumber;
+            }
+        } while (c >= MAX_ASCII_CHAR ||
+                 (sCharClass[c] & EOL_CLASS) == 0);
+
+        return;
+    } // end of skipLineComment()
+
     // Keep reading in characters until the close character is
     // found.
     private Token nextRawToken()
         throws IOException
     {
         int startLine = mLineNumber;
+        int start = mReadIndex;
 
         // Clear out the token and get ready to work.
         startToken();
@@ -802,7 +1491,7 @@ import java.util.Map;
                 }
                 else
                 {
-                    mTokenBuffer.append(mCurrentChar);
+                    appendToToken();
 
                     // Only RAW and RAW2 use the concept of
                     // depth.
@@ -832,7 +1521,7 @@ import java.util.Map;
             }
 
             mToken.setType(SOURCE);
-            mToken.setValue(mTokenBuffer.toString());
+            setTokenValue(start, mReadIndex - 1);
             mToken.setLineNumber(startLine);
         }
         catch (EOFException e)
@@ -862,6 +1551,7 @@ import java.util.Map;
         throws IOException
     {
         int startLine = mLineNumber;
+        int start = mReadIndex;
 
         // Clear out the token and get ready to work.
         startToken();
@@ -891,12 +1581,12 @@ import java.util.Map;
                 }
                 else
                 {
-                    mTokenBuffer.append(mCurrentChar);
+                    appendToToken();
                 }
             }
 
             mToken.setType(SOURCE);
-            mToken.setValue(mTokenBuffer.toString());
+            setTokenValue(start, mReadIndex - 1);
             mToken.setLineNumber(startLine);
         }
         catch (EOFException e)
@@ -904,7 +1594,7 @@ import java.util.Map;
             // EOF is always a valid end-of-token marker.
             // Return what has been collected.
             mToken.setType(SOURCE);
-            mToken.setValue(mTokenBuffer.toString());
+            setTokenValue(start, mReadIndex);
             mToken.setLineNumber(startLine);
         }
 
@@ -916,6 +1606,7 @@ import java.util.Map;
         throws IOException
     {
         int startLine = mLineNumber;
+        int start = mReadIndex;
         int tokenType = SOURCE;
 
         // Clear out the token and get ready to work.
@@ -955,7 +1646,12 @@ import java.util.Map;
                 }
                 else
                 {
-                    mTokenBuffer.append(mCurrentChar);
+                    // Once an error is found, the token buffer
+                    // holds the error message.
+                    if (tokenType == SOURCE)
+                    {
+                        appendToToken();
+                    }
 
                     // Is this an escaped character?
                     if (escapeFlag)
@@ -1073,7 +1769,14 @@ import java.util.Map;
         }
 
         mToken.setType(tokenType);
-        mToken.setValue(mTokenBuffer.toString());
+        if (tokenType == SOURCE)
+        {
+            setTokenValue(start, mReadIndex);
+        }
+        else
+        {
+            mToken.setValue(mTokenBuffer.toString());
+        }
         mToken.setLineNumber(startLine);
 
         return (mToken);
@@ -1093,14 +1796,37 @@ import java.util.Map;
     {
         char retval;
 
+        // If the entire file is in the buffer, then the end of
+        // the buffer is the end of the file.
+        if (mReadIndex == mBufferSize && mReader == null)
+        {
+            throw (END_OF_FILE);
+        }
         // If we are at the end of the buffer, read the
         // next buffer-full.
-        if (mReadIndex == mBufferSize)
+        else if (mReadIndex == mBufferSize)
+        {
+            fillBuffer();
+        }
+
+        retval = mReadBuffer[mReadIndex];
+        ++mReadIndex;
+
+        return(retval);
+    } // end of readChar()
+
+    // Reads the next buffer-full from the reader. A byte order
+    // mark starting the stream is skipped. The reader decodes
+    // the stream as ISO-8859-1 from the first malformed UTF-8
+    // input on.
+    private void fillBuffer()
+        throws IOException,
+               EOFException
+    {
+        do
         {
-            int index;
             int size;
             int offset = 0;
-            int c = 0;
 
             // Copy the last two bytes to the first two bytes.
             // Why? Because the lexer can back up to two bytes.
@@ -1118,46 +1844,157 @@ import java.util.Map;
                 mReadBuffer[0] = mReadBuffer[mBufferSize - 1];
             }
 
-            for (index = offset, size = 0;
-                 size <  MAX_BUFFER_LEN;
-                 ++index, ++size)
+            size =
+                mReader.read(mReadBuffer, offset, MAX_BUFFER_LEN);
+
+            // End of file has been reached.
+            if (size < 0)
             {
-                c = mStream.read();
-                if (c < 0)
-                {
-                    break;
-                }
-                else
+                mBufferSize = 0;
+                throw (END_OF_FILE);
+            }
+
+            // The buffer's true size is the number of bytes
+            // read plus the offset.
+            mBufferSize = size + offset;
+            mReadIndex = offset;
+
+            // The reader found malformed input at the start of
+            // this buffer-full, which is on the current line.
+            if (mFallbackLine == 0 && mReader.isFallback() == true)
+            {
+                mFallbackLine = mLineNumber;
+            }
+
+            if (mStartFlag == true)
+            {
+                mStartFlag = false;
+                if (mReadBuffer[mReadIndex] == BYTE_ORDER_MARK)
                 {
-                    mReadBuffer[index] = (char) c;
+                    ++mReadIndex;
                 }
             }
+        } while (mReadIndex == mBufferSize);
 
-            // End of file has been reached.
-            if (size == 0 && c < 0)
+        return;
+    } // end of fillBuffer()
+
+    // Returns the file's contents decoded as UTF-8. The file is
+    // read with as few reads as possible and decoded in one
+    // pass. If the file is not valid UTF-8, then it is decoded
+    // again as ISO-8859-1, which decodes every byte, and the
+    // line containing the malformed input is kept for the
+    // parser's warning. A leading byte order mark is skipped.
+    private static Input readFile(final File file)
+        throws IOException
+    {
+        final CharsetDecoder decoder =
+            StandardCharsets.UTF_8.newDecoder();
+        final byte[] bytes;
+        CharBuffer decoded;
+        final CoderResult result;
+        int size = 0;
+        int fallbackLine = 0;
+
+        try (FileInputStream stream = new FileInputStream(file))
+        {
+            final long length = file.length();
+            int count;
+
+            if (length > Integer.MAX_VALUE)
             {
-                mBufferSize = 0;
-                throw (new EOFException("end-of-file reached"));
+                throw (
+                    new IOException(
+                        file + " is too large (" + length + " bytes)"));
             }
-            else
+
+            bytes = new byte[(int) length];
+            while (size < bytes.length &&
+                   (count = stream.read(
+                        bytes, size, bytes.length - size)) >= 0)
             {
-                // The buffer's true size is the number of bytes
-                // read plus the offset.
-                mBufferSize = size + offset;
-                mReadIndex = offset;
+                size += count;
             }
         }
 
-        retval = mReadBuffer[mReadIndex];
-        ++mReadIndex;
+        // UTF-8 never decodes to more chars than bytes.
+        decoded = CharBuffer.allocate(size);
+        result =
+            decoder.decode(ByteBuffer.wrap(bytes, 0, size),
+                           decoded,
+                           true);
+        if (result.isError() == true)
+        {
+            int i;
 
-        return(retval);
-    } // end of readChar()
+            // The malformed input is on the line following the
+            // last new line decoded before it.
+            fallbackLine = 1;
+            for (i = 0; i < decoded.position(); ++i)
+            {
+                if (decoded.get(i) == NEW_LINE)
+                {
+                    ++fallbackLine;
+                }
+            }
+
+            decoded =
+                StandardCharsets.ISO_8859_1.decode(
+                    ByteBuffer.wrap(bytes, 0, size));
+        }
+        else
+        {
+            decoder.flush(decoded);
+            decoded.flip();
+        }
+
+        if (decoded.hasRemaining() &&
+            decoded.get(0) == BYTE_ORDER_MARK)
+        {
+            decoded.position(1);
+        }
+
+        return (new Input(null, decoded, fallbackLine));
+    } // end of readFile(File)
 
 //---------------------------------------------------------------
 // Inner classes.
 //
 
+    // The lexer's input: a reader refilling the read buffer or
+    // the entire decoded file.
+    private static final class Input
+    {
+    //-----------------------------------------------------------
+    // Member data.
+    //
+
+        // The reader. Will be null if the entire file is in the
+        // characters.
+        private final Utf8Reader mReader;
+
+        // The read buffer's initial contents.
+        private final CharBuffer mChars;
+
+        // The line containing the first malformed UTF-8 input if
+        // the entire file was decoded as ISO-8859-1. Will be zero
+        // if there is none.
+        private final int mFallbackLine;
+
+    //-----------------------------------------------------------
+    // Member methods.
+    //
+
+        private Input(final Utf8Reader reader,
+                      final CharBuffer chars,
+                      final int fallbackLine)
+        {
+            mReader = reader;
+            mChars = chars;
+            mFallbackLine = fallbackLine;
+        } // end of Input(Utf8Reader, CharBuffer, int)
+    } // end of class Input
+
     /* package */ final class Token
     {
     //-----------------------------------------------------------
@@ -1172,6 +2009,13 @@ import java.util.Map;
         private String mValue;
         private int mLineNumber;
 
+        // The token value may be a slice of the lexer's read
+        // buffer. The value string is created when first asked
+        // for.
+        private char[] mBuffer;
+        private int mOffset;
+        private int mLength;
+
     //-----------------------------------------------------------
     // Member methods.
     //
@@ -1201,7 +2045,7 @@ import java.util.Map;
             return("{" +
                    SmcLexer.sTypeName[mType] +
                    ", " +
-                   mValue + "}");
+                   getValue() + "}");
         }
 
         //
@@ -1219,6 +2063,12 @@ import java.util.Map;
 
         /* package */ String getValue()
         {
+            if (mValue == null && mBuffer != null)
+            {
+                mValue = new String(mBuffer, mOffset, mLength);
+                mBuffer = null;
+            }
+
             return(mValue);
         }
 
@@ -1231,9 +2081,12 @@ import java.util.Map;
         {
             Token retval = new Token();
 
-            retval.setType(mType);
-            retval.setValue(mValue);
-            retval.setLineNumber(mLineNumber);
+            retval.mType = mType;
+            retval.mValue = mValue;
+            retval.mLineNumber = mLineNumber;
+            retval.mBuffer = mBuffer;
+            retval.mOffset = mOffset;
+            retval.mLength = mLength;
 
             return (retval);
         }
@@ -1261,6 +2114,19 @@ import java.util.Map;
         /* package */ void setValue(String value)
         {
             mValue = value;
+            mBuffer = null;
+        }
+
+        // The value is the given characters in buffer. The
+        // buffer must not be changed while this token is in use.
+        /* package */ void setValue(char[] buffer,
+                                    int offset,
+                                    int length)
+        {
+            mValue = null;
+            mBuffer = buffer;
+            mOffset = offset;
+            mLength = length;
         }
 
         //
@@ -1272,6 +2138,7 @@ import java.util.Map;
             mType = TOKEN_NOT_SET;
             mValue = null;
             mLineNumber = -1;
+            mBuffer = null;
         }
     } // end of class Token
 } // end of class SmcLexer
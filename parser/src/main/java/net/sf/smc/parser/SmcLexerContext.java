@@ -104,8 +104,9 @@ import java.lang.invoke.MethodType;
 import statemap.FSMContext7;
 import statemap.State7;
 import statemap.TransitionHandle;
+import statemap.StateIdStack;
 
-public final class SmcLexerContext
+public class SmcLexerContext
     extends FSMContext7
 {
 //---------------------------------------------------------------
@@ -118,12 +119,13 @@ public final class SmcLexerContext
 
     public SmcLexerContext(final SmcLexer owner)
     {
-        this (owner, _States[TokenMap_Start_STATE_ID]);
+        this (owner, sStates[TokenMap_Start_STATE_ID]);
     }
 
     public SmcLexerContext(final SmcLexer owner, final int initStateId)
     {
-        this (owner, _States[initStateId]);    }
+        this (owner, sStates[initStateId]);
+    }
 
     public SmcLexerContext(final SmcLexer owner, final State7 initState)
     {
@@ -149,15 +151,24 @@ public final class SmcLexerContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
 
         return;
     }
 
+    @Override
+    protected State7 valueOf(final int stateId)
+    {
+        return (sStates[stateId]);
+    }
+
+    @Override
+    protected StateIdStack newStateIdStack()
+    {
+        return (new StateIdStack());
+    }
+
     //
     // end of FSMContext7 Abstract Method Override.
     //-----------------------------------------------------------
@@ -169,504 +180,480 @@ public final class SmcLexerContext
     public void EOL()
     {
         mTransition = "EOL";
+        mTransitionId = EOL16_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(EOL134_TRANSITION_ID);
+                getState().transition(EOL16_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void alpha()
     {
         mTransition = "alpha";
+        mTransitionId = alpha3_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(alpha114_TRANSITION_ID);
+                getState().transition(alpha3_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void asterisk()
     {
         mTransition = "asterisk";
+        mTransitionId = asterisk18_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(asterisk117_TRANSITION_ID);
+                getState().transition(asterisk18_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void colon()
     {
         mTransition = "colon";
+        mTransitionId = colon5_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(colon126_TRANSITION_ID);
+                getState().transition(colon5_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void comma()
     {
         mTransition = "comma";
+        mTransitionId = comma11_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(comma127_TRANSITION_ID);
+                getState().transition(comma11_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void commentDone()
     {
         mTransition = "commentDone";
+        mTransitionId = commentDone19_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(commentDone62_TRANSITION_ID);
+                getState().transition(commentDone19_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void digit()
     {
         mTransition = "digit";
+        mTransitionId = digit22_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(digit115_TRANSITION_ID);
+                getState().transition(digit22_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void dollar()
     {
         mTransition = "dollar";
+        mTransitionId = dollar14_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(dollar131_TRANSITION_ID);
+                getState().transition(dollar14_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void equal()
     {
         mTransition = "equal";
+        mTransitionId = equal13_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(equal130_TRANSITION_ID);
+                getState().transition(equal13_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void gt()
     {
         mTransition = "gt";
+        mTransitionId = gt25_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(gt125_TRANSITION_ID);
+                getState().transition(gt25_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void left_brace()
     {
         mTransition = "left_brace";
+        mTransitionId = left_brace6_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(left_brace118_TRANSITION_ID);
+                getState().transition(left_brace6_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void left_bracket()
     {
         mTransition = "left_bracket";
+        mTransitionId = left_bracket8_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(left_bracket120_TRANSITION_ID);
+                getState().transition(left_bracket8_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void left_paren()
     {
         mTransition = "left_paren";
+        mTransitionId = left_paren9_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(left_paren121_TRANSITION_ID);
+                getState().transition(left_paren9_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void lt()
     {
         mTransition = "lt";
+        mTransitionId = lt24_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(lt124_TRANSITION_ID);
+                getState().transition(lt24_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void percent()
     {
         mTransition = "percent";
+        mTransitionId = percent2_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(percent112_TRANSITION_ID);
+                getState().transition(percent2_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void period()
     {
         mTransition = "period";
+        mTransitionId = period23_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(period123_TRANSITION_ID);
+                getState().transition(period23_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void right_brace()
     {
         mTransition = "right_brace";
+        mTransitionId = right_brace7_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(right_brace119_TRANSITION_ID);
+                getState().transition(right_brace7_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void right_paren()
     {
         mTransition = "right_paren";
+        mTransitionId = right_paren10_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(right_paren122_TRANSITION_ID);
+                getState().transition(right_paren10_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void semicolon()
     {
         mTransition = "semicolon";
+        mTransitionId = semicolon12_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(semicolon128_TRANSITION_ID);
+                getState().transition(semicolon12_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void slash()
     {
         mTransition = "slash";
+        mTransitionId = slash1_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(slash116_TRANSITION_ID);
+                getState().transition(slash1_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void sourceDone()
     {
         mTransition = "sourceDone";
+        mTransitionId = sourceDone21_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(sourceDone23_TRANSITION_ID);
+                getState().transition(sourceDone21_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void underscore()
     {
         mTransition = "underscore";
+        mTransitionId = underscore4_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(underscore129_TRANSITION_ID);
+                getState().transition(underscore4_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void unicode()
     {
         mTransition = "unicode";
+        mTransitionId = unicode17_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(unicode133_TRANSITION_ID);
+                getState().transition(unicode17_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void whitespace()
     {
         mTransition = "whitespace";
+        mTransitionId = whitespace15_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(whitespace132_TRANSITION_ID);
+                getState().transition(whitespace15_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
@@ -682,7 +669,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Default");
         }
@@ -691,26 +678,29 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Default.asterisk()");
             }
 
             clearState();
+            ctxt.startToken();
+            ctxt.addToToken();
             ctxt.badToken("Unknown token");
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Default.asterisk()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -727,22 +717,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: TokenMap.Start.EOL()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : TokenMap.Start.EOL()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -753,7 +727,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Start");
         }
@@ -762,7 +736,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.alpha()");
             }
@@ -771,18 +745,19 @@ public final class SmcLexerContext
             ctxt.startToken();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.alpha()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Word_STATE_ID]);
+            setState(sStates[TokenMap_Word_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -791,7 +766,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Start");
         }
@@ -800,7 +775,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.colon()");
             }
@@ -809,18 +784,19 @@ public final class SmcLexerContext
             ctxt.startToken();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.colon()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Colon_STATE_ID]);
+            setState(sStates[TokenMap_Colon_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -831,7 +807,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.comma()");
             }
@@ -841,17 +817,18 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.COMMA);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.comma()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -862,7 +839,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.dollar()");
             }
@@ -872,17 +849,18 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.DOLLAR);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.dollar()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -893,7 +871,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.equal()");
             }
@@ -903,17 +881,18 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.EQUAL);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.equal()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -924,7 +903,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.left_brace()");
             }
@@ -934,17 +913,18 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.LEFT_BRACE);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.left_brace()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -955,7 +935,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.left_bracket()");
             }
@@ -965,17 +945,18 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.LEFT_BRACKET);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.left_bracket()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -986,7 +967,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.left_paren()");
             }
@@ -996,17 +977,18 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.LEFT_PAREN);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.left_paren()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -1015,7 +997,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Start");
         }
@@ -1024,7 +1006,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.percent()");
             }
@@ -1033,18 +1015,19 @@ public final class SmcLexerContext
             ctxt.startToken();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.percent()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_PercentStart_STATE_ID]);
+            setState(sStates[TokenMap_PercentStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1055,7 +1038,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.right_brace()");
             }
@@ -1065,17 +1048,18 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.RIGHT_BRACE);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.right_brace()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -1086,7 +1070,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.right_paren()");
             }
@@ -1096,17 +1080,18 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.RIGHT_PAREN);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.right_paren()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -1117,7 +1102,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.semicolon()");
             }
@@ -1127,17 +1112,18 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.SEMICOLON);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.semicolon()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -1146,7 +1132,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Start");
         }
@@ -1155,24 +1141,28 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.slash()");
             }
 
+            clearState();
+            ctxt.startToken();
+            ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.slash()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_CommentStart_STATE_ID]);
+            setState(sStates[TokenMap_CommentStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1181,7 +1171,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Start");
         }
@@ -1190,7 +1180,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.underscore()");
             }
@@ -1199,18 +1189,19 @@ public final class SmcLexerContext
             ctxt.startToken();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.underscore()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Word_STATE_ID]);
+            setState(sStates[TokenMap_Word_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1221,7 +1212,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Start.unicode()");
             }
@@ -1232,17 +1223,18 @@ public final class SmcLexerContext
             ctxt.outputChar();
             ctxt.badToken("Unknown character");
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Start.unicode()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -1251,22 +1243,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: TokenMap.Start.whitespace()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : TokenMap.Start.whitespace()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -1285,7 +1261,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.CommentStart");
         }
@@ -1294,7 +1270,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.CommentStart.Default()");
             }
@@ -1303,18 +1279,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.endToken(SmcLexer.SLASH);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.CommentStart.Default()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1325,24 +1302,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.CommentStart.asterisk()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.CommentStart.asterisk()");
             }
         }
         finally
         {
-            pushState(_States[OldCommentMap_Start_STATE_ID]);
+            pushState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1351,7 +1329,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.CommentStart");
         }
@@ -1360,24 +1338,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.CommentStart.commentDone()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.CommentStart.commentDone()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1388,24 +1367,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.CommentStart.slash()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.CommentStart.slash()");
             }
         }
         finally
         {
-            pushState(_States[NewCommentMap_Start_STATE_ID]);
+            pushState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1422,7 +1402,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.PercentStart");
         }
@@ -1431,7 +1411,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentStart.Default()");
             }
@@ -1440,18 +1420,19 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.badToken("Unknown % directive");
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentStart.Default()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1460,7 +1441,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.PercentStart");
         }
@@ -1469,7 +1450,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentStart.alpha()");
             }
@@ -1477,18 +1458,19 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentStart.alpha()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_PercentKeyword_STATE_ID]);
+            setState(sStates[TokenMap_PercentKeyword_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1499,7 +1481,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentStart.left_brace()");
             }
@@ -1507,19 +1489,20 @@ public final class SmcLexerContext
             clearState();
             ctxt.startToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentStart.left_brace()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
-            pushState(_States[SourceMap_Start_STATE_ID]);
+            setState(sStates[stateId]);
+            pushState(sStates[SourceMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1528,7 +1511,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.PercentStart");
         }
@@ -1537,7 +1520,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentStart.percent()");
             }
@@ -1546,18 +1529,19 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.endToken(SmcLexer.EOD);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentStart.percent()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1566,7 +1550,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.PercentStart");
         }
@@ -1575,7 +1559,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentStart.right_brace()");
             }
@@ -1584,18 +1568,19 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.badToken("End-of-source appears without matching start-of-source");
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentStart.right_brace()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1604,7 +1589,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.PercentStart");
         }
@@ -1613,24 +1598,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentStart.sourceDone()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentStart.sourceDone()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1647,7 +1633,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.PercentKeyword");
         }
@@ -1656,7 +1642,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentKeyword.Default()");
             }
@@ -1665,18 +1651,19 @@ public final class SmcLexerContext
             ctxt.addToToken();
             ctxt.badToken("Unknown % directive");
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentKeyword.Default()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1685,7 +1672,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.PercentKeyword");
         }
@@ -1694,7 +1681,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentKeyword.EOL()");
             }
@@ -1702,18 +1689,19 @@ public final class SmcLexerContext
             clearState();
             ctxt.checkPercentKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentKeyword.EOL()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1724,7 +1712,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentKeyword.alpha()");
             }
@@ -1732,17 +1720,18 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentKeyword.alpha()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -1751,7 +1740,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.PercentKeyword");
         }
@@ -1760,7 +1749,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.PercentKeyword.whitespace()");
             }
@@ -1768,18 +1757,19 @@ public final class SmcLexerContext
             clearState();
             ctxt.checkPercentKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.PercentKeyword.whitespace()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1796,7 +1786,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -1805,7 +1795,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.Default()");
             }
@@ -1813,18 +1803,19 @@ public final class SmcLexerContext
             clearState();
             ctxt.badToken("Unknown token");
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.Default()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1833,7 +1824,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -1842,7 +1833,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.EOL()");
             }
@@ -1850,18 +1841,19 @@ public final class SmcLexerContext
             clearState();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.EOL()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1872,7 +1864,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.alpha()");
             }
@@ -1880,17 +1872,18 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.alpha()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -1899,7 +1892,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -1908,7 +1901,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.asterisk()");
             }
@@ -1917,18 +1910,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.asterisk()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1937,7 +1931,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -1946,24 +1940,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.colon()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.colon()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Scope_STATE_ID]);
+            setState(sStates[TokenMap_Scope_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1972,7 +1967,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -1981,7 +1976,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.comma()");
             }
@@ -1990,18 +1985,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.comma()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2012,7 +2008,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.digit()");
             }
@@ -2020,17 +2016,18 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.digit()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -2039,7 +2036,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2048,7 +2045,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.dollar()");
             }
@@ -2057,18 +2054,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.dollar()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2077,7 +2075,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2086,7 +2084,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.equal()");
             }
@@ -2095,18 +2093,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.equal()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2117,7 +2116,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.gt()");
             }
@@ -2125,17 +2124,18 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.gt()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -2144,7 +2144,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2153,7 +2153,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.left_brace()");
             }
@@ -2162,18 +2162,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.left_brace()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2182,7 +2183,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2191,7 +2192,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.left_bracket()");
             }
@@ -2200,18 +2201,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.left_bracket()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2220,7 +2222,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2229,7 +2231,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.left_paren()");
             }
@@ -2238,18 +2240,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.left_paren()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2260,7 +2263,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.lt()");
             }
@@ -2268,17 +2271,18 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.lt()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -2289,7 +2293,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.period()");
             }
@@ -2297,17 +2301,18 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.period()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -2316,7 +2321,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2325,7 +2330,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.right_brace()");
             }
@@ -2334,18 +2339,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.right_brace()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2354,7 +2360,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2363,7 +2369,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.right_paren()");
             }
@@ -2372,18 +2378,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.right_paren()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2392,7 +2399,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2401,7 +2408,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.semicolon()");
             }
@@ -2410,18 +2417,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.semicolon()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2430,7 +2438,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2439,7 +2447,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.slash()");
             }
@@ -2448,18 +2456,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.slash()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2470,7 +2479,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.underscore()");
             }
@@ -2478,17 +2487,18 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.underscore()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -2497,7 +2507,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Word");
         }
@@ -2506,7 +2516,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Word.whitespace()");
             }
@@ -2514,18 +2524,19 @@ public final class SmcLexerContext
             clearState();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Word.whitespace()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2542,7 +2553,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Scope");
         }
@@ -2551,7 +2562,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Scope.Default()");
             }
@@ -2561,18 +2572,19 @@ public final class SmcLexerContext
             ctxt.ungetChar();
             ctxt.checkKeyword();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Scope.Default()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2581,7 +2593,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Scope");
         }
@@ -2590,7 +2602,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Scope.colon()");
             }
@@ -2598,18 +2610,19 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken("::");
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Scope.colon()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Word_STATE_ID]);
+            setState(sStates[TokenMap_Word_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2626,7 +2639,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Colon");
         }
@@ -2635,7 +2648,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Colon.Default()");
             }
@@ -2645,18 +2658,19 @@ public final class SmcLexerContext
             ctxt.addToToken(":");
             ctxt.endToken(SmcLexer.COLON);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Colon.Default()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Start_STATE_ID]);
+            setState(sStates[TokenMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2665,7 +2679,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : TokenMap.Colon");
         }
@@ -2674,7 +2688,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: TokenMap.Colon.colon()");
             }
@@ -2682,18 +2696,19 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken("::");
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : TokenMap.Colon.colon()");
             }
         }
         finally
         {
-            setState(_States[TokenMap_Word_STATE_ID]);
+            setState(sStates[TokenMap_Word_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2710,7 +2725,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -2719,24 +2734,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.alpha()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.alpha()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2745,7 +2761,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -2754,24 +2770,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.digit()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.digit()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2780,7 +2797,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -2789,24 +2806,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.percent()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.percent()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2815,7 +2833,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -2824,24 +2842,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.slash()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.slash()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2850,7 +2869,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -2859,24 +2878,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.asterisk()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.asterisk()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2885,7 +2905,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -2894,24 +2914,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.left_brace()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.left_brace()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2920,7 +2941,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -2929,24 +2950,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.right_brace()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.right_brace()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2955,7 +2977,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -2964,24 +2986,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.left_bracket()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.left_bracket()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2990,7 +3013,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -2999,24 +3022,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.left_paren()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.left_paren()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3025,7 +3049,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3034,24 +3058,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.right_paren()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.right_paren()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3060,7 +3085,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3069,24 +3094,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.period()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.period()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3095,7 +3121,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3104,24 +3130,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.lt()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.lt()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3130,7 +3157,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3139,24 +3166,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.gt()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.gt()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3165,7 +3193,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3174,24 +3202,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.colon()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.colon()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3200,7 +3229,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3209,24 +3238,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.comma()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.comma()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3235,7 +3265,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3244,24 +3274,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.semicolon()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.semicolon()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3270,7 +3301,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3279,24 +3310,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.underscore()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.underscore()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3305,7 +3337,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3314,24 +3346,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.equal()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.equal()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3340,7 +3373,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3349,24 +3382,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.dollar()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.dollar()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3375,7 +3409,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3384,24 +3418,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.whitespace()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.whitespace()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3410,7 +3445,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3419,24 +3454,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.EOL()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.EOL()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3445,7 +3481,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Default");
         }
@@ -3454,24 +3490,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Default.unicode()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Default.unicode()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3488,7 +3525,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Start");
         }
@@ -3497,24 +3534,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Start.asterisk()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Start.asterisk()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_CommentEnd_STATE_ID]);
+            setState(sStates[OldCommentMap_CommentEnd_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3523,7 +3561,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.Start");
         }
@@ -3532,24 +3570,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.Start.slash()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.Start.slash()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_CommentStart_STATE_ID]);
+            setState(sStates[OldCommentMap_CommentStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3568,24 +3607,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.CommentStart.asterisk()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.CommentStart.asterisk()");
             }
         }
         finally
         {
-            pushState(_States[OldCommentMap_Start_STATE_ID]);
+            pushState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3594,7 +3634,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.CommentStart");
         }
@@ -3603,24 +3643,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.CommentStart.commentDone()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.CommentStart.commentDone()");
             }
         }
         finally
         {
-            setState(_States[OldCommentMap_Start_STATE_ID]);
+            setState(sStates[OldCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3631,24 +3672,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.CommentStart.slash()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.CommentStart.slash()");
             }
         }
         finally
         {
-            pushState(_States[NewCommentMap_Start_STATE_ID]);
+            pushState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3665,22 +3707,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: OldCommentMap.CommentEnd.asterisk()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : OldCommentMap.CommentEnd.asterisk()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -3691,7 +3717,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : OldCommentMap.CommentEnd");
         }
@@ -3700,13 +3726,13 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: OldCommentMap.CommentEnd.slash()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : OldCommentMap.CommentEnd.slash()");
             }
@@ -3719,6 +3745,7 @@ public final class SmcLexerContext
 
         commentDone();
 
+
         return;
     }
 
@@ -3735,7 +3762,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -3744,24 +3771,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.alpha()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.alpha()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3770,7 +3798,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -3779,24 +3807,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.digit()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.digit()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3805,7 +3834,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -3814,24 +3843,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.percent()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.percent()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3840,7 +3870,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -3849,24 +3879,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.slash()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.slash()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3875,7 +3906,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -3884,24 +3915,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.asterisk()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.asterisk()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3910,7 +3942,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -3919,24 +3951,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.left_brace()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.left_brace()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3945,7 +3978,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -3954,24 +3987,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.right_brace()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.right_brace()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3980,7 +4014,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -3989,24 +4023,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.left_bracket()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.left_bracket()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4015,7 +4050,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4024,24 +4059,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.left_paren()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.left_paren()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4050,7 +4086,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4059,24 +4095,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.right_paren()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.right_paren()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4085,7 +4122,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4094,24 +4131,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.period()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.period()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4120,7 +4158,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4129,24 +4167,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.lt()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.lt()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4155,7 +4194,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4164,24 +4203,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.gt()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.gt()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4190,7 +4230,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4199,24 +4239,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.colon()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.colon()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4225,7 +4266,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4234,24 +4275,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.comma()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.comma()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4260,7 +4302,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4269,24 +4311,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.semicolon()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.semicolon()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4295,7 +4338,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4304,24 +4347,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.underscore()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.underscore()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4330,7 +4374,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4339,24 +4383,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.equal()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.equal()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4365,7 +4410,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4374,24 +4419,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.dollar()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.dollar()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4400,7 +4446,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4409,24 +4455,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.whitespace()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.whitespace()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4435,7 +4482,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Default");
         }
@@ -4444,24 +4491,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Default.unicode()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Default.unicode()");
             }
         }
         finally
         {
-            setState(_States[NewCommentMap_Start_STATE_ID]);
+            setState(sStates[NewCommentMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4478,7 +4526,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : NewCommentMap.Start");
         }
@@ -4487,13 +4535,13 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: NewCommentMap.Start.EOL()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : NewCommentMap.Start.EOL()");
             }
@@ -4506,6 +4554,7 @@ public final class SmcLexerContext
 
         commentDone();
 
+
         return;
     }
 
@@ -4522,7 +4571,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : SourceMap.Start");
         }
@@ -4531,7 +4580,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: SourceMap.Start.Default()");
             }
@@ -4539,18 +4588,19 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : SourceMap.Start.Default()");
             }
         }
         finally
         {
-            setState(_States[SourceMap_Start_STATE_ID]);
+            setState(sStates[SourceMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4559,7 +4609,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : SourceMap.Start");
         }
@@ -4568,24 +4618,25 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: SourceMap.Start.percent()");
             }
 
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : SourceMap.Start.percent()");
             }
         }
         finally
         {
-            setState(_States[SourceMap_SourceEnd_STATE_ID]);
+            setState(sStates[SourceMap_SourceEnd_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4602,7 +4653,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : SourceMap.SourceEnd");
         }
@@ -4611,7 +4662,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: SourceMap.SourceEnd.Default()");
             }
@@ -4620,18 +4671,19 @@ public final class SmcLexerContext
             ctxt.addToToken("%");
             ctxt.addToToken();
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : SourceMap.SourceEnd.Default()");
             }
         }
         finally
         {
-            setState(_States[SourceMap_Start_STATE_ID]);
+            setState(sStates[SourceMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4642,7 +4694,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: SourceMap.SourceEnd.percent()");
             }
@@ -4650,17 +4702,18 @@ public final class SmcLexerContext
             clearState();
             ctxt.addToToken("%");
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : SourceMap.SourceEnd.percent()");
             }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -4669,7 +4722,7 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        if (mDebugFlag == true)
+        if (mDebugFlag)
         {
             mDebugStream.println("LEAVING STATE   : SourceMap.SourceEnd");
         }
@@ -4678,7 +4731,7 @@ public final class SmcLexerContext
 
         try
         {
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("ENTER TRANSITION: SourceMap.SourceEnd.right_brace()");
             }
@@ -4686,7 +4739,7 @@ public final class SmcLexerContext
             clearState();
             ctxt.endToken(SmcLexer.SOURCE);
 
-            if (mDebugFlag == true)
+            if (mDebugFlag)
             {
                 mDebugStream.println("EXIT TRANSITION : SourceMap.SourceEnd.right_brace()");
             }
@@ -4699,6 +4752,7 @@ public final class SmcLexerContext
 
         sourceDone();
 
+
         return;
     }
 
@@ -4715,22 +4769,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.EOL()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.EOL()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4741,22 +4779,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.alpha()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.alpha()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4767,22 +4789,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.asterisk()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.asterisk()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4793,22 +4799,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.colon()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.colon()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4819,22 +4809,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.comma()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.comma()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4845,22 +4819,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.digit()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.digit()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4871,22 +4829,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.dollar()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.dollar()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4897,22 +4839,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.equal()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.equal()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4923,22 +4849,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.gt()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.gt()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4949,22 +4859,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.left_brace()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.left_brace()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4975,22 +4869,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.left_bracket()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.left_bracket()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5001,22 +4879,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.left_paren()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.left_paren()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5027,22 +4889,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.lt()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.lt()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5053,22 +4899,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.period()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.period()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5079,22 +4909,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.right_brace()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.right_brace()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5105,22 +4919,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.right_paren()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.right_paren()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5131,22 +4929,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.semicolon()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.semicolon()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5157,22 +4939,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.slash()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.slash()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5183,22 +4949,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.underscore()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.underscore()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5209,22 +4959,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.unicode()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.unicode()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5235,22 +4969,6 @@ public final class SmcLexerContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("ENTER TRANSITION: SourceMap.NeverUsed.whitespace()");
-            }
-
-
-            if (mDebugFlag == true)
-            {
-                mDebugStream.println("EXIT TRANSITION : SourceMap.NeverUsed.whitespace()");
-            }
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5293,30 +5011,30 @@ public final class SmcLexerContext
 
     private static final int STATE_COUNT = 14;
 
-    private static final int EOL134_TRANSITION_ID = 1;
-    private static final int alpha114_TRANSITION_ID = 2;
-    private static final int asterisk117_TRANSITION_ID = 3;
-    private static final int colon126_TRANSITION_ID = 4;
-    private static final int comma127_TRANSITION_ID = 5;
-    private static final int commentDone62_TRANSITION_ID = 6;
-    private static final int digit115_TRANSITION_ID = 7;
-    private static final int dollar131_TRANSITION_ID = 8;
-    private static final int equal130_TRANSITION_ID = 9;
-    private static final int gt125_TRANSITION_ID = 10;
-    private static final int left_brace118_TRANSITION_ID = 11;
-    private static final int left_bracket120_TRANSITION_ID = 12;
-    private static final int left_paren121_TRANSITION_ID = 13;
-    private static final int lt124_TRANSITION_ID = 14;
-    private static final int percent112_TRANSITION_ID = 15;
-    private static final int period123_TRANSITION_ID = 16;
-    private static final int right_brace119_TRANSITION_ID = 17;
-    private static final int right_paren122_TRANSITION_ID = 18;
-    private static final int semicolon128_TRANSITION_ID = 19;
-    private static final int slash116_TRANSITION_ID = 20;
-    private static final int sourceDone23_TRANSITION_ID = 21;
-    private static final int underscore129_TRANSITION_ID = 22;
-    private static final int unicode133_TRANSITION_ID = 23;
-    private static final int whitespace132_TRANSITION_ID = 24;
+    private static final int EOL16_TRANSITION_ID = 1;
+    private static final int alpha3_TRANSITION_ID = 2;
+    private static final int asterisk18_TRANSITION_ID = 3;
+    private static final int colon5_TRANSITION_ID = 4;
+    private static final int comma11_TRANSITION_ID = 5;
+    private static final int commentDone19_TRANSITION_ID = 6;
+    private static final int digit22_TRANSITION_ID = 7;
+    private static final int dollar14_TRANSITION_ID = 8;
+    private static final int equal13_TRANSITION_ID = 9;
+    private static final int gt25_TRANSITION_ID = 10;
+    private static final int left_brace6_TRANSITION_ID = 11;
+    private static final int left_bracket8_TRANSITION_ID = 12;
+    private static final int left_paren9_TRANSITION_ID = 13;
+    private static final int lt24_TRANSITION_ID = 14;
+    private static final int percent2_TRANSITION_ID = 15;
+    private static final int period23_TRANSITION_ID = 16;
+    private static final int right_brace7_TRANSITION_ID = 17;
+    private static final int right_paren10_TRANSITION_ID = 18;
+    private static final int semicolon12_TRANSITION_ID = 19;
+    private static final int slash1_TRANSITION_ID = 20;
+    private static final int sourceDone21_TRANSITION_ID = 21;
+    private static final int underscore4_TRANSITION_ID = 22;
+    private static final int unicode17_TRANSITION_ID = 23;
+    private static final int whitespace15_TRANSITION_ID = 24;
 
     private static final int TRANSITION_COUNT = 25;
 
@@ -5349,45 +5067,22 @@ public final class SmcLexerContext
         NO_ARGS_TYPE
     };
 
-    private static final String[] MAP_NAMES =
-    {
-        "TokenMap",
-        "OldCommentMap",
-        "NewCommentMap",
-        "SourceMap"
-    };
-
-    private static final String[][] STATE_NAMES =
-    {
-        new String[]
-        {
-            "Start",
-            "CommentStart",
-            "PercentStart",
-            "PercentKeyword",
-            "Word",
-            "Scope",
-            "Colon"
-        },
-
-        new String[]
-        {
-            "Start",
-            "CommentStart",
-            "CommentEnd"
-        },
-
-        new String[]
-        {
-            "Start"
-        },
-
-        new String[]
-        {
-            "Start",
-            "SourceEnd",
-            "NeverUsed"
-        }
+    private static final String[] STATE_NAMES =
+    {
+        "TokenMap_Start",
+        "TokenMap_CommentStart",
+        "TokenMap_PercentStart",
+        "TokenMap_PercentKeyword",
+        "TokenMap_Word",
+        "TokenMap_Scope",
+        "TokenMap_Colon",
+        "OldCommentMap_Start",
+        "OldCommentMap_CommentStart",
+        "OldCommentMap_CommentEnd",
+        "NewCommentMap_Start",
+        "SourceMap_Start",
+        "SourceMap_SourceEnd",
+        "SourceMap_NeverUsed"
     };
 
     private static String[][] STATE_TRANSITIONS =
@@ -5568,60 +5263,376 @@ public final class SmcLexerContext
         "whitespace"
     };
 
-    private static final State7[] _States = new State7[STATE_COUNT];
+    private static final String[] TRANSITION_METHODS =
+    {
+        "defaultTransition",
+        "TokenMap_Start_EOL",
+        "TokenMap_Start_alpha",
+        "TokenMap_Default_asterisk",
+        "TokenMap_Start_colon",
+        "TokenMap_Start_comma",
+        "TokenMap_Start_dollar",
+        "TokenMap_Start_equal",
+        "TokenMap_Start_left_brace",
+        "TokenMap_Start_left_bracket",
+        "TokenMap_Start_left_paren",
+        "TokenMap_Start_percent",
+        "TokenMap_Start_right_brace",
+        "TokenMap_Start_right_paren",
+        "TokenMap_Start_semicolon",
+        "TokenMap_Start_slash",
+        "TokenMap_Start_underscore",
+        "TokenMap_Start_unicode",
+        "TokenMap_Start_whitespace",
+        "TokenMap_CommentStart_Default",
+        "TokenMap_CommentStart_asterisk",
+        "TokenMap_CommentStart_commentDone",
+        "TokenMap_CommentStart_slash",
+        "TokenMap_PercentStart_Default",
+        "TokenMap_PercentStart_alpha",
+        "TokenMap_PercentStart_left_brace",
+        "TokenMap_PercentStart_percent",
+        "TokenMap_PercentStart_right_brace",
+        "TokenMap_PercentStart_sourceDone",
+        "TokenMap_PercentKeyword_EOL",
+        "TokenMap_PercentKeyword_alpha",
+        "TokenMap_PercentKeyword_Default",
+        "TokenMap_PercentKeyword_whitespace",
+        "TokenMap_Word_EOL",
+        "TokenMap_Word_alpha",
+        "TokenMap_Word_asterisk",
+        "TokenMap_Word_colon",
+        "TokenMap_Word_comma",
+        "TokenMap_Word_Default",
+        "TokenMap_Word_digit",
+        "TokenMap_Word_dollar",
+        "TokenMap_Word_equal",
+        "TokenMap_Word_gt",
+        "TokenMap_Word_left_brace",
+        "TokenMap_Word_left_bracket",
+        "TokenMap_Word_left_paren",
+        "TokenMap_Word_lt",
+        "TokenMap_Word_period",
+        "TokenMap_Word_right_brace",
+        "TokenMap_Word_right_paren",
+        "TokenMap_Word_semicolon",
+        "TokenMap_Word_slash",
+        "TokenMap_Word_underscore",
+        "TokenMap_Word_whitespace",
+        "TokenMap_Scope_Default",
+        "TokenMap_Scope_colon",
+        "TokenMap_Colon_Default",
+        "TokenMap_Colon_colon",
+        "OldCommentMap_Default_EOL",
+        "OldCommentMap_Default_alpha",
+        "OldCommentMap_Start_asterisk",
+        "OldCommentMap_Default_colon",
+        "OldCommentMap_Default_comma",
+        "OldCommentMap_Default_digit",
+        "OldCommentMap_Default_dollar",
+        "OldCommentMap_Default_equal",
+        "OldCommentMap_Default_gt",
+        "OldCommentMap_Default_left_brace",
+        "OldCommentMap_Default_left_bracket",
+        "OldCommentMap_Default_left_paren",
+        "OldCommentMap_Default_lt",
+        "OldCommentMap_Default_percent",
+        "OldCommentMap_Default_period",
+        "OldCommentMap_Default_right_brace",
+        "OldCommentMap_Default_right_paren",
+        "OldCommentMap_Default_semicolon",
+        "OldCommentMap_Start_slash",
+        "OldCommentMap_Default_underscore",
+        "OldCommentMap_Default_unicode",
+        "OldCommentMap_Default_whitespace",
+        "OldCommentMap_CommentStart_asterisk",
+        "OldCommentMap_CommentStart_commentDone",
+        "OldCommentMap_CommentStart_slash",
+        "OldCommentMap_CommentEnd_asterisk",
+        "OldCommentMap_CommentEnd_slash",
+        "NewCommentMap_Start_EOL",
+        "NewCommentMap_Default_alpha",
+        "NewCommentMap_Default_asterisk",
+        "NewCommentMap_Default_colon",
+        "NewCommentMap_Default_comma",
+        "NewCommentMap_Default_digit",
+        "NewCommentMap_Default_dollar",
+        "NewCommentMap_Default_equal",
+        "NewCommentMap_Default_gt",
+        "NewCommentMap_Default_left_brace",
+        "NewCommentMap_Default_left_bracket",
+        "NewCommentMap_Default_left_paren",
+        "NewCommentMap_Default_lt",
+        "NewCommentMap_Default_percent",
+        "NewCommentMap_Default_period",
+        "NewCommentMap_Default_right_brace",
+        "NewCommentMap_Default_right_paren",
+        "NewCommentMap_Default_semicolon",
+        "NewCommentMap_Default_slash",
+        "NewCommentMap_Default_underscore",
+        "NewCommentMap_Default_unicode",
+        "NewCommentMap_Default_whitespace",
+        "SourceMap_Start_Default",
+        "SourceMap_Start_percent",
+        "SourceMap_SourceEnd_Default",
+        "SourceMap_SourceEnd_percent",
+        "SourceMap_SourceEnd_right_brace",
+        "SourceMap_NeverUsed_EOL",
+        "SourceMap_NeverUsed_alpha",
+        "SourceMap_NeverUsed_asterisk",
+        "SourceMap_NeverUsed_colon",
+        "SourceMap_NeverUsed_comma",
+        "SourceMap_NeverUsed_digit",
+        "SourceMap_NeverUsed_dollar",
+        "SourceMap_NeverUsed_equal",
+        "SourceMap_NeverUsed_gt",
+        "SourceMap_NeverUsed_left_brace",
+        "SourceMap_NeverUsed_left_bracket",
+        "SourceMap_NeverUsed_left_paren",
+        "SourceMap_NeverUsed_lt",
+        "SourceMap_NeverUsed_period",
+        "SourceMap_NeverUsed_right_brace",
+        "SourceMap_NeverUsed_right_paren",
+        "SourceMap_NeverUsed_semicolon",
+        "SourceMap_NeverUsed_slash",
+        "SourceMap_NeverUsed_underscore",
+        "SourceMap_NeverUsed_unicode",
+        "SourceMap_NeverUsed_whitespace"
+    };
+
+    private static final MethodType[] TRANSITION_METHOD_TYPES =
+    {
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[1],
+        TRANSITION_TYPES[2],
+        TRANSITION_TYPES[3],
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[5],
+        TRANSITION_TYPES[8],
+        TRANSITION_TYPES[9],
+        TRANSITION_TYPES[11],
+        TRANSITION_TYPES[12],
+        TRANSITION_TYPES[13],
+        TRANSITION_TYPES[15],
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[18],
+        TRANSITION_TYPES[19],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[23],
+        TRANSITION_TYPES[24],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[3],
+        TRANSITION_TYPES[6],
+        TRANSITION_TYPES[20],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[2],
+        TRANSITION_TYPES[11],
+        TRANSITION_TYPES[15],
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[21],
+        TRANSITION_TYPES[1],
+        TRANSITION_TYPES[2],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[24],
+        TRANSITION_TYPES[1],
+        TRANSITION_TYPES[2],
+        TRANSITION_TYPES[3],
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[5],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[7],
+        TRANSITION_TYPES[8],
+        TRANSITION_TYPES[9],
+        TRANSITION_TYPES[10],
+        TRANSITION_TYPES[11],
+        TRANSITION_TYPES[12],
+        TRANSITION_TYPES[13],
+        TRANSITION_TYPES[14],
+        TRANSITION_TYPES[16],
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[18],
+        TRANSITION_TYPES[19],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[24],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[4],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[1],
+        TRANSITION_TYPES[2],
+        TRANSITION_TYPES[3],
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[5],
+        TRANSITION_TYPES[7],
+        TRANSITION_TYPES[8],
+        TRANSITION_TYPES[9],
+        TRANSITION_TYPES[10],
+        TRANSITION_TYPES[11],
+        TRANSITION_TYPES[12],
+        TRANSITION_TYPES[13],
+        TRANSITION_TYPES[14],
+        TRANSITION_TYPES[15],
+        TRANSITION_TYPES[16],
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[18],
+        TRANSITION_TYPES[19],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[23],
+        TRANSITION_TYPES[24],
+        TRANSITION_TYPES[3],
+        TRANSITION_TYPES[6],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[3],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[1],
+        TRANSITION_TYPES[2],
+        TRANSITION_TYPES[3],
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[5],
+        TRANSITION_TYPES[7],
+        TRANSITION_TYPES[8],
+        TRANSITION_TYPES[9],
+        TRANSITION_TYPES[10],
+        TRANSITION_TYPES[11],
+        TRANSITION_TYPES[12],
+        TRANSITION_TYPES[13],
+        TRANSITION_TYPES[14],
+        TRANSITION_TYPES[15],
+        TRANSITION_TYPES[16],
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[18],
+        TRANSITION_TYPES[19],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[23],
+        TRANSITION_TYPES[24],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[15],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[15],
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[1],
+        TRANSITION_TYPES[2],
+        TRANSITION_TYPES[3],
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[5],
+        TRANSITION_TYPES[7],
+        TRANSITION_TYPES[8],
+        TRANSITION_TYPES[9],
+        TRANSITION_TYPES[10],
+        TRANSITION_TYPES[11],
+        TRANSITION_TYPES[12],
+        TRANSITION_TYPES[13],
+        TRANSITION_TYPES[14],
+        TRANSITION_TYPES[16],
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[18],
+        TRANSITION_TYPES[19],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[23],
+        TRANSITION_TYPES[24]
+    };
+
+    private static final String[] TRANSITION_TABLE =
+    {
+        "\0\2\4\6\10\12\1\1\14\16\1\20\22\24\1\26\1\30\32\34\36\1\40\42\44",
+        "\0\47\47\50\47\47\52\47\47\47\47\47\47\47\47\47\47\47\47\47\54\47\47\47\47",
+        "\0\57\60\6\57\57\57\57\57\57\57\62\57\57\57\64\57\66\57\57\57\70\57\57\57",
+        "\0\72\74\6\77\77\77\77\77\77\77\77\77\77\77\77\77\77\77\77\77\77\77\77\100",
+        "\0\102\104\106\110\112\115\116\120\122\124\126\130\132\134\115\136\140\142\144\146\115\150\115\152",
+        "\0\155\155\6\156\155\155\155\155\155\155\155\155\155\155\155\155\155\155\155\155\155\155\155\155",
+        "\0\161\161\6\162\161\161\161\161\161\161\161\161\161\161\161\161\161\161\161\161\161\161\161\161",
+        "\0\164\166\170\172\174\1\176\200\202\204\206\210\212\214\216\220\222\224\226\230\1\232\234\236",
+        "\0\164\166\240\172\174\242\176\200\202\204\206\210\212\214\216\220\222\224\226\244\1\232\234\236",
+        "\0\164\166\246\172\174\1\176\200\202\204\206\210\212\214\216\220\222\224\226\250\1\232\234\236",
+        "\0\252\254\256\260\262\1\264\266\270\272\274\276\300\302\304\306\310\312\314\316\1\320\322\324",
+        "\0\327\327\327\327\327\327\327\327\327\327\327\327\327\327\330\327\327\327\327\327\327\327\327\327",
+        "\0\333\333\333\333\333\333\333\333\333\333\333\333\333\333\334\333\336\333\333\333\333\333\333\333",
+        "\0\340\342\344\346\350\1\352\354\356\360\362\364\366\370\1\372\374\376\u0100\u0102\1\u0104\u0106\u0108"
+    };
+
+    private static final String[] ENTRY_METHODS =
+    {
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null
+    };
+
+    private static final String[] EXIT_METHODS =
+    {
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null
+    };
+
+    private static final State7[] sStates = new State7[STATE_COUNT];
 
     static
     {
         final Lookup lookup = MethodHandles.lookup();
         final Class<?> clazz = SmcLexerContext.class;
-        final int mapSize = MAP_NAMES.length;
-        int stateSize;
-        int mapIndex;
-        int stateIndex;
+        final TransitionHandle[] handles =
+            transitionHandles(lookup, clazz, TRANSITION_METHODS, TRANSITION_METHOD_TYPES);
+        int stateId;
         int transIndex;
-        int stateId = 0;
-        String mapName;
-        String stateName;
-        String transName;
-        String methodName;
-        MethodType transType;
+        String table;
         MethodHandle entryHandle;
         MethodHandle exitHandle;
         TransitionHandle[] transitions;
 
-        for (mapIndex = 0; mapIndex < mapSize; ++mapIndex)
+        for (stateId = 0; stateId < STATE_COUNT; ++stateId)
         {
-            mapName = MAP_NAMES[mapIndex];
-            stateSize = STATE_NAMES[mapIndex].length;
+            table = TRANSITION_TABLE[stateId];
+            transitions = new TransitionHandle[TRANSITION_COUNT];
 
-            for (stateIndex = 0; stateIndex < stateSize; ++stateIndex, ++stateId)
+            for (transIndex = 1; transIndex < TRANSITION_COUNT; ++transIndex)
             {
-                stateName = STATE_NAMES[mapIndex][stateIndex];
-                transitions = new TransitionHandle[TRANSITION_COUNT];
-
-                methodName = String.format(ENTRY_NAME, mapName, stateName);
-                entryHandle = lookupMethod(lookup, clazz, methodName, NO_ARGS_TYPE);
-                methodName = String.format(EXIT_NAME, mapName, stateName);
-                exitHandle = lookupMethod(lookup, clazz, methodName, NO_ARGS_TYPE);
-
-                for (transIndex = 1; transIndex < TRANSITION_COUNT; ++transIndex)
-                {
-                    transName = TRANSITION_NAMES[transIndex];
-                    transType = TRANSITION_TYPES[transIndex];
-                    transitions[transIndex] =
-                        lookupTransition(lookup, clazz, mapName, stateName, transName, transType);
-                }
+                transitions[transIndex] = handles[table.charAt(transIndex)];
+            }
 
-                _States[stateId] =
-                    new State7(
-                        String.format(STATE_NAME_FORMAT, mapName, stateName),
-                        stateId,
-                        entryHandle,
-                        exitHandle,
-                        transitions,
-                        STATE_TRANSITIONS[stateId]);
+            entryHandle =
+                (ENTRY_METHODS[stateId] == null ?
+                 null :
+                 lookupMethod(lookup, clazz, ENTRY_METHODS[stateId], NO_ARGS_TYPE));
+            exitHandle =
+                (EXIT_METHODS[stateId] == null ?
+                 null :
+                 lookupMethod(lookup, clazz, EXIT_METHODS[stateId], NO_ARGS_TYPE));
 
-            }
+            sStates[stateId] =
+                new State7(
+                    STATE_NAMES[stateId],
+                    stateId,
+                    entryHandle,
+                    exitHandle,
+                    transitions,
+                    STATE_TRANSITIONS[stateId]);
         }
     }
 }
@@ -34,12 +34,15 @@
 
 package net.sf.smc.parser;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -83,44 +86,35 @@ public final class SmcParser
      * one for an error code and plus another for a second
      * Java implementation.
      */
-    public static final int LANGUAGE_COUNT = 19;
+    public static final int LANGUAGE_COUNT = 20;
 
     //-----------------------------------------------------------
     // Statics.
     //
 
     // List of characters which open and clause subexpressions.
-    private static List<Character> OPEN_CLAUSE_LIST;
-    private static List<Character> CLOSE_CLAUSE_LIST;
-    private static List<Character> QUOTE_LIST;
+    // These lists are shared by every parser and lexer instance
+    // and so cannot be modified. All other parser state belongs
+    // to the parser instance.
+    private static final List<Character> OPEN_CLAUSE_LIST =
+        Collections.unmodifiableList(
+            Arrays.asList('(', '{', '[', '<'));
+    private static final List<Character> CLOSE_CLAUSE_LIST =
+        Collections.unmodifiableList(
+            Arrays.asList(')', '}', ']', '>'));
+    private static final List<Character> QUOTE_LIST =
+        Collections.unmodifiableList(Arrays.asList('"', '\''));
 
     // Create a hashmap which associates token names with
     // parser transitions. When a token is received, use this
     // table to get the appropriate transition method and
     // invoke that method.
-    private static Method[] sTransMethod;
+    private static final Method[] sTransMethod;
 
     static
     {
         String transName = "<not set>";
 
-        OPEN_CLAUSE_LIST = new ArrayList<>();
-        CLOSE_CLAUSE_LIST = new ArrayList<>();
-        QUOTE_LIST = new ArrayList<>();
-
-        OPEN_CLAUSE_LIST.add(new Character('('));
-        OPEN_CLAUSE_LIST.add(new Character('{'));
-        OPEN_CLAUSE_LIST.add(new Character('['));
-        OPEN_CLAUSE_LIST.add(new Character('<'));
-
-        CLOSE_CLAUSE_LIST.add(new Character(')'));
-        CLOSE_CLAUSE_LIST.add(new Character('}'));
-        CLOSE_CLAUSE_LIST.add(new Character(']'));
-        CLOSE_CLAUSE_LIST.add(new Character('>'));
-
-        QUOTE_LIST.add(new Character('"'));
-        QUOTE_LIST.add(new Character('\''));
-
         sTransMethod = new Method[SmcLexer.TOKEN_COUNT];
 
         try
@@ -338,8 +332,11 @@ public final class SmcParser
 
     /**
      * Creates a parser for the named FSM in the given input
-     * stream. If <code>debugFlag</code> is <code>true</code>,
-     * then the parser and lexer debug output will be generated.
+     * stream. The stream is decoded as UTF-8 up to the first
+     * malformed input and as ISO-8859-1 from there on, with a
+     * parser warning. If <code>debugFlag</code> is
+     * <code>true</code>, then the parser and lexer debug output
+     * will be generated.
      * @param name the finite state machine's name.
      * @param istream the input stream contains the SMC code.
      * @param targetLanguage Generates code for this target
@@ -350,6 +347,49 @@ public final class SmcParser
                      InputStream istream,
                      TargetLanguage targetLanguage,
                      boolean debugFlag)
+    {
+        this (name,
+              new SmcLexer(istream, debugFlag),
+              targetLanguage,
+              debugFlag);
+    } // end of SmcParser(...)
+
+    /**
+     * Creates a parser for the named FSM in the given file. The
+     * file is read and decoded as UTF-8 in one pass before
+     * parsing, so the lexer scans a single character array
+     * rather than refilling a buffer from a stream. A file which
+     * is not valid UTF-8 is decoded as ISO-8859-1 instead, with
+     * a parser warning. If
+     * <code>debugFlag</code> is <code>true</code>, then the
+     * parser and lexer debug output will be generated.
+     * @param name the finite state machine's name.
+     * @param file the file contains the SMC code.
+     * @param targetLanguage Generates code for this target
+     * language.
+     * @param debugFlag if true, turn on debug output.
+     * @exception java.io.FileNotFoundException
+     * if {@code file} does not exist or cannot be read.
+     * @exception IOException
+     * if there is a problem reading {@code file}.
+     */
+    public SmcParser(String name,
+                     File file,
+                     TargetLanguage targetLanguage,
+                     boolean debugFlag)
+        throws IOException
+    {
+        this (name,
+              new SmcLexer(file, debugFlag),
+              targetLanguage,
+              debugFlag);
+    } // end of SmcParser(String, File, ...)
+
+    // Parses the tokens returned by the given lexer.
+    /* package */ SmcParser(String name,
+                            SmcLexer lexer,
+                            TargetLanguage targetLanguage,
+                            boolean debugFlag)
     {
         mName = name;
         mTargetLanguage = targetLanguage;
@@ -357,10 +397,10 @@ public final class SmcParser
         mTransitions = new HashMap<>();
         mNextTransitionId = 1;
 
-        mLexer = new SmcLexer(istream, debugFlag);
+        mLexer = lexer;
         mParserFSM = new SmcParserContext(this);
         mParserFSM.setDebugFlag(debugFlag);
-    } // end of SmcParser(...)
+    } // end of SmcParser(String, SmcLexer, ...)
 
     //
     // Constructors.
@@ -451,6 +491,13 @@ public final class SmcParser
             }
         }
 
+        // Input which is not valid UTF-8 was read as ISO-8859-1.
+        if (mLexer.getFallbackLine() > 0)
+        {
+            warning(SmcLexer.MALFORMED_INPUT,
+                    mLexer.getFallbackLine());
+        }
+
         // If the parse failed, delete the tree.
         if (!mParseStatus)
         {
@@ -181,8 +181,9 @@ import java.lang.invoke.MethodType;
 import statemap.FSMContext7;
 import statemap.State7;
 import statemap.TransitionHandle;
+import statemap.StateIdStack;
 
-public final class SmcParserContext
+public class SmcParserContext
     extends FSMContext7
 {
 //---------------------------------------------------------------
@@ -195,12 +196,13 @@ public final class SmcParserContext
 
     public SmcParserContext(final SmcParser owner)
     {
-        this (owner, _States[ParserMap_Start_STATE_ID]);
+        this (owner, sStates[ParserMap_Start_STATE_ID]);
     }
 
     public SmcParserContext(final SmcParser owner, final int initStateId)
     {
-        this (owner, _States[initStateId]);    }
+        this (owner, sStates[initStateId]);
+    }
 
     public SmcParserContext(final SmcParser owner, final State7 initState)
     {
@@ -226,15 +228,24 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
 
         return;
     }
 
+    @Override
+    protected State7 valueOf(final int stateId)
+    {
+        return (sStates[stateId]);
+    }
+
+    @Override
+    protected StateIdStack newStateIdStack()
+    {
+        return (new StateIdStack());
+    }
+
     //
     // end of FSMContext7 Abstract Method Override.
     //-----------------------------------------------------------
@@ -246,12 +257,13 @@ public final class SmcParserContext
     public void ACCESS(SmcLexer.Token token)
     {
         mTransition = "ACCESS";
+        mTransitionId = ACCESS11_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(ACCESS42_TRANSITION_ID);
+                getState().transition(ACCESS11_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -262,24 +274,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void CLASS_NAME(SmcLexer.Token token)
     {
         mTransition = "CLASS_NAME";
+        mTransitionId = CLASS_NAME3_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(CLASS_NAME35_TRANSITION_ID);
+                getState().transition(CLASS_NAME3_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -290,24 +301,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void COLON(SmcLexer.Token token)
     {
         mTransition = "COLON";
+        mTransitionId = COLON34_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(COLON175_TRANSITION_ID);
+                getState().transition(COLON34_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -318,24 +328,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void COMMA(SmcLexer.Token token)
     {
         mTransition = "COMMA";
+        mTransitionId = COMMA32_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(COMMA199_TRANSITION_ID);
+                getState().transition(COMMA32_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -346,24 +355,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void DECLARE(SmcLexer.Token token)
     {
         mTransition = "DECLARE";
+        mTransitionId = DECLARE10_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(DECLARE41_TRANSITION_ID);
+                getState().transition(DECLARE10_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -374,24 +382,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void DOLLAR(SmcLexer.Token token)
     {
         mTransition = "DOLLAR";
+        mTransitionId = DOLLAR33_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(DOLLAR171_TRANSITION_ID);
+                getState().transition(DOLLAR33_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -402,24 +409,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void ENTRY(SmcLexer.Token token)
     {
         mTransition = "ENTRY";
+        mTransitionId = ENTRY16_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(ENTRY71_TRANSITION_ID);
+                getState().transition(ENTRY16_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -430,24 +436,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void EOD(SmcLexer.Token token)
     {
         mTransition = "EOD";
+        mTransitionId = EOD15_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(EOD59_TRANSITION_ID);
+                getState().transition(EOD15_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -458,24 +463,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void EQUAL(SmcLexer.Token token)
     {
         mTransition = "EQUAL";
+        mTransitionId = EQUAL19_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(EQUAL188_TRANSITION_ID);
+                getState().transition(EQUAL19_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -486,24 +490,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void EXIT(SmcLexer.Token token)
     {
         mTransition = "EXIT";
+        mTransitionId = EXIT17_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(EXIT72_TRANSITION_ID);
+                getState().transition(EXIT17_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -514,24 +517,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void FSM_CLASS_NAME(SmcLexer.Token token)
     {
         mTransition = "FSM_CLASS_NAME";
+        mTransitionId = FSM_CLASS_NAME4_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(FSM_CLASS_NAME36_TRANSITION_ID);
+                getState().transition(FSM_CLASS_NAME4_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -542,24 +544,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void FSM_FILE_NAME(SmcLexer.Token token)
     {
         mTransition = "FSM_FILE_NAME";
+        mTransitionId = FSM_FILE_NAME5_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(FSM_FILE_NAME37_TRANSITION_ID);
+                getState().transition(FSM_FILE_NAME5_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -570,24 +571,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void HEADER_FILE(SmcLexer.Token token)
     {
         mTransition = "HEADER_FILE";
+        mTransitionId = HEADER_FILE6_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(HEADER_FILE38_TRANSITION_ID);
+                getState().transition(HEADER_FILE6_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -598,24 +598,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void IMPORT(SmcLexer.Token token)
     {
         mTransition = "IMPORT";
+        mTransitionId = IMPORT9_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(IMPORT40_TRANSITION_ID);
+                getState().transition(IMPORT9_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -626,24 +625,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void INCLUDE_FILE(SmcLexer.Token token)
     {
         mTransition = "INCLUDE_FILE";
+        mTransitionId = INCLUDE_FILE7_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
                 getState().transition(INCLUDE_FILE7_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -654,24 +652,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void JUMP(SmcLexer.Token token)
     {
         mTransition = "JUMP";
+        mTransitionId = JUMP27_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(JUMP122_TRANSITION_ID);
+                getState().transition(JUMP27_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -682,24 +679,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void LEFT_BRACE(SmcLexer.Token token)
     {
         mTransition = "LEFT_BRACE";
+        mTransitionId = LEFT_BRACE18_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(LEFT_BRACE167_TRANSITION_ID);
+                getState().transition(LEFT_BRACE18_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -710,24 +706,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void LEFT_BRACKET(SmcLexer.Token token)
     {
         mTransition = "LEFT_BRACKET";
+        mTransitionId = LEFT_BRACKET24_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(LEFT_BRACKET113_TRANSITION_ID);
+                getState().transition(LEFT_BRACKET24_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -738,24 +733,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void LEFT_PAREN(SmcLexer.Token token)
     {
         mTransition = "LEFT_PAREN";
+        mTransitionId = LEFT_PAREN23_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(LEFT_PAREN187_TRANSITION_ID);
+                getState().transition(LEFT_PAREN23_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -766,24 +760,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void MAP_NAME(SmcLexer.Token token)
     {
         mTransition = "MAP_NAME";
+        mTransitionId = MAP_NAME12_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(MAP_NAME65_TRANSITION_ID);
+                getState().transition(MAP_NAME12_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -794,24 +787,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void PACKAGE_NAME(SmcLexer.Token token)
     {
         mTransition = "PACKAGE_NAME";
+        mTransitionId = PACKAGE_NAME8_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(PACKAGE_NAME39_TRANSITION_ID);
+                getState().transition(PACKAGE_NAME8_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -822,24 +814,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void POP(SmcLexer.Token token)
     {
         mTransition = "POP";
+        mTransitionId = POP26_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(POP121_TRANSITION_ID);
+                getState().transition(POP26_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -850,24 +841,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void PUSH(SmcLexer.Token token)
     {
         mTransition = "PUSH";
+        mTransitionId = PUSH25_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(PUSH130_TRANSITION_ID);
+                getState().transition(PUSH25_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -878,24 +868,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void RIGHT_BRACE(SmcLexer.Token token)
     {
         mTransition = "RIGHT_BRACE";
+        mTransitionId = RIGHT_BRACE22_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(RIGHT_BRACE196_TRANSITION_ID);
+                getState().transition(RIGHT_BRACE22_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -906,24 +895,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void RIGHT_PAREN(SmcLexer.Token token)
     {
         mTransition = "RIGHT_PAREN";
+        mTransitionId = RIGHT_PAREN31_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(RIGHT_PAREN200_TRANSITION_ID);
+                getState().transition(RIGHT_PAREN31_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -934,24 +922,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void SEMICOLON(SmcLexer.Token token)
     {
         mTransition = "SEMICOLON";
+        mTransitionId = SEMICOLON37_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(SEMICOLON192_TRANSITION_ID);
+                getState().transition(SEMICOLON37_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -962,24 +949,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void SLASH(SmcLexer.Token token)
     {
         mTransition = "SLASH";
+        mTransitionId = SLASH30_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(SLASH127_TRANSITION_ID);
+                getState().transition(SLASH30_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -990,24 +976,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void SOURCE(SmcLexer.Token token)
     {
         mTransition = "SOURCE";
+        mTransitionId = SOURCE1_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(SOURCE202_TRANSITION_ID);
+                getState().transition(SOURCE1_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -1018,24 +1003,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void START_STATE(SmcLexer.Token token)
     {
         mTransition = "START_STATE";
+        mTransitionId = START_STATE2_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(START_STATE34_TRANSITION_ID);
+                getState().transition(START_STATE2_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -1046,24 +1030,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void WORD(SmcLexer.Token token)
     {
         mTransition = "WORD";
+        mTransitionId = WORD14_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(WORD184_TRANSITION_ID);
+                getState().transition(WORD14_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -1074,24 +1057,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void actionsDone(List<SmcAction> actions, int lineNumber)
     {
         mTransition = "actionsDone";
+        mTransitionId = actionsDone20_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(actionsDone165_TRANSITION_ID);
+                getState().transition(actionsDone20_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -1102,45 +1084,43 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void actionsError()
     {
         mTransition = "actionsError";
+        mTransitionId = actionsError21_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(actionsError166_TRANSITION_ID);
+                getState().transition(actionsError21_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void argsDone(List<String> args)
     {
         mTransition = "argsDone";
+        mTransitionId = argsDone35_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(argsDone190_TRANSITION_ID);
+                getState().transition(argsDone35_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -1151,45 +1131,43 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void argsError()
     {
         mTransition = "argsError";
+        mTransitionId = argsError36_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(argsError191_TRANSITION_ID);
+                getState().transition(argsError36_TRANSITION_ID);
 
             (th.handle()).invokeExact(this);
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void paramsDone(List<SmcParameter> params, int lineNumber)
     {
         mTransition = "paramsDone";
+        mTransitionId = paramsDone28_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(paramsDone104_TRANSITION_ID);
+                getState().transition(paramsDone28_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -1200,24 +1178,23 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
     public void paramsError(List<SmcParameter> params, int lineNumber)
     {
         mTransition = "paramsError";
+        mTransitionId = paramsError29_TRANSITION_ID;
         try
         {
             final TransitionHandle th =
-                getState().transition(paramsError105_TRANSITION_ID);
+                getState().transition(paramsError29_TRANSITION_ID);
 
-            if (th.isDefault() == true)
+            if (th.isDefault())
             {
                 (th.handle()).invokeExact(this);
             }
@@ -1228,12 +1205,10 @@ public final class SmcParserContext
         }
         catch (Throwable tex)
         {
-            if (mDebugFlag == true)
-            {
-                tex.printStackTrace(mDebugStream);
-            }
+            transitionFailed(tex);
         }
         mTransition = "";
+        mTransitionId = NO_TRANSITION_ID;
         return;
     }
 
@@ -1249,20 +1224,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.ACCESS(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.ACCESS(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Access_STATE_ID]);
+            setState(sStates[ParserMap_Access_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1271,20 +1262,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.CLASS_NAME(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.CLASS_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Context_STATE_ID]);
+            setState(sStates[ParserMap_Context_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1293,20 +1300,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.DECLARE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.DECLARE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Declare_STATE_ID]);
+            setState(sStates[ParserMap_Declare_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1315,21 +1338,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting \"%{ source %}\", %start, or %class.", ctxt.getLineNumber());
             ctxt.setHeaderLine(ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1338,20 +1377,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.FSM_CLASS_NAME(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.FSM_CLASS_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_FsmClassName_STATE_ID]);
+            setState(sStates[ParserMap_FsmClassName_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1360,20 +1415,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.FSM_FILE_NAME(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.FSM_FILE_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_FsmFileName_STATE_ID]);
+            setState(sStates[ParserMap_FsmFileName_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1382,20 +1453,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.HEADER_FILE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.HEADER_FILE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_HeaderFile_STATE_ID]);
+            setState(sStates[ParserMap_HeaderFile_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1404,20 +1491,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.IMPORT(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.IMPORT(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Import_STATE_ID]);
+            setState(sStates[ParserMap_Import_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1426,20 +1529,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.INCLUDE_FILE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.INCLUDE_FILE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_IncludeFile_STATE_ID]);
+            setState(sStates[ParserMap_IncludeFile_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1450,33 +1569,63 @@ public final class SmcParserContext
 
         if (ctxt.isValidHeader())
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.Start.MAP_NAME(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.setHeaderLine(token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.Start.MAP_NAME(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_MapName_STATE_ID]);
+                setState(sStates[ParserMap_MapName_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.Start.MAP_NAME(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.error("%map not preceded by %start and %class.", token.getLineNumber());
                 ctxt.setHeaderLine(token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.Start.MAP_NAME(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_StartError_STATE_ID]);
+                setState(sStates[ParserMap_StartError_STATE_ID]);
             }
 
             enterState();
@@ -1490,18 +1639,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.PACKAGE_NAME(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.PACKAGE_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Package_STATE_ID]);
+            setState(sStates[ParserMap_Package_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1512,16 +1677,27 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setSource(token.getValue());
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -1530,20 +1706,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Start.START_STATE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Start.START_STATE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartState_STATE_ID]);
+            setState(sStates[ParserMap_StartState_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1560,20 +1752,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Context");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Context.Default()");
+            }
+
             clearState();
             ctxt.error("Missing name after %class.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Context.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1582,20 +1790,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Context");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Context.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setContext(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Context.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Start_STATE_ID]);
+            setState(sStates[ParserMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1612,20 +1836,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartState");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartState.Default()");
+            }
+
             clearState();
             ctxt.error("Missing state after %start.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartState.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1636,32 +1876,62 @@ public final class SmcParserContext
 
         if (ctxt.isValidStartState(token.getValue()))
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.StartState");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.StartState.WORD(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.setStartState(token.getValue());
-            }
-            finally
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.StartState.WORD(SmcLexer.Token token)");
+                }
+            }
+            finally
             {
-                setState(_States[ParserMap_Start_STATE_ID]);
+                setState(sStates[ParserMap_Start_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.StartState");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.StartState.WORD(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.error("Start state must be of the form \"map::state\".", token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.StartState.WORD(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_StartError_STATE_ID]);
+                setState(sStates[ParserMap_StartError_STATE_ID]);
             }
 
             enterState();
@@ -1701,20 +1971,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.HeaderFile");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.HeaderFile.Default()");
+            }
+
             clearState();
             ctxt.error("Missing header file after %header.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.HeaderFile.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1723,20 +2009,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.HeaderFile");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.HeaderFile.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeader(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.HeaderFile.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Start_STATE_ID]);
+            setState(sStates[ParserMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1771,20 +2073,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.IncludeFile");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.IncludeFile.Default()");
+            }
+
             clearState();
             ctxt.error("Missing include file after %include.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.IncludeFile.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1793,20 +2111,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.IncludeFile");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.IncludeFile.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addInclude(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.IncludeFile.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Start_STATE_ID]);
+            setState(sStates[ParserMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1823,20 +2157,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Package");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Package.Default()");
+            }
+
             clearState();
             ctxt.error("Missing name after %package.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Package.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1845,20 +2195,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Package");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Package.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setPackageName(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Package.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Start_STATE_ID]);
+            setState(sStates[ParserMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1875,20 +2241,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.FsmClassName");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.FsmClassName.Default()");
+            }
+
             clearState();
             ctxt.error("Missing name after %FsmClassName.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.FsmClassName.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1897,20 +2279,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.FsmClassName");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.FsmClassName.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setFsmClassName(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.FsmClassName.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Start_STATE_ID]);
+            setState(sStates[ParserMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1927,20 +2325,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.FsmFileName");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.FsmFileName.Default()");
+            }
+
             clearState();
             ctxt.error("Missing name after %FsmClassName.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.FsmFileName.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1949,20 +2363,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.FsmFileName");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.FsmFileName.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setFsmFileName(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.FsmFileName.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Start_STATE_ID]);
+            setState(sStates[ParserMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -1997,20 +2427,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Import");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Import.Default()");
+            }
+
             clearState();
             ctxt.error("Missing name after %import.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Import.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2019,20 +2465,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Import");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Import.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addImport(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Import.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Start_STATE_ID]);
+            setState(sStates[ParserMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2067,20 +2529,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Declare");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Declare.Default()");
+            }
+
             clearState();
             ctxt.error("Missing name after %declare.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Declare.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2089,20 +2567,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Declare");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Declare.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addDeclare(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Declare.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Start_STATE_ID]);
+            setState(sStates[ParserMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2137,20 +2631,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Access");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Access.Default()");
+            }
+
             clearState();
             ctxt.error("Missing access level after %access.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Access.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartError_STATE_ID]);
+            setState(sStates[ParserMap_StartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2159,20 +2669,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Access");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Access.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setAccessLevel(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Access.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Start_STATE_ID]);
+            setState(sStates[ParserMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2189,18 +2715,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.ACCESS(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.ACCESS(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Access_STATE_ID]);
+            setState(sStates[ParserMap_Access_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2209,20 +2751,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.CLASS_NAME(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.CLASS_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Context_STATE_ID]);
+            setState(sStates[ParserMap_Context_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2231,20 +2789,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.DECLARE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.DECLARE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Declare_STATE_ID]);
+            setState(sStates[ParserMap_Declare_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2253,12 +2827,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -2269,20 +2837,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.FSM_CLASS_NAME(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.FSM_CLASS_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_FsmClassName_STATE_ID]);
+            setState(sStates[ParserMap_FsmClassName_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2291,20 +2875,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.FSM_FILE_NAME(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.FSM_FILE_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_FsmFileName_STATE_ID]);
+            setState(sStates[ParserMap_FsmFileName_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2313,20 +2913,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.HEADER_FILE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.HEADER_FILE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_HeaderFile_STATE_ID]);
+            setState(sStates[ParserMap_HeaderFile_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2335,20 +2951,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.IMPORT(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.IMPORT(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Import_STATE_ID]);
+            setState(sStates[ParserMap_Import_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2359,32 +2991,62 @@ public final class SmcParserContext
 
         if (ctxt.isValidHeader())
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.MAP_NAME(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.setHeaderLine(token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.MAP_NAME(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_MapName_STATE_ID]);
+                setState(sStates[ParserMap_MapName_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.MAP_NAME(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.error("%map not preceded by %start and %class.", token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.MAP_NAME(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_StartError_STATE_ID]);
+                setState(sStates[ParserMap_StartError_STATE_ID]);
             }
 
             enterState();
@@ -2398,18 +3060,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.PACKAGE_NAME(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.PACKAGE_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Package_STATE_ID]);
+            setState(sStates[ParserMap_Package_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2418,20 +3096,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StartError.START_STATE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setHeaderLine(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StartError.START_STATE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartState_STATE_ID]);
+            setState(sStates[ParserMap_StartState_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2448,20 +3142,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapStart.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting %map.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapStart.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_MapStartError_STATE_ID]);
+            setState(sStates[ParserMap_MapStartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2470,18 +3180,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapStart.MAP_NAME(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapStart.MAP_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_MapName_STATE_ID]);
+            setState(sStates[ParserMap_MapName_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2498,12 +3224,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -2514,18 +3234,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapStartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapStartError.MAP_NAME(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapStartError.MAP_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_MapName_STATE_ID]);
+            setState(sStates[ParserMap_MapName_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2544,15 +3280,26 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapName.Default()");
+            }
+
             clearState();
             ctxt.error("Name expected after \"%map\".", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapName.Default()");
+            }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -2561,21 +3308,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapName");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapName.EOD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.error("Name expected after \"%map\".", token.getLineNumber());
             ctxt.createMap(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapName.EOD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_States_STATE_ID]);
+            setState(sStates[ParserMap_States_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2586,33 +3349,63 @@ public final class SmcParserContext
 
         if (ctxt.isDuplicateMap(token.getValue()))
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.MapName");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.MapName.WORD(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.error("Duplicate map name.", token.getLineNumber());
                 ctxt.createMap(token.getValue(), token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.MapName.WORD(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_MapStates_STATE_ID]);
+                setState(sStates[ParserMap_MapStates_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.MapName");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.MapName.WORD(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.createMap(token.getValue(), token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.MapName.WORD(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_MapStates_STATE_ID]);
+                setState(sStates[ParserMap_MapStates_STATE_ID]);
             }
 
             enterState();
@@ -2634,20 +3427,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapStates");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapStates.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting %% after \"%map mapname\".", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapStates.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_MapStatesError_STATE_ID]);
+            setState(sStates[ParserMap_MapStatesError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2656,18 +3465,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapStates");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapStates.EOD(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapStates.EOD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_States_STATE_ID]);
+            setState(sStates[ParserMap_States_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2676,21 +3501,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapStates");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapStates.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.error("Expecting %% after \"%map mapname\".", token.getLineNumber());
             ctxt.createState(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapStates.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StateStart_STATE_ID]);
+            setState(sStates[ParserMap_StateStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2707,12 +3548,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -2723,18 +3558,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapStatesError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapStatesError.EOD(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapStatesError.EOD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_States_STATE_ID]);
+            setState(sStates[ParserMap_States_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2743,20 +3594,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapStatesError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapStatesError.MAP_NAME(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addMap();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapStatesError.MAP_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_MapName_STATE_ID]);
+            setState(sStates[ParserMap_MapName_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2765,20 +3632,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.MapStatesError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.MapStatesError.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createState(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.MapStatesError.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StateStart_STATE_ID]);
+            setState(sStates[ParserMap_StateStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2797,15 +3680,26 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.States.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting either a new state definition or end of map (%%).", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.States.Default()");
+            }
         }
         finally
         {
-            setState(_States[stateId]);
+            setState(sStates[stateId]);
         }
 
 
+
         return;
     }
 
@@ -2814,21 +3708,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.States");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.States.ENTRY(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.error("Expecting either a new state definition or end of map (%%).", token.getLineNumber());
             ctxt.createState(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.States.ENTRY(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_EntryStart_STATE_ID]);
+            setState(sStates[ParserMap_EntryStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2837,20 +3747,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.States");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.States.EOD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addMap();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.States.EOD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_MapStart_STATE_ID]);
+            setState(sStates[ParserMap_MapStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2859,21 +3785,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.States");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.States.EQUAL(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.error("Expecting either a new state definition or end of map (%%).", token.getLineNumber());
             ctxt.createState(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.States.EQUAL(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Transitions_STATE_ID]);
+            setState(sStates[ParserMap_Transitions_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2882,21 +3824,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.States");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.States.EXIT(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.error("Expecting either a new state definition or end of map (%%).", token.getLineNumber());
             ctxt.createState(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.States.EXIT(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ExitStart_STATE_ID]);
+            setState(sStates[ParserMap_ExitStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2905,21 +3863,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.States");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.States.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.error("Expecting either a new state definition or end of map (%%).", token.getLineNumber());
             ctxt.createState(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.States.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Transitions_STATE_ID]);
+            setState(sStates[ParserMap_Transitions_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2928,21 +3902,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.States");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.States.MAP_NAME(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.error("Expecting \"%%\" before another \"%map\".", token.getLineNumber());
             ctxt.addMap();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.States.MAP_NAME(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_MapName_STATE_ID]);
+            setState(sStates[ParserMap_MapName_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -2953,33 +3943,63 @@ public final class SmcParserContext
 
         if (ctxt.isDuplicateState(token.getValue()))
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.States");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.States.WORD(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.error("Duplicate state name.", token.getLineNumber());
                 ctxt.createState(token.getValue(), token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.States.WORD(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_StateStart_STATE_ID]);
+                setState(sStates[ParserMap_StateStart_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.States");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.States.WORD(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.createState(token.getValue(), token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.States.WORD(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_StateStart_STATE_ID]);
+                setState(sStates[ParserMap_StateStart_STATE_ID]);
             }
 
             enterState();
@@ -3001,20 +4021,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StateStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StateStart.Default()");
+            }
+
             clearState();
             ctxt.error("After the state name is given, then either an entry action, exit action or opening brace is expected.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StateStart.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StateStartError_STATE_ID]);
+            setState(sStates[ParserMap_StateStartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3025,30 +4061,60 @@ public final class SmcParserContext
 
         if (ctxt.isDefaultState())
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.StateStart");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.StateStart.ENTRY(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.error("Default state may not have an entry action.", token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.StateStart.ENTRY(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_EntryStart_STATE_ID]);
+                setState(sStates[ParserMap_EntryStart_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.StateStart");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.StateStart.ENTRY(SmcLexer.Token token)");
+                }
+
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.StateStart.ENTRY(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_EntryStart_STATE_ID]);
+                setState(sStates[ParserMap_EntryStart_STATE_ID]);
             }
 
             enterState();
@@ -3064,30 +4130,60 @@ public final class SmcParserContext
 
         if (ctxt.isDefaultState())
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.StateStart");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.StateStart.EXIT(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.error("Default state may not have an exit action.", token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.StateStart.EXIT(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_ExitStart_STATE_ID]);
+                setState(sStates[ParserMap_ExitStart_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.StateStart");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.StateStart.EXIT(SmcLexer.Token token)");
+                }
+
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.StateStart.EXIT(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_ExitStart_STATE_ID]);
+                setState(sStates[ParserMap_ExitStart_STATE_ID]);
             }
 
             enterState();
@@ -3101,18 +4197,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StateStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StateStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StateStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Transitions_STATE_ID]);
+            setState(sStates[ParserMap_Transitions_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3129,12 +4241,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -3145,18 +4251,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StateStartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StateStartError.ENTRY(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StateStartError.ENTRY(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_EntryStart_STATE_ID]);
+            setState(sStates[ParserMap_EntryStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3165,18 +4287,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StateStartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StateStartError.EXIT(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StateStartError.EXIT(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ExitStart_STATE_ID]);
+            setState(sStates[ParserMap_ExitStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3185,18 +4323,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.StateStartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.StateStartError.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.StateStartError.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Transitions_STATE_ID]);
+            setState(sStates[ParserMap_Transitions_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3213,20 +4367,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.EntryStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EntryStart.Default()");
+            }
+
             clearState();
             ctxt.error("An opening brace is expected after Entry.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EntryStart.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StateStartError_STATE_ID]);
+            setState(sStates[ParserMap_StateStartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3237,18 +4407,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EntryStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EntryStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_EntryEnd_STATE_ID]);
+            setState(sStates[ParserMap_EntryEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3265,20 +4446,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.EntryEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EntryEnd.actionsDone(List<SmcAction> actions, int lineNumber)");
+            }
+
             clearState();
             ctxt.setEntryAction(actions);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EntryEnd.actionsDone(List<SmcAction> actions, int lineNumber)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StateStart_STATE_ID]);
+            setState(sStates[ParserMap_StateStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3287,18 +4484,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.EntryEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EntryEnd.actionsError()");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EntryEnd.actionsError()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StartState_STATE_ID]);
+            setState(sStates[ParserMap_StartState_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3315,20 +4528,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.ExitStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.ExitStart.Default()");
+            }
+
             clearState();
             ctxt.error("A opening brace is expected after Exit.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.ExitStart.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StateStartError_STATE_ID]);
+            setState(sStates[ParserMap_StateStartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3339,18 +4568,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.ExitStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.ExitStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ExitEnd_STATE_ID]);
+            setState(sStates[ParserMap_ExitEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3367,20 +4607,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.ExitEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.ExitEnd.actionsDone(List<SmcAction> actions, int lineNumber)");
+            }
+
             clearState();
             ctxt.setExitAction(actions);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.ExitEnd.actionsDone(List<SmcAction> actions, int lineNumber)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StateStart_STATE_ID]);
+            setState(sStates[ParserMap_StateStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3389,18 +4645,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.ExitEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.ExitEnd.actionsError()");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.ExitEnd.actionsError()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_StateStart_STATE_ID]);
+            setState(sStates[ParserMap_StateStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3417,20 +4689,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Transitions");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Transitions.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting either a new transition or a closing brace.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Transitions.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransError_STATE_ID]);
+            setState(sStates[ParserMap_TransError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3439,20 +4727,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Transitions");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Transitions.RIGHT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addState();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Transitions.RIGHT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_States_STATE_ID]);
+            setState(sStates[ParserMap_States_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3461,20 +4765,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.Transitions");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.Transitions.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.storeTransitionName(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.Transitions.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransStart_STATE_ID]);
+            setState(sStates[ParserMap_TransStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3491,12 +4811,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -3507,20 +4821,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransError.RIGHT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addState();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransError.RIGHT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_States_STATE_ID]);
+            setState(sStates[ParserMap_States_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3529,20 +4859,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransError.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.storeTransitionName(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransError.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransStart_STATE_ID]);
+            setState(sStates[ParserMap_TransStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3559,21 +4905,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStart.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting either a guard, \"push\", \"pop\", \"jump\" or end state.", ctxt.getLineNumber());
             ctxt.createTransition(ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStart.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransStartError_STATE_ID]);
+            setState(sStates[ParserMap_TransStartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3582,22 +4944,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStart.JUMP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createTransition(token.getLineNumber());
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_SET);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStart.JUMP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpStart_STATE_ID]);
+            setState(sStates[ParserMap_JumpStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3606,20 +4984,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStart.LEFT_BRACKET(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createTransition(token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStart.LEFT_BRACKET(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransGuard_STATE_ID]);
+            setState(sStates[ParserMap_TransGuard_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3630,16 +5024,27 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStart.LEFT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStart.LEFT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransParams_STATE_ID]);
+            setState(sStates[ParserMap_TransParams_STATE_ID]);
             enterState();
-            pushState(_States[ParamMap_Start_STATE_ID]);
+            pushState(sStates[ParamMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3648,22 +5053,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStart.POP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createTransition(token.getLineNumber());
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_POP);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStart.POP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopStart_STATE_ID]);
+            setState(sStates[ParserMap_PopStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3672,23 +5093,39 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStart.PUSH(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createTransition(token.getLineNumber());
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_PUSH);
             ctxt.setEndState("nil");
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStart.PUSH(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushStart_STATE_ID]);
+            setState(sStates[ParserMap_PushStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3697,23 +5134,39 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStart.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createTransition(token.getLineNumber());
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_SET);
             ctxt.setEndState(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStart.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_SimpleTrans_STATE_ID]);
+            setState(sStates[ParserMap_SimpleTrans_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3730,12 +5183,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -3746,22 +5193,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStartError.JUMP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_SET);
             ctxt.setEndState("nil");
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStartError.JUMP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpStart_STATE_ID]);
+            setState(sStates[ParserMap_JumpStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3772,21 +5235,32 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStartError.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_SET);
             ctxt.setEndState("End state missing");
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStartError.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionEnd_STATE_ID]);
+            setState(sStates[ParserMap_ActionEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3795,18 +5269,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStartError.LEFT_BRACKET(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStartError.LEFT_BRACKET(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransGuard_STATE_ID]);
+            setState(sStates[ParserMap_TransGuard_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3817,16 +5307,27 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStartError.LEFT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStartError.LEFT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransParams_STATE_ID]);
+            setState(sStates[ParserMap_TransParams_STATE_ID]);
             enterState();
-            pushState(_States[ParamMap_Start_STATE_ID]);
+            pushState(sStates[ParamMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3835,21 +5336,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStartError.POP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_POP);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStartError.POP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopStart_STATE_ID]);
+            setState(sStates[ParserMap_PopStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3858,22 +5375,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStartError.PUSH(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_PUSH);
             ctxt.setEndState("nil");
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStartError.PUSH(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushStart_STATE_ID]);
+            setState(sStates[ParserMap_PushStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3882,21 +5415,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransStartError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransStartError.RIGHT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addGuard();
             ctxt.addTransition();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransStartError.RIGHT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Transitions_STATE_ID]);
+            setState(sStates[ParserMap_Transitions_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3916,33 +5465,63 @@ public final class SmcParserContext
         if (ctxt.getTransitionName().equalsIgnoreCase("Default") &&
        !params.isEmpty())
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.TransParams");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.TransParams.paramsDone(List<SmcParameter> params, int lineNumber)");
+                }
+
                 clearState();
                 ctxt.error("Default transitions may not have parameters.", lineNumber);
                 ctxt.createTransition(params, lineNumber);
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.TransParams.paramsDone(List<SmcParameter> params, int lineNumber)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_TransNext_STATE_ID]);
+                setState(sStates[ParserMap_TransNext_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParserMap.TransParams");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParserMap.TransParams.paramsDone(List<SmcParameter> params, int lineNumber)");
+                }
+
                 clearState();
                 ctxt.createTransition(params, lineNumber);
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParserMap.TransParams.paramsDone(List<SmcParameter> params, int lineNumber)");
+                }
             }
             finally
             {
-                setState(_States[ParserMap_TransNext_STATE_ID]);
+                setState(sStates[ParserMap_TransNext_STATE_ID]);
             }
 
             enterState();
@@ -3956,20 +5535,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransParams");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransParams.paramsError(List<SmcParameter> params, int lineNumber)");
+            }
+
             clearState();
             ctxt.createTransition(params, lineNumber);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransParams.paramsError(List<SmcParameter> params, int lineNumber)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransNext_STATE_ID]);
+            setState(sStates[ParserMap_TransNext_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -3986,20 +5581,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNext");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNext.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting either a guard, \"push\", \"pop\", \"jump\" or end state.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNext.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransNextError_STATE_ID]);
+            setState(sStates[ParserMap_TransNextError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4008,22 +5619,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNext");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNext.JUMP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_SET);
             ctxt.setEndState("nil");
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNext.JUMP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpStart_STATE_ID]);
+            setState(sStates[ParserMap_JumpStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4032,18 +5659,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNext");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNext.LEFT_BRACKET(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNext.LEFT_BRACKET(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransGuard_STATE_ID]);
+            setState(sStates[ParserMap_TransGuard_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4052,21 +5695,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNext");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNext.POP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_POP);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNext.POP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopStart_STATE_ID]);
+            setState(sStates[ParserMap_PopStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4075,22 +5734,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNext");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNext.PUSH(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_PUSH);
             ctxt.setEndState("nil");
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNext.PUSH(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushStart_STATE_ID]);
+            setState(sStates[ParserMap_PushStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4099,22 +5774,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNext");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNext.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_SET);
             ctxt.setEndState(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNext.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_SimpleTrans_STATE_ID]);
+            setState(sStates[ParserMap_SimpleTrans_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4131,12 +5822,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4147,22 +5832,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNextError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNextError.JUMP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_SET);
             ctxt.setEndState("nil");
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNextError.JUMP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpStart_STATE_ID]);
+            setState(sStates[ParserMap_JumpStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4171,18 +5872,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNextError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNextError.LEFT_BRACKET(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNextError.LEFT_BRACKET(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_TransGuard_STATE_ID]);
+            setState(sStates[ParserMap_TransGuard_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4191,12 +5908,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4207,21 +5918,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNextError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNextError.POP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_POP);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNextError.POP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopStart_STATE_ID]);
+            setState(sStates[ParserMap_PopStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4230,22 +5957,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNextError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNextError.PUSH(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_PUSH);
             ctxt.setEndState("nil");
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNextError.PUSH(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushStart_STATE_ID]);
+            setState(sStates[ParserMap_PushStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4254,22 +5997,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransNextError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransNextError.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), "", token.getLineNumber());
             ctxt.setTransType(TransType.TRANS_SET);
             ctxt.setEndState(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransNextError.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_SimpleTrans_STATE_ID]);
+            setState(sStates[ParserMap_SimpleTrans_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4304,20 +6063,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.TransGuard");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.TransGuard.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createGuard(ctxt.getTransitionName(), token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.TransGuard.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_EndState_STATE_ID]);
+            setState(sStates[ParserMap_EndState_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4334,20 +6109,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.EndState");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EndState.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting either \"push\", \"pop\", \"jump\" or end state.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EndState.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_EndStateError_STATE_ID]);
+            setState(sStates[ParserMap_EndStateError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4356,21 +6147,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.EndState");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EndState.JUMP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setTransType(TransType.TRANS_SET);
             ctxt.setEndState("nil");
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EndState.JUMP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpStart_STATE_ID]);
+            setState(sStates[ParserMap_JumpStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4379,20 +6186,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.EndState");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EndState.POP(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setTransType(TransType.TRANS_POP);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EndState.POP(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopStart_STATE_ID]);
+            setState(sStates[ParserMap_PopStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4401,21 +6224,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.EndState");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EndState.PUSH(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setTransType(TransType.TRANS_PUSH);
             ctxt.setEndState("nil");
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EndState.PUSH(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushStart_STATE_ID]);
+            setState(sStates[ParserMap_PushStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4424,21 +6263,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.EndState");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EndState.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setTransType(TransType.TRANS_SET);
             ctxt.setEndState(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EndState.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_SimpleTrans_STATE_ID]);
+            setState(sStates[ParserMap_SimpleTrans_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4455,12 +6310,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4473,18 +6322,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.EndStateError.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.EndStateError.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionEnd_STATE_ID]);
+            setState(sStates[ParserMap_ActionEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4501,20 +6361,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.SimpleTrans");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.SimpleTrans.Default()");
+            }
+
             clearState();
             ctxt.error("An opening brace must proceed any action definitions.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.SimpleTrans.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStartError_STATE_ID]);
+            setState(sStates[ParserMap_ActionStartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4525,18 +6401,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.SimpleTrans.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.SimpleTrans.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionEnd_STATE_ID]);
+            setState(sStates[ParserMap_ActionEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4545,20 +6432,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.SimpleTrans");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.SimpleTrans.SLASH(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setTransType(TransType.TRANS_PUSH);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.SimpleTrans.SLASH(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushTransition_STATE_ID]);
+            setState(sStates[ParserMap_PushTransition_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4575,20 +6478,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PushTransition");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushTransition.Default()");
+            }
+
             clearState();
             ctxt.error("\"push\" must follow a '/'.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushTransition.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushError_STATE_ID]);
+            setState(sStates[ParserMap_PushError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4597,18 +6516,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PushTransition");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushTransition.PUSH(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushTransition.PUSH(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushStart_STATE_ID]);
+            setState(sStates[ParserMap_PushStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4625,20 +6560,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PushStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushStart.Default()");
+            }
+
             clearState();
             ctxt.error("\"push\" must be followed by a '/'.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushStart.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushError_STATE_ID]);
+            setState(sStates[ParserMap_PushError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4647,18 +6598,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PushStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushStart.LEFT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushStart.LEFT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushMap_STATE_ID]);
+            setState(sStates[ParserMap_PushMap_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4675,12 +6642,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4693,18 +6654,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushError.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushError.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionEnd_STATE_ID]);
+            setState(sStates[ParserMap_ActionEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4713,18 +6685,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PushError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushError.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushError.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStart_STATE_ID]);
+            setState(sStates[ParserMap_ActionStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4741,20 +6729,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PushMap");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushMap.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting a state name.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushMap.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushError_STATE_ID]);
+            setState(sStates[ParserMap_PushError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4763,20 +6767,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PushMap");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushMap.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setPushState(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushMap.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushEnd_STATE_ID]);
+            setState(sStates[ParserMap_PushEnd_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4793,20 +6813,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PushEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushEnd.Default()");
+            }
+
             clearState();
             ctxt.error("push transition missing closing paren.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushEnd.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PushError_STATE_ID]);
+            setState(sStates[ParserMap_PushError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4815,18 +6851,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PushEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PushEnd.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PushEnd.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStart_STATE_ID]);
+            setState(sStates[ParserMap_ActionStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4843,20 +6895,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.JumpStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.JumpStart.Default()");
+            }
+
             clearState();
             ctxt.error("\"jump\" must be followed by a '/'.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.JumpStart.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpError_STATE_ID]);
+            setState(sStates[ParserMap_JumpError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4865,18 +6933,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.JumpStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.JumpStart.LEFT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.JumpStart.LEFT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpMap_STATE_ID]);
+            setState(sStates[ParserMap_JumpMap_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4893,12 +6977,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -4911,18 +6989,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.JumpError.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.JumpError.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionEnd_STATE_ID]);
+            setState(sStates[ParserMap_ActionEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4931,18 +7020,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.JumpError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.JumpError.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.JumpError.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStart_STATE_ID]);
+            setState(sStates[ParserMap_ActionStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4959,20 +7064,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.JumpMap");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.JumpMap.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting a state name.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.JumpMap.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpError_STATE_ID]);
+            setState(sStates[ParserMap_JumpError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -4981,20 +7102,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.JumpMap");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.JumpMap.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setEndState(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.JumpMap.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpEnd_STATE_ID]);
+            setState(sStates[ParserMap_JumpEnd_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5011,20 +7148,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.JumpEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.JumpEnd.Default()");
+            }
+
             clearState();
             ctxt.error("jump transition missing closing paren.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.JumpEnd.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_JumpError_STATE_ID]);
+            setState(sStates[ParserMap_JumpError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5033,18 +7186,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.JumpEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.JumpEnd.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.JumpEnd.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStart_STATE_ID]);
+            setState(sStates[ParserMap_ActionStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5061,20 +7230,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopStart.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting '(trans)' or opening brace after pop.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopStart.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopError_STATE_ID]);
+            setState(sStates[ParserMap_PopError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5085,18 +7270,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionEnd_STATE_ID]);
+            setState(sStates[ParserMap_ActionEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5105,18 +7301,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopStart.LEFT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopStart.LEFT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopAction_STATE_ID]);
+            setState(sStates[ParserMap_PopAction_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5133,12 +7345,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5151,18 +7357,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopError.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopError.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionEnd_STATE_ID]);
+            setState(sStates[ParserMap_ActionEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5171,18 +7388,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopError.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopError.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStart_STATE_ID]);
+            setState(sStates[ParserMap_ActionStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5199,20 +7432,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopAction");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopAction.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting either a pop transition or closing paren.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopAction.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopError_STATE_ID]);
+            setState(sStates[ParserMap_PopError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5221,18 +7470,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopAction");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopAction.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopAction.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStart_STATE_ID]);
+            setState(sStates[ParserMap_ActionStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5241,20 +7506,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopAction");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopAction.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setEndState(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopAction.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopArgs_STATE_ID]);
+            setState(sStates[ParserMap_PopArgs_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5271,18 +7552,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopArgs");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopArgs.COMMA(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopArgs.COMMA(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopArgsEnd_STATE_ID]);
+            setState(sStates[ParserMap_PopArgsEnd_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5291,20 +7588,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopArgs");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopArgs.Default()");
+            }
+
             clearState();
             ctxt.error("Pop transition missing closing paren.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopArgs.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_PopError_STATE_ID]);
+            setState(sStates[ParserMap_PopError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5313,18 +7626,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopArgs");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopArgs.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopArgs.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStart_STATE_ID]);
+            setState(sStates[ParserMap_ActionStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5359,20 +7688,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.PopArgsEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.PopArgsEnd.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setPopArgs(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.PopArgsEnd.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStart_STATE_ID]);
+            setState(sStates[ParserMap_ActionStart_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5389,20 +7734,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.ActionStart");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.ActionStart.Default()");
+            }
+
             clearState();
             ctxt.error("An opening brace must proceed any action definitions.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.ActionStart.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionStartError_STATE_ID]);
+            setState(sStates[ParserMap_ActionStartError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5413,18 +7774,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.ActionStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.ActionStart.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionEnd_STATE_ID]);
+            setState(sStates[ParserMap_ActionEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5441,22 +7813,38 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.ActionEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.ActionEnd.actionsDone(List<SmcAction> actions, int lineNumber)");
+            }
+
             clearState();
             ctxt.setActions(actions);
             ctxt.addGuard();
             ctxt.addTransition();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.ActionEnd.actionsDone(List<SmcAction> actions, int lineNumber)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Transitions_STATE_ID]);
+            setState(sStates[ParserMap_Transitions_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5465,18 +7853,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParserMap.ActionEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.ActionEnd.actionsError()");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.ActionEnd.actionsError()");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_Transitions_STATE_ID]);
+            setState(sStates[ParserMap_Transitions_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5493,12 +7897,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -5511,18 +7909,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParserMap.ActionStartError.LEFT_BRACE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createActionList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParserMap.ActionStartError.LEFT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParserMap_ActionEnd_STATE_ID]);
+            setState(sStates[ParserMap_ActionEnd_STATE_ID]);
             enterState();
-            pushState(_States[ActionMap_Start_STATE_ID]);
+            pushState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5557,15 +7966,30 @@ public final class SmcParserContext
        ctxt.getTargetLanguage() == TargetLanguage.GRAPH ||
        ctxt.getTargetLanguage() == TargetLanguage.TABLE)
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParamMap.Start");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParamMap.Start.DOLLAR(SmcLexer.Token token)");
+                }
+
                 // No actions.
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParamMap.Start.DOLLAR(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParamMap_Dollar_STATE_ID]);
+                setState(sStates[ParamMap_Dollar_STATE_ID]);
             }
 
             enterState();
@@ -5584,20 +8008,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.Start.Default()");
+            }
+
             clearState();
             ctxt.error("Invalid parameter syntax.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.Start.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParamMap_Error_STATE_ID]);
+            setState(sStates[ParamMap_Error_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5606,10 +8046,25 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.Start.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.Start.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
@@ -5621,6 +8076,7 @@ public final class SmcParserContext
             ctxt.getParamList(),
             token.getLineNumber());
 
+
         return;
     }
 
@@ -5629,20 +8085,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.Start.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createParameter(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.Start.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParamMap_ParamSeparator_STATE_ID]);
+            setState(sStates[ParamMap_ParamSeparator_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5659,20 +8131,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.Dollar");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.Dollar.Default()");
+            }
+
             clearState();
             ctxt.error("Invalid parameter syntax.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.Dollar.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParamMap_Error_STATE_ID]);
+            setState(sStates[ParamMap_Error_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5681,20 +8169,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.Dollar");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.Dollar.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createParameter("$" + token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.Dollar.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParamMap_ParamSeparator_STATE_ID]);
+            setState(sStates[ParamMap_ParamSeparator_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5711,18 +8215,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.ParamSeparator");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.ParamSeparator.COLON(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.ParamSeparator.COLON(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParamMap_ParamType_STATE_ID]);
+            setState(sStates[ParamMap_ParamType_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5742,32 +8262,62 @@ public final class SmcParserContext
        ctxt.getTargetLanguage() == TargetLanguage.GRAPH ||
        ctxt.getTargetLanguage() == TargetLanguage.TABLE)
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParamMap.ParamSeparator");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParamMap.ParamSeparator.COMMA(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.addParameter();
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParamMap.ParamSeparator.COMMA(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParamMap_Start_STATE_ID]);
+                setState(sStates[ParamMap_Start_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParamMap.ParamSeparator");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParamMap.ParamSeparator.COMMA(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.error("Parameter type missing.", token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParamMap.ParamSeparator.COMMA(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ParamMap_Error_STATE_ID]);
+                setState(sStates[ParamMap_Error_STATE_ID]);
             }
 
             enterState();
@@ -5781,20 +8331,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.ParamSeparator");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.ParamSeparator.Default()");
+            }
+
             clearState();
             ctxt.error("Invalid parameter syntax.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.ParamSeparator.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParamMap_Error_STATE_ID]);
+            setState(sStates[ParamMap_Error_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5814,12 +8380,27 @@ public final class SmcParserContext
        ctxt.getTargetLanguage() == TargetLanguage.GRAPH ||
        ctxt.getTargetLanguage() == TargetLanguage.TABLE)
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParamMap.ParamSeparator");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParamMap.ParamSeparator.RIGHT_PAREN(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.addParameter();
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParamMap.ParamSeparator.RIGHT_PAREN(SmcLexer.Token token)");
+                }
             }
             finally
             {
@@ -5833,12 +8414,27 @@ public final class SmcParserContext
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ParamMap.ParamSeparator");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ParamMap.ParamSeparator.RIGHT_PAREN(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.error("Parameter type missing.", token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ParamMap.ParamSeparator.RIGHT_PAREN(SmcLexer.Token token)");
+                }
             }
             finally
             {
@@ -5885,20 +8481,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.ParamType");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.ParamType.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.setParamType(token.getValue());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.ParamType.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParamMap_NextParam_STATE_ID]);
+            setState(sStates[ParamMap_NextParam_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5915,20 +8527,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.NextParam");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.NextParam.COMMA(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addParameter();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.NextParam.COMMA(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ParamMap_Start_STATE_ID]);
+            setState(sStates[ParamMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5937,20 +8565,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.NextParam");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.NextParam.Default()");
+            }
+
             clearState();
             ctxt.error("Invalid parameter syntax.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.NextParam.Default()");
+            }
         }
         finally
         {
-            setState(_States[ParamMap_Error_STATE_ID]);
+            setState(sStates[ParamMap_Error_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -5959,12 +8603,27 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.NextParam");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.NextParam.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addParameter();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.NextParam.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
@@ -5976,6 +8635,7 @@ public final class SmcParserContext
             ctxt.getParamList(),
             token.getLineNumber());
 
+
         return;
     }
 
@@ -6011,10 +8671,25 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ParamMap.Error");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ParamMap.Error.SOURCE(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ParamMap.Error.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
@@ -6026,6 +8701,7 @@ public final class SmcParserContext
             ctxt.getParamList(),
             token.getLineNumber());
 
+
         return;
     }
 
@@ -6042,21 +8718,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.Start.Default()");
+            }
+
             clearState();
             ctxt.clearActions();
             ctxt.error("Expecting either a method name or a closing brace", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.Start.Default()");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_ActionError_STATE_ID]);
+            setState(sStates[ActionMap_ActionError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6065,10 +8757,25 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.Start.RIGHT_BRACE(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.Start.RIGHT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
@@ -6080,6 +8787,7 @@ public final class SmcParserContext
             ctxt.getActionList(),
             token.getLineNumber());
 
+
         return;
     }
 
@@ -6088,20 +8796,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.Start.WORD(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createAction(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.Start.WORD(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_ActionName_STATE_ID]);
+            setState(sStates[ActionMap_ActionName_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6118,21 +8842,37 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.ActionName");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.ActionName.Default()");
+            }
+
             clearState();
             ctxt.clearActions();
             ctxt.error("Expecting an open paren after the method name", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.ActionName.Default()");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_ActionError_STATE_ID]);
+            setState(sStates[ActionMap_ActionError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6153,34 +8893,64 @@ public final class SmcParserContext
        ctxt.getTargetLanguage() != TargetLanguage.VB &&
        ctxt.getTargetLanguage() != TargetLanguage.TABLE)
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ActionMap.ActionName");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ActionMap.ActionName.EQUAL(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.clearActions();
                 ctxt.error("'=' property assignment may only be used with -vb, -csharp or -graph", token.getLineNumber());
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ActionMap.ActionName.EQUAL(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ActionMap_ActionError_STATE_ID]);
+                setState(sStates[ActionMap_ActionError_STATE_ID]);
             }
 
             enterState();
         }
         else
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("LEAVING STATE   : ActionMap.ActionName");
+            }
+
             exitState();
 
             try
             {
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("ENTER TRANSITION: ActionMap.ActionName.EQUAL(SmcLexer.Token token)");
+                }
+
                 clearState();
                 ctxt.setProperty(true);
                 ctxt.createArgList();
+
+                if (mDebugFlag)
+                {
+                    mDebugStream.println("EXIT TRANSITION : ActionMap.ActionName.EQUAL(SmcLexer.Token token)");
+                }
             }
             finally
             {
-                setState(_States[ActionMap_PropertyAssignment_STATE_ID]);
+                setState(sStates[ActionMap_PropertyAssignment_STATE_ID]);
             }
 
             enterState();
@@ -6196,18 +8966,29 @@ public final class SmcParserContext
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.ActionName.LEFT_PAREN(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createArgList();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.ActionName.LEFT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_ActionArgs_STATE_ID]);
+            setState(sStates[ActionMap_ActionArgs_STATE_ID]);
             enterState();
-            pushState(_States[ArgsMap_Start_STATE_ID]);
+            pushState(sStates[ArgsMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6224,20 +9005,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.ActionArgs");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.ActionArgs.argsDone(List<String> args)");
+            }
+
             clearState();
             ctxt.setActionArgs(args);
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.ActionArgs.argsDone(List<String> args)");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_ActionEnd_STATE_ID]);
+            setState(sStates[ActionMap_ActionEnd_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6246,18 +9043,34 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.ActionArgs");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.ActionArgs.argsError()");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.ActionArgs.argsError()");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_ActionError_STATE_ID]);
+            setState(sStates[ActionMap_ActionError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6274,20 +9087,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.ActionEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.ActionEnd.Default()");
+            }
+
             clearState();
             ctxt.error("Expecting a ';' after closing paren", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.ActionEnd.Default()");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_ActionError_STATE_ID]);
+            setState(sStates[ActionMap_ActionError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6296,20 +9125,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.ActionEnd");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.ActionEnd.SEMICOLON(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addAction();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.ActionEnd.SEMICOLON(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_Start_STATE_ID]);
+            setState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6344,20 +9189,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.PropertyAssignment");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.PropertyAssignment.Default()");
+            }
+
             clearState();
             ctxt.error("Missing ';' at end of property assignment", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.PropertyAssignment.Default()");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_ActionError_STATE_ID]);
+            setState(sStates[ActionMap_ActionError_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6366,23 +9227,39 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.PropertyAssignment");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.PropertyAssignment.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createArgument(token.getValue(), token.getLineNumber());
             ctxt.addArgument();
             ctxt.setActionArgs(ctxt.getArgsList());
             ctxt.addAction();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.PropertyAssignment.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ActionMap_Start_STATE_ID]);
+            setState(sStates[ActionMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6399,12 +9276,6 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
-        try
-        {
-        }
-        finally
-        {
-        }
 
 
         return;
@@ -6415,10 +9286,25 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ActionMap.ActionError");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ActionMap.ActionError.RIGHT_BRACE(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ActionMap.ActionError.RIGHT_BRACE(SmcLexer.Token token)");
+            }
         }
         finally
         {
@@ -6428,6 +9314,7 @@ public final class SmcParserContext
 
         actionsError();
 
+
         return;
     }
 
@@ -6462,20 +9349,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ArgsMap.Start");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ArgsMap.Start.SOURCE(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.createArgument(token.getValue(), token.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ArgsMap.Start.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ArgsMap_NextArg_STATE_ID]);
+            setState(sStates[ArgsMap_NextArg_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6492,20 +9395,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ArgsMap.NextArg");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ArgsMap.NextArg.COMMA(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addArgument();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ArgsMap.NextArg.COMMA(SmcLexer.Token token)");
+            }
         }
         finally
         {
-            setState(_States[ArgsMap_Start_STATE_ID]);
+            setState(sStates[ArgsMap_Start_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6514,20 +9433,36 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ArgsMap.NextArg");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ArgsMap.NextArg.Default()");
+            }
+
             clearState();
             ctxt.error("Missing ',' or closing paren after argument.", ctxt.getLineNumber());
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ArgsMap.NextArg.Default()");
+            }
         }
         finally
         {
-            setState(_States[ArgsMap_Error_STATE_ID]);
+            setState(sStates[ArgsMap_Error_STATE_ID]);
         }
 
         enterState();
 
+
         return;
     }
 
@@ -6536,12 +9471,27 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ArgsMap.NextArg");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ArgsMap.NextArg.RIGHT_PAREN(SmcLexer.Token token)");
+            }
+
             clearState();
             ctxt.addArgument();
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ArgsMap.NextArg.RIGHT_PAREN(SmcLexer.Token token)");
+            }
         }
         finally
         {
@@ -6551,6 +9501,7 @@ public final class SmcParserContext
 
         argsDone( ctxt.getArgsList());
 
+
         return;
     }
 
@@ -6586,10 +9537,25 @@ public final class SmcParserContext
     {
         final int stateId = mState.getId();
 
+        if (mDebugFlag)
+        {
+            mDebugStream.println("LEAVING STATE   : ArgsMap.Error");
+        }
+
         exitState();
 
         try
         {
+            if (mDebugFlag)
+            {
+                mDebugStream.println("ENTER TRANSITION: ArgsMap.Error.SOURCE(SmcLexer.Token token)");
+            }
+
+
+            if (mDebugFlag)
+            {
+                mDebugStream.println("EXIT TRANSITION : ArgsMap.Error.SOURCE(SmcLexer.Token token)");
+            }
         }
         finally
         {
@@ -6599,6 +9565,7 @@ public final class SmcParserContext
 
         argsError();
 
+
         return;
     }
 
@@ -6692,42 +9659,42 @@ public final class SmcParserContext
 
     private static final int STATE_COUNT = 67;
 
-    private static final int ACCESS42_TRANSITION_ID = 1;
-    private static final int CLASS_NAME35_TRANSITION_ID = 2;
-    private static final int COLON175_TRANSITION_ID = 3;
-    private static final int COMMA199_TRANSITION_ID = 4;
-    private static final int DECLARE41_TRANSITION_ID = 5;
-    private static final int DOLLAR171_TRANSITION_ID = 6;
-    private static final int ENTRY71_TRANSITION_ID = 7;
-    private static final int EOD59_TRANSITION_ID = 8;
-    private static final int EQUAL188_TRANSITION_ID = 9;
-    private static final int EXIT72_TRANSITION_ID = 10;
-    private static final int FSM_CLASS_NAME36_TRANSITION_ID = 11;
-    private static final int FSM_FILE_NAME37_TRANSITION_ID = 12;
-    private static final int HEADER_FILE38_TRANSITION_ID = 13;
-    private static final int IMPORT40_TRANSITION_ID = 14;
+    private static final int ACCESS11_TRANSITION_ID = 1;
+    private static final int CLASS_NAME3_TRANSITION_ID = 2;
+    private static final int COLON34_TRANSITION_ID = 3;
+    private static final int COMMA32_TRANSITION_ID = 4;
+    private static final int DECLARE10_TRANSITION_ID = 5;
+    private static final int DOLLAR33_TRANSITION_ID = 6;
+    private static final int ENTRY16_TRANSITION_ID = 7;
+    private static final int EOD15_TRANSITION_ID = 8;
+    private static final int EQUAL19_TRANSITION_ID = 9;
+    private static final int EXIT17_TRANSITION_ID = 10;
+    private static final int FSM_CLASS_NAME4_TRANSITION_ID = 11;
+    private static final int FSM_FILE_NAME5_TRANSITION_ID = 12;
+    private static final int HEADER_FILE6_TRANSITION_ID = 13;
+    private static final int IMPORT9_TRANSITION_ID = 14;
     private static final int INCLUDE_FILE7_TRANSITION_ID = 15;
-    private static final int JUMP122_TRANSITION_ID = 16;
-    private static final int LEFT_BRACE167_TRANSITION_ID = 17;
-    private static final int LEFT_BRACKET113_TRANSITION_ID = 18;
-    private static final int LEFT_PAREN187_TRANSITION_ID = 19;
-    private static final int MAP_NAME65_TRANSITION_ID = 20;
-    private static final int PACKAGE_NAME39_TRANSITION_ID = 21;
-    private static final int POP121_TRANSITION_ID = 22;
-    private static final int PUSH130_TRANSITION_ID = 23;
-    private static final int RIGHT_BRACE196_TRANSITION_ID = 24;
-    private static final int RIGHT_PAREN200_TRANSITION_ID = 25;
-    private static final int SEMICOLON192_TRANSITION_ID = 26;
-    private static final int SLASH127_TRANSITION_ID = 27;
-    private static final int SOURCE202_TRANSITION_ID = 28;
-    private static final int START_STATE34_TRANSITION_ID = 29;
-    private static final int WORD184_TRANSITION_ID = 30;
-    private static final int actionsDone165_TRANSITION_ID = 31;
-    private static final int actionsError166_TRANSITION_ID = 32;
-    private static final int argsDone190_TRANSITION_ID = 33;
-    private static final int argsError191_TRANSITION_ID = 34;
-    private static final int paramsDone104_TRANSITION_ID = 35;
-    private static final int paramsError105_TRANSITION_ID = 36;
+    private static final int JUMP27_TRANSITION_ID = 16;
+    private static final int LEFT_BRACE18_TRANSITION_ID = 17;
+    private static final int LEFT_BRACKET24_TRANSITION_ID = 18;
+    private static final int LEFT_PAREN23_TRANSITION_ID = 19;
+    private static final int MAP_NAME12_TRANSITION_ID = 20;
+    private static final int PACKAGE_NAME8_TRANSITION_ID = 21;
+    private static final int POP26_TRANSITION_ID = 22;
+    private static final int PUSH25_TRANSITION_ID = 23;
+    private static final int RIGHT_BRACE22_TRANSITION_ID = 24;
+    private static final int RIGHT_PAREN31_TRANSITION_ID = 25;
+    private static final int SEMICOLON37_TRANSITION_ID = 26;
+    private static final int SLASH30_TRANSITION_ID = 27;
+    private static final int SOURCE1_TRANSITION_ID = 28;
+    private static final int START_STATE2_TRANSITION_ID = 29;
+    private static final int WORD14_TRANSITION_ID = 30;
+    private static final int actionsDone20_TRANSITION_ID = 31;
+    private static final int actionsError21_TRANSITION_ID = 32;
+    private static final int argsDone35_TRANSITION_ID = 33;
+    private static final int argsError36_TRANSITION_ID = 34;
+    private static final int paramsDone28_TRANSITION_ID = 35;
+    private static final int paramsError29_TRANSITION_ID = 36;
 
     private static final int TRANSITION_COUNT = 37;
 
@@ -6772,98 +9739,75 @@ public final class SmcParserContext
         MethodType.methodType(void.class, List.class, int.class)
     };
 
-    private static final String[] MAP_NAMES =
-    {
-        "ParserMap",
-        "ParamMap",
-        "ActionMap",
-        "ArgsMap"
-    };
-
-    private static final String[][] STATE_NAMES =
-    {
-        new String[]
-        {
-            "Start",
-            "Context",
-            "StartState",
-            "HeaderFile",
-            "IncludeFile",
-            "Package",
-            "FsmClassName",
-            "FsmFileName",
-            "Import",
-            "Declare",
-            "Access",
-            "StartError",
-            "MapStart",
-            "MapStartError",
-            "MapName",
-            "MapStates",
-            "MapStatesError",
-            "States",
-            "StateStart",
-            "StateStartError",
-            "EntryStart",
-            "EntryEnd",
-            "ExitStart",
-            "ExitEnd",
-            "Transitions",
-            "TransError",
-            "TransStart",
-            "TransStartError",
-            "TransParams",
-            "TransNext",
-            "TransNextError",
-            "TransGuard",
-            "EndState",
-            "EndStateError",
-            "SimpleTrans",
-            "PushTransition",
-            "PushStart",
-            "PushError",
-            "PushMap",
-            "PushEnd",
-            "JumpStart",
-            "JumpError",
-            "JumpMap",
-            "JumpEnd",
-            "PopStart",
-            "PopError",
-            "PopAction",
-            "PopArgs",
-            "PopArgsEnd",
-            "ActionStart",
-            "ActionEnd",
-            "ActionStartError"
-        },
-
-        new String[]
-        {
-            "Start",
-            "Dollar",
-            "ParamSeparator",
-            "ParamType",
-            "NextParam",
-            "Error"
-        },
-
-        new String[]
-        {
-            "Start",
-            "ActionName",
-            "ActionArgs",
-            "ActionEnd",
-            "PropertyAssignment",
-            "ActionError"
-        },
-
-        new String[]
-        {
-            "Start",
-            "NextArg",
-            "Error"
-        }
+    private static final String[] STATE_NAMES =
+    {
+        "ParserMap_Start",
+        "ParserMap_Context",
+        "ParserMap_StartState",
+        "ParserMap_HeaderFile",
+        "ParserMap_IncludeFile",
+        "ParserMap_Package",
+        "ParserMap_FsmClassName",
+        "ParserMap_FsmFileName",
+        "ParserMap_Import",
+        "ParserMap_Declare",
+        "ParserMap_Access",
+        "ParserMap_StartError",
+        "ParserMap_MapStart",
+        "ParserMap_MapStartError",
+        "ParserMap_MapName",
+        "ParserMap_MapStates",
+        "ParserMap_MapStatesError",
+        "ParserMap_States",
+        "ParserMap_StateStart",
+        "ParserMap_StateStartError",
+        "ParserMap_EntryStart",
+        "ParserMap_EntryEnd",
+        "ParserMap_ExitStart",
+        "ParserMap_ExitEnd",
+        "ParserMap_Transitions",
+        "ParserMap_TransError",
+        "ParserMap_TransStart",
+        "ParserMap_TransStartError",
+        "ParserMap_TransParams",
+        "ParserMap_TransNext",
+        "ParserMap_TransNextError",
+        "ParserMap_TransGuard",
+        "ParserMap_EndState",
+        "ParserMap_EndStateError",
+        "ParserMap_SimpleTrans",
+        "ParserMap_PushTransition",
+        "ParserMap_PushStart",
+        "ParserMap_PushError",
+        "ParserMap_PushMap",
+        "ParserMap_PushEnd",
+        "ParserMap_JumpStart",
+        "ParserMap_JumpError",
+        "ParserMap_JumpMap",
+        "ParserMap_JumpEnd",
+        "ParserMap_PopStart",
+        "ParserMap_PopError",
+        "ParserMap_PopAction",
+        "ParserMap_PopArgs",
+        "ParserMap_PopArgsEnd",
+        "ParserMap_ActionStart",
+        "ParserMap_ActionEnd",
+        "ParserMap_ActionStartError",
+        "ParamMap_Start",
+        "ParamMap_Dollar",
+        "ParamMap_ParamSeparator",
+        "ParamMap_ParamType",
+        "ParamMap_NextParam",
+        "ParamMap_Error",
+        "ActionMap_Start",
+        "ActionMap_ActionName",
+        "ActionMap_ActionArgs",
+        "ActionMap_ActionEnd",
+        "ActionMap_PropertyAssignment",
+        "ActionMap_ActionError",
+        "ArgsMap_Start",
+        "ArgsMap_NextArg",
+        "ArgsMap_Error"
     };
 
     private static String[][] STATE_TRANSITIONS =
@@ -7380,60 +10324,675 @@ public final class SmcParserContext
         "paramsError"
     };
 
-    private static final State7[] _States = new State7[STATE_COUNT];
+    private static final String[] TRANSITION_METHODS =
+    {
+        "defaultTransition",
+        "ParserMap_Start_ACCESS",
+        "ParserMap_Start_CLASS_NAME",
+        "ParserMap_Start_Default",
+        "ParserMap_Start_DECLARE",
+        "ParserMap_Start_FSM_CLASS_NAME",
+        "ParserMap_Start_FSM_FILE_NAME",
+        "ParserMap_Start_HEADER_FILE",
+        "ParserMap_Start_IMPORT",
+        "ParserMap_Start_INCLUDE_FILE",
+        "ParserMap_Start_MAP_NAME",
+        "ParserMap_Start_PACKAGE_NAME",
+        "ParserMap_Start_SOURCE",
+        "ParserMap_Start_START_STATE",
+        "ParserMap_Context_Default",
+        "ParserMap_Context_WORD",
+        "ParserMap_StartState_Default",
+        "ParserMap_StartState_WORD",
+        "ParserMap_HeaderFile_Default",
+        "ParserMap_HeaderFile_SOURCE",
+        "ParserMap_IncludeFile_Default",
+        "ParserMap_IncludeFile_SOURCE",
+        "ParserMap_Package_Default",
+        "ParserMap_Package_WORD",
+        "ParserMap_FsmClassName_Default",
+        "ParserMap_FsmClassName_WORD",
+        "ParserMap_FsmFileName_Default",
+        "ParserMap_FsmFileName_WORD",
+        "ParserMap_Import_Default",
+        "ParserMap_Import_SOURCE",
+        "ParserMap_Declare_Default",
+        "ParserMap_Declare_SOURCE",
+        "ParserMap_Access_Default",
+        "ParserMap_Access_SOURCE",
+        "ParserMap_StartError_ACCESS",
+        "ParserMap_StartError_CLASS_NAME",
+        "ParserMap_StartError_Default",
+        "ParserMap_StartError_DECLARE",
+        "ParserMap_StartError_FSM_CLASS_NAME",
+        "ParserMap_StartError_FSM_FILE_NAME",
+        "ParserMap_StartError_HEADER_FILE",
+        "ParserMap_StartError_IMPORT",
+        "ParserMap_StartError_MAP_NAME",
+        "ParserMap_StartError_PACKAGE_NAME",
+        "ParserMap_StartError_START_STATE",
+        "ParserMap_MapStart_Default",
+        "ParserMap_MapStart_MAP_NAME",
+        "ParserMap_MapStartError_Default",
+        "ParserMap_MapStartError_MAP_NAME",
+        "ParserMap_MapName_Default",
+        "ParserMap_MapName_EOD",
+        "ParserMap_MapName_WORD",
+        "ParserMap_MapStates_Default",
+        "ParserMap_MapStates_EOD",
+        "ParserMap_MapStates_WORD",
+        "ParserMap_MapStatesError_Default",
+        "ParserMap_MapStatesError_EOD",
+        "ParserMap_MapStatesError_MAP_NAME",
+        "ParserMap_MapStatesError_WORD",
+        "ParserMap_States_Default",
+        "ParserMap_States_ENTRY",
+        "ParserMap_States_EOD",
+        "ParserMap_States_EQUAL",
+        "ParserMap_States_EXIT",
+        "ParserMap_States_LEFT_BRACE",
+        "ParserMap_States_MAP_NAME",
+        "ParserMap_States_WORD",
+        "ParserMap_StateStart_Default",
+        "ParserMap_StateStart_ENTRY",
+        "ParserMap_StateStart_EXIT",
+        "ParserMap_StateStart_LEFT_BRACE",
+        "ParserMap_StateStartError_Default",
+        "ParserMap_StateStartError_ENTRY",
+        "ParserMap_StateStartError_EXIT",
+        "ParserMap_StateStartError_LEFT_BRACE",
+        "ParserMap_EntryStart_Default",
+        "ParserMap_EntryStart_LEFT_BRACE",
+        "ParserMap_EntryEnd_actionsDone",
+        "ParserMap_EntryEnd_actionsError",
+        "ParserMap_ExitStart_Default",
+        "ParserMap_ExitStart_LEFT_BRACE",
+        "ParserMap_ExitEnd_actionsDone",
+        "ParserMap_ExitEnd_actionsError",
+        "ParserMap_Transitions_Default",
+        "ParserMap_Transitions_RIGHT_BRACE",
+        "ParserMap_Transitions_WORD",
+        "ParserMap_TransError_Default",
+        "ParserMap_TransError_RIGHT_BRACE",
+        "ParserMap_TransError_WORD",
+        "ParserMap_TransStart_Default",
+        "ParserMap_TransStart_JUMP",
+        "ParserMap_TransStart_LEFT_BRACKET",
+        "ParserMap_TransStart_LEFT_PAREN",
+        "ParserMap_TransStart_POP",
+        "ParserMap_TransStart_PUSH",
+        "ParserMap_TransStart_WORD",
+        "ParserMap_TransStartError_Default",
+        "ParserMap_TransStartError_JUMP",
+        "ParserMap_TransStartError_LEFT_BRACE",
+        "ParserMap_TransStartError_LEFT_BRACKET",
+        "ParserMap_TransStartError_LEFT_PAREN",
+        "ParserMap_TransStartError_POP",
+        "ParserMap_TransStartError_PUSH",
+        "ParserMap_TransStartError_RIGHT_BRACE",
+        "ParserMap_TransParams_paramsDone",
+        "ParserMap_TransParams_paramsError",
+        "ParserMap_TransNext_Default",
+        "ParserMap_TransNext_JUMP",
+        "ParserMap_TransNext_LEFT_BRACKET",
+        "ParserMap_TransNext_POP",
+        "ParserMap_TransNext_PUSH",
+        "ParserMap_TransNext_WORD",
+        "ParserMap_TransNextError_Default",
+        "ParserMap_TransNextError_JUMP",
+        "ParserMap_TransNextError_LEFT_BRACKET",
+        "ParserMap_TransNextError_LEFT_PAREN",
+        "ParserMap_TransNextError_POP",
+        "ParserMap_TransNextError_PUSH",
+        "ParserMap_TransNextError_WORD",
+        "ParserMap_TransGuard_SOURCE",
+        "ParserMap_EndState_Default",
+        "ParserMap_EndState_JUMP",
+        "ParserMap_EndState_POP",
+        "ParserMap_EndState_PUSH",
+        "ParserMap_EndState_WORD",
+        "ParserMap_EndStateError_Default",
+        "ParserMap_EndStateError_LEFT_BRACE",
+        "ParserMap_SimpleTrans_Default",
+        "ParserMap_SimpleTrans_LEFT_BRACE",
+        "ParserMap_SimpleTrans_SLASH",
+        "ParserMap_PushTransition_Default",
+        "ParserMap_PushTransition_PUSH",
+        "ParserMap_PushStart_Default",
+        "ParserMap_PushStart_LEFT_PAREN",
+        "ParserMap_PushError_Default",
+        "ParserMap_PushError_LEFT_BRACE",
+        "ParserMap_PushError_RIGHT_PAREN",
+        "ParserMap_PushMap_Default",
+        "ParserMap_PushMap_WORD",
+        "ParserMap_PushEnd_Default",
+        "ParserMap_PushEnd_RIGHT_PAREN",
+        "ParserMap_JumpStart_Default",
+        "ParserMap_JumpStart_LEFT_PAREN",
+        "ParserMap_JumpError_Default",
+        "ParserMap_JumpError_LEFT_BRACE",
+        "ParserMap_JumpError_RIGHT_PAREN",
+        "ParserMap_JumpMap_Default",
+        "ParserMap_JumpMap_WORD",
+        "ParserMap_JumpEnd_Default",
+        "ParserMap_JumpEnd_RIGHT_PAREN",
+        "ParserMap_PopStart_Default",
+        "ParserMap_PopStart_LEFT_BRACE",
+        "ParserMap_PopStart_LEFT_PAREN",
+        "ParserMap_PopError_Default",
+        "ParserMap_PopError_LEFT_BRACE",
+        "ParserMap_PopError_RIGHT_PAREN",
+        "ParserMap_PopAction_Default",
+        "ParserMap_PopAction_RIGHT_PAREN",
+        "ParserMap_PopAction_WORD",
+        "ParserMap_PopArgs_Default",
+        "ParserMap_PopArgs_COMMA",
+        "ParserMap_PopArgs_RIGHT_PAREN",
+        "ParserMap_PopArgsEnd_SOURCE",
+        "ParserMap_ActionStart_Default",
+        "ParserMap_ActionStart_LEFT_BRACE",
+        "ParserMap_ActionEnd_actionsDone",
+        "ParserMap_ActionEnd_actionsError",
+        "ParserMap_ActionStartError_Default",
+        "ParserMap_ActionStartError_LEFT_BRACE",
+        "ParamMap_Start_Default",
+        "ParamMap_Start_DOLLAR",
+        "ParamMap_Start_RIGHT_PAREN",
+        "ParamMap_Start_WORD",
+        "ParamMap_Dollar_Default",
+        "ParamMap_Dollar_WORD",
+        "ParamMap_ParamSeparator_Default",
+        "ParamMap_ParamSeparator_COLON",
+        "ParamMap_ParamSeparator_COMMA",
+        "ParamMap_ParamSeparator_RIGHT_PAREN",
+        "ParamMap_ParamType_SOURCE",
+        "ParamMap_NextParam_Default",
+        "ParamMap_NextParam_COMMA",
+        "ParamMap_NextParam_RIGHT_PAREN",
+        "ParamMap_Error_SOURCE",
+        "ActionMap_Start_Default",
+        "ActionMap_Start_RIGHT_BRACE",
+        "ActionMap_Start_WORD",
+        "ActionMap_ActionName_Default",
+        "ActionMap_ActionName_EQUAL",
+        "ActionMap_ActionName_LEFT_PAREN",
+        "ActionMap_ActionArgs_argsDone",
+        "ActionMap_ActionArgs_argsError",
+        "ActionMap_ActionEnd_Default",
+        "ActionMap_ActionEnd_SEMICOLON",
+        "ActionMap_PropertyAssignment_Default",
+        "ActionMap_PropertyAssignment_SOURCE",
+        "ActionMap_ActionError_Default",
+        "ActionMap_ActionError_RIGHT_BRACE",
+        "ArgsMap_Start_SOURCE",
+        "ArgsMap_NextArg_Default",
+        "ArgsMap_NextArg_COMMA",
+        "ArgsMap_NextArg_RIGHT_PAREN",
+        "ArgsMap_Error_SOURCE"
+    };
+
+    private static final MethodType[] TRANSITION_METHOD_TYPES =
+    {
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[1],
+        TRANSITION_TYPES[2],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[5],
+        TRANSITION_TYPES[11],
+        TRANSITION_TYPES[12],
+        TRANSITION_TYPES[13],
+        TRANSITION_TYPES[14],
+        TRANSITION_TYPES[15],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[21],
+        TRANSITION_TYPES[28],
+        TRANSITION_TYPES[29],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[28],
+        TRANSITION_TYPES[1],
+        TRANSITION_TYPES[2],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[5],
+        TRANSITION_TYPES[11],
+        TRANSITION_TYPES[12],
+        TRANSITION_TYPES[13],
+        TRANSITION_TYPES[14],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[21],
+        TRANSITION_TYPES[29],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[20],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[20],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[8],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[8],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[8],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[7],
+        TRANSITION_TYPES[8],
+        TRANSITION_TYPES[9],
+        TRANSITION_TYPES[10],
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[20],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[7],
+        TRANSITION_TYPES[10],
+        TRANSITION_TYPES[17],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[7],
+        TRANSITION_TYPES[10],
+        TRANSITION_TYPES[17],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[31],
+        TRANSITION_TYPES[32],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[31],
+        TRANSITION_TYPES[32],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[24],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[24],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[16],
+        TRANSITION_TYPES[18],
+        TRANSITION_TYPES[19],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[23],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[16],
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[18],
+        TRANSITION_TYPES[19],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[23],
+        TRANSITION_TYPES[24],
+        TRANSITION_TYPES[35],
+        TRANSITION_TYPES[36],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[16],
+        TRANSITION_TYPES[18],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[23],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[16],
+        TRANSITION_TYPES[18],
+        TRANSITION_TYPES[19],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[23],
+        TRANSITION_TYPES[30],
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[16],
+        TRANSITION_TYPES[22],
+        TRANSITION_TYPES[23],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[27],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[23],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[19],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[25],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[25],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[19],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[25],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[25],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[19],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[25],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[25],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[25],
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        TRANSITION_TYPES[31],
+        TRANSITION_TYPES[32],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[17],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[6],
+        TRANSITION_TYPES[25],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[3],
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[25],
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[25],
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[24],
+        TRANSITION_TYPES[30],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[9],
+        TRANSITION_TYPES[19],
+        TRANSITION_TYPES[33],
+        TRANSITION_TYPES[34],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[26],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[24],
+        TRANSITION_TYPES[28],
+        NO_ARGS_TYPE,
+        TRANSITION_TYPES[4],
+        TRANSITION_TYPES[25],
+        TRANSITION_TYPES[28]
+    };
+
+    private static final String[] TRANSITION_TABLE =
+    {
+        "\0\2\4\7\7\10\7\7\7\7\7\12\14\16\20\22\7\7\7\7\24\26\7\7\7\7\7\7\30\32\7\7\7\7\7\7\7",
+        "\0\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\35\36\35\35\35\35\35\35",
+        "\0\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\41\42\41\41\41\41\41\41",
+        "\0\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\45\46\45\45\45\45\45\45\45\45",
+        "\0\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\51\52\51\51\51\51\51\51\51\51",
+        "\0\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\55\56\55\55\55\55\55\55",
+        "\0\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\61\62\61\61\61\61\61\61",
+        "\0\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\65\66\65\65\65\65\65\65",
+        "\0\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\71\72\71\71\71\71\71\71\71\71",
+        "\0\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\75\76\75\75\75\75\75\75\75\75",
+        "\0\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\101\102\101\101\101\101\101\101\101\101",
+        "\0\104\106\111\111\112\111\111\111\111\111\114\116\120\122\111\111\111\111\111\124\126\111\111\111\111\111\111\111\130\111\111\111\111\111\111\111",
+        "\0\133\133\133\133\133\133\133\133\133\133\133\133\133\133\133\133\133\133\133\134\133\133\133\133\133\133\133\133\133\133\133\133\133\133\133\133",
+        "\0\137\137\137\137\137\137\137\137\137\137\137\137\137\137\137\137\137\137\137\140\137\137\137\137\137\137\137\137\137\137\137\137\137\137\137\137",
+        "\0\143\143\143\143\143\143\143\144\143\143\143\143\143\143\143\143\143\143\143\143\143\143\143\143\143\143\143\143\143\146\143\143\143\143\143\143",
+        "\0\151\151\151\151\151\151\151\152\151\151\151\151\151\151\151\151\151\151\151\151\151\151\151\151\151\151\151\151\151\154\151\151\151\151\151\151",
+        "\0\157\157\157\157\157\157\157\160\157\157\157\157\157\157\157\157\157\157\157\162\157\157\157\157\157\157\157\157\157\164\157\157\157\157\157\157",
+        "\0\167\167\167\167\167\167\170\172\174\176\167\167\167\167\167\167\200\167\167\202\167\167\167\167\167\167\167\167\167\204\167\167\167\167\167\167",
+        "\0\207\207\207\207\207\207\210\207\207\212\207\207\207\207\207\207\214\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207",
+        "\0\217\217\217\217\217\217\220\217\217\222\217\217\217\217\217\217\224\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217",
+        "\0\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\230\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\232\234\1\1\1\1",
+        "\0\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237\240\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\242\244\1\1\1\1",
+        "\0\247\247\247\247\247\247\247\247\247\247\247\247\247\247\247\247\247\247\247\247\247\247\247\250\247\247\247\247\247\252\247\247\247\247\247\247",
+        "\0\255\255\255\255\255\255\255\255\255\255\255\255\255\255\255\255\255\255\255\255\255\255\255\256\255\255\255\255\255\260\255\255\255\255\255\255",
+        "\0\263\263\263\263\263\263\263\263\263\263\263\263\263\263\263\264\263\266\270\263\263\272\274\263\263\263\263\263\263\276\263\263\263\263\263\263",
+        "\0\301\301\301\301\301\301\301\301\301\301\301\301\301\301\301\302\304\306\310\301\301\312\314\316\301\301\301\301\301\301\301\301\301\301\301\301",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\320\322",
+        "\0\325\325\325\325\325\325\325\325\325\325\325\325\325\325\325\326\325\330\325\325\325\332\334\325\325\325\325\325\325\336\325\325\325\325\325\325",
+        "\0\341\341\341\341\341\341\341\341\341\341\341\341\341\341\341\342\341\344\346\341\341\350\352\341\341\341\341\341\341\354\341\341\341\341\341\341",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\356\1\1\1\1\1\1\1\1",
+        "\0\361\361\361\361\361\361\361\361\361\361\361\361\361\361\361\362\361\361\361\361\361\364\366\361\361\361\361\361\361\370\361\361\361\361\361\361",
+        "\0\373\373\373\373\373\373\373\373\373\373\373\373\373\373\373\373\374\373\373\373\373\373\373\373\373\373\373\373\373\373\373\373\373\373\373\373",
+        "\0\377\377\377\377\377\377\377\377\377\377\377\377\377\377\377\377\u0100\377\377\377\377\377\377\377\377\377\u0102\377\377\377\377\377\377\377\377\377",
+        "\0\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0106\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105\u0105",
+        "\0\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u010a\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109\u0109",
+        "\0\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010e\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u0110\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d\u010d",
+        "\0\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0113\u0114\u0113\u0113\u0113\u0113\u0113\u0113",
+        "\0\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0118\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117\u0117",
+        "\0\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011c\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b\u011b",
+        "\0\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u0120\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u0122\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f\u011f",
+        "\0\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0125\u0126\u0125\u0125\u0125\u0125\u0125\u0125",
+        "\0\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u012a\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129\u0129",
+        "\0\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012e\u012d\u0130\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d\u012d",
+        "\0\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0134\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0136\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133\u0133",
+        "\0\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u013a\u0139\u0139\u0139\u0139\u013c\u0139\u0139\u0139\u0139\u0139\u0139",
+        "\0\u013f\u013f\u013f\u0140\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u0142\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f\u013f",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\u0144\1\1\1\1\1\1\1\1",
+        "\0\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0148\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147\u0147",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\u014a\u014c\1\1\1\1",
+        "\0\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u0150\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f\u014f",
+        "\0\u0153\u0153\u0153\u0153\u0153\u0154\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0153\u0156\u0153\u0153\u0153\u0153\u0158\u0153\u0153\u0153\u0153\u0153\u0153",
+        "\0\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015b\u015c\u015b\u015b\u015b\u015b\u015b\u015b",
+        "\0\u015f\u015f\u0160\u0162\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u0164\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f\u015f",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\u0166\1\1\1\1\1\1\1\1",
+        "\0\u0169\u0169\u0169\u016a\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u016c\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169\u0169",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\u016e\1\1\1\1\1\1\1\1",
+        "\0\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0171\u0172\u0171\u0171\u0171\u0171\u0171\u0174\u0171\u0171\u0171\u0171\u0171\u0171",
+        "\0\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0178\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u017a\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177\u0177",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\u017c\u017e\1\1",
+        "\0\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0182\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181\u0181",
+        "\0\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0186\u0185\u0185\u0185\u0185\u0185\u0185\u0185\u0185",
+        "\0\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u018a\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189\u0189",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\u018c\1\1\1\1\1\1\1\1",
+        "\0\u018f\u018f\u018f\u0190\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u0192\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f\u018f",
+        "\0\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\1\u0194\1\1\1\1\1\1\1\1"
+    };
+
+    private static final String[] ENTRY_METHODS =
+    {
+        null,
+        null,
+        null,
+        "ParserMap_HeaderFile__Entry_",
+        "ParserMap_IncludeFile__Entry_",
+        null,
+        null,
+        null,
+        "ParserMap_Import__Entry_",
+        "ParserMap_Declare__Entry_",
+        "ParserMap_Access__Entry_",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "ParserMap_TransGuard__Entry_",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "ParserMap_PopArgsEnd__Entry_",
+        null,
+        null,
+        null,
+        "ParamMap_Start__Entry_",
+        null,
+        null,
+        "ParamMap_ParamType__Entry_",
+        null,
+        "ParamMap_Error__Entry_",
+        null,
+        null,
+        null,
+        null,
+        "ActionMap_PropertyAssignment__Entry_",
+        null,
+        "ArgsMap_Start__Entry_",
+        null,
+        "ArgsMap_Error__Entry_"
+    };
+
+    private static final String[] EXIT_METHODS =
+    {
+        null,
+        null,
+        null,
+        "ParserMap_HeaderFile__Exit_",
+        "ParserMap_IncludeFile__Exit_",
+        null,
+        null,
+        null,
+        "ParserMap_Import__Exit_",
+        "ParserMap_Declare__Exit_",
+        "ParserMap_Access__Exit_",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "ParserMap_TransGuard__Exit_",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "ParserMap_PopArgsEnd__Exit_",
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        "ParamMap_ParamType__Exit_",
+        null,
+        "ParamMap_Error__Exit_",
+        null,
+        null,
+        null,
+        null,
+        "ActionMap_PropertyAssignment__Exit_",
+        null,
+        "ArgsMap_Start__Exit_",
+        null,
+        "ArgsMap_Error__Exit_"
+    };
+
+    private static final State7[] sStates = new State7[STATE_COUNT];
 
     static
     {
         final Lookup lookup = MethodHandles.lookup();
         final Class<?> clazz = SmcParserContext.class;
-        final int mapSize = MAP_NAMES.length;
-        int stateSize;
-        int mapIndex;
-        int stateIndex;
+        final TransitionHandle[] handles =
+            transitionHandles(lookup, clazz, TRANSITION_METHODS, TRANSITION_METHOD_TYPES);
+        int stateId;
         int transIndex;
-        int stateId = 0;
-        String mapName;
-        String stateName;
-        String transName;
-        String methodName;
-        MethodType transType;
+        String table;
         MethodHandle entryHandle;
         MethodHandle exitHandle;
         TransitionHandle[] transitions;
 
-        for (mapIndex = 0; mapIndex < mapSize; ++mapIndex)
+        for (stateId = 0; stateId < STATE_COUNT; ++stateId)
         {
-            mapName = MAP_NAMES[mapIndex];
-            stateSize = STATE_NAMES[mapIndex].length;
+            table = TRANSITION_TABLE[stateId];
+            transitions = new TransitionHandle[TRANSITION_COUNT];
 
-            for (stateIndex = 0; stateIndex < stateSize; ++stateIndex, ++stateId)
+            for (transIndex = 1; transIndex < TRANSITION_COUNT; ++transIndex)
             {
-                stateName = STATE_NAMES[mapIndex][stateIndex];
-                transitions = new TransitionHandle[TRANSITION_COUNT];
-
-                methodName = String.format(ENTRY_NAME, mapName, stateName);
-                entryHandle = lookupMethod(lookup, clazz, methodName, NO_ARGS_TYPE);
-                methodName = String.format(EXIT_NAME, mapName, stateName);
-                exitHandle = lookupMethod(lookup, clazz, methodName, NO_ARGS_TYPE);
-
-                for (transIndex = 1; transIndex < TRANSITION_COUNT; ++transIndex)
-                {
-                    transName = TRANSITION_NAMES[transIndex];
-                    transType = TRANSITION_TYPES[transIndex];
-                    transitions[transIndex] =
-                        lookupTransition(lookup, clazz, mapName, stateName, transName, transType);
-                }
+                transitions[transIndex] = handles[table.charAt(transIndex)];
+            }
 
-                _States[stateId] =
-                    new State7(
-                        String.format(STATE_NAME_FORMAT, mapName, stateName),
-                        stateId,
-                        entryHandle,
-                        exitHandle,
-                        transitions,
-                        STATE_TRANSITIONS[stateId]);
+            entryHandle =
+                (ENTRY_METHODS[stateId] == null ?
+                 null :
+                 lookupMethod(lookup, clazz, ENTRY_METHODS[stateId], NO_ARGS_TYPE));
+            exitHandle =
+                (EXIT_METHODS[stateId] == null ?
+                 null :
+                 lookupMethod(lookup, clazz, EXIT_METHODS[stateId], NO_ARGS_TYPE));
 
-            }
+            sStates[stateId] =
+                new State7(
+                    STATE_NAMES[stateId],
+                    stateId,
+                    entryHandle,
+                    exitHandle,
+                    transitions,
+                    STATE_TRANSITIONS[stateId]);
         }
     }
 }
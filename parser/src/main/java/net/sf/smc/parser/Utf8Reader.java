@@ -0,0 +1,199 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+//
+// Name
+//  Utf8Reader.java
+//
+// Description
+//  Decodes a UTF-8 byte stream, falling back to ISO-8859-1 at
+//  the first malformed input.
+//
+
+package net.sf.smc.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads characters from a UTF-8 byte stream. Unlike
+ * {@link java.io.InputStreamReader}, malformed input is not
+ * replaced. Instead, the characters decoded before malformed
+ * input are returned first and the stream is then decoded as
+ * ISO-8859-1 from the malformed input on, so that state machines
+ * written in Latin-1 still compile. The lexer checks
+ * {@link #isFallback()} after each read to warn on the line
+ * where the malformed input occurs.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+/* package */ final class Utf8Reader
+    extends Reader
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    // Read this many bytes at a time.
+    private static final int BYTE_BUFFER_LEN = 4096;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    // Decode bytes from this stream.
+    private final InputStream mStream;
+
+    // Reports malformed input. Replaced by an ISO-8859-1 decoder
+    // at the first malformed input.
+    private CharsetDecoder mDecoder;
+
+    // Bytes read from the stream but not yet decoded. Kept
+    // ready for decoding.
+    private final ByteBuffer mBytes;
+
+    // Set to true when the stream's end is reached.
+    private boolean mEofFlag;
+
+    // Set to true when the stream is decoded as ISO-8859-1.
+    private boolean mFallbackFlag;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // Constructors.
+    //
+
+    /* package */ Utf8Reader(final InputStream stream)
+    {
+        mStream = stream;
+        mDecoder = StandardCharsets.UTF_8.newDecoder();
+        mBytes = ByteBuffer.allocate(BYTE_BUFFER_LEN);
+        mBytes.flip();
+        mEofFlag = false;
+        mFallbackFlag = false;
+    } // end of Utf8Reader(InputStream)
+
+    //
+    // end of Constructors.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Get methods.
+    //
+
+    // Returns true if malformed UTF-8 input was found and the
+    // stream is now decoded as ISO-8859-1.
+    /* package */ boolean isFallback()
+    {
+        return (mFallbackFlag);
+    } // end of isFallback()
+
+    //
+    // end of Get methods.
+    //-----------------------------------------------------------
+
+    //-----------------------------------------------------------
+    // Reader Method Overrides.
+    //
+
+    // Decodes at least one character unless the stream is at
+    // its end. Returns the characters decoded before malformed
+    // input and decodes the rest of the stream as ISO-8859-1 on
+    // the next read. ISO-8859-1 decodes every byte.
+    @Override
+    public int read(final char[] buffer,
+                    final int offset,
+                    final int length)
+        throws IOException
+    {
+        final CharBuffer chars =
+            CharBuffer.wrap(buffer, offset, length);
+        boolean doneFlag = (length == 0);
+        CoderResult result;
+        int size;
+
+        while (doneFlag == false)
+        {
+            result = mDecoder.decode(mBytes, chars, mEofFlag);
+
+            if (chars.position() > offset)
+            {
+                doneFlag = true;
+            }
+            else if (result.isError() == true)
+            {
+                mDecoder = StandardCharsets.ISO_8859_1.newDecoder();
+                mFallbackFlag = true;
+            }
+            else if (mEofFlag == true)
+            {
+                doneFlag = true;
+            }
+            else
+            {
+                mBytes.compact();
+                size =
+                    mStream.read(mBytes.array(),
+                                 mBytes.position(),
+                                 mBytes.remaining());
+                if (size < 0)
+                {
+                    mEofFlag = true;
+                }
+                else
+                {
+                    mBytes.position(mBytes.position() + size);
+                }
+                mBytes.flip();
+            }
+        }
+
+        return (chars.position() == offset && length > 0 ?
+                -1 :
+                chars.position() - offset);
+    } // end of read(char[], int, int)
+
+    @Override
+    public void close()
+        throws IOException
+    {
+        mStream.close();
+        return;
+    } // end of close()
+
+    //
+    // end of Reader Method Overrides.
+    //-----------------------------------------------------------
+} // end of class Utf8Reader
@@ -0,0 +1,201 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import net.sf.smc.model.SmcFSM;
+import net.sf.smc.model.SmcMap;
+import net.sf.smc.model.SmcState;
+import net.sf.smc.model.TargetLanguage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Parses the same state machines on many threads at once and
+ * verifies that each thread builds the same model and hands out
+ * the same state identifiers as a single threaded parse.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class ConcurrentParseTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final String SM_DIR =
+        "src/main/smc/net/sf/smc/parser/";
+    private static final String[] SM_FILES =
+    {
+        "SmcLexer",
+        "SmcParser"
+    };
+    private static final int THREAD_COUNT = 8;
+    private static final int PARSE_COUNT = 64;
+    private static final long TIMEOUT = 5L;
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void concurrentParseTest()
+        throws Exception
+    {
+        final int fileCount = SM_FILES.length;
+        final File[] files = new File[fileCount];
+        final byte[][] contents = new byte[fileCount][];
+        final String[] expected = new String[fileCount];
+        final ExecutorService executor =
+            Executors.newFixedThreadPool(THREAD_COUNT);
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final List<Future<String>> results =
+            new ArrayList<>(PARSE_COUNT);
+        int i;
+
+        for (i = 0; i < fileCount; ++i)
+        {
+            files[i] = new File(SM_DIR + SM_FILES[i] + ".sm");
+            contents[i] = Files.readAllBytes(files[i].toPath());
+            expected[i] =
+                parse(SM_FILES[i], files[i], contents[i], false);
+        }
+
+        // Alternate between files and between file and stream
+        // input so the lexer's read buffer paths run together.
+        for (i = 0; i < PARSE_COUNT; ++i)
+        {
+            final int index = (i % fileCount);
+            final boolean streamFlag = ((i / fileCount) % 2 == 1);
+
+            results.add(
+                executor.submit(
+                    new Callable<String>()
+                    {
+                        @Override
+                        public String call()
+                            throws Exception
+                        {
+                            startGate.await();
+
+                            return (
+                                parse(SM_FILES[index],
+                                      files[index],
+                                      contents[index],
+                                      streamFlag));
+                        }
+                    }));
+        }
+
+        startGate.countDown();
+
+        try
+        {
+            for (i = 0; i < PARSE_COUNT; ++i)
+            {
+                assertEquals(SM_FILES[i % fileCount] + " parse " + i,
+                             expected[i % fileCount],
+                             (results.get(i)).get(
+                                 TIMEOUT, TimeUnit.MINUTES));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertTrue(
+            executor.awaitTermination(TIMEOUT, TimeUnit.MINUTES));
+    } // end of concurrentParseTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    // Parses the named state machine and returns its maps
+    // followed by the state identifiers in the order the code
+    // generators request them.
+    private static String parse(final String name,
+                                final File file,
+                                final byte[] content,
+                                final boolean streamFlag)
+        throws Exception
+    {
+        final SmcParser parser =
+            (streamFlag == true ?
+             new SmcParser(name,
+                           new ByteArrayInputStream(content),
+                           TargetLanguage.JAVA7,
+                           false) :
+             new SmcParser(name,
+                           file,
+                           TargetLanguage.JAVA7,
+                           false));
+        final SmcFSM fsm = parser.parse();
+        final StringBuilder retval = new StringBuilder();
+
+        assertNotNull(name + " parse failed", fsm);
+        assertEquals(name + " messages",
+                     0,
+                     (parser.getMessages()).size());
+
+        for (SmcMap map : fsm.getMaps())
+        {
+            retval.append(map).append('\n');
+        }
+
+        for (SmcMap map : fsm.getMaps())
+        {
+            for (SmcState state : map.getStates())
+            {
+                retval.append(state.getInstanceName())
+                      .append(" = ")
+                      .append(fsm.getNextStateId())
+                      .append('\n');
+            }
+        }
+
+        return (retval.toString());
+    } // end of parse(String, File, byte[], boolean)
+} // end of ConcurrentParseTest
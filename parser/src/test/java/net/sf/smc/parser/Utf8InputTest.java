@@ -0,0 +1,227 @@
+//
+// The contents of this file are subject to the Mozilla Public
+// License Version 1.1 (the "License"); you may not use this file
+// except in compliance with the License. You may obtain a copy
+// of the License at http://www.mozilla.org/MPL/
+//
+// Software distributed under the License is distributed on an
+// "AS IS" basis, WITHOUT WARRANTY OF ANY KIND, either express or
+// implied. See the License for the specific language governing
+// rights and limitations under the License.
+//
+// The Original Code is State Machine Compiler (SMC).
+//
+// The Initial Developer of the Original Code is Charles W. Rapp.
+// Portions created by agent are
+// Copyright (C) 2026. agent.
+// All Rights Reserved.
+//
+// Contributor(s):
+//   agent <agent@local>
+//
+
+package net.sf.smc.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import net.sf.smc.model.SmcAction;
+import net.sf.smc.model.SmcFSM;
+import net.sf.smc.model.SmcGuard;
+import net.sf.smc.model.SmcState;
+import net.sf.smc.model.TargetLanguage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Verifies that the lexer skips a leading byte order mark and
+ * reads input which is not valid UTF-8 as ISO-8859-1 with a
+ * warning on the line where it occurs, whether the state machine
+ * is read from a file or from a stream.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+
+public final class Utf8InputTest
+{
+//---------------------------------------------------------------
+// Member data.
+//
+
+    //-----------------------------------------------------------
+    // Constants.
+    //
+
+    private static final String NAME = "Utf8";
+    private static final String SOURCE =
+        "%class Utf8\n" +
+        "%start MainMap::Idle\n" +
+        "%map MainMap\n" +
+        "%%\n" +
+        "// comment ?\n" +
+        "Idle\n" +
+        "{\n" +
+        "    go Idle { say(\"?\"); }\n" +
+        "}\n" +
+        "%%\n";
+    private static final int MARK_LINE = 5;
+    private static final byte[] BYTE_ORDER_MARK =
+    {
+        (byte) 0xef, (byte) 0xbb, (byte) 0xbf
+    };
+    // An ISO-8859-1 e acute. Not followed by a continuation
+    // byte, so malformed UTF-8.
+    private static final byte LATIN1_BYTE = (byte) 0xe9;
+
+    //-----------------------------------------------------------
+    // Locals.
+    //
+
+    @Rule
+    public final TemporaryFolder mFolder = new TemporaryFolder();
+
+//---------------------------------------------------------------
+// Member methods.
+//
+
+    //-----------------------------------------------------------
+    // JUnit Tests.
+    //
+
+    @Test
+    public void fileByteOrderMarkTest()
+        throws Exception
+    {
+        assertParsed(parseFile(withByteOrderMark()));
+    } // end of fileByteOrderMarkTest()
+
+    @Test
+    public void streamByteOrderMarkTest()
+        throws Exception
+    {
+        assertParsed(parseStream(withByteOrderMark()));
+    } // end of streamByteOrderMarkTest()
+
+    @Test
+    public void fileLatin1Test()
+        throws Exception
+    {
+        assertLatin1(parseFile(withLatin1Byte()));
+    } // end of fileLatin1Test()
+
+    @Test
+    public void streamLatin1Test()
+        throws Exception
+    {
+        assertLatin1(parseStream(withLatin1Byte()));
+    } // end of streamLatin1Test()
+
+    @Test
+    public void latin1ActionTest()
+        throws Exception
+    {
+        final byte[] content = withLatin1Byte();
+        final SmcFSM fsm;
+        final SmcState state;
+        final SmcGuard guard;
+        final SmcAction action;
+
+        // The action's question mark is also an e acute.
+        content[SOURCE.lastIndexOf('?')] = LATIN1_BYTE;
+        fsm = (parseFile(content)).parse();
+        state = (((fsm.getMaps()).get(0)).getStates()).get(0);
+        guard =
+            (((state.getTransitions()).get(0)).getGuards()).get(0);
+        action = (guard.getActions()).get(0);
+
+        assertEquals("[\"\u00e9\"]",
+                     (action.getArguments()).toString());
+    } // end of latin1ActionTest()
+
+    //
+    // end of JUnit Tests.
+    //-----------------------------------------------------------
+
+    private SmcParser parseFile(final byte[] content)
+        throws Exception
+    {
+        final File file = mFolder.newFile(NAME + ".sm");
+
+        Files.write(file.toPath(), content);
+
+        return (
+            new SmcParser(NAME, file, TargetLanguage.JAVA7, false));
+    } // end of parseFile(byte[])
+
+    private static SmcParser parseStream(final byte[] content)
+    {
+        return (
+            new SmcParser(NAME,
+                          new ByteArrayInputStream(content),
+                          TargetLanguage.JAVA7,
+                          false));
+    } // end of parseStream(byte[])
+
+    private static void assertParsed(final SmcParser parser)
+        throws Exception
+    {
+        assertNotNull("parse failed", parser.parse());
+        assertEquals("messages", 0, (parser.getMessages()).size());
+    } // end of assertParsed(SmcParser)
+
+    private static void assertLatin1(final SmcParser parser)
+        throws Exception
+    {
+        final List<SmcMessage> messages;
+        final SmcMessage message;
+
+        assertNotNull("parse failed", parser.parse());
+
+        messages = parser.getMessages();
+        assertEquals("messages", 1, messages.size());
+
+        message = messages.get(0);
+        assertEquals("level", SmcMessage.WARNING, message.getLevel());
+        assertEquals("line", MARK_LINE, message.getLineNumber());
+        assertEquals("text",
+                     "Malformed UTF-8 input, read as ISO-8859-1",
+                     message.getText());
+    } // end of assertLatin1(SmcParser)
+
+    private static byte[] withByteOrderMark()
+    {
+        final byte[] source =
+            SOURCE.getBytes(StandardCharsets.UTF_8);
+        final byte[] retval =
+            new byte[BYTE_ORDER_MARK.length + source.length];
+
+        System.arraycopy(BYTE_ORDER_MARK,
+                         0,
+                         retval,
+                         0,
+                         BYTE_ORDER_MARK.length);
+        System.arraycopy(source,
+                         0,
+                         retval,
+                         BYTE_ORDER_MARK.length,
+                         source.length);
+
+        return (retval);
+    } // end of withByteOrderMark()
+
+    // Replaces the comment's question mark with an ISO-8859-1
+    // character which is malformed UTF-8.
+    private static byte[] withLatin1Byte()
+    {
+        final byte[] retval = SOURCE.getBytes(StandardCharsets.UTF_8);
+
+        retval[SOURCE.indexOf('?')] = LATIN1_BYTE;
+
+        return (retval);
+    } // end of withLatin1Byte()
+} // end of class Utf8InputTest
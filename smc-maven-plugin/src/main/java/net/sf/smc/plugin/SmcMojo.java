@@ -19,7 +19,6 @@
 package net.sf.smc.plugin;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
@@ -135,6 +134,10 @@ public final class SmcMojo
      *     java7 (generates Java code using transition table)
      *   </li>
      *   <li>
+     *     javatable (generates Java arrays interpreted by
+     *     {@code statemap.TableFSMContext})
+     *   </li>
+     *   <li>
      *     js (Javascript)
      *   </li>
      *   <li>
@@ -275,8 +278,8 @@ public final class SmcMojo
      * necessary if application guarantees FSM access is
      * thread-safe.
      * <p>
-     * Available for csharp, java, java7, groovy, scala, and vb
-     * only.
+     * Available for csharp, java, java7, javatable, groovy, scala,
+     * and vb only.
      * </p>
      */
     @Parameter(property = "sync", defaultValue = "false")
@@ -311,9 +314,10 @@ public final class SmcMojo
      * If &gt; zero, state stack has a fixed size defined by this
      * setting. Otherwise, state stack size is unlimited. This
      * setting means that dynamic memory allocation is not used
-     * when setting the stack.
+     * when setting the stack. For java and java7 this is the
+     * initial state stack capacity and the stack grows beyond it.
      * <p>
-     * Available for c++ only.
+     * Available for c++, java, java7 and javatable only.
      * </p>
      */
     @Parameter(property = "stack", defaultValue = "0")
@@ -400,7 +404,7 @@ public final class SmcMojo
     /**
      * Access identifier for generated classes.
      * <p>
-     * Available for java, java7 only.
+     * Available for java, java7, javatable only.
      * </p>
      */
     @Parameter(property = "access", defaultValue = "")
@@ -416,6 +420,136 @@ public final class SmcMojo
     @Parameter(property = "protocol", defaultValue = "false")
     private boolean protocol;
 
+    /**
+     * If {@code true} transitions are dispatched by a
+     * {@code switch} on the current state identifier rather than
+     * by a method handle table.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     */
+    @Parameter(property = "direct", defaultValue = "false")
+    private boolean direct;
+
+    /**
+     * If {@code true} transitions are queued in a lock-free
+     * mailbox and applied one at a time by whichever thread finds
+     * the mailbox idle, rather than synchronizing the transition
+     * methods.
+     * <p>
+     * Available for java and java7 only.
+     * </p>
+     */
+    @Parameter(property = "actor", defaultValue = "false")
+    private boolean actor;
+
+    /**
+     * If {@code true} the {@code dispatch(int[], ...)} batch
+     * transition methods and public transition identifiers are
+     * generated.
+     * <p>
+     * Available for java and java7 only.
+     * </p>
+     */
+    @Parameter(property = "batch", defaultValue = "false")
+    private boolean batch;
+
+    /**
+     * If {@code true} the {@code -g} debug output is passed to
+     * {@code statemap.TraceSink} as state and transition
+     * identifiers and is compiled out unless the {@code
+     * statemap.trace} system property is {@code true} when the
+     * FSM class is loaded.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     */
+    @Parameter(property = "trace", defaultValue = "false")
+    private boolean trace;
+
+    /**
+     * If {@code true} the transitions and the state entry
+     * actions, exit actions and residency are recorded as {@code
+     * statemap} Java Flight Recorder events. The generated code
+     * requires the {@code library-jfr} jar and Java 11 or later.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     */
+    @Parameter(property = "jfr", defaultValue = "false")
+    private boolean jfr;
+
+    /**
+     * If {@code true} each transition is timed and its latency
+     * passed to the {@code statemap.TransitionMetrics} set on the
+     * FSM, if any.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     */
+    @Parameter(property = "metrics", defaultValue = "false")
+    private boolean metrics;
+
+    /**
+     * If {@code true} the generated context extends {@code
+     * statemap.FlyweightFSMContext}. A single context then drives
+     * many sessions whose states are kept in a {@code
+     * statemap.StateSlotStore}. May not be used with {@code
+     * serial}.
+     * <p>
+     * Available for javatable only.
+     * </p>
+     */
+    @Parameter(property = "flyweight", defaultValue = "false")
+    private boolean flyweight;
+
+    /**
+     * If {@code true} each completed transition, its arguments
+     * and the resulting state are appended to the {@code
+     * statemap.TransitionJournal} set on the FSM, if any.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     */
+    @Parameter(property = "journal", defaultValue = "false")
+    private boolean journal;
+
+    /**
+     * If {@code true} each transition publishes its start time
+     * and thread so that a {@code statemap.TransitionWatchdog}
+     * can report transitions running longer than a threshold.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     */
+    @Parameter(property = "watchdog", defaultValue = "false")
+    private boolean watchdog;
+
+    /**
+     * If {@code true} transition actions return an {@code int}
+     * error code. A non-zero code skips the transition's
+     * remaining actions and is passed to the FSM's
+     * {@code statemap.TransitionErrorHandler} instead of
+     * throwing an exception.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     */
+    @Parameter(property = "errorcode", defaultValue = "false")
+    private boolean errorcode;
+
+    /**
+     * If {@code true} a transition which a pushed map's current
+     * state does not handle, not even by a Default transition,
+     * is passed to the nearest pushing state which defines it. The pushed map's states are exited only if that
+     * transition leaves the pushing state.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     */
+    @Parameter(property = "hierarchical", defaultValue = "false")
+    private boolean hierarchical;
+
     /**
      * This parameter is set by maven.
      */
@@ -563,6 +697,10 @@ public final class SmcMojo
      *     java7 (generates Java code using transition table)
      *   </li>
      *   <li>
+     *     javatable (generates Java arrays interpreted by
+     *     {@code statemap.TableFSMContext})
+     *   </li>
+     *   <li>
      *     js (Javascript)
      *   </li>
      *   <li>
@@ -732,8 +870,8 @@ public final class SmcMojo
      * necessary if application guarantees FSM access is
      * thread-safe. Default setting is {@code false}.
      * <p>
-     * Available for csharp, java, java7, groovy, scala, and vb
-     * only because these languages provide thread
+     * Available for csharp, java, java7, javatable, groovy, scala,
+     * and vb only because these languages provide thread
      * synchronization constructs in the language.
      * </p>
      * @param sync turns thread synchronization code generation
@@ -782,9 +920,10 @@ public final class SmcMojo
      * setting. Otherwise, state stack size is unlimited. This
      * setting means that dynamic memory allocation is not used
      * when setting the stack. Default setting is an unlimited
-     * stack size.
+     * stack size. For java and java7 this is the initial state
+     * stack capacity and the stack grows beyond it.
      * <p>
-     * Available for c++ only.
+     * Available for c++, java, java7 and javatable only.
      * </p>
      * @param stateStackSize state stack fixed size.
      */
@@ -908,7 +1047,7 @@ public final class SmcMojo
      * Access identifier for generated classes. Default setting
      * is an empty string.
      * <p>
-     * Available for java, java7 only.
+     * Available for java, java7, javatable only.
      * </p>
      * @param access Java access level.
      */
@@ -932,6 +1071,174 @@ public final class SmcMojo
         this.protocol = protocol;
     } // end of setProtocol(boolean)
 
+    /**
+     * If {@code true} transitions are dispatched by a
+     * {@code switch} on the current state identifier rather than
+     * by a method handle table. Default setting is
+     * {@code false}.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     * @param direct turns direct transition dispatch on or off.
+     */
+    public void setDirect(final boolean direct)
+    {
+        this.direct = direct;
+    } // end of setDirect(boolean)
+
+    /**
+     * If {@code true} transitions are queued in a lock-free
+     * mailbox and applied one at a time by whichever thread finds
+     * the mailbox idle, rather than synchronizing the transition
+     * methods. Default setting is {@code false}.
+     * <p>
+     * Available for java and java7 only.
+     * </p>
+     * @param actor turns the transition mailbox on or off.
+     */
+    public void setActor(final boolean actor)
+    {
+        this.actor = actor;
+    } // end of setActor(boolean)
+
+    /**
+     * If {@code true} the {@code dispatch(int[], ...)} batch
+     * transition methods and public transition identifiers are
+     * generated. Default setting is {@code false}.
+     * <p>
+     * Available for java and java7 only.
+     * </p>
+     * @param batch turns batch dispatch generation on or off.
+     */
+    public void setBatch(final boolean batch)
+    {
+        this.batch = batch;
+    } // end of setBatch(boolean)
+
+    /**
+     * If {@code true} the {@code -g} debug output is passed to
+     * {@code statemap.TraceSink} as state and transition
+     * identifiers and is compiled out unless the {@code
+     * statemap.trace} system property is {@code true} when the
+     * FSM class is loaded. Default setting is {@code false}.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     * @param trace turns trace sink generation on or off.
+     */
+    public void setTrace(final boolean trace)
+    {
+        this.trace = trace;
+    } // end of setTrace(boolean)
+
+    /**
+     * If {@code true} the transitions and the state entry
+     * actions, exit actions and residency are recorded as {@code
+     * statemap} Java Flight Recorder events. The generated code
+     * requires the {@code library-jfr} jar and Java 11 or later.
+     * Default setting is {@code false}.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     * @param jfr turns JFR event generation on or off.
+     */
+    public void setJfr(final boolean jfr)
+    {
+        this.jfr = jfr;
+    } // end of setJfr(boolean)
+
+    /**
+     * If {@code true} each transition is timed and its latency
+     * passed to the {@code statemap.TransitionMetrics} set on the
+     * FSM, if any. Default setting is {@code false}.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     * @param metrics turns transition metrics generation on or off.
+     */
+    public void setMetrics(final boolean metrics)
+    {
+        this.metrics = metrics;
+    } // end of setMetrics(boolean)
+
+    /**
+     * If {@code true} the generated context extends {@code
+     * statemap.FlyweightFSMContext}. A single context then drives
+     * many sessions whose states are kept in a {@code
+     * statemap.StateSlotStore}. May not be used with {@code
+     * serial}. Default setting is {@code false}.
+     * <p>
+     * Available for javatable only.
+     * </p>
+     * @param flyweight turns flyweight generation on or off.
+     */
+    public void setFlyweight(final boolean flyweight)
+    {
+        this.flyweight = flyweight;
+    } // end of setFlyweight(boolean)
+
+    /**
+     * If {@code true} each completed transition, its arguments
+     * and the resulting state are appended to the {@code
+     * statemap.TransitionJournal} set on the FSM, if any. Default
+     * setting is {@code false}.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     * @param journal turns transition journal generation on or off.
+     */
+    public void setJournal(final boolean journal)
+    {
+        this.journal = journal;
+    } // end of setJournal(boolean)
+
+    /**
+     * If {@code true} each transition publishes its start time
+     * and thread so that a {@code statemap.TransitionWatchdog}
+     * can report transitions running longer than a threshold.
+     * Default setting is {@code false}.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     * @param watchdog turns transition watchdog support on or off.
+     */
+    public void setWatchdog(final boolean watchdog)
+    {
+        this.watchdog = watchdog;
+    } // end of setWatchdog(boolean)
+
+    /**
+     * If {@code true} transition actions return an {@code int}
+     * error code. A non-zero code skips the transition's
+     * remaining actions and is passed to the FSM's
+     * {@code statemap.TransitionErrorHandler} instead of
+     * throwing an exception. Default setting is {@code false}.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     * @param errorcode turns action error codes on or off.
+     */
+    public void setErrorcode(final boolean errorcode)
+    {
+        this.errorcode = errorcode;
+    } // end of setErrorcode(boolean)
+
+    /**
+     * If {@code true} a transition which a pushed map's current
+     * state does not handle, not even by a Default transition,
+     * is passed to the nearest pushing state which defines it. The pushed map's states are exited only if that
+     * transition leaves the pushing state. Default setting is
+     * {@code false}.
+     * <p>
+     * Available for java7 only.
+     * </p>
+     * @param hierarchical turns hierarchical transitions on or off.
+     */
+    public void setHierarchical(final boolean hierarchical)
+    {
+        this.hierarchical = hierarchical;
+    } // end of setHierarchical(boolean)
+
     /**
      * Maven uses this method to set the target project. Default
      * setting is {@code ${project}}.
@@ -977,7 +1284,18 @@ public final class SmcMojo
               .append("\n     graphLevel=").append(glevel)
               .append("\n           cast=").append(cast)
               .append("\n         access=").append(access)
-              .append("\n       protocol=").append(protocol);
+              .append("\n       protocol=").append(protocol)
+              .append("\n         direct=").append(direct)
+              .append("\n          actor=").append(actor)
+              .append("\n          batch=").append(batch)
+              .append("\n          trace=").append(trace)
+              .append("\n            jfr=").append(jfr)
+              .append("\n        metrics=").append(metrics)
+              .append("\n      flyweight=").append(flyweight)
+              .append("\n        journal=").append(journal)
+              .append("\n       watchdog=").append(watchdog)
+              .append("\n      errorcode=").append(errorcode)
+              .append("\n   hierarchical=").append(hierarchical);
 
         getLog().debug(output.toString());
 
@@ -1107,6 +1425,25 @@ public final class SmcMojo
         isValidAccessLevel();
         isValidGraphLevel();
         isValidProperty(Smc.USE_PROTOCOL_FLAG, protocol);
+        isValidProperty(Smc.DIRECT_FLAG, direct);
+        isValidProperty(Smc.ACTOR_FLAG, actor);
+        isValidProperty(Smc.BATCH_FLAG, batch);
+        isValidProperty(Smc.TRACE_FLAG, trace);
+        isValidProperty(Smc.JFR_FLAG, jfr);
+        isValidProperty(Smc.METRICS_FLAG, metrics);
+        isValidProperty(Smc.FLYWEIGHT_FLAG, flyweight);
+        isValidProperty(Smc.JOURNAL_FLAG, journal);
+        isValidProperty(Smc.WATCHDOG_FLAG, watchdog);
+        isValidProperty(Smc.ERROR_CODE_FLAG, errorcode);
+        isValidProperty(Smc.HIERARCHICAL_FLAG, hierarchical);
+
+        // A flyweight context has no session state to serialize.
+        if (flyweight && serial)
+        {
+            throw (
+                new MojoExecutionException(
+                    "flyweight may not be used with serial"));
+        }
 
         return;
     } // end of validateSettings()
@@ -1469,7 +1806,7 @@ public final class SmcMojo
         {
             parser =
                 new SmcParser(baseName,
-                              new FileInputStream(sourceFile),
+                              sourceFile,
                               mTargetLanguage.language(),
                               vverbose);
 
@@ -1729,7 +2066,18 @@ public final class SmcMojo
                                generic,
                                java7Flag,
                                access,
-                               protocol));
+                               protocol,
+                               direct,
+                               actor,
+                               batch,
+                               trace,
+                               jfr,
+                               metrics,
+                               flyweight,
+                               journal,
+                               watchdog,
+                               errorcode,
+                               hierarchical));
     } // end of setOptions()
 
     /**